@@ -9,6 +9,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.Logger;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.Arrays;
 
 /**
@@ -18,6 +20,9 @@ public class ArraySlice {
 
     private static final Logger LOGGER = LogManager.getLogger(ArraySlice.class);
 
+    //  for the atomic accessors - other threads may be referencing the same base array
+    private static final VarHandle ELEMENT_HANDLE = MethodHandles.arrayElementVarHandle(long[].class);
+
     public final long[] _array;     //  base array of which this slice is a (possibly complete) subset
     public final int _length;       //  length of this array (must be <= length of base array)
     public final int _offset;       //  offset into the base array, at which this slice begins
@@ -92,6 +97,26 @@ public class ArraySlice {
         }
     }
 
+    /**
+     * Atomically sets the value at the given index, if (and only if) it currently holds the expected value.
+     * The update is visible to other threads which read the value with getVolatile() or the other atomic methods.
+     * @param index of the value
+     * @param expected the value we expect to be replacing
+     * @param value the new value
+     * @return true if the value was replaced, false if some other value was found
+     */
+    public boolean compareAndSet(
+        final int index,
+        final long expected,
+        final long value
+    ) {
+        if ((index < 0) || (index >= _length)) {
+            throw new RuntimeException(String.format("Invalid index=%d slice length=%d", index, _length));
+        }
+
+        return ELEMENT_HANDLE.compareAndSet(_array, index + _offset, expected, value);
+    }
+
     /**
      * Creates a new ArraySlice of the indicated size, containing a copy of the content of this object.
      * If the requested size is larger, the additional content is zeros.
@@ -191,6 +216,23 @@ public class ArraySlice {
         return result;
     }
 
+    /**
+     * Create a new array containing a copy of a range of values from this subset
+     * @param index index into the subset of the first value to be copied
+     * @param count number of values to be copied
+     * @return new array
+     */
+    public long[] getRange(
+        final int index,
+        final int count
+    ) {
+        if ((index < 0) || (count < 0) || (index + count > _length)) {
+            throw new RuntimeException(String.format("Invalid index=%d count=%d slice length=%d", index, count, _length));
+        }
+
+        return Arrays.copyOfRange(_array, _offset + index, _offset + index + count);
+    }
+
     /**
      * Getter
      * @return size of this slice
@@ -199,6 +241,22 @@ public class ArraySlice {
         return _length;
     }
 
+    /**
+     * Gets the value at the given index with volatile semantics, so that the most recent atomic update
+     * made by any thread is seen
+     * @param index of the value
+     * @return the value
+     */
+    public long getVolatile(
+        final int index
+    ) {
+        if ((index < 0) || (index >= _length)) {
+            throw new RuntimeException(String.format("Invalid index=%d slice length=%d", index, _length));
+        }
+
+        return (long) ELEMENT_HANDLE.getVolatile(_array, index + _offset);
+    }
+
     @Override
     public int hashCode(
     ) {
@@ -642,6 +700,23 @@ public class ArraySlice {
     public ArraySlice setT2(final int index, final long partial) { set(index, Word36.setT2(get(index), partial)); return this; }
     public ArraySlice setT3(final int index, final long partial) { set(index, Word36.setT3(get(index), partial)); return this; }
 
+    /**
+     * Sets the value at the given index with volatile semantics, so that it (and everything written before it)
+     * is seen by other threads which read the value with getVolatile() or the other atomic methods
+     * @param index of the value
+     * @param value the new value
+     */
+    public void setVolatile(
+        final int index,
+        final long value
+    ) {
+        if ((index < 0) || (index >= _length)) {
+            throw new RuntimeException(String.format("Invalid index=%d slice length=%d", index, _length));
+        }
+
+        ELEMENT_HANDLE.setVolatile(_array, index + _offset, value);
+    }
+
     /**
      * Produces a new object with quarter-words derived from the ASCII characters in the source string.
      * The last word is padded with ascii spaces if so needed.
@@ -785,6 +860,56 @@ public class ArraySlice {
         return builder.toString();
     }
 
+    /**
+     * Transfers values from one slice to another, with the result being that of moving the values one at a time
+     * in ascending index order. Where the two slices share a base array and the destination range begins within
+     * the source range, values already transferred are picked up again as source values - so a destination which
+     * begins n values above its source ends up holding the first n source values, repeated.
+     * The transfer is done with bulk copies in any case; overlap with a period of n values costs log2(count / n)
+     * copies after the first.
+     * @param source source slice
+     * @param sourceIndex index into the source slice of the first value to be transferred
+     * @param destination destination slice
+     * @param destinationIndex index into the destination slice of the first value to be stored
+     * @param count number of values to be transferred
+     */
+    public static void transfer(
+        final ArraySlice source,
+        final int sourceIndex,
+        final ArraySlice destination,
+        final int destinationIndex,
+        final int count
+    ) {
+        if ((sourceIndex < 0) || (count < 0) || (sourceIndex + count > source._length)) {
+            throw new RuntimeException(String.format("Invalid source index=%d count=%d slice length=%d",
+                                                     sourceIndex, count, source._length));
+        }
+        if ((destinationIndex < 0) || (destinationIndex + count > destination._length)) {
+            throw new RuntimeException(String.format("Invalid destination index=%d count=%d slice length=%d",
+                                                     destinationIndex, count, destination._length));
+        }
+
+        var sx = source._offset + sourceIndex;
+        var dx = destination._offset + destinationIndex;
+        var distance = dx - sx;
+        if ((source._array != destination._array) || (distance <= 0) || (distance >= count)) {
+            // no overlap, or the destination is below the source - arraycopy gives the ascending-order result
+            System.arraycopy(source._array, sx, destination._array, dx, count);
+            return;
+        }
+
+        // The destination begins inside the source range, so the result is the first 'distance' source values
+        // repeated. Move that pattern once, then keep doubling it from the part of the destination already done.
+        var array = destination._array;
+        System.arraycopy(array, sx, array, dx, distance);
+        var done = distance;
+        while (done < count) {
+            var n = Math.min(done, count - done);
+            System.arraycopy(array, dx, array, dx + done, n);
+            done += n;
+        }
+    }
+
     /**
      * unpacks groups of 9-bytes of data into 36-bit word pairs into this array.
      * @param source array containing byte input
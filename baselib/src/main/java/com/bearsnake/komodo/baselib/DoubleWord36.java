@@ -6,8 +6,6 @@ package com.bearsnake.komodo.baselib;
 
 import java.math.BigInteger;
 
-import static com.bearsnake.komodo.baselib.Word36.negate;
-
 /**
  * Library for doing architecturally correct 72-bit operations on integers
  */
@@ -127,11 +125,20 @@ public class DoubleWord36 {
             destination[offset + 1] = operand.and(SHORT_BIT_MASK).longValue();
         } else {
             var magnitude = operand.negate();
-            destination[offset] = negate(magnitude.shiftRight(36).and(SHORT_BIT_MASK).longValue());
-            destination[offset + 1] = negate(magnitude.and(SHORT_BIT_MASK).longValue());
+            destination[offset] = Word36.negate(magnitude.shiftRight(36).and(SHORT_BIT_MASK).longValue());
+            destination[offset + 1] = Word36.negate(magnitude.and(SHORT_BIT_MASK).longValue());
         }
     }
 
+    /**
+     * Converts a native (64-bit twos-complement) operand to 72-bit ones-complement
+     */
+    public static void getOnesComplement(final long operand,
+                                         final long[] destination,
+                                         final int offset) {
+        storeOnesComplement(operand >> 36, operand & Word36.BIT_MASK, destination, offset);
+    }
+
     /**
      * Converts a twos-complement BigInteger operand to ones-complement 36-bit value
      */
@@ -142,7 +149,7 @@ public class DoubleWord36 {
             destination[offset] = operand.and(SHORT_BIT_MASK).longValue();
         } else {
             var magnitude = operand.negate();
-            destination[offset] = negate(magnitude.and(SHORT_BIT_MASK).longValue());
+            destination[offset] = Word36.negate(magnitude.and(SHORT_BIT_MASK).longValue());
         }
     }
 
@@ -168,6 +175,69 @@ public class DoubleWord36 {
         }
     }
 
+    //  Pair-of-longs twos-complement form ---------------------------------------------------------------------------------------
+    //  The arithmetic below works on 72-bit twos-complement values held as a (high, low) pair of longs, where low holds
+    //  the least-significant 36 bits (always non-negative) and high holds the remaining bits, sign-extended.
+    //  The value is high * 2^36 + low. This lets us avoid BigInteger (and the allocations which go with it) entirely.
+
+    /**
+     * Produces the high part of the twos-complement pair for a 72-bit ones-complement value
+     */
+    private static long twosHigh(final long msValue,
+                                 final long lsValue) {
+        if ((msValue & Word36.NEGATIVE_BIT) == 0) {
+            return msValue;
+        } else {
+            // ones-complement is twos-complement minus one, so sign-extend and add the one back in
+            return (msValue | ~Word36.BIT_MASK) + (lsValue == Word36.BIT_MASK ? 1 : 0);
+        }
+    }
+
+    /**
+     * Produces the low part of the twos-complement pair for a 72-bit ones-complement value
+     */
+    private static long twosLow(final long msValue,
+                                final long lsValue) {
+        return ((msValue & Word36.NEGATIVE_BIT) == 0) ? lsValue : (lsValue + 1) & Word36.BIT_MASK;
+    }
+
+    /**
+     * Stores a twos-complement pair as a 72-bit ones-complement value.
+     * Magnitudes which do not fit in 72 bits are truncated, exactly as getOnesComplement(BigInteger...) does.
+     */
+    private static void storeOnesComplement(final long high,
+                                            final long low,
+                                            final long[] destination,
+                                            final int offset) {
+        if (high >= 0) {
+            destination[offset] = high & Word36.BIT_MASK;
+            destination[offset + 1] = low;
+        } else {
+            var magnitudeLow = (-low) & Word36.BIT_MASK;
+            var magnitudeHigh = -high - (low == 0 ? 0 : 1);
+            destination[offset] = Word36.negate(magnitudeHigh & Word36.BIT_MASK);
+            destination[offset + 1] = Word36.negate(magnitudeLow);
+        }
+    }
+
+    /**
+     * Stores a sign and a 72-bit magnitude (as two 36-bit halves) as a ones-complement value.
+     * A zero magnitude is always stored as positive zero.
+     */
+    private static void storeSignMagnitude(final boolean negative,
+                                           final long magnitudeHigh,
+                                           final long magnitudeLow,
+                                           final long[] destination,
+                                           final int offset) {
+        if (negative && ((magnitudeHigh | magnitudeLow) != 0)) {
+            destination[offset] = Word36.negate(magnitudeHigh);
+            destination[offset + 1] = Word36.negate(magnitudeLow);
+        } else {
+            destination[offset] = magnitudeHigh;
+            destination[offset + 1] = magnitudeLow;
+        }
+    }
+
     /**
      * Tests 72-bit ones-complement value to see if it is negative
      * @param source array containing the 72-bit value
@@ -261,26 +331,84 @@ public class DoubleWord36 {
                                    final int addend2Offset,
                                    final long[] destination,
                                    final int destinationOffset) {
-        if (isNegativeZero(addend1, addend1Offset) && isNegativeZero(addend2, addend2Offset)) {
+        var flags = new Word36.Flags();
+        add(addend1, addend1Offset, addend2, addend2Offset, destination, destinationOffset, flags);
+        return flags;
+    }
+
+    /**
+     * Adds two 72-bit ones-complement values, as above, but updates a caller-provided flags object
+     * instead of allocating a new one.
+     */
+    public static void add(final long[] addend1,
+                           final int addend1Offset,
+                           final long[] addend2,
+                           final int addend2Offset,
+                           final long[] destination,
+                           final int destinationOffset,
+                           final Word36.Flags flags) {
+        add(addend1[addend1Offset], addend1[addend1Offset + 1],
+            addend2[addend2Offset], addend2[addend2Offset + 1],
+            destination, destinationOffset, flags);
+    }
+
+    /**
+     * Adds two 72-bit ones-complement values given as separate most- and least-significant words
+     */
+    public static void add(final long addend1MSW,
+                           final long addend1LSW,
+                           final long addend2MSW,
+                           final long addend2LSW,
+                           final long[] destination,
+                           final int destinationOffset,
+                           final Word36.Flags flags) {
+        if (isNegativeZero(addend1MSW, addend1LSW) && isNegativeZero(addend2MSW, addend2LSW)) {
             // Special case - if both operands are negative zero, the result is negative zero
             destination[destinationOffset] = Word36.NEGATIVE_ZERO;
             destination[destinationOffset + 1] = Word36.NEGATIVE_ZERO;
-            return new Word36.Flags();
-        } else {
-            // Convert addends to twos-complement, do the addition, and convert the result to ones-complement
-            BigInteger native1 = getTwosComplement(addend1, addend1Offset);
-            BigInteger native2 = getTwosComplement(addend2, addend2Offset);
-            BigInteger sum = native1.add(native2);
-            getOnesComplement(sum, destination, destinationOffset);
-
-            boolean neg1 = isNegative(addend1, addend1Offset);
-            boolean neg2 = isNegative(addend2, addend2Offset);
-            boolean negRes = isNegative(destination, destinationOffset);
-
-            boolean carry = sum.compareTo(BigInteger.ZERO) < 0 ? (neg1 && neg2) : (neg1 || neg2);
-            boolean overflow = (neg1 == neg2) && (neg1 != negRes);
-            return new Word36.Flags(carry, overflow);
+            flags._carry = false;
+            flags._overflow = false;
+            return;
         }
+
+        // Convert addends to twos-complement, do the addition, and convert the result to ones-complement
+        var low = twosLow(addend1MSW, addend1LSW) + twosLow(addend2MSW, addend2LSW);
+        var high = twosHigh(addend1MSW, addend1LSW) + twosHigh(addend2MSW, addend2LSW) + (low >>> 36);
+        low &= Word36.BIT_MASK;
+        storeOnesComplement(high, low, destination, destinationOffset);
+
+        boolean neg1 = isNegative(addend1MSW, addend1LSW);
+        boolean neg2 = isNegative(addend2MSW, addend2LSW);
+        boolean negRes = isNegative(destination, destinationOffset);
+        flags._carry = high < 0 ? (neg1 && neg2) : (neg1 || neg2);
+        flags._overflow = (neg1 == neg2) && (neg1 != negRes);
+    }
+
+    /**
+     * Subtracts one 72-bit ones-complement value from another, by adding the negation of the subtrahend.
+     * Flags are developed exactly as they are for add().
+     */
+    public static void subtract(final long[] minuend,
+                                final int minuendOffset,
+                                final long[] subtrahend,
+                                final int subtrahendOffset,
+                                final long[] destination,
+                                final int destinationOffset,
+                                final Word36.Flags flags) {
+        add(minuend[minuendOffset], minuend[minuendOffset + 1],
+            Word36.negate(subtrahend[subtrahendOffset]), Word36.negate(subtrahend[subtrahendOffset + 1]),
+            destination, destinationOffset, flags);
+    }
+
+    /**
+     * Arithmetically negates a 72-bit ones-complement value
+     */
+    public static void negate(final long[] source,
+                              final int sourceOffset,
+                              final long[] destination,
+                              final int destinationOffset) {
+        destination[destinationOffset] = Word36.negate(source[sourceOffset]);
+        destination[destinationOffset + 1] = Word36.negate(source[sourceOffset + 1]);
     }
 
     /**
@@ -293,6 +421,7 @@ public class DoubleWord36 {
      * @param quotientOffset offset into the quotient array
      * @param remainder array to store the 72-bit remainder
      * @param remainderOffset offset into the remainder array
+     * @throws ArithmeticException if the divisor is zero
      */
     public static void divide(final long[] dividend,
                               final int dividendOffset,
@@ -302,11 +431,7 @@ public class DoubleWord36 {
                               final int quotientOffset,
                               final long[] remainder,
                               final int remainderOffset) {
-        var nativeDividend = getTwosComplement(dividend, dividendOffset);
-        var nativeDivisor = getTwosComplement(divisor, divisorOffset);
-        var results = nativeDividend.divideAndRemainder(nativeDivisor);
-        getOnesComplement(results[0], quotient, quotientOffset);
-        getOnesComplement(results[1], remainder, remainderOffset);
+        divide(dividend, dividendOffset, divisor, divisorOffset, quotient, quotientOffset, remainder, remainderOffset, false);
     }
 
     /**
@@ -319,6 +444,7 @@ public class DoubleWord36 {
      * @param quotientOffset offset into the quotient array
      * @param remainder array to store the 36-bit remainder
      * @param remainderOffset offset into the remainder array
+     * @throws ArithmeticException if the divisor is zero
      */
     public static void divideShort(final long[] dividend,
                                    final int dividendOffset,
@@ -328,11 +454,98 @@ public class DoubleWord36 {
                                    final int quotientOffset,
                                    final long[] remainder,
                                    final int remainderOffset) {
-        var nativeDividend = getTwosComplement(dividend, dividendOffset);
-        var nativeDivisor = getTwosComplement(divisor, divisorOffset);
-        var results = nativeDividend.divideAndRemainder(nativeDivisor);
-        getOnesComplementShort(results[0], quotient, quotientOffset);
-        getOnesComplementShort(results[1], remainder, remainderOffset);
+        divide(dividend, dividendOffset, divisor, divisorOffset, quotient, quotientOffset, remainder, remainderOffset, true);
+    }
+
+    /**
+     * Common code for divide() and divideShort().
+     * The division is done on magnitudes, truncating toward zero - the quotient is negative if the operand signs differ,
+     * and the remainder takes the sign of the dividend. Zero results are always positive zero.
+     * Short results are the least-significant 36 bits of the magnitude, with the sign applied.
+     */
+    private static void divide(final long[] dividend,
+                               final int dividendOffset,
+                               final long[] divisor,
+                               final int divisorOffset,
+                               final long[] quotient,
+                               final int quotientOffset,
+                               final long[] remainder,
+                               final int remainderOffset,
+                               final boolean shortResults) {
+        var dividendNegative = isNegative(dividend, dividendOffset);
+        var divisorNegative = isNegative(divisor, divisorOffset);
+        var dividendHigh = dividendNegative ? Word36.negate(dividend[dividendOffset]) : dividend[dividendOffset];
+        var dividendLow = dividendNegative ? Word36.negate(dividend[dividendOffset + 1]) : dividend[dividendOffset + 1];
+        var divisorHigh = divisorNegative ? Word36.negate(divisor[divisorOffset]) : divisor[divisorOffset];
+        var divisorLow = divisorNegative ? Word36.negate(divisor[divisorOffset + 1]) : divisor[divisorOffset + 1];
+        if ((divisorHigh | divisorLow) == 0) {
+            throw new ArithmeticException("divide by zero");
+        }
+
+        long quotientHigh;
+        long quotientLow;
+        long remainderHigh;
+        long remainderLow;
+        if ((dividendHigh < (1L << 27)) && (divisorHigh < (1L << 27))) {
+            // Both magnitudes fit in 63 bits - native division will do
+            var nativeDividend = (dividendHigh << 36) | dividendLow;
+            var nativeDivisor = (divisorHigh << 36) | divisorLow;
+            var nativeQuotient = nativeDividend / nativeDivisor;
+            var nativeRemainder = nativeDividend - (nativeQuotient * nativeDivisor);
+            quotientHigh = nativeQuotient >>> 36;
+            quotientLow = nativeQuotient & Word36.BIT_MASK;
+            remainderHigh = nativeRemainder >>> 36;
+            remainderLow = nativeRemainder & Word36.BIT_MASK;
+        } else if (divisorHigh == 0) {
+            // Single-word divisor - schoolbook division of the dividend in 18-bit digits, so that each partial dividend
+            // (remainder so far, plus the next digit) stays within 54 bits.
+            var partial = dividendHigh >>> 18;
+            var q3 = partial / divisorLow;
+            partial = ((partial % divisorLow) << 18) | (dividendHigh & 0_777777L);
+            var q2 = partial / divisorLow;
+            partial = ((partial % divisorLow) << 18) | (dividendLow >>> 18);
+            var q1 = partial / divisorLow;
+            partial = ((partial % divisorLow) << 18) | (dividendLow & 0_777777L);
+            var q0 = partial / divisorLow;
+            quotientHigh = (q3 << 18) | q2;
+            quotientLow = (q1 << 18) | q0;
+            remainderHigh = 0;
+            remainderLow = partial % divisorLow;
+        } else {
+            // Restoring division, one bit at a time. The partial remainder is always less than twice the divisor,
+            // so it fits comfortably in a pair.
+            quotientHigh = 0;
+            quotientLow = 0;
+            remainderHigh = 0;
+            remainderLow = 0;
+            for (int bx = 71; bx >= 0; bx--) {
+                var bit = (bx >= 36) ? (dividendHigh >>> (bx - 36)) & 01 : (dividendLow >>> bx) & 01;
+                remainderHigh = (remainderHigh << 1) | (remainderLow >>> 35);
+                remainderLow = ((remainderLow << 1) & Word36.BIT_MASK) | bit;
+                if ((remainderHigh > divisorHigh) || ((remainderHigh == divisorHigh) && (remainderLow >= divisorLow))) {
+                    remainderLow -= divisorLow;
+                    remainderHigh -= divisorHigh;
+                    if (remainderLow < 0) {
+                        remainderLow += Word36.CARRY_BIT;
+                        remainderHigh--;
+                    }
+                    if (bx >= 36) {
+                        quotientHigh |= 1L << (bx - 36);
+                    } else {
+                        quotientLow |= 1L << bx;
+                    }
+                }
+            }
+        }
+
+        var quotientNegative = dividendNegative != divisorNegative;
+        if (shortResults) {
+            quotient[quotientOffset] = (quotientNegative && (quotientHigh | quotientLow) != 0) ? Word36.negate(quotientLow) : quotientLow;
+            remainder[remainderOffset] = (dividendNegative && (remainderHigh | remainderLow) != 0) ? Word36.negate(remainderLow) : remainderLow;
+        } else {
+            storeSignMagnitude(quotientNegative, quotientHigh, quotientLow, quotient, quotientOffset);
+            storeSignMagnitude(dividendNegative, remainderHigh, remainderLow, remainder, remainderOffset);
+        }
     }
 
     /**
@@ -346,11 +559,13 @@ public class DoubleWord36 {
                                 final long factor2,
                                 final long[] product,
                                 final int productOffset) {
-        var native1 = getTwosComplement(Word36.isNegative(factor1) ? Word36.NEGATIVE_ZERO : Word36.POSITIVE_ZERO, factor1);
-        var native2 = getTwosComplement(Word36.isNegative(factor2) ? Word36.NEGATIVE_ZERO : Word36.POSITIVE_ZERO, factor2);
-        getOnesComplement(native1.multiply(native2),
-                          product,
-                          productOffset);
+        var native1 = Word36.getTwosComplement(factor1);
+        var native2 = Word36.getTwosComplement(factor2);
+        // The product of two 36-bit values needs up to 71 bits - put together the top and bottom halves
+        // of the 128-bit product to get the twos-complement pair.
+        var nativeLow = native1 * native2;
+        var nativeHigh = Math.multiplyHigh(native1, native2);
+        storeOnesComplement((nativeHigh << 28) | (nativeLow >>> 36), nativeLow & Word36.BIT_MASK, product, productOffset);
     }
 
     //  Arithmetic Operations ------------------------------------------------------------------------------------------------------
@@ -410,9 +625,12 @@ public class DoubleWord36 {
         } else if (isPositiveZero(leftMSW, leftLSW) && isNegativeZero(rightMSW, rightLSW)) {
             return 1;
         } else {
-            var left = getTwosComplement(leftMSW, leftLSW);
-            var right = getTwosComplement(rightMSW, rightLSW);
-            return left.compareTo(right);
+            var leftHigh = twosHigh(leftMSW, leftLSW);
+            var rightHigh = twosHigh(rightMSW, rightLSW);
+            if (leftHigh != rightHigh) {
+                return leftHigh < rightHigh ? -1 : 1;
+            }
+            return Long.signum(twosLow(leftMSW, leftLSW) - twosLow(rightMSW, rightLSW));
         }
     }
 
@@ -529,6 +747,9 @@ public class DoubleWord36 {
 
 
     //  Shift Operations -----------------------------------------------------------------------------------------------------------
+    //  Each operation takes the two 36-bit halves of the value to be shifted, and stores the two halves of the result
+    //  into result[0] and result[1]. The Long[] variants are retained for existing callers; they box, so the engine
+    //  should use the long[] variants.
 
     /**
      * Does an algebraic shift left - the sign bit is never altered.
@@ -541,7 +762,7 @@ public class DoubleWord36 {
         final long operand1,
         final long operand2,
         final int count,
-        final Long[] result
+        final long[] result
     ) {
         if (count < 0) {
             rightShiftAlgebraic(operand1, operand2, -count, result);
@@ -551,21 +772,27 @@ public class DoubleWord36 {
         } else if (count >= 71) {
             result[0] = operand1 & 0_400000_000000L;
             result[1] = 0L;
+        } else if (count < 36) {
+            result[0] = (operand1 & 0_400000_000000L) | (((operand1 << count) | (operand2 >>> (36 - count))) & 0_377777_777777L);
+            result[1] = (operand2 << count) & 0_777777_777777L;
         } else {
-            long res;
-            if (count < 36) {
-                res = (operand1 & 0_400000_000000L) | (((operand1 << count) | (operand2 >>> (36 - count))) & 0_377777_777777L);
-                result[0] = res;
-                res = (operand2 << count) & 0_777777_777777L;
-                result[1] = res;
-            } else {
-                res = (operand1 & 0_400000_000000L) | ((operand2 << (count - 36)) & 0_377777_777777L);
-                result[0] = res;
-                result[1] = 0L;
-            }
+            result[0] = (operand1 & 0_400000_000000L) | ((operand2 << (count - 36)) & 0_377777_777777L);
+            result[1] = 0L;
         }
     }
 
+    public static void leftShiftAlgebraic(
+        final long operand1,
+        final long operand2,
+        final int count,
+        final Long[] result
+    ) {
+        var temp = new long[2];
+        leftShiftAlgebraic(operand1, operand2, count, temp);
+        result[0] = temp[0];
+        result[1] = temp[1];
+    }
+
     /**
      * Shifts the given 72-bit value left, with bit[0] rotating to bit[71] at each iteration.
      * @param operand1 most significant 36 bits of the value to be shifted
@@ -577,24 +804,39 @@ public class DoubleWord36 {
         final long operand1,
         final long operand2,
         final int count,
-        final Long[] result
+        final long[] result
     ) {
         if (count < 0) {
             rightShiftCircular(operand1, operand2, -count, result);
+            return;
+        }
+
+        // Rotating by 36 or more is a swap of the halves followed by a rotate of the remainder
+        var actualCount = count % 72;
+        var high = actualCount < 36 ? operand1 : operand2;
+        var low = actualCount < 36 ? operand2 : operand1;
+        actualCount %= 36;
+        if (actualCount == 0) {
+            result[0] = high;
+            result[1] = low;
         } else {
-            result[0] = operand1;
-            result[1] = operand2;
-            int actualCount = (count % 72);
-            while (actualCount > 0) {
-                var bit0 = (result[0] & 0_400000_000000L) == 0 ? 0 : 1;
-                var bit36 = (result[1] & 0_400000_000000L) == 0 ? 0 : 1;
-                result[0] = ((result[0] << 1) | bit36) & 0_777777_777777L;
-                result[1] = ((result[1] << 1) | bit0) & 0_777777_777777L;
-                actualCount--;
-            }
+            result[0] = ((high << actualCount) | (low >>> (36 - actualCount))) & 0_777777_777777L;
+            result[1] = ((low << actualCount) | (high >>> (36 - actualCount))) & 0_777777_777777L;
         }
     }
 
+    public static void leftShiftCircular(
+        final long operand1,
+        final long operand2,
+        final int count,
+        final Long[] result
+    ) {
+        var temp = new long[2];
+        leftShiftCircular(operand1, operand2, count, temp);
+        result[0] = temp[0];
+        result[1] = temp[1];
+    }
+
     /**
      * Shifts the given 72-bit value left by a number of bits
      * @param operand1 most significant 36 bits of the value to be shifted
@@ -606,7 +848,7 @@ public class DoubleWord36 {
         final long operand1,
         final long operand2,
         final int count,
-        final Long[] result
+        final long[] result
     ) {
         if (count < 0) {
             rightShiftLogical(operand1, operand2, -count, result);
@@ -616,59 +858,72 @@ public class DoubleWord36 {
         } else if (count >= 72) {
             result[0] = 0L;
             result[1] = 0L;
+        } else if (count < 36) {
+            result[0] = ((operand1 << count) | (operand2 >>> (36 - count))) & 0_777777_777777L;
+            result[1] = (operand2 << count) & 0_777777_777777L;
         } else {
-            long res;
-            if (count < 36) {
-                res = ((operand1 << count) | (operand2 >>> (36 - count))) & 0_777777_777777L;
-                result[0] = res;
-                res = (operand2 << count) & 0_777777_777777L;
-                result[1] = res;
-            } else {
-                res = (operand2 << (count - 36)) & 0_777777_777777L;
-                result[0] = res;
-                result[1] = 0L;
-            }
+            result[0] = (operand2 << (count - 36)) & 0_777777_777777L;
+            result[1] = 0L;
         }
     }
 
+    public static void leftShiftLogical(
+        final long operand1,
+        final long operand2,
+        final int count,
+        final Long[] result
+    ) {
+        var temp = new long[2];
+        leftShiftLogical(operand1, operand2, count, temp);
+        result[0] = temp[0];
+        result[1] = temp[1];
+    }
+
     /**
      * Does an algebraic shift right - this means the sign bit is always preserved as well as being shifted to the right.
      * @param operand1 most significant 36 bits of the value to be shifted
      * @param operand2 least significant 36 bits of the value to be shifted
      * @param count number of bits to be shifted
+     * @param result 2-element array containing the result of the shift operation.
      */
     public static void rightShiftAlgebraic(
         final long operand1,
         final long operand2,
         final int count,
-        final Long[] result
+        final long[] result
     ) {
         if (count < 0) {
             leftShiftAlgebraic(operand1, operand2, -count, result);
         } else if (count == 0) {
             result[0] = operand1;
             result[1] = operand2;
-        } else if (count >= 71) {
-            long fill = (operand1 & 0_400000_000000L) != 0 ? 0_777777_777777L : 0L;
-            result[0] = fill;
-            result[1] = fill;
         } else {
             long fill = (operand1 & 0_400000_000000L) != 0 ? 0_777777_777777L : 0L;
-            long res;
-            if (count < 36) {
-                res = ((operand1 >> count) | (fill << (36 - count))) & 0_777777_777777L;
-                result[0] = res;
-                res = ((operand2 >>> count) | ((operand1 & 0_777777_777777L) << (36 - count))) & 0_777777_777777L;
-                result[1] = res;
+            if (count >= 71) {
+                result[0] = fill;
+                result[1] = fill;
+            } else if (count < 36) {
+                result[0] = ((operand1 >> count) | (fill << (36 - count))) & 0_777777_777777L;
+                result[1] = ((operand2 >>> count) | ((operand1 & 0_777777_777777L) << (36 - count))) & 0_777777_777777L;
             } else {
-                res = fill;
-                result[0] = res;
-                res = ((operand1 >> (count - 36)) | (fill << (72 - count))) & 0_777777_777777L;
-                result[1] = res;
+                result[0] = fill;
+                result[1] = ((operand1 >> (count - 36)) | (fill << (72 - count))) & 0_777777_777777L;
             }
         }
     }
 
+    public static void rightShiftAlgebraic(
+        final long operand1,
+        final long operand2,
+        final int count,
+        final Long[] result
+    ) {
+        var temp = new long[2];
+        rightShiftAlgebraic(operand1, operand2, count, temp);
+        result[0] = temp[0];
+        result[1] = temp[1];
+    }
+
     /**
      * Shifts the given 72-bit value right, with bit[71] rotating to bit[0] at each iteration.
      * @param operand1 most significant 36 bits of the value to be shifted
@@ -680,24 +935,27 @@ public class DoubleWord36 {
         final long operand1,
         final long operand2,
         final int count,
-        final Long[] result
+        final long[] result
     ) {
         if (count < 0) {
             leftShiftCircular(operand1, operand2, -count, result);
         } else {
-            result[0] = operand1;
-            result[1] = operand2;
-            int actualCount = (count % 72);
-            while (actualCount > 0) {
-                var bit72 = result[1] & 0x1;
-                var bit36 = result[0] & 0x1;
-                result[0] = (result[0] >> 1) | (bit72 << 35);
-                result[1] = (result[1] >> 1) | (bit36 << 35);
-                actualCount--;
-            }
+            leftShiftCircular(operand1, operand2, (72 - (count % 72)) % 72, result);
         }
     }
 
+    public static void rightShiftCircular(
+        final long operand1,
+        final long operand2,
+        final int count,
+        final Long[] result
+    ) {
+        var temp = new long[2];
+        rightShiftCircular(operand1, operand2, count, temp);
+        result[0] = temp[0];
+        result[1] = temp[1];
+    }
+
     /**
      * Shifts the given 72-bit value right by a number of bits
      * @param operand1 most significant 36 bits of the value to be shifted
@@ -709,7 +967,7 @@ public class DoubleWord36 {
         final long operand1,
         final long operand2,
         final int count,
-        final Long[] result
+        final long[] result
     ) {
         if (count < 0) {
             leftShiftLogical(operand1, operand2, -count, result);
@@ -719,21 +977,27 @@ public class DoubleWord36 {
         } else if (count >= 72) {
             result[0] = 0L;
             result[1] = 0L;
+        } else if (count < 36) {
+            result[0] = (operand1 >>> count) & 0_777777_777777L;
+            result[1] = ((operand2 >>> count) | (operand1 << (36 - count))) & 0_777777_777777L;
         } else {
-            long res;
-            if (count < 36) {
-                res = (operand1 >>> count) & 0_777777_777777L;
-                result[0] = res;
-                res = ((operand2 >>> count) | (operand1 << (36 - count))) & 0_777777_777777L;
-                result[1] = res;
-            } else {
-                res = (operand1 >>> (count - 36)) & 0_777777_777777L;
-                result[1] = res;
-                result[0] = 0L;
-            }
+            result[0] = 0L;
+            result[1] = (operand1 >>> (count - 36)) & 0_777777_777777L;
         }
     }
 
+    public static void rightShiftLogical(
+        final long operand1,
+        final long operand2,
+        final int count,
+        final Long[] result
+    ) {
+        var temp = new long[2];
+        rightShiftLogical(operand1, operand2, count, temp);
+        result[0] = temp[0];
+        result[1] = temp[1];
+    }
+
 
 //    //  Conversions ----------------------------------------------------------------------------------------------------------------
 
@@ -1053,9 +1053,19 @@ public class Word36 {
      */
     public static long stringToWordASCII(
         final String source
+    ) {
+        return stringToWordASCII(source, 0);
+    }
+
+    /**
+     * As above, but converts the (up to) 4 characters beginning at the given index in the source string.
+     */
+    private static long stringToWordASCII(
+        final String source,
+        final int start
     ) {
         long value = 0;
-        for (int cx = 0; cx < 4; ++cx) {
+        for (int cx = start; cx < start + 4; ++cx) {
             value <<= 9;
             if (cx < source.length()) {
                 value |= source.charAt(cx) & 0xFF;
@@ -1084,7 +1094,7 @@ public class Word36 {
         var result = new long[words];
         for (int wx = 0; wx < result.length; ++wx) {
             int sx = wx * 4;
-            result[wx] = stringToWordASCII(source.substring(sx, sx + 4));
+            result[wx] = stringToWordASCII(source, sx);
         }
 
         return result;
@@ -1106,12 +1116,12 @@ public class Word36 {
     ) {
         int wx = offset;
         int cx = 0;
-        while (cx < source.length()) {
-            buffer.set(wx, stringToWordASCII(source.substring(cx, cx + 4)));
+        while ((cx < source.length()) && (wx < offset + length)) {
+            buffer.set(wx, stringToWordASCII(source, cx));
             wx++;
             cx += 4;
         }
-        while (wx < length) {
+        while (wx < offset + length) {
             buffer.set(wx, 040040040040L);
             wx++;
         }
@@ -1126,9 +1136,19 @@ public class Word36 {
      */
     public static long stringToWordFieldata(
         final String source
+    ) {
+        return stringToWordFieldata(source, 0);
+    }
+
+    /**
+     * As above, but converts the (up to) 6 characters beginning at the given index in the source string.
+     */
+    private static long stringToWordFieldata(
+        final String source,
+        final int start
     ) {
         long value = 0;
-        for (int cx = 0; cx < 6; ++cx) {
+        for (int cx = start; cx < start + 6; ++cx) {
             value <<= 6;
             if (cx < source.length()) {
                 value |= FIELDATA_FROM_ASCII[source.charAt(cx) & 0xff];
@@ -1157,7 +1177,7 @@ public class Word36 {
         var result = new long[words];
         for (int wx = 0; wx < result.length; ++wx) {
             int sx = wx * 6;
-            result[wx] = stringToWordFieldata(source.substring(sx, sx + 6));
+            result[wx] = stringToWordFieldata(source, sx);
         }
 
         return result;
@@ -1179,12 +1199,12 @@ public class Word36 {
     ) {
         int wx = offset;
         int cx = 0;
-        while (cx < source.length()) {
-            buffer.set(wx, stringToWordFieldata(source.substring(cx, cx + 6)));
+        while ((cx < source.length()) && (wx < offset + length)) {
+            buffer.set(wx, stringToWordFieldata(source, cx));
             wx++;
             cx += 6;
         }
-        while (wx < length) {
+        while (wx < offset + length) {
             buffer.set(wx, 050505050505L);
             wx++;
         }
@@ -1255,13 +1275,12 @@ public class Word36 {
     public static String toStringFromFieldata(
         final long value
     ) {
-        return String.format("%s%s%s%s%s%s",
-                             ASCII_FROM_FIELDATA[(int) getS1(value)],
-                             ASCII_FROM_FIELDATA[(int) getS2(value)],
-                             ASCII_FROM_FIELDATA[(int) getS3(value)],
-                             ASCII_FROM_FIELDATA[(int) getS4(value)],
-                             ASCII_FROM_FIELDATA[(int) getS5(value)],
-                             ASCII_FROM_FIELDATA[(int) getS6(value)]);
+        return new String(new char[]{ ASCII_FROM_FIELDATA[(int) getS1(value)],
+                                      ASCII_FROM_FIELDATA[(int) getS2(value)],
+                                      ASCII_FROM_FIELDATA[(int) getS3(value)],
+                                      ASCII_FROM_FIELDATA[(int) getS4(value)],
+                                      ASCII_FROM_FIELDATA[(int) getS5(value)],
+                                      ASCII_FROM_FIELDATA[(int) getS6(value)] });
     }
 
     /**
@@ -140,6 +140,33 @@ public class TestArraySlice {
         assertArrayEquals(comp, slice2.getAll());
     }
 
+    @Test
+    public void testGetRange() {
+        long[] base = { 10, 20, 30, 40, 50, 60, 70, 80, 90, 100 };
+        long[] comp = { 40, 50, 60 };
+
+        ArraySlice slice = new ArraySlice(base, 1, 8);
+        assertArrayEquals(comp, slice.getRange(2, 3));
+        assertEquals(0, slice.getRange(8, 0).length);
+        assertThrows(RuntimeException.class, () -> slice.getRange(6, 3));
+    }
+
+    @Test
+    public void testAtomics() {
+        long[] base = { 10, 20, 30, 40, 50 };
+
+        ArraySlice slice = new ArraySlice(base, 1, 3);
+        assertTrue(slice.compareAndSet(1, 30, 31));
+        assertFalse(slice.compareAndSet(1, 30, 32));
+        assertEquals(31, slice.getVolatile(1));
+        slice.setVolatile(2, 41);
+        assertEquals(41, slice.getVolatile(2));
+        assertArrayEquals(new long[]{ 10, 20, 31, 41, 50 }, base);
+        assertThrows(RuntimeException.class, () -> slice.compareAndSet(3, 0, 0));
+        assertThrows(RuntimeException.class, () -> slice.setVolatile(-1, 0));
+        assertThrows(RuntimeException.class, () -> slice.getVolatile(3));
+    }
+
     @Test
     public void testLoad() {
         long[] base = { 2, 4, 6, 8, 10, 12, 14, 16, 18, 20 };
@@ -151,6 +178,65 @@ public class TestArraySlice {
         assertArrayEquals(comp, view);
     }
 
+    /**
+     * Reference implementation for transfer() - one value at a time, in ascending order
+     */
+    private static void transferOneByOne(
+        final long[] array,
+        final int sourceIndex,
+        final int destinationIndex,
+        final int count
+    ) {
+        for (int x = 0; x < count; x++) {
+            array[destinationIndex + x] = array[sourceIndex + x];
+        }
+    }
+
+    @Test
+    public void testTransfer_Disjoint() {
+        long[] source = { 1, 2, 3, 4, 5, 6, 7, 8 };
+        long[] comp = { 0, 0, 3, 4, 5, 6, 0, 0 };
+        ArraySlice destination = new ArraySlice(new long[8]);
+        ArraySlice.transfer(new ArraySlice(source, 1, 6), 1, destination, 2, 4);
+        assertArrayEquals(comp, destination.getAll());
+    }
+
+    @Test
+    public void testTransfer_Overlapping() {
+        // every distance in either direction between two overlapping ranges, through slices of the same base array
+        for (int distance = -20; distance <= 20; distance++) {
+            long[] expected = new long[64];
+            long[] actual = new long[64];
+            for (int x = 0; x < 64; x++) {
+                expected[x] = actual[x] = 0_100 + x;
+            }
+
+            var sx = 20;
+            var dx = sx + distance;
+            transferOneByOne(expected, sx, dx, 21);
+            ArraySlice.transfer(new ArraySlice(actual, 10, 40), sx - 10, new ArraySlice(actual, 0, 64), dx, 21);
+            assertArrayEquals(expected, actual, "distance " + distance);
+        }
+    }
+
+    @Test
+    public void testTransfer_Fill() {
+        // destination one above the source propagates the first value
+        long[] base = { 7, 1, 2, 3, 4, 5, 6, 8 };
+        long[] comp = { 7, 7, 7, 7, 7, 7, 7, 8 };
+        ArraySlice slice = new ArraySlice(base);
+        ArraySlice.transfer(slice, 0, slice, 1, 6);
+        assertArrayEquals(comp, base);
+    }
+
+    @Test
+    public void testTransfer_Bounds() {
+        ArraySlice source = new ArraySlice(new long[8]);
+        ArraySlice destination = new ArraySlice(new long[4]);
+        assertThrows(RuntimeException.class, () -> ArraySlice.transfer(source, 6, destination, 0, 3));
+        assertThrows(RuntimeException.class, () -> ArraySlice.transfer(source, 0, destination, 2, 3));
+    }
+
     //  character conversions
 
     @Test
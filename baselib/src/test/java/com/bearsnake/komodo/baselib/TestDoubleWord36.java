@@ -7,6 +7,7 @@ package com.bearsnake.komodo.baselib;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigInteger;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -469,4 +470,182 @@ public class TestDoubleWord36 {
         assertEquals(0_000000_000002L, result[0].longValue());
         assertEquals(0_000000_000000L, result[1].longValue());
     }
+
+    //  Randomized equivalence tests against the BigInteger implementations which the long-pair code replaced ------------------
+
+    private static final int RANDOM_ITERATIONS = 20000;
+
+    private static final long[] EDGE_WORDS = {
+        0L, 1L, 2L, 0_377777_777777L, 0_400000_000000L, 0_777777_777776L, 0_777777_777777L
+    };
+
+    /**
+     * Produces a 36-bit word - mostly random, with the interesting edge values mixed in
+     */
+    private static long randomWord(final Random random) {
+        return random.nextInt(4) == 0
+            ? EDGE_WORDS[random.nextInt(EDGE_WORDS.length)]
+            : random.nextLong() & Word36.BIT_MASK;
+    }
+
+    /**
+     * Produces a 72-bit ones-complement value, with a fair share of values small enough to be sign-extended 36-bit values
+     */
+    private static long[] randomDoubleWord(final Random random) {
+        var low = randomWord(random);
+        var high = random.nextInt(3) == 0
+            ? (Word36.isNegative(low) ? Word36.NEGATIVE_ZERO : Word36.POSITIVE_ZERO)
+            : randomWord(random);
+        return new long[]{ high, low };
+    }
+
+    private static Word36.Flags referenceAdd(final long[] addend1, final long[] addend2, final long[] destination) {
+        if (DoubleWord36.isNegativeZero(addend1, 0) && DoubleWord36.isNegativeZero(addend2, 0)) {
+            destination[0] = Word36.NEGATIVE_ZERO;
+            destination[1] = Word36.NEGATIVE_ZERO;
+            return new Word36.Flags();
+        }
+
+        BigInteger sum = DoubleWord36.getTwosComplement(addend1, 0).add(DoubleWord36.getTwosComplement(addend2, 0));
+        DoubleWord36.getOnesComplement(sum, destination, 0);
+        boolean neg1 = DoubleWord36.isNegative(addend1, 0);
+        boolean neg2 = DoubleWord36.isNegative(addend2, 0);
+        boolean negRes = DoubleWord36.isNegative(destination, 0);
+        boolean carry = sum.compareTo(BigInteger.ZERO) < 0 ? (neg1 && neg2) : (neg1 || neg2);
+        boolean overflow = (neg1 == neg2) && (neg1 != negRes);
+        return new Word36.Flags(carry, overflow);
+    }
+
+    private static int referenceCompare(final long[] left, final long[] right) {
+        if (DoubleWord36.isNegativeZero(left, 0) && DoubleWord36.isPositiveZero(right[0], right[1])) {
+            return -1;
+        } else if (DoubleWord36.isPositiveZero(left[0], left[1]) && DoubleWord36.isNegativeZero(right, 0)) {
+            return 1;
+        } else {
+            return DoubleWord36.getTwosComplement(left, 0).compareTo(DoubleWord36.getTwosComplement(right, 0));
+        }
+    }
+
+    private static void referenceLeftShiftCircular(final long operand1, final long operand2, final int count, final long[] result) {
+        result[0] = operand1;
+        result[1] = operand2;
+        for (int cx = 0; cx < count % 72; cx++) {
+            var bit0 = (result[0] & 0_400000_000000L) == 0 ? 0 : 1;
+            var bit36 = (result[1] & 0_400000_000000L) == 0 ? 0 : 1;
+            result[0] = ((result[0] << 1) | bit36) & 0_777777_777777L;
+            result[1] = ((result[1] << 1) | bit0) & 0_777777_777777L;
+        }
+    }
+
+    @Test
+    public void add_randomized() {
+        var random = new Random(0_72_72);
+        var expected = new long[2];
+        var actual = new long[2];
+        for (int ix = 0; ix < RANDOM_ITERATIONS; ix++) {
+            var addend1 = randomDoubleWord(random);
+            var addend2 = randomDoubleWord(random);
+            var expectedFlags = referenceAdd(addend1, addend2, expected);
+            var actualFlags = DoubleWord36.add(addend1, 0, addend2, 0, actual, 0);
+            assertArrayEquals(expected, actual);
+            assertEquals(expectedFlags._carry, actualFlags._carry);
+            assertEquals(expectedFlags._overflow, actualFlags._overflow);
+        }
+    }
+
+    @Test
+    public void subtract_randomized() {
+        var random = new Random(0_72_73);
+        var negated = new long[2];
+        var expected = new long[2];
+        var actual = new long[2];
+        for (int ix = 0; ix < RANDOM_ITERATIONS; ix++) {
+            var minuend = randomDoubleWord(random);
+            var subtrahend = randomDoubleWord(random);
+            negated[0] = Word36.negate(subtrahend[0]);
+            negated[1] = Word36.negate(subtrahend[1]);
+            var expectedFlags = referenceAdd(minuend, negated, expected);
+            var actualFlags = new Word36.Flags();
+            DoubleWord36.subtract(minuend, 0, subtrahend, 0, actual, 0, actualFlags);
+            assertArrayEquals(expected, actual);
+            assertEquals(expectedFlags._carry, actualFlags._carry);
+            assertEquals(expectedFlags._overflow, actualFlags._overflow);
+        }
+    }
+
+    @Test
+    public void compare_randomized() {
+        var random = new Random(0_72_74);
+        for (int ix = 0; ix < RANDOM_ITERATIONS; ix++) {
+            var left = randomDoubleWord(random);
+            var right = random.nextInt(8) == 0 ? left.clone() : randomDoubleWord(random);
+            assertEquals(referenceCompare(left, right), DoubleWord36.compare(left[0], left[1], right[0], right[1]));
+        }
+    }
+
+    @Test
+    public void multiply_randomized() {
+        var random = new Random(0_72_75);
+        var expected = new long[2];
+        var actual = new long[2];
+        for (int ix = 0; ix < RANDOM_ITERATIONS; ix++) {
+            var factor1 = randomWord(random);
+            var factor2 = randomWord(random);
+            var native1 = BigInteger.valueOf(Word36.getTwosComplement(factor1));
+            var native2 = BigInteger.valueOf(Word36.getTwosComplement(factor2));
+            DoubleWord36.getOnesComplement(native1.multiply(native2), expected, 0);
+            DoubleWord36.multiply(factor1, factor2, actual, 0);
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void divide_randomized() {
+        var random = new Random(0_72_76);
+        var expectedQuotient = new long[2];
+        var expectedRemainder = new long[2];
+        var actualQuotient = new long[2];
+        var actualRemainder = new long[2];
+        for (int ix = 0; ix < RANDOM_ITERATIONS; ix++) {
+            var dividend = randomDoubleWord(random);
+            var divisor = randomDoubleWord(random);
+            var nativeDivisor = DoubleWord36.getTwosComplement(divisor, 0);
+            if (nativeDivisor.equals(BigInteger.ZERO)) {
+                assertThrows(ArithmeticException.class,
+                             () -> DoubleWord36.divide(dividend, 0, divisor, 0, actualQuotient, 0, actualRemainder, 0));
+                continue;
+            }
+
+            var results = DoubleWord36.getTwosComplement(dividend, 0).divideAndRemainder(nativeDivisor);
+            DoubleWord36.getOnesComplement(results[0], expectedQuotient, 0);
+            DoubleWord36.getOnesComplement(results[1], expectedRemainder, 0);
+            DoubleWord36.divide(dividend, 0, divisor, 0, actualQuotient, 0, actualRemainder, 0);
+            assertArrayEquals(expectedQuotient, actualQuotient);
+            assertArrayEquals(expectedRemainder, actualRemainder);
+
+            DoubleWord36.getOnesComplementShort(results[0], expectedQuotient, 0);
+            DoubleWord36.getOnesComplementShort(results[1], expectedRemainder, 0);
+            DoubleWord36.divideShort(dividend, 0, divisor, 0, actualQuotient, 0, actualRemainder, 0);
+            assertEquals(expectedQuotient[0], actualQuotient[0]);
+            assertEquals(expectedRemainder[0], actualRemainder[0]);
+        }
+    }
+
+    @Test
+    public void shiftCircular_randomized() {
+        var random = new Random(0_72_77);
+        var expected = new long[2];
+        var actual = new long[2];
+        for (int ix = 0; ix < RANDOM_ITERATIONS; ix++) {
+            var value = randomDoubleWord(random);
+            var count = random.nextInt(200);
+            referenceLeftShiftCircular(value[0], value[1], count, expected);
+            DoubleWord36.leftShiftCircular(value[0], value[1], count, actual);
+            assertArrayEquals(expected, actual);
+
+            referenceLeftShiftCircular(value[0], value[1], (72 - (count % 72)) % 72, expected);
+            DoubleWord36.rightShiftCircular(value[0], value[1], count, actual);
+            assertArrayEquals(expected, actual);
+        }
+    }
 }
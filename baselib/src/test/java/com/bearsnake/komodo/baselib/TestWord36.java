@@ -815,6 +815,32 @@ public class TestWord36 {
         assertEquals(0_616263_640505L, w);
     }
 
+    @Test
+    public void stringToWordsASCII_partial() {
+        var w = Word36.stringToWordsASCII("Hello");
+        assertArrayEquals(new long[]{ 0_110_145_154_154L, 0_157_040_040_040L }, w);
+    }
+
+    @Test
+    public void stringToWordsFieldata_partial() {
+        var w = Word36.stringToWordsFieldata("1234567");
+        assertArrayEquals(new long[]{ 0_616263_646566L, 0_670505_050505L }, w);
+    }
+
+    @Test
+    public void stringToWordsFieldata_buffer() {
+        var buffer = new ArraySlice(new long[6]);
+        Word36.stringToWordsFieldata("ABCDEFGHIJKLMNOP", buffer, 1, 2);
+        Word36.stringToWordsFieldata("XYZ", buffer, 3, 2);
+        assertArrayEquals(new long[]{ 0L,
+                                      Word36.stringToWordFieldata("ABCDEF"),
+                                      Word36.stringToWordFieldata("GHIJKL"),
+                                      Word36.stringToWordFieldata("XYZ"),
+                                      0_050505_050505L,
+                                      0L },
+                          buffer._array);
+    }
+
 
     //  Sign-extension tests -------------------------------------------------------------------------------------------------------
 
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.benchmarks;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the word/byte codecs in ArraySlice - packing pairs of 36-bit words into 9 bytes (with and without
+ * the 28-words-per-128-bytes sector layout used by DiskChannel), and quarter-word packing as used for ASCII data.
+ * Sizes are one 28-word sector and one 1792-word track.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArraySliceBenchmark {
+
+    @Param({"28", "1792"})
+    public int _words;
+
+    private ArraySlice _source;
+    private ArraySlice _target;
+    private byte[] _packed;
+    private byte[] _sectorPacked;
+    private byte[] _quarterWords;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var words = new long[_words];
+        for (int wx = 0; wx < _words; wx++) {
+            // quarter words with the MSBit clear, so packQuarterWords() processes the whole slice
+            words[wx] = (wx * 0_001002_003004L) & 0_377377_377377L;
+        }
+
+        _source = new ArraySlice(words);
+        _target = new ArraySlice(new long[_words]);
+        _packed = new byte[_words * 9 / 2];
+        _sectorPacked = new byte[(_words / 28) * 128];
+        _quarterWords = new byte[_words * 4];
+
+        _source.pack(_packed, 0, false);
+        _source.pack(_sectorPacked, 0, true);
+        _source.packQuarterWords(_quarterWords, 0);
+    }
+
+    @Benchmark
+    public int pack() {
+        return _source.pack(_packed, 0, false);
+    }
+
+    @Benchmark
+    public int packSectors() {
+        return _source.pack(_sectorPacked, 0, true);
+    }
+
+    @Benchmark
+    public int unpack() {
+        return _target.unpack(_packed, 0, _packed.length, false);
+    }
+
+    @Benchmark
+    public int unpackSectors() {
+        return _target.unpack(_sectorPacked, 0, _sectorPacked.length, true);
+    }
+
+    @Benchmark
+    public int packQuarterWords() {
+        return _source.packQuarterWords(_quarterWords, 0);
+    }
+
+    @Benchmark
+    public int unpackQuarterWords() {
+        return _target.unpackQuarterWords(_quarterWords, 0, _quarterWords.length);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.benchmarks;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.exceptions.EngineHaltedException;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures large storage-to-storage moves - ArraySlice.transfer against a word-at-a-time loop through
+ * ArraySlice.get/set (which is how multi-word operands were moved before), for disjoint ranges and for
+ * a destination one word above its source (the propagating fill), and a complete BT instruction
+ * through Engine.cycle(), including its resumption after each group of BTFunction.TRANSFER_LIMIT words.
+ * One benchmark operation is one move of _size words.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlockTransferBenchmark {
+
+    private static final int CODE_BANK_LOWER_LIMIT = 0_1000;
+
+    @Param({"64", "4096", "65536"})
+    public int _size;
+
+    private ArraySlice _storage;
+    private ArraySlice _source;
+    private ArraySlice _destination;
+    private Engine _engine;
+
+    private static long fjaxhibd(long f, long j, long a, long x, long h, long i, long b, long d) {
+        return ((f & 077) << 30) | ((j & 017) << 26) | ((a & 017) << 22) | ((x & 017) << 18)
+               | ((h & 01) << 17) | ((i & 01) << 16) | ((b & 017) << 12) | (d & 07777);
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var data = new long[2 * _size];
+        for (int dx = 0; dx < _size; dx++) {
+            data[dx] = 0_123456_701234L + dx;
+        }
+        _storage = new ArraySlice(data);
+        _source = new ArraySlice(data, 0, _size);
+        _destination = new ArraySlice(data, _size, _size);
+
+        // BT X2,0,*X3,B1 - from B1 relative 0 to B1 relative _size
+        var code = new long[]{ fjaxhibd(0_22, 0, 2, 3, 1, 0, 1, 0) };
+        _engine = new Engine();
+        _engine.enableTraceInstructions(false);
+        _engine.getBaseRegister(0)
+               .setIsLargeBank(false)
+               .setLimitsNormalized(false, CODE_BANK_LOWER_LIMIT, CODE_BANK_LOWER_LIMIT + code.length - 1)
+               .setBaseAddress(null)
+               .setStorage(new ArraySlice(code));
+        _engine.getBaseRegister(1)
+               .setIsLargeBank(false)
+               .setLimitsNormalized(false, 0, data.length - 1)
+               .setBaseAddress(null)
+               .setStorage(_storage);
+        _engine.getDesignatorRegister()
+               .clear();
+        _engine.getDesignatorRegister()
+               .setBasicModeEnabled(false)
+               .setProcessorPrivilege((short) 3)
+               .setExecRegisterSetSelected(false);
+        _engine.getProgramAddressRegister()
+               .setBankDescriptorIndex(0_000004)
+               .setBankLevel((short) 0_7);
+    }
+
+    @Benchmark
+    public ArraySlice transfer() {
+        ArraySlice.transfer(_source, 0, _destination, 0, _size);
+        return _destination;
+    }
+
+    @Benchmark
+    public ArraySlice transferOneByOne() {
+        for (int wx = 0; wx < _size; wx++) {
+            _destination.set(wx, _source.get(wx));
+        }
+        return _destination;
+    }
+
+    @Benchmark
+    public ArraySlice transferFill() {
+        ArraySlice.transfer(_storage, 0, _storage, 1, _size);
+        return _storage;
+    }
+
+    @Benchmark
+    public ArraySlice transferFillOneByOne() {
+        for (int wx = 0; wx < _size; wx++) {
+            _storage.set(wx + 1, _storage.get(wx));
+        }
+        return _storage;
+    }
+
+    @Benchmark
+    public long blockTransferInstruction() throws EngineHaltedException, MachineInterrupt {
+        _engine.getExecOrUserXRegister(2).setW((1L << 18) | _size);
+        _engine.getExecOrUserXRegister(3).setW(1L << 18);
+        _engine.getExecOrUserRRegister(1).setW(_size);
+        _engine.getProgramAddressRegister().setProgramCounter(CODE_BANK_LOWER_LIMIT);
+        while (!_engine.cycle()) {
+            // BT returns incomplete after each group of words
+        }
+        return _engine.getExecOrUserXRegister(2).getW();
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.benchmarks;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.kexec.exceptions.DirectoryErrorException;
+import com.bearsnake.komodo.kexec.exceptions.ExecStoppedException;
+import com.bearsnake.komodo.kexec.facilities.PackInfo;
+import com.bearsnake.komodo.kexec.mfd.DirectoryRecovery;
+import com.bearsnake.komodo.kexec.mfd.FileSetCycleInfo;
+import com.bearsnake.komodo.kexec.mfd.FileSetInfo;
+import com.bearsnake.komodo.kexec.mfd.FileType;
+import com.bearsnake.komodo.kexec.mfd.MFDManager;
+import com.bearsnake.komodo.kexec.mfd.MFDRelativeAddress;
+import com.bearsnake.komodo.kexec.mfd.MFDSector;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Measures the directory recovery part of a recovery boot (DirectoryRecovery.recover()) over many synthetic
+ * fixed packs, with one thread and with several - the latter reads and analyzes packs in parallel.
+ * Each pack has 18 directory tracks holding 300 cataloged files. The packs live in memory,
+ * and each read waits for a simulated device latency before copying the tracks, so that we measure
+ * what overlapping the pack IOs buys us, rather than the speed of the host file system.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BootRecoveryBenchmark {
+
+    private static final String MFD_QUALIFIER = "SYS$";
+    private static final int PACK_COUNT = 32;
+    private static final int MFD_TRACKS_PER_PACK = 18;
+    private static final int FILES_PER_PACK = 300;
+    private static final long PACK_TRACKS = 100000;
+    private static final long READ_LATENCY_NANOS = 200_000;
+
+    @Param({"1", "8"})
+    public int _threadCount;
+
+    private static class Pack {
+
+        private final int _ldat;
+        private final PackInfo _packInfo;
+        private final long[][] _mfdTracks = new long[MFD_TRACKS_PER_PACK][1792];
+        private int _nextSector = 2;        // sectors 0 and 1 of track 0 are the DAS and the pack information
+        private long _nextDataTrackId = MFD_TRACKS_PER_PACK + 1;
+
+        Pack(final int ldat) {
+            _ldat = ldat;
+            _packInfo = new PackInfo().setPackName(String.format("FIX%03d", ldat))
+                                      .setLDATIndex(ldat)
+                                      .setIsFixed(true)
+                                      .setPrepFactor(1792)
+                                      .setDirectoryTrackAddress(1792)
+                                      .setTrackCount(PACK_TRACKS);
+            for (int dasTrackId = 0; dasTrackId < MFD_TRACKS_PER_PACK; dasTrackId += 9) {
+                var das = sector(dasTrackId * 64);
+                das.set(0, Word36.setH1(0, ldat));
+                das.set(1, dasTrackId == 0 ? 0_600000_000000L : 0_400000_000000L);
+                for (int tx = 1; tx < 9; tx++) {
+                    var trackId = dasTrackId + tx;
+                    das.set(tx * 3, trackId < MFD_TRACKS_PER_PACK ? address(trackId * 64).getValue() : MFDManager.INVALID_LINK);
+                }
+                das.set(033, MFDManager.INVALID_LINK);
+            }
+        }
+
+        MFDRelativeAddress address(final int sectorIndex) {
+            return new MFDRelativeAddress(_ldat, sectorIndex / 64, sectorIndex % 64);
+        }
+
+        ArraySlice sector(final int sectorIndex) {
+            return new ArraySlice(_mfdTracks[sectorIndex / 64], (sectorIndex % 64) * 28, 28);
+        }
+
+        MFDSector allocateSector() {
+            if (_nextSector % (9 * 64) == 0) {
+                _nextSector++; // DAS
+            }
+            var sectorIndex = _nextSector++;
+            var trackId = sectorIndex / 64;
+            var sectorId = sectorIndex % 64;
+            var das = sector((trackId - (trackId % 9)) * 64);
+            var wx = ((trackId % 9) * 3) + 1 + (sectorId >> 5);
+            das.set(wx, das.get(wx) | (0_400000_000000L >> (sectorId & 037)));
+            return new MFDSector(address(sectorIndex), sector(sectorIndex));
+        }
+
+        boolean read(final long deviceTrackId, final ArraySlice buffer) {
+            LockSupport.parkNanos(READ_LATENCY_NANOS);
+            for (int tx = 0; tx < buffer.getSize() / 1792; tx++) {
+                var mfdTrackId = (int)(deviceTrackId + tx - 1);
+                System.arraycopy(_mfdTracks[mfdTrackId], 0, buffer._array, buffer._offset + tx * 1792, 1792);
+            }
+            return true;
+        }
+    }
+
+    private final Pack[] _packs = new Pack[PACK_COUNT];
+
+    private static void populateDAD(
+        final ArraySlice dad,
+        final long fileTrackId,
+        final int ldat,
+        final long deviceTrackId,
+        final long trackCount
+    ) {
+        dad.set(2, fileTrackId * 1792);
+        dad.set(3, (fileTrackId + trackCount) * 1792);
+        dad.set(4, deviceTrackId * 1792);
+        dad.set(5, trackCount * 1792);
+        dad.setH1(6, 04);
+        dad.setH2(6, ldat);
+    }
+
+    private static void catalog(
+        final Pack pack,
+        final String qualifier,
+        final String filename,
+        final int dadCount
+    ) throws ExecStoppedException {
+        var lead = pack.allocateSector();
+        var mainItem0 = pack.allocateSector();
+        mainItem0.getSector().set(013, lead.getAddress().getValue());
+        mainItem0.getSector().setT3(021, 1);
+
+        var fsInfo = new FileSetInfo().setQualifier(qualifier)
+                                      .setFilename(filename)
+                                      .setFileType(FileType.Fixed)
+                                      .setCycleCount(1)
+                                      .setCurrentCycleRange(1)
+                                      .setHighestAbsoluteCycle(1)
+                                      .addCycleInfo(new FileSetCycleInfo().setAbsoluteCycle(1)
+                                                                          .setMainItem0Address(mainItem0.getAddress()));
+        var chain = new LinkedList<MFDSector>();
+        chain.add(lead);
+        fsInfo.populateLeadItemSectors(chain);
+
+        var previous = mainItem0;
+        for (int dx = 0; dx < dadCount; dx++) {
+            var dad = pack.allocateSector();
+            previous.getSector().set(0, (previous == mainItem0 ? 0_200000_000000L : 0) | dad.getAddress().getValue());
+            previous = dad;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws ExecStoppedException {
+        for (int px = 0; px < PACK_COUNT; px++) {
+            _packs[px] = new Pack(px + 1);
+        }
+
+        // MFDF$$ in track 0 of the first pack, with a DAD per pack describing its directory tracks
+        var first = _packs[0];
+        catalog(first, MFD_QUALIFIER, DirectoryRecovery.MFD_FILENAME, PACK_COUNT);
+        var dadIndex = first._nextSector - PACK_COUNT;
+        for (var pack : _packs) {
+            var fileTrackId = new MFDRelativeAddress(pack._ldat, 0, 0).getValue() >> 6;
+            populateDAD(first.sector(dadIndex++), fileTrackId, pack._ldat, 1, MFD_TRACKS_PER_PACK);
+        }
+
+        // Files on every pack, each with one DAD of 4 tracks on the same pack
+        for (var pack : _packs) {
+            for (int fx = 0; fx < FILES_PER_PACK; fx++) {
+                catalog(pack, "QUAL", String.format("F%03d%04d", pack._ldat, fx), 1);
+                var dadIndexForFile = pack._nextSector - 1;
+                populateDAD(pack.sector(dadIndexForFile), 0, pack._ldat, pack._nextDataTrackId, 4);
+                pack._nextDataTrackId += 4;
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void resetFreeSpace() {
+        for (var pack : _packs) {
+            var fs = pack._packInfo.getFreeSpace();
+            fs.reset();
+            fs.markAllocated(0, 1);
+        }
+    }
+
+    @Benchmark
+    public DirectoryRecovery recover() throws DirectoryErrorException, ExecStoppedException {
+        var recovery = new DirectoryRecovery(MFD_QUALIFIER, _threadCount);
+        for (var pack : _packs) {
+            recovery.addPack(pack._packInfo, pack::read);
+        }
+        recovery.recover();
+        return recovery;
+    }
+}
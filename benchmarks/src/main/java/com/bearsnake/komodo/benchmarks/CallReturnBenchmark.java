@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.benchmarks;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.engine.AbsoluteAddress;
+import com.bearsnake.komodo.engine.Constants;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.VirtualAddress;
+import com.bearsnake.komodo.engine.exceptions.EngineHaltedException;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures CALL and RTN between two extended mode banks described in a level 0 bank descriptor table.
+ * The caller is a CALL to the callee followed by a J back to the CALL; the callee is a RTN.
+ * One benchmark operation is one call/return round trip - three instructions through Engine.cycle().
+ * With _cache set to "invalidated" the bank descriptor cache is emptied before each instruction,
+ * so that every CALL and RTN reads its bank descriptor from the table and builds a new base register.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CallReturnBenchmark {
+
+    private static final int CALLER_BDI = 040;
+    private static final int CALLEE_BDI = 041;
+    private static final int CALLER_CODE = 02000;
+    private static final int CALLEE_CODE = 03000;
+    private static final int RCS_SIZE = 0100;
+
+    private static final int LOOP_SIZE = 1024;
+
+    @Param({"cached", "invalidated"})
+    public String _cache;
+
+    private Engine _engine;
+    private boolean _invalidate;
+
+    private static long fjaxhibd(long f, long j, long a, long x, long h, long i, long b, long d) {
+        return ((f & 077) << 30) | ((j & 017) << 26) | ((a & 017) << 22) | ((x & 017) << 18)
+               | ((h & 01) << 17) | ((i & 01) << 16) | ((b & 017) << 12) | (d & 07777);
+    }
+
+    private static long fjaxu(long f, long j, long a, long x, long u) {
+        return ((f & 077) << 30) | ((j & 017) << 26) | ((a & 017) << 22) | ((x & 017) << 18) | (u & 0777777);
+    }
+
+    // extended mode bank with limits 01000 to 01777, enter/read/write for all
+    private static void writeBankDescriptor(
+        final long[] storage,
+        final int bankDescriptorIndex,
+        final int codeOffset
+    ) {
+        var offset = 8 * bankDescriptorIndex;
+        storage[offset] = 0_770000_000000L;
+        storage[offset + 1] = (1L << 27) | 01777;
+        storage[offset + 3] = codeOffset - 01000;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var segment = new long[04000];
+        writeBankDescriptor(segment, CALLER_BDI, CALLER_CODE);
+        writeBankDescriptor(segment, CALLEE_BDI, CALLEE_CODE);
+        segment[CALLER_CODE] = fjaxhibd(0_07, 0_16, 0_13, 0, 0, 0, 1, 0);             // CALL callee
+        segment[CALLER_CODE + 1] = fjaxu(0_74, 0_15, 0_04, 0, 01000);                    // J back to the CALL
+        segment[CALLEE_CODE] = fjaxhibd(0_73, 0_17, 0_03, 0, 0, 0, 0, 0);              // RTN
+
+        var data = new long[]{ VirtualAddress.getCompositeValue(0, CALLEE_BDI, 01000) };
+
+        _engine = new Engine();
+        _engine.enableTraceInstructions(false);
+        _engine.setMainStorage(segx -> (segx == 0) ? new ArraySlice(segment) : null);
+        _engine.getBaseRegister(Constants.BDT_BASE_REGISTER)
+               .setIsLargeBank(false)
+               .setLimitsNormalized(false, 0, 01777)
+               .setBaseAddress(new AbsoluteAddress(0, 0))
+               .setStorage(new ArraySlice(segment, 0, 02000));
+        _engine.getBaseRegister(Constants.RCS_BASE_REGISTER)
+               .setIsLargeBank(false)
+               .setLimitsNormalized(false, 0, RCS_SIZE - 1)
+               .setBaseAddress(null)
+               .setStorage(new ArraySlice(new long[RCS_SIZE]));
+        _engine.getGeneralRegisterSet().setW(Constants.GRS_EX0, RCS_SIZE);
+        _engine.getBaseRegister(0)
+               .setIsLargeBank(false)
+               .setLimitsNormalized(false, 01000, 01777)
+               .setBaseAddress(null)
+               .setStorage(new ArraySlice(segment, CALLER_CODE, 01000));
+        _engine.getBaseRegister(1)
+               .setIsLargeBank(false)
+               .setLimitsNormalized(false, 0, data.length - 1)
+               .setBaseAddress(null)
+               .setStorage(new ArraySlice(data));
+        _engine.getDesignatorRegister()
+               .clear();
+        _engine.getDesignatorRegister()
+               .setBasicModeEnabled(false)
+               .setProcessorPrivilege((short) 3)
+               .setExecRegisterSetSelected(false);
+        _engine.getProgramAddressRegister()
+               .setProgramCounter(01000)
+               .setBankDescriptorIndex(CALLER_BDI)
+               .setBankLevel((short) 0);
+
+        _invalidate = _cache.equals("invalidated");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOP_SIZE)
+    public void callReturn(final Blackhole blackhole) throws EngineHaltedException {
+        for (int cx = 0; cx < 3 * LOOP_SIZE; cx++) {
+            if (_invalidate) {
+                _engine.invalidateBankDescriptorCache();
+            }
+            try {
+                blackhole.consume(_engine.cycle());
+            } catch (MachineInterrupt interrupt) {
+                blackhole.consume(interrupt);
+            }
+        }
+    }
+}
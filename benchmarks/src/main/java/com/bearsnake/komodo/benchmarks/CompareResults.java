@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Compares two JMH result files written with -rf csv, and reports the change in score for each benchmark
+ * which appears in both. Scores are expected to be in time-per-operation modes (as all of ours are),
+ * so a positive change is a regression.
+ *  CompareResults {baseline.csv} {current.csv} [threshold_percent]
+ * Exits with status 1 if any benchmark regressed by more than the threshold (default 10 percent).
+ */
+public class CompareResults {
+
+    private record Result(String unit, double score, double error) {}
+
+    /**
+     * Splits one line of JMH csv output - fields are quoted if they are not numeric, and do not contain quotes.
+     */
+    private static List<String> splitCsv(final String line) {
+        var fields = new ArrayList<String>();
+        var sb = new StringBuilder();
+        var quoted = false;
+        for (int cx = 0; cx < line.length(); cx++) {
+            var ch = line.charAt(cx);
+            if (ch == '"') {
+                quoted = !quoted;
+            } else if ((ch == ',') && !quoted) {
+                fields.add(sb.toString());
+                sb.setLength(0);
+            } else {
+                sb.append(ch);
+            }
+        }
+        fields.add(sb.toString());
+        return fields;
+    }
+
+    /**
+     * Loads a JMH csv result file into a map keyed by benchmark name plus any parameter values
+     */
+    private static LinkedHashMap<String, Result> load(final Path path) throws IOException {
+        var lines = Files.readAllLines(path);
+        var results = new LinkedHashMap<String, Result>();
+        if (lines.isEmpty()) {
+            return results;
+        }
+
+        var header = splitCsv(lines.getFirst());
+        var scoreIndex = header.indexOf("Score");
+        var errorIndex = header.indexOf("Score Error (99.9%)");
+        var unitIndex = header.indexOf("Unit");
+        for (var line : lines.subList(1, lines.size())) {
+            var fields = splitCsv(line);
+            var key = new StringBuilder(fields.getFirst().replace(CompareResults.class.getPackageName() + ".", ""));
+            for (int fx = unitIndex + 1; fx < fields.size(); fx++) {
+                if (!fields.get(fx).isEmpty()) {
+                    key.append(" ").append(header.get(fx).replace("Param: ", "")).append("=").append(fields.get(fx));
+                }
+            }
+
+            var error = (errorIndex < 0) || fields.get(errorIndex).equals("NaN") ? 0.0 : Double.parseDouble(fields.get(errorIndex));
+            results.put(key.toString(), new Result(fields.get(unitIndex), Double.parseDouble(fields.get(scoreIndex)), error));
+        }
+
+        return results;
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if ((args.length < 2) || (args.length > 3)) {
+            IO.println("usage: CompareResults baseline.csv current.csv [threshold_percent]");
+            System.exit(2);
+        }
+
+        var baseline = load(Path.of(args[0]));
+        var current = load(Path.of(args[1]));
+        var threshold = args.length == 3 ? Double.parseDouble(args[2]) : 10.0;
+
+        var regressions = 0;
+        for (var entry : current.entrySet()) {
+            var base = baseline.get(entry.getKey());
+            var now = entry.getValue();
+            if (base == null) {
+                IO.println(String.format("%-70s %12.3f %-6s (new)", entry.getKey(), now.score(), now.unit()));
+                continue;
+            }
+
+            var change = (now.score() - base.score()) * 100.0 / base.score();
+            // Only call it a regression if it is outside the combined error margins as well as over the threshold
+            var significant = Math.abs(now.score() - base.score()) > (now.error() + base.error());
+            var flag = "";
+            if (significant && (change > threshold)) {
+                flag = "REGRESSION";
+                regressions++;
+            } else if (significant && (change < -threshold)) {
+                flag = "improved";
+            }
+
+            IO.println(String.format("%-70s %12.3f -> %12.3f %-6s %+7.1f%% %s",
+                                     entry.getKey(), base.score(), now.score(), now.unit(), change, flag));
+        }
+
+        System.exit(regressions > 0 ? 1 : 0);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.benchmarks;
+
+import com.bearsnake.komodo.engine.Dayclock;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading the dayclock, which each engine's dayclock comparator check does,
+ * against the raw clock sources - System.nanoTime() which it is derived from, and System.currentTimeMillis().
+ * The mode parameter selects the normal rate, or a drifting (fast) rate which costs a shift and an add.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DayclockBenchmark {
+
+    @Param({"NORMAL", "FAST"})
+    public String _mode;
+
+    private Dayclock _dayclock;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        _dayclock = new Dayclock();
+        _dayclock.setMode(Dayclock.Mode.valueOf(_mode));
+    }
+
+    @Benchmark
+    public long dayclockMicros() {
+        return _dayclock.getMicros();
+    }
+
+    @Benchmark
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    @Benchmark
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+}
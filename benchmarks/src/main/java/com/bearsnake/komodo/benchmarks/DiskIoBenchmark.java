@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.benchmarks;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.hardwarelib.IoFunction;
+import com.bearsnake.komodo.hardwarelib.IoStatus;
+import com.bearsnake.komodo.hardwarelib.channels.ChannelIoPacket;
+import com.bearsnake.komodo.hardwarelib.channels.DiskChannel;
+import com.bearsnake.komodo.hardwarelib.channels.TransferFormat;
+import com.bearsnake.komodo.hardwarelib.devices.DiskIoPacket;
+import com.bearsnake.komodo.hardwarelib.devices.FileSystemDiskDevice;
+import com.bearsnake.komodo.hardwarelib.devices.MountInfo;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures FileSystemDiskDevice.performIo() directly (raw 4K blocks), and through DiskChannel.routeIo()
+ * (packed 36-bit words, which adds pack/unpack and buffer management to the device I/O).
+ * The pack lives in a temporary file which is pre-extended so that reads do not measure file growth.
+ * Successive operations walk through the pack so that we are not simply re-reading one cached block.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DiskIoBenchmark {
+
+    private static final int BLOCK_SIZE = 4096;
+    private static final int WORDS_PER_BLOCK = 896;     // 32 28-word sectors, each packed into 128 bytes
+    private static final int PACK_BLOCKS = 4096;        // 16 MB
+
+    @Param({"1", "8"})
+    public int _blocksPerIo;
+
+    private Path _path;
+    private FileSystemDiskDevice _device;
+    private DiskChannel _channel;
+    private DiskIoPacket _devicePacket;
+    private ChannelIoPacket _channelPacket;
+    private int _nextBlock = 0;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        _path = Files.createTempFile("komodo-bench", ".pack");
+        try (var channel = FileChannel.open(_path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(1), (long) PACK_BLOCKS * BLOCK_SIZE - 1);
+        }
+
+        _device = new FileSystemDiskDevice("DISK0", _path.toString(), false);
+        _channel = new DiskChannel("CHDISK");
+        _channel.attach(_device);
+
+        _devicePacket = new DiskIoPacket();
+        _channelPacket = new ChannelIoPacket();
+        _channelPacket.setNodeIdentifier(_device.getNodeIdentifier())
+                      .setFormat(TransferFormat.Packed);
+
+        var words = new long[_blocksPerIo * WORDS_PER_BLOCK];
+        for (int wx = 0; wx < words.length; wx++) {
+            words[wx] = (wx * 0_010203_040506L) & 0_777777_777777L;
+        }
+        _channelPacket.setBuffer(new ArraySlice(words));
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws IOException {
+        var pkt = new DiskIoPacket();
+        pkt.setMountInfo(new MountInfo(_path.toString(), false));
+        pkt.setFunction(IoFunction.Unmount);
+        _device.performIo(pkt);
+        _channel.close();
+        Files.deleteIfExists(_path);
+    }
+
+    private int nextBlockId() {
+        var blockId = _nextBlock;
+        _nextBlock += _blocksPerIo;
+        if (_nextBlock + _blocksPerIo > PACK_BLOCKS) {
+            _nextBlock = 0;
+        }
+        return blockId;
+    }
+
+    private static <T> T check(final IoStatus status, final T result) {
+        if (status != IoStatus.Successful) {
+            throw new IllegalStateException("I/O failed:" + status);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public ByteBuffer deviceRead() {
+        _devicePacket.setBlockId(nextBlockId())
+                     .setBlockCount(_blocksPerIo)
+                     .setFunction(IoFunction.Read);
+        _device.performIo(_devicePacket);
+        return check(_devicePacket.getStatus(), _devicePacket.getBuffer());
+    }
+
+    @Benchmark
+    public ByteBuffer deviceWrite() {
+        var buffer = _devicePacket.getBuffer();
+        if ((buffer == null) || (buffer.capacity() != _blocksPerIo * BLOCK_SIZE)) {
+            buffer = ByteBuffer.allocate(_blocksPerIo * BLOCK_SIZE);
+        }
+        _devicePacket.setBlockId(nextBlockId())
+                     .setBlockCount(_blocksPerIo)
+                     .setBuffer(buffer)
+                     .setFunction(IoFunction.Write);
+        _device.performIo(_devicePacket);
+        return check(_devicePacket.getStatus(), buffer);
+    }
+
+    @Benchmark
+    public ArraySlice channelRead() {
+        _channelPacket.setDeviceWordAddress((long) nextBlockId() * WORDS_PER_BLOCK)
+                      .setIoFunction(IoFunction.Read);
+        _channel.routeIo(_channelPacket);
+        return check(_channelPacket.getIoStatus(), _channelPacket.getBuffer());
+    }
+
+    @Benchmark
+    public ArraySlice channelWrite() {
+        _channelPacket.setDeviceWordAddress((long) nextBlockId() * WORDS_PER_BLOCK)
+                      .setIoFunction(IoFunction.Write);
+        _channel.routeIo(_channelPacket);
+        return check(_channelPacket.getIoStatus(), _channelPacket.getBuffer());
+    }
+}
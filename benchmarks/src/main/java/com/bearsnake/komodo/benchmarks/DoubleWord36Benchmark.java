@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.benchmarks;
+
+import com.bearsnake.komodo.baselib.DoubleWord36;
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.FloatingPointComponents;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicOverflowException;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicUnderflowException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures 72-bit ones-complement arithmetic in DoubleWord36 - add, compare, multiply, divide and shifts -
+ * and the double-precision floating point paths in FloatingPointComponents which sit on top of it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DoubleWord36Benchmark {
+
+    private static final int VALUE_COUNT = 1024;
+
+    private final long[] _values = new long[VALUE_COUNT * 2];
+    private final long[] _floats = new long[VALUE_COUNT * 2];
+    private final long[] _result = new long[2];
+    private final long[] _remainder = new long[2];
+    private final Word36.Flags _flags = new Word36.Flags();
+
+    @Setup(Level.Trial)
+    public void setup() throws CharacteristicOverflowException, CharacteristicUnderflowException {
+        var random = new Random(0_7777);
+        for (int vx = 0; vx < VALUE_COUNT * 2; vx += 2) {
+            _values[vx] = random.nextLong() & Word36.BIT_MASK;
+            _values[vx + 1] = random.nextLong() & Word36.BIT_MASK;
+            var value = (random.nextDouble() - 0.5) * Math.pow(2.0, random.nextInt(200) - 100);
+            new FloatingPointComponents(value).toDoubleWord36(_floats, vx);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT - 1)
+    public void add(final Blackhole blackhole) {
+        for (int vx = 0; vx < (VALUE_COUNT - 1) * 2; vx += 2) {
+            blackhole.consume(DoubleWord36.add(_values, vx, _values, vx + 2, _result, 0));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT - 1)
+    public void subtract(final Blackhole blackhole) {
+        for (int vx = 0; vx < (VALUE_COUNT - 1) * 2; vx += 2) {
+            DoubleWord36.subtract(_values, vx, _values, vx + 2, _result, 0, _flags);
+            blackhole.consume(_flags._carry);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT - 1)
+    public void compare(final Blackhole blackhole) {
+        for (int vx = 0; vx < (VALUE_COUNT - 1) * 2; vx += 2) {
+            blackhole.consume(DoubleWord36.compare(_values[vx], _values[vx + 1], _values[vx + 2], _values[vx + 3]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT - 1)
+    public void multiply(final Blackhole blackhole) {
+        for (int vx = 0; vx < (VALUE_COUNT - 1) * 2; vx += 2) {
+            DoubleWord36.multiply(_values[vx], _values[vx + 3], _result, 0);
+            blackhole.consume(_result[1]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT - 1)
+    public void divide(final Blackhole blackhole) {
+        for (int vx = 0; vx < (VALUE_COUNT - 1) * 2; vx += 2) {
+            _remainder[0] = 0;
+            _remainder[1] = _values[vx + 3] | 1;
+            DoubleWord36.divide(_values, vx, _remainder, 0, _result, 0, _remainder, 0);
+            blackhole.consume(_result[1]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT)
+    public void shiftCircular(final Blackhole blackhole) {
+        for (int vx = 0; vx < VALUE_COUNT * 2; vx += 2) {
+            DoubleWord36.leftShiftCircular(_values[vx], _values[vx + 1], vx % 71, _result);
+            blackhole.consume(_result[0]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT - 1)
+    public void floatingMultiply(final Blackhole blackhole)
+        throws CharacteristicOverflowException, CharacteristicUnderflowException {
+        for (int vx = 0; vx < (VALUE_COUNT - 1) * 2; vx += 2) {
+            var product = new FloatingPointComponents(_floats, vx).multiply(new FloatingPointComponents(_floats, vx + 2));
+            product.toDoubleWord36(_result, 0);
+            blackhole.consume(_result[0]);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.benchmarks;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.exceptions.EngineHaltedException;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.bearsnake.komodo.engine.Constants.*;
+
+/**
+ * Measures Engine.cycle() - instruction fetch, function table dispatch, operand resolution and execution -
+ * over small extended-mode programs representing different instruction mixes.
+ * Each program is a straight-line body which ends with a J back to its first instruction,
+ * so one benchmark operation is one instruction executed (including the J).
+ * Interrupts (jump-history-full, in practice) are discarded as they are raised, as an OS would do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EngineBenchmark {
+
+    private static final int CODE_BANK_LOWER_LIMIT = 0_1000;
+    private static final int DATA_BANK_SIZE = 0_100;
+
+    private static final int LOOP_SIZE = 2048;
+
+    @Param({"load", "loadStore", "logical", "testJump"})
+    public String _mix;
+
+    private Engine _engine;
+
+    private static long fjaxhibd(long f, long j, long a, long x, long h, long i, long b, long d) {
+        return ((f & 077) << 30) | ((j & 017) << 26) | ((a & 017) << 22) | ((x & 017) << 18)
+               | ((h & 01) << 17) | ((i & 01) << 16) | ((b & 017) << 12) | (d & 07777);
+    }
+
+    private static long fjaxu(long f, long j, long a, long x, long u) {
+        return ((f & 077) << 30) | ((j & 017) << 26) | ((a & 017) << 22) | ((x & 017) << 18) | (u & 0777777);
+    }
+
+    // storage reference relative to B1
+    private static long mem(long f, long j, long a, long d) {
+        return fjaxhibd(f, j, a, 0, 0, 0, 1, d);
+    }
+
+    private static long[] body(final String mix) {
+        return switch (mix) {
+            // LA, LX, LR, LNA from storage with assorted partial-word j-fields, plus immediates
+            case "load" -> new long[]{
+                mem(0_10, JFIELD_W, 0, 0),
+                mem(0_10, JFIELD_H1, 1, 1),
+                mem(0_27, JFIELD_W, 2, 2),
+                mem(0_23, JFIELD_W, 3, 3),
+                mem(0_11, JFIELD_W, 4, 4),
+                mem(0_10, JFIELD_Q2, 5, 5),
+                fjaxu(0_10, JFIELD_U, 6, 0, 0_1234),
+                fjaxu(0_27, JFIELD_XU, 7, 0, 0_777000),
+                mem(0_10, JFIELD_S3, 8, 6),
+                mem(0_10, JFIELD_T2, 9, 7),
+            };
+
+            // load/store pairs through A, X and R registers
+            case "loadStore" -> new long[]{
+                mem(0_10, JFIELD_W, 0, 0),
+                mem(0_01, JFIELD_W, 0, 010),
+                mem(0_10, JFIELD_H2, 1, 1),
+                mem(0_01, JFIELD_H1, 1, 011),
+                mem(0_27, JFIELD_W, 2, 2),
+                mem(0_06, JFIELD_W, 2, 012),
+                mem(0_23, JFIELD_W, 3, 3),
+                mem(0_04, JFIELD_W, 3, 013),
+                mem(0_10, JFIELD_Q1, 4, 4),
+                mem(0_01, JFIELD_Q3, 4, 014),
+            };
+
+            // logical operations and single/double shifts
+            case "logical" -> new long[]{
+                mem(0_10, JFIELD_W, 0, 0),
+                mem(0_10, JFIELD_W, 2, 1),
+                fjaxu(0_42, JFIELD_U, 0, 0, 0_707070),
+                fjaxu(0_40, JFIELD_U, 2, 0, 0_070707),
+                mem(0_41, JFIELD_W, 4, 2),
+                mem(0_43, JFIELD_W, 6, 3),
+                fjaxu(0_73, 0_02, 8, 0, 3),
+                fjaxu(0_73, 0_12, 9, 0, 7),
+                fjaxu(0_73, 0_01, 10, 0, 5),
+                fjaxu(0_10, JFIELD_U, 12, 0, 0),
+            };
+
+            // tests which skip (and do not skip), and conditional jumps to the next instruction
+            case "testJump" -> new long[]{
+                fjaxu(0_10, JFIELD_U, 0, 0, 0),
+                mem(0_50, JFIELD_W, 06, 020),               // TZ - zero, skips
+                fjaxu(0_73, 0_14, 0, 0, 0),                 // NOP (skipped)
+                mem(0_50, JFIELD_W, 011, 0),                // TNZ - non-zero, skips
+                fjaxu(0_73, 0_14, 0, 0, 0),                 // NOP (skipped)
+                mem(0_52, JFIELD_W, 0, 1),                  // TE - not equal, does not skip
+                fjaxu(0_74, 0, 0, 0, 0),                    // JZ A0 -> next instruction (patched below)
+                fjaxu(0_74, 1, 0, 0, 0),                    // JNZ A0 - not taken
+                mem(0_50, JFIELD_W, 06, 021),               // TZ - zero, skips
+                fjaxu(0_73, 0_14, 0, 0, 0),                 // NOP (skipped)
+            };
+
+            default -> throw new IllegalArgumentException(mix);
+        };
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var body = body(_mix);
+        var code = new long[body.length + 1];
+        System.arraycopy(body, 0, code, 0, body.length);
+        for (int cx = 0; cx < body.length; cx++) {
+            // conditional jumps (f=074, j=0 or 1) go to the following instruction
+            if ((code[cx] >>> 30) == 0_74) {
+                code[cx] |= CODE_BANK_LOWER_LIMIT + cx + 1;
+            }
+        }
+        code[body.length] = fjaxu(0_74, 0_15, 0_04, 0, CODE_BANK_LOWER_LIMIT);     // J back to the top
+
+        var data = new long[DATA_BANK_SIZE];
+        for (int dx = 0; dx < 020; dx++) {
+            data[dx] = 0_123456_701234L + dx * 0_010101_010101L;
+        }
+
+        _engine = new Engine();
+        _engine.enableTraceInstructions(false);
+        _engine.getBaseRegister(0)
+               .setIsLargeBank(false)
+               .setLimitsNormalized(false, CODE_BANK_LOWER_LIMIT, CODE_BANK_LOWER_LIMIT + code.length - 1)
+               .setBaseAddress(null)
+               .setStorage(new ArraySlice(code));
+        _engine.getBaseRegister(1)
+               .setIsLargeBank(false)
+               .setLimitsNormalized(false, 0, DATA_BANK_SIZE - 1)
+               .setBaseAddress(null)
+               .setStorage(new ArraySlice(data));
+        _engine.getDesignatorRegister()
+               .clear();
+        _engine.getDesignatorRegister()
+               .setBasicModeEnabled(false)
+               .setProcessorPrivilege((short) 3)
+               .setExecRegisterSetSelected(false);
+        _engine.getProgramAddressRegister()
+               .setProgramCounter(CODE_BANK_LOWER_LIMIT)
+               .setBankDescriptorIndex(0_000004)
+               .setBankLevel((short) 0_7);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOP_SIZE)
+    public void cycle(final Blackhole blackhole) throws EngineHaltedException {
+        for (int cx = 0; cx < LOOP_SIZE; cx++) {
+            try {
+                blackhole.consume(_engine.cycle());
+            } catch (MachineInterrupt interrupt) {
+                blackhole.consume(interrupt);
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.benchmarks;
+
+import com.bearsnake.komodo.engine.FloatingPointComponents;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicOverflowException;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicUnderflowException;
+import com.bearsnake.komodo.engine.exceptions.DivideByZeroException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the word-level floating point arithmetic in FloatingPointComponents which backs the floating point
+ * instructions - the host double fast path against the exact path, for single- and double-precision
+ * add, multiply and divide. Operands are drawn from host doubles with short mantissas, which is what
+ * typical floating point code produces and what the fast path is meant for.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FloatingPointBenchmark {
+
+    private static final int VALUE_COUNT = 1024;
+
+    private final long[] _singles = new long[VALUE_COUNT];
+    private final long[] _doubles = new long[VALUE_COUNT * 2];
+    private final long[] _result = new long[2];
+
+    @Setup(Level.Trial)
+    public void setup() throws CharacteristicOverflowException, CharacteristicUnderflowException {
+        var random = new Random(0_7676);
+        for (int vx = 0; vx < VALUE_COUNT; vx++) {
+            var value = (random.nextInt(1 << 20) + 1) * Math.pow(2.0, random.nextInt(40) - 30);
+            if (random.nextBoolean()) {
+                value = -value;
+            }
+            _singles[vx] = new FloatingPointComponents(value).toWord36();
+            new FloatingPointComponents(value).toDoubleWord36(_doubles, vx * 2);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT - 1)
+    public void addSingle(final Blackhole blackhole)
+        throws CharacteristicOverflowException, CharacteristicUnderflowException {
+        for (int vx = 0; vx < VALUE_COUNT - 1; vx++) {
+            blackhole.consume(FloatingPointComponents.addSingle(_singles[vx], _singles[vx + 1]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT - 1)
+    public void addSingleExact(final Blackhole blackhole)
+        throws CharacteristicOverflowException, CharacteristicUnderflowException {
+        for (int vx = 0; vx < VALUE_COUNT - 1; vx++) {
+            blackhole.consume(FloatingPointComponents.addSingleExact(_singles[vx], _singles[vx + 1]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT - 1)
+    public void multiplySingle(final Blackhole blackhole)
+        throws CharacteristicOverflowException, CharacteristicUnderflowException {
+        for (int vx = 0; vx < VALUE_COUNT - 1; vx++) {
+            blackhole.consume(FloatingPointComponents.multiplySingle(_singles[vx], _singles[vx + 1]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT - 1)
+    public void multiplySingleExact(final Blackhole blackhole)
+        throws CharacteristicOverflowException, CharacteristicUnderflowException {
+        for (int vx = 0; vx < VALUE_COUNT - 1; vx++) {
+            blackhole.consume(FloatingPointComponents.multiplySingleExact(_singles[vx], _singles[vx + 1]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT - 1)
+    public void divideSingle(final Blackhole blackhole)
+        throws CharacteristicOverflowException, CharacteristicUnderflowException, DivideByZeroException {
+        for (int vx = 0; vx < VALUE_COUNT - 1; vx++) {
+            blackhole.consume(FloatingPointComponents.divideSingle(_singles[vx], _singles[vx + 1]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT - 1)
+    public void divideSingleExact(final Blackhole blackhole)
+        throws CharacteristicOverflowException, CharacteristicUnderflowException, DivideByZeroException {
+        for (int vx = 0; vx < VALUE_COUNT - 1; vx++) {
+            blackhole.consume(FloatingPointComponents.divideSingleExact(_singles[vx], _singles[vx + 1]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT - 1)
+    public void addDouble(final Blackhole blackhole)
+        throws CharacteristicOverflowException, CharacteristicUnderflowException {
+        for (int vx = 0; vx < (VALUE_COUNT - 1) * 2; vx += 2) {
+            FloatingPointComponents.addDouble(_doubles, vx, _doubles, vx + 2, _result, 0);
+            blackhole.consume(_result[0]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT - 1)
+    public void addDoubleExact(final Blackhole blackhole)
+        throws CharacteristicOverflowException, CharacteristicUnderflowException {
+        for (int vx = 0; vx < (VALUE_COUNT - 1) * 2; vx += 2) {
+            FloatingPointComponents.addDoubleExact(_doubles, vx, _doubles, vx + 2, _result, 0);
+            blackhole.consume(_result[0]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT - 1)
+    public void multiplyDouble(final Blackhole blackhole)
+        throws CharacteristicOverflowException, CharacteristicUnderflowException {
+        for (int vx = 0; vx < (VALUE_COUNT - 1) * 2; vx += 2) {
+            FloatingPointComponents.multiplyDouble(_doubles, vx, _doubles, vx + 2, _result, 0);
+            blackhole.consume(_result[0]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT - 1)
+    public void multiplyDoubleExact(final Blackhole blackhole)
+        throws CharacteristicOverflowException, CharacteristicUnderflowException {
+        for (int vx = 0; vx < (VALUE_COUNT - 1) * 2; vx += 2) {
+            FloatingPointComponents.multiplyDoubleExact(_doubles, vx, _doubles, vx + 2, _result, 0);
+            blackhole.consume(_result[0]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT - 1)
+    public void divideDouble(final Blackhole blackhole)
+        throws CharacteristicOverflowException, CharacteristicUnderflowException, DivideByZeroException {
+        for (int vx = 0; vx < (VALUE_COUNT - 1) * 2; vx += 2) {
+            FloatingPointComponents.divideDouble(_doubles, vx, _doubles, vx + 2, _result, 0);
+            blackhole.consume(_result[0]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT - 1)
+    public void divideDoubleExact(final Blackhole blackhole)
+        throws CharacteristicOverflowException, CharacteristicUnderflowException, DivideByZeroException {
+        for (int vx = 0; vx < (VALUE_COUNT - 1) * 2; vx += 2) {
+            FloatingPointComponents.divideDoubleExact(_doubles, vx, _doubles, vx + 2, _result, 0);
+            blackhole.consume(_result[0]);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.benchmarks;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.GeneralRegisterSet;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.bearsnake.komodo.engine.Constants.*;
+
+/**
+ * Measures GRS traffic of the sort generated by operand address development and the load/store/test functions -
+ * index modifier reads with increment, and A register loads and stores - once through the Register view objects
+ * (as used by less critical code), and once through the indexed accessors on the GRS (as used by the engine hot paths).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneralRegisterSetBenchmark {
+
+    private static final int LOOP_SIZE = 1024;
+
+    private GeneralRegisterSet _grs;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        _grs = new GeneralRegisterSet();
+        for (int rx = 1; rx < 16; rx++) {
+            _grs.setRegister(GRS_X0 + rx, 0_000001_001000L);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOP_SIZE)
+    public void indexViaRegister(final Blackhole blackhole) {
+        for (int lx = 0; lx < LOOP_SIZE; lx++) {
+            var xReg = _grs.getRegister(GRS_X0 + 1 + (lx & 0_17) % 15);
+            blackhole.consume(xReg.getXM());
+            xReg.incrementModifier18();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOP_SIZE)
+    public void loadStoreViaRegister(final Blackhole blackhole) {
+        for (int lx = 0; lx < LOOP_SIZE; lx++) {
+            var ax = GRS_A0 + (lx & 0_17);
+            var value = _grs.getRegister(ax).getW();
+            _grs.getRegister(ax ^ 1).setW(value + 1);
+            blackhole.consume(_grs.getRegister(ax).isZero());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOP_SIZE)
+    public void indexViaGRS(final Blackhole blackhole) {
+        for (int lx = 0; lx < LOOP_SIZE; lx++) {
+            var xx = GRS_X0 + 1 + (lx & 0_17) % 15;
+            blackhole.consume(_grs.getXM(xx));
+            _grs.incrementModifier18(xx);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOP_SIZE)
+    public void loadStoreViaGRS(final Blackhole blackhole) {
+        for (int lx = 0; lx < LOOP_SIZE; lx++) {
+            var ax = GRS_A0 + (lx & 0_17);
+            var value = _grs.getW(ax);
+            _grs.setW(ax ^ 1, value + 1);
+            blackhole.consume(Word36.isZero(_grs.getW(ax)));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.benchmarks;
+
+import com.bearsnake.komodo.kexec.exceptions.FileSetDoesNotExistException;
+import com.bearsnake.komodo.kexec.exec.Exec;
+import com.bearsnake.komodo.kexec.mfd.FileSetInfo;
+import com.bearsnake.komodo.kexec.mfd.FileType;
+import com.bearsnake.komodo.kexec.mfd.MFDManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures MFD lead item lookups by qualifier and filename, for catalogs of various sizes,
+ * for both cataloged and non-existent files (the latter being the common case for @CAT and for ASG,C).
+ * Populating a real MFD requires initialized mass storage, so the lookup table is loaded directly
+ * with FileSetInfo objects - this measures the lookup path, not MFD sector allocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MFDLookupBenchmark {
+
+    @Param({"100", "10000"})
+    public int _catalogSize;
+
+    private MFDManager _mfdManager;
+    private String[] _qualifiers;
+    private String[] _filenames;
+    private int _next = 0;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() throws ReflectiveOperationException {
+        new Exec(new boolean[36]);
+        _mfdManager = Exec.getInstance().getMFDManager();
+
+        var field = MFDManager.class.getDeclaredField("_leadItemLookupTable");
+        field.setAccessible(true);
+        var table = (HashMap<String, FileSetInfo>) field.get(_mfdManager);
+
+        _qualifiers = new String[_catalogSize];
+        _filenames = new String[_catalogSize];
+        for (int fx = 0; fx < _catalogSize; fx++) {
+            _qualifiers[fx] = String.format("QUAL%03d", fx % 200);
+            _filenames[fx] = String.format("FILE%06d", fx);
+            var fsInfo = new FileSetInfo().setQualifier(_qualifiers[fx])
+                                          .setFilename(_filenames[fx])
+                                          .setFileType(FileType.Fixed)
+                                          .setCycleCount(1);
+            table.put(_qualifiers[fx] + "*" + _filenames[fx], fsInfo);
+        }
+    }
+
+    private int nextIndex() {
+        var index = _next++;
+        if (_next == _catalogSize) {
+            _next = 0;
+        }
+        return index;
+    }
+
+    @Benchmark
+    public FileSetInfo lookupExisting() throws FileSetDoesNotExistException {
+        var fx = nextIndex();
+        return _mfdManager.getFileSetInfo(_qualifiers[fx], _filenames[fx]);
+    }
+
+    @Benchmark
+    public Object lookupMissing() {
+        var fx = nextIndex();
+        try {
+            return _mfdManager.getFileSetInfo(_qualifiers[fx], "MISSING");
+        } catch (FileSetDoesNotExistException ex) {
+            return ex;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.benchmarks;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.engine.AbsoluteAddress;
+import com.bearsnake.komodo.engine.AccessPermissions;
+import com.bearsnake.komodo.engine.BankDescriptor;
+import com.bearsnake.komodo.engine.BankType;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.exceptions.EngineHaltedException;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures ENQ and DEQ throughput with several engines, each on its own thread, sharing one queue header.
+ * Two producer engines and two consumer engines run concurrently; one benchmark operation is one instruction
+ * through Engine.cycle(). Each producer cycles through its own set of queue banks, so that a bank is normally
+ * off the queue again by the time it is re-enqueued. An ENQ which is interrupted (full queue, or a bank still
+ * on the queue) or a DEQ from an empty queue still counts as one operation, so the queue and the sets of banks
+ * are made large enough that this is rare.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueueingBenchmark {
+
+    private static final int CODE_BANK_LOWER_LIMIT = 0_1000;
+    private static final int MAXIMUM_COUNT = 4096;
+    private static final int PRODUCERS = 2;
+    private static final int BANKS_PER_PRODUCER = 4 * MAXIMUM_COUNT;
+
+    // the level 0 bank descriptor table, with the queue banks from BDI 32, all sharing one word of storage
+    private static final int FIRST_QUEUE_BANK = 32;
+    private static final int BDT_SIZE = (FIRST_QUEUE_BANK + PRODUCERS * BANKS_PER_PRODUCER) * BankDescriptor.SIZE;
+
+    private long[] _segment;
+    private long[] _data;
+    private final AtomicInteger _nextProducer = new AtomicInteger();
+
+    private static long fjaxhibd(long f, long j, long a, long x, long h, long i, long b, long d) {
+        return ((f & 077) << 30) | ((j & 017) << 26) | ((a & 017) << 22) | ((x & 017) << 18)
+               | ((h & 01) << 17) | ((i & 01) << 16) | ((b & 017) << 12) | (d & 07777);
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        _segment = new long[BDT_SIZE + 1];
+        for (int bdi = FIRST_QUEUE_BANK; bdi < FIRST_QUEUE_BANK + PRODUCERS * BANKS_PER_PRODUCER; bdi++) {
+            var bd = new BankDescriptor().setBankType(BankType.Queue)
+                                         .setInactive(false)
+                                         .setBaseAddress(new AbsoluteAddress(0, BDT_SIZE))
+                                         .setGeneralAccessPermissions(new AccessPermissions(false, true, true));
+            var buffer = new long[6];
+            bd.serialize(buffer);
+            System.arraycopy(buffer, 0, _segment, bdi * BankDescriptor.SIZE, buffer.length);
+        }
+
+        // queue header at B1 relative 0
+        _data = new long[3];
+        _data[1] = MAXIMUM_COUNT;
+        _nextProducer.set(0);
+    }
+
+    /**
+     * One engine, running a single queueing instruction against the shared queue
+     */
+    @State(Scope.Thread)
+    public static class EngineState {
+
+        protected Engine _engine;
+
+        protected void setup(
+            final QueueingBenchmark shared,
+            final long instruction
+        ) {
+            var code = new long[]{ instruction };
+            _engine = new Engine();
+            _engine.enableTraceInstructions(false);
+            _engine.setMainStorage(segx -> (segx == 0) ? new ArraySlice(shared._segment) : null);
+            _engine.getBaseRegister(0)
+                   .setIsLargeBank(false)
+                   .setLimitsNormalized(false, CODE_BANK_LOWER_LIMIT, CODE_BANK_LOWER_LIMIT + code.length - 1)
+                   .setBaseAddress(null)
+                   .setStorage(new ArraySlice(code));
+            _engine.getBaseRegister(1)
+                   .setIsLargeBank(false)
+                   .setLimitsNormalized(false, 0, shared._data.length - 1)
+                   .setBaseAddress(null)
+                   .setStorage(new ArraySlice(shared._data));
+            _engine.getBaseRegister(16)
+                   .setIsLargeBank(false)
+                   .setLimitsNormalized(false, 0, BDT_SIZE - 1)
+                   .setBaseAddress(new AbsoluteAddress(0, 0))
+                   .setStorage(new ArraySlice(shared._segment, 0, BDT_SIZE));
+            _engine.getDesignatorRegister()
+                   .clear();
+            _engine.getDesignatorRegister()
+                   .setBasicModeEnabled(false)
+                   .setProcessorPrivilege((short) 3)
+                   .setExecRegisterSetSelected(false);
+            _engine.getProgramAddressRegister()
+                   .setBankDescriptorIndex(0_000004)
+                   .setBankLevel((short) 0_7);
+        }
+
+        protected long execute() throws EngineHaltedException {
+            _engine.getProgramAddressRegister().setProgramCounter(CODE_BANK_LOWER_LIMIT);
+            try {
+                while (!_engine.cycle()) {
+                    // an interrupted instruction leaves the interrupt pending for the next cycle
+                }
+            } catch (MachineInterrupt ex) {
+                // full queue, or the bank is still on the queue
+            }
+            return _engine.getExecOrUserARegisterValue(1);
+        }
+    }
+
+    public static class ProducerState extends EngineState {
+
+        private int _firstBank;
+        private int _bankIndex;
+
+        @Setup(Level.Iteration)
+        public void setup(final QueueingBenchmark shared) {
+            // ENQ A1,0,,B1
+            setup(shared, fjaxhibd(0_37, 0_10, 1, 0, 0, 0, 1, 0));
+            _firstBank = FIRST_QUEUE_BANK + shared._nextProducer.getAndIncrement() * BANKS_PER_PRODUCER;
+            _bankIndex = 0;
+        }
+
+        @Override
+        protected long execute() throws EngineHaltedException {
+            _engine.setExecOrUserARegisterValue(1, (long) (_firstBank + _bankIndex) << 18);
+            _bankIndex = (_bankIndex + 1) % BANKS_PER_PRODUCER;
+            return super.execute();
+        }
+    }
+
+    public static class ConsumerState extends EngineState {
+
+        @Setup(Level.Iteration)
+        public void setup(final QueueingBenchmark shared) {
+            // DEQ A1,0,,B1
+            setup(shared, fjaxhibd(0_37, 0_12, 1, 0, 0, 0, 1, 0));
+        }
+    }
+
+    @Benchmark
+    @Group("queue")
+    @GroupThreads(PRODUCERS)
+    public long enqueue(final ProducerState producer) throws EngineHaltedException {
+        return producer.execute();
+    }
+
+    @Benchmark
+    @Group("queue")
+    @GroupThreads(2)
+    public long dequeue(final ConsumerState consumer) throws EngineHaltedException {
+        return consumer.execute();
+    }
+}
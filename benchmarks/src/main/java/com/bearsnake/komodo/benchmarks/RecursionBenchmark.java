@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.benchmarks;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.engine.AbsoluteAddress;
+import com.bearsnake.komodo.engine.Constants;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.VirtualAddress;
+import com.bearsnake.komodo.engine.exceptions.EngineHaltedException;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures deep recursion through the return control stack - a procedure which CALLs itself _depth times,
+ * after which every level executes RTN. With _frames set to "rcsAndStack", each level also BUYs a frame
+ * on a generic stack on entry and SELLs it before returning.
+ * One benchmark operation is one complete recursion, from the initial CALL to the final RTN.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecursionBenchmark {
+
+    private static final int CODE_BDI = 040;
+    private static final int CODE_OFFSET = 02000;
+    private static final int MAIN_LOOP = 01000;
+    private static final int RETURN_POINT = 01002;
+    private static final int PROCEDURE = 01003;
+    private static final int STACK_FRAME_SIZE = 010;
+
+    @Param({"16", "256", "4096"})
+    public int _depth;
+
+    @Param({"rcs", "rcsAndStack"})
+    public String _frames;
+
+    private Engine _engine;
+
+    private static long fjaxhibd(long f, long j, long a, long x, long h, long i, long b, long d) {
+        return ((f & 077) << 30) | ((j & 017) << 26) | ((a & 017) << 22) | ((x & 017) << 18)
+               | ((h & 01) << 17) | ((i & 01) << 16) | ((b & 017) << 12) | (d & 07777);
+    }
+
+    private static long fjaxu(long f, long j, long a, long x, long u) {
+        return ((f & 077) << 30) | ((j & 017) << 26) | ((a & 017) << 22) | ((x & 017) << 18) | (u & 0777777);
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var stackFrames = _frames.equals("rcsAndStack");
+        var segment = new long[04000];
+        segment[8 * CODE_BDI] = 0_770000_000000L;
+        segment[8 * CODE_BDI + 1] = (1L << 27) | 01777;
+        segment[8 * CODE_BDI + 3] = CODE_OFFSET - 01000;
+
+        var call = fjaxhibd(0_07, 0_16, 0_13, 0, 0, 0, 1, 0);
+        var code = stackFrames
+            ? new long[]{
+                fjaxu(0_10, 0_16, 1, 0, _depth),                        // LA,U A1,depth
+                call,                                                   // CALL procedure
+                fjaxu(0_74, 0_15, 0_04, 0, MAIN_LOOP),                  // J back to the top
+                fjaxhibd(0_75, 0_16, 5, 0, 0, 0, 2, STACK_FRAME_SIZE),  // BUY X5,frame,,B2
+                fjaxu(0_74, 0, 1, 0, PROCEDURE + 4),                    // JZ A1,SELL
+                fjaxu(0_15, 0_16, 1, 0, 1),                             // ANA,U A1,1
+                call,                                                   // CALL procedure
+                fjaxhibd(0_75, 0_17, 5, 0, 0, 0, 2, STACK_FRAME_SIZE),  // SELL X5,frame,,B2
+                fjaxhibd(0_73, 0_17, 0_03, 0, 0, 0, 0, 0),              // RTN
+            }
+            : new long[]{
+                fjaxu(0_10, 0_16, 1, 0, _depth),                        // LA,U A1,depth
+                call,                                                   // CALL procedure
+                fjaxu(0_74, 0_15, 0_04, 0, MAIN_LOOP),                  // J back to the top
+                fjaxu(0_74, 0, 1, 0, PROCEDURE + 3),                    // JZ A1,RTN
+                fjaxu(0_15, 0_16, 1, 0, 1),                             // ANA,U A1,1
+                call,                                                   // CALL procedure
+                fjaxhibd(0_73, 0_17, 0_03, 0, 0, 0, 0, 0),              // RTN
+            };
+        System.arraycopy(code, 0, segment, CODE_OFFSET, code.length);
+
+        var data = new long[]{ VirtualAddress.getCompositeValue(0, CODE_BDI, PROCEDURE) };
+        var rcsSize = 2 * (_depth + 1);
+        var stackSize = STACK_FRAME_SIZE * (_depth + 1);
+
+        _engine = new Engine();
+        _engine.enableTraceInstructions(false);
+        _engine.setMainStorage(segx -> (segx == 0) ? new ArraySlice(segment) : null);
+        _engine.getBaseRegister(Constants.BDT_BASE_REGISTER)
+               .setIsLargeBank(false)
+               .setLimitsNormalized(false, 0, 01777)
+               .setBaseAddress(new AbsoluteAddress(0, 0))
+               .setStorage(new ArraySlice(segment, 0, 02000));
+        _engine.getBaseRegister(Constants.RCS_BASE_REGISTER)
+               .setIsLargeBank(false)
+               .setLimitsNormalized(false, 0, rcsSize - 1)
+               .setBaseAddress(null)
+               .setStorage(new ArraySlice(new long[rcsSize]));
+        _engine.getGeneralRegisterSet().setW(Constants.GRS_EX0, rcsSize);
+        _engine.getBaseRegister(0)
+               .setIsLargeBank(false)
+               .setLimitsNormalized(false, 01000, 01777)
+               .setBaseAddress(null)
+               .setStorage(new ArraySlice(segment, CODE_OFFSET, 01000));
+        _engine.getBaseRegister(1)
+               .setIsLargeBank(false)
+               .setLimitsNormalized(false, 0, data.length - 1)
+               .setBaseAddress(null)
+               .setStorage(new ArraySlice(data));
+        _engine.getBaseRegister(2)
+               .setIsLargeBank(false)
+               .setLimitsNormalized(false, 0, stackSize - 1)
+               .setBaseAddress(null)
+               .setStorage(new ArraySlice(new long[stackSize]));
+        _engine.getDesignatorRegister()
+               .clear();
+        _engine.getDesignatorRegister()
+               .setBasicModeEnabled(false)
+               .setProcessorPrivilege((short) 3)
+               .setExecRegisterSetSelected(false);
+        _engine.setExecOrUserXRegisterValue(5, stackSize);
+        _engine.getProgramAddressRegister()
+               .setProgramCounter(RETURN_POINT)
+               .setBankDescriptorIndex(CODE_BDI)
+               .setBankLevel((short) 0);
+    }
+
+    @Benchmark
+    public void recurse(final Blackhole blackhole) throws EngineHaltedException {
+        // from the J at the return point, around the loop, until the outermost RTN lands on the return point again
+        var par = _engine.getProgramAddressRegister();
+        do {
+            try {
+                blackhole.consume(_engine.cycle());
+            } catch (MachineInterrupt interrupt) {
+                blackhole.consume(interrupt);
+            }
+        } while (par.getProgramCounter() != RETURN_POINT);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.benchmarks;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.hardwarelib.IoFunction;
+import com.bearsnake.komodo.hardwarelib.IoStatus;
+import com.bearsnake.komodo.hardwarelib.channels.ChannelIoPacket;
+import com.bearsnake.komodo.hardwarelib.channels.SymbiontChannel;
+import com.bearsnake.komodo.hardwarelib.channels.TransferFormat;
+import com.bearsnake.komodo.hardwarelib.devices.FileSystemCardReaderDevice;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading a card deck from a FileSystemCardReaderDevice through a SymbiontChannel,
+ * one image per IO (Read) and many images per IO (ReadBatch).
+ * The reader deletes each deck once it has been read, so every invocation gets a fresh deck and reader.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SymbiontChannelBenchmark {
+
+    private static final int CARD_COUNT = 10000;
+    private static final int BATCH_IMAGES = 64;
+
+    @Param({"false", "true"})
+    public boolean _batched;
+
+    private LinkedList<String> _deck;
+    private Path _directory;
+    private SymbiontChannel _channel;
+    private ChannelIoPacket _packet;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        _deck = new LinkedList<>();
+        _deck.add("@RUN DECK,ACCT,PROJ");
+        for (int cx = 1; cx < CARD_COUNT - 1; cx++) {
+            _deck.add(String.format("CARD %06d %s", cx, "ABCDEFGHIJKLMNOPQRSTUVWXYZ".substring(0, cx % 27)));
+        }
+        _deck.add("@FIN");
+        _directory = Files.createTempDirectory("symbiont");
+    }
+
+    @Setup(Level.Invocation)
+    public void setupDeck() throws IOException {
+        var inputPath = _directory.resolve("input");
+        Files.createDirectories(inputPath);
+        Files.write(inputPath.resolve("deck.txt"), _deck);
+
+        _channel = new SymbiontChannel("CHSYM");
+        var reader = new FileSystemCardReaderDevice("CR0", inputPath.toString());
+        _channel.attach(reader);
+        reader.probe();
+
+        var bufferSize = _batched ? BATCH_IMAGES * (1 + SymbiontChannel.MAX_IMAGE_WORDS) : SymbiontChannel.MAX_IMAGE_WORDS;
+        _packet = new ChannelIoPacket().setNodeIdentifier(reader.getNodeIdentifier())
+                                       .setIoFunction(_batched ? IoFunction.ReadBatch : IoFunction.Read)
+                                       .setFormat(TransferFormat.QuarterWord)
+                                       .setBuffer(new ArraySlice(new long[bufferSize]));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (var paths = Files.walk(_directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public int readDeck() {
+        var ioCount = 0;
+        do {
+            _channel.routeIo(_packet);
+            ioCount++;
+        } while (_packet.getIoStatus() == IoStatus.Successful);
+        return ioCount;
+    }
+}
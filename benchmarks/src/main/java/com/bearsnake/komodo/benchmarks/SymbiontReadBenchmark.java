@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.benchmarks;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.hardwarelib.IoFunction;
+import com.bearsnake.komodo.hardwarelib.devices.FileSystemPrinterDevice;
+import com.bearsnake.komodo.hardwarelib.devices.SymbiontIoPacket;
+import com.bearsnake.komodo.kexec.exceptions.EndOfFileException;
+import com.bearsnake.komodo.kexec.exceptions.ExecIOException;
+import com.bearsnake.komodo.kexec.exceptions.ExecStoppedException;
+import com.bearsnake.komodo.kexec.exec.Exec;
+import com.bearsnake.komodo.kexec.symbionts.SymbiontFileReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Measures printing an SDF file through SymbiontFileReader to a FileSystemPrinterDevice,
+ * with no read-ahead and with the default read-ahead. The file lives in memory, and each block read
+ * waits for a simulated disk latency before copying, so that we measure how much of the disk wait
+ * is hidden behind the printing.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SymbiontReadBenchmark {
+
+    private static final int IMAGE_COUNT = 20000;
+    private static final int BUFFER_SIZE = 224;
+    private static final long READ_LATENCY_NANOS = 100_000;
+
+    @Param({"0", "2"})
+    public int _readAheadBlocks;
+
+    private long[] _file;
+    private Path _directory;
+    private FileSystemPrinterDevice _printer;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        new Exec(new boolean[36]);
+
+        var words = new LinkedList<Long>();
+        words.add(0_500116_000001L);
+        words.add(Word36.stringToWordFieldata("*SDFF*"));
+        for (int ix = 0; ix < IMAGE_COUNT; ix++) {
+            var text = String.format("LINE %06d %s", ix, "*".repeat(ix % 97));
+            var data = ArraySlice.stringToWord36ASCII(text)._array;
+            words.add(((long) data.length << 24) | (1L << 12) | 01);
+            for (var w : data) {
+                words.add(w);
+            }
+        }
+        words.add(0_770000_000000L);
+
+        _file = new long[((words.size() + 27) / 28) * 28];
+        int wx = 0;
+        for (var w : words) {
+            _file[wx++] = w;
+        }
+
+        _directory = Files.createTempDirectory("kexec-print");
+        _printer = new FileSystemPrinterDevice("PRTBM", _directory.toString());
+        _printer.setIsReady(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        _printer.close();
+        try (var files = Files.list(_directory)) {
+            for (var path : files.toList()) {
+                Files.delete(path);
+            }
+        }
+        Files.delete(_directory);
+    }
+
+    private void read(final long sectorAddress, final ArraySlice buffer) {
+        LockSupport.parkNanos(READ_LATENCY_NANOS);
+        System.arraycopy(_file, (int)(sectorAddress * 28), buffer._array, buffer._offset, buffer.getSize());
+    }
+
+    @Benchmark
+    public int print() throws ExecStoppedException, ExecIOException {
+        var packet = new SymbiontIoPacket().setMediaIdentifier("BENCH");
+        packet.setFunction(IoFunction.StartFile);
+        _printer.performIo(packet);
+
+        var reader = new SymbiontFileReader(this::read, 0, _file.length / 28, BUFFER_SIZE, _readAheadBlocks);
+        var lineCount = 0;
+        try {
+            while (true) {
+                var image = reader.readImage();
+                packet.setBuffer(ByteBuffer.wrap(image.getBytes())).setSpacing(1);
+                packet.setFunction(IoFunction.Write);
+                _printer.performIo(packet);
+                lineCount++;
+            }
+        } catch (EndOfFileException ex) {
+            // done
+        }
+
+        packet.setFunction(IoFunction.WriteEndOfFile);
+        _printer.performIo(packet);
+        return lineCount;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.benchmarks;
+
+import com.bearsnake.komodo.hardwarelib.IoFunction;
+import com.bearsnake.komodo.hardwarelib.IoStatus;
+import com.bearsnake.komodo.hardwarelib.devices.FileSystemTapeDevice;
+import com.bearsnake.komodo.hardwarelib.devices.MountInfo;
+import com.bearsnake.komodo.hardwarelib.devices.TapeIoPacket;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Measures FileSystemTapeDevice over a native-format image of 16 files of 4000 1024-byte blocks:
+ *      reading the whole image through the device, against reading it a control word at a time
+ *          (one system call for each control word and one for the data, the way the device used to)
+ *      spacing forward to a file and back one file from load point, against a freshly-mounted device
+ *          which has to build its index on the first search
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TapeDeviceBenchmark {
+
+    private static final int FILE_COUNT = 16;
+    private static final int BLOCKS_PER_FILE = 4000;
+    private static final int BLOCK_SIZE = 1024;
+
+    private Path _directory;
+    private Path _tapePath;
+    private FileSystemTapeDevice _device;
+    private int _searchCount = 0;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        _directory = Files.createTempDirectory("tape");
+        _tapePath = _directory.resolve("volume.tape");
+        var block = new byte[BLOCK_SIZE];
+        try (var out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(_tapePath.toFile()), 1024 * 1024))) {
+            for (int fx = 0; fx < FILE_COUNT; fx++) {
+                for (int bx = 0; bx < BLOCKS_PER_FILE; bx++) {
+                    out.writeInt(BLOCK_SIZE);
+                    out.write(block);
+                    out.writeInt(BLOCK_SIZE);
+                }
+                out.writeInt(-1);
+            }
+        }
+        _device = mount();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        _device.close();
+        Files.deleteIfExists(_tapePath);
+        Files.deleteIfExists(_directory);
+    }
+
+    private FileSystemTapeDevice mount() {
+        var device = new FileSystemTapeDevice("TAPE0");
+        var packet = new TapeIoPacket();
+        packet.setMountInfo(new MountInfo(_tapePath.toString(), true)).setFunction(IoFunction.Mount);
+        device.performIo(packet);
+        return device;
+    }
+
+    private static IoStatus io(
+        final FileSystemTapeDevice device,
+        final IoFunction function,
+        final int fileCount
+    ) {
+        var packet = new TapeIoPacket().setFileCount(fileCount);
+        packet.setFunction(function);
+        device.performIo(packet);
+        return packet.getStatus();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int readUnbuffered() throws IOException {
+        var blocks = 0;
+        try (var channel = FileChannel.open(_tapePath, READ)) {
+            var cwBuffer = ByteBuffer.allocate(4);
+            while (true) {
+                cwBuffer.clear();
+                if (channel.read(cwBuffer) < 4) {
+                    return blocks;
+                }
+                var cw = cwBuffer.getInt(0);
+                if (cw != -1) {
+                    var data = ByteBuffer.allocate(cw);
+                    channel.read(data);
+                    cwBuffer.clear();
+                    channel.read(cwBuffer);
+                    blocks++;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int readDevice() {
+        io(_device, IoFunction.Rewind, 0);
+        var blocks = 0;
+        while (true) {
+            var status = io(_device, IoFunction.Read, 0);
+            if (status == IoStatus.Successful) {
+                blocks++;
+            } else if (status != IoStatus.EndOfFile) {
+                return blocks;
+            }
+        }
+    }
+
+    @Benchmark
+    public IoStatus searchFirst() {
+        var device = mount();
+        var status = io(device, IoFunction.MoveForward, FILE_COUNT - 1);
+        device.close();
+        return status;
+    }
+
+    @Benchmark
+    public IoStatus searchIndexed() {
+        io(_device, IoFunction.Rewind, 0);
+        io(_device, IoFunction.MoveForward, 1 + _searchCount++ % (FILE_COUNT - 1));
+        return io(_device, IoFunction.MoveBackward, 1);
+    }
+}
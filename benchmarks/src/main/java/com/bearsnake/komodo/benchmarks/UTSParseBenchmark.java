@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.benchmarks;
+
+import com.bearsnake.komodo.utslib.UTSByteBuffer;
+import com.bearsnake.komodo.utslib.UTSByteReader;
+import com.bearsnake.komodo.utslib.exceptions.UTSException;
+import com.bearsnake.komodo.utslib.fields.FieldAttributes;
+import com.bearsnake.komodo.utslib.fields.Intensity;
+import com.bearsnake.komodo.utslib.fields.UTSColor;
+import com.bearsnake.komodo.utslib.primitives.CursorPositionPrimitive;
+import com.bearsnake.komodo.utslib.primitives.FCCSequencePrimitive;
+import com.bearsnake.komodo.utslib.primitives.Primitive;
+import com.bearsnake.komodo.utslib.primitives.PrimitiveParser;
+import com.bearsnake.komodo.utslib.primitives.PrimitiveType;
+import com.bearsnake.komodo.utslib.primitives.PrimitiveVisitor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding of a full-screen UTS host message - a protected label and a filled-in data field
+ * on every row - by PrimitiveParser in place, against Primitive.deserializePrimitive one element at a time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UTSParseBenchmark {
+
+    /**
+     * Counts what it is given, without allocating
+     */
+    private static class CountingVisitor implements PrimitiveVisitor {
+
+        long _count;
+
+        @Override public void visitPrimitive(final PrimitiveType type) { _count++; }
+        @Override public void visitCharacter(final byte ch) { _count++; }
+        @Override public void visitCreateEmphasis(final byte code) { _count++; }
+        @Override public void visitCursorPosition(final int row, final int column) { _count++; }
+        @Override public void visitFCCSequence(final int row, final int column, final FieldAttributes attributes) { _count++; }
+        @Override public void visitImmediateFCCSequence(final FieldAttributes attributes) { _count++; }
+        @Override public void visitPutCharacter(final PrimitiveType type, final byte value) { _count++; }
+    }
+
+    @Param({"24x80", "48x132"})
+    public String _geometry;
+
+    private byte[] _stream;
+    private final UTSByteReader _reader = new UTSByteReader(8192, false);
+    private final PrimitiveParser _parser = new PrimitiveParser();
+    private final CountingVisitor _visitor = new CountingVisitor();
+
+    @Setup(Level.Trial)
+    public void setup() throws UTSException {
+        var dims = _geometry.split("x");
+        var rows = Integer.parseInt(dims[0]);
+        var columns = Integer.parseInt(dims[1]);
+
+        var buffer = new UTSByteBuffer(rows * columns * 2);
+        buffer.put(new Primitive(PrimitiveType.CURSOR_TO_HOME));
+        buffer.put(new Primitive(PrimitiveType.ERASE_DISPLAY));
+        for (int row = 1; row <= rows; row++) {
+            var label = new FieldAttributes().setProtected(true).setIntensity(Intensity.LOW)
+                                             .setTextColor(UTSColor.CYAN).setBackgroundColor(UTSColor.BLUE);
+            var data = new FieldAttributes().setTabStop(true).setChanged(row % 3 == 0).setTextColor(UTSColor.YELLOW);
+            buffer.put(new FCCSequencePrimitive(row, 1, label));
+            buffer.putString(String.format("FIELD %03d:", row));
+            buffer.put(new FCCSequencePrimitive(row, 12, data));
+            var text = new StringBuilder();
+            for (int cx = 13; cx < columns; cx++) {
+                text.append((char) ('A' + ((row + cx) % 26)));
+            }
+            buffer.putString(text.toString());
+        }
+        buffer.put(new CursorPositionPrimitive(1, 13));
+        buffer.put(new Primitive(PrimitiveType.UNLOCK_KEYBOARD));
+        buffer.setIndex(0);
+        _stream = buffer.getBuffer();
+    }
+
+    @Benchmark
+    public long parser() throws UTSException {
+        _visitor._count = 0;
+        _parser.parse(_reader.load(_stream, 0, _stream.length), _visitor, false, true);
+        return _visitor._count;
+    }
+
+    @Benchmark
+    public long deserializePrimitive() throws UTSException {
+        long count = 0;
+        var buffer = new UTSByteBuffer(_stream);
+        while (!buffer.atEnd()) {
+            if (Primitive.deserializePrimitive(buffer, false, true) == null) {
+                buffer.getNext();
+            }
+            count++;
+        }
+        return count;
+    }
+}
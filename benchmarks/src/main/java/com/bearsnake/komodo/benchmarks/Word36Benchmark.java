@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.benchmarks;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.baselib.Word36;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Word36 - partial-word extraction and insertion, ones-complement arithmetic,
+ * and the Fieldata and ASCII string conversions used throughout the exec (names, control statements, print lines).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Word36Benchmark {
+
+    private static final int VALUE_COUNT = 1024;
+
+    // A typical print line / control statement image
+    private static final String TEXT = "@ASG,UP   SYS$LIB$*RUN$.,F///1000,DISK01 . assign the run library";
+
+    private final long[] _values = new long[VALUE_COUNT];
+    private final Word36.AdditionResult _additionResult = new Word36.AdditionResult();
+    private ArraySlice _asciiSlice;
+    private ArraySlice _fieldataSlice;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        long value = 0_123456_765432L;
+        for (int vx = 0; vx < VALUE_COUNT; vx++) {
+            _values[vx] = value;
+            value = (value * 0_1000_0005L + 0_13) & Word36.BIT_MASK;
+        }
+
+        _additionResult._flags = new Word36.Flags();
+        _asciiSlice = ArraySlice.stringToWord36ASCII(TEXT);
+        _fieldataSlice = ArraySlice.stringToWord36Fieldata(TEXT);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT)
+    public void partialWordGet(final Blackhole blackhole) {
+        for (var value : _values) {
+            blackhole.consume(Word36.getH1(value) + Word36.getQ2(value) + Word36.getS3(value) + Word36.getT2(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT)
+    public void partialWordSet(final Blackhole blackhole) {
+        for (var value : _values) {
+            var result = Word36.setH2(value, 0_252525);
+            result = Word36.setQ3(result, 0_177);
+            result = Word36.setS5(result, 0_77);
+            blackhole.consume(Word36.setT1(result, 0_1234));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT)
+    public void addOnesComplement(final Blackhole blackhole) {
+        var previous = 0L;
+        for (var value : _values) {
+            Word36.add(_additionResult, previous, value);
+            blackhole.consume(_additionResult._value);
+            blackhole.consume(_additionResult._flags._overflow);
+            previous = Word36.negate(value);
+        }
+    }
+
+    @Benchmark
+    public long[] stringToWordsASCII() {
+        return Word36.stringToWordsASCII(TEXT);
+    }
+
+    @Benchmark
+    public long[] stringToWordsFieldata() {
+        return Word36.stringToWordsFieldata(TEXT);
+    }
+
+    @Benchmark
+    public String toStringFromASCII() {
+        return Word36.toStringFromASCII(_asciiSlice);
+    }
+
+    @Benchmark
+    public String toStringFromFieldata() {
+        return Word36.toStringFromFieldata(_fieldataSlice);
+    }
+}
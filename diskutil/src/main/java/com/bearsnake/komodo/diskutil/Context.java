@@ -2,6 +2,9 @@ package com.bearsnake.komodo.diskutil;/*
  * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
  */
 
+import java.util.LinkedList;
+import java.util.List;
+
 public class Context {
 
     private boolean _channelIO = false;
@@ -11,7 +14,9 @@ public class Context {
     private boolean _displayRaw = false;
     private boolean _displayUsage = false;
     private boolean _interpretLabel = false;
-    private String _packName;
+    private final LinkedList<String> _packNames = new LinkedList<>();
+    private int _threadCount = Runtime.getRuntime().availableProcessors();
+    private boolean _verify = false;
     private Long _wordAddress = null;
 
     public boolean setup(final String[] args) {
@@ -77,6 +82,27 @@ public class Context {
                         }
                     }
 
+                    case "-j", "--threads" -> {
+                        if (ax == args.length) {
+                            System.err.println("ERROR:Missing thread count value");
+                            err = true;
+                            break;
+                        }
+
+                        try {
+                            _threadCount = Integer.parseInt(args[ax++]);
+                            if (_threadCount < 1) {
+                                System.err.println("ERROR:Thread count must be at least 1");
+                                err = true;
+                            }
+                        } catch (NumberFormatException e) {
+                            System.err.println("ERROR:Invalid thread count value");
+                            err = true;
+                        }
+                    }
+
+                    case "-v", "--verify", "--scan" -> _verify = true;
+
                     case "-w", "--word" -> {
                         if (ax == args.length) {
                             System.err.println("ERROR:Missing word address value");
@@ -104,14 +130,26 @@ public class Context {
                     }
                 }
             } else {
-                if (_packName != null) {
-                    System.err.println("ERROR:Multiple pack names provided");
-                    err = true;
-                    ax++;
-                }
+                _packNames.add(args[ax++]);
+            }
+        }
 
-                _packName = args[ax++];
+        if (_packNames.isEmpty()) {
+            System.err.println("ERROR:Pack name not provided");
+            return false;
+        }
+
+        if (_verify) {
+            if (_channelIO || _interpretLabel || _displayRaw || (_wordAddress != null)) {
+                System.err.println("ERROR:Cannot display sectors when verifying packs");
+                err = true;
             }
+            return !err;
+        }
+
+        if (_packNames.size() > 1) {
+            System.err.println("ERROR:Multiple pack names provided");
+            err = true;
         }
 
         if (_interpretLabel) {
@@ -135,11 +173,6 @@ public class Context {
             err = true;
         }
 
-        if (_packName == null) {
-            System.err.println("ERROR:Pack name not provided");
-            err = true;
-        }
-
         return !err;
     }
 
@@ -149,14 +182,19 @@ public class Context {
     public boolean displayRaw() { return _displayRaw; }
     public boolean displayUsage() { return _displayUsage; }
     public boolean doChannelIO() { return _channelIO; }
-    public String getPackName() { return _packName; }
+    public String getPackName() { return _packNames.getFirst(); }
+    public List<String> getPackNames() { return _packNames; }
+    public int getThreadCount() { return _threadCount; }
     public Long getWordAddress() { return _wordAddress; }
     public boolean interpretLabel() { return _interpretLabel; }
+    public boolean verify() { return _verify; }
 
     public static void showUsage() {
-        System.out.println("Displays individual sectors of a virtual disk pack used with a FileSystemDiskDevice.");
+        System.out.println("Displays individual sectors of a virtual disk pack used with a FileSystemDiskDevice,");
+        System.out.println("or verifies the consistency of one or more packs.");
         System.out.println("usage:");
         System.out.println("  java -jar cli.jar [ options ] {pack_name}");
+        System.out.println("  java -jar cli.jar -v [ -j {count} ] {pack_name} [ {pack_name} ... ]");
         System.out.println("options:");
         System.out.println("  -a, --ascii");
         System.out.println("     Output format includes ASCII");
@@ -167,6 +205,8 @@ public class Context {
         System.out.println("  -h, --help");
         System.out.println("  -i, --info");
         System.out.println("     Display disk pack info");
+        System.out.println("  -j, --threads {count}");
+        System.out.println("     Number of threads to be used when verifying (default is the number of processors)");
         System.out.println("  -l, --label");
         System.out.println("     Display and interpret disk label (sector 0)");
         System.out.println("  -r, --raw");
@@ -175,6 +215,11 @@ public class Context {
         System.out.println("     Display the sector indicated by the device-relative sector address");
         System.out.println("  -t, --track {address}");
         System.out.println("     Display the sector indicated by the device-relative track address");
+        System.out.println("  -v, --verify, --scan");
+        System.out.println("     Scan the whole of each pack, and check the label, the directory tracks, the DAS chains,");
+        System.out.println("     the lead and main item links, and the DAD tables, then report the allocated and free");
+        System.out.println("     track maps. Specify all of the fixed packs of a system together, so that directory tracks");
+        System.out.println("     can be located through MFDF$$ whichever pack they are on.");
         System.out.println("  -w, --word {address}");
         System.out.println("     Display the sector indicated by the device-relative word address");
         System.out.println("address:");
@@ -126,6 +126,16 @@ public class Main {
             return;
         }
 
+        if (ctx.verify()) {
+            var verifier = new PackVerifier(ctx.getThreadCount());
+            var result = verifier.verify(ctx.getPackNames());
+            verifier.report(System.out);
+            if (!result) {
+                System.exit(1);
+            }
+            return;
+        }
+
         var disk = new FileSystemDiskDevice("DISK0", ctx.getPackName(), true);
         var diskInfo = disk.getInfo();
         var bytesPerBlock = diskInfo.getBlockSize();
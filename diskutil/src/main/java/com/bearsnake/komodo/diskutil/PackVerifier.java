@@ -0,0 +1,1179 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.diskutil;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.baselib.Parser;
+import com.bearsnake.komodo.baselib.Word36;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Offline consistency check of one or more virtual disk packs, as used with FileSystemDiskDevice.
+ * Two kinds of work are done at the same time, on a pool of threads:
+ *      a scan of the whole of each pack image, in large memory-mapped chunks, which finds the tracks which contain
+ *          data, and any sectors which have something other than zero in their two unused bytes
+ *      a walk of the directory of each pack - the DAS chain, the lead and main items, and the DAD tables -
+ *          which checks the links between the directory sectors, and finds the tracks which are allocated.
+ * Directory tracks beyond track 0 of a fixed pack are located by the MFDF$$ DAD tables, so a complete check of
+ * the directory needs all of the fixed packs of the system in the same invocation. Space which is allocated
+ * on packs which are not being verified is counted, but not checked.
+ * Nothing is written to the packs.
+ */
+public class PackVerifier {
+
+    private static final int BYTES_PER_SECTOR = 128;
+    private static final int PACKED_BYTES_PER_SECTOR = 126;
+    private static final int WORDS_PER_SECTOR = 28;
+    private static final int SECTORS_PER_TRACK = 64;
+    private static final int WORDS_PER_TRACK = 1792;
+    private static final int BYTES_PER_TRACK = SECTORS_PER_TRACK * BYTES_PER_SECTOR;
+    private static final int TRACKS_PER_CHUNK = 8192; // 64MB per mapped chunk
+    private static final int MAX_TRACKS_PER_READ = 64;
+    private static final int MAX_LISTED_SECTORS = 8;
+
+    private static final long INVALID_LINK = 0_400000_000000L;
+    private static final long LINK_MASK = 0_007777_777777L;
+    private static final String MFD_FILENAME = "MFDF$$";
+
+    private static final int FILE_TYPE_FIXED = 0;
+    private static final int FILE_TYPE_TAPE = 01;
+    private static final int FILE_TYPE_REMOVABLE = 040;
+
+    // device-relative location of a track
+    private record HardwareTrack(int ldat, long trackId) {}
+
+    // space described by one DAD entry (or the pack label, or an unlocated directory track)
+    private record Allocation(String owner, long fileTrackId, int ldat, long trackId, long trackCount) {
+
+        private long lastTrackId() { return trackId + trackCount - 1; }
+
+        private boolean overlaps(final Allocation other) {
+            return (other.trackId <= lastTrackId()) && (other.lastTrackId() >= trackId);
+        }
+    }
+
+    // what we need from lead item sectors 0 and 1
+    private record LeadItem(long address,
+                            String qualifier,
+                            String filename,
+                            int fileType,
+                            long leadItem1Address,
+                            List<Long> mainItem0Addresses) {}
+
+    // what the image scan found in one chunk of a pack
+    private record ChunkResult(long firstTrackId, BitSet writtenTracks, long badSectorCount, List<Long> badSectors) {}
+
+    private static class Pack {
+
+        private final String _fileName;
+        private FileChannel _channel;
+        private long _imageSize;
+
+        // from the label and the initial directory track
+        private boolean _isPrepped = false;
+        private String _packName = "";
+        private long _trackCount;
+        private long _directoryTrackId;
+        private int _ldat;
+        private boolean _isFixed;
+        private long _availableTracks;
+
+        // from the directory
+        private boolean _mfdTracksLocated = false;
+        private final TreeMap<Long, Long> _mfdTracks = new TreeMap<>(); // MFD track id -> device track id
+        private int _mfdTrackCount = 0;
+        private final TreeSet<Long> _inUseSectors = new TreeSet<>();
+        private final HashSet<Long> _referencedSectors = new HashSet<>();
+        private final LinkedList<LeadItem> _leadItems = new LinkedList<>();
+        private final LinkedList<Long> _rejectedLeadItems = new LinkedList<>();
+        private final LinkedList<Allocation> _allocations = new LinkedList<>();
+
+        // from the merge
+        private final TreeMap<Long, Allocation> _allocatedExtents = new TreeMap<>();
+        private final BitSet _allocatedTracks = new BitSet();
+
+        // from the image scan
+        private final LinkedList<Future<ChunkResult>> _scans = new LinkedList<>();
+        private final BitSet _writtenTracks = new BitSet();
+        private long _badSectorCount = 0;
+        private final TreeSet<Long> _badSectors = new TreeSet<>();
+
+        private final LinkedList<String> _errors = new LinkedList<>();
+        private final LinkedList<String> _warnings = new LinkedList<>();
+
+        private Pack(final String fileName) {
+            _fileName = fileName;
+        }
+
+        private long getImageTrackCount() { return (_imageSize + BYTES_PER_TRACK - 1) / BYTES_PER_TRACK; }
+
+        private void error(final String format, final Object... args) {
+            _errors.add(String.format(format, args));
+        }
+
+        private void warning(final String format, final Object... args) {
+            _warnings.add(String.format(format, args));
+        }
+    }
+
+    private final int _threadCount;
+    private final LinkedList<Pack> _packs = new LinkedList<>();
+    private final TreeMap<Integer, Pack> _packsByLDAT = new TreeMap<>();
+    private final ConcurrentHashMap<Long, ArraySlice> _directoryTracks = new ConcurrentHashMap<>(); // by MFD address
+    private final HashMap<Long, HardwareTrack> _mfdFileTracks = new HashMap<>(); // MFDF$$ file-relative track id
+    private final LinkedList<String> _errors = new LinkedList<>();
+    private final LinkedList<String> _warnings = new LinkedList<>();
+    private long _foreignTrackCount = 0;
+    private long _totalMillis = 0;
+
+    /**
+     * @param threadCount number of threads for scanning images and walking directories
+     */
+    public PackVerifier(
+        final int threadCount
+    ) {
+        _threadCount = Math.max(1, threadCount);
+    }
+
+    /**
+     * Verifies the given pack images
+     * @param fileNames names of the pack image files
+     * @return true if no errors were found (there may be warnings)
+     */
+    public boolean verify(
+        final List<String> fileNames
+    ) {
+        var startTime = System.currentTimeMillis();
+        var executor = Executors.newFixedThreadPool(_threadCount, runnable -> {
+            var thread = new Thread(runnable, "PackVerifier");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            for (var fileName : fileNames) {
+                openPack(fileName);
+            }
+
+            // the image scans do not depend upon anything else, so they run while we walk the directories
+            for (var pack : _packs) {
+                if (pack._channel != null) {
+                    startScan(executor, pack);
+                }
+            }
+
+            var packs = _packsByLDAT.values();
+            locateDirectoryTracks();
+
+            var readTasks = new LinkedList<Callable<Void>>();
+            packs.forEach(pack -> readTasks.add(() -> { readDirectoryTracks(pack); return null; }));
+            invokeAll(executor, readTasks);
+
+            var analyzeTasks = new LinkedList<Callable<Void>>();
+            packs.forEach(pack -> analyzeTasks.add(() -> { analyzeDirectory(pack); return null; }));
+            invokeAll(executor, analyzeTasks);
+
+            mergeDirectories();
+
+            for (var pack : _packs) {
+                collectScan(pack);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            _errors.add("Verification was interrupted");
+        } finally {
+            executor.shutdownNow();
+            for (var pack : _packs) {
+                closePack(pack);
+            }
+        }
+
+        _totalMillis = System.currentTimeMillis() - startTime;
+        return getErrorCount() == 0;
+    }
+
+    public int getErrorCount() {
+        return _errors.size() + _packs.stream().mapToInt(pack -> pack._errors.size()).sum();
+    }
+
+    public int getWarningCount() {
+        return _warnings.size() + _packs.stream().mapToInt(pack -> pack._warnings.size()).sum();
+    }
+
+    /**
+     * Retrieves the errors found by verify(), in the order in which report() lists them -
+     * those for each pack (prefixed by its file name), then those which do not belong to any one pack
+     */
+    public List<String> getErrors() {
+        var messages = new LinkedList<String>();
+        _packs.forEach(pack -> pack._errors.forEach(msg -> messages.add(pack._fileName + ":" + msg)));
+        messages.addAll(_errors);
+        return messages;
+    }
+
+    /**
+     * Retrieves the warnings found by verify(), in the same order as getErrors()
+     */
+    public List<String> getWarnings() {
+        var messages = new LinkedList<String>();
+        _packs.forEach(pack -> pack._warnings.forEach(msg -> messages.add(pack._fileName + ":" + msg)));
+        messages.addAll(_warnings);
+        return messages;
+    }
+
+    // -------------------------------------------------------------------------
+    // Labels
+    // -------------------------------------------------------------------------
+
+    /**
+     * Opens a pack image, and checks the label and the initial directory track
+     */
+    private void openPack(
+        final String fileName
+    ) {
+        var pack = new Pack(fileName);
+        _packs.add(pack);
+
+        try {
+            pack._channel = FileChannel.open(Path.of(fileName), StandardOpenOption.READ);
+            pack._imageSize = pack._channel.size();
+            if (pack._imageSize % BYTES_PER_SECTOR != 0) {
+                pack.warning("Image size %d is not a whole number of sectors", pack._imageSize);
+            }
+
+            var label = new ArraySlice(readTracks(pack, 0, 1), 0, WORDS_PER_SECTOR);
+            if (checkLabel(pack, label)) {
+                var track = readTracks(pack, pack._directoryTrackId, 1);
+                if (checkInitialDirectoryTrack(pack, track)) {
+                    _directoryTracks.put(mfdAddress(pack._ldat, 0, 0), track);
+                    pack._mfdTracks.put(0L, pack._directoryTrackId);
+                    pack._mfdTrackCount = 1;
+                    pack._isPrepped = true;
+                }
+            }
+        } catch (IOException ex) {
+            pack.error("Cannot read pack image:%s", ex.getMessage());
+            closePack(pack);
+        }
+    }
+
+    private boolean checkLabel(
+        final Pack pack,
+        final ArraySlice label
+    ) {
+        var sentinel = Word36.toStringFromASCII(label.get(0));
+        if (!sentinel.equals("VOL1")) {
+            pack.error("Label is not valid - expected 'VOL1', found '%s'", sentinel);
+            return false;
+        }
+
+        var result = true;
+        pack._packName = (Word36.toStringFromASCII(label.get(1)) + Word36.toStringFromASCII(label.get(2))).substring(0, 6).trim();
+        if (!Parser.isValidPackName(pack._packName)) {
+            pack.error("Label pack name '%s' is not valid", pack._packName);
+            result = false;
+        }
+
+        var prepFactor = (int) label.getH2(4);
+        if (!Parser.isValidPrepFactor(prepFactor)) {
+            pack.error("Label prep factor %d is not valid", prepFactor);
+            result = false;
+        } else if (label.getH1(4) != WORDS_PER_TRACK / prepFactor) {
+            pack.warning("Label has %d records per track, expected %d for prep factor %d",
+                         label.getH1(4), WORDS_PER_TRACK / prepFactor, prepFactor);
+        }
+
+        pack._trackCount = label.get(016);
+        if (pack._trackCount == 0) {
+            pack.error("Label capacity is zero tracks");
+            result = false;
+        } else if (pack.getImageTrackCount() > pack._trackCount) {
+            pack.warning("Image has %d tracks, but the label capacity is %d tracks",
+                         pack.getImageTrackCount(), pack._trackCount);
+        }
+
+        var directoryAddress = label.get(3);
+        pack._directoryTrackId = directoryAddress / WORDS_PER_TRACK;
+        if (directoryAddress % WORDS_PER_TRACK != 0) {
+            pack.error("Label directory track address %012o is not on a track boundary", directoryAddress);
+            result = false;
+        } else if ((pack._directoryTrackId == 0) || (pack._directoryTrackId >= pack._trackCount)) {
+            pack.error("Label directory track %012o is not within the pack", pack._directoryTrackId);
+            result = false;
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks directory track 0 sector 1, and registers the pack under its LDAT index
+     */
+    private boolean checkInitialDirectoryTrack(
+        final Pack pack,
+        final ArraySlice track
+    ) {
+        var sector1 = new ArraySlice(track, WORDS_PER_SECTOR, WORDS_PER_SECTOR);
+        var packId = Word36.toStringFromFieldata(sector1.get(4)).trim();
+        if (!packId.equals(pack._packName)) {
+            pack.error("Directory pack id '%s' does not match label pack name '%s'", packId, pack._packName);
+        }
+
+        if (sector1.get(2) != pack._trackCount) {
+            pack.warning("Directory track count %d does not match label capacity %d", sector1.get(2), pack._trackCount);
+        }
+        pack._availableTracks = sector1.get(3);
+
+        if (sector1.getH1(5) != 0) {
+            pack._isFixed = true;
+            pack._ldat = (int) sector1.getH1(5) & 07777;
+        } else {
+            pack._isFixed = false;
+            pack._ldat = (int) sector1.getH1(020);
+        }
+
+        if (pack._ldat == 0) {
+            pack.error("Pack has no LDAT index");
+            return false;
+        }
+
+        var existing = _packsByLDAT.putIfAbsent(pack._ldat, pack);
+        if (existing != null) {
+            pack.error("Pack has the same LDAT index %04o as %s", pack._ldat, existing._fileName);
+            return false;
+        }
+
+        return true;
+    }
+
+    // -------------------------------------------------------------------------
+    // Image scan
+    // -------------------------------------------------------------------------
+
+    /**
+     * Splits the image into chunks, and submits a scan task for each
+     */
+    private void startScan(
+        final ExecutorService executor,
+        final Pack pack
+    ) {
+        var chunkBytes = (long) TRACKS_PER_CHUNK * BYTES_PER_TRACK;
+        var imageBytes = pack._imageSize - (pack._imageSize % BYTES_PER_SECTOR);
+        for (long offset = 0; offset < imageBytes; offset += chunkBytes) {
+            var firstTrackId = offset / BYTES_PER_TRACK;
+            var byteCount = Math.min(chunkBytes, imageBytes - offset);
+            pack._scans.add(executor.submit(() -> scanChunk(pack, firstTrackId, byteCount)));
+        }
+    }
+
+    /**
+     * Maps one chunk of an image, and finds the tracks which contain data, and the sectors with bad padding.
+     * Once a track is known to contain data, we only look at the padding of its remaining sectors.
+     */
+    private static ChunkResult scanChunk(
+        final Pack pack,
+        final long firstTrackId,
+        final long byteCount
+    ) throws IOException {
+        var buffer = pack._channel.map(FileChannel.MapMode.READ_ONLY, firstTrackId * BYTES_PER_TRACK, byteCount);
+        var writtenTracks = new BitSet();
+        var badSectors = new LinkedList<Long>();
+        var badSectorCount = 0L;
+
+        var sectorCount = (int) (byteCount / BYTES_PER_SECTOR);
+        for (int sx = 0; sx < sectorCount; sx++) {
+            var offset = sx * BYTES_PER_SECTOR;
+            if (buffer.getShort(offset + PACKED_BYTES_PER_SECTOR) != 0) {
+                badSectorCount++;
+                if (badSectors.size() < MAX_LISTED_SECTORS) {
+                    badSectors.add(firstTrackId * SECTORS_PER_TRACK + sx);
+                }
+            }
+
+            var tx = sx / SECTORS_PER_TRACK;
+            if (!writtenTracks.get(tx)) {
+                for (int bx = 0; bx < BYTES_PER_SECTOR; bx += 8) {
+                    if (buffer.getLong(offset + bx) != 0) {
+                        writtenTracks.set(tx);
+                        break;
+                    }
+                }
+            }
+        }
+
+        return new ChunkResult(firstTrackId, writtenTracks, badSectorCount, badSectors);
+    }
+
+    private void collectScan(
+        final Pack pack
+    ) throws InterruptedException {
+        for (var future : pack._scans) {
+            try {
+                var chunk = future.get();
+                chunk.writtenTracks.stream().forEach(tx -> pack._writtenTracks.set((int) (chunk.firstTrackId + tx)));
+                pack._badSectorCount += chunk.badSectorCount;
+                pack._badSectors.addAll(chunk.badSectors);
+            } catch (ExecutionException ex) {
+                pack.error("Cannot scan pack image:%s", ex.getCause().getMessage());
+                return;
+            }
+        }
+
+        if (pack._badSectorCount > 0) {
+            var sb = new StringBuilder();
+            pack._badSectors.stream().limit(MAX_LISTED_SECTORS).forEach(sx -> sb.append(String.format(" %012o", sx)));
+            pack.error("%d sectors have non-zero bytes beyond the packed data, starting with:%s",
+                       pack._badSectorCount, sb);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Directory
+    // -------------------------------------------------------------------------
+
+    /**
+     * Finds MFDF$$ in directory track 0 of the fixed packs, and walks its DAD chain to find where the rest
+     * of the directory tracks are. A DAD sector may be in a track which is only described by an earlier DAD,
+     * so this is done serially, reading tracks as they are located.
+     */
+    private void locateDirectoryTracks() {
+        var candidates = new LinkedList<LeadItem>();
+        for (var pack : _packsByLDAT.values()) {
+            if (pack._isFixed) {
+                for (int sx = 1; sx < SECTORS_PER_TRACK; sx++) {
+                    var address = mfdAddress(pack._ldat, 0, sx);
+                    var sector = getSector(address);
+                    if (isSectorInUse(address) && isLeadItem0(sector)) {
+                        var leadItem = parseLeadItem(address, sector, null);
+                        if ((leadItem != null) && leadItem.filename.equals(MFD_FILENAME)) {
+                            candidates.add(leadItem);
+                        }
+                    }
+                }
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            if (_packsByLDAT.values().stream().anyMatch(pack -> pack._isFixed)) {
+                _warnings.add("Cannot find " + MFD_FILENAME + " - only directory track 0 of each pack can be checked");
+            }
+            return;
+        } else if (candidates.size() > 1) {
+            var sb = new StringBuilder();
+            candidates.forEach(leadItem -> sb.append(String.format(" %012o", leadItem.address)));
+            _errors.add(String.format("%s has lead items at%s", MFD_FILENAME, sb));
+            return;
+        } else if (candidates.getFirst().mainItem0Addresses.isEmpty()) {
+            _errors.add(String.format("%s has no cycles", MFD_FILENAME));
+            return;
+        }
+
+        var mainItem0Address = candidates.getFirst().mainItem0Addresses.getFirst();
+        var mainItem0 = getMFDFileSector(mainItem0Address);
+        if (mainItem0 == null) {
+            _errors.add(String.format("%s main item %012o is not in a known directory track", MFD_FILENAME, mainItem0Address));
+            return;
+        }
+
+        var visited = new HashSet<Long>();
+        var link = ((mainItem0.get(0) & INVALID_LINK) == 0) ? mainItem0.get(0) & LINK_MASK : 0;
+        while (link != 0) {
+            if (!visited.add(link)) {
+                _errors.add(String.format("%s DAD chain loops at %012o", MFD_FILENAME, link));
+                return;
+            }
+
+            var dad = getMFDFileSector(link);
+            if (dad == null) {
+                _errors.add(String.format("%s DAD %012o is not in a known directory track", MFD_FILENAME, link));
+                return;
+            }
+
+            for (var allocation : parseDAD(null, MFD_FILENAME, dad)) {
+                for (long tx = 0; tx < allocation.trackCount; tx++) {
+                    var hwTrack = new HardwareTrack(allocation.ldat, allocation.trackId + tx);
+                    _mfdFileTracks.put(allocation.fileTrackId + tx, hwTrack);
+                }
+            }
+            link = dad.get(0) & LINK_MASK;
+        }
+
+        for (var entry : _mfdFileTracks.entrySet()) {
+            var ldat = (int) (entry.getKey() >> 12);
+            var mfdTrackId = entry.getKey() & 07777;
+            var hwTrack = entry.getValue();
+            var pack = _packsByLDAT.get(ldat);
+            if (pack == null) {
+                _warnings.add(String.format("%s describes directory track %04o for LDAT %04o, which is not being verified",
+                                            MFD_FILENAME, mfdTrackId, ldat));
+            } else if (hwTrack.ldat != ldat) {
+                pack.error("%s places directory track %04o on LDAT %04o", MFD_FILENAME, mfdTrackId, hwTrack.ldat);
+            } else if ((mfdTrackId == 0) && (hwTrack.trackId != pack._directoryTrackId)) {
+                pack.error("%s places directory track 0 at %012o, but the label has it at %012o",
+                           MFD_FILENAME, hwTrack.trackId, pack._directoryTrackId);
+            } else {
+                pack._mfdTracks.put(mfdTrackId, hwTrack.trackId);
+            }
+        }
+
+        for (var pack : _packsByLDAT.values()) {
+            if (pack._isFixed) {
+                pack._mfdTracksLocated = true;
+                if (!_mfdFileTracks.containsKey((long) pack._ldat << 12)) {
+                    pack.error("%s does not describe directory track 0", MFD_FILENAME);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the directory tracks of a pack which are not yet cached. Physically contiguous tracks are
+     * read with one IO.
+     */
+    private void readDirectoryTracks(
+        final Pack pack
+    ) {
+        var pending = new LinkedList<Map.Entry<Long, Long>>();
+        for (var entry : pack._mfdTracks.entrySet()) {
+            if (entry.getValue() >= pack._trackCount) {
+                pack.error("Directory track %04o is at %012o, which is beyond the end of the pack",
+                           entry.getKey(), entry.getValue());
+            } else if (!_directoryTracks.containsKey(mfdAddress(pack._ldat, entry.getKey(), 0))) {
+                pending.add(entry);
+            }
+        }
+
+        while (!pending.isEmpty()) {
+            var first = pending.removeFirst();
+            var trackCount = 1;
+            while (!pending.isEmpty()
+                   && (trackCount < MAX_TRACKS_PER_READ)
+                   && (pending.getFirst().getKey() == first.getKey() + trackCount)
+                   && (pending.getFirst().getValue() == first.getValue() + trackCount)) {
+                pending.removeFirst();
+                trackCount++;
+            }
+
+            try {
+                var tracks = readTracks(pack, first.getValue(), trackCount);
+                for (int tx = 0; tx < trackCount; tx++) {
+                    var track = new ArraySlice(tracks, tx * WORDS_PER_TRACK, WORDS_PER_TRACK);
+                    _directoryTracks.put(mfdAddress(pack._ldat, first.getKey() + tx, 0), track);
+                }
+            } catch (IOException ex) {
+                pack.error("Cannot read directory track %012o:%s", first.getValue(), ex.getMessage());
+            }
+        }
+
+        // The DAS tables assume there are no holes in the directory tracks for a pack
+        var trackCount = pack._mfdTracks.isEmpty() ? 0 : pack._mfdTracks.lastKey() + 1;
+        for (long mfdTrackId = 0; mfdTrackId < trackCount; mfdTrackId++) {
+            if (!_directoryTracks.containsKey(mfdAddress(pack._ldat, mfdTrackId, 0))) {
+                pack.error("Directory track %04o is not located by %s", mfdTrackId, MFD_FILENAME);
+                trackCount = mfdTrackId;
+            }
+        }
+        pack._mfdTrackCount = (int) trackCount;
+    }
+
+    /**
+     * Walks the DAS chain of a pack, then checks every file set which has its lead item on the pack.
+     * Each DAS describes the track which contains it, and the following eight tracks. For track offset n,
+     * word 3n is the link to the track (for n > 0), and words 3n+1 and 3n+2 have the in-use bits for sectors
+     * 0-31 and 32-63. Word 033 is the link to the next DAS.
+     */
+    private void analyzeDirectory(
+        final Pack pack
+    ) {
+        var ldat = pack._ldat;
+        var trackCount = pack._mfdTrackCount;
+        var candidates = new LinkedList<Long>();
+        for (int dasTrackId = 0; dasTrackId < trackCount; dasTrackId += 9) {
+            var dasAddress = mfdAddress(ldat, dasTrackId, 0);
+            var das = getSector(dasAddress);
+            if (das.getH1(0) != ldat) {
+                pack.error("DAS %012o is for LDAT %04o", dasAddress, das.getH1(0));
+            }
+
+            for (int tx = 1; tx <= 9; tx++) {
+                var wx = (tx == 9) ? 033 : tx * 3;
+                var expected = (dasTrackId + tx < trackCount) ? mfdAddress(ldat, dasTrackId + tx, 0) : INVALID_LINK;
+                if (das.get(wx) == expected) {
+                    continue;
+                }
+
+                if (!pack._mfdTracksLocated && (das.get(wx) != INVALID_LINK)) {
+                    pack.warning("DAS %012o links to directory track %012o, which cannot be located without %s",
+                                 dasAddress, das.get(wx), MFD_FILENAME);
+                } else {
+                    pack.error("DAS %012o word %02o is %012o, expected %012o", dasAddress, wx, das.get(wx), expected);
+                }
+            }
+
+            for (int tx = 0; (tx < 9) && (dasTrackId + tx < trackCount); tx++) {
+                for (int sx = 0; sx < SECTORS_PER_TRACK; sx++) {
+                    var address = mfdAddress(ldat, dasTrackId + tx, sx);
+                    if (isSectorInUse(address)) {
+                        pack._inUseSectors.add(address);
+                        if (((tx > 0) || (sx > 0)) && isLeadItem0(getSector(address))) {
+                            candidates.add(address);
+                        }
+                    }
+                }
+            }
+
+            if (!pack._inUseSectors.contains(dasAddress)) {
+                pack.error("DAS %012o is not marked in use", dasAddress);
+            }
+            pack._referencedSectors.add(dasAddress);
+        }
+
+        var sector1Address = mfdAddress(ldat, 0, 1);
+        if (!pack._inUseSectors.contains(sector1Address)) {
+            pack.error("Directory track 0 sector 1 is not marked in use");
+        }
+        pack._referencedSectors.add(sector1Address);
+
+        for (var address : candidates) {
+            var leadItem = loadLeadItem(pack, address);
+            if (leadItem == null) {
+                pack._rejectedLeadItems.add(address);
+            } else {
+                pack._leadItems.add(leadItem);
+                checkFileSet(pack, leadItem);
+            }
+        }
+    }
+
+    /**
+     * Checks the main items and DAD tables for each cycle of a file set, and collects the space they describe
+     */
+    private void checkFileSet(
+        final Pack pack,
+        final LeadItem leadItem
+    ) {
+        var fileSetName = leadItem.qualifier + "*" + leadItem.filename;
+        if ((leadItem.fileType != FILE_TYPE_FIXED)
+            && (leadItem.fileType != FILE_TYPE_TAPE)
+            && (leadItem.fileType != FILE_TYPE_REMOVABLE)) {
+            pack.error("Lead item %012o for %s has unknown file type %03o", leadItem.address, fileSetName, leadItem.fileType);
+            return;
+        }
+
+        for (var mainItem0Address : leadItem.mainItem0Addresses) {
+            var mainItem0 = getReferencedSector(pack, mainItem0Address, "Main item of " + fileSetName);
+            if (mainItem0 == null) {
+                continue;
+            }
+
+            var fileName = String.format("%s(%d)", fileSetName, mainItem0.getT3(021));
+            if ((mainItem0.get(0) & 0_200000_000000L) == 0) {
+                pack.error("Main item %012o for %s is not marked as a main item", mainItem0Address, fileName);
+            }
+
+            var qualifier = (Word36.toStringFromFieldata(mainItem0.get(1)) + Word36.toStringFromFieldata(mainItem0.get(2))).trim();
+            var filename = (Word36.toStringFromFieldata(mainItem0.get(3)) + Word36.toStringFromFieldata(mainItem0.get(4))).trim();
+            if (!qualifier.equals(leadItem.qualifier) || !filename.equals(leadItem.filename)) {
+                pack.error("Main item %012o for %s is for %s*%s", mainItem0Address, fileName, qualifier, filename);
+            }
+
+            if ((mainItem0.get(013) & LINK_MASK) != leadItem.address) {
+                pack.error("Main item %012o for %s links to lead item %012o, expected %012o",
+                           mainItem0Address, fileName, mainItem0.get(013) & LINK_MASK, leadItem.address);
+            }
+
+            // main item sectors 1 and beyond - sector 0 links to sector 1 in word 015, the rest link in word 0
+            var visited = new HashSet<Long>();
+            var link = mainItem0.get(015) & LINK_MASK;
+            while (link != 0) {
+                if (!visited.add(link)) {
+                    pack.error("Main item chain for %s loops at %012o", fileName, link);
+                    break;
+                }
+
+                var mainItem = getReferencedSector(pack, link, "Main item of " + fileName);
+                if (mainItem == null) {
+                    break;
+                }
+                link = mainItem.get(0) & LINK_MASK;
+            }
+
+            if (leadItem.fileType != FILE_TYPE_TAPE) {
+                checkDADChain(pack, fileName, mainItem0Address, mainItem0);
+            }
+        }
+    }
+
+    /**
+     * Walks the DAD chain for a disk file cycle. Each DAD links forward in word 0, and back (to the previous DAD,
+     * or to main item 0 for the first one) in word 1.
+     */
+    private void checkDADChain(
+        final Pack pack,
+        final String fileName,
+        final long mainItem0Address,
+        final ArraySlice mainItem0
+    ) {
+        var visited = new HashSet<Long>();
+        var previous = mainItem0Address;
+        var link = ((mainItem0.get(0) & INVALID_LINK) == 0) ? mainItem0.get(0) & LINK_MASK : 0;
+        while (link != 0) {
+            if (!visited.add(link)) {
+                pack.error("DAD chain for %s loops at %012o", fileName, link);
+                return;
+            }
+
+            var dad = getReferencedSector(pack, link, "DAD of " + fileName);
+            if (dad == null) {
+                return;
+            }
+
+            if ((dad.get(1) & LINK_MASK) != previous) {
+                pack.error("DAD %012o for %s links back to %012o, expected %012o",
+                           link, fileName, dad.get(1) & LINK_MASK, previous);
+            }
+
+            pack._allocations.addAll(parseDAD(pack, fileName, dad));
+            previous = link;
+            link = dad.get(0) & LINK_MASK;
+        }
+    }
+
+    /**
+     * Finds the allocations described by the entries in a DAD sector. Holes are not included.
+     * @param pack pack to which problems are reported - null if problems are global
+     */
+    private List<Allocation> parseDAD(
+        final Pack pack,
+        final String fileName,
+        final ArraySlice dad
+    ) {
+        var allocations = new LinkedList<Allocation>();
+        var frAddress = dad.get(2); // file-relative address of first word described in this DAD
+        var frLast = dad.get(3);    // file-relative address of last word + 1
+        for (int wx = 4; wx < WORDS_PER_SECTOR; wx += 3) {
+            var devAddr = dad.get(wx);
+            var wordCount = dad.get(wx + 1);
+            var lastEntry = (dad.getH1(wx + 2) & 04) != 0;
+            var ldat = (int) dad.getH2(wx + 2);
+
+            if (ldat != 0_400000) {
+                if ((devAddr % WORDS_PER_TRACK != 0) || (wordCount % WORDS_PER_TRACK != 0)) {
+                    var msg = String.format("DAD entry for %s at file address %012o is not on track boundaries",
+                                            fileName, frAddress);
+                    if (pack == null) {
+                        _errors.add(msg);
+                    } else {
+                        pack._errors.add(msg);
+                    }
+                } else {
+                    allocations.add(new Allocation(fileName,
+                                                   frAddress / WORDS_PER_TRACK,
+                                                   ldat,
+                                                   devAddr / WORDS_PER_TRACK,
+                                                   wordCount / WORDS_PER_TRACK));
+                }
+            }
+
+            frAddress += wordCount;
+            if (lastEntry || (frAddress >= frLast)) {
+                break;
+            }
+        }
+
+        return allocations;
+    }
+
+    /**
+     * Puts together what was found on each pack - checks for duplicate file sets and for sectors which
+     * nothing refers to, and builds the track map of each pack from the allocations found on all of them.
+     */
+    private void mergeDirectories() {
+        var fileSets = new HashMap<String, LeadItem>();
+        var leadItem1Addresses = new HashSet<Long>();
+        var referencedSectors = new HashSet<Long>();
+        for (var pack : _packsByLDAT.values()) {
+            for (var leadItem : pack._leadItems) {
+                var key = leadItem.qualifier + "*" + leadItem.filename;
+                var existing = fileSets.putIfAbsent(key, leadItem);
+                if (existing != null) {
+                    _errors.add(String.format("Lead items for %s at %012o and %012o", key, existing.address, leadItem.address));
+                }
+                if (leadItem.leadItem1Address != 0) {
+                    leadItem1Addresses.add(leadItem.leadItem1Address);
+                }
+            }
+            referencedSectors.addAll(pack._referencedSectors);
+        }
+
+        // Lead item sector 1 can look like sector 0 if its first cycle is to-be-dropped, so we only complain
+        // about rejected lead items which are not sector 1 of a good one.
+        for (var pack : _packsByLDAT.values()) {
+            for (var address : pack._rejectedLeadItems) {
+                if (!leadItem1Addresses.contains(address)) {
+                    pack.warning("Ignoring malformed lead item at %012o", address);
+                }
+            }
+
+            var lost = pack._inUseSectors.stream().filter(address -> !referencedSectors.contains(address)).toList();
+            if (!lost.isEmpty()) {
+                var sb = new StringBuilder();
+                lost.stream().limit(MAX_LISTED_SECTORS).forEach(address -> sb.append(String.format(" %012o", address)));
+                pack.warning("%d directory sectors are in use, but are not part of any file set, starting with:%s",
+                             lost.size(), sb);
+            }
+        }
+
+        // The label track is always allocated. Directory tracks are allocated to MFDF$$ - but if we could not find
+        // MFDF$$ (or this is a removable pack) we allocate the ones we know about, so they do not look free.
+        var allocations = new LinkedList<Allocation>();
+        for (var pack : _packsByLDAT.values()) {
+            allocations.add(new Allocation("label", 0, pack._ldat, 0, 1));
+            if (!pack._mfdTracksLocated) {
+                for (var trackId : pack._mfdTracks.values()) {
+                    allocations.add(new Allocation("directory", 0, pack._ldat, trackId, 1));
+                }
+            }
+        }
+        for (var pack : _packsByLDAT.values()) {
+            allocations.addAll(pack._allocations);
+        }
+
+        for (var allocation : allocations) {
+            var pack = _packsByLDAT.get(allocation.ldat);
+            if (pack == null) {
+                _foreignTrackCount += allocation.trackCount;
+            } else {
+                markAllocated(pack, allocation);
+            }
+        }
+    }
+
+    /**
+     * Adds an allocation to the track map of a pack, unless it is out of range, or overlaps something already there
+     */
+    private static void markAllocated(
+        final Pack pack,
+        final Allocation allocation
+    ) {
+        var lastTrackId = allocation.lastTrackId();
+        if ((allocation.trackCount == 0) || (lastTrackId >= pack._trackCount)) {
+            pack.error("%s has tracks %06o-%06o, which are not within the pack", allocation.owner, allocation.trackId, lastTrackId);
+            return;
+        }
+
+        // extents already in the map do not overlap each other, so only the neighbours need to be checked
+        var lower = pack._allocatedExtents.floorEntry(allocation.trackId);
+        var higher = pack._allocatedExtents.ceilingEntry(allocation.trackId);
+        var other = ((lower != null) && lower.getValue().overlaps(allocation)) ? lower.getValue()
+            : ((higher != null) && higher.getValue().overlaps(allocation)) ? higher.getValue() : null;
+        if (other != null) {
+            pack.error("%s has tracks %06o-%06o, which overlap tracks %06o-%06o of %s",
+                       allocation.owner, allocation.trackId, lastTrackId,
+                       other.trackId, other.lastTrackId(), other.owner);
+            return;
+        }
+
+        pack._allocatedExtents.put(allocation.trackId, allocation);
+        pack._allocatedTracks.set((int) allocation.trackId, (int) (lastTrackId + 1));
+    }
+
+    // -------------------------------------------------------------------------
+    // Report
+    // -------------------------------------------------------------------------
+
+    public void report(
+        final PrintStream out
+    ) {
+        for (var pack : _packs) {
+            out.printf("Pack %s (%s)\n", pack._packName, pack._fileName);
+            if (pack._isPrepped) {
+                var allocatedCount = pack._allocatedTracks.cardinality();
+                var writtenFreeCount = pack._writtenTracks.stream().filter(tx -> !pack._allocatedTracks.get(tx)).count();
+                out.printf("  LDAT Index:                %04o (%s)\n", pack._ldat, pack._isFixed ? "fixed" : "removable");
+                out.printf("  Capacity:                  %d tracks\n", pack._trackCount);
+                out.printf("  Image Size:                %d bytes = %d tracks\n", pack._imageSize, pack.getImageTrackCount());
+                out.printf("  Directory Tracks:          %d\n", pack._mfdTrackCount);
+                out.printf("  File Sets:                 %d\n", pack._leadItems.size());
+                out.printf("  Allocated Tracks:          %d\n", allocatedCount);
+                out.printf("  Free Tracks:               %d\n", pack._trackCount - allocatedCount);
+                out.printf("  Directory Available Trks:  %d\n", pack._availableTracks);
+                out.printf("  Written Tracks:            %d (%d free)\n", pack._writtenTracks.cardinality(), writtenFreeCount);
+                out.println("  Allocated Track Map:");
+                reportTrackMap(out, pack._allocatedTracks, true, pack._trackCount);
+                out.println("  Free Track Map:");
+                reportTrackMap(out, pack._allocatedTracks, false, pack._trackCount);
+            }
+
+            pack._errors.forEach(msg -> out.println("  ERROR:" + msg));
+            pack._warnings.forEach(msg -> out.println("  WARNING:" + msg));
+        }
+
+        if (_foreignTrackCount > 0) {
+            out.printf("%d tracks are allocated on packs which are not being verified\n", _foreignTrackCount);
+        }
+        _errors.forEach(msg -> out.println("ERROR:" + msg));
+        _warnings.forEach(msg -> out.println("WARNING:" + msg));
+        var imageBytes = _packs.stream().mapToLong(pack -> pack._imageSize).sum();
+        out.printf("%d errors, %d warnings - %d bytes verified in %d ms\n",
+                   getErrorCount(), getWarningCount(), imageBytes, _totalMillis);
+    }
+
+    /**
+     * Lists the runs of tracks which are (or are not) set in the given map
+     */
+    private static void reportTrackMap(
+        final PrintStream out,
+        final BitSet map,
+        final boolean allocated,
+        final long trackCount
+    ) {
+        var tx = allocated ? map.nextSetBit(0) : map.nextClearBit(0);
+        while ((tx >= 0) && (tx < trackCount)) {
+            long end = allocated ? map.nextClearBit(tx) : map.nextSetBit(tx);
+            if ((end < 0) || (end > trackCount)) {
+                end = trackCount;
+            }
+            out.printf("    %06o-%06o (%d tracks)\n", tx, end - 1, end - tx);
+            tx = allocated ? map.nextSetBit((int) end) : map.nextClearBit((int) end);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Helpers
+    // -------------------------------------------------------------------------
+
+    private static long mfdAddress(
+        final long ldat,
+        final long trackId,
+        final long sectorId
+    ) {
+        return ((ldat & 07777) << 18) | ((trackId & 07777) << 6) | (sectorId & 077);
+    }
+
+    /**
+     * Retrieves a sector from a cached directory track
+     * @return the sector, or null if the track is not cached
+     */
+    private ArraySlice getSector(
+        final long address
+    ) {
+        var track = _directoryTracks.get(address & ~077L);
+        return (track == null) ? null : new ArraySlice(track, (int) (address & 077) * WORDS_PER_SECTOR, WORDS_PER_SECTOR);
+    }
+
+    /**
+     * Retrieves a sector while walking the MFDF$$ DAD chain, reading the containing track if it is located
+     * by what we have found so far, but is not yet cached.
+     */
+    private ArraySlice getMFDFileSector(
+        final long address
+    ) {
+        var sector = getSector(address);
+        if (sector == null) {
+            var hwTrack = _mfdFileTracks.get(address >> 6);
+            var pack = (hwTrack == null) ? null : _packsByLDAT.get(hwTrack.ldat);
+            if (pack != null) {
+                try {
+                    _directoryTracks.put(address & ~077L, readTracks(pack, hwTrack.trackId, 1));
+                    sector = getSector(address);
+                } catch (IOException ex) {
+                    pack.error("Cannot read directory track %012o:%s", hwTrack.trackId, ex.getMessage());
+                }
+            }
+        }
+
+        return sector;
+    }
+
+    /**
+     * Retrieves a sector which is referred to by another directory sector, checking that it is in use,
+     * and noting that it is referred to.
+     * @param what describes the sector, for messages
+     * @return the sector, or null if it is not in a directory track we know about
+     */
+    private ArraySlice getReferencedSector(
+        final Pack pack,
+        final long address,
+        final String what
+    ) {
+        var sector = getSector(address);
+        if (sector == null) {
+            var ldat = (int) (address >> 18);
+            if (_packsByLDAT.containsKey(ldat)) {
+                pack.error("%s at %012o is not in a known directory track", what, address);
+            } else {
+                pack.warning("%s at %012o is on LDAT %04o, which is not being verified", what, address, ldat);
+            }
+            return null;
+        }
+
+        if (!isSectorInUse(address)) {
+            pack.error("%s at %012o is not marked in use", what, address);
+        }
+        pack._referencedSectors.add(address);
+        return sector;
+    }
+
+    /**
+     * Lead item sector 0 is the only directory sector with bit 2 set and bit 1 clear in word 0
+     * (main items have bit 1 set, and DAD links and DAS words have neither).
+     */
+    private static boolean isLeadItem0(
+        final ArraySlice sector
+    ) {
+        return (sector.get(0) & 0_300000_000000L) == 0_100000_000000L;
+    }
+
+    /**
+     * Checks the DAS bit for a sector in a cached track
+     */
+    private boolean isSectorInUse(
+        final long address
+    ) {
+        var trackId = (address >> 6) & 07777;
+        var sectorId = (int) (address & 077);
+        var das = getSector(mfdAddress(address >> 18, trackId - (trackId % 9), 0));
+        if (das == null) {
+            return false;
+        }
+
+        var mask = 0_400000_000000L >> (sectorId & 037);
+        return (das.get((int) ((trackId % 9) * 3) + 1 + (sectorId >> 5)) & mask) != 0;
+    }
+
+    /**
+     * Loads a file set from what looks like lead item sector 0, following the link to lead item sector 1
+     * @return the lead item, or null if the sector does not contain a valid lead item
+     */
+    private LeadItem loadLeadItem(
+        final Pack pack,
+        final long leadItem0Address
+    ) {
+        var sector0 = getSector(leadItem0Address);
+        ArraySlice sector1 = null;
+        if ((sector0.get(0) & INVALID_LINK) == 0) {
+            var what = String.format("Lead item 1 for %012o", leadItem0Address);
+            sector1 = getReferencedSector(pack, sector0.get(0) & LINK_MASK, what);
+        }
+
+        var leadItem = parseLeadItem(leadItem0Address, sector0, sector1);
+        if (leadItem != null) {
+            pack._referencedSectors.add(leadItem0Address);
+        }
+        return leadItem;
+    }
+
+    /**
+     * Interprets lead item sectors 0 and (optionally) 1
+     * @return the lead item, or null if the qualifier or filename are not valid
+     */
+    private static LeadItem parseLeadItem(
+        final long leadItem0Address,
+        final ArraySlice sector0,
+        final ArraySlice sector1
+    ) {
+        var qualifier = (Word36.toStringFromFieldata(sector0.get(1)) + Word36.toStringFromFieldata(sector0.get(2))).trim();
+        var filename = (Word36.toStringFromFieldata(sector0.get(3)) + Word36.toStringFromFieldata(sector0.get(4))).trim();
+        if (!Parser.isValidQualifier(qualifier) || !Parser.isValidFilename(filename)) {
+            return null;
+        }
+
+        var leadItem1Address = ((sector0.get(0) & INVALID_LINK) == 0) ? sector0.get(0) & LINK_MASK : 0;
+
+        // cycle words run to the end of sector 0 and on into sector 1, ending with the first zero word
+        var mainItem0Addresses = new LinkedList<Long>();
+        var sector = sector0;
+        var wx = 11 + (int) sector0.getS4(10);
+        while (sector != null) {
+            if (wx >= WORDS_PER_SECTOR) {
+                sector = (sector == sector0) ? sector1 : null;
+                wx = 0;
+                continue;
+            }
+
+            var w = sector.get(wx++);
+            if (w == 0) {
+                break;
+            }
+            mainItem0Addresses.add(w & LINK_MASK);
+        }
+
+        return new LeadItem(leadItem0Address, qualifier, filename, (int) sector0.getS1(9), leadItem1Address, mainItem0Addresses);
+    }
+
+    /**
+     * Reads one or more consecutive tracks from a pack image. Anything beyond the end of the image reads as zeros,
+     * as it does for FileSystemDiskDevice.
+     */
+    private static ArraySlice readTracks(
+        final Pack pack,
+        final long trackId,
+        final int trackCount
+    ) throws IOException {
+        var buffer = ByteBuffer.allocate(trackCount * BYTES_PER_TRACK);
+        while (buffer.hasRemaining()) {
+            if (pack._channel.read(buffer, trackId * BYTES_PER_TRACK + buffer.position()) < 0) {
+                break;
+            }
+        }
+
+        var words = new ArraySlice(new long[trackCount * WORDS_PER_TRACK]);
+        words.unpack(buffer.array(), 0, buffer.capacity(), true);
+        return words;
+    }
+
+    private static void closePack(
+        final Pack pack
+    ) {
+        if (pack._channel != null) {
+            try {
+                pack._channel.close();
+            } catch (IOException ex) {
+                // nothing useful to be done
+            }
+            pack._channel = null;
+        }
+    }
+
+    /**
+     * Runs the given tasks on the executor, waiting for all of them to finish
+     */
+    private static void invokeAll(
+        final ExecutorService executor,
+        final List<Callable<Void>> tasks
+    ) throws InterruptedException {
+        for (var future : executor.invokeAll(tasks)) {
+            try {
+                future.get();
+            } catch (ExecutionException ex) {
+                var cause = ex.getCause();
+                if (cause instanceof RuntimeException rex) {
+                    throw rex;
+                }
+                throw new RuntimeException(cause);
+            }
+        }
+    }
+}
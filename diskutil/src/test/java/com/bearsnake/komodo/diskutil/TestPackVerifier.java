@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.diskutil;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.baselib.Word36;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Builds a pair of small fixed packs, either clean or with one thing wrong with them, and checks what the verifier
+ * finds - which must be the same whether it runs with one thread or several.
+ * The packs are:
+ *      PACK0A, LDAT 1, 2048 tracks - directory track 0 at track 1 holding SYS$*MFDF$$, and directory track 1 at
+ *          track 500 holding USER*DATA, which has tracks 1000-1099 on this pack and 10-19 on PACK0B
+ *      PACK0B, LDAT 2, 1024 tracks - directory track 0 at track 2, with no file sets.
+ */
+public class TestPackVerifier {
+
+    private static final int WORDS_PER_TRACK = 1792;
+    private static final int BYTES_PER_TRACK = 8192;
+    private static final long INVALID_LINK = 0_400000_000000L;
+    private static final long CAPACITY_A = 2048;
+    private static final long CAPACITY_B = 1024;
+
+    private enum Corruption {
+        None,
+        DASLink,           // the DAS in directory track 0 of PACK0A links to the wrong track
+        LeadItemFileType,  // the USER*DATA lead item has a file type which does not exist
+        DADInconsistent,   // the USER*DATA DAD links back to the wrong sector, and claims a directory track
+    }
+
+    private Path _directory;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        _directory = Files.createTempDirectory("diskutil");
+    }
+
+    @AfterEach
+    public void teardown() throws IOException {
+        try (var paths = Files.walk(_directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    private static long mfdAddress(final long ldat, final long trackId, final long sectorId) {
+        return (ldat << 18) | (trackId << 6) | sectorId;
+    }
+
+    private static void setNames(final long[] track, final int sectorId, final String qualifier, final String filename) {
+        var base = sectorId * 28;
+        var q = Word36.stringToWordsFieldata(String.format("%-12s", qualifier));
+        var f = Word36.stringToWordsFieldata(String.format("%-12s", filename));
+        track[base + 1] = q[0];
+        track[base + 2] = q[1];
+        track[base + 3] = f[0];
+        track[base + 4] = f[1];
+    }
+
+    private static void setDADEntry(
+        final long[] track,
+        final int sectorId,
+        final int entry,
+        final long trackId,
+        final long trackCount,
+        final boolean last,
+        final int ldat
+    ) {
+        var wx = sectorId * 28 + 4 + entry * 3;
+        track[wx] = trackId * WORDS_PER_TRACK;
+        track[wx + 1] = trackCount * WORDS_PER_TRACK;
+        track[wx + 2] = Word36.setH2(Word36.setH1(0, last ? 04 : 0), ldat);
+    }
+
+    private static long[] createLabel(final String packName, final long directoryTrackId, final long capacity) {
+        var track = new long[WORDS_PER_TRACK];
+        track[0] = Word36.stringToWordASCII("VOL1");
+        var name = Word36.stringToWordsASCII(String.format("%-8s", packName));
+        track[1] = name[0];
+        track[2] = name[1];
+        track[3] = directoryTrackId * WORDS_PER_TRACK;
+        track[4] = Word36.setH2(Word36.setH1(0, WORDS_PER_TRACK / 28), 28);
+        track[016] = capacity;
+        return track;
+    }
+
+    /**
+     * Directory track 0 - the DAS in sector 0 (with only sectors 0 through sectorsInUse-1 of the track in use,
+     * and no other directory tracks) and the pack information in sector 1
+     */
+    private static long[] createDirectoryTrack0(final int ldat, final String packName, final long capacity, final int sectorsInUse) {
+        var track = new long[WORDS_PER_TRACK];
+        track[0] = Word36.setH1(0, ldat);
+        track[1] = 0_777777_777777L & ~(0_777777_777777L >> sectorsInUse);
+        for (int wx = 3; wx <= 033; wx += 3) {
+            track[wx] = INVALID_LINK;
+        }
+
+        track[28 + 2] = capacity;
+        track[28 + 3] = capacity - 2;
+        track[28 + 4] = Word36.stringToWordFieldata(String.format("%-6s", packName));
+        track[28 + 5] = Word36.setH1(0, 0400000 | ldat);
+        return track;
+    }
+
+    private static void writeTrack(final RandomAccessFile file, final long trackId, final long[] words) throws IOException {
+        var bytes = new byte[BYTES_PER_TRACK];
+        new ArraySlice(words).pack(bytes, 0, true);
+        file.seek(trackId * BYTES_PER_TRACK);
+        file.write(bytes);
+    }
+
+    /**
+     * Writes the two pack images
+     * @return the image file names
+     */
+    private List<String> createPacks(final Corruption corruption) throws IOException {
+        var fileNameA = _directory.resolve("pack0a.pack").toString();
+        var fileNameB = _directory.resolve("pack0b.pack").toString();
+        try (var a = new RandomAccessFile(fileNameA, "rw"); var b = new RandomAccessFile(fileNameB, "rw")) {
+            writeTrack(a, 0, createLabel("PACK0A", 1, CAPACITY_A));
+
+            // PACK0A directory track 0 - sectors 2-5 are the lead item, main items and DAD for MFDF$$,
+            // whose DAD places directory track 0 and 1 of LDAT 1 and directory track 0 of LDAT 2
+            var t0 = createDirectoryTrack0(1, "PACK0A", CAPACITY_A, 6);
+            t0[3] = (corruption == Corruption.DASLink) ? mfdAddress(1, 2, 0) : mfdAddress(1, 1, 0);
+            t0[4] = 0_740000_000000L;
+
+            t0[2 * 28] = 0_500000_000000L;
+            setNames(t0, 2, "SYS$", "MFDF$$");
+            t0[2 * 28 + 11] = mfdAddress(1, 0, 3);
+
+            t0[3 * 28] = 0_200000_000000L | mfdAddress(1, 0, 5);
+            setNames(t0, 3, "SYS$", "MFDF$$");
+            t0[3 * 28 + 013] = mfdAddress(1, 0, 2);
+            t0[3 * 28 + 015] = mfdAddress(1, 0, 4);
+            t0[3 * 28 + 021] = 1;
+
+            t0[4 * 28] = INVALID_LINK;
+            setNames(t0, 4, "SYS$", "MFDF$$");
+
+            t0[5 * 28 + 1] = mfdAddress(1, 0, 3);
+            t0[5 * 28 + 2] = (1L << 12) * WORDS_PER_TRACK;
+            t0[5 * 28 + 3] = ((2L << 12) + 1) * WORDS_PER_TRACK;
+            setDADEntry(t0, 5, 0, 1, 1, false, 1);
+            setDADEntry(t0, 5, 1, 500, 1, false, 1);
+            setDADEntry(t0, 5, 2, 0, (2L << 12) - (1L << 12) - 2, false, 0400000);
+            setDADEntry(t0, 5, 3, 2, 1, true, 2);
+            writeTrack(a, 1, t0);
+
+            // PACK0A directory track 1 - USER*DATA
+            var t1 = new long[WORDS_PER_TRACK];
+            t1[0] = 0_500000_000000L;
+            setNames(t1, 0, "USER", "DATA");
+            t1[9] = (corruption == Corruption.LeadItemFileType) ? Word36.setS1(0, 077) : 0;
+            t1[11] = mfdAddress(1, 1, 1);
+
+            t1[28] = 0_200000_000000L | mfdAddress(1, 1, 3);
+            setNames(t1, 1, "USER", "DATA");
+            t1[28 + 013] = mfdAddress(1, 1, 0);
+            t1[28 + 015] = mfdAddress(1, 1, 2);
+            t1[28 + 021] = 1;
+
+            t1[2 * 28] = INVALID_LINK;
+            setNames(t1, 2, "USER", "DATA");
+
+            var inconsistent = corruption == Corruption.DADInconsistent;
+            t1[3 * 28 + 1] = inconsistent ? mfdAddress(1, 1, 2) : mfdAddress(1, 1, 1);
+            t1[3 * 28 + 3] = 110L * WORDS_PER_TRACK;
+            setDADEntry(t1, 3, 0, inconsistent ? 450 : 1000, 100, false, 1);
+            setDADEntry(t1, 3, 1, 10, 10, true, 2);
+            writeTrack(a, 500, t1);
+
+            var data = new long[WORDS_PER_TRACK];
+            Arrays.fill(data, 0_123456_701234L);
+            for (long tx = 1000; tx < 1100; tx++) {
+                writeTrack(a, tx, data);
+            }
+            a.setLength(CAPACITY_A * BYTES_PER_TRACK);
+
+            writeTrack(b, 0, createLabel("PACK0B", 2, CAPACITY_B));
+            writeTrack(b, 2, createDirectoryTrack0(2, "PACK0B", CAPACITY_B, 2));
+            for (long tx = 10; tx < 20; tx++) {
+                writeTrack(b, tx, data);
+            }
+            b.setLength(CAPACITY_B * BYTES_PER_TRACK);
+        }
+
+        return List.of(fileNameA, fileNameB);
+    }
+
+    /**
+     * Everything the verifier reports, apart from the elapsed time on the last line
+     */
+    private static String getReport(final PackVerifier verifier) {
+        var bytes = new ByteArrayOutputStream();
+        verifier.report(new PrintStream(bytes));
+        var report = bytes.toString();
+        return report.substring(0, report.lastIndexOf(" bytes verified in "));
+    }
+
+    /**
+     * Verifies the packs serially and in parallel, checks that both find the same things, and returns the serial one
+     */
+    private PackVerifier verify(final Corruption corruption) throws IOException {
+        var fileNames = createPacks(corruption);
+        var serial = new PackVerifier(1);
+        var serialResult = serial.verify(fileNames);
+        var parallel = new PackVerifier(4);
+        var parallelResult = parallel.verify(fileNames);
+
+        assertEquals(serialResult, parallelResult);
+        assertEquals(serial.getErrors(), parallel.getErrors());
+        assertEquals(serial.getWarnings(), parallel.getWarnings());
+        assertEquals(getReport(serial), getReport(parallel));
+        return serial;
+    }
+
+    private static void assertFound(final List<String> messages, final String text) {
+        assertTrue(messages.stream().anyMatch(msg -> msg.contains(text)), "'" + text + "' not in " + messages);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void goodPacks() throws IOException {
+        var verifier = verify(Corruption.None);
+        assertEquals(List.of(), verifier.getErrors());
+        assertEquals(List.of(), verifier.getWarnings());
+
+        var report = getReport(verifier);
+        assertTrue(report.contains("File Sets:                 2"));
+        assertTrue(report.contains("001750-002113 (100 tracks)"));
+        assertTrue(report.contains("000012-000023 (10 tracks)"));
+    }
+
+    @Test
+    public void corruptDAS() throws IOException {
+        var verifier = verify(Corruption.DASLink);
+        assertEquals(1, verifier.getErrorCount());
+        assertFound(verifier.getErrors(), String.format("DAS %012o word 03 is %012o, expected %012o",
+                                                        mfdAddress(1, 0, 0), mfdAddress(1, 2, 0), mfdAddress(1, 1, 0)));
+    }
+
+    @Test
+    public void badLeadItem() throws IOException {
+        var verifier = verify(Corruption.LeadItemFileType);
+        assertFound(verifier.getErrors(), String.format("Lead item %012o for USER*DATA has unknown file type 077",
+                                                        mfdAddress(1, 1, 0)));
+
+        // nothing below the lead item is looked at, so its main items and DAD are not part of any file set,
+        // and its data tracks are not allocated
+        assertFound(verifier.getWarnings(), "3 directory sectors are in use, but are not part of any file set");
+        assertFalse(getReport(verifier).contains("001750-002113 (100 tracks)"));
+    }
+
+    @Test
+    public void inconsistentDAD() throws IOException {
+        var verifier = verify(Corruption.DADInconsistent);
+        assertEquals(2, verifier.getErrorCount());
+        assertFound(verifier.getErrors(), String.format("DAD %012o for USER*DATA(1) links back to %012o, expected %012o",
+                                                        mfdAddress(1, 1, 3), mfdAddress(1, 1, 2), mfdAddress(1, 1, 1)));
+        assertFound(verifier.getErrors(), "USER*DATA(1) has tracks 000702-001045, which overlap tracks 000764-000764 of SYS$*MFDF$$(1)");
+    }
+}
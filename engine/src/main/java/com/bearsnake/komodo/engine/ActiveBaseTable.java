@@ -1,5 +1,6 @@
 package com.bearsnake.komodo.engine;
 
+import java.util.List;
 import java.util.stream.IntStream;
 
 public class ActiveBaseTable {
@@ -16,6 +17,20 @@ public class ActiveBaseTable {
         public int getBankDescriptorIndex() { return _bankDescriptorIndex; }
         public int getSubsetSpecification() { return _subsetSpecification; }
 
+        /**
+         * Indicates whether this entry names the bank with the given level and BDI
+         */
+        public boolean names(
+            final int bankLevel,
+            final int bankDescriptorIndex
+        ) {
+            return (_bankLevel == bankLevel) && (_bankDescriptorIndex == bankDescriptorIndex);
+        }
+
+        public void clear() {
+            set((short) 0, 0, 0);
+        }
+
         public void set(
             final short bankLevel,
             final int bankDescriptorIndex,
@@ -62,4 +77,19 @@ public class ActiveBaseTable {
         }
         return _entries[index];
     }
+
+    /**
+     * Finds the entries (1 through 15) which name the bank with the given level and BDI.
+     * Used when a queue bank is enqueued, so that the base registers on which it is based can be voided.
+     * @return the indices of the entries, in ascending order
+     */
+    public List<Integer> findEntries(
+        final int bankLevel,
+        final int bankDescriptorIndex
+    ) {
+        return IntStream.range(1, _entries.length)
+                        .filter(i -> _entries[i].names(bankLevel, bankDescriptorIndex))
+                        .boxed()
+                        .toList();
+    }
 }
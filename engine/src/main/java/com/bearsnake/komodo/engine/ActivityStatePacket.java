@@ -12,7 +12,7 @@ public class ActivityStatePacket {
     private final DesignatorRegister _designatorRegister = new DesignatorRegister();
     private final IndicatorKeyRegister _indicatorKeyRegister = new IndicatorKeyRegister();
     private final ProgramAddressRegister _programAddressRegister = new ProgramAddressRegister();
-    private final long _quantumTimer = 0;
+    private long _quantumTimer = 0;
 
     public ActivityStatePacket() {
     }
@@ -29,4 +29,11 @@ public class ActivityStatePacket {
         _currentInstruction.setW(instruction);
         return this;
     }
+
+    public ActivityStatePacket setQuantumTimer(
+        final long value
+    ) {
+        _quantumTimer = value;
+        return this;
+    }
 }
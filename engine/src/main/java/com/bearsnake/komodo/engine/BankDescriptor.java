@@ -8,13 +8,16 @@ import com.bearsnake.komodo.baselib.ArraySlice;
 
 public class BankDescriptor {
 
+    // Number of words in a bank descriptor
+    public static final int SIZE = 8;
+
     // static methods ----------------------------------------------------------
 
     public static AccessPermissions getGeneralAccessPermissions(
         final ArraySlice storage,
         final int offset
     ) {
-        return new AccessPermissions((int)(storage.get(offset) >> 33) & 03);
+        return new AccessPermissions((int)(storage.get(offset) >> 33) & 07);
     }
 
     public static AccessPermissions getSpecialAccessPermissions(
@@ -77,7 +80,7 @@ public class BankDescriptor {
         final ArraySlice storage,
         final int offset
     ) {
-        return new AbsoluteAddress(storage, 2);
+        return new AbsoluteAddress(storage, offset + 2);
     }
 
     public static long getInactiveQBDListNextPointer(
@@ -101,6 +104,41 @@ public class BankDescriptor {
         return (storage.get(offset + 4) & 0_400000_000000L) != 0;
     }
 
+    // Queue bank linkage - a queue bank which is on a queue (or in a queue bank repository) has the enqueued bit set,
+    // and is linked to the queue bank behind it by the level and BDI in word 5 H1 (zero for the last bank).
+    // These fields are read and updated only by the queueing instructions, under the queue's update-in-progress bit.
+
+    public static boolean isEnqueued(
+        final ArraySlice storage,
+        final int offset
+    ) {
+        return (storage.get(offset + 4) & 0_200000_000000L) != 0;
+    }
+
+    public static void setEnqueued(
+        final ArraySlice storage,
+        final int offset,
+        final boolean flag
+    ) {
+        var value = storage.get(offset + 4) & ~0_200000_000000L;
+        storage.set(offset + 4, flag ? value | 0_200000_000000L : value);
+    }
+
+    public static long getNextQueueBank(
+        final ArraySlice storage,
+        final int offset
+    ) {
+        return (storage.get(offset + 5) >> 18) & 0_777777L;
+    }
+
+    public static void setNextQueueBank(
+        final ArraySlice storage,
+        final int offset,
+        final long levelAndBDI
+    ) {
+        storage.set(offset + 5, (storage.get(offset + 5) & 0_777777L) | ((levelAndBDI & 0_777777L) << 18));
+    }
+
     // instance methods --------------------------------------------------------
 
     private final AccessPermissions _generalAccessPermissions;
@@ -116,6 +154,8 @@ public class BankDescriptor {
     private long _displacement;
     private final AbsoluteAddress _baseAddress;
     private long _inactiveQBDListNextPointer;
+    private boolean _enqueued;
+    private long _nextQueueBank;
 
     public BankDescriptor() {
         _generalAccessPermissions = new AccessPermissions();
@@ -131,6 +171,8 @@ public class BankDescriptor {
         _displacement = 0;
         _baseAddress = new AbsoluteAddress(0, 0);
         _inactiveQBDListNextPointer = 0;
+        _enqueued = false;
+        _nextQueueBank = 0;
     }
 
     public BankDescriptor(final boolean basicMode,
@@ -172,6 +214,8 @@ public class BankDescriptor {
         _upperLimit = ul;
         _inactive = false;
         _inactiveQBDListNextPointer = 0;
+        _enqueued = false;
+        _nextQueueBank = 0;
         _displacement = displacement;
     }
 
@@ -198,6 +242,8 @@ public class BankDescriptor {
 
         _displacement = (buffer[4] >> 18) & 077777L;
         _inactive = (buffer[4] & 0_400000_000000L) != 0;
+        _enqueued = (buffer[4] & 0_200000_000000L) != 0;
+        _nextQueueBank = (buffer[5] >> 18) & 0_777777L;
 
         _inactiveQBDListNextPointer = buffer[3];
         _baseAddress = new AbsoluteAddress(buffer, 2);
@@ -218,6 +264,8 @@ public class BankDescriptor {
     public boolean isInactive() { return _inactive; }
     public long getDisplacement() { return _displacement; }
     public long getInactiveQBDListNextPointer() { return _inactiveQBDListNextPointer; }
+    public boolean isEnqueued() { return _enqueued; }
+    public long getNextQueueBank() { return _nextQueueBank; }
 
     public BankDescriptor setAccessLock(final AccessLock lock) { _accessLock.set(lock); return this; }
     public BankDescriptor setBankType(final BankType bankType) { _bankType = bankType; return this; }
@@ -232,6 +280,8 @@ public class BankDescriptor {
     public BankDescriptor setInactive(final boolean flag) { _inactive = flag; return this; }
     public BankDescriptor setDisplacement(final long value) { _displacement = value; return this; }
     public BankDescriptor setInactiveQBDListNextPointer(final long value) { _inactiveQBDListNextPointer = value; return this; }
+    public BankDescriptor setEnqueued(final boolean flag) { _enqueued = flag; return this; }
+    public BankDescriptor setNextQueueBank(final long value) { _nextQueueBank = value; return this; }
 
     public void serialize(final long[] buffer) {
         long value0 = 0;
@@ -270,6 +320,9 @@ public class BankDescriptor {
         if (_inactive) {
             value4 |= 0_400000_000000L;
         }
+        if (_enqueued) {
+            value4 |= 0_200000_000000L;
+        }
         value4 |= (_displacement & 077777L) << 18;
 
         buffer[0] = value0;
@@ -277,6 +330,6 @@ public class BankDescriptor {
         buffer[2] = value2;
         buffer[3] = value3;
         buffer[4] = value4;
-        buffer[5] = 0;
+        buffer[5] = (_nextQueueBank & 0_777777L) << 18;
     }
 }
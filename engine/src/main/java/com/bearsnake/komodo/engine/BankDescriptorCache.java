@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+
+/**
+ * Per-engine cache of banks described by bank descriptors, keyed by bank level and BDI.
+ * Each entry holds the bank type and a base register already built from the descriptor, so that basing a bank
+ * which is in the cache is a hash lookup and a copy of the base register, rather than a read of the
+ * bank descriptor table and the construction of a new base register.
+ * Each entry also records the table and offset of the descriptor it was built from, and for an indirect bank,
+ * the level, table, and offset of the target descriptor.
+ * Entries are discarded (or ignored)
+ *      when the bank descriptor table for the level, or for the level of the target of an indirect bank,
+ *          is no longer the one the entry was read from (i.e., the level base register B16+level has been reloaded)
+ *      when any storage write made by the engine touches a descriptor from which the entry was built
+ *          (for an indirect bank, either the indirect descriptor or its target)
+ *      when invalidate() is called - which is required when anything other than this engine's instructions
+ *          (another engine, or the operating system working directly on storage) updates a descriptor.
+ */
+public class BankDescriptorCache {
+
+    public static class Entry {
+
+        private final BankType _bankType;
+        private final BaseRegister _baseRegister;
+        private final ArraySlice _table;
+        private final int _offset;
+        private final int _targetLevel;
+        private final ArraySlice _targetTable;
+        private final int _targetOffset;
+
+        /**
+         * Creates an entry for a bank described directly by a descriptor
+         * @param bankType bank type
+         * @param baseRegister base register built from the descriptor
+         * @param table storage of the bank descriptor table containing the descriptor
+         * @param offset offset of the descriptor in the table storage
+         */
+        public Entry(
+            final BankType bankType,
+            final BaseRegister baseRegister,
+            final ArraySlice table,
+            final int offset
+        ) {
+            this(bankType, baseRegister, table, offset, -1, null, 0);
+        }
+
+        /**
+         * Creates an entry for a bank reached through an indirect descriptor
+         * @param bankType bank type of the target bank
+         * @param baseRegister base register built from the target descriptor
+         * @param table storage of the bank descriptor table containing the indirect descriptor
+         * @param offset offset of the indirect descriptor in the table storage
+         * @param targetLevel level of the target descriptor
+         * @param targetTable storage of the bank descriptor table containing the target descriptor
+         * @param targetOffset offset of the target descriptor in the target table storage
+         */
+        public Entry(
+            final BankType bankType,
+            final BaseRegister baseRegister,
+            final ArraySlice table,
+            final int offset,
+            final int targetLevel,
+            final ArraySlice targetTable,
+            final int targetOffset
+        ) {
+            _bankType = bankType;
+            _baseRegister = baseRegister;
+            _table = table;
+            _offset = offset;
+            _targetLevel = targetLevel;
+            _targetTable = targetTable;
+            _targetOffset = targetOffset;
+        }
+
+        public BankType getBankType() { return _bankType; }
+        public BaseRegister getBaseRegister() { return _baseRegister; }
+        public ArraySlice getTable() { return _table; }
+        public int getOffset() { return _offset; }
+        public boolean isIndirect() { return _targetTable != null; }
+
+        /**
+         * Indicates whether the tables this entry was read from are still the ones based for their levels
+         */
+        private boolean isCurrent(
+            final ArraySlice table,
+            final BaseRegister[] baseRegisters
+        ) {
+            return (_table == table)
+                && ((_targetTable == null)
+                    || (_targetTable == baseRegisters[Constants.BDT_BASE_REGISTER + _targetLevel].getStorage()));
+        }
+
+        /**
+         * Indicates whether the given absolute range of the given array overlaps any descriptor this entry was built from
+         */
+        private boolean overlaps(
+            final long[] array,
+            final int low,
+            final int high
+        ) {
+            return overlaps(_table, _offset, array, low, high)
+                || ((_targetTable != null) && overlaps(_targetTable, _targetOffset, array, low, high));
+        }
+
+        private static boolean overlaps(
+            final ArraySlice table,
+            final int offset,
+            final long[] array,
+            final int low,
+            final int high
+        ) {
+            var descriptorLow = table._offset + offset;
+            return (table._array == array)
+                && (low <= descriptorLow + BankDescriptor.SIZE - 1)
+                && (high >= descriptorLow);
+        }
+    }
+
+    /**
+     * Absolute range of a backing array within which we have read descriptors
+     */
+    private static class ReadRange {
+
+        private final long[] _array;
+        private int _low;
+        private int _high;
+
+        private ReadRange(
+            final long[] array,
+            final int low,
+            final int high
+        ) {
+            _array = array;
+            _low = low;
+            _high = high;
+        }
+    }
+
+    private final HashMap<Integer, Entry> _entries = new HashMap<>();
+
+    // The ranges of storage from which we have read descriptors, so that we can cheaply ignore writes which do not
+    // touch any descriptor. There is one range per backing array, so a table which is replaced and later restored
+    // is still covered.
+    private final LinkedList<ReadRange> _readRanges = new LinkedList<>();
+
+    private long _hitCount = 0;
+    private long _missCount = 0;
+
+    /**
+     * Retrieves the cached bank for the given level and BDI
+     * @param level bank level
+     * @param bankDescriptorIndex bank descriptor index
+     * @param baseRegisters the engine's base registers, from which the currently-based bank descriptor tables
+     *                      (B16 through B23) are taken
+     * @return the entry, or null if the bank is not cached, or was cached from a table (or for an indirect bank,
+     * a target table) which is no longer the one based for its level
+     */
+    public Entry get(
+        final int level,
+        final int bankDescriptorIndex,
+        final BaseRegister[] baseRegisters
+    ) {
+        var entry = _entries.get((level << 15) | bankDescriptorIndex);
+        if ((entry == null)
+            || !entry.isCurrent(baseRegisters[Constants.BDT_BASE_REGISTER + level].getStorage(), baseRegisters)) {
+            _missCount++;
+            return null;
+        }
+
+        _hitCount++;
+        return entry;
+    }
+
+    /**
+     * Caches a bank
+     * @param level bank level
+     * @param bankDescriptorIndex bank descriptor index
+     * @param entry the bank
+     */
+    public void put(
+        final int level,
+        final int bankDescriptorIndex,
+        final Entry entry
+    ) {
+        _entries.put((level << 15) | bankDescriptorIndex, entry);
+    }
+
+    /**
+     * Notes that a bank descriptor has been read from the given table, so that writes to it can be detected
+     * @param table storage of the bank descriptor table
+     * @param offset offset of the descriptor in the table storage
+     * @param length length of the descriptor
+     */
+    public void noteRead(
+        final ArraySlice table,
+        final int offset,
+        final int length
+    ) {
+        var low = table._offset + offset;
+        var high = low + length - 1;
+        for (var range : _readRanges) {
+            if (range._array == table._array) {
+                range._low = Math.min(range._low, low);
+                range._high = Math.max(range._high, high);
+                return;
+            }
+        }
+        _readRanges.add(new ReadRange(table._array, low, high));
+    }
+
+    /**
+     * Discards any cached bank built from a descriptor which overlaps the given range of storage
+     * @param storage storage being written
+     * @param offset offset of the first word being written
+     * @param count number of words being written
+     */
+    public void noteWrite(
+        final ArraySlice storage,
+        final int offset,
+        final int count
+    ) {
+        if (_readRanges.isEmpty()) {
+            return;
+        }
+
+        var low = storage._offset + offset;
+        var high = low + count - 1;
+        for (var range : _readRanges) {
+            if ((range._array == storage._array) && (low <= range._high) && (high >= range._low)) {
+                _entries.values().removeIf(entry -> entry.overlaps(storage._array, low, high));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Discards all cached banks
+     */
+    public void invalidate() {
+        _entries.clear();
+        _readRanges.clear();
+    }
+
+    public long getHitCount() { return _hitCount; }
+    public long getMissCount() { return _missCount; }
+    public int size() { return _entries.size(); }
+}
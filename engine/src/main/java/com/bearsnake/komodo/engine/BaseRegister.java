@@ -144,6 +144,24 @@ public class BaseRegister {
         }
     }
 
+    /**
+     * Makes this base register a copy of another, sharing its storage
+     */
+    public BaseRegister set(
+        final BaseRegister source
+    ) {
+        _generalAccessPermissions = source._generalAccessPermissions;
+        _specialAccessPermissions = source._specialAccessPermissions;
+        _isVoid = source._isVoid;
+        _isLargeBank = source._isLargeBank;
+        _accessLock = source._accessLock;
+        _lowerLimit = source._lowerLimit;
+        _upperLimit = source._upperLimit;
+        _baseAddress = source._baseAddress;
+        _storage = source._storage;
+        return this;
+    }
+
     /**
      * Creates a void base register.
      */
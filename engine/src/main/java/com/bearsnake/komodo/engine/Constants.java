@@ -6,6 +6,11 @@ public class Constants {
     public static int BREAKPOINT_READ = 2;
     public static int BREAKPOINT_WRITE = 4;
 
+    //  Base registers with architecturally-defined uses.
+    //  B16 through B23 base the bank descriptor tables for levels 0 through 7, and B25 bases the return control stack.
+    public static final int BDT_BASE_REGISTER = 16;
+    public static final int RCS_BASE_REGISTER = 25;
+
     //  Indices of the defined registers indicating where they are found in the GRS.
     //  X0-X15, A0-A15, and R0-R15 are user registers.
     //  EX0-EX15, EA0-EA15, and ER0-ER15 are EXEC registers.
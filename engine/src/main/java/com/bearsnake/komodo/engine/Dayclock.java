@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine;
+
+/**
+ * The system dayclock - a count of microseconds, shared by all the engines.
+ * The value is derived from System.nanoTime(), which is monotonic, relative to an epoch which records
+ * the dayclock value at a particular nanoTime. Loading the dayclock or changing its mode establishes a new epoch.
+ * The epoch is immutable and published through a volatile reference, so reading the dayclock takes no lock.
+ * In fast or slow mode the dayclock gains or loses one microsecond in every 1024, so that it can be drawn
+ * toward an external time reference without ever stepping.
+ */
+public class Dayclock {
+
+    public enum Mode {
+        NORMAL,
+        FAST,
+        SLOW,
+    }
+
+    private static final int DRIFT_SHIFT = 10;
+
+    private record Epoch(long nanos, long micros, Mode mode) {}
+
+    private volatile Epoch _epoch;
+
+    public Dayclock() {
+        _epoch = new Epoch(System.nanoTime(), System.currentTimeMillis() * 1000, Mode.NORMAL);
+    }
+
+    /**
+     * Retrieves the current dayclock value, in microseconds
+     */
+    public long getMicros() {
+        return getMicros(_epoch, System.nanoTime());
+    }
+
+    private static long getMicros(
+        final Epoch epoch,
+        final long nanos
+    ) {
+        var elapsed = (nanos - epoch.nanos) / 1000;
+        return switch (epoch.mode) {
+            case NORMAL -> epoch.micros + elapsed;
+            case FAST -> epoch.micros + elapsed + (elapsed >> DRIFT_SHIFT);
+            case SLOW -> epoch.micros + elapsed - (elapsed >> DRIFT_SHIFT);
+        };
+    }
+
+    public Mode getMode() {
+        return _epoch.mode;
+    }
+
+    /**
+     * Loads the dayclock - it counts onward from the given value, in the current mode
+     */
+    public synchronized void setMicros(
+        final long micros
+    ) {
+        _epoch = new Epoch(System.nanoTime(), micros, _epoch.mode);
+    }
+
+    /**
+     * Changes the rate of the dayclock without disturbing its current value
+     */
+    public synchronized void setMode(
+        final Mode mode
+    ) {
+        var nanos = System.nanoTime();
+        _epoch = new Epoch(nanos, getMicros(_epoch, nanos), mode);
+    }
+}
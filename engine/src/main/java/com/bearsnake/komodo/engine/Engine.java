@@ -4,6 +4,7 @@
 
 package com.bearsnake.komodo.engine;
 
+import com.bearsnake.komodo.baselib.ArraySlice;
 import com.bearsnake.komodo.baselib.InstructionWord;
 import com.bearsnake.komodo.baselib.Word36;
 import com.bearsnake.komodo.engine.exceptions.EngineHaltedException;
@@ -31,6 +32,8 @@ public class Engine {
     }
 
     private static final int JUMP_HISTORY_TABLE_SIZE = 512;
+    private static final int QUANTUM_BATCH_LIMIT = 64;
+    private static final int RCS_FRAME_SIZE = 2;
 
     public enum InstructionPoint {
         BETWEEN_INSTRUCTIONS,
@@ -40,11 +43,34 @@ public class Engine {
 
     private final ActiveBaseTable _activeBaseTable = new ActiveBaseTable();
     private final ActivityStatePacket _activityStatePacket = new ActivityStatePacket();
+    private final BankDescriptorCache _bankDescriptorCache = new BankDescriptorCache();
     private final BaseRegister[] _baseRegisters = new BaseRegister[32];
     private final GeneralRegisterSet _generalRegisterSet = new GeneralRegisterSet();
 
     private HaltCode _haltCode = null;
 
+    // Storage behind absolute addresses - required for basing banks from bank descriptors.
+    private MainStorage _mainStorage = null;
+
+    // The return control stack is based on B25. Its storage and normalized limits are held here,
+    // so that pushing or popping a frame is a limit compare and two stores or loads.
+    // The frame array is reused by every pop.
+    private ArraySlice _rcsStorage = null;
+    private long _rcsLowerLimit = 0;
+    private long _rcsUpperLimit = -1;
+    private final long[] _rcsFrame = new long[RCS_FRAME_SIZE];
+
+    // Instructions executed since the quantum timer in the activity state packet was last decremented.
+    // The timer is charged in a batch when control leaves a straight-line run of instructions (a jump, or
+    // an interrupt), or when the batch limit is reached - so the per-instruction cost is an increment and a compare.
+    private int _quantumPending = 0;
+
+    // The dayclock is shared by all engines. Each engine has its own comparator - when the dayclock reaches it,
+    // a dayclock interrupt is posted. It is checked when the quantum timer is charged, and only when armed.
+    private static final Dayclock DAYCLOCK = new Dayclock();
+    private static final long DAYCLOCK_COMPARATOR_DISARMED = Long.MAX_VALUE;
+    private long _dayclockComparator = DAYCLOCK_COMPARATOR_DISARMED;
+
     // Normally PC is incremented at the end of instruction execution.
     // Transfer instructions set this flag to prevent this behavior, as they have already
     // set the PC to the desired value.
@@ -166,6 +192,28 @@ public class Engine {
         }
     }
 
+    /**
+     * Decrements the quantum timer by the number of instructions executed since it was last charged.
+     * Posts a quantum timer interrupt if the timer goes negative while DB12 is set, and a dayclock interrupt
+     * if the dayclock comparator is armed and the dayclock has reached it.
+     */
+    private void chargeQuantum() {
+        if (_quantumPending != 0) {
+            var oldTimer = _activityStatePacket.getQuantumTimer();
+            var newTimer = oldTimer - _quantumPending;
+            _activityStatePacket.setQuantumTimer(newTimer);
+            _quantumPending = 0;
+            if ((oldTimer >= 0) && (newTimer < 0) && _activityStatePacket.getDesignatorRegister().isQuantumTimerEnabled()) {
+                postInterrupt(new QuantumTimerInterrupt());
+            }
+        }
+
+        if ((_dayclockComparator != DAYCLOCK_COMPARATOR_DISARMED) && (DAYCLOCK.getMicros() >= _dayclockComparator)) {
+            _dayclockComparator = DAYCLOCK_COMPARATOR_DISARMED;
+            postInterrupt(new DayclockInterrupt(MachineInterrupt.Synchrony.Pended));
+        }
+    }
+
     /**
      * Checks the accessibility of a given relative address in the bank described by this
      * base register for the given flags, using the given key.
@@ -183,6 +231,9 @@ public class Engine {
         checkAccessLimitsForAddress(basicMode, baseRegisterIndex, relativeAddress, fetchFlag);
         var bReg = _baseRegisters[baseRegisterIndex];
         checkAccessibility(bReg, fetchFlag, readFlag, writeFlag, accessKey);
+        if (writeFlag) {
+            noteStorageWrite(bReg, relativeAddress, 1);
+        }
     }
 
     /**
@@ -235,6 +286,9 @@ public class Engine {
         }
 
         checkAccessibility(bReg, false, readFlag, writeFlag, accessKey);
+        if (writeFlag) {
+            noteStorageWrite(bReg, relativeAddress, addressCount);
+        }
     }
 
     /**
@@ -273,6 +327,13 @@ public class Engine {
         _jumpHistoryTableFirstIndex = 0;
         _jumpHistoryTableNextIndex = 0;
         _scratchpad.clear();
+        _rcsStorage = null;
+        _rcsLowerLimit = 0;
+        _rcsUpperLimit = -1;
+        _bankDescriptorCache.invalidate();
+        _activityStatePacket.setQuantumTimer(0);
+        _quantumPending = 0;
+        _dayclockComparator = DAYCLOCK_COMPARATOR_DISARMED;
         // TODO anything else to clear?
     }
 
@@ -367,7 +428,7 @@ public class Engine {
         var dr = _activityStatePacket.getDesignatorRegister();
         var ikr = _activityStatePacket.getIndicatorKeyRegister();
         var par = _activityStatePacket.getProgramAddressRegister();
-        var r1Reg = getExecOrUserRRegister(1);
+        var r1x = getExecOrUserRRegisterIndex(1);
         boolean complete = false;
 
         try {
@@ -385,6 +446,11 @@ public class Engine {
                 return false;
             }
 
+            // Each completed instruction (or iteration of an execute-repeated instruction) costs one quantum.
+            if (++_quantumPending == QUANTUM_BATCH_LIMIT) {
+                chargeQuantum();
+            }
+
             // The instruction completed, but if this is executed-repeated
             // then we have additional work to do.
             if (ikr.isExecuteRepeatedInstruction()) {
@@ -392,14 +458,14 @@ public class Engine {
                 // For Extended mode, use bits 12-35 as an unsigned counter.
                 // For Basic mode, use bits 18-35. In either case, decrement the register.
                 if (dr.isBasicModeEnabled()) {
-                    r1Reg.decrementCounter18();
+                    _generalRegisterSet.decrementCounter18(r1x);
                 } else {
-                    r1Reg.decrementCounter24();
+                    _generalRegisterSet.decrementCounter24(r1x);
                 }
 
                 // If the repeat counter is now zero, clear the EXRF flag and drop through with
                 // the complete flag still set. Otherwise, set complete flag to false to keep looping.
-                if (r1Reg.isZero()) {
+                if (Word36.isZero(_generalRegisterSet.getW(r1x))) {
                     ikr.setExecuteRepeatedInstruction(false);
                 } else {
                     complete = false;
@@ -414,9 +480,11 @@ public class Engine {
                     par.incrementProgramCounter();
                 } else {
                     _preventProgramCounterUpdate = false;
+                    chargeQuantum();
                 }
             }
         } catch (MachineInterrupt e) {
+            chargeQuantum();
             postInterrupt(e);
         } finally {
             addressClearLocks();
@@ -577,7 +645,28 @@ public class Engine {
         throw new ReferenceViolationInterrupt(ReferenceViolationInterrupt.ErrorType.StorageLimitsViolation, isFetch);
     }
 
-    ActiveBaseTable.Entry getActiveBaseTableEntry(
+    /**
+     * Determines the base register through which the given relative address is to be referenced,
+     * for instructions which develop storage addresses other than U (such as BT).
+     * For basic mode, this is the first of the candidate base registers whose bank contains the address.
+     * For extended mode, it is the base register indicated by F0.B (and F0.I as appropriate).
+     * @param relativeAddress relative address of interest
+     * @return base register index
+     * @throws ReferenceViolationInterrupt if basic mode is in effect and no based bank contains the address
+     */
+    public int findBaseRegisterIndex(
+        final int relativeAddress
+    ) throws ReferenceViolationInterrupt {
+        return _activityStatePacket.getDesignatorRegister().isBasicModeEnabled()
+               ? findBasicModeBaseRegisterIndex(relativeAddress, false)
+               : getEffectiveBaseRegisterIndex();
+    }
+
+    /**
+     * Retrieves the active base table entry (bank level, BDI, and subset) for the bank based on the given
+     * base register, which must be in the range B1 through B15.
+     */
+    public ActiveBaseTable.Entry getActiveBaseTableEntry(
         final int registerNumber
     ) {
         return _activeBaseTable.getEntry(registerNumber);
@@ -590,6 +679,34 @@ public class Engine {
         return _activityStatePacket;
     }
 
+    /**
+     * Retrieves the bank described by the bank descriptor for the given level and BDI, with a base register
+     * built from the descriptor which is ready to be copied into the register on which the bank is to be based.
+     * The descriptor is read from the bank descriptor table based on B16+level only if the bank is not already
+     * in the bank descriptor cache. Indirect banks are followed (one level) to their target bank.
+     * Level 0 BDIs 0 through 31 do not describe banks, and must be dealt with by the caller.
+     * @param level bank level, 0 to 7
+     * @param bankDescriptorIndex bank descriptor index, 0 to 077777
+     * @return the bank
+     * @throws AddressingExceptionInterrupt if the BDI is not within the level's table, if the descriptor
+     * has the G bit set or has an invalid type, or if the bank is not in main storage
+     */
+    public BankDescriptorCache.Entry getBank(
+        final int level,
+        final int bankDescriptorIndex
+    ) throws AddressingExceptionInterrupt {
+        var entry = _bankDescriptorCache.get(level, bankDescriptorIndex, _baseRegisters);
+        if (entry == null) {
+            entry = readBank(level, bankDescriptorIndex, level, bankDescriptorIndex, false);
+            _bankDescriptorCache.put(level, bankDescriptorIndex, entry);
+        }
+        return entry;
+    }
+
+    public BankDescriptorCache getBankDescriptorCache() {
+        return _bankDescriptorCache;
+    }
+
     public BaseRegister getBaseRegister(
         final int registerNumber
     ) {
@@ -638,7 +755,7 @@ public class Engine {
                 if (!GeneralRegisterSet.isAccessAllowed(grsIndex, _activityStatePacket.getDesignatorRegister().getProcessorPrivilege(), false)) {
                     throw new ReferenceViolationInterrupt(ReferenceViolationInterrupt.ErrorType.ReadAccessViolation, true);
                 }
-                result[ox] = _generalRegisterSet.getRegister(grsIndex).getW();
+                result[ox] = _generalRegisterSet.getW(grsIndex);
                 grsIndex++;
             }
             return result;
@@ -653,9 +770,7 @@ public class Engine {
         }
 
         var offset = _scratchpad._operandRelativeAddress - bReg.getLowerLimitNormalized();
-        return IntStream.range(0, count)
-                        .mapToLong(ox -> bReg.getStorage().get(offset + ox))
-                        .toArray();
+        return bReg.getStorage().getRange(offset, count);
     }
 
     /**
@@ -665,6 +780,23 @@ public class Engine {
         return _activityStatePacket.getCurrentInstruction();
     }
 
+    public Dayclock getDayclock() {
+        return DAYCLOCK;
+    }
+
+    public long getDayclockComparator() {
+        return _dayclockComparator;
+    }
+
+    /**
+     * Arms the dayclock comparator - a dayclock interrupt is posted once the dayclock reaches the given value
+     */
+    public void setDayclockComparator(
+        final long micros
+    ) {
+        _dayclockComparator = micros;
+    }
+
     public DesignatorRegister getDesignatorRegister() {
         return _activityStatePacket.getDesignatorRegister();
     }
@@ -707,6 +839,25 @@ public class Engine {
         return _generalRegisterSet.getRegister(getExecOrUserARegisterIndex(registerNumber));
     }
 
+    /**
+     * Retrieves the value of the indicated A register, without going through a Register view
+     */
+    public long getExecOrUserARegisterValue(
+        final int registerNumber
+    ) {
+        return _generalRegisterSet.getW(getExecOrUserARegisterIndex(registerNumber));
+    }
+
+    /**
+     * Sets the value of the indicated A register, without going through a Register view
+     */
+    public void setExecOrUserARegisterValue(
+        final int registerNumber,
+        final long value
+    ) {
+        _generalRegisterSet.setW(getExecOrUserARegisterIndex(registerNumber), value);
+    }
+
     public int getExecOrUserRRegisterIndex(
         final int registerNumber
     ) {
@@ -724,6 +875,25 @@ public class Engine {
         return _generalRegisterSet.getRegister(getExecOrUserRRegisterIndex(registerNumber));
     }
 
+    /**
+     * Retrieves the value of the indicated R register, without going through a Register view
+     */
+    public long getExecOrUserRRegisterValue(
+        final int registerNumber
+    ) {
+        return _generalRegisterSet.getW(getExecOrUserRRegisterIndex(registerNumber));
+    }
+
+    /**
+     * Sets the value of the indicated R register, without going through a Register view
+     */
+    public void setExecOrUserRRegisterValue(
+        final int registerNumber,
+        final long value
+    ) {
+        _generalRegisterSet.setW(getExecOrUserRRegisterIndex(registerNumber), value);
+    }
+
     public int getExecOrUserXRegisterIndex(
         final int registerNumber
     ) {
@@ -741,6 +911,25 @@ public class Engine {
         return _generalRegisterSet.getRegister(getExecOrUserXRegisterIndex(registerNumber));
     }
 
+    /**
+     * Retrieves the value of the indicated X register, without going through a Register view
+     */
+    public long getExecOrUserXRegisterValue(
+        final int registerNumber
+    ) {
+        return _generalRegisterSet.getW(getExecOrUserXRegisterIndex(registerNumber));
+    }
+
+    /**
+     * Sets the value of the indicated X register, without going through a Register view
+     */
+    public void setExecOrUserXRegisterValue(
+        final int registerNumber,
+        final long value
+    ) {
+        _generalRegisterSet.setW(getExecOrUserXRegisterIndex(registerNumber), value);
+    }
+
     /**
      * For use by various (likely external) callers.
      * Because the caller is asking for a register by its GRS index, we have to ensure the access is allowed.
@@ -817,11 +1006,11 @@ public class Engine {
 
             // Add the contents of Xx(m) if F0.x is non-zero
             if (ci.getX() != 0) {
-                var xReg = getExecOrUserXRegister(ci.getX());
+                var xRegIndex = getExecOrUserXRegisterIndex(ci.getX());
                 if (!dr.isBasicModeEnabled() && (privilege < 2) && exec24Index) {
-                    operand = Word36.addSimple(operand, xReg.getXM24());
+                    operand = Word36.addSimple(operand, _generalRegisterSet.getXM24(xRegIndex));
                 } else {
-                    operand = Word36.addSimple(operand, xReg.getXM());
+                    operand = Word36.addSimple(operand, _generalRegisterSet.getXM(xRegIndex));
                 }
                 incrementIndexRegisterInF0();
             }
@@ -874,11 +1063,11 @@ public class Engine {
 
         // Add the contents of Xx(m) if F0.x is non-zero
         if (ci.getX() != 0) {
-            var xReg = getExecOrUserXRegister(ci.getX());
+            var xRegIndex = getExecOrUserXRegisterIndex(ci.getX());
             if (!dr.isBasicModeEnabled() && (privilege < 2) && exec24Index) {
-                operand = Word36.addSimple(operand, xReg.getXM24());
+                operand = Word36.addSimple(operand, _generalRegisterSet.getXM24(xRegIndex));
             } else {
-                operand = Word36.addSimple(operand, xReg.getXM());
+                operand = Word36.addSimple(operand, _generalRegisterSet.getXM(xRegIndex));
             }
             incrementIndexRegisterInF0();
         }
@@ -965,7 +1154,7 @@ public class Engine {
         // If grsDest is true, get the full value. Otherwise, honor j-field for partial-word transfer.
         // (Any GRS-to-GRS transfer is full-word, regardless of j-field)
         if (_scratchpad._operandIsGRS) {
-            var operand = _generalRegisterSet.getRegister(_scratchpad._operandRelativeAddress).getW();
+            var operand = _generalRegisterSet.getW(_scratchpad._operandRelativeAddress);
             if (!grsDestination && allowPartialWordTransfer) {
                 operand = extractPartialWord(operand, jFIeld, dr.isQuarterWordModeEnabled());
             }
@@ -993,6 +1182,24 @@ public class Engine {
         return operand;
     }
 
+    /**
+     * Retrieves the quantum timer, after charging it for any instructions executed since it was last charged
+     */
+    public long getQuantumTimer() {
+        chargeQuantum();
+        return _activityStatePacket.getQuantumTimer();
+    }
+
+    /**
+     * Loads the quantum timer, discarding any charge for instructions executed since it was last charged
+     */
+    public void setQuantumTimer(
+        final long value
+    ) {
+        _quantumPending = 0;
+        _activityStatePacket.setQuantumTimer(value);
+    }
+
     public ProgramAddressRegister getProgramAddressRegister() {
         return _activityStatePacket.getProgramAddressRegister();
     }
@@ -1001,6 +1208,37 @@ public class Engine {
         return _random;
     }
 
+    /**
+     * Provides a view of a range of storage words for the storage-to-storage instructions, which move
+     * many words at a time. Limits and accessibility are checked once, for the entire range,
+     * after which the caller may read and/or write the returned slice directly.
+     * @param baseRegisterIndex index of the base register describing the bank
+     * @param relativeAddress relative address of the first word of the range
+     * @param count number of words in the range
+     * @param readFlag true if the words are to be read
+     * @param writeFlag true if the words are to be written
+     * @return slice of the bank's storage covering exactly the requested range
+     * @throws ReferenceViolationInterrupt if the bank is void, the range exceeds the bank limits,
+     * or the requested access is not allowed
+     */
+    public ArraySlice getStorageRange(
+        final int baseRegisterIndex,
+        final int relativeAddress,
+        final int count,
+        final boolean readFlag,
+        final boolean writeFlag
+    ) throws ReferenceViolationInterrupt {
+        var bReg = _baseRegisters[baseRegisterIndex];
+        if (bReg.isVoid()) {
+            throw new ReferenceViolationInterrupt(ReferenceViolationInterrupt.ErrorType.StorageLimitsViolation, false);
+        }
+
+        var key = _activityStatePacket.getIndicatorKeyRegister().getAccessKey();
+        checkAccessLimitsRange(bReg, relativeAddress, count, readFlag, writeFlag, key);
+        var offset = relativeAddress - bReg.getLowerLimitNormalized();
+        return new ArraySlice(bReg.getStorage(), offset, count);
+    }
+
     /**
      * Sets the halt code for the engine.
      * Subsequent invocations of cycle() will throw HaltedException until this is cleared.
@@ -1042,11 +1280,11 @@ public class Engine {
         var ci = _activityStatePacket.getCurrentInstruction();
         if (ci.getH() > 0) {
             var dr = _activityStatePacket.getDesignatorRegister();
-            var xReg = getExecOrUserXRegister(ci.getX());
+            var xRegIndex = getExecOrUserXRegisterIndex(ci.getX());
             if (!dr.isBasicModeEnabled() && (dr.getProcessorPrivilege() < 2) && dr.isExecutive24BitIndexingEnabled()) {
-                xReg.incrementModifier24();
+                _generalRegisterSet.incrementModifier24(xRegIndex);
             } else {
-                xReg.incrementModifier18();
+                _generalRegisterSet.incrementModifier18(xRegIndex);
             }
         }
     }
@@ -1121,6 +1359,30 @@ public class Engine {
         createJumpHistory(oldAddress);
     }
 
+    /**
+     * Discards all banks held in the bank descriptor cache.
+     * This must be invoked whenever a bank descriptor is updated by anything other than a store made by
+     * this engine - including stores made by other engines.
+     */
+    public void invalidateBankDescriptorCache() {
+        _bankDescriptorCache.invalidate();
+    }
+
+    /**
+     * Informs the bank descriptor cache of a store to the given range of the bank described by a base register
+     */
+    private void noteStorageWrite(
+        final BaseRegister bReg,
+        final long relativeAddress,
+        final long addressCount
+    ) {
+        var storage = bReg.getStorage();
+        if (storage != null) {
+            var offset = (int) (relativeAddress - bReg.getLowerLimitNormalized());
+            _bankDescriptorCache.noteWrite(storage, offset, (int) addressCount);
+        }
+    }
+
     /**
      * Polls to see if an interrupt is pending
      * @return the highest-priority interrupt currently pending, or null if none are pending
@@ -1149,6 +1411,185 @@ public class Engine {
         _preventProgramCounterUpdate = flag;
     }
 
+    /**
+     * Pops the top frame from the return control stack. The stack is based on B25, and grows downward;
+     * EX0.XM is the relative address of the top frame. Each frame is two words - the reentry point
+     * (bank level, BDI, and program counter) and the designator bits 12-17 and access key to be restored.
+     * @return the two words of the frame, in an array owned by the engine which is overwritten by the next pop
+     * @throws RCSGenericStackUnderflowOverflowInterrupt if there is no frame on the stack
+     */
+    public long[] popReturnControlStackFrame() throws RCSGenericStackUnderflowOverflowInterrupt {
+        refreshReturnControlStack();
+        var ex0 = _generalRegisterSet.getW(Constants.GRS_EX0);
+        var pointer = Word36.getH2(ex0);
+        if ((pointer < _rcsLowerLimit) || (pointer + RCS_FRAME_SIZE - 1 > _rcsUpperLimit)) {
+            throw new RCSGenericStackUnderflowOverflowInterrupt(RCSGenericStackUnderflowOverflowInterrupt.Reason.Underflow,
+                                                                Constants.RCS_BASE_REGISTER,
+                                                                pointer);
+        }
+
+        var offset = (int) (pointer - _rcsLowerLimit);
+        _rcsFrame[0] = _rcsStorage.get(offset);
+        _rcsFrame[1] = _rcsStorage.get(offset + 1);
+        _generalRegisterSet.setW(Constants.GRS_EX0, Word36.setH2(ex0, pointer + RCS_FRAME_SIZE));
+        return _rcsFrame;
+    }
+
+    /**
+     * Pushes a frame onto the return control stack - see popReturnControlStackFrame()
+     * @param reentryPoint bank level, BDI, and program counter of the reentry point, as a virtual address
+     * @param state designator bits 12-17 and access key to be restored when the frame is popped
+     * @throws RCSGenericStackUnderflowOverflowInterrupt if there is no room on the stack for the frame
+     */
+    public void pushReturnControlStackFrame(
+        final long reentryPoint,
+        final long state
+    ) throws RCSGenericStackUnderflowOverflowInterrupt {
+        refreshReturnControlStack();
+        var ex0 = _generalRegisterSet.getW(Constants.GRS_EX0);
+        var pointer = Word36.getH2(ex0) - RCS_FRAME_SIZE;
+        if ((pointer < _rcsLowerLimit) || (pointer + RCS_FRAME_SIZE - 1 > _rcsUpperLimit)) {
+            throw new RCSGenericStackUnderflowOverflowInterrupt(RCSGenericStackUnderflowOverflowInterrupt.Reason.Overflow,
+                                                                Constants.RCS_BASE_REGISTER,
+                                                                pointer);
+        }
+
+        var offset = (int) (pointer - _rcsLowerLimit);
+        _rcsStorage.set(offset, reentryPoint);
+        _rcsStorage.set(offset + 1, state);
+        _bankDescriptorCache.noteWrite(_rcsStorage, offset, RCS_FRAME_SIZE);
+        _generalRegisterSet.setW(Constants.GRS_EX0, Word36.setH2(ex0, pointer));
+    }
+
+    /**
+     * Reads a bank descriptor and builds the bank it describes
+     * @param level level of the table from which the descriptor is to be read
+     * @param bankDescriptorIndex index of the descriptor within the table
+     * @param sourceLevel level of the bank originally requested, for interrupts
+     * @param sourceBankDescriptorIndex BDI of the bank originally requested, for interrupts
+     * @param indirect true if we are following an indirect bank
+     */
+    private BankDescriptorCache.Entry readBank(
+        final int level,
+        final int bankDescriptorIndex,
+        final int sourceLevel,
+        final int sourceBankDescriptorIndex,
+        final boolean indirect
+    ) throws AddressingExceptionInterrupt {
+        var tableRegister = _baseRegisters[Constants.BDT_BASE_REGISTER + level];
+        if (tableRegister.isVoid()) {
+            throw new AddressingExceptionInterrupt(AddressingExceptionInterrupt.Reason.FatalAddressingException,
+                                                   sourceLevel,
+                                                   sourceBankDescriptorIndex);
+        }
+
+        var relAddr = (long) bankDescriptorIndex * BankDescriptor.SIZE;
+        if ((relAddr < tableRegister.getLowerLimitNormalized())
+            || (relAddr + BankDescriptor.SIZE - 1 > tableRegister.getUpperLimitNormalized())) {
+            throw new AddressingExceptionInterrupt(AddressingExceptionInterrupt.Reason.InvalidSourceLevelBDI,
+                                                   sourceLevel,
+                                                   sourceBankDescriptorIndex);
+        }
+
+        var table = tableRegister.getStorage();
+        var offset = (int) (relAddr - tableRegister.getLowerLimitNormalized());
+        _bankDescriptorCache.noteRead(table, offset, BankDescriptor.SIZE);
+
+        if (BankDescriptor.isGeneralFault(table, offset)) {
+            var reason = indirect ? AddressingExceptionInterrupt.Reason.GBitSetIndirect
+                                  : AddressingExceptionInterrupt.Reason.FatalAddressingException;
+            throw new AddressingExceptionInterrupt(reason, sourceLevel, sourceBankDescriptorIndex);
+        }
+
+        var typeCode = (int) (table.get(offset) >> 24) & 0_017;
+        if (typeCode > BankType.DataExpanse._code) {
+            throw new AddressingExceptionInterrupt(AddressingExceptionInterrupt.Reason.BDTypeInvalid,
+                                                   sourceLevel,
+                                                   sourceBankDescriptorIndex);
+        }
+
+        var bankType = BankType.get(typeCode);
+        if (bankType == BankType.Indirect) {
+            if (indirect) {
+                throw new AddressingExceptionInterrupt(AddressingExceptionInterrupt.Reason.BDTypeInvalid,
+                                                       sourceLevel,
+                                                       sourceBankDescriptorIndex);
+            }
+            var target = BankDescriptor.getIndirectLevelAndBDI(table, offset);
+            var targetLevel = (int) (target >> 15) & 07;
+            var bank = readBank(targetLevel,
+                                (int) target & 077777,
+                                sourceLevel,
+                                sourceBankDescriptorIndex,
+                                true);
+            return new BankDescriptorCache.Entry(bank.getBankType(),
+                                                 bank.getBaseRegister(),
+                                                 table,
+                                                 offset,
+                                                 targetLevel,
+                                                 bank.getTable(),
+                                                 bank.getOffset());
+        }
+
+        var baseAddress = BankDescriptor.getBaseAddress(table, offset);
+        var bReg = new BaseRegister().setGeneralAccessPermissions(BankDescriptor.getGeneralAccessPermissions(table, offset))
+                                     .setSpecialAccessPermissions(BankDescriptor.getSpecialAccessPermissions(table, offset))
+                                     .setAccessLock(BankDescriptor.getAccessLock(table, offset))
+                                     .setIsLargeBank(BankDescriptor.isLargeBank(table, offset))
+                                     .setLowerLimit((int) BankDescriptor.getLowerLimit(table, offset))
+                                     .setUpperLimit((int) BankDescriptor.getUpperLimit(table, offset))
+                                     .setBaseAddress(baseAddress);
+
+        var lowerLimit = bReg.getLowerLimitNormalized();
+        var upperLimit = bReg.getUpperLimitNormalized();
+        if (upperLimit < lowerLimit) {
+            bReg.makeVoid();
+        } else {
+            var segment = (_mainStorage == null) ? null : _mainStorage.getSegment(baseAddress.getSegment());
+            var start = (long) baseAddress.getOffset() + lowerLimit;
+            var length = upperLimit - lowerLimit + 1;
+            if ((segment == null) || (start + length > segment.getSize())) {
+                throw new AddressingExceptionInterrupt(AddressingExceptionInterrupt.Reason.FatalAddressingException,
+                                                       sourceLevel,
+                                                       sourceBankDescriptorIndex);
+            }
+            bReg.setIsVoid(false).setStorage(new ArraySlice(segment, (int) start, length));
+        }
+
+        return new BankDescriptorCache.Entry(bankType, bReg, table, offset);
+    }
+
+    /**
+     * Provides the engine with the storage behind absolute addresses.
+     * The bank descriptor cache is invalidated, as the banks it holds may no longer be valid.
+     */
+    public void setMainStorage(
+        final MainStorage mainStorage
+    ) {
+        _mainStorage = mainStorage;
+        _bankDescriptorCache.invalidate();
+    }
+
+    /**
+     * Picks up the storage and limits of the bank based on B25 if B25 has been loaded since we last looked.
+     * Any load of B25 (by LBE, or by the operating system) replaces its storage, which is what we check for.
+     * A void B25 leaves limits which no stack pointer can satisfy.
+     */
+    private void refreshReturnControlStack() {
+        var bReg = _baseRegisters[Constants.RCS_BASE_REGISTER];
+        var storage = bReg.getStorage();
+        if (storage != _rcsStorage) {
+            _rcsStorage = storage;
+            if (bReg.isVoid() || (storage == null)) {
+                _rcsLowerLimit = 0;
+                _rcsUpperLimit = -1;
+            } else {
+                _rcsLowerLimit = bReg.getLowerLimitNormalized();
+                _rcsUpperLimit = bReg.getUpperLimitNormalized();
+            }
+        }
+    }
+
     /**
      * Wrapper for the two methods which provide this service for basic and extended modes, respectively.
      */
@@ -1193,11 +1634,11 @@ public class Engine {
         var x = ci.getX();
         if (x != 0) {
             long addend;
-            var xReg = getExecOrUserXRegister(x);
+            var xRegIndex = getExecOrUserXRegisterIndex(x);
             if (dr.isExecutive24BitIndexingEnabled() && dr.getProcessorPrivilege() < 2) {
-                addend = xReg.getSignedXM24();
+                addend = _generalRegisterSet.getSignedXM24(xRegIndex);
             } else {
-                addend = xReg.getSignedXM();
+                addend = _generalRegisterSet.getSignedXM(xRegIndex);
             }
             relAddr = (int)Word36.addSimple(relAddr, addend);
             incrementIndexRegisterInF0();
@@ -1265,11 +1706,11 @@ public class Engine {
         var x = ci.getX();
         if (x != 0) {
             long addend;
-            var xReg = getExecOrUserXRegister(x);
+            var xRegIndex = getExecOrUserXRegisterIndex(x);
             if (dr.isExecutive24BitIndexingEnabled() && dr.getProcessorPrivilege() < 2) {
-                addend = xReg.getSignedXM24();
+                addend = _generalRegisterSet.getSignedXM24(xRegIndex);
             } else {
-                addend = xReg.getSignedXM();
+                addend = _generalRegisterSet.getSignedXM(xRegIndex);
             }
             relAddr = (int)Word36.addSimple(relAddr, addend);
             incrementIndexRegisterInF0();
@@ -1326,7 +1767,7 @@ public class Engine {
                 if (!GeneralRegisterSet.isAccessAllowed(addr, pPriv, true)) {
                     throw new ReferenceViolationInterrupt(ReferenceViolationInterrupt.ErrorType.WriteAccessViolation, true);
                 }
-                _generalRegisterSet.setRegister(addr, operands[offset + i]);
+                _generalRegisterSet.setW(addr, operands[offset + i]);
             }
             return true;
         }
@@ -1406,11 +1847,11 @@ public class Engine {
 
             if (!grsSource && allowPartial) {
                 var qWord = dr.isQuarterWordModeEnabled();
-                var origValue = _generalRegisterSet.getRegister(_scratchpad._operandRelativeAddress).getW();
+                var origValue = _generalRegisterSet.getW(_scratchpad._operandRelativeAddress);
                 var newValue = injectPartialWord(origValue, jField, operand, qWord);
-                _generalRegisterSet.setRegister(_scratchpad._operandRelativeAddress, newValue);
+                _generalRegisterSet.setW(_scratchpad._operandRelativeAddress, newValue);
             } else {
-                _generalRegisterSet.setRegister(_scratchpad._operandRelativeAddress, operand);
+                _generalRegisterSet.setW(_scratchpad._operandRelativeAddress, operand);
             }
 
             return true;
@@ -1478,6 +1919,41 @@ public class Engine {
         return true;
     }
 
+    /**
+     * For read-modify-write instructions such as INC and ADD1 - we assume the operand has already been retrieved via
+     * getOperand(), so the relative address has been resolved (and any index register incremented).
+     * We store the new value back to that same location under j-field control, whether it is in the GRS or in storage.
+     */
+    public void storeToCachedOperand(
+        final long operand
+    ) throws ReferenceViolationInterrupt {
+        var dr = _activityStatePacket.getDesignatorRegister();
+        var jField = _activityStatePacket.getCurrentInstruction().getJ();
+        var qWord = dr.isQuarterWordModeEnabled();
+
+        if (_scratchpad._operandIsGRS) {
+            var grsIndex = _scratchpad._operandRelativeAddress;
+            if (!GeneralRegisterSet.isAccessAllowed(grsIndex, dr.getProcessorPrivilege(), true)) {
+                throw new ReferenceViolationInterrupt(ReferenceViolationInterrupt.ErrorType.WriteAccessViolation, true);
+            }
+            _generalRegisterSet.setW(grsIndex, injectPartialWord(_generalRegisterSet.getW(grsIndex), jField, operand, qWord));
+            return;
+        }
+
+        var bReg = _baseRegisters[_scratchpad._operandBaseRegisterIndex];
+        var offset = _scratchpad._operandRelativeAddress - bReg.getLowerLimitNormalized();
+
+        var ikr = _activityStatePacket.getIndicatorKeyRegister();
+        var key = ikr.getAccessKey();
+        checkAccessLimitsAndAccessibility(dr.isBasicModeEnabled(),
+                                          _scratchpad._operandBaseRegisterIndex,
+                                          _scratchpad._operandRelativeAddress,
+                                          false, false, true, key);
+
+        var origValue = bReg.getStorage().get(offset);
+        bReg.getStorage().set(offset, injectPartialWord(origValue, jField, operand, qWord));
+    }
+
     /**
      * For CR and other instructions - we assume the relative address has already been resolved,
      * and we just need to store the operand there.
@@ -1497,4 +1973,18 @@ public class Engine {
 
         bReg.getStorage().set(offset, operand);
     }
+
+    /**
+     * Voids the user base registers (B1 through B15) on which the bank with the given level and BDI is based,
+     * and clears their active base table entries. Used when a queue bank is given up by an enqueue.
+     */
+    public void voidBaseRegisters(
+        final int level,
+        final int bankDescriptorIndex
+    ) {
+        for (var brx : _activeBaseTable.findEntries(level, bankDescriptorIndex)) {
+            _baseRegisters[brx].makeVoid();
+            _activeBaseTable.getEntry(brx).clear();
+        }
+    }
 }
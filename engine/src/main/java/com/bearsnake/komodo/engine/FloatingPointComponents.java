@@ -48,17 +48,15 @@ public class FloatingPointComponents {
 
     private static final int DW36_CHARACTERISTIC_BITS = 11;
     static final int DW36_EXPONENT_BIAS = 1024;
-    private static final BigInteger DW36BI_EXPONENT_BIAS = BigInteger.valueOf(DW36_EXPONENT_BIAS);
     private static final int DW36_EXPONENT_BIT_COUNT = 11;
     private static final int DW36_MANTISSA_BIT_COUNT = 60;
-    private static final BigInteger DW36_CHARACTERISTIC_MASK = BigInteger.valueOf((1L << DW36_CHARACTERISTIC_BITS) - 1).shiftLeft(DW36_MANTISSA_BIT_COUNT);
-    private static final BigInteger DW36_MANTISSA_MASK = BigInteger.valueOf((1L << DW36_MANTISSA_BIT_COUNT) - 1);
-    private static final BigInteger DW36_SIGN_BIT = BigInteger.ONE.shiftLeft(DW36_MANTISSA_BIT_COUNT + DW36_EXPONENT_BIT_COUNT);
-    private static final BigInteger DW36_FULL_MASK = DW36_CHARACTERISTIC_MASK.or(DW36_MANTISSA_MASK).or(DW36_SIGN_BIT);
+    //  The 72-bit format is handled as two 36-bit halves - the upper half holds the sign, the characteristic,
+    //  and the most significant bits of the mantissa; the lower half holds the rest of the mantissa.
+    private static final int DW36_HIGH_MANTISSA_BIT_COUNT = DW36_MANTISSA_BIT_COUNT - 36;
+    private static final long DW36_CHARACTERISTIC_MASK = (1L << DW36_CHARACTERISTIC_BITS) - 1;
+    private static final long DW36_HIGH_MANTISSA_MASK = (1L << DW36_HIGH_MANTISSA_BIT_COUNT) - 1;
     private static final int DW36_LOWEST_EXPONENT = -1024;
     private static final int DW36_HIGHEST_EXPONENT = 1023;
-    private static final BigInteger DW36_NEGATIVE_ZERO = BigInteger.valueOf(0_777777_777777L).shiftLeft(36).or(BigInteger.valueOf(0_777777_777777L));
-    private static final BigInteger DW36_POSITIVE_ZERO = BigInteger.ZERO;
 
     private static final int IEEE754_SINGLE_CHARACTERISTIC_BIT_COUNT = 8;
     private static final int IEEE754_SINGLE_EXPONENT_BIAS = 127;
@@ -156,7 +154,7 @@ public class FloatingPointComponents {
         } else {
             _integral = 0;
             _exponent = (int) ((absValue & W36_CHARACTERISTIC_MASK) >> W36_MANTISSA_BIT_COUNT) - W36_EXPONENT_BIAS;
-            _fractional = absValue & W36_MANTISSA_MASK;
+            _fractional = (absValue & W36_MANTISSA_MASK) << (MANTISSA_BIT_COUNT - W36_MANTISSA_BIT_COUNT);
         }
     }
 
@@ -168,19 +166,16 @@ public class FloatingPointComponents {
         final int offset
     ) {
         _isNegative = DoubleWord36.isNegative(source, offset);
-        BigInteger absValue = DoubleWord36.getTwosComplement(source, offset);
-        if (_isNegative) {
-            absValue = absValue.xor(DoubleWord36.BIT_MASK);
-        }
+        long high = _isNegative ? Word36.negate(source[offset]) : source[offset] & Word36.BIT_MASK;
+        long low = _isNegative ? Word36.negate(source[offset + 1]) : source[offset + 1] & Word36.BIT_MASK;
 
-        if (absValue.equals(DW36_POSITIVE_ZERO)) {
-            _integral = 0;
+        _integral = 0;
+        if ((high == 0) && (low == 0)) {
             _fractional = 0;
             _exponent = 0;
         } else {
-            _integral = 0;
-            _exponent = absValue.and(DW36_CHARACTERISTIC_MASK).shiftRight(DW36_MANTISSA_BIT_COUNT).subtract(DW36BI_EXPONENT_BIAS).intValue();
-            _fractional = absValue.and(DW36_MANTISSA_MASK).longValue();
+            _exponent = (int) ((high >>> DW36_HIGH_MANTISSA_BIT_COUNT) & DW36_CHARACTERISTIC_MASK) - DW36_EXPONENT_BIAS;
+            _fractional = ((high & DW36_HIGH_MANTISSA_MASK) << 36) | low;
         }
     }
 
@@ -331,11 +326,11 @@ public class FloatingPointComponents {
                                final int offset)
         throws CharacteristicOverflowException,
                CharacteristicUnderflowException {
-        BigInteger rawBits;
         FloatingPointComponents normalized = normalizeNoThrow();
 
         if ((_integral == 0) && (_fractional == 0)) {
-            rawBits = _isNegative ? DW36_NEGATIVE_ZERO : DW36_POSITIVE_ZERO;
+            destination[offset] = _isNegative ? Word36.NEGATIVE_ZERO : Word36.POSITIVE_ZERO;
+            destination[offset + 1] = destination[offset];
         } else {
             if (normalized._exponent < DW36_LOWEST_EXPONENT) {
                 throw new CharacteristicUnderflowException();
@@ -344,17 +339,18 @@ public class FloatingPointComponents {
             }
 
             long biasedExponent = normalized._exponent + DW36_EXPONENT_BIAS;
-            BigInteger sizedMantissa = BigInteger.valueOf(normalized._fractional);
             // internal mantissa shift count is equal to the DW36 mantissa shift count,
             // so no shift is necessary for the sized mantissa.
-
-            rawBits = BigInteger.valueOf(biasedExponent).shiftLeft(DW36_MANTISSA_BIT_COUNT).or(sizedMantissa);
+            long high = (biasedExponent << DW36_HIGH_MANTISSA_BIT_COUNT) | (normalized._fractional >>> 36);
+            long low = normalized._fractional & Word36.BIT_MASK;
             if (normalized._isNegative) {
-                rawBits = rawBits.xor(DW36_FULL_MASK);
+                high ^= Word36.BIT_MASK;
+                low ^= Word36.BIT_MASK;
             }
-        }
 
-        DoubleWord36.getOnesComplement(rawBits, destination, offset);
+            destination[offset] = high;
+            destination[offset + 1] = low;
+        }
     }
 
     /**
@@ -415,18 +411,19 @@ public class FloatingPointComponents {
             return normal1;
         }
 
+        //  (Java only honors the low six bits of a shift count, so anything shifted out entirely must become zero explicitly)
         if (normal1._exponent < normal2._exponent) {
             int diff = normal2._exponent - normal1._exponent;
             normal1 = new FloatingPointComponents(normal1._isNegative,
                                                   normal1._exponent + diff,
                                                   0L,
-                                                  normal1._fractional >>> diff);
+                                                  diff >= MANTISSA_BIT_COUNT ? 0L : normal1._fractional >>> diff);
         } else if (normal2._exponent < normal1._exponent) {
             int diff = normal1._exponent - normal2._exponent;
             normal2 = new FloatingPointComponents(normal2._isNegative,
                                                   normal2._exponent + diff,
                                                   0L,
-                                                  normal2._fractional >>> diff);
+                                                  diff >= MANTISSA_BIT_COUNT ? 0L : normal2._fractional >>> diff);
         }
 
         //  Are we going to be adding (addend signs are equal) or subtracting (signs are unequal)?
@@ -613,57 +610,21 @@ public class FloatingPointComponents {
         FloatingPointComponents factor1Norm = normalizeNoThrow();
         FloatingPointComponents factor2Norm = factor.normalizeNoThrow();
 
-        //  Zeros are out of the way.  Downshift the mantissas until the LSB is non-zero.
-        //  Keep track of positions right of the decimal point
-        long thisTempMantissa = factor1Norm._fractional;
-        int thisDecimals = MANTISSA_BIT_COUNT;
-        while ((thisTempMantissa & 01) == 0) {
-            thisTempMantissa >>= 1;
-            --thisDecimals;
-        }
-
-        long operandTempMantissa = factor2Norm._fractional;
-        int operandDecimals = MANTISSA_BIT_COUNT;
-        while ((operandTempMantissa & 01) == 0) {
-            operandTempMantissa >>= 1;
-            --operandDecimals;
-        }
-
-        //  Calculate the resulting exponent and mantissa.
-        //  Note that, since both adjusted factors have their LSB's set,
-        //  the result is guaranteed to also have its LSB set.
-        BigInteger result = BigInteger.valueOf(thisTempMantissa).multiply(BigInteger.valueOf(operandTempMantissa));
-        int resultDecimals = thisDecimals + operandDecimals;
-        while (result.and(BigInteger.ONE).equals(BigInteger.ZERO)) {
-            result = result.shiftRight(1);
-        }
-
-        //  Realign based on resultDecimals
-        if (resultDecimals < MANTISSA_BIT_COUNT) {
-            result = result.shiftLeft(MANTISSA_BIT_COUNT - resultDecimals);
-        } else if (resultDecimals > MANTISSA_BIT_COUNT) {
-            result = result.shiftRight(resultDecimals - MANTISSA_BIT_COUNT);
-        }
-
-        //  Since we're multiplying a 60-bit value by another 60-bit value, the result could have as many
-        //  as 119 significant bits.  Downshift the current result until only the bottom 60 bits are non-zero.
+        //  Zeros are out of the way.  Both mantissas are normalized 60-bit fractions, so the product has 120 fractional bits,
+        //  of which we keep the top 60 (truncating the rest). That value is at least 2^58, so at most one shift is needed
+        //  to normalize it.
+        long high = Math.multiplyHigh(factor1Norm._fractional, factor2Norm._fractional);
+        long low = factor1Norm._fractional * factor2Norm._fractional;
+        long result = (high << (64 - MANTISSA_BIT_COUNT)) | (low >>> MANTISSA_BIT_COUNT);
         int resultExponent = factor1Norm._exponent + factor2Norm._exponent;
-        BigInteger compMask = BigInteger.valueOf(MANTISSA_MASK).shiftLeft(MANTISSA_BIT_COUNT);
-        while (!result.and(compMask).equals(BigInteger.ZERO)) {
-            result = result.shiftRight(1);
-            ++resultExponent;
-        }
-
-        //  Now normalize - if we did anything in the previous loop, there shouldn't be anything to do here.
-        BigInteger leftBit = BigInteger.valueOf(MANTISSA_LEFTMOST_BIT);
-        while (result.and(leftBit).equals(BigInteger.ZERO)) {
-            result = result.shiftLeft(1);
+        if ((result & MANTISSA_LEFTMOST_BIT) == 0) {
+            result <<= 1;
             --resultExponent;
         }
 
         //  All done.
         checkExponent(resultExponent);
-        return new FloatingPointComponents(resultNegative, resultExponent, 0L, result.longValue());
+        return new FloatingPointComponents(resultNegative, resultExponent, 0L, result);
     }
 
     /**
@@ -686,6 +647,405 @@ public class FloatingPointComponents {
     }
 
 
+    //  ----------------------------------------------------------------------------------------------------------------------------
+    //  Word-level arithmetic
+    //  ----------------------------------------------------------------------------------------------------------------------------
+
+    //  The floating point instructions operate on these, rather than on FPC objects.
+    //  Each operation first tries a fast path which converts the operands to host doubles - exactly, since every
+    //  single-precision value, and every double-precision value with no more than 53 significant mantissa bits,
+    //  is representable as a double - and does the arithmetic in hardware. The fast path is only taken when
+    //  the host result can be shown to be the one the exact path would produce:
+    //      for add, the host sum must be exact (checked with the Fast2Sum error term)
+    //      for multiply, the host product must be exact (checked with fma)
+    //      for single-precision divide, the host quotient truncated to 27 bits must bracket the true quotient
+    //          (checked with fma); for double-precision divide, the host quotient must be exact
+    //      zero operands, zero or subnormal host products and quotients, double-precision products (and dividends)
+    //          too small for the fma residual to be exact, and results outside the characteristic range of the
+    //          destination format all go to the exact path
+    //  Everything else goes through the FPC-based exact path, which is also responsible for throwing
+    //  characteristic overflow and underflow and divide by zero.
+
+    private static final long HOST_MANTISSA_MASK = IEEE754_DOUBLE_MANTISSA_MASK;
+    private static final long HOST_HIDDEN_BIT = 1L << IEEE754_DOUBLE_MANTISSA_BIT_COUNT;
+    private static final int HOST_EXTRA_BITS = IEEE754_DOUBLE_MANTISSA_BIT_COUNT + 1 - W36_MANTISSA_BIT_COUNT;
+    private static final int DW36_EXTRA_BITS = DW36_MANTISSA_BIT_COUNT - (IEEE754_DOUBLE_MANTISSA_BIT_COUNT + 1);
+    private static final long DW36_EXTRA_BITS_MASK = (1L << DW36_EXTRA_BITS) - 1;
+    private static final int DW36_LOWEST_HOST_EXPONENT = Double.MIN_EXPONENT + IEEE754_DOUBLE_MANTISSA_BIT_COUNT + 1;
+    //  The fma residual of a product of two doubles needs twice the host precision below the product's exponent -
+    //  for products smaller than this it can underflow to zero, so zero no longer proves the product exact
+    private static final int HOST_LOWEST_RESIDUAL_EXPONENT = Double.MIN_EXPONENT + 2 * (IEEE754_DOUBLE_MANTISSA_BIT_COUNT + 1);
+
+    //  Signals that the fast path declined, and the caller must use the exact path
+    private static final long NO_FAST_RESULT = -1L;
+
+    /**
+     * Produces 2^exponent for exponents within the normal double range
+     */
+    private static double powerOfTwo(
+        final int exponent
+    ) {
+        return Double.longBitsToDouble((long)(exponent + IEEE754_DOUBLE_EXPONENT_BIAS) << IEEE754_DOUBLE_MANTISSA_BIT_COUNT);
+    }
+
+    /**
+     * Converts a single-precision floating point word to the host double with the same value.
+     * This is always exact. Zero words (of either sign) produce 0.0.
+     */
+    private static double singleToHost(
+        final long word
+    ) {
+        var negative = Word36.isNegative(word);
+        var magnitude = negative ? Word36.negate(word) : word;
+        var mantissa = magnitude & W36_MANTISSA_MASK;
+        if (mantissa == 0) {
+            return 0.0;
+        }
+
+        var exponent = (int)(magnitude >>> W36_MANTISSA_BIT_COUNT) - W36_EXPONENT_BIAS;
+        var value = (double)mantissa * powerOfTwo(exponent - W36_MANTISSA_BIT_COUNT);
+        return negative ? -value : value;
+    }
+
+    /**
+     * Converts a normal host double to a single-precision floating point word, truncating the mantissa to 27 bits.
+     * @return the word, or NO_FAST_RESULT if the value is zero, subnormal, or outside the single-precision range
+     */
+    private static long hostToSingle(
+        final double value
+    ) {
+        var bits = Double.doubleToRawLongBits(value);
+        var biased = (int)((bits & IEEE754_DOUBLE_CHARACTERISTIC_MASK) >>> IEEE754_DOUBLE_MANTISSA_BIT_COUNT);
+        //  The host significand is in [1, 2) while ours is in [1/2, 1), hence the extra 1 on the exponent
+        var exponent = biased - IEEE754_DOUBLE_EXPONENT_BIAS + 1;
+        if ((biased == 0) || (exponent < W36_LOWEST_EXPONENT) || (exponent > W36_HIGHEST_EXPONENT)) {
+            return NO_FAST_RESULT;
+        }
+
+        var mantissa = ((bits & HOST_MANTISSA_MASK) | HOST_HIDDEN_BIT) >>> HOST_EXTRA_BITS;
+        var word = ((long)(exponent + W36_EXPONENT_BIAS) << W36_MANTISSA_BIT_COUNT) | mantissa;
+        return (bits < 0) ? word ^ W36_FULL_MASK : word;
+    }
+
+    /**
+     * Converts a double-precision floating point value to the host double with the same value,
+     * if there is one which is a normal double.
+     * @return the value, 0.0 for zero (of either sign), or NaN if the value has more than 53 significant bits
+     * or is too small to be a normal double
+     */
+    private static double doubleToHost(
+        final long high,
+        final long low
+    ) {
+        var negative = Word36.isNegative(high);
+        var magHigh = negative ? Word36.negate(high) : high;
+        var magLow = negative ? Word36.negate(low) : low;
+        var mantissa = ((magHigh & DW36_HIGH_MANTISSA_MASK) << 36) | magLow;
+        if (mantissa == 0) {
+            return 0.0;
+        }
+
+        var exponent = (int)((magHigh >>> DW36_HIGH_MANTISSA_BIT_COUNT) & DW36_CHARACTERISTIC_MASK) - DW36_EXPONENT_BIAS;
+        if (((mantissa & DW36_EXTRA_BITS_MASK) != 0) || (exponent < DW36_LOWEST_HOST_EXPONENT)) {
+            return Double.NaN;
+        }
+
+        var value = (double)(mantissa >>> DW36_EXTRA_BITS) * powerOfTwo(exponent - (IEEE754_DOUBLE_MANTISSA_BIT_COUNT + 1));
+        return negative ? -value : value;
+    }
+
+    /**
+     * Converts a normal host double to a double-precision floating point value - this is always exact.
+     * @return false if the value is zero, subnormal, or outside the double-precision range - nothing is stored.
+     */
+    private static boolean hostToDouble(
+        final double value,
+        final long[] destination,
+        final int offset
+    ) {
+        var bits = Double.doubleToRawLongBits(value);
+        var biased = (int)((bits & IEEE754_DOUBLE_CHARACTERISTIC_MASK) >>> IEEE754_DOUBLE_MANTISSA_BIT_COUNT);
+        var exponent = biased - IEEE754_DOUBLE_EXPONENT_BIAS + 1;
+        if ((biased == 0) || (biased == 0x7FF) || (exponent > DW36_HIGHEST_EXPONENT)) {
+            return false;
+        }
+
+        var mantissa = ((bits & HOST_MANTISSA_MASK) | HOST_HIDDEN_BIT) << DW36_EXTRA_BITS;
+        var high = ((long)(exponent + DW36_EXPONENT_BIAS) << DW36_HIGH_MANTISSA_BIT_COUNT) | (mantissa >>> 36);
+        var low = mantissa & Word36.BIT_MASK;
+        if (bits < 0) {
+            high ^= Word36.BIT_MASK;
+            low ^= Word36.BIT_MASK;
+        }
+
+        destination[offset] = high;
+        destination[offset + 1] = low;
+        return true;
+    }
+
+    /**
+     * Adds two host doubles, returning the sum if it is exact, else NaN
+     */
+    private static double exactHostSum(
+        final double value1,
+        final double value2
+    ) {
+        //  Fast2Sum - with |big| >= |small|, the rounding error of the sum is small - (sum - big), exactly
+        var sum = value1 + value2;
+        var big = Math.abs(value1) >= Math.abs(value2) ? value1 : value2;
+        var small = (big == value1) ? value2 : value1;
+        return (small - (sum - big) == 0.0) ? sum : Double.NaN;
+    }
+
+    /**
+     * Adds two single-precision floating point words, producing a normalized single-precision sum.
+     * The mantissa of the result is truncated, not rounded. Exact cancellation produces positive zero.
+     */
+    public static long addSingle(
+        final long addend1,
+        final long addend2
+    ) throws CharacteristicOverflowException,
+             CharacteristicUnderflowException {
+        var host1 = singleToHost(addend1);
+        var host2 = singleToHost(addend2);
+        if ((host1 != 0.0) && (host2 != 0.0)) {
+            var sum = exactHostSum(host1, host2);
+            if (sum == 0.0) {
+                return Word36.POSITIVE_ZERO;
+            } else if (!Double.isNaN(sum)) {
+                var result = hostToSingle(sum);
+                if (result != NO_FAST_RESULT) {
+                    return result;
+                }
+            }
+        }
+
+        return addSingleExact(addend1, addend2);
+    }
+
+    /**
+     * Exact path for addSingle()
+     */
+    public static long addSingleExact(
+        final long addend1,
+        final long addend2
+    ) throws CharacteristicOverflowException,
+             CharacteristicUnderflowException {
+        return new FloatingPointComponents(addend1).add(new FloatingPointComponents(addend2)).toWord36();
+    }
+
+    /**
+     * Multiplies two single-precision floating point words, producing a normalized single-precision product.
+     * The mantissa of the result is truncated, not rounded.
+     */
+    public static long multiplySingle(
+        final long factor1,
+        final long factor2
+    ) throws CharacteristicOverflowException,
+             CharacteristicUnderflowException {
+        var host1 = singleToHost(factor1);
+        var host2 = singleToHost(factor2);
+        var product = host1 * host2;
+        if ((product != 0.0) && (Math.fma(host1, host2, -product) == 0.0)) {
+            var result = hostToSingle(product);
+            if (result != NO_FAST_RESULT) {
+                return result;
+            }
+        }
+
+        return multiplySingleExact(factor1, factor2);
+    }
+
+    /**
+     * Exact path for multiplySingle()
+     */
+    public static long multiplySingleExact(
+        final long factor1,
+        final long factor2
+    ) throws CharacteristicOverflowException,
+             CharacteristicUnderflowException {
+        return new FloatingPointComponents(factor1).multiply(new FloatingPointComponents(factor2)).toWord36();
+    }
+
+    /**
+     * Divides one single-precision floating point word by another, producing a normalized single-precision quotient.
+     * The mantissa of the result is truncated, not rounded.
+     */
+    public static long divideSingle(
+        final long dividend,
+        final long divisor
+    ) throws CharacteristicOverflowException,
+             CharacteristicUnderflowException,
+             DivideByZeroException {
+        var host1 = Math.abs(singleToHost(dividend));
+        var host2 = Math.abs(singleToHost(divisor));
+        var quotient = host1 / host2;
+        if ((host1 != 0.0) && (host2 != 0.0) && (quotient != 0.0)) {
+            //  Truncate the rounded host quotient to 27 bits, then make sure the truncated value and its successor
+            //  bracket the true quotient - if the host rounded up across a 27-bit boundary, they will not.
+            var bits = Double.doubleToRawLongBits(quotient) & ~((1L << HOST_EXTRA_BITS) - 1);
+            var truncated = Double.longBitsToDouble(bits);
+            var successor = Double.longBitsToDouble(bits + (1L << HOST_EXTRA_BITS));
+            if ((Math.fma(truncated, host2, -host1) <= 0.0) && (Math.fma(successor, host2, -host1) > 0.0)) {
+                var negative = Word36.isNegative(dividend) != Word36.isNegative(divisor);
+                var result = hostToSingle(negative ? -truncated : truncated);
+                if (result != NO_FAST_RESULT) {
+                    return result;
+                }
+            }
+        }
+
+        return divideSingleExact(dividend, divisor);
+    }
+
+    /**
+     * Exact path for divideSingle()
+     */
+    public static long divideSingleExact(
+        final long dividend,
+        final long divisor
+    ) throws CharacteristicOverflowException,
+             CharacteristicUnderflowException,
+             DivideByZeroException {
+        return new FloatingPointComponents(dividend).divide(new FloatingPointComponents(divisor)).toWord36();
+    }
+
+    /**
+     * Adds two double-precision floating point values, each in a pair of 36-bit words,
+     * producing a normalized double-precision sum. The mantissa of the result is truncated, not rounded.
+     * Exact cancellation produces positive zero.
+     */
+    public static void addDouble(
+        final long[] addend1,
+        final int offset1,
+        final long[] addend2,
+        final int offset2,
+        final long[] result,
+        final int resultOffset
+    ) throws CharacteristicOverflowException,
+             CharacteristicUnderflowException {
+        var host1 = doubleToHost(addend1[offset1], addend1[offset1 + 1]);
+        var host2 = doubleToHost(addend2[offset2], addend2[offset2 + 1]);
+        if ((host1 != 0.0) && (host2 != 0.0)) {
+            //  NaN operands produce a NaN sum, which falls through
+            var sum = exactHostSum(host1, host2);
+            if (sum == 0.0) {
+                result[resultOffset] = Word36.POSITIVE_ZERO;
+                result[resultOffset + 1] = Word36.POSITIVE_ZERO;
+                return;
+            } else if (hostToDouble(sum, result, resultOffset)) {
+                return;
+            }
+        }
+
+        addDoubleExact(addend1, offset1, addend2, offset2, result, resultOffset);
+    }
+
+    /**
+     * Exact path for addDouble()
+     */
+    public static void addDoubleExact(
+        final long[] addend1,
+        final int offset1,
+        final long[] addend2,
+        final int offset2,
+        final long[] result,
+        final int resultOffset
+    ) throws CharacteristicOverflowException,
+             CharacteristicUnderflowException {
+        new FloatingPointComponents(addend1, offset1).add(new FloatingPointComponents(addend2, offset2))
+                                                      .toDoubleWord36(result, resultOffset);
+    }
+
+    /**
+     * Multiplies two double-precision floating point values, each in a pair of 36-bit words,
+     * producing a normalized double-precision product. The mantissa of the result is truncated, not rounded.
+     */
+    public static void multiplyDouble(
+        final long[] factor1,
+        final int offset1,
+        final long[] factor2,
+        final int offset2,
+        final long[] result,
+        final int resultOffset
+    ) throws CharacteristicOverflowException,
+             CharacteristicUnderflowException {
+        var host1 = doubleToHost(factor1[offset1], factor1[offset1 + 1]);
+        var host2 = doubleToHost(factor2[offset2], factor2[offset2 + 1]);
+        var product = host1 * host2;
+        if ((product != 0.0)
+            && (Math.getExponent(product) >= HOST_LOWEST_RESIDUAL_EXPONENT)
+            && (Math.fma(host1, host2, -product) == 0.0)
+            && hostToDouble(product, result, resultOffset)) {
+            return;
+        }
+
+        multiplyDoubleExact(factor1, offset1, factor2, offset2, result, resultOffset);
+    }
+
+    /**
+     * Exact path for multiplyDouble()
+     */
+    public static void multiplyDoubleExact(
+        final long[] factor1,
+        final int offset1,
+        final long[] factor2,
+        final int offset2,
+        final long[] result,
+        final int resultOffset
+    ) throws CharacteristicOverflowException,
+             CharacteristicUnderflowException {
+        new FloatingPointComponents(factor1, offset1).multiply(new FloatingPointComponents(factor2, offset2))
+                                                      .toDoubleWord36(result, resultOffset);
+    }
+
+    /**
+     * Divides one double-precision floating point value by another, each in a pair of 36-bit words,
+     * producing a normalized double-precision quotient. The mantissa of the result is truncated, not rounded.
+     */
+    public static void divideDouble(
+        final long[] dividend,
+        final int offset1,
+        final long[] divisor,
+        final int offset2,
+        final long[] result,
+        final int resultOffset
+    ) throws CharacteristicOverflowException,
+             CharacteristicUnderflowException,
+             DivideByZeroException {
+        var host1 = doubleToHost(dividend[offset1], dividend[offset1 + 1]);
+        var host2 = doubleToHost(divisor[offset2], divisor[offset2 + 1]);
+        var quotient = host1 / host2;
+        //  We cannot truncate a rounded 53-bit quotient to 60 bits, so the quotient has to be exact
+        if ((host1 != 0.0)
+            && (quotient != 0.0)
+            && (Math.getExponent(host1) >= HOST_LOWEST_RESIDUAL_EXPONENT)
+            && (Math.fma(quotient, host2, -host1) == 0.0)
+            && hostToDouble(quotient, result, resultOffset)) {
+            return;
+        }
+
+        divideDoubleExact(dividend, offset1, divisor, offset2, result, resultOffset);
+    }
+
+    /**
+     * Exact path for divideDouble()
+     */
+    public static void divideDoubleExact(
+        final long[] dividend,
+        final int offset1,
+        final long[] divisor,
+        final int offset2,
+        final long[] result,
+        final int resultOffset
+    ) throws CharacteristicOverflowException,
+             CharacteristicUnderflowException,
+             DivideByZeroException {
+        new FloatingPointComponents(dividend, offset1).divide(new FloatingPointComponents(divisor, offset2))
+                                                       .toDoubleWord36(result, resultOffset);
+    }
+
+
     //  ----------------------------------------------------------------------------------------------------------------------------
     //  Private Methods
     //  ----------------------------------------------------------------------------------------------------------------------------
@@ -710,19 +1070,19 @@ public class FloatingPointComponents {
         int tempExponent = _exponent;
 
         if (tempIntegral > 0) {
-            do {
-                tempMantissa >>= 1;
-                if ((tempIntegral & 0x01) == 0x01) {
-                    tempMantissa |= MANTISSA_LEFTMOST_BIT;
-                }
-                tempIntegral >>= 1;
-                ++tempExponent;
-            } while (tempIntegral > 0);
-        } else {
-            while ((tempMantissa & MANTISSA_LEFTMOST_BIT) == 0) {
-                tempMantissa <<= 1;
-                --tempExponent;
+            //  Shift all the significant bits of the integral into the mantissa
+            int shift = Long.SIZE - Long.numberOfLeadingZeros(tempIntegral);
+            if (shift <= MANTISSA_BIT_COUNT) {
+                tempMantissa = (tempMantissa >>> shift) | (tempIntegral << (MANTISSA_BIT_COUNT - shift));
+            } else {
+                tempMantissa = tempIntegral >>> (shift - MANTISSA_BIT_COUNT);
             }
+            tempIntegral = 0;
+            tempExponent += shift;
+        } else if ((tempMantissa & MANTISSA_MASK) != 0) {
+            int shift = Long.numberOfLeadingZeros(tempMantissa & MANTISSA_MASK) - (Long.SIZE - MANTISSA_BIT_COUNT);
+            tempMantissa <<= shift;
+            tempExponent -= shift;
         }
 
         return new FloatingPointComponents(_isNegative, tempExponent, tempIntegral, tempMantissa);
@@ -4,26 +4,31 @@
 
 package com.bearsnake.komodo.engine;
 
+import com.bearsnake.komodo.baselib.Word36;
 import com.bearsnake.komodo.engine.exceptions.NotFoundException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
-import java.util.stream.IntStream;
 
 /**
  * Represents the General Register Set (GRS) for an Instruction Processor
- * The GRS is a table of 128 general registers.
+ * The GRS is a table of 128 general registers, held as one contiguous array of raw 36-bit values.
+ * The engine accesses registers by GRS index through the getW()/setW() family below;
+ * getRegister() returns a Register view onto the same array for code which wants a register object.
  */
 public class GeneralRegisterSet {
 
     private static final Logger LOGGER = LogManager.getLogger(GeneralRegisterSet.class);
 
-    private final Register[] _registers = new Register[128];
+    private final long[] _values = new long[128];
+    private final Register[] _views = new Register[128];
 
     public GeneralRegisterSet() {
-        IntStream.range(0, 128).forEach(i -> _registers[i] = new Register());
+        for (int rx = 0; rx < 128; rx++) {
+            _views[rx] = new Register(_values, rx);
+        }
     }
 
     /**
@@ -45,7 +50,43 @@ public class GeneralRegisterSet {
     }
 
     /**
-     * Retrieves a reference to a particular GeneralRegister object according to the given register index
+     * Retrieves the value of the register at the given GRS index
+     */
+    public long getW(final int registerIndex) { return _values[registerIndex]; }
+
+    /**
+     * Sets the value of the register at the given GRS index - the value is truncated to 36 bits
+     */
+    public void setW(
+        final int registerIndex,
+        final long value
+    ) {
+        _values[registerIndex] = value & Word36.BIT_MASK;
+    }
+
+    public long getXM(final int registerIndex) { return Register.getXM(_values[registerIndex]); }
+    public long getXM24(final int registerIndex) { return Register.getXM24(_values[registerIndex]); }
+    public long getSignedXM(final int registerIndex) { return Register.getSignedXM(_values[registerIndex]); }
+    public long getSignedXM24(final int registerIndex) { return Register.getSignedXM24(_values[registerIndex]); }
+
+    public void decrementCounter18(final int registerIndex) {
+        _values[registerIndex] = Register.decrementCounter18(_values[registerIndex]);
+    }
+
+    public void decrementCounter24(final int registerIndex) {
+        _values[registerIndex] = Register.decrementCounter24(_values[registerIndex]);
+    }
+
+    public void incrementModifier18(final int registerIndex) {
+        _values[registerIndex] = Register.incrementModifier18(_values[registerIndex]);
+    }
+
+    public void incrementModifier24(final int registerIndex) {
+        _values[registerIndex] = Register.incrementModifier24(_values[registerIndex]);
+    }
+
+    /**
+     * Retrieves a view of a particular general register according to the given register index
      * @param registerIndex index of the requested register
      * @return reference as indicated above
      */
@@ -56,7 +97,7 @@ public class GeneralRegisterSet {
             throw new RuntimeException(String.format("registerIndex=%d", registerIndex));
         }
 
-        return _registers[registerIndex];
+        return _views[registerIndex];
     }
 
     /**
@@ -72,7 +113,7 @@ public class GeneralRegisterSet {
             throw new RuntimeException(String.format("registerIndex=%d", registerIndex));
         }
 
-        _registers[registerIndex].setW(value);
+        _values[registerIndex] = value & Word36.BIT_MASK;
     }
 
     /**
@@ -111,7 +152,7 @@ public class GeneralRegisterSet {
                 StringBuilder sb = new StringBuilder();
                 sb.append(String.format("  %5s:", Constants.GRS_REGISTER_NAMES[rx]));
                 for (int ry = 0; ry < 8; ++ry) {
-                    sb.append(String.format(" %012o", _registers[rx + ry].getW()));
+                    sb.append(String.format(" %012o", _values[rx + ry]));
                 }
                 sb.append("\n");
                 writer.write(sb.toString());
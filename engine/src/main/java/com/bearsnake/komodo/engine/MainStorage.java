@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+
+/**
+ * Provides the engine with the storage behind absolute addresses, so that it can base banks
+ * described by bank descriptors. The segment of an absolute address selects one of these slices,
+ * and the offset indexes into it.
+ */
+public interface MainStorage {
+
+    /**
+     * Retrieves the storage for a segment
+     * @param segmentIndex index of the segment
+     * @return the storage for the segment, or null if there is no such segment
+     */
+    ArraySlice getSegment(final int segmentIndex);
+}
@@ -6,9 +6,14 @@ package com.bearsnake.komodo.engine;
 
 import com.bearsnake.komodo.baselib.Word36;
 
-public class Register extends Word36 {
-
-    protected Register() {}
+/**
+ * A view of one 36-bit general register.
+ * The value does not live here - it lives in the long[] of the containing GeneralRegisterSet (or in a private
+ * one-word array for free-standing registers), so that all register traffic stays within a single contiguous array.
+ * Hot paths in the engine should use the static partial-word accessors below (or the indexed accessors on
+ * GeneralRegisterSet) directly against the raw values; this object exists for code which wants a handle on a register.
+ */
+public class Register {
 
     public static final long MASK_XI        = 0_777777_000000L;     //  standard increment value
     public static final long MASK_XI12      = 0_777700_000000L;     //  increment value for 24/12 exec index register
@@ -20,83 +25,162 @@ public class Register extends Word36 {
     public static final long MASK_NOT_XM    = 0_777777_000000L;
     public static final long MASK_NOT_XM24  = 0_777700_000000L;
 
-    public long getW() { return _value; }
-
-    public long getXI() { return (_value >> 18) & 0_777777L; }
-    public long getXI12() { return (_value >> 24) & 0_7777L; }
-    public long getXM() { return _value & 0_777777L; }
-    public long getXM24() { return _value & 0_7777_7777L; }
+    private final long[] _values;
+    private final int _index;
 
-    public long getSignedXI() { return getSignExtended18(getXI()); }
-    public long getSignedXI12() { return getSignExtended12(getXI12()); }
-    public long getSignedXM() { return getSignExtended18(getXM()); }
-    public long getSignedXM24() { return getSignExtended24(getXM24()); }
-
-    public Register setXI(
-        final long newValue
-    ) {
-        _value = (_value & MASK_NOT_XI) | ((newValue << 18) & MASK_XI);
-        return this;
+    protected Register() {
+        this(new long[1], 0);
     }
 
-    public Register setXI12(
-        final long newValue
+    Register(
+        final long[] values,
+        final int index
     ) {
-        _value = (_value & MASK_NOT_XI12) | ((newValue << 24) & MASK_XI12);
-        return this;
+        _values = values;
+        _index = index;
     }
 
-    public Register setXM(
-        final long newValue
-    ) {
-        _value = (_value & MASK_NOT_XM) | (newValue & MASK_XM);
-        return this;
-    }
+    //  Static accessors on raw register values --------------------------------------------------------------------------------
 
-    public Register setXM24(
-        final long newValue
-    ) {
-        _value = (_value & MASK_NOT_XM24) | (newValue & MASK_XM24);
-        return this;
-    }
+    public static long getXI(long value) { return (value >> 18) & 0_777777L; }
+    public static long getXI12(long value) { return (value >> 24) & 0_7777L; }
+    public static long getXM(long value) { return value & 0_777777L; }
+    public static long getXM24(long value) { return value & 0_7777_7777L; }
+
+    public static long getSignedXI(long value) { return Word36.getSignExtended18(getXI(value)); }
+    public static long getSignedXI12(long value) { return Word36.getSignExtended12(getXI12(value)); }
+    public static long getSignedXM(long value) { return Word36.getSignExtended18(getXM(value)); }
+    public static long getSignedXM24(long value) { return Word36.getSignExtended24(getXM24(value)); }
+
+    public static long setXI(long value, long newValue) { return (value & MASK_NOT_XI) | ((newValue << 18) & MASK_XI); }
+    public static long setXI12(long value, long newValue) { return (value & MASK_NOT_XI12) | ((newValue << 24) & MASK_XI12); }
+    public static long setXM(long value, long newValue) { return (value & MASK_NOT_XM) | (newValue & MASK_XM); }
+    public static long setXM24(long value, long newValue) { return (value & MASK_NOT_XM24) | (newValue & MASK_XM24); }
 
     /**
-     * Decrements the 18-bit unsigned counter portion of an R register.
+     * Decrements the 18-bit unsigned counter portion of an R register value.
      */
-    public Register decrementCounter18() {
-        _value = (--_value) & 0_777777;
-        return this;
+    public static long decrementCounter18(
+        final long value
+    ) {
+        return (value - 1) & 0_777777;
     }
 
     /**
-     * Decrements the 24-bit unsigned counter portion of an R register.
+     * Decrements the 24-bit unsigned counter portion of an R register value.
      */
-    public Register decrementCounter24() {
-        _value = (--_value) & 0_7777_7777;
-        return this;
+    public static long decrementCounter24(
+        final long value
+    ) {
+        return (value - 1) & 0_7777_7777;
     }
 
     /**
-     * Decrements the 18-bit modifier portion of an X register by the value in the 18-bit increment portion
+     * Decrements the 18-bit modifier portion of an X register value by the value in the 18-bit increment portion
      * using ones-complement arithmetic and assuming both the modifier and increment portions are signed fields.
      */
-    public Register decrementModifier18() {
-        return setXM(Word36.addSimple(getSignedXM(), Word36.negate(getSignedXI())));
+    public static long decrementModifier18(
+        final long value
+    ) {
+        return setXM(value, Word36.addSimple(getSignedXM(value), Word36.negate(getSignedXI(value))));
     }
 
     /**
-     * Increments the 18-bit modifier portion of an X register by the value in the 18-bit increment portion
+     * Increments the 18-bit modifier portion of an X register value by the value in the 18-bit increment portion
      * using ones-complement arithmetic and assuming both the modifier and increment portions are signed fields.
      */
-    public Register incrementModifier18() {
-        return setXM(Word36.addSimple(getSignedXM(), getSignedXI()));
+    public static long incrementModifier18(
+        final long value
+    ) {
+        return setXM(value, Word36.addSimple(getSignedXM(value), getSignedXI(value)));
     }
 
     /**
-     * Increments the 24-bit modifier portion of an X register by the value in the 12-bit increment portion
+     * Increments the 24-bit modifier portion of an X register value by the value in the 12-bit increment portion
      * using ones-complement arithmetic and assuming both the index and modifier portions are signed fields.
      */
-    public Register incrementModifier24() {
-        return setXM24(Word36.addSimple(getSignedXM24(), getSignedXI12()));
+    public static long incrementModifier24(
+        final long value
+    ) {
+        return setXM24(value, Word36.addSimple(getSignedXM24(value), getSignedXI12(value)));
     }
+
+    //  View accessors ---------------------------------------------------------------------------------------------------------
+
+    public long getW() { return _values[_index]; }
+
+    public Register setW(
+        final long newValue
+    ) {
+        _values[_index] = newValue & Word36.BIT_MASK;
+        return this;
+    }
+
+    public boolean isNegative()     { return Word36.isNegative(getW()); }
+    public boolean isNegativeZero() { return Word36.isNegativeZero(getW()); }
+    public boolean isPositive()     { return Word36.isPositive(getW()); }
+    public boolean isPositiveZero() { return Word36.isPositiveZero(getW()); }
+    public boolean isZero()         { return Word36.isZero(getW()); }
+
+    public int getH1() { return Word36.getH1(getW()); }
+    public int getH2() { return Word36.getH2(getW()); }
+    public int getQ1() { return Word36.getQ1(getW()); }
+    public int getQ2() { return Word36.getQ2(getW()); }
+    public int getQ3() { return Word36.getQ3(getW()); }
+    public int getQ4() { return Word36.getQ4(getW()); }
+    public int getS1() { return Word36.getS1(getW()); }
+    public int getS2() { return Word36.getS2(getW()); }
+    public int getS3() { return Word36.getS3(getW()); }
+    public int getS4() { return Word36.getS4(getW()); }
+    public int getS5() { return Word36.getS5(getW()); }
+    public int getS6() { return Word36.getS6(getW()); }
+    public int getT1() { return Word36.getT1(getW()); }
+    public int getT2() { return Word36.getT2(getW()); }
+    public int getT3() { return Word36.getT3(getW()); }
+
+    public Register setH1(long newValue) { _values[_index] = Word36.setH1(getW(), newValue); return this; }
+    public Register setH2(long newValue) { _values[_index] = Word36.setH2(getW(), newValue); return this; }
+    public Register setQ1(long newValue) { _values[_index] = Word36.setQ1(getW(), newValue); return this; }
+    public Register setQ2(long newValue) { _values[_index] = Word36.setQ2(getW(), newValue); return this; }
+    public Register setQ3(long newValue) { _values[_index] = Word36.setQ3(getW(), newValue); return this; }
+    public Register setQ4(long newValue) { _values[_index] = Word36.setQ4(getW(), newValue); return this; }
+    public Register setS1(long newValue) { _values[_index] = Word36.setS1(getW(), newValue); return this; }
+    public Register setS2(long newValue) { _values[_index] = Word36.setS2(getW(), newValue); return this; }
+    public Register setS3(long newValue) { _values[_index] = Word36.setS3(getW(), newValue); return this; }
+    public Register setS4(long newValue) { _values[_index] = Word36.setS4(getW(), newValue); return this; }
+    public Register setS5(long newValue) { _values[_index] = Word36.setS5(getW(), newValue); return this; }
+    public Register setS6(long newValue) { _values[_index] = Word36.setS6(getW(), newValue); return this; }
+    public Register setT1(long newValue) { _values[_index] = Word36.setT1(getW(), newValue); return this; }
+    public Register setT2(long newValue) { _values[_index] = Word36.setT2(getW(), newValue); return this; }
+    public Register setT3(long newValue) { _values[_index] = Word36.setT3(getW(), newValue); return this; }
+
+    public Register leftShiftAlgebraic(int count)  { _values[_index] = Word36.leftShiftAlgebraic(getW(), count); return this; }
+    public Register leftShiftCircular(int count)   { _values[_index] = Word36.leftShiftCircular(getW(), count); return this; }
+    public Register leftShiftLogical(int count)    { _values[_index] = Word36.leftShiftLogical(getW(), count); return this; }
+    public Register rightShiftAlgebraic(int count) { _values[_index] = Word36.rightShiftAlgebraic(getW(), count); return this; }
+    public Register rightShiftCircular(int count)  { _values[_index] = Word36.rightShiftCircular(getW(), count); return this; }
+    public Register rightShiftLogical(int count)   { _values[_index] = Word36.rightShiftLogical(getW(), count); return this; }
+
+    public long getXI() { return getXI(getW()); }
+    public long getXI12() { return getXI12(getW()); }
+    public long getXM() { return getXM(getW()); }
+    public long getXM24() { return getXM24(getW()); }
+
+    public long getSignedXI() { return getSignedXI(getW()); }
+    public long getSignedXI12() { return getSignedXI12(getW()); }
+    public long getSignedXM() { return getSignedXM(getW()); }
+    public long getSignedXM24() { return getSignedXM24(getW()); }
+
+    public Register setXI(long newValue) { _values[_index] = setXI(getW(), newValue); return this; }
+    public Register setXI12(long newValue) { _values[_index] = setXI12(getW(), newValue); return this; }
+    public Register setXM(long newValue) { _values[_index] = setXM(getW(), newValue); return this; }
+    public Register setXM24(long newValue) { _values[_index] = setXM24(getW(), newValue); return this; }
+
+    public Register decrement() { _values[_index] = Word36.decrement(getW()); return this; }
+
+    public Register decrementCounter18() { _values[_index] = decrementCounter18(getW()); return this; }
+    public Register decrementCounter24() { _values[_index] = decrementCounter24(getW()); return this; }
+    public Register decrementModifier18() { _values[_index] = decrementModifier18(getW()); return this; }
+    public Register incrementModifier18() { _values[_index] = incrementModifier18(getW()); return this; }
+    public Register incrementModifier24() { _values[_index] = incrementModifier24(getW()); return this; }
 }
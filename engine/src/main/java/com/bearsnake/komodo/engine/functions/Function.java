@@ -184,9 +184,9 @@ public abstract class Function {
             sb.append(",")
               .append(getJFieldToken(iWord.getJ(), dReg));
         }
-        while (sb.length() < 10) {
+        do {
             sb.append(" ");
-        }
+        } while (sb.length() < 10);
 
         // Is there an a-field?
         switch (func.getAFieldSemantics()) {
@@ -6,12 +6,20 @@ package com.bearsnake.komodo.engine.functions;
 
 import com.bearsnake.komodo.baselib.InstructionWord;
 import com.bearsnake.komodo.engine.DesignatorRegister;
+import com.bearsnake.komodo.engine.functions.addressspace.*;
 import com.bearsnake.komodo.engine.functions.arithmetic.decimal.*;
+import com.bearsnake.komodo.engine.functions.arithmetic.fixed.*;
+import com.bearsnake.komodo.engine.functions.arithmetic.floating.*;
 import com.bearsnake.komodo.engine.functions.jump.*;
 import com.bearsnake.komodo.engine.functions.load.*;
 import com.bearsnake.komodo.engine.functions.logical.*;
+import com.bearsnake.komodo.engine.functions.procedurecontrol.*;
+import com.bearsnake.komodo.engine.functions.queueing.*;
 import com.bearsnake.komodo.engine.functions.shift.*;
 import com.bearsnake.komodo.engine.functions.special.*;
+import com.bearsnake.komodo.engine.functions.stack.*;
+import com.bearsnake.komodo.engine.functions.storage.*;
+import com.bearsnake.komodo.engine.functions.string.*;
 import com.bearsnake.komodo.engine.functions.test.*;
 import com.bearsnake.komodo.engine.functions.store.*;
 import com.bearsnake.komodo.engine.interrupts.InvalidInstructionInterrupt;
@@ -69,52 +77,52 @@ public abstract class FunctionTable {
         SZFunction.INSTANCE,
 
         // fixed
-        // AAFunction.INSTANCE,
-        // ADD1Function.INSTANCE,
-        // AHFunction.INSTANCE,
-        // AMAFunction.INSTANCE,
-        // ANAFunction.INSTANCE,
-        // ANHFunction.INSTANCE,
-        // ANMAFunction.INSTANCE,
-        // ANTFunction.INSTANCE,
-        // ANUFunction.INSTANCE,
-        // ANXFunction.INSTANCE,
-        // ATFunction.INSTANCE,
-        // AUFunction.INSTANCE,
-        // AXFunction.INSTANCE,
-        // BAOFunction.INSTANCE,
-        // DAFunction.INSTANCE,
-        // DANFunction.INSTANCE,
-        // DECFunction.INSTANCE,
-        // DEC2Function.INSTANCE,
-        // DFFunction.INSTANCE,
-        // DIFunction.INSTANCE,
-        // DSFFunction.INSTANCE,
-        // ENZFunction.INSTANCE,
-        // INCFunction.INSTANCE,
-        // INC2Function.INSTANCE,
-        // MFFunction.INSTANCE,
-        // MIFunction.INSTANCE,
-        // MSIFunction.INSTANCE,
-        // SUB1Function.INSTANCE,
+        AAFunction.INSTANCE,
+        ADD1Function.INSTANCE,
+        AHFunction.INSTANCE,
+        AMAFunction.INSTANCE,
+        ANAFunction.INSTANCE,
+        ANHFunction.INSTANCE,
+        ANMAFunction.INSTANCE,
+        ANTFunction.INSTANCE,
+        ANUFunction.INSTANCE,
+        ANXFunction.INSTANCE,
+        ATFunction.INSTANCE,
+        AUFunction.INSTANCE,
+        AXFunction.INSTANCE,
+        BAOFunction.INSTANCE,
+        DAFunction.INSTANCE,
+        DANFunction.INSTANCE,
+        DECFunction.INSTANCE,
+        DEC2Function.INSTANCE,
+        DFFunction.INSTANCE,
+        DIFunction.INSTANCE,
+        DSFFunction.INSTANCE,
+        ENZFunction.INSTANCE,
+        INCFunction.INSTANCE,
+        INC2Function.INSTANCE,
+        MFFunction.INSTANCE,
+        MIFunction.INSTANCE,
+        MSIFunction.INSTANCE,
+        SUB1Function.INSTANCE,
 
         // float
-        // CDUFunction.INSTANCE,
-        // DFAFunction.INSTANCE,
-        // DFANFunction.INSTANCE,
-        // DFDFunction.INSTANCE,
-        // DFMFunction.INSTANCE,
-        // DFUFunction.INSTANCE,
-        // DLCFFunction.INSTANCE, // (also DFP)
-        // FAFunction.INSTANCE,
-        // FANFunction.INSTANCE,
-        // FCLFunction.INSTANCE,
-        // FDFunction.INSTANCE,
-        // FELFunction.INSTANCE,
-        // FMFunction.INSTANCE,
-        // LCFFunction.INSTANCE,
-        // LUFFunction.INSTANCE,
-        // MCDUFunction.INSTANCE,
+        CDUFunction.INSTANCE,
+        DFAFunction.INSTANCE,
+        DFANFunction.INSTANCE,
+        DFDFunction.INSTANCE,
+        DFMFunction.INSTANCE,
+        DFUFunction.INSTANCE,
+        DLCFFunction.INSTANCE, // (also DFP)
+        FAFunction.INSTANCE,
+        FANFunction.INSTANCE,
+        FCLFunction.INSTANCE,
+        FDFunction.INSTANCE,
+        FELFunction.INSTANCE,
+        FMFunction.INSTANCE,
+        LCFFunction.INSTANCE,
+        LUFFunction.INSTANCE,
+        MCDUFunction.INSTANCE,
 
         // decimal
         ADEFunction.INSTANCE,
@@ -229,46 +237,46 @@ public abstract class FunctionTable {
         // BIMLFunction.INSTANCE,
         // BIMTFunction.INSTANCE,
         // BNFunction.INSTANCE,
-        // BTFunction.INSTANCE,
+        BTFunction.INSTANCE,
 
         // string
-        // LSFunction.INSTANCE,
-        // LSAFunction.INSTANCE,
-        // SSFunction.INSTANCE,
-        // TESFunction.INSTANCE,
-        // TNESFunction.INSTANCE,
+        LSFunction.INSTANCE,
+        LSAFunction.INSTANCE,
+        SSFunction.INSTANCE,
+        TESFunction.INSTANCE,
+        TNESFunction.INSTANCE,
 
         // addressSpace
         // DABTFunction.INSTANCE,   PP=0,1
-        // LBEFunction.INSTANCE,    PP=0
+        LBEFunction.INSTANCE,
         // LBEDFunction.INSTANCE,   PP=0
-        // LBNFunction.INSTANCE,
-        // LBUFunction.INSTANCE,
+        LBNFunction.INSTANCE,
+        LBUFunction.INSTANCE,
         // LBUDFunction.INSTANCE,   PP=0
         // SBEDFunction.INSTANCE,   PP=0
-        // SBUFunction.INSTANCE,
+        SBUFunction.INSTANCE,
         // SBUDFunction.INSTANCE,   PP=0
-        // TRAFunction.INSTANCE,
+        TRAFunction.INSTANCE,
         // TRARSFunction.INSTANCE,  PP=0
-        // TVAFunction.INSTANCE,
+        TVAFunction.INSTANCE,
         // We do not support VIEW
 
         // procedureControl
-        // CALLFunction.INSTANCE,
-        // GOTOFunction.INSTANCE,
+        CALLFunction.INSTANCE,
+        GOTOFunction.INSTANCE,
         // LBJFunction.INSTANCE,
         // LDJFunction.INSTANCE,
         // LIJFunction.INSTANCE,
         // LOCLFunction.INSTANCE,
-        // RTNFunction.INSTANCE,
+        RTNFunction.INSTANCE,
 
         // queueing
-        // DEPOSITQBFFunction.INSTANCE,
-        // DEQFunction.INSTANCE,
-        // DEQWFunction.INSTANCE,
-        // ENQFunction.INSTANCE,
-        // ENQFFunction.INSTANCE,
-        // WITHDRAWQBFunction.INSTANCE,
+        DEPOSITQBFunction.INSTANCE,
+        DEQFunction.INSTANCE,
+        DEQWFunction.INSTANCE,
+        ENQFunction.INSTANCE,
+        ENQFFunction.INSTANCE,
+        WITHDRAWQBFunction.INSTANCE,
 
         // activity
         // ACELFunction.INSTANCE,   PP=0,1,2
@@ -285,8 +293,8 @@ public abstract class FunctionTable {
         // URFunction.INSTANCE,     PP=0
 
         // stack
-        // BUYFunction.INSTANCE,
-        // SELLFunction.INSTANCE,
+        BUYFunction.INSTANCE,
+        SELLFunction.INSTANCE,
 
         // interrupt
         // AAIJFunction.INSTANCE,
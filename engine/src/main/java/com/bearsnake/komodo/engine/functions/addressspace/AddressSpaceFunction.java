@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.addressspace;
+
+import com.bearsnake.komodo.engine.BankDescriptorCache;
+import com.bearsnake.komodo.engine.BankType;
+import com.bearsnake.komodo.engine.BaseRegister;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.Function;
+import com.bearsnake.komodo.engine.interrupts.AddressingExceptionInterrupt;
+import com.bearsnake.komodo.engine.interrupts.InvalidInstructionInterrupt;
+
+/**
+ * Base class for the address space management instructions, most of which operate on a virtual address
+ * (bank level, BDI, and offset) found at U, and on the bank it names.
+ */
+public abstract class AddressSpaceFunction extends Function {
+
+    // Level 0 BDIs below this value do not describe banks - loading one voids the base register.
+    public static final int FIRST_LEVEL_ZERO_BDI = 32;
+
+    protected AddressSpaceFunction(
+        final String mnemonic
+    ) {
+        super(mnemonic);
+    }
+
+    /**
+     * Retrieves the value of the a-field as a user base register index (B1 through B15)
+     * @throws InvalidInstructionInterrupt if the a-field specifies B0
+     */
+    protected static int getUserBaseRegisterIndex(
+        final Engine engine
+    ) throws InvalidInstructionInterrupt {
+        var brx = engine.getCurrentInstruction().getA();
+        if (brx == 0) {
+            throw new InvalidInstructionInterrupt(InvalidInstructionInterrupt.Reason.InvalidBaseRegister);
+        }
+        return brx;
+    }
+
+    /**
+     * Bases the bank with the given level and BDI on a base register.
+     * Level 0 BDIs 0 through 31 void the base register.
+     * @throws AddressingExceptionInterrupt if the bank cannot be based
+     */
+    protected static void loadBaseRegister(
+        final Engine engine,
+        final int baseRegisterIndex,
+        final int level,
+        final int bankDescriptorIndex
+    ) throws AddressingExceptionInterrupt {
+        var bReg = engine.getBaseRegister(baseRegisterIndex);
+        if ((level == 0) && (bankDescriptorIndex < FIRST_LEVEL_ZERO_BDI)) {
+            bReg.makeVoid();
+            return;
+        }
+
+        var bank = engine.getBank(level, bankDescriptorIndex);
+        switch (bank.getBankType()) {
+            case ExtendedMode, BasicMode, Queue, DataExpanse -> bReg.set(bank.getBaseRegister());
+            default -> throw new AddressingExceptionInterrupt(AddressingExceptionInterrupt.Reason.BDTypeInvalid,
+                                                              level,
+                                                              bankDescriptorIndex);
+        }
+    }
+
+    /**
+     * Determines whether the virtual address names a word of a bank which is readable with the current access key
+     */
+    protected static boolean isValidAddress(
+        final Engine engine,
+        final int level,
+        final int bankDescriptorIndex,
+        final int offset
+    ) {
+        if ((level == 0) && (bankDescriptorIndex < FIRST_LEVEL_ZERO_BDI)) {
+            return false;
+        }
+
+        BankDescriptorCache.Entry bank;
+        try {
+            bank = engine.getBank(level, bankDescriptorIndex);
+        } catch (AddressingExceptionInterrupt ex) {
+            return false;
+        }
+
+        if ((bank.getBankType() == BankType.Gate) || (bank.getBankType() == BankType.QueueRepository)) {
+            return false;
+        }
+
+        BaseRegister bReg = bank.getBaseRegister();
+        var key = engine.getActivityStatePacket().getIndicatorKeyRegister().getAccessKey();
+        return !bReg.isVoid()
+               && (offset >= bReg.getLowerLimitNormalized())
+               && (offset <= bReg.getUpperLimitNormalized())
+               && bReg.getEffectivePermissions(key).canRead();
+    }
+}
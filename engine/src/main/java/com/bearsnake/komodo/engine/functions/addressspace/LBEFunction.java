@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.addressspace;
+
+import com.bearsnake.komodo.engine.Constants;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.VirtualAddress;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Load Base Executive instruction
+ * (LBE) Bases the bank named by the virtual address at U on the executive base register B(a+16).
+ * Loading any of B16 through B23 changes the bank descriptor table for a level, and so discards
+ * the content of the bank descriptor cache.
+ */
+public class LBEFunction extends AddressSpaceFunction {
+
+    public static final LBEFunction INSTANCE = new LBEFunction();
+
+    private LBEFunction() {
+        super("LBE");
+        setExtendedModeFunctionCode(new FunctionCode(0_75).setJField(0_03).setProcessorPrivilege(0));
+
+        setAFieldSemantics(AFieldSemantics.B_REGISTER);
+        setImmediateMode(false);
+        setIsGRS(true);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(false, true, false, false, false);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        var brx = engine.getCurrentInstruction().getA() + 16;
+        var va = new VirtualAddress(operand);
+        loadBaseRegister(engine, brx, va.getLevel(), va.getBankDescriptorIndex());
+        if ((brx >= Constants.BDT_BASE_REGISTER) && (brx < Constants.BDT_BASE_REGISTER + 8)) {
+            engine.invalidateBankDescriptorCache();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.addressspace;
+
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.VirtualAddress;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Load Bank Name instruction
+ * (LBN) Translates the extended mode virtual address at U to the corresponding basic mode bank name,
+ * and loads the result into A(a).
+ */
+public class LBNFunction extends AddressSpaceFunction {
+
+    public static final LBNFunction INSTANCE = new LBNFunction();
+
+    private LBNFunction() {
+        super("LBN");
+        setExtendedModeFunctionCode(new FunctionCode(0_75).setJField(0_14));
+
+        setAFieldSemantics(AFieldSemantics.A_REGISTER);
+        setImmediateMode(false);
+        setIsGRS(true);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(false, true, false, false, false);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        var va = new VirtualAddress(operand);
+        var name = VirtualAddress.translateToBasicModeName(va.getLevel(), va.getBankDescriptorIndex(), va.getOffset());
+        engine.setExecOrUserARegisterValue(engine.getCurrentInstruction().getA(), name);
+        return true;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.addressspace;
+
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.VirtualAddress;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Load Base User instruction
+ * (LBU) Bases the bank named by the virtual address at U on the user base register B(a), which must be B1 to B15,
+ * and records the bank level, BDI, and offset (as the subset specification) in the active base table.
+ * Level 0 BDIs 0 through 31 void the base register.
+ */
+public class LBUFunction extends AddressSpaceFunction {
+
+    public static final LBUFunction INSTANCE = new LBUFunction();
+
+    private LBUFunction() {
+        super("LBU");
+        setExtendedModeFunctionCode(new FunctionCode(0_75).setJField(0_10));
+
+        setAFieldSemantics(AFieldSemantics.B_REGISTER);
+        setImmediateMode(false);
+        setIsGRS(true);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var brx = getUserBaseRegisterIndex(engine);
+        var operand = engine.getOperand(false, true, false, false, false);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        var va = new VirtualAddress(operand);
+        loadBaseRegister(engine, brx, va.getLevel(), va.getBankDescriptorIndex());
+        engine.getActiveBaseTableEntry(brx).set(va.getLevel(), va.getBankDescriptorIndex(), va.getOffset());
+        return true;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.addressspace;
+
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.VirtualAddress;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Store Base User instruction
+ * (SBU) Stores the bank level, BDI, and subset specification from the active base table entry for B(a),
+ * which must be B1 to B15, as a virtual address at U.
+ */
+public class SBUFunction extends AddressSpaceFunction {
+
+    public static final SBUFunction INSTANCE = new SBUFunction();
+
+    private SBUFunction() {
+        super("SBU");
+        setExtendedModeFunctionCode(new FunctionCode(0_75).setJField(0_02));
+
+        setAFieldSemantics(AFieldSemantics.B_REGISTER);
+        setImmediateMode(false);
+        setIsGRS(true);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var brx = getUserBaseRegisterIndex(engine);
+        var abte = engine.getActiveBaseTableEntry(brx);
+        var value = VirtualAddress.getCompositeValue(abte.getBankLevel(),
+                                                     abte.getBankDescriptorIndex(),
+                                                     abte.getSubsetSpecification());
+        return engine.storeOperand(false, true, false, false, value);
+    }
+}
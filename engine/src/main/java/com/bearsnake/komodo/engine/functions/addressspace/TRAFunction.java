@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.addressspace;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Test Relative Address instruction
+ * (TRA) Skips the next instruction if B(a) is not void, and the relative address in H2 of U
+ * is within its limits.
+ */
+public class TRAFunction extends AddressSpaceFunction {
+
+    public static final TRAFunction INSTANCE = new TRAFunction();
+
+    private TRAFunction() {
+        super("TRA");
+        setExtendedModeFunctionCode(new FunctionCode(0_72).setJField(0_15));
+
+        setAFieldSemantics(AFieldSemantics.B_REGISTER);
+        setImmediateMode(false);
+        setIsGRS(true);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(false, true, false, false, false);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        var bReg = engine.getBaseRegister(engine.getCurrentInstruction().getA());
+        var relAddr = Word36.getH2(operand);
+        if (!bReg.isVoid()
+            && (relAddr >= bReg.getLowerLimitNormalized())
+            && (relAddr <= bReg.getUpperLimitNormalized())) {
+            // increment once here. In any case, the normal cycle() operation will increment as well.
+            engine.getProgramAddressRegister().incrementProgramCounter();
+        }
+        return true;
+    }
+}
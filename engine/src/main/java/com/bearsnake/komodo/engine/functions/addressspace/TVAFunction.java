@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.addressspace;
+
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.VirtualAddress;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Test Virtual Address instruction
+ * (TVA) Skips the next instruction if the virtual address at U names a word within the limits of a bank
+ * which is readable with the current access key. No interrupt is raised for an invalid address.
+ */
+public class TVAFunction extends AddressSpaceFunction {
+
+    public static final TVAFunction INSTANCE = new TVAFunction();
+
+    private TVAFunction() {
+        super("TVA");
+        setExtendedModeFunctionCode(new FunctionCode(0_75).setJField(0_12));
+
+        setAFieldSemantics(AFieldSemantics.UNUSED);
+        setImmediateMode(false);
+        setIsGRS(true);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(false, true, false, false, false);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        var va = new VirtualAddress(operand);
+        if (isValidAddress(engine, va.getLevel(), va.getBankDescriptorIndex(), va.getOffset())) {
+            // increment once here. In any case, the normal cycle() operation will increment as well.
+            engine.getProgramAddressRegister().incrementProgramCounter();
+        }
+        return true;
+    }
+}
@@ -9,8 +9,6 @@ import com.bearsnake.komodo.engine.Engine;
 import com.bearsnake.komodo.engine.functions.FunctionCode;
 import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
 
-import java.math.BigInteger;
-
 /**
  * Double Decimal to Integer instruction
  * (DDEI) Converts the two-word BCD operand to one's complement double-word binary.
@@ -49,16 +47,17 @@ public class DDEIFunction extends DecimalFunction {
                 + ((operands[1] >> 16) & 017) * 1000L + ((operands[1] >> 12) & 017) * 100L
                 + ((operands[1] >> 8) & 017) * 10 + ((operands[1] >> 4) & 017);
 
-        var value = BigInteger.valueOf(valueHigh).multiply(BigInteger.valueOf(100000000L)).add(BigInteger.valueOf(valueLow));
-        if (isNegative(operands[1]) && !value.equals(BigInteger.ZERO)) {
-            value = value.negate();
+        //  At most 17 decimal digits, so the value fits comfortably in a long
+        var value = valueHigh * 100000000L + valueLow;
+        if (isNegative(operands[1])) {
+            value = -value;
         }
 
         var interim = new long[2];
         DoubleWord36.getOnesComplement(value, interim, 0);
         var ci = engine.getCurrentInstruction();
-        engine.getExecOrUserARegister(ci.getA()).setW(interim[0]);
-        engine.getExecOrUserARegister(ci.getA() + 1).setW(interim[1]);
+        engine.setExecOrUserARegisterValue(ci.getA(), interim[0]);
+        engine.setExecOrUserARegisterValue(ci.getA() + 1, interim[1]);
 
         return true;
     }
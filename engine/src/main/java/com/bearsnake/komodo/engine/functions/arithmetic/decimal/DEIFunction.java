@@ -40,7 +40,7 @@ public class DEIFunction extends DecimalFunction {
         var binary = toBinary(operand);
         var result = Word36.getOnesComplement(binary);
         var ci = engine.getCurrentInstruction();
-        engine.getExecOrUserARegister(ci.getA()).setW(result);
+        engine.setExecOrUserARegisterValue(ci.getA(), result);
         return true;
     }
 }
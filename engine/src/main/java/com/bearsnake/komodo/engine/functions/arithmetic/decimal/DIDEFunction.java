@@ -5,12 +5,11 @@
 package com.bearsnake.komodo.engine.functions.arithmetic.decimal;
 
 import com.bearsnake.komodo.baselib.DoubleWord36;
+import com.bearsnake.komodo.baselib.Word36;
 import com.bearsnake.komodo.engine.Engine;
 import com.bearsnake.komodo.engine.functions.FunctionCode;
 import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
 
-import java.math.BigInteger;
-
 /**
  * Double Integer to Decimal instruction
  * (DIDE) Converts the double-precision one's complement binary operand
@@ -50,8 +49,10 @@ public class DIDEFunction extends DecimalFunction {
             aReg1.setW(0);
             aReg2.setW(POSITIVE_SIGN);
         } else {
-            var sign = DoubleWord36.isNegative(operands[0], operands[1]) ? NEGATIVE_SIGN : POSITIVE_SIGN;
-            var magnitude = DoubleWord36.getTwosComplement(operands[0], operands[1]).abs();
+            var negative = DoubleWord36.isNegative(operands[0], operands[1]);
+            long magnitudeHigh = negative ? Word36.negate(operands[0]) : operands[0];
+            long magnitudeLow = negative ? Word36.negate(operands[1]) : operands[1];
+            var sign = negative ? NEGATIVE_SIGN : POSITIVE_SIGN;
 
             long value0 = 0; // top 9 decimal digits
             long value1 = 0; // next 9 decimal digits
@@ -59,10 +60,12 @@ public class DIDEFunction extends DecimalFunction {
 
             var wx = 2;
             var shift = 4;
-            while (magnitude.compareTo(BigInteger.ZERO) > 0) {
-                var results = magnitude.divideAndRemainder(BigInteger.TEN);
-                magnitude = results[0];
-                long digit = results[1].intValue();
+            while ((magnitudeHigh | magnitudeLow) != 0) {
+                //  Long division of the 72-bit magnitude by ten, one 36-bit half at a time
+                long partial = ((magnitudeHigh % 10) << 36) | magnitudeLow;
+                magnitudeHigh /= 10;
+                magnitudeLow = partial / 10;
+                long digit = partial % 10;
 
                 if (wx == 2) {
                     value2 |= (digit & 017) << shift;
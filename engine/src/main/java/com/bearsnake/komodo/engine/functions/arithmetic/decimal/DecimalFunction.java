@@ -1,6 +1,6 @@
 package com.bearsnake.komodo.engine.functions.arithmetic.decimal;
 
-import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Register;
 import com.bearsnake.komodo.engine.functions.Function;
 
 public abstract class DecimalFunction extends Function {
@@ -77,7 +77,7 @@ public abstract class DecimalFunction extends Function {
      */
     protected static boolean toDecimal(
         final long binary,
-        final Word36 decimal
+        final Register decimal
     ) {
         var sign = binary < 0 ? NEGATIVE_SIGN : POSITIVE_SIGN;
         var magnitude = Math.abs(binary);
@@ -110,8 +110,8 @@ public abstract class DecimalFunction extends Function {
      */
     protected static boolean doubleToDecimal(
         final long binary,
-        final Word36 decimalHigh,
-        final Word36 decimalLow
+        final Register decimalHigh,
+        final Register decimalLow
     ) {
         var sign = binary < 0 ? NEGATIVE_SIGN : POSITIVE_SIGN;
         var magnitude = Math.abs(binary);
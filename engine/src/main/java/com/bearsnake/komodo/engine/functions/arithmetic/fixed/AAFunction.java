@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+/**
+ * Add to Accumulator instruction
+ * (AA) adds (U) to A(a), storing the sum in A(a)
+ */
+public class AAFunction extends AddAccumulatorFunction {
+
+    public static final AAFunction INSTANCE = new AAFunction();
+
+    private AAFunction() {
+        super("AA", 0_14, false, false, 0);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import com.bearsnake.komodo.engine.interrupts.OperationTrapInterrupt;
+
+/**
+ * Add One instruction
+ * (ADD1) adds one to (U) under j-field control, setting carry and overflow as for AA.
+ * This is an extended mode instruction.
+ */
+public class ADD1Function extends FixedPointFunction {
+
+    public static final ADD1Function INSTANCE = new ADD1Function();
+
+    private ADD1Function() {
+        super("ADD1");
+        setExtendedModeFunctionCode(new FunctionCode(0_05).setAField(0_15));
+
+        setAFieldSemantics(AFieldSemantics.FUNCTION_CODE_EXTENSION);
+        setImmediateMode(false);
+        setIsGRS(true);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(false, true, false, true, true);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        engine.storeToCachedOperand(add(engine.getDesignatorRegister(), operand, 1));
+        checkOverflowTrap(engine, OperationTrapInterrupt.Reason.FixedPointBinaryIntegerOverflow);
+        return true;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Add Halves instruction
+ * (AH) adds the halves of (U) to the corresponding halves of A(a), storing the result in A(a).
+ * Each field is added independently - carries do not propagate between fields, and no designators are affected.
+ */
+public class AHFunction extends FixedPointFunction {
+
+    public static final AHFunction INSTANCE = new AHFunction();
+
+    private AHFunction() {
+        super("AH");
+        var fc = new FunctionCode(0_72).setJField(0_04);
+        setBasicModeFunctionCode(fc);
+        setExtendedModeFunctionCode(fc);
+
+        setAFieldSemantics(AFieldSemantics.A_REGISTER);
+        setImmediateMode(false);
+        setIsGRS(true);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(true, true, false, false, false);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        var ci = engine.getCurrentInstruction();
+        var result = addFields(engine.getExecOrUserARegisterValue(ci.getA()), operand, 18, 2);
+        engine.setExecOrUserARegisterValue(ci.getA(), result);
+        return true;
+    }
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+/**
+ * Add Magnitude to Accumulator instruction
+ * (AMA) adds the magnitude of (U) to A(a), storing the sum in A(a)
+ */
+public class AMAFunction extends AddAccumulatorFunction {
+
+    public static final AMAFunction INSTANCE = new AMAFunction();
+
+    private AMAFunction() {
+        super("AMA", 0_16, true, false, 0);
+    }
+}
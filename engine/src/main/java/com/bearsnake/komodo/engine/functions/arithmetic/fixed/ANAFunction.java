@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+/**
+ * Add Negative to Accumulator instruction
+ * (ANA) subtracts (U) from A(a), storing the difference in A(a)
+ */
+public class ANAFunction extends AddAccumulatorFunction {
+
+    public static final ANAFunction INSTANCE = new ANAFunction();
+
+    private ANAFunction() {
+        super("ANA", 0_15, false, true, 0);
+    }
+}
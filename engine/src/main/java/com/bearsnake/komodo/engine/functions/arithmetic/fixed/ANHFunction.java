@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Add Negative Halves instruction
+ * (ANH) subtracts the halves of (U) from the corresponding halves of A(a), storing the result in A(a).
+ * Each field is added independently - carries do not propagate between fields, and no designators are affected.
+ */
+public class ANHFunction extends FixedPointFunction {
+
+    public static final ANHFunction INSTANCE = new ANHFunction();
+
+    private ANHFunction() {
+        super("ANH");
+        var fc = new FunctionCode(0_72).setJField(0_05);
+        setBasicModeFunctionCode(fc);
+        setExtendedModeFunctionCode(fc);
+
+        setAFieldSemantics(AFieldSemantics.A_REGISTER);
+        setImmediateMode(false);
+        setIsGRS(true);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(true, true, false, false, false);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        var ci = engine.getCurrentInstruction();
+        var result = addFields(engine.getExecOrUserARegisterValue(ci.getA()), Word36.negate(operand), 18, 2);
+        engine.setExecOrUserARegisterValue(ci.getA(), result);
+        return true;
+    }
+}
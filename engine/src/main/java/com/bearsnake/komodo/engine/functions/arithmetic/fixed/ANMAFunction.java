@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+/**
+ * Add Negative Magnitude to Accumulator instruction
+ * (ANMA) subtracts the magnitude of (U) from A(a), storing the difference in A(a)
+ */
+public class ANMAFunction extends AddAccumulatorFunction {
+
+    public static final ANMAFunction INSTANCE = new ANMAFunction();
+
+    private ANMAFunction() {
+        super("ANMA", 0_17, true, true, 0);
+    }
+}
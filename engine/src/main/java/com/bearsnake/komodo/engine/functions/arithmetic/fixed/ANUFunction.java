@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+/**
+ * Add Negative Upper instruction
+ * (ANU) subtracts (U) from A(a), storing the difference in A(a+1)
+ */
+public class ANUFunction extends AddAccumulatorFunction {
+
+    public static final ANUFunction INSTANCE = new ANUFunction();
+
+    private ANUFunction() {
+        super("ANU", 0_21, false, true, 1);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import com.bearsnake.komodo.engine.interrupts.OperationTrapInterrupt;
+
+/**
+ * Add Negative to Index instruction
+ * (ANX) subtracts (U) from X(a), storing the difference in X(a)
+ */
+public class ANXFunction extends FixedPointFunction {
+
+    public static final ANXFunction INSTANCE = new ANXFunction();
+
+    private ANXFunction() {
+        super("ANX");
+        var fc = new FunctionCode(0_25);
+        setBasicModeFunctionCode(fc);
+        setExtendedModeFunctionCode(fc);
+
+        setAFieldSemantics(AFieldSemantics.X_REGISTER);
+        setImmediateMode(true);
+        setIsGRS(true);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(true, true, true, true, false);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        var ci = engine.getCurrentInstruction();
+        var sum = add(engine.getDesignatorRegister(), engine.getExecOrUserXRegisterValue(ci.getA()), Word36.negate(operand));
+        engine.setExecOrUserXRegisterValue(ci.getA(), sum);
+        checkOverflowTrap(engine, OperationTrapInterrupt.Reason.FixedPointBinaryIntegerOverflow);
+        return true;
+    }
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+/**
+ * Add Upper instruction
+ * (AU) adds (U) to A(a), storing the sum in A(a+1)
+ */
+public class AUFunction extends AddAccumulatorFunction {
+
+    public static final AUFunction INSTANCE = new AUFunction();
+
+    private AUFunction() {
+        super("AU", 0_20, false, false, 1);
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import com.bearsnake.komodo.engine.interrupts.OperationTrapInterrupt;
+
+/**
+ * Add to Index instruction
+ * (AX) adds (U) to X(a), storing the sum in X(a)
+ */
+public class AXFunction extends FixedPointFunction {
+
+    public static final AXFunction INSTANCE = new AXFunction();
+
+    private AXFunction() {
+        super("AX");
+        var fc = new FunctionCode(0_24);
+        setBasicModeFunctionCode(fc);
+        setExtendedModeFunctionCode(fc);
+
+        setAFieldSemantics(AFieldSemantics.X_REGISTER);
+        setImmediateMode(true);
+        setIsGRS(true);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(true, true, true, true, false);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        var ci = engine.getCurrentInstruction();
+        var sum = add(engine.getDesignatorRegister(), engine.getExecOrUserXRegisterValue(ci.getA()), operand);
+        engine.setExecOrUserXRegisterValue(ci.getA(), sum);
+        checkOverflowTrap(engine, OperationTrapInterrupt.Reason.FixedPointBinaryIntegerOverflow);
+        return true;
+    }
+}
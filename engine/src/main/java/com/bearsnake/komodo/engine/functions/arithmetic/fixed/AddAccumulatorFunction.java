@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import com.bearsnake.komodo.engine.interrupts.OperationTrapInterrupt;
+
+/**
+ * Base class for the single-word add instructions which add some form of (U) to A(a).
+ * These vary only in whether the operand is negated and/or reduced to its magnitude,
+ * and whether the sum is stored in A(a) or A(a+1), so the execution is identical.
+ */
+public abstract class AddAccumulatorFunction extends FixedPointFunction {
+
+    private final boolean _magnitude;
+    private final boolean _negate;
+    private final int _resultOffset;
+
+    protected AddAccumulatorFunction(
+        final String mnemonic,
+        final int fField,
+        final boolean magnitude,
+        final boolean negate,
+        final int resultOffset
+    ) {
+        super(mnemonic);
+
+        _magnitude = magnitude;
+        _negate = negate;
+        _resultOffset = resultOffset;
+
+        var fc = new FunctionCode(fField);
+        setBasicModeFunctionCode(fc);
+        setExtendedModeFunctionCode(fc);
+
+        setAFieldSemantics(AFieldSemantics.A_REGISTER);
+        setImmediateMode(true);
+        setIsGRS(true);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(true, true, true, true, false);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        if (_magnitude && Word36.isNegative(operand)) {
+            operand = Word36.negate(operand);
+        }
+        if (_negate) {
+            operand = Word36.negate(operand);
+        }
+
+        var ci = engine.getCurrentInstruction();
+        var sum = add(engine.getDesignatorRegister(), engine.getExecOrUserARegisterValue(ci.getA()), operand);
+        engine.setExecOrUserARegisterValue(ci.getA() + _resultOffset, sum);
+        checkOverflowTrap(engine, OperationTrapInterrupt.Reason.FixedPointBinaryIntegerOverflow);
+        return true;
+    }
+}
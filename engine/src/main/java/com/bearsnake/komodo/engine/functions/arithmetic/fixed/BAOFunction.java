@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import com.bearsnake.komodo.engine.interrupts.OperationTrapInterrupt;
+
+/**
+ * Bit Add Ones instruction
+ * (BAO) counts the one bits in (U) and adds that count to A(a), storing the sum in A(a)
+ */
+public class BAOFunction extends FixedPointFunction {
+
+    public static final BAOFunction INSTANCE = new BAOFunction();
+
+    private BAOFunction() {
+        super("BAO");
+        var fc = new FunctionCode(0_72).setJField(0_13);
+        setBasicModeFunctionCode(fc);
+        setExtendedModeFunctionCode(fc);
+
+        setAFieldSemantics(AFieldSemantics.A_REGISTER);
+        setImmediateMode(false);
+        setIsGRS(true);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(true, true, false, false, false);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        var ci = engine.getCurrentInstruction();
+        var sum = add(engine.getDesignatorRegister(), engine.getExecOrUserARegisterValue(ci.getA()), Long.bitCount(operand));
+        engine.setExecOrUserARegisterValue(ci.getA(), sum);
+        checkOverflowTrap(engine, OperationTrapInterrupt.Reason.FixedPointBinaryIntegerOverflow);
+        return true;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import com.bearsnake.komodo.engine.interrupts.OperationTrapInterrupt;
+
+/**
+ * Double-Precision Add instruction
+ * (DA) adds the 72-bit value in (U,U+1) to A(a),A(a+1), storing the sum in A(a),A(a+1)
+ */
+public class DAFunction extends FixedPointFunction {
+
+    public static final DAFunction INSTANCE = new DAFunction();
+
+    private DAFunction() {
+        super("DA");
+        var fc = new FunctionCode(0_71).setJField(0_10);
+        setBasicModeFunctionCode(fc);
+        setExtendedModeFunctionCode(fc);
+
+        setAFieldSemantics(AFieldSemantics.A_REGISTER);
+        setImmediateMode(false);
+        setIsGRS(true);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operands = engine.getConsecutiveOperands(true, 2);
+        if (operands == null) {
+            return false;
+        }
+
+        var ci = engine.getCurrentInstruction();
+        var grs = engine.getGeneralRegisterSet();
+        var grsIndex = engine.getExecOrUserARegisterIndex(ci.getA());
+        addDouble(engine.getDesignatorRegister(),
+                  grs.getW(grsIndex),
+                  grs.getW(grsIndex + 1),
+                  operands[0], operands[1],
+                  grs,
+                  grsIndex);
+        checkOverflowTrap(engine, OperationTrapInterrupt.Reason.FixedPointBinaryIntegerOverflow);
+        return true;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import com.bearsnake.komodo.engine.interrupts.OperationTrapInterrupt;
+
+/**
+ * Double-Precision Add Negative instruction
+ * (DAN) subtracts the 72-bit value in (U,U+1) from A(a),A(a+1), storing the difference in A(a),A(a+1)
+ */
+public class DANFunction extends FixedPointFunction {
+
+    public static final DANFunction INSTANCE = new DANFunction();
+
+    private DANFunction() {
+        super("DAN");
+        var fc = new FunctionCode(0_71).setJField(0_11);
+        setBasicModeFunctionCode(fc);
+        setExtendedModeFunctionCode(fc);
+
+        setAFieldSemantics(AFieldSemantics.A_REGISTER);
+        setImmediateMode(false);
+        setIsGRS(true);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operands = engine.getConsecutiveOperands(true, 2);
+        if (operands == null) {
+            return false;
+        }
+
+        var ci = engine.getCurrentInstruction();
+        var grs = engine.getGeneralRegisterSet();
+        var grsIndex = engine.getExecOrUserARegisterIndex(ci.getA());
+        addDouble(engine.getDesignatorRegister(),
+                  grs.getW(grsIndex),
+                  grs.getW(grsIndex + 1),
+                  Word36.negate(operands[0]), Word36.negate(operands[1]),
+                  grs,
+                  grsIndex);
+        checkOverflowTrap(engine, OperationTrapInterrupt.Reason.FixedPointBinaryIntegerOverflow);
+        return true;
+    }
+}
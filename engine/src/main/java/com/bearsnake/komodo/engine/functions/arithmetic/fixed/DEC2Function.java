@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.baselib.Word36;
+
+/**
+ * Decrement By Two instruction
+ * (DEC2) subtracts two from (U) under j-field control, and skips the next instruction if the result is zero
+ */
+public class DEC2Function extends IncrementFunction {
+
+    public static final DEC2Function INSTANCE = new DEC2Function();
+
+    private DEC2Function() {
+        super("DEC2", 0_13, Word36.negate(2));
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.baselib.Word36;
+
+/**
+ * Decrement instruction
+ * (DEC) subtracts one from (U) under j-field control, and skips the next instruction if the result is zero
+ */
+public class DECFunction extends IncrementFunction {
+
+    public static final DECFunction INSTANCE = new DECFunction();
+
+    private DECFunction() {
+        super("DEC", 0_11, Word36.NEGATIVE_ONE);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Divide Integer instruction
+ * (DI) divides the 72-bit value in A(a),A(a+1) by (U), storing the quotient in A(a) and the remainder in A(a+1).
+ * The remainder takes the sign of the dividend. If the divisor is zero or the quotient does not fit in 36 bits,
+ * a divide check occurs and the registers are not changed.
+ */
+public class DIFunction extends FixedPointFunction {
+
+    public static final DIFunction INSTANCE = new DIFunction();
+
+    private DIFunction() {
+        super("DI");
+        var fc = new FunctionCode(0_34);
+        setBasicModeFunctionCode(fc);
+        setExtendedModeFunctionCode(fc);
+
+        setAFieldSemantics(AFieldSemantics.A_REGISTER);
+        setImmediateMode(true);
+        setIsGRS(true);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(true, true, true, true, false);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        var ci = engine.getCurrentInstruction();
+        var grs = engine.getGeneralRegisterSet();
+        var grsIndex = engine.getExecOrUserARegisterIndex(ci.getA());
+        var dividendHigh = grs.getW(grsIndex);
+        var dividendLow = grs.getW(grsIndex + 1);
+        var dividendNegative = Word36.isNegative(dividendHigh);
+        if (dividendNegative) {
+            dividendHigh = Word36.negate(dividendHigh);
+            dividendLow = Word36.negate(dividendLow);
+        }
+
+        var divisor = magnitude(operand);
+        if (isDivideCheck(dividendHigh, dividendLow, divisor)) {
+            divideCheck(engine);
+            return true;
+        }
+
+        var quotient = divideMagnitude(dividendHigh, dividendLow, divisor);
+        var remainder = (dividendLow - quotient * divisor) & Word36.BIT_MASK;
+        grs.setW(grsIndex, toOnesComplement(dividendNegative != Word36.isNegative(operand), quotient));
+        grs.setW(grsIndex + 1, toOnesComplement(dividendNegative, remainder));
+        return true;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Divide Single Fractional instruction
+ * (DSF) divides A(a), taken as a 72-bit value with A(a+1) assumed to be zero, by (U) as binary fractions,
+ * storing the quotient in A(a+1). The remainder is discarded. If the magnitude of A(a) is not less than that
+ * of (U), a divide check occurs and A(a+1) is not changed.
+ */
+public class DSFFunction extends FixedPointFunction {
+
+    public static final DSFFunction INSTANCE = new DSFFunction();
+
+    private DSFFunction() {
+        super("DSF");
+        var fc = new FunctionCode(0_35);
+        setBasicModeFunctionCode(fc);
+        setExtendedModeFunctionCode(fc);
+
+        setAFieldSemantics(AFieldSemantics.A_REGISTER);
+        setImmediateMode(true);
+        setIsGRS(true);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(true, true, true, true, false);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        var ci = engine.getCurrentInstruction();
+        var dividend = engine.getExecOrUserARegisterValue(ci.getA());
+        var dividendMagnitude = magnitude(dividend);
+        var divisor = magnitude(operand);
+
+        // The dividend magnitude sits in the 35 bits above the binary point of a 72-bit value, i.e., it is shifted
+        // left 35 bits - which fits the quotient in 35 bits only if it is less than the divisor.
+        var dividendHigh = dividendMagnitude >>> 1;
+        var dividendLow = (dividendMagnitude & 01) << 35;
+        if (isDivideCheck(dividendHigh, dividendLow, divisor)) {
+            divideCheck(engine);
+            return true;
+        }
+
+        var quotient = divideMagnitude(dividendHigh, dividendLow, divisor);
+        var negative = Word36.isNegative(dividend) != Word36.isNegative(operand);
+        engine.setExecOrUserARegisterValue(ci.getA() + 1, toOnesComplement(negative, quotient));
+        return true;
+    }
+}
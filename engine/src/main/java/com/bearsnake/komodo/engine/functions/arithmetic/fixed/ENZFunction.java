@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Eliminate Negative Zero instruction
+ * (ENZ) replaces negative zero in (U) under j-field control with positive zero. Any other value is left unchanged.
+ */
+public class ENZFunction extends FixedPointFunction {
+
+    public static final ENZFunction INSTANCE = new ENZFunction();
+
+    private ENZFunction() {
+        super("ENZ");
+        var fc = new FunctionCode(0_05).setAField(0_14);
+        setBasicModeFunctionCode(fc);
+        setExtendedModeFunctionCode(fc);
+
+        setAFieldSemantics(AFieldSemantics.FUNCTION_CODE_EXTENSION);
+        setImmediateMode(false);
+        setIsGRS(true);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(false, true, false, true, true);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        if (Word36.isNegativeZero(operand)) {
+            engine.storeToCachedOperand(Word36.POSITIVE_ZERO);
+        }
+        return true;
+    }
+}
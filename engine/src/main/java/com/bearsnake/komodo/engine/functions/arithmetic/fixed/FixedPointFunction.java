@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.DesignatorRegister;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.GeneralRegisterSet;
+import com.bearsnake.komodo.engine.functions.Function;
+import com.bearsnake.komodo.engine.interrupts.ArithmeticExceptionInterrupt;
+import com.bearsnake.komodo.engine.interrupts.OperationTrapInterrupt;
+
+/**
+ * Base class for the fixed-point binary arithmetic instructions.
+ * All the arithmetic here is done directly on the raw 36-bit (or pairs of 36-bit) ones-complement values as longs,
+ * with the carry and overflow designators written straight into the designator register - these instructions are
+ * the bread and butter of user code, so we do not create any objects on the normal path.
+ * Addition follows the architecture's subtractive adder - the only way to produce negative zero is to add
+ * negative zero to negative zero.
+ */
+public abstract class FixedPointFunction extends Function {
+
+    protected static final long HALF_MASK = 0_777777L;
+
+    protected FixedPointFunction(
+        final String mnemonic
+    ) {
+        super(mnemonic);
+    }
+
+    /**
+     * Adds two 36-bit ones-complement values, setting the carry and overflow designators accordingly.
+     * @return the 36-bit ones-complement sum
+     */
+    protected static long add(
+        final DesignatorRegister designatorRegister,
+        final long addend1,
+        final long addend2
+    ) {
+        var neg1 = Word36.isNegative(addend1);
+        var neg2 = Word36.isNegative(addend2);
+        long sum;
+        boolean carry;
+        if ((addend1 == Word36.NEGATIVE_ZERO) && (addend2 == Word36.NEGATIVE_ZERO)) {
+            sum = Word36.NEGATIVE_ZERO;
+            carry = true;
+        } else {
+            // The native sum is within +/- (2^36 - 2), so converting it back wraps exactly as the hardware does
+            var nativeSum = Word36.getTwosComplement(addend1) + Word36.getTwosComplement(addend2);
+            sum = nativeSum >= 0 ? nativeSum : Word36.negate(-nativeSum);
+            carry = nativeSum < 0 ? (neg1 && neg2) : (neg1 || neg2);
+        }
+
+        designatorRegister.setCarry(carry);
+        designatorRegister.setOverflow((neg1 == neg2) && (neg1 != Word36.isNegative(sum)));
+        return sum;
+    }
+
+    /**
+     * Adds two 72-bit ones-complement values, setting the carry and overflow designators accordingly,
+     * and storing the result into two consecutive GRS registers.
+     */
+    protected static void addDouble(
+        final DesignatorRegister designatorRegister,
+        final long addend1High,
+        final long addend1Low,
+        final long addend2High,
+        final long addend2Low,
+        final GeneralRegisterSet grs,
+        final int grsIndex
+    ) {
+        // End-around-carry addition, one 36-bit half at a time
+        long low = addend1Low + addend2Low;
+        long high = addend1High + addend2High + (low >>> 36);
+        low &= Word36.BIT_MASK;
+        if ((high >>> 36) != 0) {
+            high &= Word36.BIT_MASK;
+            low++;
+            high += low >>> 36;
+            low &= Word36.BIT_MASK;
+        }
+
+        // ... which produces negative zero for any zero sum - the subtractive adder only does so for -0 + -0.
+        var neg1 = Word36.isNegative(addend1High);
+        var neg2 = Word36.isNegative(addend2High);
+        if ((high == Word36.NEGATIVE_ZERO) && (low == Word36.NEGATIVE_ZERO)
+            && !((addend1High == Word36.NEGATIVE_ZERO) && (addend1Low == Word36.NEGATIVE_ZERO)
+                 && (addend2High == Word36.NEGATIVE_ZERO) && (addend2Low == Word36.NEGATIVE_ZERO))) {
+            high = Word36.POSITIVE_ZERO;
+            low = Word36.POSITIVE_ZERO;
+        }
+
+        var negRes = Word36.isNegative(high);
+        designatorRegister.setCarry((neg1 && neg2) || ((neg1 || neg2) && !negRes));
+        designatorRegister.setOverflow((neg1 == neg2) && (neg1 != negRes));
+        grs.setW(grsIndex, high);
+        grs.setW(grsIndex + 1, low);
+    }
+
+    /**
+     * Adds the corresponding ones-complement fields of two words, each field being fieldBits wide.
+     * Carry and overflow are ignored, and no designators are affected.
+     */
+    protected static long addFields(
+        final long addend1,
+        final long addend2,
+        final int fieldBits,
+        final int fieldCount
+    ) {
+        long fieldMask = (1L << fieldBits) - 1;
+        long signBit = 1L << (fieldBits - 1);
+        long result = 0;
+        for (int fx = 0, shift = 0; fx < fieldCount; fx++, shift += fieldBits) {
+            var field1 = (addend1 >>> shift) & fieldMask;
+            var field2 = (addend2 >>> shift) & fieldMask;
+            long sum;
+            if ((field1 == fieldMask) && (field2 == fieldMask)) {
+                sum = fieldMask;
+            } else {
+                var native1 = (field1 & signBit) != 0 ? -(field1 ^ fieldMask) : field1;
+                var native2 = (field2 & signBit) != 0 ? -(field2 ^ fieldMask) : field2;
+                var nativeSum = native1 + native2;
+                sum = nativeSum >= 0 ? nativeSum : (-nativeSum) ^ fieldMask;
+            }
+            result |= (sum & fieldMask) << shift;
+        }
+        return result;
+    }
+
+    /**
+     * Stores a signed 72-bit magnitude (of at most 71 significant bits) into two consecutive GRS registers
+     * in ones-complement form. Zero results are stored as positive zero.
+     */
+    protected static void storeDouble(
+        final boolean negative,
+        final long magnitudeHigh,
+        final long magnitudeLow,
+        final GeneralRegisterSet grs,
+        final int grsIndex
+    ) {
+        if (negative && ((magnitudeHigh | magnitudeLow) != 0)) {
+            grs.setW(grsIndex, Word36.negate(magnitudeHigh));
+            grs.setW(grsIndex + 1, Word36.negate(magnitudeLow));
+        } else {
+            grs.setW(grsIndex, magnitudeHigh);
+            grs.setW(grsIndex + 1, magnitudeLow);
+        }
+    }
+
+    /**
+     * Converts a signed magnitude of at most 35 bits to 36-bit ones-complement. Zero is always positive zero.
+     */
+    protected static long toOnesComplement(
+        final boolean negative,
+        final long magnitude
+    ) {
+        return (negative && (magnitude != 0)) ? Word36.negate(magnitude) : magnitude;
+    }
+
+    /**
+     * Returns the magnitude of a 36-bit ones-complement value
+     */
+    protected static long magnitude(
+        final long value
+    ) {
+        return Word36.isNegative(value) ? Word36.negate(value) : value;
+    }
+
+    /**
+     * Determines whether an unsigned dividend of up to 71 bits (given as two 36-bit halves) cannot be divided by
+     * the given 35-bit unsigned divisor without the quotient exceeding 35 bits - including division by zero.
+     */
+    protected static boolean isDivideCheck(
+        final long dividendHigh,
+        final long dividendLow,
+        final long divisor
+    ) {
+        return (divisor == 0) || (((dividendHigh << 1) | (dividendLow >>> 35)) >= divisor);
+    }
+
+    /**
+     * Divides an unsigned magnitude of up to 71 bits (given as two 36-bit halves) by a non-zero 35-bit magnitude,
+     * where the caller has already established via isDivideCheck() that the quotient fits in 35 bits.
+     * This is schoolbook division in 18-bit digits, so the partial dividends never exceed 53 bits.
+     * The remainder is always less than 2^35, so the caller can recover it from the low-order 36 bits:
+     * (dividendLow - quotient * divisor) & Word36.BIT_MASK
+     * @return the quotient
+     */
+    protected static long divideMagnitude(
+        final long dividendHigh,
+        final long dividendLow,
+        final long divisor
+    ) {
+        // The quotient limit guarantees dividendHigh < divisor, so it is the first partial remainder
+        var partial = (dividendHigh << 18) | (dividendLow >>> 18);
+        var quotientHigh = partial / divisor;
+        partial = ((partial % divisor) << 18) | (dividendLow & HALF_MASK);
+        return (quotientHigh << 18) | (partial / divisor);
+    }
+
+    /**
+     * Reports a divide check - sets the designator, and raises the arithmetic exception interrupt if it is enabled.
+     * If the interrupt is not enabled, the instruction completes without storing any results.
+     */
+    protected static void divideCheck(
+        final Engine engine
+    ) throws ArithmeticExceptionInterrupt {
+        var dr = engine.getDesignatorRegister();
+        dr.setDivideCheck(true);
+        if (dr.isArithmeticExceptionEnabled()) {
+            throw new ArithmeticExceptionInterrupt(ArithmeticExceptionInterrupt.Reason.DivideCheck);
+        }
+    }
+
+    /**
+     * Posts the operation trap interrupt if the instruction overflowed and operation traps are enabled.
+     * The trap is not a fault - the instruction has completed and its results have been stored.
+     */
+    protected static void checkOverflowTrap(
+        final Engine engine,
+        final OperationTrapInterrupt.Reason reason
+    ) {
+        var dr = engine.getDesignatorRegister();
+        if (dr.isOverflow() && dr.isOperationTrapEnabled()) {
+            engine.postInterrupt(new OperationTrapInterrupt(reason));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+/**
+ * Increment By Two instruction
+ * (INC2) adds two to (U) under j-field control, and skips the next instruction if the result is zero
+ */
+public class INC2Function extends IncrementFunction {
+
+    public static final INC2Function INSTANCE = new INC2Function();
+
+    private INC2Function() {
+        super("INC2", 0_12, 2);
+    }
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+/**
+ * Increment instruction
+ * (INC) adds one to (U) under j-field control, and skips the next instruction if the result is zero
+ */
+public class INCFunction extends IncrementFunction {
+
+    public static final INCFunction INSTANCE = new INCFunction();
+
+    private INCFunction() {
+        super("INC", 0_10, 1);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Base class for the increment and decrement instructions.
+ * These are characterized by f=05, j=partial-word, and a=function code extension.
+ * The operand is read from U under j-field control, adjusted by a small constant, and written back to U under
+ * j-field control. If the result is zero, the next instruction is skipped. No designators are affected.
+ */
+public abstract class IncrementFunction extends FixedPointFunction {
+
+    private final long _delta;
+
+    protected IncrementFunction(
+        final String mnemonic,
+        final int aField,
+        final long delta
+    ) {
+        super(mnemonic);
+
+        _delta = delta;
+
+        var fc = new FunctionCode(0_05).setAField(aField);
+        setBasicModeFunctionCode(fc);
+        setExtendedModeFunctionCode(fc);
+
+        setAFieldSemantics(AFieldSemantics.FUNCTION_CODE_EXTENSION);
+        setImmediateMode(false);
+        setIsGRS(true);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(false, true, false, true, true);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        var result = Word36.addSimple(operand, _delta);
+        engine.storeToCachedOperand(result);
+        if (Word36.isZero(result)) {
+            engine.getProgramAddressRegister().incrementProgramCounter();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Multiply Fractional instruction
+ * (MF) multiplies A(a) by (U) as binary fractions, storing the 72-bit product in A(a),A(a+1).
+ * The product magnitude is shifted left one bit, so that the binary point follows the sign bit of A(a).
+ */
+public class MFFunction extends FixedPointFunction {
+
+    public static final MFFunction INSTANCE = new MFFunction();
+
+    private MFFunction() {
+        super("MF");
+        var fc = new FunctionCode(0_32);
+        setBasicModeFunctionCode(fc);
+        setExtendedModeFunctionCode(fc);
+
+        setAFieldSemantics(AFieldSemantics.A_REGISTER);
+        setImmediateMode(true);
+        setIsGRS(true);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(true, true, true, true, false);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        var ci = engine.getCurrentInstruction();
+        var multiplicand = engine.getExecOrUserARegisterValue(ci.getA());
+        var negative = Word36.isNegative(multiplicand) != Word36.isNegative(operand);
+
+        // As for MI, but shifted left one bit - the product is under 2^70, so the shifted product still fits in 71 bits
+        var mag1 = magnitude(multiplicand);
+        var mag2 = magnitude(operand);
+        var productLow = mag1 * mag2;
+        var productHigh = Math.multiplyHigh(mag1, mag2);
+        storeDouble(negative,
+                    (productHigh << 29) | (productLow >>> 35),
+                    (productLow << 1) & Word36.BIT_MASK,
+                    engine.getGeneralRegisterSet(),
+                    engine.getExecOrUserARegisterIndex(ci.getA()));
+        return true;
+    }
+}
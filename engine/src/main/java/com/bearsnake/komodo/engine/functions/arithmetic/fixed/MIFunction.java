@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Multiply Integer instruction
+ * (MI) multiplies A(a) by (U), storing the 72-bit product in A(a),A(a+1)
+ */
+public class MIFunction extends FixedPointFunction {
+
+    public static final MIFunction INSTANCE = new MIFunction();
+
+    private MIFunction() {
+        super("MI");
+        var fc = new FunctionCode(0_30);
+        setBasicModeFunctionCode(fc);
+        setExtendedModeFunctionCode(fc);
+
+        setAFieldSemantics(AFieldSemantics.A_REGISTER);
+        setImmediateMode(true);
+        setIsGRS(true);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(true, true, true, true, false);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        var ci = engine.getCurrentInstruction();
+        var multiplicand = engine.getExecOrUserARegisterValue(ci.getA());
+        var negative = Word36.isNegative(multiplicand) != Word36.isNegative(operand);
+
+        // Both magnitudes are under 2^35, so the product is under 2^70 and spans the low 6 bits of the high long
+        var mag1 = magnitude(multiplicand);
+        var mag2 = magnitude(operand);
+        var productLow = mag1 * mag2;
+        var productHigh = Math.multiplyHigh(mag1, mag2);
+        storeDouble(negative,
+                    (productHigh << 28) | (productLow >>> 36),
+                    productLow & Word36.BIT_MASK,
+                    engine.getGeneralRegisterSet(),
+                    engine.getExecOrUserARegisterIndex(ci.getA()));
+        return true;
+    }
+}
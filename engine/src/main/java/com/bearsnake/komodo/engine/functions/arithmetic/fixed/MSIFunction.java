@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import com.bearsnake.komodo.engine.interrupts.OperationTrapInterrupt;
+
+/**
+ * Multiply Single Integer instruction
+ * (MSI) multiplies A(a) by (U), storing the 36-bit product in A(a).
+ * If the product does not fit in 36 bits, overflow is set and the low-order 35 bits of the magnitude are stored.
+ */
+public class MSIFunction extends FixedPointFunction {
+
+    public static final MSIFunction INSTANCE = new MSIFunction();
+
+    private MSIFunction() {
+        super("MSI");
+        var fc = new FunctionCode(0_31);
+        setBasicModeFunctionCode(fc);
+        setExtendedModeFunctionCode(fc);
+
+        setAFieldSemantics(AFieldSemantics.A_REGISTER);
+        setImmediateMode(true);
+        setIsGRS(true);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(true, true, true, true, false);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        var ci = engine.getCurrentInstruction();
+        var multiplicand = engine.getExecOrUserARegisterValue(ci.getA());
+        var negative = Word36.isNegative(multiplicand) != Word36.isNegative(operand);
+
+        // The product is under 2^70 - it fits in a single word only if neither the high long nor bit 35 is set
+        var mag1 = magnitude(multiplicand);
+        var mag2 = magnitude(operand);
+        var productLow = mag1 * mag2;
+        var overflow = (Math.multiplyHigh(mag1, mag2) != 0) || ((productLow >>> 35) != 0);
+
+        engine.setExecOrUserARegisterValue(ci.getA(), toOnesComplement(negative, productLow & 0_377777_777777L));
+        engine.getDesignatorRegister().setOverflow(overflow);
+        checkOverflowTrap(engine, OperationTrapInterrupt.Reason.MultiplySingleIntegerOverflow);
+        return true;
+    }
+}
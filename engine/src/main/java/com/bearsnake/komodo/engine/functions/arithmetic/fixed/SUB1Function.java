@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import com.bearsnake.komodo.engine.interrupts.OperationTrapInterrupt;
+
+/**
+ * Subtract One instruction
+ * (SUB1) subtracts one from (U) under j-field control, setting carry and overflow as for ANA.
+ * This is an extended mode instruction.
+ */
+public class SUB1Function extends FixedPointFunction {
+
+    public static final SUB1Function INSTANCE = new SUB1Function();
+
+    private SUB1Function() {
+        super("SUB1");
+        setExtendedModeFunctionCode(new FunctionCode(0_05).setAField(0_16));
+
+        setAFieldSemantics(AFieldSemantics.FUNCTION_CODE_EXTENSION);
+        setImmediateMode(false);
+        setIsGRS(true);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(false, true, false, true, true);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        engine.storeToCachedOperand(add(engine.getDesignatorRegister(), operand, Word36.NEGATIVE_ONE));
+        checkOverflowTrap(engine, OperationTrapInterrupt.Reason.FixedPointBinaryIntegerOverflow);
+        return true;
+    }
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.floating;
+
+/**
+ * Characteristic Difference to Upper instruction
+ * (CDU) stores the characteristic of A(a) less that of (U) in A(a+1), as a signed value
+ */
+public class CDUFunction extends CharacteristicDifferenceFunction {
+
+    public static final CDUFunction INSTANCE = new CDUFunction();
+
+    private CDUFunction() {
+        super("CDU", 0_07, false);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.floating;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Base class for CDU and MCDU, which subtract the characteristic of (U) from that of A(a) - each taken from the
+ * magnitude of the single-precision value - and store the difference, or its magnitude, in A(a+1).
+ * These are what software uses to decide how far to shift one operand of a floating add into alignment with the other.
+ */
+public abstract class CharacteristicDifferenceFunction extends FloatingPointFunction {
+
+    private final boolean _magnitude;
+
+    protected CharacteristicDifferenceFunction(
+        final String mnemonic,
+        final int jField,
+        final boolean magnitude
+    ) {
+        super(mnemonic, jField);
+        _magnitude = magnitude;
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(true, true, false, false, false);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        var ci = engine.getCurrentInstruction();
+        var difference = getSingleCharacteristic(engine.getExecOrUserARegisterValue(ci.getA()))
+                         - getSingleCharacteristic(operand);
+        long result;
+        if (_magnitude || (difference >= 0)) {
+            result = Math.abs(difference);
+        } else {
+            result = Word36.negate(-difference);
+        }
+        engine.setExecOrUserARegisterValue(ci.getA() + 1, result);
+        return true;
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.floating;
+
+import com.bearsnake.komodo.engine.FloatingPointComponents;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicOverflowException;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicUnderflowException;
+
+/**
+ * Double-Precision Floating Add instruction
+ * (DFA) adds (U,U+1) to A(a),A(a+1), storing the normalized sum in A(a),A(a+1)
+ */
+public class DFAFunction extends DoubleArithmeticFunction {
+
+    public static final DFAFunction INSTANCE = new DFAFunction();
+
+    private DFAFunction() {
+        super("DFA", 0_10);
+    }
+
+    @Override
+    protected void compute(
+        final long[] accumulator,
+        final long[] operands,
+        final long[] result
+    ) throws CharacteristicOverflowException,
+             CharacteristicUnderflowException {
+        FloatingPointComponents.addDouble(accumulator, 0, operands, 0, result, 0);
+    }
+}
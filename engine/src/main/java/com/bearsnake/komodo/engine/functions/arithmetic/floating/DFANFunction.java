@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.floating;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.FloatingPointComponents;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicOverflowException;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicUnderflowException;
+
+/**
+ * Double-Precision Floating Add Negative instruction
+ * (DFAN) adds the negative of (U,U+1) to A(a),A(a+1), storing the normalized sum in A(a),A(a+1)
+ */
+public class DFANFunction extends DoubleArithmeticFunction {
+
+    public static final DFANFunction INSTANCE = new DFANFunction();
+
+    private DFANFunction() {
+        super("DFAN", 0_11);
+    }
+
+    @Override
+    protected void compute(
+        final long[] accumulator,
+        final long[] operands,
+        final long[] result
+    ) throws CharacteristicOverflowException,
+             CharacteristicUnderflowException {
+        //  operands is our own copy, so we can negate it in place
+        operands[0] = Word36.negate(operands[0]);
+        operands[1] = Word36.negate(operands[1]);
+        FloatingPointComponents.addDouble(accumulator, 0, operands, 0, result, 0);
+    }
+}
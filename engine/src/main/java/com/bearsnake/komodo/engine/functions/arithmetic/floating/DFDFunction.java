@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.floating;
+
+import com.bearsnake.komodo.engine.FloatingPointComponents;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicOverflowException;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicUnderflowException;
+import com.bearsnake.komodo.engine.exceptions.DivideByZeroException;
+
+/**
+ * Double-Precision Floating Divide instruction
+ * (DFD) divides A(a),A(a+1) by (U,U+1), storing the normalized quotient in A(a),A(a+1).
+ * A zero divisor produces a divide check
+ */
+public class DFDFunction extends DoubleArithmeticFunction {
+
+    public static final DFDFunction INSTANCE = new DFDFunction();
+
+    private DFDFunction() {
+        super("DFD", 0_13);
+    }
+
+    @Override
+    protected void compute(
+        final long[] accumulator,
+        final long[] operands,
+        final long[] result
+    ) throws CharacteristicOverflowException,
+             CharacteristicUnderflowException,
+             DivideByZeroException {
+        FloatingPointComponents.divideDouble(accumulator, 0, operands, 0, result, 0);
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.floating;
+
+import com.bearsnake.komodo.engine.FloatingPointComponents;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicOverflowException;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicUnderflowException;
+
+/**
+ * Double-Precision Floating Multiply instruction
+ * (DFM) multiplies A(a),A(a+1) by (U,U+1), storing the normalized product in A(a),A(a+1)
+ */
+public class DFMFunction extends DoubleArithmeticFunction {
+
+    public static final DFMFunction INSTANCE = new DFMFunction();
+
+    private DFMFunction() {
+        super("DFM", 0_12);
+    }
+
+    @Override
+    protected void compute(
+        final long[] accumulator,
+        final long[] operands,
+        final long[] result
+    ) throws CharacteristicOverflowException,
+             CharacteristicUnderflowException {
+        FloatingPointComponents.multiplyDouble(accumulator, 0, operands, 0, result, 0);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.floating;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Double-Precision Floating Unpack instruction
+ * (DFU) stores the biased characteristic of the magnitude of (U,U+1) right-justified in A(a), and the mantissa
+ * of (U,U+1) in A(a+1),A(a+2) with the characteristic field replaced by copies of the sign bit.
+ */
+public class DFUFunction extends FloatingPointFunction {
+
+    public static final DFUFunction INSTANCE = new DFUFunction();
+
+    private DFUFunction() {
+        super("DFU", 0_14);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operands = engine.getConsecutiveOperands(true, 2);
+        if (operands == null) {
+            return false;
+        }
+
+        var negative = Word36.isNegative(operands[0]);
+        var high = negative ? Word36.negate(operands[0]) : operands[0];
+        var low = negative ? Word36.negate(operands[1]) : operands[1];
+        var characteristic = (high >>> DOUBLE_HIGH_MANTISSA_BITS) & DOUBLE_CHARACTERISTIC_MASK;
+        high &= DOUBLE_HIGH_MANTISSA_MASK;
+
+        var ci = engine.getCurrentInstruction();
+        var grs = engine.getGeneralRegisterSet();
+        var grsIndex = engine.getExecOrUserARegisterIndex(ci.getA());
+        grs.setW(grsIndex, characteristic);
+        grs.setW(grsIndex + 1, negative ? Word36.negate(high) : high);
+        grs.setW(grsIndex + 2, negative ? Word36.negate(low) : low);
+        return true;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.floating;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Double-Precision Load and Convert to Floating instruction
+ * (DLCF) packs the biased characteristic in bits 25-35 of A(a) with the fixed-point mantissa in (U,U+1), whose binary
+ * point lies to the left of bit 12 of U, normalizes the result and stores it in A(a+1),A(a+2).
+ * Significant bits in bits 1-11 of U shift the mantissa right (truncating) rather than being lost.
+ * A zero mantissa produces a zero of the same sign.
+ */
+public class DLCFFunction extends FloatingPointFunction {
+
+    public static final DLCFFunction INSTANCE = new DLCFFunction();
+
+    private DLCFFunction() {
+        super("DLCF", 0_15);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operands = engine.getConsecutiveOperands(true, 2);
+        if (operands == null) {
+            return false;
+        }
+
+        var ci = engine.getCurrentInstruction();
+        var grs = engine.getGeneralRegisterSet();
+        var grsIndex = engine.getExecOrUserARegisterIndex(ci.getA());
+        var negative = Word36.isNegative(operands[0]);
+        var high = negative ? Word36.negate(operands[0]) : operands[0];
+        var low = negative ? Word36.negate(operands[1]) : operands[1];
+        if ((high | low) == 0) {
+            grs.setW(grsIndex + 1, operands[0]);
+            grs.setW(grsIndex + 2, operands[1]);
+            return true;
+        }
+
+        //  The magnitude has at most 71 significant bits. If there are more than 60 we shift right, which means
+        //  high has at least 25 significant bits and high << (36 - shift) has exactly 60. Otherwise it all fits a long.
+        var bitCount = (high == 0) ? 64 - Long.numberOfLeadingZeros(low) : 100 - Long.numberOfLeadingZeros(high);
+        var shift = bitCount - DOUBLE_MANTISSA_BITS;
+        long mantissa;
+        if (shift > 0) {
+            mantissa = (high << (36 - shift)) | (low >>> shift);
+        } else {
+            mantissa = ((high << 36) | low) << -shift;
+        }
+
+        var characteristic = (int) (grs.getW(grsIndex) & DOUBLE_CHARACTERISTIC_MASK) + shift;
+        if (characteristic > DOUBLE_CHARACTERISTIC_MASK) {
+            characteristicOverflow(engine);
+            return true;
+        } else if (characteristic < 0) {
+            characteristicUnderflow(engine);
+            return true;
+        }
+
+        var resultHigh = ((long) characteristic << DOUBLE_HIGH_MANTISSA_BITS) | (mantissa >>> 36);
+        var resultLow = mantissa & Word36.BIT_MASK;
+        grs.setW(grsIndex + 1, negative ? Word36.negate(resultHigh) : resultHigh);
+        grs.setW(grsIndex + 2, negative ? Word36.negate(resultLow) : resultLow);
+        return true;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.floating;
+
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicOverflowException;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicUnderflowException;
+import com.bearsnake.komodo.engine.exceptions.DivideByZeroException;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Base class for the double-precision arithmetic instructions, which combine A(a),A(a+1) with (U,U+1)
+ * and store the normalized result in A(a),A(a+1).
+ */
+public abstract class DoubleArithmeticFunction extends FloatingPointFunction {
+
+    protected DoubleArithmeticFunction(
+        final String mnemonic,
+        final int jField
+    ) {
+        super(mnemonic, jField);
+    }
+
+    /**
+     * Produces the result of the operation on the two double-precision floating point values,
+     * storing it in the first two words of result (which may be the accumulator array).
+     */
+    protected abstract void compute(
+        final long[] accumulator,
+        final long[] operands,
+        final long[] result
+    ) throws CharacteristicOverflowException,
+             CharacteristicUnderflowException,
+             DivideByZeroException;
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operands = engine.getConsecutiveOperands(true, 2);
+        if (operands == null) {
+            return false;
+        }
+
+        var ci = engine.getCurrentInstruction();
+        var grs = engine.getGeneralRegisterSet();
+        var grsIndex = engine.getExecOrUserARegisterIndex(ci.getA());
+        var accumulator = new long[]{ grs.getW(grsIndex), grs.getW(grsIndex + 1) };
+        try {
+            compute(accumulator, operands, accumulator);
+            grs.setW(grsIndex, accumulator[0]);
+            grs.setW(grsIndex + 1, accumulator[1]);
+        } catch (CharacteristicOverflowException ex) {
+            characteristicOverflow(engine);
+        } catch (CharacteristicUnderflowException ex) {
+            characteristicUnderflow(engine);
+        } catch (DivideByZeroException ex) {
+            divideCheck(engine);
+        }
+        return true;
+    }
+}
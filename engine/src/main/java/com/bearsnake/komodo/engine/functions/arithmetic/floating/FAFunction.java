@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.floating;
+
+import com.bearsnake.komodo.engine.FloatingPointComponents;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicOverflowException;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicUnderflowException;
+
+/**
+ * Floating Add instruction
+ * (FA) adds (U) to A(a), storing the normalized sum in A(a)
+ */
+public class FAFunction extends SingleArithmeticFunction {
+
+    public static final FAFunction INSTANCE = new FAFunction();
+
+    private FAFunction() {
+        super("FA", 0_00);
+    }
+
+    @Override
+    protected long compute(
+        final long accumulator,
+        final long operand
+    ) throws CharacteristicOverflowException,
+             CharacteristicUnderflowException {
+        return FloatingPointComponents.addSingle(accumulator, operand);
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.floating;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.FloatingPointComponents;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicOverflowException;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicUnderflowException;
+
+/**
+ * Floating Add Negative instruction
+ * (FAN) adds the negative of (U) to A(a), storing the normalized sum in A(a)
+ */
+public class FANFunction extends SingleArithmeticFunction {
+
+    public static final FANFunction INSTANCE = new FANFunction();
+
+    private FANFunction() {
+        super("FAN", 0_01);
+    }
+
+    @Override
+    protected long compute(
+        final long accumulator,
+        final long operand
+    ) throws CharacteristicOverflowException,
+             CharacteristicUnderflowException {
+        return FloatingPointComponents.addSingle(accumulator, Word36.negate(operand));
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.floating;
+
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.FloatingPointComponents;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicOverflowException;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicUnderflowException;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Floating Compress and Load instruction
+ * (FCL) converts the double-precision value in (U,U+1) to a normalized single-precision value, storing it in A(a).
+ * The mantissa is truncated, and the characteristic may overflow or underflow the single-precision range.
+ */
+public class FCLFunction extends FloatingPointFunction {
+
+    public static final FCLFunction INSTANCE = new FCLFunction();
+
+    private FCLFunction() {
+        super("FCL", 0_17);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operands = engine.getConsecutiveOperands(true, 2);
+        if (operands == null) {
+            return false;
+        }
+
+        var ci = engine.getCurrentInstruction();
+        try {
+            engine.setExecOrUserARegisterValue(ci.getA(), new FloatingPointComponents(operands, 0).toWord36());
+        } catch (CharacteristicOverflowException ex) {
+            characteristicOverflow(engine);
+        } catch (CharacteristicUnderflowException ex) {
+            characteristicUnderflow(engine);
+        }
+        return true;
+    }
+}
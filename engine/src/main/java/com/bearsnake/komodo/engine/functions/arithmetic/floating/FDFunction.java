@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.floating;
+
+import com.bearsnake.komodo.engine.FloatingPointComponents;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicOverflowException;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicUnderflowException;
+import com.bearsnake.komodo.engine.exceptions.DivideByZeroException;
+
+/**
+ * Floating Divide instruction
+ * (FD) divides A(a) by (U), storing the normalized quotient in A(a).
+ * A zero divisor produces a divide check
+ */
+public class FDFunction extends SingleArithmeticFunction {
+
+    public static final FDFunction INSTANCE = new FDFunction();
+
+    private FDFunction() {
+        super("FD", 0_03);
+    }
+
+    @Override
+    protected long compute(
+        final long accumulator,
+        final long operand
+    ) throws CharacteristicOverflowException,
+             CharacteristicUnderflowException,
+             DivideByZeroException {
+        return FloatingPointComponents.divideSingle(accumulator, operand);
+    }
+}
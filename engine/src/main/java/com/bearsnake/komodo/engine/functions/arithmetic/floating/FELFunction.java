@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.floating;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Floating Expand and Load instruction
+ * (FEL) converts the single-precision value in (U) to double-precision, storing it in A(a),A(a+1).
+ * The conversion is exact, and the mantissa is not normalized - so no characteristic exception can occur.
+ */
+public class FELFunction extends FloatingPointFunction {
+
+    public static final FELFunction INSTANCE = new FELFunction();
+
+    private static final int MANTISSA_SHIFT = DOUBLE_MANTISSA_BITS - SINGLE_MANTISSA_BITS;
+
+    private FELFunction() {
+        super("FEL", 0_16);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(true, true, false, false, false);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        long high = 0;
+        long low = 0;
+        var value = magnitude(operand);
+        if (value != 0) {
+            var characteristic = getSingleCharacteristic(operand) - SINGLE_CHARACTERISTIC_BIAS + DOUBLE_CHARACTERISTIC_BIAS;
+            var mantissa = (value & SINGLE_MANTISSA_MASK) << MANTISSA_SHIFT;
+            high = ((long) characteristic << DOUBLE_HIGH_MANTISSA_BITS) | (mantissa >>> 36);
+            low = mantissa & Word36.BIT_MASK;
+        }
+
+        var ci = engine.getCurrentInstruction();
+        var grs = engine.getGeneralRegisterSet();
+        var grsIndex = engine.getExecOrUserARegisterIndex(ci.getA());
+        var negative = Word36.isNegative(operand);
+        grs.setW(grsIndex, negative ? Word36.negate(high) : high);
+        grs.setW(grsIndex + 1, negative ? Word36.negate(low) : low);
+        return true;
+    }
+}
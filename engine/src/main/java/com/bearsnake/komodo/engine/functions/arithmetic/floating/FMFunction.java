@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.floating;
+
+import com.bearsnake.komodo.engine.FloatingPointComponents;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicOverflowException;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicUnderflowException;
+
+/**
+ * Floating Multiply instruction
+ * (FM) multiplies A(a) by (U), storing the normalized product in A(a)
+ */
+public class FMFunction extends SingleArithmeticFunction {
+
+    public static final FMFunction INSTANCE = new FMFunction();
+
+    private FMFunction() {
+        super("FM", 0_02);
+    }
+
+    @Override
+    protected long compute(
+        final long accumulator,
+        final long operand
+    ) throws CharacteristicOverflowException,
+             CharacteristicUnderflowException {
+        return FloatingPointComponents.multiplySingle(accumulator, operand);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.floating;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.Function;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.ArithmeticExceptionInterrupt;
+
+/**
+ * Base class for the floating point binary instructions, all of which are f=076 with the j-field
+ * as a function code extension. The arithmetic itself lives in the word-level methods of FloatingPointComponents,
+ * which take a host double fast path where that produces the same result as the exact path.
+ * Single-precision format is sign(1), characteristic(8), mantissa(27) with a characteristic bias of 0200.
+ * Double-precision format is sign(1), characteristic(11), mantissa(60) with a characteristic bias of 02000.
+ * Negative values are the ones-complement of the whole word or words.
+ */
+public abstract class FloatingPointFunction extends Function {
+
+    protected static final int SINGLE_CHARACTERISTIC_BIAS = 0200;
+    protected static final long SINGLE_CHARACTERISTIC_MASK = 0377;
+    protected static final int SINGLE_MANTISSA_BITS = 27;
+    protected static final long SINGLE_MANTISSA_MASK = (1L << SINGLE_MANTISSA_BITS) - 1;
+
+    protected static final int DOUBLE_CHARACTERISTIC_BIAS = 02000;
+    protected static final long DOUBLE_CHARACTERISTIC_MASK = 03777;
+    protected static final int DOUBLE_HIGH_MANTISSA_BITS = 24;
+    protected static final long DOUBLE_HIGH_MANTISSA_MASK = (1L << DOUBLE_HIGH_MANTISSA_BITS) - 1;
+    protected static final int DOUBLE_MANTISSA_BITS = DOUBLE_HIGH_MANTISSA_BITS + 36;
+
+    protected FloatingPointFunction(
+        final String mnemonic,
+        final int jField
+    ) {
+        super(mnemonic);
+        var fc = new FunctionCode(0_76).setJField(jField);
+        setBasicModeFunctionCode(fc);
+        setExtendedModeFunctionCode(fc);
+
+        setAFieldSemantics(AFieldSemantics.A_REGISTER);
+        setImmediateMode(false);
+        setIsGRS(true);
+    }
+
+    /**
+     * Returns the magnitude of a 36-bit ones-complement value
+     */
+    protected static long magnitude(
+        final long value
+    ) {
+        return Word36.isNegative(value) ? Word36.negate(value) : value;
+    }
+
+    /**
+     * Retrieves the biased characteristic of a single-precision floating point word, ignoring its sign
+     */
+    protected static int getSingleCharacteristic(
+        final long value
+    ) {
+        return (int) ((magnitude(value) >>> SINGLE_MANTISSA_BITS) & SINGLE_CHARACTERISTIC_MASK);
+    }
+
+    /**
+     * Reports a characteristic overflow - sets the designator, and raises the arithmetic exception interrupt
+     * if it is enabled. If the interrupt is not enabled, the instruction completes without storing any results.
+     */
+    protected static void characteristicOverflow(
+        final Engine engine
+    ) throws ArithmeticExceptionInterrupt {
+        var dr = engine.getDesignatorRegister();
+        dr.setCharacteristicOverflow(true);
+        if (dr.isArithmeticExceptionEnabled()) {
+            throw new ArithmeticExceptionInterrupt(ArithmeticExceptionInterrupt.Reason.CharacteristicOverflow);
+        }
+    }
+
+    /**
+     * Reports a characteristic underflow, as above
+     */
+    protected static void characteristicUnderflow(
+        final Engine engine
+    ) throws ArithmeticExceptionInterrupt {
+        var dr = engine.getDesignatorRegister();
+        dr.setCharacteristicUnderflow(true);
+        if (dr.isArithmeticExceptionEnabled()) {
+            throw new ArithmeticExceptionInterrupt(ArithmeticExceptionInterrupt.Reason.CharacteristicUnderflow);
+        }
+    }
+
+    /**
+     * Reports a divide check (a zero divisor), as above
+     */
+    protected static void divideCheck(
+        final Engine engine
+    ) throws ArithmeticExceptionInterrupt {
+        var dr = engine.getDesignatorRegister();
+        dr.setDivideCheck(true);
+        if (dr.isArithmeticExceptionEnabled()) {
+            throw new ArithmeticExceptionInterrupt(ArithmeticExceptionInterrupt.Reason.DivideCheck);
+        }
+    }
+}
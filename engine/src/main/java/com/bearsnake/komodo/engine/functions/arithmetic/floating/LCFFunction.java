@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.floating;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Load and Convert to Floating instruction
+ * (LCF) packs the biased characteristic in bits 28-35 of A(a) with the fixed-point mantissa in (U), whose binary point
+ * lies to the left of bit 9, normalizes the result and stores it in A(a+1). Significant bits in bits 1-8 of the
+ * mantissa shift it right (truncating) rather than being lost. A zero mantissa produces a zero of the same sign.
+ */
+public class LCFFunction extends FloatingPointFunction {
+
+    public static final LCFFunction INSTANCE = new LCFFunction();
+
+    private LCFFunction() {
+        super("LCF", 0_05);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(true, true, false, false, false);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        var ci = engine.getCurrentInstruction();
+        var negative = Word36.isNegative(operand);
+        var mantissa = magnitude(operand);
+        if (mantissa == 0) {
+            engine.setExecOrUserARegisterValue(ci.getA() + 1, operand);
+            return true;
+        }
+
+        var characteristic = (int) (engine.getExecOrUserARegisterValue(ci.getA()) & SINGLE_CHARACTERISTIC_MASK);
+        var shift = (64 - Long.numberOfLeadingZeros(mantissa)) - SINGLE_MANTISSA_BITS;
+        mantissa = (shift > 0) ? mantissa >>> shift : mantissa << -shift;
+        characteristic += shift;
+        if (characteristic > SINGLE_CHARACTERISTIC_MASK) {
+            characteristicOverflow(engine);
+            return true;
+        } else if (characteristic < 0) {
+            characteristicUnderflow(engine);
+            return true;
+        }
+
+        var result = ((long) characteristic << SINGLE_MANTISSA_BITS) | mantissa;
+        engine.setExecOrUserARegisterValue(ci.getA() + 1, negative ? Word36.negate(result) : result);
+        return true;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.floating;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Load and Unpack Floating instruction
+ * (LUF) stores the biased characteristic of the magnitude of (U) right-justified in A(a), and the mantissa of (U)
+ * in A(a+1) with the characteristic field replaced by copies of the sign bit.
+ */
+public class LUFFunction extends FloatingPointFunction {
+
+    public static final LUFFunction INSTANCE = new LUFFunction();
+
+    private LUFFunction() {
+        super("LUF", 0_04);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(true, true, false, false, false);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        var ci = engine.getCurrentInstruction();
+        var mantissa = magnitude(operand) & SINGLE_MANTISSA_MASK;
+        engine.setExecOrUserARegisterValue(ci.getA(), getSingleCharacteristic(operand));
+        engine.setExecOrUserARegisterValue(ci.getA() + 1, Word36.isNegative(operand) ? Word36.negate(mantissa) : mantissa);
+        return true;
+    }
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.floating;
+
+/**
+ * Magnitude of Characteristic Difference to Upper instruction
+ * (MCDU) stores the magnitude of the difference between the characteristics of A(a) and (U) in A(a+1)
+ */
+public class MCDUFunction extends CharacteristicDifferenceFunction {
+
+    public static final MCDUFunction INSTANCE = new MCDUFunction();
+
+    private MCDUFunction() {
+        super("MCDU", 0_06, true);
+    }
+}
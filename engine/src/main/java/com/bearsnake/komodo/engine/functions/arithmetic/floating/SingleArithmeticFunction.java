@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.floating;
+
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicOverflowException;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicUnderflowException;
+import com.bearsnake.komodo.engine.exceptions.DivideByZeroException;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Base class for the single-precision arithmetic instructions, which combine A(a) with (U)
+ * and store the normalized result in A(a). These vary only in the arithmetic, so the execution is identical.
+ */
+public abstract class SingleArithmeticFunction extends FloatingPointFunction {
+
+    protected SingleArithmeticFunction(
+        final String mnemonic,
+        final int jField
+    ) {
+        super(mnemonic, jField);
+    }
+
+    /**
+     * Produces the result of the operation on the two single-precision floating point words
+     */
+    protected abstract long compute(
+        final long accumulator,
+        final long operand
+    ) throws CharacteristicOverflowException,
+             CharacteristicUnderflowException,
+             DivideByZeroException;
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(true, true, false, false, false);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        var ci = engine.getCurrentInstruction();
+        try {
+            var result = compute(engine.getExecOrUserARegisterValue(ci.getA()), operand);
+            engine.setExecOrUserARegisterValue(ci.getA(), result);
+        } catch (CharacteristicOverflowException ex) {
+            characteristicOverflow(engine);
+        } catch (CharacteristicUnderflowException ex) {
+            characteristicUnderflow(engine);
+        } catch (DivideByZeroException ex) {
+            divideCheck(engine);
+        }
+        return true;
+    }
+}
@@ -40,8 +40,8 @@ public class DJZFunction extends Function {
         }
 
         var a = engine.getCurrentInstruction().getA();
-        if (DoubleWord36.isZero(engine.getExecOrUserARegister(a).getW(),
-                                engine.getExecOrUserARegister(a + 1).getW())) {
+        if (DoubleWord36.isZero(engine.getExecOrUserARegisterValue(a),
+                                engine.getExecOrUserARegisterValue(a + 1))) {
             doJump(engine, jumpTarget);
         }
 
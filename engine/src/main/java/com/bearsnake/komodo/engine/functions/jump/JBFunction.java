@@ -38,7 +38,7 @@ public class JBFunction extends Function {
         }
 
         var a = engine.getCurrentInstruction().getA();
-        if ((engine.getExecOrUserARegister(a).getW() & 01) == 01) {
+        if ((engine.getExecOrUserARegisterValue(a) & 01) == 01) {
             doJump(engine, operand);
         }
         return true;
@@ -38,8 +38,8 @@ public class DLFunction extends Function {
         }
 
         var ci = engine.getCurrentInstruction();
-        engine.getExecOrUserARegister(ci.getA()).setW(operands[0]);
-        engine.getExecOrUserARegister(ci.getA() + 1).setW(operands[1]);
+        engine.setExecOrUserARegisterValue(ci.getA(), operands[0]);
+        engine.setExecOrUserARegisterValue(ci.getA() + 1, operands[1]);
         return true;
     }
 }
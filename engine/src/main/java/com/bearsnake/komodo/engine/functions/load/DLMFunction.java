@@ -45,8 +45,8 @@ public class DLMFunction extends Function {
             operands[1] = Word36.negate(operands[1]);
         }
 
-        engine.getExecOrUserARegister(ci.getA()).setW(operands[0]);
-        engine.getExecOrUserARegister(ci.getA() + 1).setW(operands[1]);
+        engine.setExecOrUserARegisterValue(ci.getA(), operands[0]);
+        engine.setExecOrUserARegisterValue(ci.getA() + 1, operands[1]);
         return true;
     }
 }
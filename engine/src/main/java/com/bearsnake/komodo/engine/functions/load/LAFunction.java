@@ -38,7 +38,7 @@ public class LAFunction extends Function {
         }
 
         var ci = engine.getCurrentInstruction();
-        engine.getExecOrUserARegister(ci.getA()).setW(operand);
+        engine.setExecOrUserARegisterValue(ci.getA(), operand);
         return true;
     }
 }
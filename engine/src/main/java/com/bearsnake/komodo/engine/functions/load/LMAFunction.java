@@ -42,7 +42,7 @@ public class LMAFunction extends Function {
         if (Word36.isNegative(operand)) {
             operand = Word36.negate(operand);
         }
-        engine.getExecOrUserARegister(ci.getA()).setW(operand);
+        engine.setExecOrUserARegisterValue(ci.getA(), operand);
         return true;
     }
 }
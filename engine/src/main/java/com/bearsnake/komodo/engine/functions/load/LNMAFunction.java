@@ -43,7 +43,7 @@ public class LNMAFunction extends Function {
         if (Word36.isPositive(operand)) {
             operand = Word36.negate(operand);
         }
-        engine.getExecOrUserARegister(ci.getA()).setW(operand);
+        engine.setExecOrUserARegisterValue(ci.getA(), operand);
         return true;
     }
 }
@@ -38,7 +38,7 @@ public class LRFunction extends Function {
         }
 
         var ci = engine.getCurrentInstruction();
-        engine.getExecOrUserRRegister(ci.getA()).setW(operand);
+        engine.setExecOrUserRRegisterValue(ci.getA(), operand);
         return true;
     }
 }
@@ -38,7 +38,7 @@ public class LXFunction extends Function {
         }
 
         var ci = engine.getCurrentInstruction();
-        engine.getExecOrUserXRegister(ci.getA()).setW(operand);
+        engine.setExecOrUserXRegisterValue(ci.getA(), operand);
         return true;
     }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.procedurecontrol;
+
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.ProgramAddressRegister;
+import com.bearsnake.komodo.engine.VirtualAddress;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Call instruction
+ * (CALL) Pushes a return control stack frame describing the instruction following this one,
+ * then transfers control to the virtual address at U.
+ */
+public class CALLFunction extends ProcedureControlFunction {
+
+    public static final CALLFunction INSTANCE = new CALLFunction();
+
+    private CALLFunction() {
+        super("CALL", new FunctionCode(0_07).setJField(0_16).setAField(0_13));
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(false, true, false, false, false);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        var target = new VirtualAddress(operand);
+        var bank = getTargetBank(engine, target.getLevel(), target.getBankDescriptorIndex());
+
+        var par = engine.getProgramAddressRegister();
+        var reentryPoint = ProgramAddressRegister.getCompositeValue(par.getLevel(),
+                                                                    par.getBankDescriptorIndex(),
+                                                                    par.getProgramCounter() + 1);
+        var state = (engine.getDesignatorRegister().getWord36() & DESIGNATOR_MASK)
+                    | engine.getActivityStatePacket().getIndicatorKeyRegister().getAccessKey().toComposite();
+        engine.pushReturnControlStackFrame(reentryPoint, state);
+
+        enterBank(engine, bank, target.getLevel(), target.getBankDescriptorIndex(), target.getOffset());
+        return true;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.procedurecontrol;
+
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.VirtualAddress;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Go To instruction
+ * (GOTO) Transfers control to the virtual address at U, without creating a return control stack frame.
+ */
+public class GOTOFunction extends ProcedureControlFunction {
+
+    public static final GOTOFunction INSTANCE = new GOTOFunction();
+
+    private GOTOFunction() {
+        super("GOTO", new FunctionCode(0_07).setJField(0_16).setAField(0_14));
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var operand = engine.getOperand(false, true, false, false, false);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        var target = new VirtualAddress(operand);
+        var bank = getTargetBank(engine, target.getLevel(), target.getBankDescriptorIndex());
+        enterBank(engine, bank, target.getLevel(), target.getBankDescriptorIndex(), target.getOffset());
+        return true;
+    }
+}
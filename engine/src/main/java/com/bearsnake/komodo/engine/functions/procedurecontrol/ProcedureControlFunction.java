@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.procedurecontrol;
+
+import com.bearsnake.komodo.engine.BankType;
+import com.bearsnake.komodo.engine.BaseRegister;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.Function;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.AddressingExceptionInterrupt;
+
+/**
+ * Base class for the extended mode procedure control instructions, which transfer control to a virtual address
+ * in another (or the same) bank by basing that bank on B0.
+ * Return control stack frames, which CALL pushes and RTN pops, are two words:
+ *      +0  the reentry point - bank level, BDI, and program counter of the instruction following the CALL
+ *      +1  designator register bits 12-17 in S3, and the access key in H2
+ * Transfers through gates are not yet supported - a gate bank is rejected as an invalid bank type.
+ */
+public abstract class ProcedureControlFunction extends Function {
+
+    // Level 0 BDIs below this value do not describe banks, and are not valid transfer targets.
+    public static final int FIRST_LEVEL_ZERO_BDI = 32;
+
+    // Designator register bits 12-17 which are saved in, and restored from, an RCS frame
+    public static final long DESIGNATOR_MASK = 0_000077_000000L;
+
+    protected ProcedureControlFunction(
+        final String mnemonic,
+        final FunctionCode functionCode
+    ) {
+        super(mnemonic);
+        setExtendedModeFunctionCode(functionCode);
+
+        setAFieldSemantics(AFieldSemantics.FUNCTION_CODE_EXTENSION);
+        setImmediateMode(false);
+        setIsGRS(false);
+    }
+
+    /**
+     * Finds the bank which is the target of a transfer, and checks that control may be transferred to it.
+     * @return a base register describing the bank, to be loaded into B0 by enterBank()
+     * @throws AddressingExceptionInterrupt if the bank cannot be found, is not an extended mode bank,
+     * or does not permit enter access with the current access key
+     */
+    protected static BaseRegister getTargetBank(
+        final Engine engine,
+        final int level,
+        final int bankDescriptorIndex
+    ) throws AddressingExceptionInterrupt {
+        if ((level == 0) && (bankDescriptorIndex < FIRST_LEVEL_ZERO_BDI)) {
+            throw new AddressingExceptionInterrupt(AddressingExceptionInterrupt.Reason.InvalidSourceLevelBDI,
+                                                   level,
+                                                   bankDescriptorIndex);
+        }
+
+        var bank = engine.getBank(level, bankDescriptorIndex);
+        if (bank.getBankType() != BankType.ExtendedMode) {
+            throw new AddressingExceptionInterrupt(AddressingExceptionInterrupt.Reason.BDTypeInvalid,
+                                                   level,
+                                                   bankDescriptorIndex);
+        }
+
+        var key = engine.getActivityStatePacket().getIndicatorKeyRegister().getAccessKey();
+        if (!bank.getBaseRegister().getEffectivePermissions(key).canEnter()) {
+            throw new AddressingExceptionInterrupt(AddressingExceptionInterrupt.Reason.EnterAccessDenied,
+                                                   level,
+                                                   bankDescriptorIndex);
+        }
+
+        return bank.getBaseRegister();
+    }
+
+    /**
+     * Bases the target bank on B0 and jumps to the given offset within it
+     */
+    protected void enterBank(
+        final Engine engine,
+        final BaseRegister bank,
+        final int level,
+        final int bankDescriptorIndex,
+        final int offset
+    ) {
+        engine.getBaseRegister(0).set(bank);
+        engine.getProgramAddressRegister()
+              .setBankLevel((short) level)
+              .setBankDescriptorIndex(bankDescriptorIndex);
+        doJump(engine, offset);
+    }
+
+    @Override
+    public boolean isJumpInstruction() {
+        return true;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.procedurecontrol;
+
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.VirtualAddress;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Return instruction
+ * (RTN) Pops the top frame from the return control stack, restores the designator bits and access key
+ * saved there, and transfers control to the reentry point it describes. U is not used.
+ */
+public class RTNFunction extends ProcedureControlFunction {
+
+    public static final RTNFunction INSTANCE = new RTNFunction();
+
+    private RTNFunction() {
+        super("RTN", new FunctionCode(0_73).setJField(0_17).setAField(0_03));
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var frame = engine.popReturnControlStackFrame();
+        var target = new VirtualAddress(frame[0]);
+        var bank = getTargetBank(engine, target.getLevel(), target.getBankDescriptorIndex());
+
+        var dr = engine.getDesignatorRegister();
+        dr.setWord36((dr.getWord36() & ~DESIGNATOR_MASK) | (frame[1] & DESIGNATOR_MASK));
+        engine.getActivityStatePacket().getIndicatorKeyRegister().setAccessKey((int) (frame[1] & 0_777777));
+
+        enterBank(engine, bank, target.getLevel(), target.getBankDescriptorIndex(), target.getOffset());
+        return true;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.queueing;
+
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.interrupts.AddressingExceptionInterrupt;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+
+ */
+public class DEPOSITQBFunction extends QueueingFunction {
+
+    public static final DEPOSITQBFunction INSTANCE = new DEPOSITQBFunction();
+
+    private DEPOSITQBFunction() {
+        super("DEPOSITQB", 0_06, 0);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var header = getQueueHeader(engine);
+        if (header == null) {
+            return false;
+        }
+
+        var bank = getQueueBank(engine);
+        if (!header.enqueue(engine, bank, false)) {
+            throw header.getInterrupt(AddressingExceptionInterrupt.Reason.QueueBankRepositoryFull);
+        }
+
+        engine.voidBaseRegisters(bank.getLevel(), bank.getBankDescriptorIndex());
+        return true;
+    }
+}
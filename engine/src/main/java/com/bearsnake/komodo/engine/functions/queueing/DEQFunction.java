@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.queueing;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Dequeue instruction
+ * (DEQ) Removes the queue bank at the head of the queue whose header is at U, and stores its level and BDI
+ * in H1 of A(a), with H2 cleared. If the queue is empty, A(a) is cleared.
+ */
+public class DEQFunction extends QueueingFunction {
+
+    public static final DEQFunction INSTANCE = new DEQFunction();
+
+    private DEQFunction() {
+        super("DEQ", 0_12, 3);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var header = getQueueHeader(engine);
+        if (header == null) {
+            return false;
+        }
+
+        var name = header.dequeue(engine);
+        engine.setExecOrUserARegisterValue(engine.getCurrentInstruction().getA(), Word36.setH1(0, name));
+        return true;
+    }
+}
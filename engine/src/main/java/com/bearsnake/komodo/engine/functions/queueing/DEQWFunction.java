@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.queueing;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Dequeue Or Wait instruction
+ * (DEQW) Removes the queue bank at the head of the queue whose header is at U, and stores its level and BDI
+ * in H1 of A(a), with H2 cleared.
+ * If the queue is empty, the engine thread is parked until some engine enqueues a queue bank on it
+ * (or until WAIT_LIMIT_NANOS elapses), and the instruction returns incomplete so that it is retried
+ * after any pending interrupts have been taken. A(a) is not changed while waiting.
+ */
+public class DEQWFunction extends QueueingFunction {
+
+    public static final DEQWFunction INSTANCE = new DEQWFunction();
+
+    private DEQWFunction() {
+        super("DEQW", 0_13, 3);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var header = getQueueHeader(engine);
+        if (header == null) {
+            return false;
+        }
+
+        var name = header.dequeue(engine);
+        if (name == 0) {
+            header.awaitEntry();
+            return false;
+        }
+
+        engine.setExecOrUserARegisterValue(engine.getCurrentInstruction().getA(), Word36.setH1(0, name));
+        return true;
+    }
+}
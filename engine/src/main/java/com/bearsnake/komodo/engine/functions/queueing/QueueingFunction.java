@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.queueing;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.BankDescriptor;
+import com.bearsnake.komodo.engine.BankType;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.Function;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.AddressingExceptionInterrupt;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Base class for the queueing instructions, all of which are extended mode f=037 with the j-field
+ * as a function code extension. Each instruction moves a queue bank between A(a) and the queue whose header is at U.
+ * A queue bank is named by its bank level and BDI in H1 of A(a), and must be described by a queue bank descriptor.
+ * The queue is a FIFO list of queue bank descriptors, linked through their next queue bank fields
+ * (see BankDescriptor) - the header is laid out as follows:
+ *      U+0         bit 0 is the update-in-progress bit, H2 is the number of queue banks on the queue
+ *      U+1         H2 is the maximum number of queue banks the queue may hold
+ *      U+2         H1 is the level and BDI of the queue bank at the head of the queue, H2 that of the tail
+ * The queue bank repository used by DEPOSITQB and WITHDRAWQB has the same layout.
+ * Neither the header nor the queue bank descriptors may be in the GRS.
+ *
+ * The header is shared by all engines with access to the bank, and is updated without the storage lock table.
+ * An instruction takes the queue by setting the update-in-progress bit with a single compare-and-set on U+0,
+ * relinks the queue bank descriptors, then stores U+0 with the new count (and the bit clear) with volatile semantics,
+ * which publishes the descriptor updates to the next engine to take the queue. The queue is held only while the
+ * links are updated - everything which can interrupt is checked before it is taken, or while it is held,
+ * before anything is changed.
+ * DEQW, finding the queue empty, parks the engine thread until a queue bank is enqueued (or WAIT_LIMIT_NANOS elapses),
+ * then returns incomplete so that pending interrupts are taken before it tries again.
+ */
+public abstract class QueueingFunction extends Function {
+
+    public static final long WAIT_LIMIT_NANOS = 10_000_000;
+
+    private static final long UPDATE_IN_PROGRESS = Word36.MASK_B0;
+
+    // Threads parked in DEQW, by the queue header they are waiting on. It is static for the same reason as
+    // the engine's locked address inventory - the engines sharing a queue have nothing else in common.
+    private static final ConcurrentHashMap<HeaderKey, Set<Thread>> WAITERS = new ConcurrentHashMap<>();
+
+    private record HeaderKey(long[] array, int index) {}
+
+    protected QueueingFunction(
+        final String mnemonic,
+        final int jField,
+        final int processorPrivilege
+    ) {
+        super(mnemonic);
+        setExtendedModeFunctionCode(new FunctionCode(0_37).setJField(jField).setProcessorPrivilege(processorPrivilege));
+
+        setAFieldSemantics(AFieldSemantics.A_REGISTER);
+        setImmediateMode(false);
+        setIsGRS(false);
+    }
+
+    /**
+     * Develops U and maps the queue header there
+     * @return the header, or null if address resolution is not yet complete
+     */
+    protected static QueueHeader getQueueHeader(
+        final Engine engine
+    ) throws MachineInterrupt {
+        engine.resolveRelativeAddress(false, false, false);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return null;
+        }
+        return new QueueHeader(engine);
+    }
+
+    /**
+     * Locates the queue bank descriptor for the queue bank named in H1 of A(a)
+     * @throws AddressingExceptionInterrupt if the name does not describe a bank, or the bank is not a queue bank
+     */
+    protected static QueueBank getQueueBank(
+        final Engine engine
+    ) throws AddressingExceptionInterrupt {
+        var name = Word36.getH1(engine.getExecOrUserARegisterValue(engine.getCurrentInstruction().getA()));
+        return getQueueBank(engine, name);
+    }
+
+    private static QueueBank getQueueBank(
+        final Engine engine,
+        final int levelAndBDI
+    ) throws AddressingExceptionInterrupt {
+        var level = levelAndBDI >> 15;
+        var bankDescriptorIndex = levelAndBDI & 077777;
+        if ((level == 0) && (bankDescriptorIndex < 32)) {
+            throw new AddressingExceptionInterrupt(AddressingExceptionInterrupt.Reason.InvalidSourceLevelBDI,
+                                                   level,
+                                                   bankDescriptorIndex);
+        }
+
+        var bank = engine.getBank(level, bankDescriptorIndex);
+        if (bank.isIndirect() || (bank.getBankType() != BankType.Queue)) {
+            throw new AddressingExceptionInterrupt(AddressingExceptionInterrupt.Reason.BDTypeInvalid,
+                                                   level,
+                                                   bankDescriptorIndex);
+        }
+        return new QueueBank(levelAndBDI, bank.getTable(), bank.getOffset());
+    }
+
+    /**
+     * A queue bank, and the storage of the descriptor through which it is linked.
+     * The descriptor is updated directly - the engine's bank descriptor cache holds nothing built from the linkage
+     * fields, so there is nothing in it to discard.
+     */
+    protected record QueueBank(int levelAndBDI, ArraySlice table, int offset) {
+
+        public int getLevel() { return levelAndBDI >> 15; }
+        public int getBankDescriptorIndex() { return levelAndBDI & 077777; }
+        public boolean isEnqueued() { return BankDescriptor.isEnqueued(table, offset); }
+
+        private long getNext() { return BankDescriptor.getNextQueueBank(table, offset); }
+
+        private void link(final long next) {
+            BankDescriptor.setNextQueueBank(table, offset, next);
+            BankDescriptor.setEnqueued(table, offset, true);
+        }
+
+        private void unlink() {
+            BankDescriptor.setNextQueueBank(table, offset, 0);
+            BankDescriptor.setEnqueued(table, offset, false);
+        }
+    }
+
+    /**
+     * Describes the queue header at U for one execution of a queueing instruction.
+     * The storage covering the header is limits- and access-checked once, when the header is mapped.
+     */
+    protected static class QueueHeader {
+
+        private final int _bankLevel;
+        private final int _bankDescriptorIndex;
+        private final int _maximumCount;
+        private final ArraySlice _header;
+
+        /**
+         * Maps the header at the relative address developed by the engine for U
+         * @throws AddressingExceptionInterrupt if the header describes a queue which may hold no queue banks
+         */
+        public QueueHeader(
+            final Engine engine
+        ) throws MachineInterrupt {
+            var relAddr = engine.getCachedRelativeAddress();
+            var brx = engine.findBaseRegisterIndex(relAddr);
+            if ((brx >= 1) && (brx <= 15)) {
+                var abte = engine.getActiveBaseTableEntry(brx);
+                _bankLevel = abte.getBankLevel();
+                _bankDescriptorIndex = abte.getBankDescriptorIndex();
+            } else {
+                _bankLevel = 0;
+                _bankDescriptorIndex = 0;
+            }
+
+            _header = engine.getStorageRange(brx, relAddr, 3, true, true);
+            _maximumCount = Word36.getH2(_header.get(1));
+            if (_maximumCount == 0) {
+                throw getInterrupt(AddressingExceptionInterrupt.Reason.GeneralQueuingViolation);
+            }
+        }
+
+        /**
+         * Produces an addressing exception for this queue, identifying the bank which contains the header
+         */
+        public AddressingExceptionInterrupt getInterrupt(
+            final AddressingExceptionInterrupt.Reason reason
+        ) {
+            return new AddressingExceptionInterrupt(reason, _bankLevel, _bankDescriptorIndex);
+        }
+
+        /**
+         * Removes the queue bank at the head of the queue
+         * @return the level and BDI of the queue bank, or zero if the queue is empty
+         * @throws AddressingExceptionInterrupt if the header or the linkage is inconsistent
+         */
+        public int dequeue(
+            final Engine engine
+        ) throws AddressingExceptionInterrupt {
+            var control = take();
+            var count = Word36.getH2(control);
+            try {
+                var links = _header.get(2);
+                checkLinks(count, links);
+                if (count == 0) {
+                    return 0;
+                }
+
+                var head = getQueueBank(engine, Word36.getH1(links));
+                if (!head.isEnqueued()) {
+                    throw getInterrupt(AddressingExceptionInterrupt.Reason.GeneralQueuingViolation);
+                }
+
+                var next = head.getNext();
+                _header.set(2, (count == 1) ? 0 : Word36.setH1(links, next));
+                head.unlink();
+                count--;
+                return head.levelAndBDI();
+            } finally {
+                release(control, count);
+            }
+        }
+
+        /**
+         * Adds a queue bank at the tail of the queue or, if front is set, at the head of the queue.
+         * Engines parked in DEQW on this queue are released.
+         * @return false if the queue already holds its maximum number of queue banks
+         * @throws AddressingExceptionInterrupt if the queue bank is already on a queue,
+         * or if the header or the linkage is inconsistent
+         */
+        public boolean enqueue(
+            final Engine engine,
+            final QueueBank bank,
+            final boolean front
+        ) throws AddressingExceptionInterrupt {
+            var control = take();
+            var count = Word36.getH2(control);
+            try {
+                var links = _header.get(2);
+                checkLinks(count, links);
+                if (bank.isEnqueued()) {
+                    throw new AddressingExceptionInterrupt(AddressingExceptionInterrupt.Reason.GeneralQueuingViolation,
+                                                           bank.getLevel(),
+                                                           bank.getBankDescriptorIndex());
+                }
+                if (count >= _maximumCount) {
+                    return false;
+                }
+
+                var name = bank.levelAndBDI();
+                if (count == 0) {
+                    bank.link(0);
+                    _header.set(2, Word36.setH1(name, name));
+                } else if (front) {
+                    bank.link(Word36.getH1(links));
+                    _header.set(2, Word36.setH1(links, name));
+                } else {
+                    getQueueBank(engine, Word36.getH2(links)).link(name);
+                    bank.link(0);
+                    _header.set(2, Word36.setH2(links, name));
+                }
+                count++;
+            } finally {
+                release(control, count);
+            }
+
+            var waiters = WAITERS.get(getKey());
+            if (waiters != null) {
+                waiters.forEach(LockSupport::unpark);
+            }
+            return true;
+        }
+
+        /**
+         * Parks the calling thread until a queue bank is enqueued on this queue, or until WAIT_LIMIT_NANOS elapses.
+         * Returns immediately if the queue is not (or is no longer) empty.
+         */
+        public void awaitEntry() {
+            var key = getKey();
+            var thread = Thread.currentThread();
+            WAITERS.compute(key, (k, set) -> {
+                var result = (set == null) ? ConcurrentHashMap.<Thread>newKeySet() : set;
+                result.add(thread);
+                return result;
+            });
+
+            try {
+                // the registration is visible to any enqueue which has not yet released the queue
+                if (Word36.getH2(_header.getVolatile(0)) == 0) {
+                    LockSupport.parkNanos(this, WAIT_LIMIT_NANOS);
+                }
+            } finally {
+                WAITERS.computeIfPresent(key, (k, set) -> {
+                    set.remove(thread);
+                    return set.isEmpty() ? null : set;
+                });
+            }
+        }
+
+        /**
+         * Sets the update-in-progress bit, waiting for any other engine which holds the queue to release it
+         * @return the control word, as it was before the bit was set
+         */
+        private long take() {
+            while (true) {
+                var control = _header.getVolatile(0);
+                if (((control & UPDATE_IN_PROGRESS) == 0)
+                    && _header.compareAndSet(0, control, control | UPDATE_IN_PROGRESS)) {
+                    return control;
+                }
+                Thread.onSpinWait();
+            }
+        }
+
+        /**
+         * Stores the new count and clears the update-in-progress bit, publishing the updated linkage
+         */
+        private void release(
+            final long control,
+            final int count
+        ) {
+            _header.setVolatile(0, Word36.setH2(control, count));
+        }
+
+        private void checkLinks(
+            final int count,
+            final long links
+        ) throws AddressingExceptionInterrupt {
+            if ((count > _maximumCount) || ((count == 0) != (links == 0))) {
+                throw getInterrupt(AddressingExceptionInterrupt.Reason.GeneralQueuingViolation);
+            }
+        }
+
+        private HeaderKey getKey() {
+            return new HeaderKey(_header._array, _header._offset);
+        }
+    }
+}
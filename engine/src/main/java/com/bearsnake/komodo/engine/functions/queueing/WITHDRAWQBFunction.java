@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.queueing;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.interrupts.AddressingExceptionInterrupt;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Withdraw Queue Bank instruction
+ * (WITHDRAWQB) Takes an inactive queue bank from the queue bank repository whose header is at U,
+ * and stores its level and BDI in H1 of A(a), with H2 cleared.
+ * An addressing exception is taken if the repository is empty.
+ */
+public class WITHDRAWQBFunction extends QueueingFunction {
+
+    public static final WITHDRAWQBFunction INSTANCE = new WITHDRAWQBFunction();
+
+    private WITHDRAWQBFunction() {
+        super("WITHDRAWQB", 0_07, 0);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var header = getQueueHeader(engine);
+        if (header == null) {
+            return false;
+        }
+
+        var name = header.dequeue(engine);
+        if (name == 0) {
+            throw header.getInterrupt(AddressingExceptionInterrupt.Reason.InactiveQueueBDListEmpty);
+        }
+
+        engine.setExecOrUserARegisterValue(engine.getCurrentInstruction().getA(), Word36.setH1(0, name));
+        return true;
+    }
+}
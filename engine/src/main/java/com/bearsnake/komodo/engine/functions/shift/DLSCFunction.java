@@ -51,21 +51,21 @@ public class DLSCFunction extends Function {
             aReg1.setW(operands[1]);
             aReg2.setW(71);
         } else {
-            var result = new Long[2];
-            var count = 0;
-            for (;;) {
-                var bits = (operands[0] >> 34) & 03;
-                if ((bits == 1) || (bits == 2)) {
-                    aReg0.setW(operands[0]);
-                    aReg1.setW(operands[1]);
-                    aReg2.setW(count);
-                    break;
-                }
-                DoubleWord36.leftShiftCircular(operands[0], operands[1], 1, result);
-                operands[0] = result[0];
-                operands[1] = result[1];
-                count++;
-            }
+            //  The shift count is one less than the number of leading bits which match the sign bit -
+            //  count those leading bits in the magnitude (which has the same leading bits, but as zeros).
+            var negative = DoubleWord36.isNegative(operands[0], operands[1]);
+            long high = negative ? Word36.negate(operands[0]) : operands[0];
+            long low = negative ? Word36.negate(operands[1]) : operands[1];
+            var leading = (high != 0)
+                ? Long.numberOfLeadingZeros(high) - 28
+                : 36 + Long.numberOfLeadingZeros(low) - 28;
+            var count = leading - 1;
+
+            var result = new long[2];
+            DoubleWord36.leftShiftCircular(operands[0], operands[1], count, result);
+            aReg0.setW(result[0]);
+            aReg1.setW(result[1]);
+            aReg2.setW(count);
         }
 
         return true;
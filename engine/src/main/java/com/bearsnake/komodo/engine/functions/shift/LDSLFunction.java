@@ -38,7 +38,7 @@ public class LDSLFunction extends Function {
         var aReg0 = engine.getExecOrUserARegister(ci.getA());
         var aReg1 = engine.getExecOrUserARegister(ci.getA() + 1);
 
-        var result = new Long[2];
+        var result = new long[2];
         DoubleWord36.leftShiftLogical(aReg0.getW(), aReg1.getW(), (int)operand, result);
         aReg0.setW(result[0]);
         aReg1.setW(result[1]);
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.stack;
+
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Buy Stack Frame instruction
+ * (BUY) Allocates a frame on the generic stack in the bank based on B(b) by decrementing X(a).XM by the frame size.
+ * Raises an RCS/generic stack overflow interrupt if the frame does not fit.
+ */
+public class BUYFunction extends StackFunction {
+
+    public static final BUYFunction INSTANCE = new BUYFunction();
+
+    private BUYFunction() {
+        super("BUY", 0_16);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        return adjustStackPointer(engine, true);
+    }
+}
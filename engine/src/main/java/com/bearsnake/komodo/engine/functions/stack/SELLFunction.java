@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.stack;
+
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Sell Stack Frame instruction
+ * (SELL) Releases a frame from the generic stack in the bank based on B(b) by incrementing X(a).XM by the frame size.
+ * Raises an RCS/generic stack underflow interrupt if more is released than the stack holds.
+ */
+public class SELLFunction extends StackFunction {
+
+    public static final SELLFunction INSTANCE = new SELLFunction();
+
+    private SELLFunction() {
+        super("SELL", 0_17);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        return adjustStackPointer(engine, false);
+    }
+}
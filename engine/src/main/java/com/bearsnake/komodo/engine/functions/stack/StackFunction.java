@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.stack;
+
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.Register;
+import com.bearsnake.komodo.engine.functions.Function;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import com.bearsnake.komodo.engine.interrupts.RCSGenericStackUnderflowOverflowInterrupt;
+
+/**
+ * Base class for the generic stack instructions. A generic stack is a region of the bank based on B(b),
+ * growing downward, with X(a).XM holding the relative address of the top frame.
+ * The frame size is the relative address developed from d and X(x) - no storage is referenced.
+ * The stack pointer may range from the lower limit of the bank (full) to the upper limit plus one (empty).
+ */
+public abstract class StackFunction extends Function {
+
+    protected StackFunction(
+        final String mnemonic,
+        final int jField
+    ) {
+        super(mnemonic);
+        setExtendedModeFunctionCode(new FunctionCode(0_75).setJField(jField));
+
+        setAFieldSemantics(AFieldSemantics.X_REGISTER);
+        setImmediateMode(false);
+        setIsGRS(false);
+    }
+
+    /**
+     * Moves the stack pointer in X(a) by the frame size
+     * @param engine the engine
+     * @param buy true to allocate a frame (moving the pointer down), false to release one
+     * @return false if address resolution is not complete
+     * @throws RCSGenericStackUnderflowOverflowInterrupt if the new pointer would be outside the stack bank
+     */
+    protected static boolean adjustStackPointer(
+        final Engine engine,
+        final boolean buy
+    ) throws MachineInterrupt {
+        engine.resolveRelativeAddress(false, false, true);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        var brx = engine.getCachedBaseRegisterIndex();
+        var frameSize = engine.getCachedRelativeAddress();
+        var xRegIndex = engine.getCurrentInstruction().getA();
+        var xValue = engine.getExecOrUserXRegisterValue(xRegIndex);
+        var pointer = Register.getXM(xValue) + (buy ? -frameSize : frameSize);
+
+        var bReg = engine.getBaseRegister(brx);
+        if (bReg.isVoid()
+            || (pointer < bReg.getLowerLimitNormalized())
+            || (pointer > bReg.getUpperLimitNormalized() + 1L)) {
+            var reason = buy ? RCSGenericStackUnderflowOverflowInterrupt.Reason.Overflow
+                             : RCSGenericStackUnderflowOverflowInterrupt.Reason.Underflow;
+            throw new RCSGenericStackUnderflowOverflowInterrupt(reason, brx, (int) pointer);
+        }
+
+        engine.setExecOrUserXRegisterValue(xRegIndex, Register.setXM(xValue, pointer));
+        return true;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.storage;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.Register;
+import com.bearsnake.komodo.engine.functions.Function;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Block Transfer instruction
+ * (BT) Moves R1 words, one at a time in ascending order, from storage starting at U to storage starting at Xa(mod).
+ * U is developed from the u (basic mode) or d (extended mode) field plus Xx(mod), but Xx is not incremented
+ * as part of that development. Instead, after each word:
+ *      Xa(mod) is incremented by Xa(inc)
+ *      Xx(mod) is incremented by Xx(inc), if F0.x is non-zero and F0.h is set
+ *      R1 is decremented
+ * so that the registers always describe the remainder of the transfer.
+ * In basic mode, the source and destination banks are selected separately according to their addresses.
+ * In extended mode, both are referenced through the base register selected by F0.b.
+ * Operands are always in storage - addresses less than 0200 are not GRS locations for this instruction.
+ * Because the words are moved one at a time, a destination which begins within the source range replicates
+ * the leading source words across the destination (e.g., BT with Xa(mod) = U+1 fills the block with the word at U).
+ * Long transfers are interruptible; the instruction moves at most TRANSFER_LIMIT words per execution,
+ * updates the registers, and returns incomplete so that pending interrupts are taken before it continues.
+ * The limits and access checks are made once per bank for each such group of words.
+ */
+public class BTFunction extends Function {
+
+    public static final BTFunction INSTANCE = new BTFunction();
+
+    public static final int TRANSFER_LIMIT = 4096;
+
+    private BTFunction() {
+        super("BT");
+        var fc = new FunctionCode(0_22);
+        setBasicModeFunctionCode(fc);
+        setExtendedModeFunctionCode(fc);
+
+        setAFieldSemantics(AFieldSemantics.X_REGISTER);
+        setImmediateMode(false);
+        setIsGRS(false);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var ci = engine.getCurrentInstruction();
+        var dr = engine.getDesignatorRegister();
+        var grs = engine.getGeneralRegisterSet();
+        var basicMode = dr.isBasicModeEnabled();
+
+        // R1 is the word counter - 18 bits in basic mode, 24 bits in extended mode (as for EXR).
+        var r1x = engine.getExecOrUserRRegisterIndex(1);
+        var remaining = grs.getW(r1x) & (basicMode ? 0_777777 : 0_7777_7777);
+        if (remaining == 0) {
+            return true;
+        }
+        var count = (int) Math.min(remaining, TRANSFER_LIMIT);
+
+        var index24 = !basicMode && dr.isExecutive24BitIndexingEnabled() && (dr.getProcessorPrivilege() < 2);
+        var xax = engine.getExecOrUserXRegisterIndex(ci.getA());
+        var destination = (int) getModifier(grs.getW(xax), index24);
+        var destinationIncrement = (int) getIncrement(grs.getW(xax), index24);
+
+        var source = basicMode ? ci.getU() : ci.getD();
+        var sourceIncrement = 0;
+        var xxx = 0;
+        if (ci.getX() != 0) {
+            xxx = engine.getExecOrUserXRegisterIndex(ci.getX());
+            source += (int) getModifier(grs.getW(xxx), index24);
+            if (ci.getH() != 0) {
+                sourceIncrement = (int) getIncrement(grs.getW(xxx), index24);
+            }
+        }
+
+        // Develop the range of words each side touches, and check and map each range once.
+        var sourceBrx = engine.findBaseRegisterIndex(source);
+        var sourceLow = Math.min(source, source + (count - 1) * sourceIncrement);
+        var sourceSpan = Math.abs(sourceIncrement) * (count - 1) + 1;
+        var sourceSlice = engine.getStorageRange(sourceBrx, sourceLow, sourceSpan, true, false);
+
+        var destinationBrx = engine.findBaseRegisterIndex(destination);
+        var destinationLow = Math.min(destination, destination + (count - 1) * destinationIncrement);
+        var destinationSpan = Math.abs(destinationIncrement) * (count - 1) + 1;
+        var destinationSlice = engine.getStorageRange(destinationBrx, destinationLow, destinationSpan, false, true);
+
+        if ((sourceIncrement == 1) && (destinationIncrement == 1)) {
+            ArraySlice.transfer(sourceSlice, 0, destinationSlice, 0, count);
+        } else {
+            var sx = source - sourceLow;
+            var dx = destination - destinationLow;
+            for (int wx = 0; wx < count; wx++) {
+                destinationSlice.set(dx, sourceSlice.get(sx));
+                sx += sourceIncrement;
+                dx += destinationIncrement;
+            }
+        }
+
+        // Account for the words moved
+        grs.setW(xax, setModifier(grs.getW(xax), destination + count * destinationIncrement, index24));
+        if (sourceIncrement != 0) {
+            var sourceModifier = getModifier(grs.getW(xxx), index24) + (long) count * sourceIncrement;
+            grs.setW(xxx, setModifier(grs.getW(xxx), sourceModifier, index24));
+        }
+        grs.setW(r1x, remaining - count);
+        return remaining == count;
+    }
+
+    /**
+     * Retrieves the signed increment from an index register value, as a native integer
+     */
+    private static long getIncrement(
+        final long value,
+        final boolean index24
+    ) {
+        return Word36.getTwosComplement(index24 ? Register.getSignedXI12(value) : Register.getSignedXI(value));
+    }
+
+    /**
+     * Retrieves the signed modifier from an index register value, as a native integer
+     */
+    private static long getModifier(
+        final long value,
+        final boolean index24
+    ) {
+        return Word36.getTwosComplement(index24 ? Register.getSignedXM24(value) : Register.getSignedXM(value));
+    }
+
+    /**
+     * Replaces the modifier in an index register value with the given native integer
+     */
+    private static long setModifier(
+        final long value,
+        final long modifier,
+        final boolean index24
+    ) {
+        var onesComplement = Word36.getOnesComplement(modifier);
+        return index24 ? Register.setXM24(value, onesComplement) : Register.setXM(value, onesComplement);
+    }
+}
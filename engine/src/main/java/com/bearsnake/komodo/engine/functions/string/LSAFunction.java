@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.string;
+
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Load String Address instruction
+ * (LSA) Loads A(a) with a string pointer to the character which is A(a+1) characters beyond the first character of U.
+ * Storage is not referenced; A(a+1) is unchanged.
+ */
+public class LSAFunction extends StringFunction {
+
+    public static final LSAFunction INSTANCE = new LSAFunction();
+
+    private LSAFunction() {
+        super("LSA", 0_01);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        engine.resolveRelativeAddress(false, false, true);
+        if (engine.getInstructionPoint() == Engine.InstructionPoint.RESOLVING_ADDRESS) {
+            return false;
+        }
+
+        var ci = engine.getCurrentInstruction();
+        var charactersPerWord = getCharactersPerWord(engine);
+        var offset = engine.getExecOrUserARegisterValue(ci.getA() + 1) & 0_777777;
+        var wordAddress = (engine.getCachedRelativeAddress() + offset / charactersPerWord) & 0_777777;
+        engine.setExecOrUserARegisterValue(ci.getA(), ((offset % charactersPerWord) << 18) | wordAddress);
+        return true;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.string;
+
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Load String instruction
+ * (LS) Loads the A(a+1) characters of the string described by A(a) from the word-aligned characters beginning at U.
+ * Characters of the string's first and last words which lie outside the string are not disturbed.
+ * A(a) is then advanced past the characters which were loaded, so that successive LS instructions
+ * build up a string; A(a+1) is unchanged.
+ */
+public class LSFunction extends StringFunction {
+
+    public static final LSFunction INSTANCE = new LSFunction();
+
+    private LSFunction() {
+        super("LS", 0_00);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var string = new CharacterString(engine);
+        if (string._count == 0) {
+            return true;
+        }
+
+        var operands = engine.getConsecutiveOperands(false, string.getAlignedWordCount());
+        if (operands == null) {
+            return false;
+        }
+
+        string.map(engine, false, true);
+        for (int wx = 0; wx < operands.length; wx++) {
+            string.putAlignedWord(wx, operands[wx]);
+        }
+
+        var aIndex = engine.getCurrentInstruction().getA();
+        engine.setExecOrUserARegisterValue(aIndex, string.getAdvancedPointer(string._count));
+        return true;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.string;
+
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Store String instruction
+ * (SS) Stores the A(a+1) characters of the string described by A(a) left-justified into consecutive words
+ * beginning at U. Unused characters of the last word stored are zero.
+ * A(a) is then advanced past the characters which were stored, so that successive SS instructions
+ * step through a string; A(a+1) is unchanged.
+ */
+public class SSFunction extends StringFunction {
+
+    public static final SSFunction INSTANCE = new SSFunction();
+
+    private SSFunction() {
+        super("SS", 0_02);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var string = new CharacterString(engine);
+        if (string._count == 0) {
+            return true;
+        }
+
+        string.map(engine, true, false);
+        var operands = new long[string.getAlignedWordCount()];
+        for (int wx = 0; wx < operands.length; wx++) {
+            operands[wx] = string.getAlignedWord(wx);
+        }
+
+        if (!engine.storeConsecutiveOperands(false, operands)) {
+            return false;
+        }
+
+        var aIndex = engine.getCurrentInstruction().getA();
+        engine.setExecOrUserARegisterValue(aIndex, string.getAdvancedPointer(string._count));
+        return true;
+    }
+}
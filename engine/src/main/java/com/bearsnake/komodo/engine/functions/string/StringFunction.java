@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.string;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.Function;
+import com.bearsnake.komodo.engine.functions.FunctionCode;
+import com.bearsnake.komodo.engine.interrupts.ReferenceViolationInterrupt;
+
+/**
+ * Base class for the character string instructions, all of which are extended mode f=033 with the j-field
+ * as a function code extension. Characters are quarter words if DR.QuarterWordModeEnabled is set,
+ * and sixth words otherwise.
+ * Each instruction works between a character string which may begin at any character of a word, described by
+ *      A(a)        string pointer; H1 is the character index within the word, H2 is the relative word address
+ *      A(a+1)      H2 is the character count
+ * and (except for LSA) a word-aligned string which begins with the first character of U, packed left-justified.
+ * The string pointer is relative to the same base register as U. Neither string may be in the GRS.
+ * Characters are moved and compared a word at a time - each aligned word is assembled from (or spread across)
+ * at most two words of the unaligned string with a pair of shifts, and the final partial word is limited
+ * with a mask built from the Word36 partial-word masks.
+ */
+public abstract class StringFunction extends Function {
+
+    // Masks for the leading n characters of a word, indexed by n
+    private static final long[] QUARTER_WORD_LEADING_MASKS = {
+        0,
+        Word36.MASK_Q1,
+        Word36.MASK_Q1 | Word36.MASK_Q2,
+        Word36.MASK_Q1 | Word36.MASK_Q2 | Word36.MASK_Q3,
+        Word36.BIT_MASK,
+    };
+
+    private static final long[] SIXTH_WORD_LEADING_MASKS = {
+        0,
+        Word36.MASK_S1,
+        Word36.MASK_S1 | Word36.MASK_S2,
+        Word36.MASK_S1 | Word36.MASK_S2 | Word36.MASK_S3,
+        Word36.MASK_S1 | Word36.MASK_S2 | Word36.MASK_S3 | Word36.MASK_S4,
+        Word36.MASK_S1 | Word36.MASK_S2 | Word36.MASK_S3 | Word36.MASK_S4 | Word36.MASK_S5,
+        Word36.BIT_MASK,
+    };
+
+    protected StringFunction(
+        final String mnemonic,
+        final int jField
+    ) {
+        super(mnemonic);
+        setExtendedModeFunctionCode(new FunctionCode(0_33).setJField(jField));
+
+        setAFieldSemantics(AFieldSemantics.A_REGISTER);
+        setImmediateMode(false);
+        setIsGRS(false);
+    }
+
+    /**
+     * Number of characters per word according to DR.QuarterWordModeEnabled
+     */
+    protected static int getCharactersPerWord(
+        final Engine engine
+    ) {
+        return engine.getDesignatorRegister().isQuarterWordModeEnabled() ? 4 : 6;
+    }
+
+    /**
+     * Describes the unaligned string for one execution of a string instruction, and provides word-at-a-time
+     * access to it. The storage covering the string is limits- and access-checked once, when the string is mapped.
+     */
+    protected static class CharacterString {
+
+        public final int _bitsPerCharacter;
+        public final int _charactersPerWord;
+        public final int _wordAddress;
+        public final int _characterIndex;
+        public final int _count;
+        private final long[] _leadingMasks;
+        private final int _shift;
+        private ArraySlice _storage;
+
+        /**
+         * Decodes the string pointer in A(a) and the character count in A(a+1).
+         * A character index beyond the end of its word is carried into the word address.
+         */
+        public CharacterString(
+            final Engine engine
+        ) {
+            _charactersPerWord = getCharactersPerWord(engine);
+            _bitsPerCharacter = 36 / _charactersPerWord;
+            _leadingMasks = (_charactersPerWord == 4) ? QUARTER_WORD_LEADING_MASKS : SIXTH_WORD_LEADING_MASKS;
+
+            var aIndex = engine.getCurrentInstruction().getA();
+            var pointer = engine.getExecOrUserARegisterValue(aIndex);
+            var index = Word36.getH1(pointer);
+            _wordAddress = Word36.getH2(pointer) + index / _charactersPerWord;
+            _characterIndex = index % _charactersPerWord;
+            _count = Word36.getH2(engine.getExecOrUserARegisterValue(aIndex + 1));
+            _shift = _characterIndex * _bitsPerCharacter;
+        }
+
+        /**
+         * Number of words needed to hold the string left-justified
+         */
+        public int getAlignedWordCount() {
+            return (_count + _charactersPerWord - 1) / _charactersPerWord;
+        }
+
+        /**
+         * Mask for the characters of the string in aligned word wx
+         */
+        public long getAlignedMask(
+            final int wx
+        ) {
+            return _leadingMasks[Math.min(_charactersPerWord, _count - wx * _charactersPerWord)];
+        }
+
+        /**
+         * Maps the storage covering the string, checking limits and access for the range once.
+         * Must be called (with a non-zero count) before any of the get/put/compare methods.
+         */
+        public void map(
+            final Engine engine,
+            final boolean readFlag,
+            final boolean writeFlag
+        ) throws ReferenceViolationInterrupt {
+            var span = (_characterIndex + _count + _charactersPerWord - 1) / _charactersPerWord;
+            var brx = engine.findBaseRegisterIndex(_wordAddress);
+            _storage = engine.getStorageRange(brx, _wordAddress, span, readFlag, writeFlag);
+        }
+
+        /**
+         * Assembles aligned word wx of the string from the one or two storage words it straddles,
+         * with unused trailing characters of the final word zeroed.
+         */
+        public long getAlignedWord(
+            final int wx
+        ) {
+            var value = _storage.get(wx);
+            if (_shift != 0) {
+                value = (value << _shift) & Word36.BIT_MASK;
+                if (wx + 1 < _storage._length) {
+                    value |= _storage.get(wx + 1) >>> (36 - _shift);
+                }
+            }
+            return value & getAlignedMask(wx);
+        }
+
+        /**
+         * Spreads aligned word wx across the one or two storage words it straddles,
+         * leaving all characters outside the string untouched.
+         */
+        public void putAlignedWord(
+            final int wx,
+            final long value
+        ) {
+            var mask = getAlignedMask(wx);
+            var bits = value & mask;
+            var storage = _storage.get(wx);
+            _storage.set(wx, (storage & ~(mask >>> _shift)) | (bits >>> _shift));
+
+            var lowMask = (mask << (36 - _shift)) & Word36.BIT_MASK;
+            if ((_shift != 0) && (lowMask != 0)) {
+                storage = _storage.get(wx + 1);
+                _storage.set(wx + 1, (storage & ~lowMask) | ((bits << (36 - _shift)) & Word36.BIT_MASK));
+            }
+        }
+
+        /**
+         * Compares the string with the given aligned words, considering only the characters of the string
+         */
+        public boolean isEqualTo(
+            final long[] aligned
+        ) {
+            for (int wx = 0; wx < aligned.length; wx++) {
+                if (getAlignedWord(wx) != (aligned[wx] & getAlignedMask(wx))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Produces a string pointer to the character which is the given number of characters beyond
+         * the start of this string.
+         */
+        public long getAdvancedPointer(
+            final int characters
+        ) {
+            var index = _characterIndex + characters;
+            var wordAddress = (_wordAddress + index / _charactersPerWord) & 0_777777;
+            return ((long) (index % _charactersPerWord) << 18) | wordAddress;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.string;
+
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+
+/**
+ * Test Equal String instruction
+ * (TES) Compares the A(a+1) characters of the string described by A(a) with the word-aligned characters
+ * beginning at U. If the strings are equal to each other, skip the next instruction by incrementing the program counter.
+ * Two empty strings are equal. No registers are changed.
+ */
+public class TESFunction extends StringFunction {
+
+    public static final TESFunction INSTANCE = new TESFunction();
+
+    private TESFunction() {
+        super("TES", 0_03);
+    }
+
+    @Override
+    public boolean execute(
+        final Engine engine
+    ) throws MachineInterrupt {
+        var string = new CharacterString(engine);
+        boolean skip;
+        if (string._count == 0) {
+            skip = true;
+        } else {
+            var operands = engine.getConsecutiveOperands(false, string.getAlignedWordCount());
+            if (operands == null) {
+                return false;
+            }
+
+            string.map(engine, true, false);
+            skip = string.isEqualTo(operands);
+        }
+
+        if (skip) {
+            engine.getProgramAddressRegister().incrementProgramCounter();
+        }
+
+        return true;
+    }
+}
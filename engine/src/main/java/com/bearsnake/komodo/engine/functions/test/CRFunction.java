@@ -40,8 +40,8 @@ public class CRFunction extends Function {
         }
 
         var ci = engine.getCurrentInstruction();
-        var aValue0 = engine.getExecOrUserARegister(ci.getA()).getW();
-        var aValue1 = engine.getExecOrUserARegister(ci.getA() + 1).getW();
+        var aValue0 = engine.getExecOrUserARegisterValue(ci.getA());
+        var aValue1 = engine.getExecOrUserARegisterValue(ci.getA() + 1);
 
         if (Word36.compare(operand, aValue0) == 0) {
             engine.storeToCachedAddress(aValue1);
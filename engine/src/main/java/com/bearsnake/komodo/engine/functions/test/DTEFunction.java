@@ -41,8 +41,8 @@ public class DTEFunction extends Function {
         }
 
         var ci = engine.getCurrentInstruction();
-        var aValue0 = engine.getExecOrUserARegister(ci.getA()).getW();
-        var aValue1 = engine.getExecOrUserARegister(ci.getA() + 1).getW();
+        var aValue0 = engine.getExecOrUserARegisterValue(ci.getA());
+        var aValue1 = engine.getExecOrUserARegisterValue(ci.getA() + 1);
 
         if (DoubleWord36.compare(operand[0], operand[1], aValue0, aValue1) == 0) {
             engine.getProgramAddressRegister().incrementProgramCounter();
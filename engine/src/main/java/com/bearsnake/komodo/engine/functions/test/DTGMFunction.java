@@ -45,8 +45,8 @@ public class DTGMFunction extends Function {
         }
 
         var ci = engine.getCurrentInstruction();
-        var aValue0 = engine.getExecOrUserARegister(ci.getA()).getW();
-        var aValue1 = engine.getExecOrUserARegister(ci.getA() + 1).getW();
+        var aValue0 = engine.getExecOrUserARegisterValue(ci.getA());
+        var aValue1 = engine.getExecOrUserARegisterValue(ci.getA() + 1);
 
         if (Word36.isNegative(aValue0)) {
             aValue0 = Word36.logicalNot(aValue0);
@@ -41,10 +41,10 @@ public class MTGFunction extends Function {
         }
 
         var ci = engine.getCurrentInstruction();
-        var aValue = engine.getExecOrUserARegister(ci.getA()).getW();
+        var aValue = engine.getExecOrUserARegisterValue(ci.getA());
 
-        operand &= engine.getExecOrUserRRegister(2).getW();
-        aValue &= engine.getExecOrUserRRegister(2).getW();
+        operand &= engine.getExecOrUserRRegisterValue(2);
+        aValue &= engine.getExecOrUserRRegisterValue(2);
         if (Word36.compare(operand, aValue) > 0) {
             engine.getProgramAddressRegister().incrementProgramCounter();
         }
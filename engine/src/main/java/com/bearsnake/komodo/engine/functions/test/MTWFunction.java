@@ -40,12 +40,12 @@ public class MTWFunction extends Function {
         }
 
         var ci = engine.getCurrentInstruction();
-        var aValue0 = engine.getExecOrUserARegister(ci.getA()).getW();
-        var aValue1 = engine.getExecOrUserARegister(ci.getA() + 1).getW();
+        var aValue0 = engine.getExecOrUserARegisterValue(ci.getA());
+        var aValue1 = engine.getExecOrUserARegisterValue(ci.getA() + 1);
 
-        operand &= engine.getExecOrUserRRegister(2).getW();
-        aValue0 &= engine.getExecOrUserRRegister(2).getW();
-        aValue1 &= engine.getExecOrUserRRegister(2).getW();
+        operand &= engine.getExecOrUserRRegisterValue(2);
+        aValue0 &= engine.getExecOrUserRRegisterValue(2);
+        aValue1 &= engine.getExecOrUserRRegisterValue(2);
         if ((Word36.compare(aValue0, operand) < 0) && (Word36.compare(operand, aValue1) <= 0)) {
             engine.getProgramAddressRegister().incrementProgramCounter();
         }
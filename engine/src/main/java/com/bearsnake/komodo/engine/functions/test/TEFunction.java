@@ -40,7 +40,7 @@ public class TEFunction extends Function {
         }
 
         var ci = engine.getCurrentInstruction();
-        var aValue = engine.getExecOrUserARegister(ci.getA()).getW();
+        var aValue = engine.getExecOrUserARegisterValue(ci.getA());
 
         if (Word36.compare(operand, aValue) == 0) {
             engine.getProgramAddressRegister().incrementProgramCounter();
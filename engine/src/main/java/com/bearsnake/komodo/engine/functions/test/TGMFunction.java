@@ -39,7 +39,7 @@ public class TGMFunction extends Function {
         }
 
         var ci = engine.getCurrentInstruction();
-        var aValue = engine.getExecOrUserARegister(ci.getA()).getW();
+        var aValue = engine.getExecOrUserARegisterValue(ci.getA());
 
         long uMag = Word36.isNegative(operand) ? Word36.negate(operand) : operand;
 
@@ -41,8 +41,8 @@ public class TNWFunction extends Function {
 
         var ci = engine.getCurrentInstruction();
         int a = ci.getA();
-        var aValue = engine.getExecOrUserARegister(a).getW();
-        var aPlus1Value = engine.getExecOrUserARegister((a + 1) & 017).getW();
+        var aValue = engine.getExecOrUserARegisterValue(a);
+        var aPlus1Value = engine.getExecOrUserARegisterValue((a + 1) & 017);
 
         if (Word36.compare(operand, aValue) <= 0 || Word36.compare(operand, aPlus1Value) > 0) {
             engine.getProgramAddressRegister().incrementProgramCounter();
@@ -40,7 +40,7 @@ public class TOPFunction extends Function {
         }
 
         var ci = engine.getCurrentInstruction();
-        var value = Word36.logicalAnd(engine.getExecOrUserARegister(ci.getA()).getW(), operand);
+        var value = Word36.logicalAnd(engine.getExecOrUserARegisterValue(ci.getA()), operand);
         if ((Long.bitCount(value) & 01) != 0) {
             // increment once here. In any case, the normal cycle() operation will increment as well.
             engine.getProgramAddressRegister().incrementProgramCounter();
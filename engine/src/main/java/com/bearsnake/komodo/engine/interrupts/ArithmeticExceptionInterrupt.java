@@ -42,5 +42,7 @@ public class ArithmeticExceptionInterrupt extends MachineInterrupt {
         _reason = reason;
     }
 
+    public Reason getReason() { return _reason; }
+
     @Override public byte getShortStatusField() { return (byte)_reason.getCode(); }
 }
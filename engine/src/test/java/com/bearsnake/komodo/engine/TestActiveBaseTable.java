@@ -5,6 +5,9 @@
 package com.bearsnake.komodo.engine;
 
 import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class TestActiveBaseTable {
@@ -106,4 +109,20 @@ public class TestActiveBaseTable {
         // Verify that it is the same object
         assertEquals(4, abt.getEntry(1).getBankLevel());
     }
+
+    @Test
+    public void testFindEntries() {
+        ActiveBaseTable abt = new ActiveBaseTable();
+        abt.getEntry(3).set((short) 2, 0_123, 0);
+        abt.getEntry(7).set((short) 2, 0_123, 0_1000);
+        abt.getEntry(8).set((short) 3, 0_123, 0);
+
+        assertEquals(List.of(3, 7), abt.findEntries(2, 0_123));
+        assertEquals(List.of(8), abt.findEntries(3, 0_123));
+        assertTrue(abt.findEntries(2, 0_124).isEmpty());
+
+        abt.getEntry(3).clear();
+        assertEquals(List.of(7), abt.findEntries(2, 0_123));
+        assertEquals(0, abt.getEntry(3).getSubsetSpecification());
+    }
 }
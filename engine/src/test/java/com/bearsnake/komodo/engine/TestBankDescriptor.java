@@ -4,6 +4,7 @@
 
 package com.bearsnake.komodo.engine;
 
+import com.bearsnake.komodo.baselib.ArraySlice;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -191,4 +192,45 @@ public class TestBankDescriptor {
         assertTrue(bd2.isInactive());
         assertEquals(0x123456789L, bd2.getInactiveQBDListNextPointer());
     }
+
+    @Test
+    public void testSerializationQueueLinkage() {
+        BankDescriptor bd1 = new BankDescriptor();
+        bd1.setBankType(BankType.Queue)
+           .setInactive(false)
+           .setDisplacement(0x1234)
+           .setEnqueued(true)
+           .setNextQueueBank(0_412345);
+
+        long[] buffer = new long[6];
+        bd1.serialize(buffer);
+
+        BankDescriptor bd2 = new BankDescriptor(buffer);
+        assertTrue(bd2.isEnqueued());
+        assertEquals(0_412345, bd2.getNextQueueBank());
+        assertFalse(bd2.isInactive());
+        assertEquals(0x1234, bd2.getDisplacement());
+    }
+
+    @Test
+    public void testQueueLinkageInStorage() {
+        long[] buffer = new long[6];
+        new BankDescriptor().setBankType(BankType.Queue).setInactive(false).setDisplacement(0x1234).serialize(buffer);
+        ArraySlice storage = new ArraySlice(buffer);
+
+        assertFalse(BankDescriptor.isEnqueued(storage, 0));
+        assertEquals(0, BankDescriptor.getNextQueueBank(storage, 0));
+
+        BankDescriptor.setEnqueued(storage, 0, true);
+        BankDescriptor.setNextQueueBank(storage, 0, 0_412345);
+        assertTrue(BankDescriptor.isEnqueued(storage, 0));
+        assertEquals(0_412345, BankDescriptor.getNextQueueBank(storage, 0));
+        assertFalse(BankDescriptor.isInactive(storage, 0));
+        assertEquals(0x1234, BankDescriptor.getDisplacement(storage, 0));
+
+        BankDescriptor.setEnqueued(storage, 0, false);
+        BankDescriptor.setNextQueueBank(storage, 0, 0);
+        assertFalse(BankDescriptor.isEnqueued(storage, 0));
+        assertEquals(0, BankDescriptor.getNextQueueBank(storage, 0));
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestBankDescriptorCache {
+
+    private static BaseRegister[] newBaseRegisters() {
+        var baseRegisters = new BaseRegister[32];
+        for (int bx = 0; bx < 32; bx++) {
+            baseRegisters[bx] = BaseRegister.createVoid();
+        }
+        return baseRegisters;
+    }
+
+    private static void setTable(
+        final BaseRegister[] baseRegisters,
+        final int level,
+        final ArraySlice table
+    ) {
+        baseRegisters[Constants.BDT_BASE_REGISTER + level] = new BaseRegister().setStorage(table);
+    }
+
+    private static BankDescriptorCache.Entry newEntry(
+        final ArraySlice table,
+        final int offset
+    ) {
+        return new BankDescriptorCache.Entry(BankType.ExtendedMode, BaseRegister.createVoid(), table, offset);
+    }
+
+    @Test
+    public void testGet() {
+        var table = new ArraySlice(new long[01000]);
+        var baseRegisters = newBaseRegisters();
+        setTable(baseRegisters, 0, table);
+        var cache = new BankDescriptorCache();
+        var entry = newEntry(table, 0400);
+        cache.put(0, 040, entry);
+
+        assertSame(entry, cache.get(0, 040, baseRegisters));
+        assertNull(cache.get(0, 041, baseRegisters));
+        assertNull(cache.get(1, 040, baseRegisters));
+        setTable(baseRegisters, 0, new ArraySlice(new long[01000]));
+        assertNull(cache.get(0, 040, baseRegisters));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    public void testNoteWrite() {
+        var storage = new long[010000];
+        var table = new ArraySlice(storage, 01000, 01000);
+        var cache = new BankDescriptorCache();
+        cache.put(0, 040, newEntry(table, 0400));
+        cache.noteRead(table, 0400, 8);
+
+        // writes to other storage, and to the rest of the table, leave the cache alone
+        cache.noteWrite(new ArraySlice(new long[010000]), 01400, 8);
+        cache.noteWrite(new ArraySlice(storage), 01377, 1);
+        cache.noteWrite(new ArraySlice(storage, 01000, 01000), 0410, 0100);
+        assertEquals(1, cache.size());
+
+        // a write through a different slice of the same storage is recognized
+        cache.noteWrite(new ArraySlice(storage, 01400, 0400), 07, 1);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testNoteWrite_OnlyOverlappingEntries() {
+        var table = new ArraySlice(new long[01000]);
+        var cache = new BankDescriptorCache();
+        cache.put(0, 040, newEntry(table, 0400));
+        cache.put(0, 042, newEntry(table, 0420));
+        cache.noteRead(table, 0400, 8);
+        cache.noteRead(table, 0420, 8);
+
+        // the write falls between the descriptors, within the range read - neither entry is discarded
+        cache.noteWrite(table, 0410, 8);
+        assertEquals(2, cache.size());
+
+        cache.noteWrite(table, 0420, 1);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testIndirect_TargetTableRebased() {
+        var table0 = new ArraySlice(new long[01000]);
+        var table1 = new ArraySlice(new long[01000]);
+        var baseRegisters = newBaseRegisters();
+        setTable(baseRegisters, 0, table0);
+        setTable(baseRegisters, 1, table1);
+        var cache = new BankDescriptorCache();
+        var entry = new BankDescriptorCache.Entry(BankType.ExtendedMode, BaseRegister.createVoid(),
+                                                  table0, 0400, 1, table1, 010);
+        cache.put(0, 040, entry);
+        assertSame(entry, cache.get(0, 040, baseRegisters));
+
+        // the indirect descriptor's table is unchanged, but the target's level now bases a different table
+        setTable(baseRegisters, 1, new ArraySlice(new long[01000]));
+        assertNull(cache.get(0, 040, baseRegisters));
+        setTable(baseRegisters, 1, table1);
+        assertSame(entry, cache.get(0, 040, baseRegisters));
+    }
+
+    @Test
+    public void testIndirect_TargetDescriptorWritten() {
+        var table0 = new ArraySlice(new long[01000]);
+        var table1 = new ArraySlice(new long[01000]);
+        var otherTable1 = new ArraySlice(new long[01000]);
+        var cache = new BankDescriptorCache();
+        cache.put(0, 040, new BankDescriptorCache.Entry(BankType.ExtendedMode, BaseRegister.createVoid(),
+                                                        table0, 0400, 1, table1, 010));
+        cache.noteRead(table0, 0400, 8);
+        cache.noteRead(table1, 010, 8);
+
+        // reading from a different level 1 table does not lose track of the target descriptor
+        cache.noteRead(otherTable1, 010, 8);
+        cache.noteWrite(otherTable1, 010, 8);
+        assertEquals(1, cache.size());
+
+        cache.noteWrite(table1, 017, 1);
+        assertEquals(0, cache.size());
+    }
+}
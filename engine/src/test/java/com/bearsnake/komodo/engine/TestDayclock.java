@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestDayclock {
+
+    @Test
+    public void testLoad() {
+        var dayclock = new Dayclock();
+        dayclock.setMicros(1_000_000_000L);
+        var micros = dayclock.getMicros();
+
+        assertTrue(micros >= 1_000_000_000L);
+        assertTrue(micros < 1_010_000_000L);
+        assertEquals(Dayclock.Mode.NORMAL, dayclock.getMode());
+    }
+
+    @Test
+    public void testModeDoesNotStep() {
+        var dayclock = new Dayclock();
+        dayclock.setMicros(1_000_000_000L);
+        dayclock.setMode(Dayclock.Mode.SLOW);
+        var slow = dayclock.getMicros();
+        dayclock.setMode(Dayclock.Mode.FAST);
+        var fast = dayclock.getMicros();
+
+        assertTrue(slow >= 1_000_000_000L);
+        assertTrue(fast >= slow);
+        assertTrue(fast < 1_010_000_000L);
+        assertEquals(Dayclock.Mode.FAST, dayclock.getMode());
+    }
+}
@@ -438,8 +438,119 @@ public class TestFloatingPointComponents {
     }
 
 
+    /**
+     * The BigInteger multiply which the long-pair implementation replaced, kept here as a reference
+     */
+    private static FloatingPointComponents referenceMultiply(
+        final FloatingPointComponents factor1,
+        final FloatingPointComponents factor2
+    ) {
+        long mantissa1 = factor1._fractional;
+        int decimals1 = 60;
+        while ((mantissa1 & 01) == 0) {
+            mantissa1 >>= 1;
+            --decimals1;
+        }
+
+        long mantissa2 = factor2._fractional;
+        int decimals2 = 60;
+        while ((mantissa2 & 01) == 0) {
+            mantissa2 >>= 1;
+            --decimals2;
+        }
+
+        BigInteger result = BigInteger.valueOf(mantissa1).multiply(BigInteger.valueOf(mantissa2));
+        int resultDecimals = decimals1 + decimals2;
+        if (resultDecimals < 60) {
+            result = result.shiftLeft(60 - resultDecimals);
+        } else if (resultDecimals > 60) {
+            result = result.shiftRight(resultDecimals - 60);
+        }
+
+        int resultExponent = factor1._exponent + factor2._exponent;
+        while (result.bitLength() > 60) {
+            result = result.shiftRight(1);
+            ++resultExponent;
+        }
+        while (!result.testBit(59)) {
+            result = result.shiftLeft(1);
+            --resultExponent;
+        }
+
+        return new FloatingPointComponents(factor1._isNegative != factor2._isNegative, resultExponent, 0L, result.longValue());
+    }
+
+    /**
+     * Produces a normalized value with a random sign, a random exponent within +/- 300, and a random 60-bit mantissa
+     */
+    private static FloatingPointComponents randomNormalized(final Random random) {
+        return new FloatingPointComponents(random.nextBoolean(),
+                                           random.nextInt(601) - 300,
+                                           0L,
+                                           (random.nextLong() >>> 4) | (1L << 59));
+    }
+
+    private static void assertComponentsEqual(
+        final FloatingPointComponents expected,
+        final FloatingPointComponents actual
+    ) {
+        assertEquals(expected._isNegative, actual._isNegative);
+        assertEquals(expected._exponent, actual._exponent);
+        assertEquals(expected._integral, actual._integral);
+        assertEquals(expected._fractional, actual._fractional);
+    }
+
+    @Test
+    public void multiply_randomized()
+        throws CharacteristicOverflowException,
+               CharacteristicUnderflowException {
+        var random = new Random(0_6060);
+        for (int ix = 0; ix < 20000; ix++) {
+            var factor1 = randomNormalized(random);
+            var factor2 = randomNormalized(random);
+            assertComponentsEqual(referenceMultiply(factor1, factor2), factor1.multiply(factor2));
+        }
+    }
+
     //  normalize ------------------------------------------------------------------------------------------------------------------
 
+    @Test
+    public void normalize_randomized() {
+        var random = new Random(0_6061);
+        for (int ix = 0; ix < 20000; ix++) {
+            long integral = random.nextBoolean() ? 0 : random.nextLong() >>> (1 + random.nextInt(63));
+            long fractional = random.nextLong() >>> (4 + random.nextInt(60));
+            if ((integral == 0) && (fractional == 0)) {
+                continue;
+            }
+
+            //  The shift-one-bit-at-a-time normalization which the count-leading-zeros version replaced
+            long expectedIntegral = integral;
+            long expectedFractional = fractional;
+            int expectedExponent = 0;
+            if (expectedIntegral > 0) {
+                do {
+                    expectedFractional >>= 1;
+                    if ((expectedIntegral & 0x01) == 0x01) {
+                        expectedFractional |= 1L << 59;
+                    }
+                    expectedIntegral >>= 1;
+                    ++expectedExponent;
+                } while (expectedIntegral > 0);
+            } else {
+                while ((expectedFractional & (1L << 59)) == 0) {
+                    expectedFractional <<= 1;
+                    --expectedExponent;
+                }
+            }
+
+            var expected = new FloatingPointComponents(false, expectedExponent, expectedIntegral, expectedFractional);
+            var actual = new FloatingPointComponents(false, 0, integral, fractional).normalizeNoThrow();
+            assertComponentsEqual(expected, actual);
+        }
+    }
+
+
     @Test
     public void normalize_NegativeZero()
         throws CharacteristicOverflowException,
@@ -580,6 +691,46 @@ public class TestFloatingPointComponents {
         assertArrayEquals(expected, result);
     }
 
+    @Test
+    public void toDoubleWord36_randomized()
+        throws CharacteristicOverflowException,
+               CharacteristicUnderflowException {
+        var random = new Random(0_6062);
+        var result = new long[2];
+        var expected = new long[2];
+        for (int ix = 0; ix < 20000; ix++) {
+            var operand = randomNormalized(random);
+            operand.toDoubleWord36(result, 0);
+
+            //  The BigInteger formatting which the long-pair version replaced
+            BigInteger rawBits = BigInteger.valueOf(operand._exponent + FloatingPointComponents.DW36_EXPONENT_BIAS)
+                                           .shiftLeft(60)
+                                           .or(BigInteger.valueOf(operand._fractional));
+            if (operand._isNegative) {
+                rawBits = rawBits.xor(DoubleWord36.BIT_MASK);
+            }
+            DoubleWord36.getOnesComplement(rawBits, expected, 0);
+            assertArrayEquals(expected, result);
+
+            //  ... and it should come back exactly as it went in
+            assertComponentsEqual(operand, new FloatingPointComponents(result, 0));
+        }
+    }
+
+    @Test
+    public void fromDoubleWord36_negativeZero() {
+        var operand = new FloatingPointComponents(new long[]{ Word36.NEGATIVE_ZERO, Word36.NEGATIVE_ZERO }, 0);
+        assertTrue(operand.isNegativeZero());
+    }
+
+    @Test
+    public void fromDoubleWord36_negative()
+        throws CharacteristicOverflowException,
+               CharacteristicUnderflowException {
+        var operand = new FloatingPointComponents(new long[]{ Word36.negate(0_2014_40434000L), Word36.NEGATIVE_ZERO }, 0);
+        assertEquals(-2083.5, operand.toDouble(), 0);
+    }
+
     //  toFloat --------------------------------------------------------------------------------------------------------------------
 
     @Test
@@ -625,4 +776,271 @@ public class TestFloatingPointComponents {
     //  toString -------------------------------------------------------------------------------------------------------------------
 
     //TODO
+
+    //  word-level arithmetic ------------------------------------------------------------------------------------------------------
+
+    private interface SingleOperation {
+        long apply(long operand1, long operand2) throws Exception;
+    }
+
+    private interface DoubleOperation {
+        void apply(long[] operand1, int offset1, long[] operand2, int offset2, long[] result, int resultOffset) throws Exception;
+    }
+
+    private static String outcome(
+        final SingleOperation operation,
+        final long operand1,
+        final long operand2
+    ) {
+        try {
+            return String.format("%012o", operation.apply(operand1, operand2));
+        } catch (Exception ex) {
+            return ex.getClass().getSimpleName();
+        }
+    }
+
+    private static String outcome(
+        final DoubleOperation operation,
+        final long[] operands
+    ) {
+        try {
+            var result = new long[2];
+            operation.apply(operands, 0, operands, 2, result, 0);
+            return String.format("%012o%012o", result[0], result[1]);
+        } catch (Exception ex) {
+            return ex.getClass().getSimpleName();
+        }
+    }
+
+    /**
+     * Random single-precision words, weighted towards the values the fast path is meant to handle -
+     * nearby exponents and short mantissas - but including unnormalized mantissas, zeros, and extreme characteristics.
+     */
+    private static long randomSingle(
+        final Random random
+    ) {
+        var characteristic = random.nextInt(8) == 0 ? random.nextInt(0400) : 0200 + random.nextInt(24) - 12;
+        long mantissa = switch (random.nextInt(6)) {
+            case 0 -> 0;
+            case 1 -> random.nextLong() & 0_777_777_777L;                               //  possibly unnormalized
+            case 2, 3 -> (0_400_000_000L | (random.nextLong() & 0_777_777L)) & ~0_777L;  //  short mantissa
+            default -> 0_400_000_000L | (random.nextLong() & 0_377_777_777L);
+        };
+        var word = ((long) characteristic << 27) | mantissa;
+        return random.nextBoolean() ? Word36.negate(word) : word;
+    }
+
+    /**
+     * As above, for double-precision values in two consecutive words
+     */
+    private static void randomDouble(
+        final Random random,
+        final long[] destination,
+        final int offset
+    ) {
+        var characteristic = random.nextInt(8) == 0 ? random.nextInt(04000) : 02000 + random.nextInt(60) - 30;
+        long mantissa = switch (random.nextInt(6)) {
+            case 0 -> 0;
+            case 1 -> random.nextLong() >>> 4;                                          //  full 60 bits, maybe unnormalized
+            case 2, 3 -> ((1L << 59) | (random.nextLong() >>> 5)) & ~((1L << 30) - 1);  //  short mantissa
+            default -> ((1L << 59) | (random.nextLong() >>> 5)) & ~0177L;               //  53 significant bits
+        };
+        var high = ((long) characteristic << 24) | (mantissa >>> 36);
+        var low = mantissa & Word36.BIT_MASK;
+        var negative = random.nextBoolean();
+        destination[offset] = negative ? Word36.negate(high) : high;
+        destination[offset + 1] = negative ? Word36.negate(low) : low;
+    }
+
+    @Test
+    public void addSingle_matchesExact() {
+        var random = new Random(0_7070);
+        for (int ix = 0; ix < 100000; ix++) {
+            var a = randomSingle(random);
+            var b = randomSingle(random);
+            assertEquals(outcome(FloatingPointComponents::addSingleExact, a, b),
+                         outcome(FloatingPointComponents::addSingle, a, b),
+                         String.format("%012o + %012o", a, b));
+        }
+    }
+
+    @Test
+    public void multiplySingle_matchesExact() {
+        var random = new Random(0_7071);
+        for (int ix = 0; ix < 100000; ix++) {
+            var a = randomSingle(random);
+            var b = randomSingle(random);
+            assertEquals(outcome(FloatingPointComponents::multiplySingleExact, a, b),
+                         outcome(FloatingPointComponents::multiplySingle, a, b),
+                         String.format("%012o * %012o", a, b));
+        }
+    }
+
+    @Test
+    public void divideSingle_matchesExact() {
+        var random = new Random(0_7072);
+        for (int ix = 0; ix < 100000; ix++) {
+            var a = randomSingle(random);
+            var b = randomSingle(random);
+            assertEquals(outcome(FloatingPointComponents::divideSingleExact, a, b),
+                         outcome(FloatingPointComponents::divideSingle, a, b),
+                         String.format("%012o / %012o", a, b));
+        }
+    }
+
+    @Test
+    public void addDouble_matchesExact() {
+        var random = new Random(0_7073);
+        var operands = new long[4];
+        for (int ix = 0; ix < 100000; ix++) {
+            randomDouble(random, operands, 0);
+            randomDouble(random, operands, 2);
+            assertEquals(outcome(FloatingPointComponents::addDoubleExact, operands),
+                         outcome(FloatingPointComponents::addDouble, operands),
+                         String.format("%012o%012o + %012o%012o", operands[0], operands[1], operands[2], operands[3]));
+        }
+    }
+
+    @Test
+    public void multiplyDouble_matchesExact() {
+        var random = new Random(0_7074);
+        var operands = new long[4];
+        for (int ix = 0; ix < 100000; ix++) {
+            randomDouble(random, operands, 0);
+            randomDouble(random, operands, 2);
+            assertEquals(outcome(FloatingPointComponents::multiplyDoubleExact, operands),
+                         outcome(FloatingPointComponents::multiplyDouble, operands),
+                         String.format("%012o%012o * %012o%012o", operands[0], operands[1], operands[2], operands[3]));
+        }
+    }
+
+    @Test
+    public void divideDouble_matchesExact() {
+        var random = new Random(0_7075);
+        var operands = new long[4];
+        for (int ix = 0; ix < 100000; ix++) {
+            randomDouble(random, operands, 0);
+            randomDouble(random, operands, 2);
+            assertEquals(outcome(FloatingPointComponents::divideDoubleExact, operands),
+                         outcome(FloatingPointComponents::divideDouble, operands),
+                         String.format("%012o%012o / %012o%012o", operands[0], operands[1], operands[2], operands[3]));
+        }
+    }
+
+    @Test
+    public void fromWord36()
+        throws CharacteristicOverflowException,
+               CharacteristicUnderflowException {
+        //  0.5 * 2^3 == 4.0, and its negative
+        assertEquals(4.0, new FloatingPointComponents(0_203_400000000L).toDouble(), 0);
+        assertEquals(-4.0, new FloatingPointComponents(Word36.negate(0_203_400000000L)).toDouble(), 0);
+    }
+
+    @Test
+    public void addSingle_values()
+        throws CharacteristicOverflowException,
+               CharacteristicUnderflowException {
+        var a = new FloatingPointComponents(1.5).toWord36();
+        var b = new FloatingPointComponents(2.25).toWord36();
+        assertEquals(new FloatingPointComponents(3.75).toWord36(), FloatingPointComponents.addSingle(a, b));
+        assertEquals(new FloatingPointComponents(-0.75).toWord36(), FloatingPointComponents.addSingle(a, Word36.negate(b)));
+        assertEquals(Word36.POSITIVE_ZERO, FloatingPointComponents.addSingle(a, Word36.negate(a)));
+    }
+
+    @Test
+    public void addSingle_truncates()
+        throws CharacteristicOverflowException,
+               CharacteristicUnderflowException {
+        //  1.0 - 2^-40 is all ones in the 27-bit mantissa, once truncated
+        var one = new FloatingPointComponents(1.0).toWord36();
+        var tiny = Word36.negate(new FloatingPointComponents(Math.pow(2.0, -40)).toWord36());
+        assertEquals(0_200_777777777L, FloatingPointComponents.addSingle(one, tiny));
+    }
+
+    @Test
+    public void addSingle_overflow() {
+        assertThrows(CharacteristicOverflowException.class,
+                     () -> FloatingPointComponents.addSingle(0_377_400000000L, 0_377_400000000L));
+    }
+
+    @Test
+    public void multiplySingle_values()
+        throws CharacteristicOverflowException,
+               CharacteristicUnderflowException {
+        var a = new FloatingPointComponents(-1.5).toWord36();
+        var b = new FloatingPointComponents(2.25).toWord36();
+        assertEquals(new FloatingPointComponents(-3.375).toWord36(), FloatingPointComponents.multiplySingle(a, b));
+    }
+
+    @Test
+    public void multiplySingle_underflow() {
+        assertThrows(CharacteristicUnderflowException.class,
+                     () -> FloatingPointComponents.multiplySingle(0_001_400000000L, 0_001_400000000L));
+    }
+
+    @Test
+    public void divideSingle_values()
+        throws CharacteristicOverflowException,
+               CharacteristicUnderflowException,
+               DivideByZeroException {
+        var one = new FloatingPointComponents(1.0).toWord36();
+        var three = new FloatingPointComponents(3.0).toWord36();
+        //  1/3 truncated to 27 bits is 0.010101...01 (binary), i.e. exponent -1 and mantissa 0525252525
+        assertEquals(0_177_525252525L, FloatingPointComponents.divideSingle(one, three));
+        assertEquals(Word36.negate(0_177_525252525L), FloatingPointComponents.divideSingle(one, Word36.negate(three)));
+    }
+
+    @Test
+    public void divideSingle_byZero() {
+        var one = 0_201_400000000L;
+        assertThrows(DivideByZeroException.class, () -> FloatingPointComponents.divideSingle(one, Word36.NEGATIVE_ZERO));
+    }
+
+    @Test
+    public void addDouble_values()
+        throws CharacteristicOverflowException,
+               CharacteristicUnderflowException {
+        var operands = new long[4];
+        new FloatingPointComponents(1.0e10).toDoubleWord36(operands, 0);
+        new FloatingPointComponents(-0.125).toDoubleWord36(operands, 2);
+        var expected = new long[2];
+        new FloatingPointComponents(1.0e10 - 0.125).toDoubleWord36(expected, 0);
+        var result = new long[2];
+        FloatingPointComponents.addDouble(operands, 0, operands, 2, result, 0);
+        assertArrayEquals(expected, result);
+    }
+
+    @Test
+    public void divideDouble_inexact()
+        throws CharacteristicOverflowException,
+               CharacteristicUnderflowException,
+               DivideByZeroException {
+        //  1/3 has a 60-bit truncated mantissa of 0.0101...01 (binary) - more bits than a host double
+        var operands = new long[4];
+        new FloatingPointComponents(1.0).toDoubleWord36(operands, 0);
+        new FloatingPointComponents(3.0).toDoubleWord36(operands, 2);
+        var result = new long[2];
+        FloatingPointComponents.divideDouble(operands, 0, operands, 2, result, 0);
+        assertEquals(new FloatingPointComponents(operands, 0).divide(new FloatingPointComponents(operands, 2)),
+                     new FloatingPointComponents(result, 0));
+    }
+
+    @Test
+    public void multiplyDouble_tinyProduct() {
+        //  The product is inexact, but so small that its fma residual underflows to zero
+        var operands = new long[]{ 0171755737475L, 0602000000000L, 07241035056L, 0142000000000L };
+        assertEquals("001057350274514123327776", outcome(FloatingPointComponents::multiplyDouble, operands));
+        assertEquals(outcome(FloatingPointComponents::multiplyDoubleExact, operands),
+                     outcome(FloatingPointComponents::multiplyDouble, operands));
+    }
+
+    @Test
+    public void divideDouble_tinyDividend() {
+        //  The host quotient times the divisor misses the dividend by half of the smallest subnormal,
+        //  so the fma residual rounds to zero although the quotient is inexact
+        var operands = new long[]{ 06746737032L, 0163663562200L, 0200163424364L, 0325546643200L };
+        assertEquals("006660262334767317421176", outcome(FloatingPointComponents::divideDouble, operands));
+        assertEquals(outcome(FloatingPointComponents::divideDoubleExact, operands),
+                     outcome(FloatingPointComponents::divideDouble, operands));
+    }
 }
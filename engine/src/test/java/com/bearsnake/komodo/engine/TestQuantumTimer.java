@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine;
+
+import com.bearsnake.komodo.engine.functions.FunctionUnitTest;
+import com.bearsnake.komodo.engine.interrupts.DayclockInterrupt;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import com.bearsnake.komodo.engine.interrupts.QuantumTimerInterrupt;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestQuantumTimer extends FunctionUnitTest {
+
+    private long nop() { return fjaxhiu(0_73, 0_14, 0, 0, 0, 0, 0); }
+    private long j(long u) { return fjaxhiu(0_74, 0_15, 0_04, 0, 0, 0, u); }
+
+    @BeforeEach
+    public void setup() {
+        _engine = new Engine();
+        _engine.getDesignatorRegister().clear();
+    }
+
+    @Test
+    public void testStraightLine() throws MachineInterrupt {
+        var code = new long[]{ nop(), nop(), nop(), nop(), nop(), 0 };
+        setupExtendedMode(code, null);
+        _engine.setQuantumTimer(100);
+
+        run();
+
+        assertEquals(95, _engine.getQuantumTimer());
+    }
+
+    @Test
+    public void testDisabled() throws MachineInterrupt {
+        var code = new long[]{ nop(), j(01002), nop(), 0 };
+        setupExtendedMode(code, null);
+        _engine.setQuantumTimer(1);
+
+        run();
+
+        assertEquals(-2, _engine.getQuantumTimer());
+    }
+
+    @Test
+    public void testLoop() {
+        // a two-instruction loop - the timer is charged at each jump
+        var code = new long[]{ nop(), j(01000) };
+        setupExtendedMode(code, null);
+        _engine.getDesignatorRegister().setQuantumTimerEnabled(true);
+        _engine.setQuantumTimer(10);
+
+        assertThrows(QuantumTimerInterrupt.class, this::run);
+        assertEquals(-2, _engine.getQuantumTimer());
+    }
+
+    @Test
+    public void testLongStraightLine() {
+        // no jumps at all - the timer is charged when the batch limit is reached
+        var code = new long[01000];
+        for (int cx = 0; cx < code.length - 1; cx++) {
+            code[cx] = nop();
+        }
+        setupExtendedMode(code, null);
+        _engine.getDesignatorRegister().setQuantumTimerEnabled(true);
+        _engine.setQuantumTimer(10);
+
+        assertThrows(QuantumTimerInterrupt.class, this::run);
+        var timer = _engine.getQuantumTimer();
+        assertTrue(timer < 0);
+        assertTrue(timer > -100);
+        assertTrue(_engine.getProgramAddressRegister().getProgramCounter() < 01200);
+    }
+
+    @Test
+    public void testDayclockComparator_Reached() {
+        // comparator in the past - the interrupt is posted when the jump ends the basic block
+        var code = new long[]{ nop(), j(01002), 0 };
+        setupExtendedMode(code, null);
+        _engine.setDayclockComparator(1);
+
+        assertThrows(DayclockInterrupt.class, this::run);
+        assertEquals(Long.MAX_VALUE, _engine.getDayclockComparator());
+    }
+
+    @Test
+    public void testDayclockComparator_NotReached() throws MachineInterrupt {
+        var far = _engine.getDayclock().getMicros() + 3_600_000_000L;
+        var code = new long[]{ nop(), j(01002), 0 };
+        setupExtendedMode(code, null);
+        _engine.setDayclockComparator(far);
+
+        run();
+
+        assertEquals(far, _engine.getDayclockComparator());
+    }
+}
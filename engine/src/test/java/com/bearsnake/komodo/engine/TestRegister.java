@@ -4,6 +4,7 @@
 
 package com.bearsnake.komodo.engine;
 
+import com.bearsnake.komodo.baselib.Word36;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -191,4 +192,33 @@ public class TestRegister {
         reg.incrementModifier24();
         assertEquals(11, reg.getXM24());
     }
+
+    @Test
+    public void testGRSViewSharesStorage() {
+        var grs = new GeneralRegisterSet();
+        var reg = grs.getRegister(0_14);
+        grs.setW(0_14, 0_123456_765432L);
+        assertEquals(0_123456_765432L, reg.getW());
+
+        reg.setXM(0_000100);
+        assertEquals(0_123456_000100L, grs.getW(0_14));
+        assertSame(reg, grs.getRegister(0_14));
+        assertEquals(0L, grs.getW(0_15));
+    }
+
+    @Test
+    public void testGRSIndexedModifiers() {
+        var grs = new GeneralRegisterSet();
+        grs.setW(1, 0_000002_000010L);
+        grs.incrementModifier18(1);
+        assertEquals(0_000002_000012L, grs.getW(1));
+
+        grs.setW(1, 0_0001_00_000010L);
+        grs.incrementModifier24(1);
+        assertEquals(0_000011L, grs.getXM24(1));
+
+        grs.setW(0_101, 1);
+        grs.decrementCounter18(0_101);
+        assertTrue(Word36.isZero(grs.getW(0_101)));
+    }
 }
@@ -4,6 +4,9 @@
 
 package com.bearsnake.komodo.engine.functions;
 
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.engine.AbsoluteAddress;
+import com.bearsnake.komodo.engine.BankType;
 import com.bearsnake.komodo.engine.EngineUnitTest;
 import com.bearsnake.komodo.engine.exceptions.EngineHaltedException;
 import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
@@ -44,6 +47,53 @@ public abstract class FunctionUnitTest extends EngineUnitTest {
         return ((s1 & 077) << 30) | ((s2 & 077) << 24) | ((s3 & 077) << 18) | ((s4 & 077) << 12) | ((s5 & 077) << 6) | (s6 & 077);
     }
 
+    /**
+     * Writes a small-bank bank descriptor into storage
+     * @param storage storage containing the bank descriptor table
+     * @param offset offset of the bank descriptor in storage
+     * @param type bank type
+     * @param generalPermissions general access permissions as enter/read/write bits
+     * @param specialPermissions special access permissions as enter/read/write bits
+     * @param lowerLimit lower limit, in units of 01000 words
+     * @param upperLimit upper limit
+     * @param baseOffset base address offset in segment 0
+     */
+    protected static void writeBankDescriptor(
+        final long[] storage,
+        final int offset,
+        final BankType type,
+        final int generalPermissions,
+        final int specialPermissions,
+        final int lowerLimit,
+        final int upperLimit,
+        final int baseOffset
+    ) {
+        storage[offset] = ((long) generalPermissions << 33) | ((long) specialPermissions << 30) | ((long) type._code << 24);
+        storage[offset + 1] = ((long) lowerLimit << 27) | upperLimit;
+        storage[offset + 2] = 0;
+        storage[offset + 3] = baseOffset;
+    }
+
+    /**
+     * Sets up a non-privileged extended mode program with the code based on B0 at 01000,
+     * and the data (if any) based on B1 at 0. The PAR is left pointing at the first instruction.
+     */
+    protected void setupExtendedMode(
+        final long[] code,
+        final long[] data
+    ) {
+        loadBaseRegister(0, false, 0_1000, 0_1777, null, new ArraySlice(code));
+        if (data != null) {
+            loadBaseRegister(1, false, 0, 0_1777, new AbsoluteAddress(0, 0), new ArraySlice(data));
+        }
+
+        _engine.getDesignatorRegister()
+               .setBasicModeEnabled(false)
+               .setProcessorPrivilege((short)3)
+               .setExecRegisterSetSelected(false);
+        _engine.getProgramAddressRegister().setProgramCounter(0_1000).setBankDescriptorIndex(0_000004).setBankLevel((short)0_7);
+    }
+
     protected void run() throws MachineInterrupt {
         for (;;) {
             try {
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.addressspace;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.engine.AbsoluteAddress;
+import com.bearsnake.komodo.engine.BankType;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.VirtualAddress;
+import com.bearsnake.komodo.engine.functions.FunctionUnitTest;
+import com.bearsnake.komodo.engine.interrupts.AddressingExceptionInterrupt;
+import com.bearsnake.komodo.engine.interrupts.InvalidInstructionInterrupt;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestAddressSpaceFunctions extends FunctionUnitTest {
+
+    // Segment 0 holds the level 0 bank descriptor table at 0, the level 4 table at LEVEL_4_BDT,
+    // and the data banks.
+    private static final int BANK_DATA = 040;       // level 0, limits 0 to 0777
+    private static final int BANK_FAULT = 041;      // level 0, G bit set
+    private static final int BANK_EMPTY = 042;      // level 0, upper limit below lower limit
+    private static final int BANK_INDIRECT = 01;    // level 4, indirect to BANK_DATA
+    private static final int DATA_OFFSET = 04000;
+    private static final int LEVEL_4_BDT = 06000;
+
+    private long[] _segment;
+    private long[] _data;
+
+    private long lbu(long b, long d) { return fjaxhibd(0_75, 0_10, b, 0, 0, 0, 1, d); }
+    private long lbe(long b, long d) { return fjaxhibd(0_75, 0_03, b, 0, 0, 0, 1, d); }
+    private long sbu(long b, long d) { return fjaxhibd(0_75, 0_02, b, 0, 0, 0, 1, d); }
+    private long lbn(long a, long d) { return fjaxhibd(0_75, 0_14, a, 0, 0, 0, 1, d); }
+    private long tva(long d) { return fjaxhibd(0_75, 0_12, 0, 0, 0, 0, 1, d); }
+    private long tra(long b, long d) { return fjaxhibd(0_72, 0_15, b, 0, 0, 0, 1, d); }
+    private long lau(long a, long value) { return fjaxhiu(0_10, 0_16, a, 0, 0, 0, value); }
+
+    private long getA(int a) {
+        return _engine.getExecOrUserARegisterValue(a);
+    }
+
+    @BeforeEach
+    public void setup() {
+        _segment = new long[010000];
+        _data = new long[0_2000];
+        writeBankDescriptor(_segment, 8 * BANK_DATA, BankType.ExtendedMode, 07, 07, 0, 0777, DATA_OFFSET);
+        writeBankDescriptor(_segment, 8 * BANK_FAULT, BankType.ExtendedMode, 07, 07, 0, 0777, DATA_OFFSET);
+        _segment[8 * BANK_FAULT] |= 0_000020_000000L;
+        writeBankDescriptor(_segment, 8 * BANK_EMPTY, BankType.ExtendedMode, 07, 07, 1, 0, 0);
+        writeBankDescriptor(_segment, LEVEL_4_BDT + 8 * BANK_INDIRECT, BankType.Indirect, 0, 0, 0, 0, 0);
+        _segment[LEVEL_4_BDT + 8 * BANK_INDIRECT + 1] = (long) BANK_DATA << 18;
+
+        _engine = new Engine();
+        _engine.getDesignatorRegister().clear();
+        _engine.setMainStorage(segx -> (segx == 0) ? new ArraySlice(_segment) : null);
+        loadBaseRegister(16, false, 0, 0777, new AbsoluteAddress(0, 0), new ArraySlice(_segment, 0, 01000));
+        loadBaseRegister(20, false, 0, 077, new AbsoluteAddress(0, LEVEL_4_BDT), new ArraySlice(_segment, LEVEL_4_BDT, 0100));
+    }
+
+    @Test
+    public void testLBU() throws MachineInterrupt {
+        var code = new long[]{ lbu(3, 0100), fjaxhibd(0_10, 0, 5, 0, 0, 0, 3, 05), 0 };
+        _data[0100] = VirtualAddress.getCompositeValue(0, BANK_DATA, 0123);
+        _segment[DATA_OFFSET + 05] = 0_112233_445566L;
+        setupExtendedMode(code, _data);
+
+        run();
+
+        assertEquals(0_112233_445566L, getA(5));
+        var bReg = _engine.getBaseRegister(3);
+        assertFalse(bReg.isVoid());
+        assertEquals(0, bReg.getLowerLimitNormalized());
+        assertEquals(0777, bReg.getUpperLimitNormalized());
+        var abte = _engine.getActiveBaseTableEntry(3);
+        assertEquals(0, abte.getBankLevel());
+        assertEquals(BANK_DATA, abte.getBankDescriptorIndex());
+        assertEquals(0123, abte.getSubsetSpecification());
+    }
+
+    @Test
+    public void testLBU_Indirect() throws MachineInterrupt {
+        var code = new long[]{ lbu(3, 0100), fjaxhibd(0_10, 0, 5, 0, 0, 0, 3, 05), 0 };
+        _data[0100] = VirtualAddress.getCompositeValue(4, BANK_INDIRECT, 0);
+        _segment[DATA_OFFSET + 05] = 0_112233_445566L;
+        setupExtendedMode(code, _data);
+
+        run();
+
+        assertEquals(0_112233_445566L, getA(5));
+        assertEquals(4, _engine.getActiveBaseTableEntry(3).getBankLevel());
+        assertEquals(BANK_INDIRECT, _engine.getActiveBaseTableEntry(3).getBankDescriptorIndex());
+    }
+
+    @Test
+    public void testLBU_Void() throws MachineInterrupt {
+        var code = new long[]{ lbu(3, 0100), lbu(4, 0101), 0 };
+        _data[0100] = VirtualAddress.getCompositeValue(0, 05, 0);
+        _data[0101] = VirtualAddress.getCompositeValue(0, BANK_EMPTY, 0);
+        setupExtendedMode(code, _data);
+        loadBaseRegister(3, false, 0, 0777, null, new ArraySlice(new long[01000]));
+        loadBaseRegister(4, false, 0, 0777, null, new ArraySlice(new long[01000]));
+
+        run();
+
+        assertTrue(_engine.getBaseRegister(3).isVoid());
+        assertTrue(_engine.getBaseRegister(4).isVoid());
+        assertEquals(05, _engine.getActiveBaseTableEntry(3).getBankDescriptorIndex());
+        assertEquals(BANK_EMPTY, _engine.getActiveBaseTableEntry(4).getBankDescriptorIndex());
+    }
+
+    @Test
+    public void testLBU_B0() {
+        var code = new long[]{ lbu(0, 0100), 0 };
+        _data[0100] = VirtualAddress.getCompositeValue(0, BANK_DATA, 0);
+        setupExtendedMode(code, _data);
+
+        var ex = assertThrows(InvalidInstructionInterrupt.class, this::run);
+        assertEquals(InvalidInstructionInterrupt.Reason.InvalidBaseRegister, ex._reason);
+    }
+
+    @Test
+    public void testLBU_GeneralFault() {
+        var code = new long[]{ lbu(3, 0100), 0 };
+        _data[0100] = VirtualAddress.getCompositeValue(0, BANK_FAULT, 0);
+        setupExtendedMode(code, _data);
+
+        var ex = assertThrows(AddressingExceptionInterrupt.class, this::run);
+        assertEquals(AddressingExceptionInterrupt.Reason.FatalAddressingException, ex.getReason());
+        assertEquals(BANK_FAULT, ex.getBankDescriptorIndex());
+    }
+
+    @Test
+    public void testLBU_VoidTable() {
+        var code = new long[]{ lbu(3, 0100), 0 };
+        _data[0100] = VirtualAddress.getCompositeValue(2, 01, 0);
+        setupExtendedMode(code, _data);
+
+        var ex = assertThrows(AddressingExceptionInterrupt.class, this::run);
+        assertEquals(AddressingExceptionInterrupt.Reason.FatalAddressingException, ex.getReason());
+        assertEquals(2, ex.getBankLevel());
+    }
+
+    @Test
+    public void testLBU_NoStorage() {
+        var code = new long[]{ lbu(3, 0100), 0 };
+        _data[0100] = VirtualAddress.getCompositeValue(0, BANK_DATA, 0);
+        _segment[8 * BANK_DATA + 3] = 07700;
+        setupExtendedMode(code, _data);
+
+        var ex = assertThrows(AddressingExceptionInterrupt.class, this::run);
+        assertEquals(AddressingExceptionInterrupt.Reason.FatalAddressingException, ex.getReason());
+    }
+
+    @Test
+    public void testLBE() throws MachineInterrupt {
+        var code = new long[]{ lbu(3, 0100), lbe(6, 0100), 0 };
+        _data[0100] = VirtualAddress.getCompositeValue(0, BANK_DATA, 0);
+        setupExtendedMode(code, _data);
+        _engine.getDesignatorRegister().setProcessorPrivilege((short) 0);
+
+        run();
+
+        var bReg = _engine.getBaseRegister(22);
+        assertFalse(bReg.isVoid());
+        assertEquals(DATA_OFFSET, bReg.getStorage()._offset);
+        assertEquals(0, _engine.getBankDescriptorCache().size());
+    }
+
+    @Test
+    public void testLBE_InvalidatesCache() throws MachineInterrupt {
+        // basing a different table for level 4 changes what (4, 1) names
+        var code = new long[]{ lbu(3, 0100), lbe(4, 0101), lbu(4, 0100), 0 };
+        _data[0100] = VirtualAddress.getCompositeValue(4, BANK_INDIRECT, 0);
+        _data[0101] = VirtualAddress.getCompositeValue(0, 044, 0);
+        writeBankDescriptor(_segment, 8 * 044, BankType.ExtendedMode, 07, 07, 0, 077, LEVEL_4_BDT + 0100);
+        writeBankDescriptor(_segment, LEVEL_4_BDT + 0100 + 8 * BANK_INDIRECT, BankType.ExtendedMode, 07, 07, 0, 0777, 05000);
+        setupExtendedMode(code, _data);
+        _engine.getDesignatorRegister().setProcessorPrivilege((short) 0);
+
+        run();
+
+        assertEquals(DATA_OFFSET, _engine.getBaseRegister(3).getStorage()._offset);
+        assertEquals(05000, _engine.getBaseRegister(4).getStorage()._offset);
+    }
+
+    @Test
+    public void testSBU() throws MachineInterrupt {
+        var code = new long[]{ sbu(2, 0100), 0 };
+        setupExtendedMode(code, _data);
+        _engine.getActiveBaseTableEntry(2).set((short) 4, 0_12345, 0_001000);
+
+        run();
+
+        assertEquals(VirtualAddress.getCompositeValue(4, 0_12345, 0_001000), _data[0100]);
+    }
+
+    @Test
+    public void testLBN() throws MachineInterrupt {
+        var code = new long[]{ lbn(3, 0100), lbn(4, 0101), 0 };
+        _data[0100] = VirtualAddress.getCompositeValue(4, 05, 0123);
+        _data[0101] = VirtualAddress.getCompositeValue(0, 040, 0);
+        setupExtendedMode(code, _data);
+
+        run();
+
+        assertEquals(0_000005_000123L, getA(3));
+        assertEquals(0_440040_000000L, getA(4));
+    }
+
+    @Test
+    public void testTVA() throws MachineInterrupt {
+        var code = new long[]{
+            tva(0100), lau(1, 1),
+            tva(0101), lau(2, 1),
+            tva(0102), lau(3, 1),
+            tva(0103), lau(4, 1),
+            0 };
+        _data[0100] = VirtualAddress.getCompositeValue(0, BANK_DATA, 0777);     // valid
+        _data[0101] = VirtualAddress.getCompositeValue(0, BANK_DATA, 01000);    // beyond the upper limit
+        _data[0102] = VirtualAddress.getCompositeValue(0, BANK_FAULT, 0);       // G bit
+        _data[0103] = VirtualAddress.getCompositeValue(0, 07, 0);              // not a bank
+        setupExtendedMode(code, _data);
+
+        run();
+
+        assertEquals(0, getA(1));
+        assertEquals(1, getA(2));
+        assertEquals(1, getA(3));
+        assertEquals(1, getA(4));
+    }
+
+    @Test
+    public void testTRA() throws MachineInterrupt {
+        var code = new long[]{
+            tra(1, 0100), lau(1, 1),
+            tra(1, 0101), lau(2, 1),
+            tra(5, 0100), lau(3, 1),
+            0 };
+        _data[0100] = 01777;
+        _data[0101] = 02000;
+        setupExtendedMode(code, _data);
+
+        run();
+
+        assertEquals(0, getA(1));
+        assertEquals(1, getA(2));
+        assertEquals(1, getA(3));
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Constants;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionUnitTest;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import com.bearsnake.komodo.engine.interrupts.OperationTrapInterrupt;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the single-word add instructions - AA, ANA, AMA, ANMA, AU, ANU, AX, ANX, and BAO
+ */
+public class TestAddAccumulatorFunctions extends FunctionUnitTest {
+
+    private long em(long f, long a, long d) {
+        return fjaxhibd(f, Constants.JFIELD_W, a, 0, 0, 0, 1, d);
+    }
+
+    private long em(long f, long j, long a, long d) {
+        return fjaxhibd(f, j, a, 0, 0, 0, 1, d);
+    }
+
+    @BeforeEach
+    public void setup() {
+        _engine = new Engine();
+        _engine.getDesignatorRegister().clear();
+    }
+
+    private void runAdd(
+        final long f,
+        final long aValue,
+        final long operand
+    ) throws MachineInterrupt {
+        setupExtendedMode(new long[]{ em(f, 3, 0), 0 }, new long[]{ operand });
+        _engine.setExecOrUserARegisterValue(3, aValue);
+        run();
+    }
+
+    @Test
+    public void testAA_simple() throws MachineInterrupt {
+        runAdd(0_14, 5, 3);
+        var dr = _engine.getDesignatorRegister();
+        assertEquals(8, _engine.getExecOrUserARegisterValue(3));
+        assertFalse(dr.isCarry());
+        assertFalse(dr.isOverflow());
+    }
+
+    @Test
+    public void testAA_mixedSigns() throws MachineInterrupt {
+        runAdd(0_14, 5, Word36.negate(3));
+        assertEquals(2, _engine.getExecOrUserARegisterValue(3));
+        assertTrue(_engine.getDesignatorRegister().isCarry());
+        assertFalse(_engine.getDesignatorRegister().isOverflow());
+    }
+
+    @Test
+    public void testAA_bothNegative() throws MachineInterrupt {
+        runAdd(0_14, Word36.negate(5), Word36.negate(3));
+        assertEquals(Word36.negate(8), _engine.getExecOrUserARegisterValue(3));
+        assertTrue(_engine.getDesignatorRegister().isCarry());
+        assertFalse(_engine.getDesignatorRegister().isOverflow());
+    }
+
+    @Test
+    public void testAA_cancelToPositiveZero() throws MachineInterrupt {
+        runAdd(0_14, 0_1234, Word36.negate(0_1234));
+        assertEquals(Word36.POSITIVE_ZERO, _engine.getExecOrUserARegisterValue(3));
+        assertTrue(_engine.getDesignatorRegister().isCarry());
+    }
+
+    @Test
+    public void testAA_negativeZeros() throws MachineInterrupt {
+        runAdd(0_14, Word36.NEGATIVE_ZERO, Word36.NEGATIVE_ZERO);
+        assertEquals(Word36.NEGATIVE_ZERO, _engine.getExecOrUserARegisterValue(3));
+        assertTrue(_engine.getDesignatorRegister().isCarry());
+        assertFalse(_engine.getDesignatorRegister().isOverflow());
+    }
+
+    @Test
+    public void testAA_positiveOverflow() throws MachineInterrupt {
+        runAdd(0_14, 0_377777_777777L, 1);
+        var dr = _engine.getDesignatorRegister();
+        assertEquals(0_400000_000000L, _engine.getExecOrUserARegisterValue(3));
+        assertFalse(dr.isCarry());
+        assertTrue(dr.isOverflow());
+    }
+
+    @Test
+    public void testAA_negativeOverflow() throws MachineInterrupt {
+        runAdd(0_14, 0_400000_000000L, Word36.NEGATIVE_ONE);
+        var dr = _engine.getDesignatorRegister();
+        assertEquals(0_377777_777777L, _engine.getExecOrUserARegisterValue(3));
+        assertTrue(dr.isCarry());
+        assertTrue(dr.isOverflow());
+    }
+
+    @Test
+    public void testAA_overflowTrap() {
+        setupExtendedMode(new long[]{ em(0_14, 3, 0), 0 }, new long[]{ 1 });
+        _engine.getDesignatorRegister().setOperationTrapEnabled(true);
+        _engine.setExecOrUserARegisterValue(3, 0_377777_777777L);
+
+        var ex = assertThrows(OperationTrapInterrupt.class, this::run);
+        assertEquals(OperationTrapInterrupt.Reason.FixedPointBinaryIntegerOverflow, ex.getReason());
+
+        // The trap is taken after the instruction completes
+        assertEquals(0_400000_000000L, _engine.getExecOrUserARegisterValue(3));
+        assertEquals(0_1001, _engine.getProgramAddressRegister().getProgramCounter());
+    }
+
+    @Test
+    public void testAA_noTrapWithoutOverflow() throws MachineInterrupt {
+        setupExtendedMode(new long[]{ em(0_14, 3, 0), 0 }, new long[]{ 1 });
+        _engine.getDesignatorRegister().setOperationTrapEnabled(true);
+        _engine.setExecOrUserARegisterValue(3, 1);
+        run();
+        assertEquals(2, _engine.getExecOrUserARegisterValue(3));
+    }
+
+    @Test
+    public void testAA_immediate() throws MachineInterrupt {
+        setupExtendedMode(new long[]{ fjaxu(0_14, Constants.JFIELD_XU, 3, 0, 0_777775), 0 }, null);
+        _engine.setExecOrUserARegisterValue(3, 10);
+        run();
+        assertEquals(8, _engine.getExecOrUserARegisterValue(3));
+    }
+
+    @Test
+    public void testAA_partialWord() throws MachineInterrupt {
+        setupExtendedMode(new long[]{ em(0_14, Constants.JFIELD_H1, 3, 0), 0 }, new long[]{ data(0_000100, 0_777777) });
+        _engine.setExecOrUserARegisterValue(3, 1);
+        run();
+        assertEquals(0_101, _engine.getExecOrUserARegisterValue(3));
+    }
+
+    @Test
+    public void testANA() throws MachineInterrupt {
+        runAdd(0_15, 5, 7);
+        assertEquals(Word36.negate(2), _engine.getExecOrUserARegisterValue(3));
+        assertFalse(_engine.getDesignatorRegister().isCarry());
+        assertFalse(_engine.getDesignatorRegister().isOverflow());
+    }
+
+    @Test
+    public void testANA_self() throws MachineInterrupt {
+        runAdd(0_15, 0_4444, 0_4444);
+        assertEquals(Word36.POSITIVE_ZERO, _engine.getExecOrUserARegisterValue(3));
+    }
+
+    @Test
+    public void testAMA() throws MachineInterrupt {
+        runAdd(0_16, 1, Word36.negate(4));
+        assertEquals(5, _engine.getExecOrUserARegisterValue(3));
+    }
+
+    @Test
+    public void testANMA() throws MachineInterrupt {
+        runAdd(0_17, 1, Word36.negate(4));
+        assertEquals(Word36.negate(3), _engine.getExecOrUserARegisterValue(3));
+
+        _engine = new Engine();
+        runAdd(0_17, 1, 4);
+        assertEquals(Word36.negate(3), _engine.getExecOrUserARegisterValue(3));
+    }
+
+    @Test
+    public void testAU() throws MachineInterrupt {
+        runAdd(0_20, 5, 3);
+        assertEquals(5, _engine.getExecOrUserARegisterValue(3));
+        assertEquals(8, _engine.getExecOrUserARegisterValue(4));
+    }
+
+    @Test
+    public void testANU() throws MachineInterrupt {
+        runAdd(0_21, 5, 3);
+        assertEquals(5, _engine.getExecOrUserARegisterValue(3));
+        assertEquals(2, _engine.getExecOrUserARegisterValue(4));
+    }
+
+    @Test
+    public void testAX() throws MachineInterrupt {
+        setupExtendedMode(new long[]{ em(0_24, 5, 0), 0 }, new long[]{ Word36.negate(4) });
+        _engine.setExecOrUserXRegisterValue(5, 10);
+        run();
+        assertEquals(6, _engine.getExecOrUserXRegisterValue(5));
+        assertTrue(_engine.getDesignatorRegister().isCarry());
+    }
+
+    @Test
+    public void testANX() throws MachineInterrupt {
+        setupExtendedMode(new long[]{ em(0_25, 5, 0), 0 }, new long[]{ 4 });
+        _engine.setExecOrUserXRegisterValue(5, 10);
+        run();
+        assertEquals(6, _engine.getExecOrUserXRegisterValue(5));
+    }
+
+    @Test
+    public void testBAO() throws MachineInterrupt {
+        setupExtendedMode(new long[]{ em(0_72, 0_13, 3, 0), em(0_72, 0_13, 4, 1), 0 },
+                          new long[]{ 0_707, Word36.NEGATIVE_ZERO });
+        _engine.setExecOrUserARegisterValue(3, 10);
+        _engine.setExecOrUserARegisterValue(4, Word36.negate(40));
+        run();
+        assertEquals(16, _engine.getExecOrUserARegisterValue(3));
+        assertEquals(Word36.negate(4), _engine.getExecOrUserARegisterValue(4));
+    }
+}
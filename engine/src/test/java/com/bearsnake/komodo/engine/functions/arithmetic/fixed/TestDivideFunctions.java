@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionUnitTest;
+import com.bearsnake.komodo.engine.interrupts.ArithmeticExceptionInterrupt;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the fixed-point divide instructions - DI, DSF, and DF
+ */
+public class TestDivideFunctions extends FunctionUnitTest {
+
+    private static final long MASK = Word36.BIT_MASK;
+
+    @BeforeEach
+    public void setup() {
+        _engine = new Engine();
+        _engine.getDesignatorRegister().clear();
+    }
+
+    private void setupDivide(
+        final long f,
+        final long aHigh,
+        final long aLow,
+        final long operand
+    ) {
+        setupExtendedMode(new long[]{ fjaxhibd(f, 0, 4, 0, 0, 0, 1, 0), 0 }, new long[]{ operand });
+        _engine.setExecOrUserARegisterValue(4, aHigh);
+        _engine.setExecOrUserARegisterValue(5, aLow);
+    }
+
+    private void runDivide(
+        final long f,
+        final long aHigh,
+        final long aLow,
+        final long operand
+    ) throws MachineInterrupt {
+        setupDivide(f, aHigh, aLow, operand);
+        run();
+    }
+
+    private void assertRegisters(
+        final long expectedHigh,
+        final long expectedLow
+    ) {
+        assertEquals(expectedHigh, _engine.getExecOrUserARegisterValue(4));
+        assertEquals(expectedLow, _engine.getExecOrUserARegisterValue(5));
+    }
+
+    @Test
+    public void testDI() throws MachineInterrupt {
+        runDivide(0_34, 0, 100, 7);
+        assertRegisters(14, 2);
+        assertFalse(_engine.getDesignatorRegister().isDivideCheck());
+    }
+
+    @Test
+    public void testDI_negativeDividend() throws MachineInterrupt {
+        runDivide(0_34, MASK, Word36.negate(100), 7);
+        assertRegisters(Word36.negate(14), Word36.negate(2));
+    }
+
+    @Test
+    public void testDI_negativeDivisor() throws MachineInterrupt {
+        runDivide(0_34, 0, 100, Word36.negate(7));
+        assertRegisters(Word36.negate(14), 2);
+    }
+
+    @Test
+    public void testDI_exact() throws MachineInterrupt {
+        runDivide(0_34, MASK, Word36.negate(21), Word36.negate(7));
+        assertRegisters(3, 0);
+    }
+
+    @Test
+    public void testDI_largest() throws MachineInterrupt {
+        // ((2^35 - 1)^2 + 4) / (2^35 - 1)
+        runDivide(0_34, 0_177777_777777L, 5, 0_377777_777777L);
+        assertRegisters(0_377777_777777L, 4);
+    }
+
+    @Test
+    public void testDI_randomized() throws MachineInterrupt {
+        var random = new Random(0_3434);
+        for (int tx = 0; tx < 500; tx++) {
+            var divisor = BigInteger.valueOf((random.nextLong() >>> 29) | 1);
+            var quotient = BigInteger.valueOf(random.nextLong() >>> 29).mod(BigInteger.ONE.shiftLeft(35));
+            var remainder = BigInteger.valueOf(random.nextLong() >>> 29).mod(divisor);
+            var dividend = quotient.multiply(divisor).add(remainder);
+
+            _engine = new Engine();
+            _engine.getDesignatorRegister().clear();
+            runDivide(0_34, dividend.shiftRight(36).longValue(), dividend.longValue() & MASK, divisor.longValue());
+            assertRegisters(quotient.longValue(), remainder.longValue());
+        }
+    }
+
+    @Test
+    public void testDI_divideByZero() throws MachineInterrupt {
+        runDivide(0_34, 0, 100, Word36.NEGATIVE_ZERO);
+        assertTrue(_engine.getDesignatorRegister().isDivideCheck());
+        assertRegisters(0, 100);
+    }
+
+    @Test
+    public void testDI_quotientTooLarge() throws MachineInterrupt {
+        runDivide(0_34, 0_1, 0, 2);
+        assertTrue(_engine.getDesignatorRegister().isDivideCheck());
+        assertRegisters(1, 0);
+    }
+
+    @Test
+    public void testDI_divideCheckInterrupt() {
+        setupDivide(0_34, 0, 100, 0);
+        _engine.getDesignatorRegister().setArithmeticExceptionEnabled(true);
+
+        var ex = assertThrows(ArithmeticExceptionInterrupt.class, this::run);
+        assertEquals(ArithmeticExceptionInterrupt.Reason.DivideCheck, ex.getReason());
+        assertTrue(_engine.getDesignatorRegister().isDivideCheck());
+        assertRegisters(0, 100);
+
+        // The instruction faulted, so the PAR still points at it
+        assertEquals(0_1000, _engine.getProgramAddressRegister().getProgramCounter());
+    }
+
+    @Test
+    public void testDSF() throws MachineInterrupt {
+        // 1/2 as a fraction
+        runDivide(0_35, 1, 0_252525, 2);
+        assertRegisters(1, 0_200000_000000L);
+    }
+
+    @Test
+    public void testDSF_negative() throws MachineInterrupt {
+        runDivide(0_35, Word36.negate(1), 0, 4);
+        assertRegisters(Word36.negate(1), Word36.negate(0_100000_000000L));
+    }
+
+    @Test
+    public void testDSF_divideCheck() throws MachineInterrupt {
+        runDivide(0_35, 5, 0_252525, Word36.negate(5));
+        assertTrue(_engine.getDesignatorRegister().isDivideCheck());
+        assertRegisters(5, 0_252525);
+    }
+
+    @Test
+    public void testDF() throws MachineInterrupt {
+        runDivide(0_36, 0, 200, 7);
+        assertRegisters(14, 2);
+    }
+
+    @Test
+    public void testDF_fractions() throws MachineInterrupt {
+        // 0.25 / 0.5 == 0.5
+        runDivide(0_36, 0_100000_000000L, 0, 0_200000_000000L);
+        assertRegisters(0_200000_000000L, 0);
+    }
+
+    @Test
+    public void testDF_negative() throws MachineInterrupt {
+        runDivide(0_36, MASK, Word36.negate(200), 7);
+        assertRegisters(Word36.negate(14), Word36.negate(2));
+    }
+
+    @Test
+    public void testDF_divideCheck() throws MachineInterrupt {
+        runDivide(0_36, 0_100000_000000L, 0, 0_100000_000000L);
+        assertTrue(_engine.getDesignatorRegister().isDivideCheck());
+        assertRegisters(0_100000_000000L, 0);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionUnitTest;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import com.bearsnake.komodo.engine.interrupts.OperationTrapInterrupt;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the double-precision add instructions - DA and DAN
+ */
+public class TestDoubleAddFunctions extends FunctionUnitTest {
+
+    private static final long MASK = Word36.BIT_MASK;
+
+    @BeforeEach
+    public void setup() {
+        _engine = new Engine();
+        _engine.getDesignatorRegister().clear();
+    }
+
+    private void runDouble(
+        final long j,
+        final long aHigh,
+        final long aLow,
+        final long uHigh,
+        final long uLow
+    ) throws MachineInterrupt {
+        setupExtendedMode(new long[]{ fjaxhibd(0_71, j, 2, 0, 0, 0, 1, 0), 0 }, new long[]{ uHigh, uLow });
+        _engine.setExecOrUserARegisterValue(2, aHigh);
+        _engine.setExecOrUserARegisterValue(3, aLow);
+        run();
+    }
+
+    private void assertResult(
+        final long expectedHigh,
+        final long expectedLow,
+        final boolean expectedCarry,
+        final boolean expectedOverflow
+    ) {
+        assertEquals(expectedHigh, _engine.getExecOrUserARegisterValue(2));
+        assertEquals(expectedLow, _engine.getExecOrUserARegisterValue(3));
+        assertEquals(expectedCarry, _engine.getDesignatorRegister().isCarry());
+        assertEquals(expectedOverflow, _engine.getDesignatorRegister().isOverflow());
+    }
+
+    @Test
+    public void testDA_simple() throws MachineInterrupt {
+        runDouble(0_10, 0, 5, 0, 3);
+        assertResult(0, 8, false, false);
+    }
+
+    @Test
+    public void testDA_carryBetweenWords() throws MachineInterrupt {
+        runDouble(0_10, 0, MASK, 0, 1);
+        assertResult(1, 0, false, false);
+    }
+
+    @Test
+    public void testDA_mixedSigns() throws MachineInterrupt {
+        runDouble(0_10, 0, 5, MASK, Word36.negate(3));
+        assertResult(0, 2, true, false);
+    }
+
+    @Test
+    public void testDA_bothNegative() throws MachineInterrupt {
+        runDouble(0_10, Word36.negate(1), Word36.negate(5), Word36.negate(2), Word36.negate(3));
+        assertResult(Word36.negate(3), Word36.negate(8), true, false);
+    }
+
+    @Test
+    public void testDA_cancelToPositiveZero() throws MachineInterrupt {
+        runDouble(0_10, 1, 2, Word36.negate(1), Word36.negate(2));
+        assertResult(0, 0, true, false);
+    }
+
+    @Test
+    public void testDA_negativeZeros() throws MachineInterrupt {
+        runDouble(0_10, MASK, MASK, MASK, MASK);
+        assertResult(MASK, MASK, true, false);
+    }
+
+    @Test
+    public void testDA_overflow() throws MachineInterrupt {
+        runDouble(0_10, 0_377777_777777L, MASK, 0, 1);
+        assertResult(0_400000_000000L, 0, false, true);
+    }
+
+    @Test
+    public void testDA_overflowTrap() {
+        setupExtendedMode(new long[]{ fjaxhibd(0_71, 0_10, 2, 0, 0, 0, 1, 0), 0 }, new long[]{ 0, 1 });
+        _engine.getDesignatorRegister().setOperationTrapEnabled(true);
+        _engine.setExecOrUserARegisterValue(2, 0_377777_777777L);
+        _engine.setExecOrUserARegisterValue(3, MASK);
+
+        var ex = assertThrows(OperationTrapInterrupt.class, this::run);
+        assertEquals(OperationTrapInterrupt.Reason.FixedPointBinaryIntegerOverflow, ex.getReason());
+        assertEquals(0_400000_000000L, _engine.getExecOrUserARegisterValue(2));
+    }
+
+    @Test
+    public void testDAN() throws MachineInterrupt {
+        runDouble(0_11, 0, 5, 0, 7);
+        assertResult(MASK, Word36.negate(2), false, false);
+    }
+
+    @Test
+    public void testDAN_borrowBetweenWords() throws MachineInterrupt {
+        runDouble(0_11, 1, 0, 0, 1);
+        assertResult(0, MASK, true, false);
+    }
+
+    @Test
+    public void testDAN_self() throws MachineInterrupt {
+        runDouble(0_11, 0_1234, 0_5670, 0_1234, 0_5670);
+        assertResult(0, 0, true, false);
+    }
+}
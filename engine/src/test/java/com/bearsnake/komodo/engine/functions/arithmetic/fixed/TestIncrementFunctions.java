@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Constants;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionUnitTest;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import com.bearsnake.komodo.engine.interrupts.OperationTrapInterrupt;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the f=05 read-modify-write arithmetic instructions - INC, DEC, INC2, DEC2, ENZ, ADD1, and SUB1
+ */
+public class TestIncrementFunctions extends FunctionUnitTest {
+
+    private static final long INC = 0_10;
+    private static final long DEC = 0_11;
+    private static final long INC2 = 0_12;
+    private static final long DEC2 = 0_13;
+    private static final long ENZ = 0_14;
+    private static final long ADD1 = 0_15;
+    private static final long SUB1 = 0_16;
+
+    private long em05(long j, long a, long b, long d) {
+        return fjaxhibd(0_05, j, a, 0, 0, 0, b, d);
+    }
+
+    @BeforeEach
+    public void setup() {
+        _engine = new Engine();
+        _engine.getDesignatorRegister().clear();
+    }
+
+    /**
+     * Runs the given f=05 instruction against the single data word, followed by an LA,U A0,077
+     * which will be skipped if the instruction skips.
+     * @return true if the instruction skipped
+     */
+    private boolean runIncrement(
+        final long aField,
+        final long j,
+        final long[] data
+    ) throws MachineInterrupt {
+        var code = new long[]{
+            em05(j, aField, 1, 0),
+            fjaxu(0_10, Constants.JFIELD_U, 0, 0, 077),
+            0
+        };
+        setupExtendedMode(code, data);
+        run();
+        return _engine.getExecOrUserARegisterValue(0) == 0;
+    }
+
+    @Test
+    public void testINC() throws MachineInterrupt {
+        var data = new long[]{ 5 };
+        assertFalse(runIncrement(INC, Constants.JFIELD_W, data));
+        assertEquals(6, data[0]);
+    }
+
+    @Test
+    public void testINC_toZero() throws MachineInterrupt {
+        var data = new long[]{ Word36.NEGATIVE_ONE };
+        assertTrue(runIncrement(INC, Constants.JFIELD_W, data));
+        assertEquals(Word36.POSITIVE_ZERO, data[0]);
+    }
+
+    @Test
+    public void testINC_negativeZero() throws MachineInterrupt {
+        var data = new long[]{ Word36.NEGATIVE_ZERO };
+        assertFalse(runIncrement(INC, Constants.JFIELD_W, data));
+        assertEquals(1, data[0]);
+    }
+
+    @Test
+    public void testINC_doesNotAffectDesignators() throws MachineInterrupt {
+        var data = new long[]{ 0_377777_777777L };
+        assertFalse(runIncrement(INC, Constants.JFIELD_W, data));
+        assertEquals(0_400000_000000L, data[0]);
+        assertFalse(_engine.getDesignatorRegister().isCarry());
+        assertFalse(_engine.getDesignatorRegister().isOverflow());
+    }
+
+    @Test
+    public void testINC_partialWord() throws MachineInterrupt {
+        var data = new long[]{ data(0_123, 5) };
+        assertFalse(runIncrement(INC, Constants.JFIELD_H2, data));
+        assertEquals(data(0_123, 6), data[0]);
+    }
+
+    @Test
+    public void testINC_GRS() throws MachineInterrupt {
+        var code = new long[]{
+            em05(Constants.JFIELD_W, INC, 0, Constants.GRS_A0 + 3),
+            0
+        };
+        setupExtendedMode(code, null);
+        _engine.setExecOrUserARegisterValue(3, 0_77);
+        run();
+        assertEquals(0_100, _engine.getExecOrUserARegisterValue(3));
+    }
+
+    @Test
+    public void testDEC() throws MachineInterrupt {
+        var data = new long[]{ 5 };
+        assertFalse(runIncrement(DEC, Constants.JFIELD_W, data));
+        assertEquals(4, data[0]);
+    }
+
+    @Test
+    public void testDEC_toZero() throws MachineInterrupt {
+        var data = new long[]{ 1 };
+        assertTrue(runIncrement(DEC, Constants.JFIELD_W, data));
+        assertEquals(Word36.POSITIVE_ZERO, data[0]);
+    }
+
+    @Test
+    public void testDEC_fromZero() throws MachineInterrupt {
+        var data = new long[]{ 0 };
+        assertFalse(runIncrement(DEC, Constants.JFIELD_W, data));
+        assertEquals(Word36.NEGATIVE_ONE, data[0]);
+    }
+
+    @Test
+    public void testINC2() throws MachineInterrupt {
+        var data = new long[]{ Word36.negate(2) };
+        assertTrue(runIncrement(INC2, Constants.JFIELD_W, data));
+        assertEquals(Word36.POSITIVE_ZERO, data[0]);
+    }
+
+    @Test
+    public void testDEC2() throws MachineInterrupt {
+        var data = new long[]{ 5 };
+        assertFalse(runIncrement(DEC2, Constants.JFIELD_W, data));
+        assertEquals(3, data[0]);
+    }
+
+    @Test
+    public void testENZ() throws MachineInterrupt {
+        var data = new long[]{ Word36.NEGATIVE_ZERO };
+        assertFalse(runIncrement(ENZ, Constants.JFIELD_W, data));
+        assertEquals(Word36.POSITIVE_ZERO, data[0]);
+    }
+
+    @Test
+    public void testENZ_nonZero() throws MachineInterrupt {
+        var data = new long[]{ Word36.NEGATIVE_ONE };
+        assertFalse(runIncrement(ENZ, Constants.JFIELD_W, data));
+        assertEquals(Word36.NEGATIVE_ONE, data[0]);
+    }
+
+    @Test
+    public void testENZ_partialWord() throws MachineInterrupt {
+        var data = new long[]{ data(0_777777, 5) };
+        assertFalse(runIncrement(ENZ, Constants.JFIELD_XH1, data));
+        assertEquals(data(0, 5), data[0]);
+    }
+
+    @Test
+    public void testADD1() throws MachineInterrupt {
+        var data = new long[]{ Word36.NEGATIVE_ONE };
+        assertFalse(runIncrement(ADD1, Constants.JFIELD_W, data));
+        assertEquals(Word36.POSITIVE_ZERO, data[0]);
+        assertTrue(_engine.getDesignatorRegister().isCarry());
+        assertFalse(_engine.getDesignatorRegister().isOverflow());
+    }
+
+    @Test
+    public void testADD1_overflowTrap() {
+        var data = new long[]{ 0_377777_777777L };
+        setupExtendedMode(new long[]{ em05(Constants.JFIELD_W, ADD1, 1, 0), 0 }, data);
+        _engine.getDesignatorRegister().setOperationTrapEnabled(true);
+
+        var ex = assertThrows(OperationTrapInterrupt.class, this::run);
+        assertEquals(OperationTrapInterrupt.Reason.FixedPointBinaryIntegerOverflow, ex.getReason());
+        assertEquals(0_400000_000000L, data[0]);
+        assertTrue(_engine.getDesignatorRegister().isOverflow());
+    }
+
+    @Test
+    public void testSUB1() throws MachineInterrupt {
+        var data = new long[]{ 0 };
+        assertFalse(runIncrement(SUB1, Constants.JFIELD_W, data));
+        assertEquals(Word36.NEGATIVE_ONE, data[0]);
+        assertFalse(_engine.getDesignatorRegister().isCarry());
+        assertFalse(_engine.getDesignatorRegister().isOverflow());
+    }
+}
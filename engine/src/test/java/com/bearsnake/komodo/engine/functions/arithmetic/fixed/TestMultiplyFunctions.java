@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionUnitTest;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import com.bearsnake.komodo.engine.interrupts.OperationTrapInterrupt;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the fixed-point multiply instructions - MI, MSI, and MF
+ */
+public class TestMultiplyFunctions extends FunctionUnitTest {
+
+    private static final long MASK = Word36.BIT_MASK;
+
+    @BeforeEach
+    public void setup() {
+        _engine = new Engine();
+        _engine.getDesignatorRegister().clear();
+    }
+
+    private void runMultiply(
+        final long f,
+        final long aValue,
+        final long operand
+    ) throws MachineInterrupt {
+        setupExtendedMode(new long[]{ fjaxhibd(f, 0, 4, 0, 0, 0, 1, 0), 0 }, new long[]{ operand });
+        _engine.setExecOrUserARegisterValue(4, aValue);
+        _engine.setExecOrUserARegisterValue(5, 0_252525_252525L);
+        run();
+    }
+
+    @Test
+    public void testMI() throws MachineInterrupt {
+        runMultiply(0_30, 3, Word36.negate(4));
+        assertEquals(MASK, _engine.getExecOrUserARegisterValue(4));
+        assertEquals(Word36.negate(12), _engine.getExecOrUserARegisterValue(5));
+    }
+
+    @Test
+    public void testMI_largest() throws MachineInterrupt {
+        // (2^35 - 1)^2 == 2^70 - 2^36 + 1
+        runMultiply(0_30, 0_377777_777777L, 0_377777_777777L);
+        assertEquals(0_177777_777777L, _engine.getExecOrUserARegisterValue(4));
+        assertEquals(1, _engine.getExecOrUserARegisterValue(5));
+    }
+
+    @Test
+    public void testMI_largestNegative() throws MachineInterrupt {
+        runMultiply(0_30, 0_400000_000000L, 0_377777_777777L);
+        assertEquals(0_600000_000000L, _engine.getExecOrUserARegisterValue(4));
+        assertEquals(Word36.negate(1), _engine.getExecOrUserARegisterValue(5));
+    }
+
+    @Test
+    public void testMI_negativeZero() throws MachineInterrupt {
+        runMultiply(0_30, Word36.NEGATIVE_ZERO, 5);
+        assertEquals(0, _engine.getExecOrUserARegisterValue(4));
+        assertEquals(0, _engine.getExecOrUserARegisterValue(5));
+    }
+
+    @Test
+    public void testMSI() throws MachineInterrupt {
+        runMultiply(0_31, Word36.negate(6), 7);
+        assertEquals(Word36.negate(42), _engine.getExecOrUserARegisterValue(4));
+        assertEquals(0_252525_252525L, _engine.getExecOrUserARegisterValue(5));
+        assertFalse(_engine.getDesignatorRegister().isOverflow());
+    }
+
+    @Test
+    public void testMSI_largest() throws MachineInterrupt {
+        runMultiply(0_31, 0_377777_777777L, 1);
+        assertEquals(0_377777_777777L, _engine.getExecOrUserARegisterValue(4));
+        assertFalse(_engine.getDesignatorRegister().isOverflow());
+    }
+
+    @Test
+    public void testMSI_overflow() throws MachineInterrupt {
+        runMultiply(0_31, 0_400000, 0_1000000);
+        assertTrue(_engine.getDesignatorRegister().isOverflow());
+    }
+
+    @Test
+    public void testMSI_overflowTrap() {
+        setupExtendedMode(new long[]{ fjaxhibd(0_31, 0, 4, 0, 0, 0, 1, 0), 0 }, new long[]{ 0_1000000 });
+        _engine.getDesignatorRegister().setOperationTrapEnabled(true);
+        _engine.setExecOrUserARegisterValue(4, 0_400000);
+
+        var ex = assertThrows(OperationTrapInterrupt.class, this::run);
+        assertEquals(OperationTrapInterrupt.Reason.MultiplySingleIntegerOverflow, ex.getReason());
+        assertTrue(_engine.getDesignatorRegister().isOverflow());
+    }
+
+    @Test
+    public void testMF() throws MachineInterrupt {
+        // 0.5 * 0.5 == 0.25
+        runMultiply(0_32, 0_200000_000000L, 0_200000_000000L);
+        assertEquals(0_100000_000000L, _engine.getExecOrUserARegisterValue(4));
+        assertEquals(0, _engine.getExecOrUserARegisterValue(5));
+    }
+
+    @Test
+    public void testMF_negative() throws MachineInterrupt {
+        runMultiply(0_32, Word36.negate(0_200000_000000L), 0_200000_000000L);
+        assertEquals(Word36.negate(0_100000_000000L), _engine.getExecOrUserARegisterValue(4));
+        assertEquals(MASK, _engine.getExecOrUserARegisterValue(5));
+    }
+
+    @Test
+    public void testMF_lowOrderBits() throws MachineInterrupt {
+        // The smallest fractions multiply to 2^-70, which is the lowest-order bit of the shifted product
+        runMultiply(0_32, 1, 1);
+        assertEquals(0, _engine.getExecOrUserARegisterValue(4));
+        assertEquals(2, _engine.getExecOrUserARegisterValue(5));
+    }
+}
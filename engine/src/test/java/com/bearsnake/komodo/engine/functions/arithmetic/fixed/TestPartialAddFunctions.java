@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.fixed;
+
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionUnitTest;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the partial-word add instructions - AH, ANH, AT, and ANT
+ */
+public class TestPartialAddFunctions extends FunctionUnitTest {
+
+    @BeforeEach
+    public void setup() {
+        _engine = new Engine();
+        _engine.getDesignatorRegister().clear();
+    }
+
+    private long runPartial(
+        final long j,
+        final long aValue,
+        final long operand
+    ) throws MachineInterrupt {
+        setupExtendedMode(new long[]{ fjaxhibd(0_72, j, 6, 0, 0, 0, 1, 0), 0 }, new long[]{ operand });
+        _engine.setExecOrUserARegisterValue(6, aValue);
+        run();
+        return _engine.getExecOrUserARegisterValue(6);
+    }
+
+    @Test
+    public void testAH() throws MachineInterrupt {
+        assertEquals(data(3, 0_777774), runPartial(0_04, data(1, 0_777776), data(2, 0_777775)));
+    }
+
+    @Test
+    public void testAH_noCarryBetweenHalves() throws MachineInterrupt {
+        assertEquals(data(0_400000, 0), runPartial(0_04, data(0_377777, 0_777776), data(1, 1)));
+        assertFalse(_engine.getDesignatorRegister().isCarry());
+        assertFalse(_engine.getDesignatorRegister().isOverflow());
+    }
+
+    @Test
+    public void testAH_negativeZeros() throws MachineInterrupt {
+        assertEquals(data(0_777777, 0), runPartial(0_04, data(0_777777, 5), data(0_777777, 0_777772)));
+    }
+
+    @Test
+    public void testANH() throws MachineInterrupt {
+        assertEquals(data(2, 0_777775), runPartial(0_05, data(5, 5), data(3, 7)));
+    }
+
+    @Test
+    public void testAT() throws MachineInterrupt {
+        assertEquals(data(2, 1, 3), runPartial(0_06, data(1, 2, 3), data(1, 0_7776, 0)));
+    }
+
+    @Test
+    public void testAT_noCarryBetweenThirds() throws MachineInterrupt {
+        assertEquals(data(0_4000, 0_4000, 0_4000), runPartial(0_06, data(0_3777, 0_3777, 0_3777), data(1, 1, 1)));
+    }
+
+    @Test
+    public void testANT() throws MachineInterrupt {
+        assertEquals(data(0, 0, 0), runPartial(0_07, data(1, 2, 3), data(1, 2, 3)));
+    }
+}
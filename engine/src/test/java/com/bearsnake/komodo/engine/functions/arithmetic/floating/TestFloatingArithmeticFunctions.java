@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.floating;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.FloatingPointComponents;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicOverflowException;
+import com.bearsnake.komodo.engine.exceptions.CharacteristicUnderflowException;
+import com.bearsnake.komodo.engine.exceptions.DivideByZeroException;
+import com.bearsnake.komodo.engine.functions.FunctionUnitTest;
+import com.bearsnake.komodo.engine.interrupts.ArithmeticExceptionInterrupt;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the floating point arithmetic instructions - FA, FAN, FM, FD, DFA, DFAN, DFM, and DFD
+ */
+public class TestFloatingArithmeticFunctions extends FunctionUnitTest {
+
+    @BeforeEach
+    public void setup() {
+        _engine = new Engine();
+        _engine.getDesignatorRegister().clear();
+    }
+
+    private static long single(
+        final double value
+    ) throws CharacteristicOverflowException,
+             CharacteristicUnderflowException {
+        return new FloatingPointComponents(value).toWord36();
+    }
+
+    private static long[] doubleWords(
+        final double value
+    ) throws CharacteristicOverflowException,
+             CharacteristicUnderflowException {
+        var result = new long[2];
+        new FloatingPointComponents(value).toDoubleWord36(result, 0);
+        return result;
+    }
+
+    private void setupSingle(
+        final long j,
+        final long aValue,
+        final long operand
+    ) {
+        setupExtendedMode(new long[]{ fjaxhibd(0_76, j, 5, 0, 0, 0, 1, 0), 0 }, new long[]{ operand });
+        _engine.setExecOrUserARegisterValue(5, aValue);
+    }
+
+    private void runSingle(
+        final long j,
+        final long aValue,
+        final long operand
+    ) throws MachineInterrupt {
+        setupSingle(j, aValue, operand);
+        run();
+    }
+
+    private void runDouble(
+        final long j,
+        final long[] aValue,
+        final long[] operand
+    ) throws MachineInterrupt {
+        setupExtendedMode(new long[]{ fjaxhibd(0_76, j, 6, 0, 0, 0, 1, 0), 0 }, operand);
+        _engine.setExecOrUserARegisterValue(6, aValue[0]);
+        _engine.setExecOrUserARegisterValue(7, aValue[1]);
+        run();
+    }
+
+    private void assertDouble(
+        final long[] expected
+    ) {
+        assertEquals(expected[0], _engine.getExecOrUserARegisterValue(6));
+        assertEquals(expected[1], _engine.getExecOrUserARegisterValue(7));
+    }
+
+    @Test
+    public void testFA() throws MachineInterrupt, CharacteristicOverflowException, CharacteristicUnderflowException {
+        runSingle(0_00, single(1.5), single(2.25));
+        assertEquals(single(3.75), _engine.getExecOrUserARegisterValue(5));
+        assertFalse(_engine.getDesignatorRegister().isCharacteristicOverflow());
+    }
+
+    @Test
+    public void testFA_cancelToPositiveZero() throws MachineInterrupt, CharacteristicOverflowException, CharacteristicUnderflowException {
+        runSingle(0_00, single(-6.0), single(6.0));
+        assertEquals(Word36.POSITIVE_ZERO, _engine.getExecOrUserARegisterValue(5));
+    }
+
+    @Test
+    public void testFA_overflow() throws MachineInterrupt {
+        runSingle(0_00, 0_377_400000000L, 0_377_400000000L);
+        assertTrue(_engine.getDesignatorRegister().isCharacteristicOverflow());
+        assertEquals(0_377_400000000L, _engine.getExecOrUserARegisterValue(5));
+    }
+
+    @Test
+    public void testFA_overflowInterrupt() {
+        setupSingle(0_00, 0_377_400000000L, 0_377_400000000L);
+        _engine.getDesignatorRegister().setArithmeticExceptionEnabled(true);
+
+        var ex = assertThrows(ArithmeticExceptionInterrupt.class, this::run);
+        assertEquals(ArithmeticExceptionInterrupt.Reason.CharacteristicOverflow, ex.getReason());
+        assertEquals(0_377_400000000L, _engine.getExecOrUserARegisterValue(5));
+    }
+
+    @Test
+    public void testFAN() throws MachineInterrupt, CharacteristicOverflowException, CharacteristicUnderflowException {
+        runSingle(0_01, single(1.5), single(2.25));
+        assertEquals(single(-0.75), _engine.getExecOrUserARegisterValue(5));
+    }
+
+    @Test
+    public void testFM() throws MachineInterrupt, CharacteristicOverflowException, CharacteristicUnderflowException {
+        runSingle(0_02, single(-1.5), single(2.25));
+        assertEquals(single(-3.375), _engine.getExecOrUserARegisterValue(5));
+    }
+
+    @Test
+    public void testFM_underflowInterrupt() {
+        setupSingle(0_02, 0_001_400000000L, 0_001_400000000L);
+        _engine.getDesignatorRegister().setArithmeticExceptionEnabled(true);
+
+        var ex = assertThrows(ArithmeticExceptionInterrupt.class, this::run);
+        assertEquals(ArithmeticExceptionInterrupt.Reason.CharacteristicUnderflow, ex.getReason());
+        assertTrue(_engine.getDesignatorRegister().isCharacteristicUnderflow());
+    }
+
+    @Test
+    public void testFD() throws MachineInterrupt, CharacteristicOverflowException, CharacteristicUnderflowException {
+        //  1/3 truncated to 27 bits
+        runSingle(0_03, single(1.0), single(3.0));
+        assertEquals(0_177_525252525L, _engine.getExecOrUserARegisterValue(5));
+    }
+
+    @Test
+    public void testFD_divideByZero() throws MachineInterrupt, CharacteristicOverflowException, CharacteristicUnderflowException {
+        runSingle(0_03, single(1.0), Word36.POSITIVE_ZERO);
+        assertTrue(_engine.getDesignatorRegister().isDivideCheck());
+        assertEquals(single(1.0), _engine.getExecOrUserARegisterValue(5));
+    }
+
+    @Test
+    public void testDFA() throws MachineInterrupt, CharacteristicOverflowException, CharacteristicUnderflowException {
+        runDouble(0_10, doubleWords(1.0e10), doubleWords(-0.125));
+        assertDouble(doubleWords(1.0e10 - 0.125));
+    }
+
+    @Test
+    public void testDFAN() throws MachineInterrupt, CharacteristicOverflowException, CharacteristicUnderflowException {
+        runDouble(0_11, doubleWords(1.0e10), doubleWords(-0.125));
+        assertDouble(doubleWords(1.0e10 + 0.125));
+    }
+
+    @Test
+    public void testDFM() throws MachineInterrupt, CharacteristicOverflowException, CharacteristicUnderflowException {
+        runDouble(0_12, doubleWords(-3.0e5), doubleWords(0.5));
+        assertDouble(doubleWords(-1.5e5));
+    }
+
+    @Test
+    public void testDFD()
+        throws MachineInterrupt, CharacteristicOverflowException, CharacteristicUnderflowException, DivideByZeroException {
+        var expected = new long[2];
+        FloatingPointComponents.divideDoubleExact(doubleWords(1.0), 0, doubleWords(3.0), 0, expected, 0);
+        runDouble(0_13, doubleWords(1.0), doubleWords(3.0));
+        assertDouble(expected);
+    }
+
+    @Test
+    public void testDFD_divideByZero() throws MachineInterrupt, CharacteristicOverflowException, CharacteristicUnderflowException {
+        runDouble(0_13, doubleWords(2.0), new long[]{ Word36.NEGATIVE_ZERO, Word36.NEGATIVE_ZERO });
+        assertTrue(_engine.getDesignatorRegister().isDivideCheck());
+        assertDouble(doubleWords(2.0));
+    }
+}
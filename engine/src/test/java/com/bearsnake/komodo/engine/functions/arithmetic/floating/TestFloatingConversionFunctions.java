@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.arithmetic.floating;
+
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionUnitTest;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the floating point pack, unpack, and conversion instructions - LUF, DFU, LCF, DLCF, FEL, FCL, CDU, and MCDU
+ */
+public class TestFloatingConversionFunctions extends FunctionUnitTest {
+
+    @BeforeEach
+    public void setup() {
+        _engine = new Engine();
+        _engine.getDesignatorRegister().clear();
+    }
+
+    private void run(
+        final long j,
+        final long[] aValues,
+        final long[] operands
+    ) throws MachineInterrupt {
+        setupExtendedMode(new long[]{ fjaxhibd(0_76, j, 4, 0, 0, 0, 1, 0), 0 }, operands);
+        for (int ax = 0; ax < aValues.length; ax++) {
+            _engine.setExecOrUserARegisterValue(4 + ax, aValues[ax]);
+        }
+        run();
+    }
+
+    private void assertRegisters(
+        final long... expected
+    ) {
+        for (int ax = 0; ax < expected.length; ax++) {
+            assertEquals(expected[ax], _engine.getExecOrUserARegisterValue(4 + ax), "A" + (4 + ax));
+        }
+    }
+
+    @Test
+    public void testLUF() throws MachineInterrupt {
+        run(0_04, new long[0], new long[]{ 0_203_412345670L });
+        assertRegisters(0_203, 0_000_412345670L);
+    }
+
+    @Test
+    public void testLUF_negative() throws MachineInterrupt {
+        run(0_04, new long[0], new long[]{ Word36.negate(0_203_412345670L) });
+        assertRegisters(0_203, Word36.negate(0_412345670L));
+    }
+
+    @Test
+    public void testDFU() throws MachineInterrupt {
+        run(0_14, new long[0], new long[]{ Word36.negate(0_2003_40123456L), Word36.negate(0_765432101234L) });
+        assertRegisters(0_2003, Word36.negate(0_40123456L), Word36.negate(0_765432101234L));
+    }
+
+    @Test
+    public void testLCF_normalizesLeft() throws MachineInterrupt {
+        run(0_05, new long[]{ 0_203 }, new long[]{ 0_1 });
+        assertRegisters(0_203, 0_151_400000000L);
+    }
+
+    @Test
+    public void testLCF_normalizesRight() throws MachineInterrupt {
+        //  bit 1 of the mantissa word is significant, so we shift right 8 bits and lose the low-order ones
+        run(0_05, new long[]{ 0_200 }, new long[]{ Word36.negate(0_200000_000777L) });
+        assertRegisters(0_200, Word36.negate(0_210_400000001L));
+    }
+
+    @Test
+    public void testLCF_zero() throws MachineInterrupt {
+        run(0_05, new long[]{ 0_200 }, new long[]{ Word36.NEGATIVE_ZERO });
+        assertRegisters(0_200, Word36.NEGATIVE_ZERO);
+    }
+
+    @Test
+    public void testLCF_underflow() throws MachineInterrupt {
+        run(0_05, new long[]{ 0_002, 0_1234 }, new long[]{ 0_1 });
+        assertTrue(_engine.getDesignatorRegister().isCharacteristicUnderflow());
+        assertRegisters(0_002, 0_1234);
+    }
+
+    @Test
+    public void testDLCF() throws MachineInterrupt {
+        run(0_15, new long[]{ 0_2000 }, new long[]{ 0, 0_3 });
+        //  3 is 2 significant bits - shift left 58, so characteristic 02000 - 58
+        assertRegisters(0_2000, 0_1706_60000000L, 0);
+    }
+
+    @Test
+    public void testDLCF_normalizesRight() throws MachineInterrupt {
+        run(0_15, new long[]{ 0_2000 }, new long[]{ 0_377777_777777L, 0_777777_777777L });
+        //  71 significant ones - shift right 11, so characteristic 02013
+        assertRegisters(0_2000, 0_2013_77777777L, 0_777777_777777L);
+    }
+
+    @Test
+    public void testFEL() throws MachineInterrupt {
+        run(0_16, new long[0], new long[]{ Word36.negate(0_203_412345670L) });
+        assertRegisters(Word36.negate(0_2003_41234567L), Word36.negate(0_000000_000000L));
+    }
+
+    @Test
+    public void testFCL() throws MachineInterrupt {
+        run(0_17, new long[0], new long[]{ 0_2003_41234567L, 0_012345_670123L });
+        assertRegisters(0_203_412345670L);
+    }
+
+    @Test
+    public void testFCL_overflow() throws MachineInterrupt {
+        run(0_17, new long[]{ 0_1234 }, new long[]{ 0_3003_40000000L, 0 });
+        assertTrue(_engine.getDesignatorRegister().isCharacteristicOverflow());
+        assertRegisters(0_1234);
+    }
+
+    @Test
+    public void testCDU() throws MachineInterrupt {
+        run(0_07, new long[]{ Word36.negate(0_203_400000000L) }, new long[]{ 0_210_400000000L });
+        assertRegisters(Word36.negate(0_203_400000000L), Word36.negate(5));
+    }
+
+    @Test
+    public void testMCDU() throws MachineInterrupt {
+        run(0_06, new long[]{ 0_203_400000000L }, new long[]{ Word36.negate(0_210_400000000L) });
+        assertRegisters(0_203_400000000L, 5);
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.procedurecontrol;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.engine.AbsoluteAddress;
+import com.bearsnake.komodo.engine.AccessPermissions;
+import com.bearsnake.komodo.engine.BankType;
+import com.bearsnake.komodo.engine.Constants;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.VirtualAddress;
+import com.bearsnake.komodo.engine.functions.FunctionUnitTest;
+import com.bearsnake.komodo.engine.interrupts.AddressingExceptionInterrupt;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import com.bearsnake.komodo.engine.interrupts.RCSGenericStackUnderflowOverflowInterrupt;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestProcedureControlFunctions extends FunctionUnitTest {
+
+    // Segment 0 holds the level 0 bank descriptor table at 0, and the code banks.
+    // Each code bank has limits 01000 to 01777.
+    private static final int BANK_A = 040;          // code for the caller
+    private static final int BANK_B = 041;          // code for the callee
+    private static final int BANK_BASIC = 042;      // basic mode bank
+    private static final int BANK_NO_ENTER = 043;   // no enter access
+    private static final int BANK_A_CODE = 02000;
+    private static final int BANK_B_CODE = 03000;
+    private static final int BANK_C_CODE = 04000;
+    private static final int RCS_SIZE = 0100;
+
+    private long[] _segment;
+    private long[] _data;
+
+    private long call(long d) { return fjaxhibd(0_07, 0_16, 0_13, 0, 0, 0, 1, d); }
+    private long gotoVA(long d) { return fjaxhibd(0_07, 0_16, 0_14, 0, 0, 0, 1, d); }
+    private long rtn() { return fjaxhibd(0_73, 0_17, 0_03, 0, 0, 0, 0, 0); }
+    private long lau(long a, long value) { return fjaxhiu(0_10, 0_16, a, 0, 0, 0, value); }
+
+    private long getA(int a) {
+        return _engine.getExecOrUserARegisterValue(a);
+    }
+
+    private long getEX0() {
+        return _engine.getGeneralRegisterSet().getW(Constants.GRS_EX0);
+    }
+
+    private void putCode(final int offset, final long... code) {
+        System.arraycopy(code, 0, _segment, offset, code.length);
+    }
+
+    @BeforeEach
+    public void setup() {
+        _segment = new long[010000];
+        _data = new long[0_2000];
+        writeBankDescriptor(_segment, 8 * BANK_A, BankType.ExtendedMode, 07, 07, 1, 01777, BANK_A_CODE - 01000);
+        writeBankDescriptor(_segment, 8 * BANK_B, BankType.ExtendedMode, 07, 07, 1, 01777, BANK_B_CODE - 01000);
+        writeBankDescriptor(_segment, 8 * BANK_BASIC, BankType.BasicMode, 07, 07, 1, 01777, BANK_B_CODE - 01000);
+        writeBankDescriptor(_segment, 8 * BANK_NO_ENTER, BankType.ExtendedMode, 03, 03, 1, 01777, BANK_B_CODE - 01000);
+
+        _engine = new Engine();
+        _engine.getDesignatorRegister().clear();
+        _engine.setMainStorage(segx -> (segx == 0) ? new ArraySlice(_segment) : null);
+
+        // level 0 BDT on B16, RCS on B25 (empty), caller's code on B0, data on B1
+        loadBaseRegister(16, false, 0, 0777, new AbsoluteAddress(0, 0), new ArraySlice(_segment, 0, 01000));
+        loadBaseRegister(25, false, 0, RCS_SIZE - 1, null, new ArraySlice(new long[RCS_SIZE]));
+        _engine.getGeneralRegisterSet().setW(Constants.GRS_EX0, RCS_SIZE);
+        loadBaseRegister(0, false, 01000, 01777, null, new ArraySlice(_segment, BANK_A_CODE, 01000));
+        loadBaseRegister(1, false, 0, 01777, new AbsoluteAddress(0, 0), new ArraySlice(_data));
+
+        _engine.getDesignatorRegister()
+               .setBasicModeEnabled(false)
+               .setProcessorPrivilege((short)3)
+               .setExecRegisterSetSelected(false);
+        _engine.getProgramAddressRegister().setProgramCounter(01000).setBankDescriptorIndex(BANK_A).setBankLevel((short)0);
+    }
+
+    @Test
+    public void testCALL_RTN() throws MachineInterrupt {
+        putCode(BANK_A_CODE, call(0100), lau(3, 07), 0);
+        putCode(BANK_B_CODE, lau(2, 05), rtn());
+        _data[0100] = VirtualAddress.getCompositeValue(0, BANK_B, 01000);
+
+        run();
+
+        assertEquals(05, getA(2));
+        assertEquals(07, getA(3));
+        assertEquals(RCS_SIZE, getEX0());
+        var par = _engine.getProgramAddressRegister();
+        assertEquals(0, par.getLevel());
+        assertEquals(BANK_A, par.getBankDescriptorIndex());
+        assertEquals(BANK_A_CODE, _engine.getBaseRegister(0).getStorage()._offset);
+    }
+
+    @Test
+    public void testCALL_Frame() throws MachineInterrupt {
+        putCode(BANK_A_CODE, call(0100));
+        putCode(BANK_B_CODE, 0);
+        _data[0100] = VirtualAddress.getCompositeValue(0, BANK_B, 01000);
+
+        run();
+
+        assertEquals(RCS_SIZE - 2, getEX0());
+        var rcs = _engine.getBaseRegister(Constants.RCS_BASE_REGISTER).getStorage();
+        assertEquals(VirtualAddress.getCompositeValue(0, BANK_A, 01001), rcs.get(RCS_SIZE - 2));
+        assertEquals(_engine.getDesignatorRegister().getWord36() & 0_000077_000000L, rcs.get(RCS_SIZE - 1));
+        assertEquals(BANK_B, _engine.getProgramAddressRegister().getBankDescriptorIndex());
+    }
+
+    @Test
+    public void testCALL_CachesBank() throws MachineInterrupt {
+        putCode(BANK_A_CODE, call(0100), call(0100), call(0100), 0);
+        putCode(BANK_B_CODE, rtn());
+        _data[0100] = VirtualAddress.getCompositeValue(0, BANK_B, 01000);
+
+        run();
+
+        // bank B is read on the first CALL, and bank A on the first RTN - all else comes from the cache
+        var cache = _engine.getBankDescriptorCache();
+        assertEquals(2, cache.getMissCount());
+        assertEquals(4, cache.getHitCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testCALL_DescriptorUpdatedByStore() throws MachineInterrupt {
+        // the caller rebases bank B on other code, by storing the base address offset into the BDT through B2
+        loadBaseRegister(2, false, 0, 0777, new AbsoluteAddress(0, 0), new ArraySlice(_segment, 0, 01000));
+        var storeOffset = fjaxhibd(0_01, 0, 4, 0, 0, 0, 2, 8 * BANK_B + 3);
+        putCode(BANK_A_CODE, call(0100), lau(4, BANK_C_CODE - 01000), storeOffset, call(0100), 0);
+        putCode(BANK_B_CODE, lau(2, 05), rtn());
+        putCode(BANK_C_CODE, lau(2, 011), rtn());
+        _data[0100] = VirtualAddress.getCompositeValue(0, BANK_B, 01000);
+
+        run();
+
+        assertEquals(011, getA(2));
+    }
+
+    @Test
+    public void testBank_DescriptorUpdatedExternally() throws MachineInterrupt {
+        assertEquals(BANK_B_CODE, _engine.getBank(0, BANK_B).getBaseRegister().getStorage()._offset);
+
+        // a change made without going through this engine is not seen until the cache is invalidated
+        _segment[8 * BANK_B + 3] = BANK_C_CODE - 01000;
+        assertEquals(BANK_B_CODE, _engine.getBank(0, BANK_B).getBaseRegister().getStorage()._offset);
+        _engine.invalidateBankDescriptorCache();
+        assertEquals(BANK_C_CODE, _engine.getBank(0, BANK_B).getBaseRegister().getStorage()._offset);
+    }
+
+    @Test
+    public void testCALL_Recursive() throws MachineInterrupt {
+        // bank B calls itself until A1 is zero, then each level returns - the last call fills the stack
+        putCode(BANK_A_CODE, call(0100), lau(3, 07), 0);
+        putCode(BANK_B_CODE,
+                fjaxhiu(0_74, 0, 1, 0, 0, 0, 01003),     // JZ A1,01003
+                fjaxhiu(0_15, 0_16, 1, 0, 0, 0, 1),      // ANA,U A1,1
+                call(0100),
+                rtn());
+        _data[0100] = VirtualAddress.getCompositeValue(0, BANK_B, 01000);
+        _engine.setExecOrUserARegisterValue(1, (RCS_SIZE / 2) - 1);
+
+        run();
+
+        assertEquals(0, getA(1));
+        assertEquals(07, getA(3));
+        assertEquals(RCS_SIZE, getEX0());
+    }
+
+    @Test
+    public void testCALL_Rebased() throws MachineInterrupt {
+        // loading B25 with a different stack is seen by the next CALL
+        putCode(BANK_A_CODE, call(0100), call(0100), 0);
+        putCode(BANK_B_CODE, rtn());
+        _data[0100] = VirtualAddress.getCompositeValue(0, BANK_B, 01000);
+        run();
+
+        var stack = new long[0200];
+        loadBaseRegister(25, false, 01000, 01177, null, new ArraySlice(stack));
+        _engine.getGeneralRegisterSet().setW(Constants.GRS_EX0, 01200);
+        var ex = assertThrows(RCSGenericStackUnderflowOverflowInterrupt.class, () -> _engine.popReturnControlStackFrame());
+        assertEquals(01200, ex.getRelativeAddress());
+
+        _engine.pushReturnControlStackFrame(0_123, 0_456);
+        assertEquals(01176, getEX0());
+        assertEquals(0_123, stack[0176]);
+        assertEquals(0_456, stack[0177]);
+    }
+
+    @Test
+    public void testGOTO() throws MachineInterrupt {
+        putCode(BANK_A_CODE, gotoVA(0100));
+        putCode(BANK_B_CODE, 0, lau(2, 05), 0);
+        _data[0100] = VirtualAddress.getCompositeValue(0, BANK_B, 01001);
+
+        run();
+
+        assertEquals(05, getA(2));
+        assertEquals(RCS_SIZE, getEX0());
+        assertEquals(BANK_B, _engine.getProgramAddressRegister().getBankDescriptorIndex());
+        assertEquals(01002, _engine.getProgramAddressRegister().getProgramCounter());
+    }
+
+    @Test
+    public void testCALL_BadBankType() {
+        putCode(BANK_A_CODE, call(0100), 0);
+        _data[0100] = VirtualAddress.getCompositeValue(0, BANK_BASIC, 01000);
+
+        var ex = assertThrows(AddressingExceptionInterrupt.class, this::run);
+        assertEquals(AddressingExceptionInterrupt.Reason.BDTypeInvalid, ex.getReason());
+        assertEquals(BANK_BASIC, ex.getBankDescriptorIndex());
+        assertEquals(RCS_SIZE, getEX0());
+    }
+
+    @Test
+    public void testCALL_EnterAccessDenied() {
+        putCode(BANK_A_CODE, call(0100), 0);
+        _data[0100] = VirtualAddress.getCompositeValue(0, BANK_NO_ENTER, 01000);
+        _engine.getBaseRegister(0).setGeneralAccessPermissions(AccessPermissions.ALL);
+        _engine.getBaseRegister(1).setGeneralAccessPermissions(AccessPermissions.ALL);
+        _engine.getActivityStatePacket().getIndicatorKeyRegister().setAccessKey((3 << 16) | 5);
+
+        var ex = assertThrows(AddressingExceptionInterrupt.class, this::run);
+        assertEquals(AddressingExceptionInterrupt.Reason.EnterAccessDenied, ex.getReason());
+        assertEquals(RCS_SIZE, getEX0());
+    }
+
+    @Test
+    public void testCALL_LevelZeroSmallBDI() {
+        putCode(BANK_A_CODE, call(0100), 0);
+        _data[0100] = VirtualAddress.getCompositeValue(0, 03, 01000);
+
+        var ex = assertThrows(AddressingExceptionInterrupt.class, this::run);
+        assertEquals(AddressingExceptionInterrupt.Reason.InvalidSourceLevelBDI, ex.getReason());
+    }
+
+    @Test
+    public void testCALL_BDIOutsideTable() {
+        putCode(BANK_A_CODE, call(0100), 0);
+        _data[0100] = VirtualAddress.getCompositeValue(0, 0200, 01000);
+
+        var ex = assertThrows(AddressingExceptionInterrupt.class, this::run);
+        assertEquals(AddressingExceptionInterrupt.Reason.InvalidSourceLevelBDI, ex.getReason());
+        assertEquals(0200, ex.getBankDescriptorIndex());
+    }
+
+    @Test
+    public void testCALL_Overflow() {
+        putCode(BANK_A_CODE, call(0100), 0);
+        _data[0100] = VirtualAddress.getCompositeValue(0, BANK_B, 01000);
+        _engine.getGeneralRegisterSet().setW(Constants.GRS_EX0, 1);
+
+        var ex = assertThrows(RCSGenericStackUnderflowOverflowInterrupt.class, this::run);
+        assertEquals(RCSGenericStackUnderflowOverflowInterrupt.Reason.Overflow, ex.getReason());
+        assertEquals(BANK_A, _engine.getProgramAddressRegister().getBankDescriptorIndex());
+    }
+
+    @Test
+    public void testRTN_Underflow() {
+        putCode(BANK_A_CODE, rtn(), 0);
+
+        var ex = assertThrows(RCSGenericStackUnderflowOverflowInterrupt.class, this::run);
+        assertEquals(RCSGenericStackUnderflowOverflowInterrupt.Reason.Underflow, ex.getReason());
+        assertEquals(Constants.RCS_BASE_REGISTER, ex.getBaseRegister());
+    }
+}
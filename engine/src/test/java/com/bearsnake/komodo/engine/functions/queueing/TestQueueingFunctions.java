@@ -0,0 +1,510 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.queueing;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.engine.AbsoluteAddress;
+import com.bearsnake.komodo.engine.BankDescriptor;
+import com.bearsnake.komodo.engine.BankType;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.exceptions.EngineHaltedException;
+import com.bearsnake.komodo.engine.functions.FunctionUnitTest;
+import com.bearsnake.komodo.engine.interrupts.AddressingExceptionInterrupt;
+import com.bearsnake.komodo.engine.interrupts.InvalidInstructionInterrupt;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestQueueingFunctions extends FunctionUnitTest {
+
+    // Segment 0 holds the level 0 bank descriptor table at 0, and the queue banks from QUEUE_BANK_STORAGE.
+    // Level 0 BDIs QUEUE_BANK through QUEUE_BANK + QUEUE_BANK_COUNT - 1 are queue banks of QUEUE_BANK_SIZE words,
+    // and BDI DATA_BANK is an extended mode bank.
+    private static final int QUEUE_BANK = 040;
+    private static final int QUEUE_BANK_COUNT = 0400;
+    private static final int QUEUE_BANK_SIZE = 010;
+    private static final int DATA_BANK = QUEUE_BANK + QUEUE_BANK_COUNT;
+    private static final int BDT_SIZE = (DATA_BANK + 1) * BankDescriptor.SIZE;
+    private static final int QUEUE_BANK_STORAGE = 010000;
+    private static final int SEGMENT_SIZE = QUEUE_BANK_STORAGE + QUEUE_BANK_COUNT * QUEUE_BANK_SIZE;
+
+    private static final int DATA_SIZE = 0_2000;
+    private static final int HEADER = 0_100;
+
+    private long[] _segment;
+
+    private long enq(long a, long d) { return fjaxhibd(0_37, 0_10, a, 0, 0, 0, 1, d); }
+    private long enqf(long a, long d) { return fjaxhibd(0_37, 0_11, a, 0, 0, 0, 1, d); }
+    private long deq(long a, long d) { return fjaxhibd(0_37, 0_12, a, 0, 0, 0, 1, d); }
+    private long deqw(long a, long d) { return fjaxhibd(0_37, 0_13, a, 0, 0, 0, 1, d); }
+    private long depositqb(long a, long d) { return fjaxhibd(0_37, 0_06, a, 0, 0, 0, 1, d); }
+    private long withdrawqb(long a, long d) { return fjaxhibd(0_37, 0_07, a, 0, 0, 0, 1, d); }
+
+    /**
+     * Produces the A register value naming the level 0 bank with the given BDI
+     */
+    private static long name(
+        final int bankDescriptorIndex
+    ) {
+        return (long) bankDescriptorIndex << 18;
+    }
+
+    /**
+     * Produces a data bank with an empty queue at HEADER, which may hold the given number of queue banks
+     */
+    private static long[] newData(
+        final int maximumCount
+    ) {
+        var data = new long[DATA_SIZE];
+        data[HEADER + 1] = maximumCount;
+        return data;
+    }
+
+    private boolean isEnqueued(int bankDescriptorIndex) {
+        return BankDescriptor.isEnqueued(new ArraySlice(_segment), bankDescriptorIndex * BankDescriptor.SIZE);
+    }
+
+    private long getNextQueueBank(int bankDescriptorIndex) {
+        return BankDescriptor.getNextQueueBank(new ArraySlice(_segment), bankDescriptorIndex * BankDescriptor.SIZE);
+    }
+
+    private void setA(int a, long value) {
+        _engine.setExecOrUserARegisterValue(a, value);
+    }
+
+    private long getA(int a) {
+        return _engine.getExecOrUserARegisterValue(a);
+    }
+
+    @BeforeEach
+    public void setup() {
+        _segment = new long[SEGMENT_SIZE];
+        for (int qx = 0; qx < QUEUE_BANK_COUNT; qx++) {
+            writeBankDescriptor(_segment,
+                                (QUEUE_BANK + qx) * BankDescriptor.SIZE,
+                                BankType.Queue,
+                                07,
+                                07,
+                                0,
+                                QUEUE_BANK_SIZE - 1,
+                                QUEUE_BANK_STORAGE + qx * QUEUE_BANK_SIZE);
+        }
+        writeBankDescriptor(_segment, DATA_BANK * BankDescriptor.SIZE, BankType.ExtendedMode, 07, 07, 0, 07, 0);
+
+        _engine = createEngine();
+    }
+
+    /**
+     * Creates an engine with the level 0 bank descriptor table based, and the segment as its main storage
+     */
+    private Engine createEngine() {
+        var engine = new Engine();
+        engine.enableTraceInstructions(false);
+        engine.getDesignatorRegister().clear();
+        engine.setMainStorage(segx -> (segx == 0) ? new ArraySlice(_segment) : null);
+        engine.getBaseRegister(16)
+              .setIsLargeBank(false)
+              .setLimitsNormalized(false, 0, BDT_SIZE - 1)
+              .setBaseAddress(new AbsoluteAddress(0, 0))
+              .setStorage(new ArraySlice(_segment, 0, BDT_SIZE));
+        return engine;
+    }
+
+    @Test
+    public void testENQ_DEQ() throws MachineInterrupt {
+        var code = new long[]{ enq(1, HEADER), enq(2, HEADER), deq(3, HEADER), deq(4, HEADER), deq(5, HEADER), 0 };
+        var data = newData(4);
+        setupExtendedMode(code, data);
+        setA(1, name(QUEUE_BANK));
+        setA(2, name(QUEUE_BANK + 1) | 0_777);
+        setA(5, 0_777777_777777L);
+
+        run();
+
+        assertEquals(name(QUEUE_BANK), getA(3));
+        assertEquals(name(QUEUE_BANK + 1), getA(4));
+        assertEquals(0, getA(5));
+        assertEquals(0, data[HEADER]);
+        assertEquals(0, data[HEADER + 2]);
+        assertFalse(isEnqueued(QUEUE_BANK));
+        assertFalse(isEnqueued(QUEUE_BANK + 1));
+    }
+
+    @Test
+    public void testENQ_Linkage() throws MachineInterrupt {
+        var code = new long[]{ enq(1, HEADER), enq(2, HEADER), enq(3, HEADER), 0 };
+        var data = newData(4);
+        setupExtendedMode(code, data);
+        setA(1, name(QUEUE_BANK + 5));
+        setA(2, name(QUEUE_BANK + 3));
+        setA(3, name(QUEUE_BANK + 7));
+
+        run();
+
+        assertEquals(3, data[HEADER]);
+        assertEquals(data(QUEUE_BANK + 5, QUEUE_BANK + 7), data[HEADER + 2]);
+        assertTrue(isEnqueued(QUEUE_BANK + 5));
+        assertTrue(isEnqueued(QUEUE_BANK + 3));
+        assertTrue(isEnqueued(QUEUE_BANK + 7));
+        assertEquals(QUEUE_BANK + 3, getNextQueueBank(QUEUE_BANK + 5));
+        assertEquals(QUEUE_BANK + 7, getNextQueueBank(QUEUE_BANK + 3));
+        assertEquals(0, getNextQueueBank(QUEUE_BANK + 7));
+    }
+
+    @Test
+    public void testENQF() throws MachineInterrupt {
+        var code = new long[]{ enq(1, HEADER), enqf(2, HEADER), enq(3, HEADER),
+                               deq(4, HEADER), deq(5, HEADER), deq(6, HEADER), 0 };
+        var data = newData(4);
+        setupExtendedMode(code, data);
+        setA(1, name(QUEUE_BANK));
+        setA(2, name(QUEUE_BANK + 1));
+        setA(3, name(QUEUE_BANK + 2));
+
+        run();
+
+        assertEquals(name(QUEUE_BANK + 1), getA(4));
+        assertEquals(name(QUEUE_BANK), getA(5));
+        assertEquals(name(QUEUE_BANK + 2), getA(6));
+    }
+
+    @Test
+    public void testENQF_Empty() throws MachineInterrupt {
+        var code = new long[]{ enqf(1, HEADER), 0 };
+        var data = newData(4);
+        setupExtendedMode(code, data);
+        setA(1, name(QUEUE_BANK));
+
+        run();
+
+        assertEquals(1, data[HEADER]);
+        assertEquals(data(QUEUE_BANK, QUEUE_BANK), data[HEADER + 2]);
+        assertEquals(0, getNextQueueBank(QUEUE_BANK));
+    }
+
+    @Test
+    public void testENQ_VoidsBaseRegisters() throws MachineInterrupt {
+        var code = new long[]{ enq(1, HEADER), 0 };
+        var data = newData(4);
+        setupExtendedMode(code, data);
+        var storage = new ArraySlice(_segment, QUEUE_BANK_STORAGE, QUEUE_BANK_SIZE);
+        loadBaseRegister(3, false, 0, QUEUE_BANK_SIZE - 1, new AbsoluteAddress(0, QUEUE_BANK_STORAGE), storage, 0, QUEUE_BANK, 0);
+        loadBaseRegister(4, false, 0, QUEUE_BANK_SIZE - 1, new AbsoluteAddress(0, QUEUE_BANK_STORAGE), storage, 0, QUEUE_BANK + 1, 0);
+        setA(1, name(QUEUE_BANK));
+
+        run();
+
+        assertTrue(_engine.getBaseRegister(3).isVoid());
+        assertEquals(0, _engine.getActiveBaseTableEntry(3).getBankDescriptorIndex());
+        assertFalse(_engine.getBaseRegister(4).isVoid());
+        assertEquals(QUEUE_BANK + 1, _engine.getActiveBaseTableEntry(4).getBankDescriptorIndex());
+        assertFalse(_engine.getBaseRegister(1).isVoid());
+    }
+
+    @Test
+    public void testENQ_Full() {
+        var code = new long[]{ enq(1, HEADER), enq(2, HEADER), enq(3, HEADER), 0 };
+        var data = newData(2);
+        setupExtendedMode(code, null);
+        loadBaseRegister(1, false, 0, DATA_SIZE - 1, new AbsoluteAddress(0, 0), new ArraySlice(data), 4, 0_1234, 0);
+        setA(1, name(QUEUE_BANK));
+        setA(2, name(QUEUE_BANK + 1));
+        setA(3, name(QUEUE_BANK + 2));
+
+        var ex = assertThrows(AddressingExceptionInterrupt.class, this::run);
+        assertEquals(AddressingExceptionInterrupt.Reason.MaxCountExceeded, ex.getReason());
+        assertEquals(4, ex.getBankLevel());
+        assertEquals(0_1234, ex.getBankDescriptorIndex());
+        assertEquals(2, data[HEADER]);
+        assertFalse(isEnqueued(QUEUE_BANK + 2));
+    }
+
+    @Test
+    public void testENQ_AlreadyEnqueued() {
+        var code = new long[]{ enq(1, HEADER), enq(1, HEADER), 0 };
+        var data = newData(4);
+        setupExtendedMode(code, data);
+        setA(1, name(QUEUE_BANK + 1));
+
+        var ex = assertThrows(AddressingExceptionInterrupt.class, this::run);
+        assertEquals(AddressingExceptionInterrupt.Reason.GeneralQueuingViolation, ex.getReason());
+        assertEquals(QUEUE_BANK + 1, ex.getBankDescriptorIndex());
+        assertEquals(1, data[HEADER]);
+        assertEquals(0, getNextQueueBank(QUEUE_BANK + 1));
+    }
+
+    @Test
+    public void testENQ_NotQueueBank() {
+        var code = new long[]{ enq(1, HEADER), 0 };
+        var data = newData(4);
+        setupExtendedMode(code, data);
+        setA(1, name(DATA_BANK));
+
+        var ex = assertThrows(AddressingExceptionInterrupt.class, this::run);
+        assertEquals(AddressingExceptionInterrupt.Reason.BDTypeInvalid, ex.getReason());
+        assertEquals(DATA_BANK, ex.getBankDescriptorIndex());
+        assertEquals(0, data[HEADER]);
+    }
+
+    @Test
+    public void testENQ_NoBank() {
+        var code = new long[]{ enq(1, HEADER), 0 };
+        var data = newData(4);
+        setupExtendedMode(code, data);
+
+        var ex = assertThrows(AddressingExceptionInterrupt.class, this::run);
+        assertEquals(AddressingExceptionInterrupt.Reason.InvalidSourceLevelBDI, ex.getReason());
+    }
+
+    @Test
+    public void testENQ_InvalidHeader() {
+        var code = new long[]{ enq(1, HEADER), 0 };
+        var data = newData(2);
+        data[HEADER] = 1;
+        setupExtendedMode(code, data);
+        setA(1, name(QUEUE_BANK));
+
+        var ex = assertThrows(AddressingExceptionInterrupt.class, this::run);
+        assertEquals(AddressingExceptionInterrupt.Reason.GeneralQueuingViolation, ex.getReason());
+        assertEquals(1, data[HEADER]);
+    }
+
+    @Test
+    public void testDEQ_NoMaximum() {
+        var code = new long[]{ deq(1, HEADER), 0 };
+        var data = newData(0);
+        setupExtendedMode(code, data);
+
+        var ex = assertThrows(AddressingExceptionInterrupt.class, this::run);
+        assertEquals(AddressingExceptionInterrupt.Reason.GeneralQueuingViolation, ex.getReason());
+    }
+
+    @Test
+    public void testDEQW() throws MachineInterrupt, EngineHaltedException {
+        var code = new long[]{ deqw(1, HEADER), 0 };
+        var data = newData(4);
+        setupExtendedMode(code, data);
+        setA(1, 0_777777_777777L);
+
+        // the queue is empty - the instruction waits, and is incomplete
+        var start = System.nanoTime();
+        assertFalse(_engine.cycle());
+        assertTrue(System.nanoTime() - start < 100 * QueueingFunction.WAIT_LIMIT_NANOS);
+        assertEquals(0_1000, _engine.getProgramAddressRegister().getProgramCounter());
+        assertEquals(0_777777_777777L, getA(1));
+
+        data[HEADER] = 1;
+        data[HEADER + 2] = data(QUEUE_BANK, QUEUE_BANK);
+        BankDescriptor.setEnqueued(new ArraySlice(_segment), QUEUE_BANK * BankDescriptor.SIZE, true);
+        run();
+
+        assertEquals(name(QUEUE_BANK), getA(1));
+        assertEquals(0, data[HEADER]);
+        assertFalse(isEnqueued(QUEUE_BANK));
+    }
+
+    @Test
+    public void testDEQW_Released() throws Exception {
+        // a second engine enqueues while the first is parked in DEQW
+        var data = newData(4);
+        var consumer = newEngine(new long[]{ deqw(1, HEADER), 0 }, data);
+        var producer = newEngine(new long[]{ enq(1, HEADER), 0 }, data);
+        producer.setExecOrUserARegisterValue(1, name(QUEUE_BANK));
+
+        var failures = Collections.synchronizedList(new ArrayList<Throwable>());
+        var thread = new Thread(() -> {
+            try {
+                while (!consumer.cycle()) {
+                    Thread.onSpinWait();
+                }
+            } catch (Throwable t) {
+                failures.add(t);
+            }
+        });
+        thread.start();
+        Thread.sleep(20);
+        while (!producer.cycle()) {
+            Thread.onSpinWait();
+        }
+        thread.join(10_000);
+
+        assertFalse(thread.isAlive());
+        assertTrue(failures.isEmpty(), failures.toString());
+        assertEquals(name(QUEUE_BANK), consumer.getExecOrUserARegisterValue(1));
+        assertEquals(0, data[HEADER]);
+    }
+
+    @Test
+    public void testDEPOSITQB_WITHDRAWQB() throws MachineInterrupt {
+        var code = new long[]{ depositqb(1, HEADER), depositqb(2, HEADER), withdrawqb(3, HEADER), 0 };
+        var data = newData(2);
+        setupExtendedMode(code, data);
+        _engine.getDesignatorRegister().setProcessorPrivilege((short) 0);
+        setA(1, name(QUEUE_BANK));
+        setA(2, name(QUEUE_BANK + 1));
+
+        run();
+
+        assertEquals(name(QUEUE_BANK), getA(3));
+        assertEquals(1, data[HEADER]);
+        assertEquals(data(QUEUE_BANK + 1, QUEUE_BANK + 1), data[HEADER + 2]);
+        assertFalse(isEnqueued(QUEUE_BANK));
+        assertTrue(isEnqueued(QUEUE_BANK + 1));
+    }
+
+    @Test
+    public void testDEPOSITQB_Full() {
+        var code = new long[]{ depositqb(1, HEADER), depositqb(2, HEADER), 0 };
+        var data = newData(1);
+        setupExtendedMode(code, data);
+        _engine.getDesignatorRegister().setProcessorPrivilege((short) 0);
+        setA(1, name(QUEUE_BANK));
+        setA(2, name(QUEUE_BANK + 1));
+
+        var ex = assertThrows(AddressingExceptionInterrupt.class, this::run);
+        assertEquals(AddressingExceptionInterrupt.Reason.QueueBankRepositoryFull, ex.getReason());
+    }
+
+    @Test
+    public void testWITHDRAWQB_Empty() {
+        var code = new long[]{ withdrawqb(1, HEADER), 0 };
+        var data = newData(1);
+        setupExtendedMode(code, data);
+        _engine.getDesignatorRegister().setProcessorPrivilege((short) 0);
+
+        var ex = assertThrows(AddressingExceptionInterrupt.class, this::run);
+        assertEquals(AddressingExceptionInterrupt.Reason.InactiveQueueBDListEmpty, ex.getReason());
+    }
+
+    @Test
+    public void testWITHDRAWQB_Privilege() {
+        var code = new long[]{ withdrawqb(1, HEADER), 0 };
+        var data = newData(1);
+        setupExtendedMode(code, data);
+
+        var ex = assertThrows(InvalidInstructionInterrupt.class, this::run);
+        assertEquals(InvalidInstructionInterrupt.Reason.InvalidProcessorPrivilege, ex._reason);
+    }
+
+    /**
+     * Sets up a separate engine running the given code against the given (shared) data bank
+     */
+    private Engine newEngine(
+        final long[] code,
+        final long[] data
+    ) {
+        var saved = _engine;
+        _engine = createEngine();
+        setupExtendedMode(code, data);
+        var result = _engine;
+        _engine = saved;
+        return result;
+    }
+
+    /**
+     * Executes the single instruction at the start of the engine's code bank, retrying it if it is interrupted
+     * (for ENQ, that is the queue being full, or the queue bank still being on the queue).
+     * Gives up if stop is set while the instruction is incomplete.
+     */
+    private static void execute(
+        final Engine engine,
+        final AtomicInteger stop
+    ) throws EngineHaltedException {
+        engine.getProgramAddressRegister().setProgramCounter(0_1000);
+        while (true) {
+            try {
+                if (engine.cycle() || (stop.get() != 0)) {
+                    return;
+                }
+            } catch (MachineInterrupt ex) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    @Test
+    public void testProducersAndConsumers() throws InterruptedException {
+        final int producerCount = 3;
+        final int consumerCount = 3;
+        final int banksPerProducer = QUEUE_BANK_COUNT / producerCount;
+        final int entriesPerProducer = 20000;
+        final int total = producerCount * entriesPerProducer;
+
+        var data = newData(16);
+        var consumed = Collections.synchronizedList(new ArrayList<Long>());
+        var remaining = new AtomicInteger(total);
+        var stop = new AtomicInteger(0);
+        var failures = Collections.synchronizedList(new ArrayList<Throwable>());
+        List<Thread> threads = new ArrayList<>();
+
+        // each producer cycles through its own queue banks, so a bank is enqueued again only once it has been
+        // dequeued - until then, the ENQ is interrupted and retried
+        for (int px = 0; px < producerCount; px++) {
+            var engine = newEngine(new long[]{ enq(1, HEADER), 0 }, data);
+            var firstBank = QUEUE_BANK + px * banksPerProducer;
+            threads.add(new Thread(() -> {
+                try {
+                    for (int ex = 0; ex < entriesPerProducer; ex++) {
+                        engine.setExecOrUserARegisterValue(1, name(firstBank + ex % banksPerProducer));
+                        execute(engine, new AtomicInteger(0));
+                    }
+                } catch (Throwable t) {
+                    failures.add(t);
+                }
+            }));
+        }
+
+        for (int cx = 0; cx < consumerCount; cx++) {
+            var engine = newEngine(new long[]{ deqw(1, HEADER), 0 }, data);
+            threads.add(new Thread(() -> {
+                try {
+                    while (remaining.get() > 0) {
+                        engine.setExecOrUserARegisterValue(1, 0);
+                        execute(engine, stop);
+                        var entry = engine.getExecOrUserARegisterValue(1);
+                        if (entry != 0) {
+                            consumed.add(entry);
+                            if (remaining.decrementAndGet() == 0) {
+                                stop.set(1);
+                            }
+                        }
+                    }
+                } catch (Throwable t) {
+                    failures.add(t);
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        for (var thread : threads) {
+            thread.join(60_000);
+            assertFalse(thread.isAlive());
+        }
+
+        assertTrue(failures.isEmpty(), failures.toString());
+        assertEquals(total, consumed.size());
+
+        var counts = new HashMap<Long, Integer>();
+        consumed.forEach(entry -> counts.merge(entry, 1, Integer::sum));
+        for (int px = 0; px < producerCount; px++) {
+            for (int bx = 0; bx < banksPerProducer; bx++) {
+                var expected = entriesPerProducer / banksPerProducer + ((bx < entriesPerProducer % banksPerProducer) ? 1 : 0);
+                var bankDescriptorIndex = QUEUE_BANK + px * banksPerProducer + bx;
+                assertEquals(expected, counts.get(name(bankDescriptorIndex)));
+                assertFalse(isEnqueued(bankDescriptorIndex));
+            }
+        }
+        assertEquals(0, data[HEADER]);
+        assertEquals(0, data[HEADER + 2]);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.stack;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionUnitTest;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import com.bearsnake.komodo.engine.interrupts.RCSGenericStackUnderflowOverflowInterrupt;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestStackFunctions extends FunctionUnitTest {
+
+    // generic stack based on B2, with limits 01000 to 01777
+    private static final int STACK_LOWER = 01000;
+    private static final int STACK_UPPER = 01777;
+
+    private long buy(long a, long x, long d) { return fjaxhibd(0_75, 0_16, a, x, 0, 0, 2, d); }
+    private long sell(long a, long x, long d) { return fjaxhibd(0_75, 0_17, a, x, 0, 0, 2, d); }
+
+    private long getX(int x) {
+        return _engine.getExecOrUserXRegisterValue(x);
+    }
+
+    private void setX(int x, long value) {
+        _engine.setExecOrUserXRegisterValue(x, value);
+    }
+
+    @BeforeEach
+    public void setup() {
+        _engine = new Engine();
+        _engine.getDesignatorRegister().clear();
+    }
+
+    private void setupStack(final long[] code) {
+        setupExtendedMode(code, null);
+        loadBaseRegister(2, false, STACK_LOWER, STACK_UPPER, null, new ArraySlice(new long[01000]), 0, 050, 0);
+    }
+
+    @Test
+    public void testBUY_SELL() throws MachineInterrupt {
+        var code = new long[]{ buy(5, 0, 010), buy(5, 0, 020), sell(5, 0, 020), buy(6, 0, 0100), 0 };
+        setupStack(code);
+        setX(5, 0_000001_000000L | (STACK_UPPER + 1));
+        setX(6, STACK_UPPER + 1);
+
+        run();
+
+        // X(a).XI is untouched
+        assertEquals(0_000001_000000L | (STACK_UPPER + 1 - 010), getX(5));
+        assertEquals(STACK_UPPER + 1 - 0100, getX(6));
+    }
+
+    @Test
+    public void testBUY_Indexed() throws MachineInterrupt {
+        var code = new long[]{ buy(5, 7, 010), 0 };
+        setupStack(code);
+        setX(5, STACK_UPPER + 1);
+        setX(7, 030);
+
+        run();
+
+        assertEquals(STACK_UPPER + 1 - 040, getX(5));
+    }
+
+    @Test
+    public void testBUY_FullStack() throws MachineInterrupt {
+        var code = new long[]{ buy(5, 0, 01000), 0 };
+        setupStack(code);
+        setX(5, STACK_UPPER + 1);
+
+        run();
+
+        assertEquals(STACK_LOWER, getX(5));
+    }
+
+    @Test
+    public void testBUY_Overflow() {
+        var code = new long[]{ buy(5, 0, 011), 0 };
+        setupStack(code);
+        setX(5, STACK_LOWER + 010);
+
+        var ex = assertThrows(RCSGenericStackUnderflowOverflowInterrupt.class, this::run);
+        assertEquals(RCSGenericStackUnderflowOverflowInterrupt.Reason.Overflow, ex.getReason());
+        assertEquals(2, ex.getBaseRegister());
+        assertEquals(STACK_LOWER - 1, ex.getRelativeAddress());
+        assertEquals(STACK_LOWER + 010, getX(5));
+    }
+
+    @Test
+    public void testSELL_Underflow() {
+        var code = new long[]{ sell(5, 0, 2), 0 };
+        setupStack(code);
+        setX(5, STACK_UPPER);
+
+        var ex = assertThrows(RCSGenericStackUnderflowOverflowInterrupt.class, this::run);
+        assertEquals(RCSGenericStackUnderflowOverflowInterrupt.Reason.Underflow, ex.getReason());
+        assertEquals(STACK_UPPER + 1 + 1, ex.getRelativeAddress());
+        assertEquals(STACK_UPPER, getX(5));
+    }
+
+    @Test
+    public void testBUY_VoidBank() {
+        var code = new long[]{ buy(5, 0, 1), 0 };
+        setupStack(code);
+        _engine.getBaseRegister(2).makeVoid();
+        setX(5, STACK_UPPER + 1);
+
+        var ex = assertThrows(RCSGenericStackUnderflowOverflowInterrupt.class, this::run);
+        assertEquals(RCSGenericStackUnderflowOverflowInterrupt.Reason.Overflow, ex.getReason());
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.storage;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.exceptions.EngineHaltedException;
+import com.bearsnake.komodo.engine.functions.FunctionUnitTest;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import com.bearsnake.komodo.engine.interrupts.ReferenceViolationInterrupt;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestBTFunction extends FunctionUnitTest {
+
+    private static final int DATA_SIZE = 0_2000;
+
+    private long btEM(long a, long x, long h, long b, long d) {
+        return fjaxhibd(0_22, 0, a, x, h, 0, b, d);
+    }
+
+    private long btBM(long a, long x, long h, long u) {
+        return fjaxhiu(0_22, 0, a, x, h, 0, u);
+    }
+
+    private static long[] newData() {
+        var data = new long[DATA_SIZE];
+        for (int dx = 0; dx < DATA_SIZE; dx++) {
+            data[dx] = 0_100000_000000L + dx;
+        }
+        return data;
+    }
+
+    private void setIndex(int x, long increment, long modifier) {
+        _engine.getExecOrUserXRegister(x).setW(data(increment, modifier));
+    }
+
+    @BeforeEach
+    public void setup() {
+        _engine = new Engine();
+        _engine.getDesignatorRegister().clear();
+    }
+
+    @Test
+    public void testBT_EM() throws MachineInterrupt {
+        var code = new long[]{ btEM(2, 3, 1, 1, 0_10), 0 };
+        var data = newData();
+        setupExtendedMode(code, data);
+        setIndex(2, 1, 0_100);
+        setIndex(3, 1, 0_10);
+        _engine.getExecOrUserRRegister(1).setW(5);
+
+        run();
+
+        for (int dx = 0; dx < 5; dx++) {
+            assertEquals(0_100000_000020L + dx, data[0_100 + dx]);
+        }
+        assertEquals(0_100000_000105L, data[0_105]);
+        assertEquals(data(1, 0_105), _engine.getExecOrUserXRegister(2).getW());
+        assertEquals(data(1, 0_15), _engine.getExecOrUserXRegister(3).getW());
+        assertEquals(0, _engine.getExecOrUserRRegister(1).getW());
+    }
+
+    @Test
+    public void testBT_EM_ZeroCount() throws MachineInterrupt {
+        var code = new long[]{ btEM(2, 0, 0, 1, 0_10), 0 };
+        var data = newData();
+        setupExtendedMode(code, data);
+        setIndex(2, 1, 0_100);
+
+        run();
+
+        assertArrayEquals(newData(), data);
+        assertEquals(data(1, 0_100), _engine.getExecOrUserXRegister(2).getW());
+    }
+
+    @Test
+    public void testBT_EM_OverlapPropagates() throws MachineInterrupt {
+        // destination one word above the source replicates the first source word
+        var code = new long[]{ btEM(2, 3, 1, 1, 0_20), 0 };
+        var data = newData();
+        setupExtendedMode(code, data);
+        setIndex(2, 1, 0_21);
+        setIndex(3, 1, 0);
+        _engine.getExecOrUserRRegister(1).setW(0_100);
+
+        run();
+
+        for (int dx = 0_20; dx <= 0_120; dx++) {
+            assertEquals(0_100000_000020L, data[dx]);
+        }
+        assertEquals(0_100000_000121L, data[0_121]);
+    }
+
+    @Test
+    public void testBT_EM_OverlapDownward() throws MachineInterrupt {
+        // destination below the source is a straightforward move
+        var code = new long[]{ btEM(2, 3, 1, 1, 0_24), 0 };
+        var data = newData();
+        setupExtendedMode(code, data);
+        setIndex(2, 1, 0_20);
+        setIndex(3, 1, 0);
+        _engine.getExecOrUserRRegister(1).setW(010);
+
+        run();
+
+        for (int dx = 0; dx < 010; dx++) {
+            assertEquals(0_100000_000024L + dx, data[0_20 + dx]);
+        }
+    }
+
+    @Test
+    public void testBT_EM_Strided() throws MachineInterrupt {
+        // source moves backward one word at a time, destination forward two words at a time
+        var code = new long[]{ btEM(2, 3, 1, 1, 0), 0 };
+        var data = newData();
+        setupExtendedMode(code, data);
+        setIndex(2, 2, 0_200);
+        setIndex(3, 0_777776, 0_107);
+        _engine.getExecOrUserRRegister(1).setW(4);
+
+        run();
+
+        assertEquals(0_100000_000107L, data[0_200]);
+        assertEquals(0_100000_000201L, data[0_201]);
+        assertEquals(0_100000_000106L, data[0_202]);
+        assertEquals(0_100000_000105L, data[0_204]);
+        assertEquals(0_100000_000104L, data[0_206]);
+        assertEquals(data(2, 0_210), _engine.getExecOrUserXRegister(2).getW());
+        assertEquals(data(0_777776, 0_103), _engine.getExecOrUserXRegister(3).getW());
+    }
+
+    @Test
+    public void testBT_EM_NoSourceIncrement() throws MachineInterrupt {
+        // without F0.h, Xx is not incremented - the single source word is replicated
+        var code = new long[]{ btEM(2, 3, 0, 1, 0), 0 };
+        var data = newData();
+        setupExtendedMode(code, data);
+        setIndex(2, 1, 0_300);
+        setIndex(3, 1, 0_50);
+        _engine.getExecOrUserRRegister(1).setW(3);
+
+        run();
+
+        assertEquals(0_100000_000050L, data[0_300]);
+        assertEquals(0_100000_000050L, data[0_301]);
+        assertEquals(0_100000_000050L, data[0_302]);
+        assertEquals(data(1, 0_50), _engine.getExecOrUserXRegister(3).getW());
+    }
+
+    @Test
+    public void testBT_EM_Interruptible() throws MachineInterrupt, EngineHaltedException {
+        var count = 2 * BTFunction.TRANSFER_LIMIT + 5;
+        var code = new long[]{ btEM(2, 3, 1, 1, 0), 0 };
+        var data = new long[2 * count];
+        for (int dx = 0; dx < count; dx++) {
+            data[dx] = dx;
+        }
+        setupExtendedMode(code, null);
+        loadBaseRegister(1, false, 0, data.length - 1, null, new ArraySlice(data));
+        setIndex(2, 1, count);
+        setIndex(3, 1, 0);
+        _engine.getExecOrUserRRegister(1).setW(count);
+
+        // the first execution moves one group of words and leaves the registers describing the rest
+        assertFalse(_engine.cycle());
+        assertEquals(count - BTFunction.TRANSFER_LIMIT, _engine.getExecOrUserRRegister(1).getW());
+        assertEquals(data(1, count + BTFunction.TRANSFER_LIMIT), _engine.getExecOrUserXRegister(2).getW());
+        assertEquals(data(1, BTFunction.TRANSFER_LIMIT), _engine.getExecOrUserXRegister(3).getW());
+        assertEquals(BTFunction.TRANSFER_LIMIT - 1, data[count + BTFunction.TRANSFER_LIMIT - 1]);
+        assertEquals(0, data[count + BTFunction.TRANSFER_LIMIT]);
+
+        run();
+
+        for (int dx = 0; dx < count; dx++) {
+            assertEquals(dx, data[count + dx]);
+        }
+        assertEquals(0, _engine.getExecOrUserRRegister(1).getW());
+    }
+
+    @Test
+    public void testBT_EM_LimitsViolation() {
+        var code = new long[]{ btEM(2, 0, 0, 1, 0), 0 };
+        var data = newData();
+        setupExtendedMode(code, data);
+        setIndex(2, 1, DATA_SIZE - 4);
+        _engine.getExecOrUserRRegister(1).setW(5);
+
+        assertThrows(ReferenceViolationInterrupt.class, this::run);
+        assertArrayEquals(newData(), data);
+        assertEquals(5, _engine.getExecOrUserRRegister(1).getW());
+    }
+
+    @Test
+    public void testBT_BM() throws MachineInterrupt {
+        var code = new long[]{ btBM(2, 3, 1, 0_40010), 0 };
+        loadBaseRegister(13, false, 0_22000, 0_22777, null, new ArraySlice(code));
+        var data = newData();
+        loadBaseRegister(12, false, 0_40000, 0_40000 + DATA_SIZE - 1, null, new ArraySlice(data));
+
+        _engine.getDesignatorRegister()
+               .setBasicModeEnabled(true)
+               .setProcessorPrivilege((short)3)
+               .setExecRegisterSetSelected(false);
+        _engine.getProgramAddressRegister().setProgramCounter(0_22000).setBankDescriptorIndex(0_000004).setBankLevel((short)0_7);
+        setIndex(2, 1, 0_41000);
+        setIndex(3, 1, 0);
+        _engine.getExecOrUserRRegister(1).setW(0_10);
+
+        run();
+
+        for (int dx = 0; dx < 0_10; dx++) {
+            assertEquals(0_100000_000010L + dx, data[0_1000 + dx]);
+        }
+        assertEquals(data(1, 0_41010), _engine.getExecOrUserXRegister(2).getW());
+        assertEquals(0, _engine.getExecOrUserRRegister(1).getW());
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.engine.functions.string;
+
+import com.bearsnake.komodo.engine.Constants;
+import com.bearsnake.komodo.engine.Engine;
+import com.bearsnake.komodo.engine.functions.FunctionUnitTest;
+import com.bearsnake.komodo.engine.interrupts.MachineInterrupt;
+import com.bearsnake.komodo.engine.interrupts.ReferenceViolationInterrupt;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the f=033 character string instructions - LS, LSA, SS, TES, and TNES
+ */
+public class TestStringFunctions extends FunctionUnitTest {
+
+    private static final long LS = 0_00;
+    private static final long LSA = 0_01;
+    private static final long SS = 0_02;
+    private static final long TES = 0_03;
+    private static final long TNES = 0_04;
+
+    private static final int DATA_SIZE = 0_2000;
+
+    private long em33(long j, long a, long d) {
+        return fjaxhibd(0_33, j, a, 0, 0, 0, 1, d);
+    }
+
+    @BeforeEach
+    public void setup() {
+        _engine = new Engine();
+        _engine.getDesignatorRegister().clear();
+    }
+
+    /**
+     * Runs a single string instruction followed by an LA,U A0,077 which will be skipped if the instruction skips.
+     * A2 is the string pointer and A3 the count.
+     * @return true if the instruction skipped
+     */
+    private boolean runString(
+        final long j,
+        final long u,
+        final boolean quarterWords,
+        final long pointer,
+        final long count,
+        final long[] data
+    ) throws MachineInterrupt {
+        var code = new long[]{
+            em33(j, 2, u),
+            fjaxu(0_10, Constants.JFIELD_U, 0, 0, 077),
+            0
+        };
+        _engine = new Engine();
+        _engine.getDesignatorRegister().clear();
+        setupExtendedMode(code, data);
+        _engine.getDesignatorRegister().setQuarterWordModeEnabled(quarterWords);
+        _engine.setExecOrUserARegisterValue(0, 0);
+        _engine.setExecOrUserARegisterValue(2, pointer);
+        _engine.setExecOrUserARegisterValue(3, count);
+        run();
+        return _engine.getExecOrUserARegisterValue(0) == 0;
+    }
+
+    /**
+     * Character-at-a-time reference - extracts character cx of the string beginning at the given word and character
+     */
+    private static long getCharacter(
+        final long[] data,
+        final int wordAddress,
+        final int characterIndex,
+        final int cx,
+        final boolean quarterWords
+    ) {
+        var perWord = quarterWords ? 4 : 6;
+        var bits = 36 / perWord;
+        var index = characterIndex + cx;
+        var word = data[wordAddress + index / perWord];
+        var shift = 36 - bits * (index % perWord + 1);
+        return (word >>> shift) & ((1L << bits) - 1);
+    }
+
+    private static long[] newData(
+        final long seed
+    ) {
+        var random = new Random(seed);
+        var data = new long[DATA_SIZE];
+        for (int dx = 0; dx < DATA_SIZE; dx++) {
+            data[dx] = random.nextLong() & 0_777777_777777L;
+        }
+        return data;
+    }
+
+    // SS --------------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void testSS_QuarterWord_Aligned() throws MachineInterrupt {
+        var data = new long[DATA_SIZE];
+        data[0_10] = data(0101, 0102, 0103, 0104);
+        data[0_11] = data(0105, 0106, 0107, 0110);
+        data[0_101] = 0_777777_777777L;
+        data[0_102] = 0_777777_777777L;
+
+        assertFalse(runString(SS, 0_100, true, data(0, 0_10), 7, data));
+
+        assertEquals(data(0101, 0102, 0103, 0104), data[0_100]);
+        assertEquals(data(0105, 0106, 0107, 0), data[0_101]);
+        assertEquals(0_777777_777777L, data[0_102]);
+        assertEquals(data(3, 0_11), _engine.getExecOrUserARegisterValue(2));
+        assertEquals(7, _engine.getExecOrUserARegisterValue(3));
+    }
+
+    @Test
+    public void testSS_QuarterWord_CrossesBoundary() throws MachineInterrupt {
+        var data = new long[DATA_SIZE];
+        data[0_10] = data(0, 0, 0, 0101);
+        data[0_11] = data(0102, 0103, 0104, 0105);
+        data[0_12] = data(0106, 0777, 0777, 0777);
+
+        assertFalse(runString(SS, 0_100, true, data(3, 0_10), 6, data));
+
+        assertEquals(data(0101, 0102, 0103, 0104), data[0_100]);
+        assertEquals(data(0105, 0106, 0, 0), data[0_101]);
+        assertEquals(data(1, 0_12), _engine.getExecOrUserARegisterValue(2));
+    }
+
+    @Test
+    public void testSS_SixthWord_CrossesBoundaries() throws MachineInterrupt {
+        var data = new long[DATA_SIZE];
+        data[0_10] = data(077, 077, 077, 077, 077, 01);
+        data[0_11] = data(02, 03, 04, 05, 06, 07);
+        data[0_12] = data(010, 011, 077, 077, 077, 077);
+
+        assertFalse(runString(SS, 0_100, false, data(5, 0_10), 9, data));
+
+        assertEquals(data(01, 02, 03, 04, 05, 06), data[0_100]);
+        assertEquals(data(07, 010, 011, 0, 0, 0), data[0_101]);
+        assertEquals(data(2, 0_12), _engine.getExecOrUserARegisterValue(2));
+    }
+
+    @Test
+    public void testSS_CharacterIndexCarries() throws MachineInterrupt {
+        // a character index beyond the end of the word refers to the following word(s)
+        var data = new long[DATA_SIZE];
+        data[0_11] = data(0, 0, 0, 0, 017, 016);
+
+        assertFalse(runString(SS, 0_100, false, data(0_12, 0_10), 2, data));
+
+        assertEquals(data(017, 016, 0, 0, 0, 0), data[0_100]);
+        assertEquals(data(0, 0_12), _engine.getExecOrUserARegisterValue(2));
+    }
+
+    @Test
+    public void testSS_ZeroCount() throws MachineInterrupt {
+        var data = newData(1);
+        var original = data.clone();
+
+        assertFalse(runString(SS, 0_100, true, data(2, 0_10), 0, data));
+
+        assertArrayEquals(original, data);
+        assertEquals(data(2, 0_10), _engine.getExecOrUserARegisterValue(2));
+    }
+
+    // LS --------------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void testLS_QuarterWord_PreservesNeighbors() throws MachineInterrupt {
+        var data = new long[DATA_SIZE];
+        data[0_10] = 0_777777_777777L;
+        data[0_11] = 0_777777_777777L;
+        data[0_100] = data(0101, 0102, 0103, 0104);
+        data[0_101] = data(0105, 0106, 0107, 0110);
+
+        assertFalse(runString(LS, 0_100, true, data(2, 0_10), 5, data));
+
+        assertEquals(data(0777, 0777, 0101, 0102), data[0_10]);
+        assertEquals(data(0103, 0104, 0105, 0777), data[0_11]);
+        assertEquals(data(3, 0_11), _engine.getExecOrUserARegisterValue(2));
+    }
+
+    @Test
+    public void testLS_SixthWord_WithinOneWord() throws MachineInterrupt {
+        var data = new long[DATA_SIZE];
+        data[0_10] = data(077, 077, 077, 077, 077, 077);
+        data[0_100] = data(01, 02, 03, 04, 05, 06);
+
+        assertFalse(runString(LS, 0_100, false, data(1, 0_10), 3, data));
+
+        assertEquals(data(077, 01, 02, 03, 077, 077), data[0_10]);
+        assertEquals(data(4, 0_10), _engine.getExecOrUserARegisterValue(2));
+    }
+
+    @Test
+    public void testLS_ThenSS_AllOffsetsAndLengths() throws MachineInterrupt {
+        // load a string at every character offset and many lengths, compare character by character
+        // against the source, then store it back and compare against the source words
+        for (var quarterWords : new boolean[]{ true, false }) {
+            var perWord = quarterWords ? 4 : 6;
+            for (int cx = 0; cx < perWord; cx++) {
+                for (int count = 1; count <= 3 * perWord + 1; count++) {
+                    var data = newData(count * 16 + cx);
+                    var before = data.clone();
+                    assertFalse(runString(LS, 0_100, quarterWords, data(cx, 0_20), count, data));
+
+                    for (int x = 0; x < count; x++) {
+                        assertEquals(getCharacter(before, 0_100, 0, x, quarterWords),
+                                     getCharacter(data, 0_20, cx, x, quarterWords));
+                    }
+                    if (cx > 0) {
+                        assertEquals(getCharacter(before, 0_20, 0, cx - 1, quarterWords),
+                                     getCharacter(data, 0_20, 0, cx - 1, quarterWords));
+                    }
+                    assertEquals(getCharacter(before, 0_20, cx, count, quarterWords),
+                                 getCharacter(data, 0_20, cx, count, quarterWords));
+
+                    assertFalse(runString(SS, 0_200, quarterWords, data(cx, 0_20), count, data));
+                    for (int x = 0; x < count; x++) {
+                        assertEquals(getCharacter(before, 0_100, 0, x, quarterWords),
+                                     getCharacter(data, 0_200, 0, x, quarterWords));
+                    }
+                    for (int x = count; x % perWord != 0; x++) {
+                        assertEquals(0, getCharacter(data, 0_200, 0, x, quarterWords));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLS_LimitsViolation() {
+        var data = new long[DATA_SIZE];
+        assertThrows(ReferenceViolationInterrupt.class,
+                     () -> runString(LS, 0_100, true, data(1, DATA_SIZE - 1), 4, data));
+    }
+
+    // LSA -------------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void testLSA_QuarterWord() throws MachineInterrupt {
+        var data = new long[DATA_SIZE];
+        assertFalse(runString(LSA, 0_100, true, 0_777777_777777L, 7, data));
+        assertEquals(data(3, 0_101), _engine.getExecOrUserARegisterValue(2));
+        assertEquals(7, _engine.getExecOrUserARegisterValue(3));
+    }
+
+    @Test
+    public void testLSA_SixthWord() throws MachineInterrupt {
+        var data = new long[DATA_SIZE];
+        assertFalse(runString(LSA, 0_100, false, 0, 13, data));
+        assertEquals(data(1, 0_102), _engine.getExecOrUserARegisterValue(2));
+    }
+
+    // TES/TNES --------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void testTES_Equal() throws MachineInterrupt {
+        // "@RUN " at the third character of word 010, compared with a literal at 0100 whose trailing characters differ
+        var data = new long[DATA_SIZE];
+        data[0_10] = data(0_777, 0_777, '@', 'R');
+        data[0_11] = data('U', 'N', ' ', 0_777);
+        data[0_100] = data('@', 'R', 'U', 'N');
+        data[0_101] = data(' ', 'X', 'Y', 'Z');
+
+        assertTrue(runString(TES, 0_100, true, data(2, 0_10), 5, data));
+        assertFalse(runString(TNES, 0_100, true, data(2, 0_10), 5, data));
+        assertEquals(data(2, 0_10), _engine.getExecOrUserARegisterValue(2));
+    }
+
+    @Test
+    public void testTES_NotEqual_LastCharacter() throws MachineInterrupt {
+        var data = new long[DATA_SIZE];
+        data[0_10] = data(0_777, 0_777, '@', 'R');
+        data[0_11] = data('U', 'N', ' ', 0_777);
+        data[0_100] = data('@', 'R', 'U', 'N');
+        data[0_101] = data(',', 0, 0, 0);
+
+        assertFalse(runString(TES, 0_100, true, data(2, 0_10), 5, data));
+        assertTrue(runString(TNES, 0_100, true, data(2, 0_10), 5, data));
+    }
+
+    @Test
+    public void testTES_SixthWord_CrossesBoundary() throws MachineInterrupt {
+        var data = new long[DATA_SIZE];
+        data[0_10] = data(0, 0, 0, 0, 021, 022);
+        data[0_11] = data(023, 024, 025, 026, 027, 030);
+        data[0_12] = data(031, 0, 0, 0, 0, 0);
+        data[0_100] = data(021, 022, 023, 024, 025, 026);
+        data[0_101] = data(027, 030, 031, 077, 077, 077);
+
+        assertTrue(runString(TES, 0_100, false, data(4, 0_10), 9, data));
+
+        data[0_12] = data(032, 0, 0, 0, 0, 0);
+        assertFalse(runString(TES, 0_100, false, data(4, 0_10), 9, data));
+        assertTrue(runString(TNES, 0_100, false, data(4, 0_10), 9, data));
+    }
+
+    @Test
+    public void testTES_Empty() throws MachineInterrupt {
+        var data = new long[DATA_SIZE];
+        assertTrue(runString(TES, 0_100, true, data(0, 0_10), 0, data));
+        assertFalse(runString(TNES, 0_100, true, data(0, 0_10), 0, data));
+    }
+}
@@ -11,11 +11,13 @@ public enum IoFunction {
     MoveForward,
     Read,
     ReadBackward,
+    ReadBatch,     // symbiont only - many images per IO, each preceded by a control word
     Reset,
     Rewind,
     RewindAndUnload,
     StartFile,
     Unmount,
     Write,
+    WriteBatch,    // symbiont only - many images per IO, each preceded by a control word
     WriteEndOfFile,
 }
@@ -60,7 +60,8 @@ public class ChannelIoPacket {
     public String toString() {
         final StringBuilder sb = new StringBuilder();
         sb.append("[node:").append(_nodeIdentifier).append(" ").append(_ioFunction);
-        if (_ioFunction == IoFunction.Read || _ioFunction == IoFunction.ReadBackward || _ioFunction == IoFunction.Write) {
+        if (_ioFunction == IoFunction.Read || _ioFunction == IoFunction.ReadBackward || _ioFunction == IoFunction.ReadBatch
+            || _ioFunction == IoFunction.Write || _ioFunction == IoFunction.WriteBatch) {
             sb.append(" len:").append(_buffer.getSize());
             if (_deviceWordAddress != null) {
                 sb.append(" drwa:").append(_deviceWordAddress);
@@ -150,7 +150,8 @@ public class DiskChannel extends Channel {
             return;
         }
 
-        if (ioPacket.getBuffer().limit() < blockExtent._byteCount) {
+        // the device writes the whole buffer, so it must be exactly the size of the transfer
+        if (ioPacket.getBuffer().capacity() != blockExtent._byteCount) {
             ioPacket.setBuffer(ByteBuffer.allocate((int)blockExtent._byteCount));
         }
 
@@ -4,6 +4,7 @@
 
 package com.bearsnake.komodo.hardwarelib.channels;
 
+import com.bearsnake.komodo.baselib.ArraySlice;
 import com.bearsnake.komodo.baselib.Word36;
 import com.bearsnake.komodo.hardwarelib.IoFunction;
 import com.bearsnake.komodo.hardwarelib.IoStatus;
@@ -14,14 +15,25 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.nio.ByteBuffer;
+import java.util.LinkedList;
 
 /**
  * Channel for symbiont devices
+ * <p>
+ * Read and Write transfer one image per IO. ReadBatch and WriteBatch transfer as many images as the buffer holds,
+ * in QuarterWord format only. Each image in the buffer is preceded by a control word which has the number of
+ * characters in the image in H2, and the pre-print line spacing in H1 (with bit 0_400000 meaning page-feed).
+ * For ReadBatch, bit 0_200000 of H1 is set instead if the image was truncated to fit MAX_IMAGE_WORDS.
+ * The image itself takes up as many words as are needed for its characters, at four characters per word.
  */
 public class SymbiontChannel extends Channel {
 
     private static final Logger LOGGER = LogManager.getLogger(SymbiontChannel.class);
 
+    public static final int MAX_IMAGE_WORDS = 33; // longest image, in quarter-words (a 132-column print line)
+    private static final long PAGE_FEED_FLAG = 0_400000;
+    private static final long TRUNCATED_FLAG = 0_200000;
+
     public SymbiontChannel(final String nodeName) {
         super(nodeName);
     }
@@ -53,8 +65,10 @@ public class SymbiontChannel extends Channel {
                 var device = (SymbiontDevice) _devices.get(nodeId);
                 switch (channelPacket.getIoFunction()) {
                     case Read -> processRead(device, channelPacket);
+                    case ReadBatch -> processReadBatch(device, channelPacket);
                     case Reset -> processReset(device, channelPacket);
                     case Write -> processWrite(device, channelPacket);
+                    case WriteBatch -> processWriteBatch(device, channelPacket);
                     default -> channelPacket.setIoStatus(IoStatus.InvalidFunction);
                 }
             }
@@ -63,6 +77,54 @@ public class SymbiontChannel extends Channel {
         LOGGER.trace("{}:routeIO done:{}", getNodeName(), channelPacket.toString());
     }
 
+    /**
+     * Creates the control word which precedes an image in a batched transfer
+     * @param charCount number of characters in the image
+     * @param spacing pre-print line spacing - less than zero means page-feed
+     */
+    public static long makeImageControlWord(
+        final int charCount,
+        final int spacing
+    ) {
+        var h1 = spacing < 0 ? PAGE_FEED_FLAG : spacing;
+        return Word36.setH1(charCount, h1);
+    }
+
+    public static int getImageCharCount(final long controlWord) {
+        return Word36.getH2(controlWord);
+    }
+
+    /**
+     * @return pre-print line spacing from an image control word - -1 means page-feed
+     */
+    public static int getImageSpacing(final long controlWord) {
+        var h1 = Word36.getH1(controlWord);
+        return (h1 & PAGE_FEED_FLAG) != 0 ? -1 : (int)(h1 & ~TRUNCATED_FLAG);
+    }
+
+    /**
+     * @return true if a ReadBatch image control word describes an image which was truncated
+     */
+    public static boolean isImageTruncated(final long controlWord) {
+        return (Word36.getH1(controlWord) & TRUNCATED_FLAG) != 0;
+    }
+
+    public static int getImageWordCount(final long controlWord) {
+        return (getImageCharCount(controlWord) + 3) / 4;
+    }
+
+    private static IoStatus checkBatchPacket(ChannelIoPacket channelPacket) {
+        if (channelPacket.getFormat() != TransferFormat.QuarterWord) {
+            return IoStatus.InvalidTransferFormat;
+        }
+
+        if (channelPacket.getBuffer() == null) {
+            return IoStatus.BufferIsNull;
+        }
+
+        return IoStatus.Successful;
+    }
+
     private static IoStatus checkPacket(ChannelIoPacket channelPacket) {
         if ((channelPacket.getFormat() != TransferFormat.QuarterWord)
             && (channelPacket.getFormat() != TransferFormat.SixthWord)) {
@@ -139,6 +201,58 @@ public class SymbiontChannel extends Channel {
                      .setAdditionalStatus(ioPacket.getAdditionalStatus());
     }
 
+    /**
+     * Asks the device for as many images as are sure to fit in the buffer, then stores each of them
+     * (behind its control word) in the buffer. Images which are too long are truncated, flagged as such
+     * in their control words, and result in ReadOverrun.
+     * The device may return EndOfFile along with the last few images of its input.
+     */
+    private synchronized void processReadBatch(SymbiontDevice device,
+                                               ChannelIoPacket channelPacket) {
+        var ioStatus = checkBatchPacket(channelPacket);
+        if (ioStatus != IoStatus.Successful) {
+            channelPacket.setIoStatus(ioStatus);
+            return;
+        }
+
+        var buffer = channelPacket.getBuffer();
+        var maxImages = buffer.getSize() / (1 + MAX_IMAGE_WORDS);
+        if (maxImages == 0) {
+            channelPacket.setIoStatus(IoStatus.InvalidBufferSize);
+            return;
+        }
+
+        var ioPacket = new SymbiontIoPacket().setMaxImages(maxImages);
+        ioPacket.setFunction(IoFunction.ReadBatch);
+        device.performIo(ioPacket);
+
+        var wx = 0;
+        var overrun = false;
+        if (ioPacket.getImages() != null) {
+            for (var image : ioPacket.getImages()) {
+                var inputChars = image.buffer().limit();
+                var actualChars = Math.min(MAX_IMAGE_WORDS * 4, inputChars);
+                var controlWord = makeImageControlWord(actualChars, image.spacing());
+                if (inputChars > actualChars) {
+                    controlWord = Word36.setH1(controlWord, Word36.getH1(controlWord) | TRUNCATED_FLAG);
+                    overrun = true;
+                }
+                var actualWords = getImageWordCount(controlWord);
+                buffer.set(wx, controlWord);
+                new ArraySlice(buffer, wx + 1, actualWords).unpackQuarterWords(image.buffer().array(), 0, actualChars);
+                wx += 1 + actualWords;
+            }
+        }
+
+        if (overrun && (ioPacket.getStatus() == IoStatus.Successful)) {
+            ioPacket.setStatus(IoStatus.ReadOverrun);
+        }
+
+        channelPacket.setActualWordCount(wx)
+                     .setIoStatus(ioPacket.getStatus())
+                     .setAdditionalStatus(ioPacket.getAdditionalStatus());
+    }
+
     private synchronized void processReset(SymbiontDevice device,
                                            ChannelIoPacket channelPacket) {
         var ioPacket = (SymbiontIoPacket) new SymbiontIoPacket().setFunction(channelPacket.getIoFunction());
@@ -180,4 +294,45 @@ public class SymbiontChannel extends Channel {
         channelPacket.setIoStatus(ioPacket.getStatus())
                      .setAdditionalStatus(ioPacket.getAdditionalStatus());
     }
+
+    /**
+     * Splits the buffer into its images and hands all of them to the device in one IO.
+     * The whole buffer is used, so the caller should provide a slice which ends with the last image.
+     */
+    private synchronized void processWriteBatch(SymbiontDevice device,
+                                                ChannelIoPacket channelPacket) {
+        var ioStatus = checkBatchPacket(channelPacket);
+        if (ioStatus != IoStatus.Successful) {
+            channelPacket.setIoStatus(ioStatus);
+            return;
+        }
+
+        var buffer = channelPacket.getBuffer();
+        var images = new LinkedList<SymbiontIoPacket.Image>();
+        var wx = 0;
+        while (wx < buffer.getSize()) {
+            var controlWord = buffer.get(wx);
+            var charCount = getImageCharCount(controlWord);
+            var wordCount = getImageWordCount(controlWord);
+            if ((wordCount > MAX_IMAGE_WORDS) || (wx + 1 + wordCount > buffer.getSize())) {
+                channelPacket.setIoStatus(IoStatus.InvalidBufferSize);
+                return;
+            }
+
+            var bytes = new byte[charCount];
+            new ArraySlice(buffer, wx + 1, wordCount).packQuarterWords(bytes);
+            images.add(new SymbiontIoPacket.Image(ByteBuffer.wrap(bytes), getImageSpacing(controlWord)));
+            wx += 1 + wordCount;
+        }
+
+        var ioPacket = new SymbiontIoPacket().setImages(images);
+        ioPacket.setFunction(IoFunction.WriteBatch);
+        device.performIo(ioPacket);
+
+        if (ioPacket.getStatus() == IoStatus.Successful) {
+            channelPacket.setActualWordCount(wx);
+        }
+        channelPacket.setIoStatus(ioPacket.getStatus())
+                     .setAdditionalStatus(ioPacket.getAdditionalStatus());
+    }
 }
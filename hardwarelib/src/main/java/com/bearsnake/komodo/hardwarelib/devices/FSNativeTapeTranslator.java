@@ -4,10 +4,8 @@
 
 package com.bearsnake.komodo.hardwarelib.devices;
 
-import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
 
 /**
@@ -21,135 +19,250 @@ import java.nio.channels.FileChannel;
  */
 public class FSNativeTapeTranslator extends FSTapeTranslator {
 
-    private static final byte[] TAPE_MARK = { (byte)0xff, (byte)0xff, (byte)0xff, (byte)0xff };
-    private static final ByteBuffer TAPE_MARK_BB = ByteBuffer.wrap(TAPE_MARK);
+    private static final int TAPE_MARK = -1;
 
-    private final ByteBuffer _controlWordBuffer;
+    private final FSTapeIndex _index = new FSTapeIndex();
 
     FSNativeTapeTranslator(
         final FileChannel channel
     ) {
         super(channel);
-        _controlWordBuffer = ByteBuffer.allocate(4);
-        _controlWordBuffer.order(ByteOrder.BIG_ENDIAN);
     }
 
-    private int readControlWord() throws IOException {
-        _controlWordBuffer.clear();
-        int bytes = _channel.read(_controlWordBuffer);
-        if (bytes < _controlWordBuffer.capacity()) {
-            throw new EOFException();
+    FSNativeTapeTranslator(
+        final FileChannel channel,
+        final int readAheadSize
+    ) {
+        super(channel, readAheadSize);
+    }
+
+    FSTapeIndex getIndex() { return _index; }
+
+    private int readControlWord(
+        final long position,
+        final boolean backward
+    ) throws IOException, EndOfTapeException {
+        var bb = readBytes(position, 4, backward);
+        return bb.getInt(0);
+    }
+
+    private void writeBytes(final ByteBuffer bb) throws IOException {
+        while (bb.hasRemaining()) {
+            _channel.write(bb, _position + bb.position());
         }
-        return _controlWordBuffer.getInt();
     }
 
-    private void writeControlWord(final int controlWord) throws IOException {
-        _controlWordBuffer.rewind();
-        _controlWordBuffer.putInt(controlWord);
-        int bytes = _channel.write(_controlWordBuffer);
-        if (bytes < _controlWordBuffer.capacity()) {
-            throw new EOFException();
+    /**
+     * Records a block we have just passed over going forward, if it is the next one the index needs
+     */
+    private void noteBlock(
+        final long position,
+        final long nextPosition,
+        final boolean isTapeMark
+    ) {
+        if (!_index.isComplete() && (_index.getEndPosition() == position)) {
+            _index.add(position, nextPosition, isTapeMark);
         }
     }
 
-    void moveBackward() throws IOException, EndOfTapeException {
-        long currentPosition = _channel.position();
-        while (true) {
-            long footerPosition = currentPosition - 4;
-            if (footerPosition < 0) {
-                throw new EndOfTapeException();
+    /**
+     * Extends the index by scanning the control words from the end of what is indexed,
+     * until it covers the given file offset, or reaches the end of the image.
+     */
+    private void scanIndex(final long untilPosition) throws IOException, DataException {
+        var size = _channel.size();
+        var position = _index.getEndPosition();
+        while (!_index.isComplete() && (position < untilPosition)) {
+            if (position + 4 > size) {
+                _index.setIsComplete();
+                break;
             }
 
-            _channel.position(footerPosition);
-            int cwf = readControlWord();
-            if (cwf == -1) {
-                _channel.position(footerPosition);
+            int cw;
+            try {
+                cw = readControlWord(position, false);
+            } catch (EndOfTapeException ex) {
+                _index.setIsComplete();
                 break;
             }
 
-            currentPosition = currentPosition - cwf - 8;
+            if (cw == TAPE_MARK) {
+                _index.add(position, position + 4, true);
+                position += 4;
+            } else if (cw < 0) {
+                throw new DataException();
+            } else if (position + cw + 8 > size) {
+                // a block which runs off the end of the image is as good as the end of tape
+                _index.setIsComplete();
+                break;
+            } else {
+                _index.add(position, position + cw + 8, false);
+                position += cw + 8;
+            }
         }
     }
 
-    void moveForward() throws IOException {
-        long currentPosition = _channel.position();
-        int cwh = readControlWord();
-        while (cwh != -1) {
-            long newPosition = currentPosition + cwh + 8;
-            _channel.position(newPosition);
-            currentPosition = newPosition;
-            cwh = readControlWord();
+    /**
+     * Moves backward over one block (or tape mark)
+     */
+    void moveBackward() throws IOException, DataException, EndOfTapeException, TapeMarkException {
+        if (_position < 4) {
+            throw new EndOfTapeException();
         }
+
+        long footerPosition = _position - 4;
+        int cwf = readControlWord(footerPosition, true);
+        if (cwf == TAPE_MARK) {
+            _position = footerPosition;
+            throw new TapeMarkException();
+        }
+
+        long headerPosition = footerPosition - cwf - 4;
+        if ((cwf < 0) || (headerPosition < 0) || (readControlWord(headerPosition, true) != cwf)) {
+            throw new DataException();
+        }
+
+        _position = headerPosition;
     }
 
-    ByteBuffer read() throws IOException, DataException, TapeMarkException {
-        long currentPosition = _channel.position();
+    /**
+     * Moves backward over the given number of tape marks, leaving us positioned in front of the last one.
+     * If there are not that many, we end up at the load point, and report end of tape.
+     */
+    void moveBackwardFiles(final int count) throws IOException, DataException, EndOfTapeException {
+        scanIndex(_position);
+        var target = _index.findTapeMark(_index.findBlock(_position)) - count;
+        if (target < 0) {
+            _position = 0;
+            throw new EndOfTapeException();
+        }
+
+        _position = _index.getTapeMarkPosition(target);
+    }
 
-        // read header
-        int cwh = readControlWord();
-        if (cwh == -1) {
+    /**
+     * Moves forward over one block (or tape mark)
+     */
+    void moveForward() throws IOException, DataException, EndOfTapeException, TapeMarkException {
+        int cwh = readControlWord(_position, false);
+        if (cwh == TAPE_MARK) {
+            noteBlock(_position, _position + 4, true);
+            _position += 4;
             throw new TapeMarkException();
         }
 
-        // read data
-        var bb = ByteBuffer.allocate(cwh);
-        long dataPosition = currentPosition + 4;
-        _channel.read(bb, dataPosition);
+        if ((cwh < 0) || (readControlWord(_position + 4 + cwh, false) != cwh)) {
+            throw new DataException();
+        }
 
-        int cwf = readControlWord();
-        if (cwf != cwh) {
+        noteBlock(_position, _position + cwh + 8, false);
+        _position += cwh + 8;
+    }
+
+    /**
+     * Moves forward over the given number of tape marks, leaving us positioned just beyond the last one.
+     * If there are not that many, we end up at the end of the image, and report end of tape.
+     */
+    void moveForwardFiles(final int count) throws IOException, DataException, EndOfTapeException {
+        scanIndex(Long.MAX_VALUE);
+        var target = _index.findTapeMark(_index.findBlock(_position)) + count - 1;
+        if (target >= _index.getTapeMarkCount()) {
+            _position = _index.getEndPosition();
+            throw new EndOfTapeException();
+        }
+
+        _position = _index.getTapeMarkPosition(target) + 4;
+    }
+
+    ByteBuffer read() throws IOException, DataException, EndOfTapeException, TapeMarkException {
+        int cwh = readControlWord(_position, false);
+        if (cwh == TAPE_MARK) {
+            noteBlock(_position, _position + 4, true);
+            _position += 4;
+            throw new TapeMarkException();
+        } else if (cwh < 0) {
+            throw new DataException();
+        }
+
+        // data and footer together
+        var bb = readBytes(_position + 4, cwh + 4, false);
+        if (bb.getInt(cwh) != cwh) {
             throw new DataException();
         }
 
-        return bb;
+        var data = ByteBuffer.allocate(cwh);
+        data.put(0, bb, 0, cwh);
+
+        noteBlock(_position, _position + cwh + 8, false);
+        _position += cwh + 8;
+        return data;
     }
 
     ByteBuffer readBackward() throws IOException, DataException, EndOfTapeException, TapeMarkException {
-        long currentPosition = _channel.position();
-        if (currentPosition < 4) {
+        if (_position < 4) {
             throw new EndOfTapeException();
         }
 
-        // read previous block footer
-        long footerPosition = currentPosition - 4;
-        _channel.position(footerPosition);
-        int cwf = readControlWord();
-        if (cwf == -1) {
-            _channel.position(footerPosition);
+        long footerPosition = _position - 4;
+        int cwf = readControlWord(footerPosition, true);
+        if (cwf == TAPE_MARK) {
+            _position = footerPosition;
             throw new TapeMarkException();
         }
 
-        var bb = ByteBuffer.allocate(cwf);
-        long dataPosition = footerPosition - cwf;
-        _channel.read(bb, dataPosition);
+        long headerPosition = footerPosition - cwf - 4;
+        if ((cwf < 0) || (headerPosition < 0)) {
+            throw new DataException();
+        }
 
-        long headerPosition = dataPosition - 4;
-        _channel.position(headerPosition);
-        int cwh = readControlWord();
-        if (cwf != cwh) {
+        // header and data together
+        var bb = readBytes(headerPosition, cwf + 4, true);
+        if (bb.getInt(0) != cwf) {
             throw new DataException();
         }
 
-        _channel.position(headerPosition);
-        return bb;
+        var data = ByteBuffer.allocate(cwf);
+        data.put(0, bb, 4, cwf);
+
+        _position = headerPosition;
+        return data;
+    }
+
+    /**
+     * Writing a block makes everything beyond it unreachable, as on a real tape - so we truncate the image
+     * (and the index) at the current position before writing.
+     */
+    private void truncate() throws IOException {
+        invalidateReadAhead();
+        _index.truncate(_position);
+        if (_channel.size() > _position) {
+            _channel.truncate(_position);
+        }
     }
 
     int write(final ByteBuffer bb) throws IOException {
-        int bytes = 0;
+        truncate();
+
         int cw = bb.capacity();
-        writeControlWord(cw);
-        if (cw > 0) {
-            bb.rewind();
-            bytes = _channel.write(bb);
-            if (bytes < cw) {
-                throw new IOException("Insufficient bytes written");
-            }
-        }
-        writeControlWord(cw);
-        return bytes;
+        var block = ByteBuffer.allocate(cw + 8);
+        block.putInt(cw);
+        block.put(bb.duplicate().clear());
+        block.putInt(cw);
+        writeBytes(block.flip());
+
+        noteBlock(_position, _position + cw + 8, false);
+        _position += cw + 8;
+        return cw;
     }
 
     int writeTapeMark() throws IOException {
-        return _channel.write(TAPE_MARK_BB);
+        truncate();
+
+        var block = ByteBuffer.allocate(4).putInt(TAPE_MARK);
+        writeBytes(block.flip());
+
+        noteBlock(_position, _position + 4, true);
+        _position += 4;
+        return 4;
     }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.hardwarelib.devices;
+
+import java.util.Arrays;
+
+/**
+ * Index of the blocks and tape marks in a file-system tape image, in tape order.
+ * It covers the image from the start up to getEndPosition(), and is extended by the translator as it learns
+ * about more of the tape - either by reading forward, or by scanning the rest of the image when it needs to space
+ * over files. Writing truncates the index at the point of the write, as it does the tape.
+ */
+class FSTapeIndex {
+
+    private long[] _blockPositions = new long[1024]; // file offset of each block (or tape mark)
+    private int _blockCount = 0;
+    private int[] _tapeMarks = new int[64];          // block numbers of the tape marks, ascending
+    private int _tapeMarkCount = 0;
+    private long _endPosition = 0;                   // file offset just past the last block indexed
+    private boolean _isComplete = false;             // true if the index reaches the end of the image
+
+    long getEndPosition() { return _endPosition; }
+    int getBlockCount() { return _blockCount; }
+    int getTapeMarkCount() { return _tapeMarkCount; }
+    boolean isComplete() { return _isComplete; }
+
+    long getBlockPosition(final int blockNumber) { return _blockPositions[blockNumber]; }
+    long getTapeMarkPosition(final int tapeMarkNumber) { return _blockPositions[_tapeMarks[tapeMarkNumber]]; }
+
+    /**
+     * Adds the block at the end of the index
+     * @param position file offset of the block
+     * @param nextPosition file offset of whatever follows the block
+     * @param isTapeMark true if the block is a tape mark
+     */
+    void add(
+        final long position,
+        final long nextPosition,
+        final boolean isTapeMark
+    ) {
+        if (_blockCount == _blockPositions.length) {
+            _blockPositions = Arrays.copyOf(_blockPositions, _blockCount * 2);
+        }
+        if (isTapeMark) {
+            if (_tapeMarkCount == _tapeMarks.length) {
+                _tapeMarks = Arrays.copyOf(_tapeMarks, _tapeMarkCount * 2);
+            }
+            _tapeMarks[_tapeMarkCount++] = _blockCount;
+        }
+        _blockPositions[_blockCount++] = position;
+        _endPosition = nextPosition;
+    }
+
+    void setIsComplete() { _isComplete = true; }
+
+    /**
+     * Finds the number of the first block which starts at or after the given file offset.
+     * If the offset is past the last indexed block, the result is the block count.
+     */
+    int findBlock(final long position) {
+        var bx = Arrays.binarySearch(_blockPositions, 0, _blockCount, position);
+        return bx >= 0 ? bx : -(bx + 1);
+    }
+
+    /**
+     * Finds the number of the first tape mark at or after the given block number.
+     * If there is none, the result is the tape mark count.
+     */
+    int findTapeMark(final int blockNumber) {
+        var tx = Arrays.binarySearch(_tapeMarks, 0, _tapeMarkCount, blockNumber);
+        return tx >= 0 ? tx : -(tx + 1);
+    }
+
+    /**
+     * Drops everything at and beyond the given file offset - for when the tape is written at that point.
+     */
+    void truncate(final long position) {
+        _blockCount = findBlock(position);
+        _tapeMarkCount = findTapeMark(_blockCount);
+        _endPosition = Math.min(_endPosition, position);
+        _isComplete = false;
+    }
+}
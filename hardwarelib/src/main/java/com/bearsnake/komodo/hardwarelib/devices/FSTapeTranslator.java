@@ -8,31 +8,113 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 
+/**
+ * Base class for the translators which lay out tape blocks in a native file.
+ * <p>
+ * The translator keeps its own notion of the tape position, and does all of its reads positionally through
+ * a read-ahead window - a large buffer holding a run of the file around the most recent read. Reading a block
+ * is then usually a matter of slicing the window, rather than a system call for each control word and data area.
+ * The window is filled forward of the requested bytes when reading forward, and behind them when reading backward.
+ * <p>
+ * Subclasses also keep a block index (see FSTapeIndex) which is built lazily, so that spacing over files
+ * is a lookup and a seek rather than a walk over every block in between.
+ */
 public abstract class FSTapeTranslator {
 
     public static class DataException extends Exception{}
     public static class EndOfTapeException extends Exception{}
     public static class TapeMarkException extends Exception{}
 
+    static final int DEFAULT_READ_AHEAD_SIZE = 1024 * 1024;
+
     protected final FileChannel _channel;
+    protected long _position = 0; // byte offset of the current tape position
+
+    private final ByteBuffer _readAhead;
+    private long _readAheadPosition = 0; // file offset of the first byte in the window
+    private int _readAheadLimit = 0;     // number of valid bytes in the window
 
     FSTapeTranslator(
         final FileChannel channel
+    ) {
+        this(channel, DEFAULT_READ_AHEAD_SIZE);
+    }
+
+    FSTapeTranslator(
+        final FileChannel channel,
+        final int readAheadSize
     ) {
         _channel = channel;
+        _readAhead = ByteBuffer.allocate(readAheadSize);
     }
 
-    abstract void moveBackward() throws IOException, EndOfTapeException;
-    abstract void moveForward() throws IOException;
-    abstract ByteBuffer read() throws IOException, DataException, TapeMarkException;
-    abstract ByteBuffer readBackward() throws IOException, EndOfTapeException, TapeMarkException, DataException;
+    long getPosition() { return _position; }
+
+    abstract void moveBackward() throws IOException, DataException, EndOfTapeException, TapeMarkException;
+    abstract void moveBackwardFiles(final int count) throws IOException, DataException, EndOfTapeException;
+    abstract void moveForward() throws IOException, DataException, EndOfTapeException, TapeMarkException;
+    abstract void moveForwardFiles(final int count) throws IOException, DataException, EndOfTapeException;
+    abstract ByteBuffer read() throws IOException, DataException, EndOfTapeException, TapeMarkException;
+    abstract ByteBuffer readBackward() throws IOException, DataException, EndOfTapeException, TapeMarkException;
     abstract int write(final ByteBuffer bb) throws IOException;
     abstract int writeTapeMark() throws IOException;
 
-//    protected int readBytes(final ByteBuffer bb,
-//                            final long position,
-//                            final int transferSize) throws IOException {
-//        var buf = bb.capacity() > transferSize ? bb.slice(0, transferSize) : bb;
-//        return _channel.read(buf, position);
-//    }
+    void rewind() {
+        _position = 0;
+    }
+
+    /**
+     * Drops the content of the read-ahead window - must be done whenever the file is written.
+     */
+    protected void invalidateReadAhead() {
+        _readAheadLimit = 0;
+    }
+
+    /**
+     * Produces the given range of bytes from the file.
+     * @param position file offset of the first byte
+     * @param length number of bytes
+     * @param backward true if we are moving toward the start of the file, in which case the window is filled
+     *                 with the bytes preceding the requested range
+     * @return a buffer with the bytes between its position and limit - if it is a slice of the read-ahead window,
+     * it is only good until the next call
+     * @throws EndOfTapeException if the range extends beyond the end of the file
+     */
+    protected ByteBuffer readBytes(
+        final long position,
+        final int length,
+        final boolean backward
+    ) throws IOException, EndOfTapeException {
+        if ((position >= _readAheadPosition) && (position + length <= _readAheadPosition + _readAheadLimit)) {
+            return _readAhead.slice((int)(position - _readAheadPosition), length);
+        }
+
+        if (length > _readAhead.capacity()) {
+            // too big for the window - read it directly
+            var bb = ByteBuffer.allocate(length);
+            while (bb.hasRemaining()) {
+                if (_channel.read(bb, position + bb.position()) < 0) {
+                    throw new EndOfTapeException();
+                }
+            }
+            return bb.flip();
+        }
+
+        var start = backward ? Math.max(0, position + length - _readAhead.capacity()) : position;
+        _readAhead.clear();
+        _readAheadPosition = start;
+        _readAheadLimit = 0;
+        while (_readAhead.hasRemaining()) {
+            var bytes = _channel.read(_readAhead, start + _readAhead.position());
+            if (bytes < 0) {
+                break;
+            }
+        }
+        _readAheadLimit = _readAhead.position();
+
+        if (position + length > _readAheadPosition + _readAheadLimit) {
+            throw new EndOfTapeException();
+        }
+        return _readAhead.slice((int)(position - _readAheadPosition), length);
+    }
 }
@@ -12,6 +12,7 @@ import org.apache.logging.log4j.Logger;
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -60,6 +61,7 @@ public class FileSystemCardPunchDevice extends SymbiontPunchDevice {
                 case Reset -> doReset(symbiontPacket);
                 case StartFile -> doStartFile(symbiontPacket);
                 case Write -> doWrite(symbiontPacket);
+                case WriteBatch -> doWriteBatch(symbiontPacket);
                 case WriteEndOfFile -> doWriteEndOfFile(symbiontPacket);
                 default -> packet.setStatus(IoStatus.InvalidFunction);
             }
@@ -130,8 +132,7 @@ public class FileSystemCardPunchDevice extends SymbiontPunchDevice {
         }
 
         try {
-            _writer.write(new String(packet.getBuffer().array()));
-            _writer.newLine();
+            punchImage(packet.getBuffer());
             packet.setStatus(IoStatus.Successful);
         } catch (IOException ex) {
             close();
@@ -139,6 +140,28 @@ public class FileSystemCardPunchDevice extends SymbiontPunchDevice {
         }
     }
 
+    private void doWriteBatch(final SymbiontIoPacket packet) {
+        if (!isReady()) {
+            packet.setStatus(IoStatus.DeviceIsNotReady);
+            return;
+        }
+
+        try {
+            for (var image : packet.getImages()) {
+                punchImage(image.buffer());
+            }
+            packet.setStatus(IoStatus.Successful);
+        } catch (IOException ex) {
+            close();
+            packet.setStatus(IoStatus.SystemError).setAdditionalStatus(ex.getMessage());
+        }
+    }
+
+    private void punchImage(final ByteBuffer buffer) throws IOException {
+        _writer.write(new String(buffer.array()));
+        _writer.newLine();
+    }
+
     private void doWriteEndOfFile(final SymbiontIoPacket packet) {
         if (!isReady()) {
             packet.setStatus(IoStatus.DeviceIsNotReady);
@@ -15,6 +15,7 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
+import java.util.LinkedList;
 import java.util.stream.Stream;
 
 public class FileSystemCardReaderDevice extends SymbiontReaderDevice {
@@ -84,6 +85,7 @@ public class FileSystemCardReaderDevice extends SymbiontReaderDevice {
         if (packet instanceof SymbiontIoPacket symPacket) {
             switch (packet.getFunction()) {
                 case Read -> doRead(symPacket);
+                case ReadBatch -> doReadBatch(symPacket);
                 case Reset -> doReset(symPacket);
                 default -> packet.setStatus(IoStatus.InvalidFunction);
             }
@@ -113,18 +115,44 @@ public class FileSystemCardReaderDevice extends SymbiontReaderDevice {
         }
 
         try {
-            var input = _reader.readLine();
-            if (input == null) {
+            var image = readImage();
+            if (image == null) {
                 packet.setStatus(IoStatus.EndOfFile);
                 dropAndClose();
                 return;
             }
 
-            var mod = input.length() % 4;
-            if (mod > 0) {
-                input += "    ".substring(mod);
+            packet.setBuffer(image);
+            packet.setStatus(IoStatus.Successful);
+        } catch (IOException ex) {
+            dropAndClose();
+            packet.setStatus(IoStatus.SystemError).setAdditionalStatus(ex.getMessage());
+        }
+    }
+
+    /**
+     * Reads up to packet.getMaxImages() images in one IO.
+     * If we run out of input part way through, the images we did read are returned along with EndOfFile status,
+     * since the file is dropped at that point and there would be no way to report the end of it on a later IO.
+     */
+    private void doReadBatch(final SymbiontIoPacket packet) {
+        if (!isReady()) {
+            packet.setStatus(IoStatus.DeviceIsNotReady);
+            return;
+        }
+
+        var images = new LinkedList<SymbiontIoPacket.Image>();
+        packet.setImages(images);
+        try {
+            while (images.size() < packet.getMaxImages()) {
+                var image = readImage();
+                if (image == null) {
+                    packet.setStatus(IoStatus.EndOfFile);
+                    dropAndClose();
+                    return;
+                }
+                images.add(new SymbiontIoPacket.Image(image, 0));
             }
-            packet.setBuffer(ByteBuffer.wrap(input.getBytes()));
             packet.setStatus(IoStatus.Successful);
         } catch (IOException ex) {
             dropAndClose();
@@ -142,6 +170,23 @@ public class FileSystemCardReaderDevice extends SymbiontReaderDevice {
         packet.setStatus(IoStatus.Successful);
     }
 
+    /**
+     * Reads the next image from the input file, padded with blanks to a multiple of four characters.
+     * @return the image, or null if we have reached the end of the file
+     */
+    private ByteBuffer readImage() throws IOException {
+        var input = _reader.readLine();
+        if (input == null) {
+            return null;
+        }
+
+        var mod = input.length() % 4;
+        if (mod > 0) {
+            input += "    ".substring(mod);
+        }
+        return ByteBuffer.wrap(input.getBytes());
+    }
+
     /**
      * If there is a file open, close and delete it.
      */
@@ -9,8 +9,11 @@ import com.bearsnake.komodo.hardwarelib.IoStatus;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -60,6 +63,7 @@ public class FileSystemPrinterDevice extends SymbiontPrinterDevice {
                 case Reset -> doReset(symbiontPacket);
                 case StartFile -> doStartFile(symbiontPacket);
                 case Write -> doWrite(symbiontPacket);
+                case WriteBatch -> doWriteBatch(symbiontPacket);
                 case WriteEndOfFile -> doWriteEndOfFile(symbiontPacket);
                 default -> packet.setStatus(IoStatus.InvalidFunction);
             }
@@ -113,7 +117,7 @@ public class FileSystemPrinterDevice extends SymbiontPrinterDevice {
         String dtStr = dateTime.format(formatter);
         var filename = String.format("%s%s-%s.txt", _fileSystemPath, packet.getMediaIdentifier(), dtStr);
         try {
-            _printer = new PrintStream(filename);
+            _printer = new PrintStream(new BufferedOutputStream(new FileOutputStream(filename)));
             _topOfPage = true;
         } catch (IOException ex) {
             _printer = null;
@@ -130,21 +134,41 @@ public class FileSystemPrinterDevice extends SymbiontPrinterDevice {
             return;
         }
 
-        if (packet.getSpacing() < 0) {
+        printImage(packet.getBuffer(), packet.getSpacing());
+        packet.setStatus(IoStatus.Successful);
+    }
+
+    private void doWriteBatch(final SymbiontIoPacket packet) {
+        if (!isReady()) {
+            packet.setStatus(IoStatus.DeviceIsNotReady);
+            return;
+        }
+
+        for (var image : packet.getImages()) {
+            printImage(image.buffer(), image.spacing());
+        }
+        packet.setStatus(IoStatus.Successful);
+    }
+
+    private void printImage(
+        final ByteBuffer buffer,
+        final int spacing
+    ) {
+        if (spacing < 0) {
             _printer.printf("%c", 0x0C); // Form Feed
             _topOfPage = false;
-        } else if (packet.getSpacing() > 0) {
-            var spacing = packet.getSpacing();
+        } else if (spacing > 0) {
+            var lines = spacing;
             if (_topOfPage) {
-                spacing--;
+                lines--;
             }
-            for (int nlx = 0; nlx < spacing; nlx++) {
+            for (int nlx = 0; nlx < lines; nlx++) {
                 _printer.println();
             }
         }
 
-        _printer.print(new String(packet.getBuffer().array()));
-        packet.setStatus(IoStatus.Successful);
+        _printer.print(new String(buffer.array()));
+        _topOfPage = false;
     }
 
     private void doWriteEndOfFile(final SymbiontIoPacket packet) {
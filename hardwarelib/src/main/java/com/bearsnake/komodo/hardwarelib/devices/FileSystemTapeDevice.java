@@ -19,6 +19,8 @@ import static java.nio.file.StandardOpenOption.*;
  * A virtual tape device which reads and writes native file-system files as if they were tape volumes.
  * We support multiple versions/layouts of tape blocks.
  * Writes must provide a buffer containing the exact block of data to be written.
+ * Reads replace the packet's buffer with one containing the block which was read.
+ * Spacing operations move one block at a time, or over a number of files if the packet has a file count.
  */
 public class FileSystemTapeDevice extends TapeDevice {
 
@@ -42,39 +44,26 @@ public class FileSystemTapeDevice extends TapeDevice {
     public final void probe() {}
 
     @Override
-    public void performIo(final IoPacket packet) {
+    public synchronized void performIo(final IoPacket packet) {
         if (_logIos) {
             LOGGER.trace("{}:performIo enter({})", _nodeName, packet.toString());
         }
 
         if (packet instanceof TapeIoPacket tapePacket) {
             switch (packet.getFunction()) {
-                case GetInfo:
-                    doGetInfo(tapePacket);
-                case Mount:
-                    doMount(tapePacket);
-                case MoveBackward:
-                    doMoveBackward(tapePacket);
-                case MoveForward:
-                    doMoveForward(tapePacket);
-                case Read:
-                    doRead(tapePacket);
-                case ReadBackward:
-                    doReadBackward(tapePacket);
-                case Reset:
-                    doReset(tapePacket);
-                case Rewind:
-                    doRewind(tapePacket);
-                case RewindAndUnload:
-                    doRewindAndUnload(tapePacket);
-                case Unmount:
-                    doUnmount(tapePacket);
-                case Write:
-                    doWrite(tapePacket);
-                case WriteEndOfFile:
-                    doWriteTapeMark(tapePacket);
-                default:
-                    packet.setStatus(IoStatus.InvalidFunction);
+                case GetInfo -> doGetInfo(tapePacket);
+                case Mount -> doMount(tapePacket);
+                case MoveBackward -> doMoveBackward(tapePacket);
+                case MoveForward -> doMoveForward(tapePacket);
+                case Read -> doRead(tapePacket);
+                case ReadBackward -> doReadBackward(tapePacket);
+                case Reset -> doReset(tapePacket);
+                case Rewind -> doRewind(tapePacket);
+                case RewindAndUnload -> doRewindAndUnload(tapePacket);
+                case Unmount -> doUnmount(tapePacket);
+                case Write -> doWrite(tapePacket);
+                case WriteEndOfFile -> doWriteTapeMark(tapePacket);
+                default -> packet.setStatus(IoStatus.InvalidFunction);
             }
         } else {
             packet.setStatus(IoStatus.InvalidPacket);
@@ -106,19 +95,19 @@ public class FileSystemTapeDevice extends TapeDevice {
     public boolean isMounted() { return _channel != null; }
     public boolean isWriteProtected() { return _writeProtected; }
 
-    private synchronized void doGetInfo(final TapeIoPacket packet) {
+    private void doGetInfo(final TapeIoPacket packet) {
         packet.setDeviceInfo(getInfo());
         packet.setStatus(IoStatus.Successful);
     }
 
-    private synchronized void doMount(final TapeIoPacket packet) {
+    private void doMount(final TapeIoPacket packet) {
         if (packet.getMountInfo() == null) {
             packet.setStatus(IoStatus.InvalidPacket);
             return;
         }
 
-        if (_channel == null) {
-            packet.setStatus(IoStatus.MediaNotMounted);
+        if (_channel != null) {
+            packet.setStatus(IoStatus.MediaAlreadyMounted);
             return;
         }
 
@@ -138,10 +127,14 @@ public class FileSystemTapeDevice extends TapeDevice {
         _writeProtected = packet.getMountInfo().getWriteProtected();
         _translator = new FSNativeTapeTranslator(_channel);
         _canRead = true;
+        setIsReady(true);
         packet.setStatus(IoStatus.Successful);
     }
 
-    private synchronized void doMoveBackward(final TapeIoPacket packet) {
+    /**
+     * Spaces backward one block, or (if the packet has a file count) over that many tape marks
+     */
+    private void doMoveBackward(final TapeIoPacket packet) {
         if (!isReady()) {
             packet.setStatus(IoStatus.DeviceIsNotReady);
             return;
@@ -153,10 +146,14 @@ public class FileSystemTapeDevice extends TapeDevice {
         }
 
         try {
-            _translator.readBackward();
-        } catch (FSTapeTranslator.DataException e) {
+            if (packet.getFileCount() > 0) {
+                _translator.moveBackwardFiles(packet.getFileCount());
+            } else {
+                _translator.moveBackward();
+            }
+        } catch (FSTapeTranslator.DataException ex) {
             packet.setStatus(IoStatus.DataException);
-            throw new RuntimeException(e);
+            return;
         } catch (FSTapeTranslator.EndOfTapeException ex) {
             packet.setStatus(IoStatus.EndOfTape);
             return;
@@ -164,14 +161,18 @@ public class FileSystemTapeDevice extends TapeDevice {
             packet.setStatus(IoStatus.EndOfFile);
             return;
         } catch (IOException ex) {
-            packet.setStatus(IoStatus.SystemError);
+            packet.setStatus(IoStatus.SystemError).setAdditionalStatus(ex.getMessage());
             return;
         }
 
         packet.setStatus(IoStatus.Successful);
     }
 
-    private synchronized void doMoveForward(final TapeIoPacket packet) {
+    /**
+     * Spaces forward one block, or (if the packet has a file count) over that many tape marks.
+     * Rewind followed by a MoveForward of n files positions the tape at the start of file n (counting from zero).
+     */
+    private void doMoveForward(final TapeIoPacket packet) {
         if (!isReady()) {
             packet.setStatus(IoStatus.DeviceIsNotReady);
             return;
@@ -183,10 +184,14 @@ public class FileSystemTapeDevice extends TapeDevice {
         }
 
         try {
-            _translator.readBackward();
-        } catch (FSTapeTranslator.DataException e) {
+            if (packet.getFileCount() > 0) {
+                _translator.moveForwardFiles(packet.getFileCount());
+            } else {
+                _translator.moveForward();
+            }
+        } catch (FSTapeTranslator.DataException ex) {
             packet.setStatus(IoStatus.DataException);
-            throw new RuntimeException(e);
+            return;
         } catch (FSTapeTranslator.EndOfTapeException ex) {
             packet.setStatus(IoStatus.EndOfTape);
             return;
@@ -194,19 +199,14 @@ public class FileSystemTapeDevice extends TapeDevice {
             packet.setStatus(IoStatus.EndOfFile);
             return;
         } catch (IOException ex) {
-            packet.setStatus(IoStatus.SystemError);
+            packet.setStatus(IoStatus.SystemError).setAdditionalStatus(ex.getMessage());
             return;
         }
 
         packet.setStatus(IoStatus.Successful);
     }
 
-    private synchronized void doRead(final TapeIoPacket packet) {
-        if (packet.getBuffer() == null) {
-            packet.setStatus(IoStatus.InvalidPacket);
-            return;
-        }
-
+    private void doRead(final TapeIoPacket packet) {
         if (!isReady()) {
             packet.setStatus(IoStatus.DeviceIsNotReady);
             return;
@@ -223,23 +223,21 @@ public class FileSystemTapeDevice extends TapeDevice {
         } catch (FSTapeTranslator.DataException ex) {
             packet.setStatus(IoStatus.DataException);
             return;
+        } catch (FSTapeTranslator.EndOfTapeException ex) {
+            packet.setStatus(IoStatus.EndOfTape);
+            return;
         } catch (FSTapeTranslator.TapeMarkException ex) {
             packet.setStatus(IoStatus.EndOfFile);
             return;
         } catch (IOException ex) {
-            packet.setStatus(IoStatus.SystemError);
+            packet.setStatus(IoStatus.SystemError).setAdditionalStatus(ex.getMessage());
             return;
         }
 
         packet.setStatus(IoStatus.Successful);
     }
 
-    private synchronized void doReadBackward(final TapeIoPacket packet) {
-        if (packet.getBuffer() == null) {
-            packet.setStatus(IoStatus.InvalidPacket);
-            return;
-        }
-
+    private void doReadBackward(final TapeIoPacket packet) {
         if (!isReady()) {
             packet.setStatus(IoStatus.DeviceIsNotReady);
             return;
@@ -253,9 +251,9 @@ public class FileSystemTapeDevice extends TapeDevice {
         try {
             packet.setBuffer(_translator.readBackward());
             packet.setBytesTransferred(packet.getBuffer().capacity());
-        } catch (FSTapeTranslator.DataException e) {
+        } catch (FSTapeTranslator.DataException ex) {
             packet.setStatus(IoStatus.DataException);
-            throw new RuntimeException(e);
+            return;
         } catch (FSTapeTranslator.EndOfTapeException ex) {
             packet.setStatus(IoStatus.EndOfTape);
             return;
@@ -263,84 +261,55 @@ public class FileSystemTapeDevice extends TapeDevice {
             packet.setStatus(IoStatus.EndOfFile);
             return;
         } catch (IOException ex) {
-            packet.setStatus(IoStatus.SystemError);
+            packet.setStatus(IoStatus.SystemError).setAdditionalStatus(ex.getMessage());
             return;
         }
 
         packet.setStatus(IoStatus.Successful);
     }
 
-    private synchronized void doReset(final TapeIoPacket packet) {
+    private void doReset(final TapeIoPacket packet) {
         if (!isReady()) {
             packet.setStatus(IoStatus.DeviceIsNotReady);
             return;
         }
 
-        try {
-            _channel.close();
-        } catch (IOException ex) {
-            LOGGER.error("{}:Error closing file:{}", _nodeName, ex);
-        }
-        _channel = null;
-        setIsReady(false);
-        packet.setStatus(IoStatus.Successful);
-
+        close();
         packet.setStatus(IoStatus.Successful);
     }
 
-    private synchronized void doRewind(final TapeIoPacket packet) {
+    private void doRewind(final TapeIoPacket packet) {
         if (!isReady()) {
             packet.setStatus(IoStatus.DeviceIsNotReady);
             return;
         }
 
-        try {
-            _channel.position(0);
-        } catch (IOException ex) {
-            packet.setStatus(IoStatus.Successful);
-            return;
-        }
-
+        _translator.rewind();
+        _canRead = true;
         packet.setStatus(IoStatus.Successful);
     }
 
-    private synchronized void doRewindAndUnload(final TapeIoPacket packet) {
+    private void doRewindAndUnload(final TapeIoPacket packet) {
         if (!isReady()) {
             packet.setStatus(IoStatus.DeviceIsNotReady);
             return;
         }
 
-        try {
-            _translator = null;
-            _channel.close();
-        } catch (IOException ex) {
-            LOGGER.error("{}:Error closing file:{}", _nodeName, ex);
-        }
-
-        _channel = null;
-        setIsReady(false);
+        close();
         packet.setStatus(IoStatus.Successful);
     }
 
-    private synchronized void doUnmount(final TapeIoPacket packet) {
+    private void doUnmount(final TapeIoPacket packet) {
         if (_channel == null) {
             packet.setStatus(IoStatus.MediaNotMounted);
             return;
         }
 
-        try {
-            _translator = null;
-            _channel.close();
-        } catch (IOException ex) {
-            LOGGER.error("{}:Error closing file:{}", _nodeName, ex);
-        }
-
-        _channel = null;
-        setIsReady(false);
+        close();
         packet.setStatus(IoStatus.Successful);
     }
 
-    private synchronized void doWrite(final TapeIoPacket packet) {
+    private void doWrite(final TapeIoPacket packet) {
         if (packet.getBuffer() == null) {
             packet.setStatus(IoStatus.InvalidPacket);
             return;
@@ -361,19 +330,14 @@ public class FileSystemTapeDevice extends TapeDevice {
             _canRead = false;
             packet.setBytesTransferred(bytes);
         } catch (IOException ex) {
-            packet.setStatus(IoStatus.SystemError);
+            packet.setStatus(IoStatus.SystemError).setAdditionalStatus(ex.getMessage());
             return;
         }
 
         packet.setStatus(IoStatus.Successful);
     }
 
-    private synchronized void doWriteTapeMark(final TapeIoPacket packet) {
-        if (packet.getBuffer() == null) {
-            packet.setStatus(IoStatus.InvalidPacket);
-            return;
-        }
-
+    private void doWriteTapeMark(final TapeIoPacket packet) {
         if (!isReady()) {
             packet.setStatus(IoStatus.DeviceIsNotReady);
             return;
@@ -389,10 +353,28 @@ public class FileSystemTapeDevice extends TapeDevice {
             _canRead = false;
             packet.setBytesTransferred(bytes);
         } catch (IOException ex) {
-            packet.setStatus(IoStatus.SystemError);
+            packet.setStatus(IoStatus.SystemError).setAdditionalStatus(ex.getMessage());
             return;
         }
 
         packet.setStatus(IoStatus.Successful);
     }
+
+    /**
+     * Closes the tape image (if there is one), which leaves the device with nothing mounted, and not ready.
+     */
+    @Override
+    public void close() {
+        if (_channel != null) {
+            try {
+                _channel.close();
+            } catch (IOException ex) {
+                LOGGER.error("{}:Error closing file:{}", _nodeName, ex);
+            }
+        }
+
+        _translator = null;
+        _channel = null;
+        setIsReady(false);
+    }
 }
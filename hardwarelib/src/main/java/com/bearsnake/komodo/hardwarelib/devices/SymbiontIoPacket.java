@@ -7,24 +7,39 @@ package com.bearsnake.komodo.hardwarelib.devices;
 import com.bearsnake.komodo.hardwarelib.IoPacket;
 
 import java.nio.ByteBuffer;
+import java.util.List;
 
 public class SymbiontIoPacket extends IoPacket {
 
+    /**
+     * One image of a ReadBatch or WriteBatch IO
+     * @param buffer the characters of the image
+     * @param spacing pre-print line spacing, as for a single Write
+     */
+    public record Image(ByteBuffer buffer, int spacing) {}
+
     private ByteBuffer _buffer;
+    private List<Image> _images; // for ReadBatch (filled in by the device) and WriteBatch
+    private int _maxImages; // for ReadBatch - the most images the device is to return
     private String _mediaIdentifier; // generally Run-id for output devices
     private int _spacing; // for image print (pre-print line spacing - <0 means page-feed)
 
     public SymbiontIoPacket() {}
 
     public ByteBuffer getBuffer() { return _buffer; }
+    public List<Image> getImages() { return _images; }
+    public int getMaxImages() { return _maxImages; }
     public String getMediaIdentifier() { return _mediaIdentifier; }
     public int getSpacing() { return _spacing; }
     public SymbiontIoPacket setBuffer(final ByteBuffer buffer) { _buffer = buffer; return this; }
+    public SymbiontIoPacket setImages(final List<Image> images) { _images = images; return this; }
+    public SymbiontIoPacket setMaxImages(final int value) { _maxImages = value; return this; }
     public SymbiontIoPacket setMediaIdentifier(final String mediaIdentifier) { _mediaIdentifier = mediaIdentifier; return this; }
     public SymbiontIoPacket setSpacing(final int value) { _spacing = value; return this; }
 
     @Override
     public String toString() {
-        return "[" + super.toString() + " mediaId:" + _mediaIdentifier + " spacing:" + _spacing + "]";
+        return "[" + super.toString() + " mediaId:" + _mediaIdentifier + " spacing:" + _spacing
+            + (_images == null ? "" : " images:" + _images.size()) + "]";
     }
 }
@@ -12,16 +12,20 @@ public class TapeIoPacket extends IoPacket {
 
     private ByteBuffer _buffer;
     private int _bytesTransferred;
+    private int _fileCount; // for MoveForward and MoveBackward - if non-zero, we space this many files rather than one block
 
     public TapeIoPacket() {}
 
     public ByteBuffer getBuffer() { return _buffer; }
     public int getBytesTransferred() { return _bytesTransferred; }
+    public int getFileCount() { return _fileCount; }
     public TapeIoPacket setBuffer(final ByteBuffer buffer) { _buffer = buffer; return this; }
     public TapeIoPacket setBytesTransferred(final int value) { _bytesTransferred = value; return this; }
+    public TapeIoPacket setFileCount(final int value) { _fileCount = value; return this; }
 
     @Override
     public String toString() {
-        return "[" + super.toString() + " bytesXferd:" + _bytesTransferred + "]";
+        return "[" + super.toString() + " bytesXferd:" + _bytesTransferred
+            + (_fileCount == 0 ? "" : " files:" + _fileCount) + "]";
     }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.hardwarelib.channels;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.hardwarelib.IoFunction;
+import com.bearsnake.komodo.hardwarelib.IoStatus;
+import com.bearsnake.komodo.hardwarelib.devices.DiskIoPacket;
+import com.bearsnake.komodo.hardwarelib.devices.FileSystemDiskDevice;
+import com.bearsnake.komodo.hardwarelib.devices.MountInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestDiskChannel {
+
+    private static final int WORDS_PER_BLOCK = 896; // 32 28-word sectors, each packed into 128 bytes
+
+    private Path _directory;
+    private FileSystemDiskDevice _device;
+    private DiskChannel _channel;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        _directory = Files.createTempDirectory("disk");
+        var packPath = _directory.resolve("pack");
+        _device = new FileSystemDiskDevice("DISK0", packPath.toString(), false);
+        _channel = new DiskChannel("CHDISK");
+        _channel.attach(_device);
+    }
+
+    @AfterEach
+    public void teardown() throws IOException {
+        var pkt = new DiskIoPacket();
+        pkt.setMountInfo(new MountInfo(_directory.resolve("pack").toString(), false));
+        pkt.setFunction(IoFunction.Unmount);
+        _device.performIo(pkt);
+        _channel.close();
+        try (var paths = Files.walk(_directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    private ChannelIoPacket transfer(
+        final IoFunction function,
+        final long deviceWordAddress,
+        final long[] words
+    ) {
+        var packet = new ChannelIoPacket().setNodeIdentifier(_device.getNodeIdentifier())
+                                          .setFormat(TransferFormat.Packed)
+                                          .setDeviceWordAddress(deviceWordAddress)
+                                          .setBuffer(new ArraySlice(words))
+                                          .setIoFunction(function);
+        _channel.routeIo(packet);
+        return packet;
+    }
+
+    private static long[] pattern(final int wordCount, final long seed) {
+        var words = new long[wordCount];
+        for (int wx = 0; wx < wordCount; wx++) {
+            words[wx] = ((wx + seed) * 0_010203_040506L) & 0_777777_777777L;
+        }
+        return words;
+    }
+
+    /**
+     * The channel's pooled buffers are larger than one block - a single-block write must not hand the device
+     * a buffer which is bigger than the transfer.
+     */
+    @Test
+    public void writeSingleBlock() {
+        var words = pattern(WORDS_PER_BLOCK, 1);
+        assertEquals(IoStatus.Successful, transfer(IoFunction.Write, 3 * WORDS_PER_BLOCK, words).getIoStatus());
+
+        var result = new long[WORDS_PER_BLOCK];
+        assertEquals(IoStatus.Successful, transfer(IoFunction.Read, 3 * WORDS_PER_BLOCK, result).getIoStatus());
+        assertArrayEquals(words, result);
+    }
+
+    @Test
+    public void writeSingleAndMultipleBlocks() {
+        var first = pattern(8 * WORDS_PER_BLOCK, 2);
+        var second = pattern(WORDS_PER_BLOCK, 3);
+        var third = pattern(2 * WORDS_PER_BLOCK, 4);
+        assertEquals(IoStatus.Successful, transfer(IoFunction.Write, 0, first).getIoStatus());
+        assertEquals(IoStatus.Successful, transfer(IoFunction.Write, 8 * WORDS_PER_BLOCK, second).getIoStatus());
+        assertEquals(IoStatus.Successful, transfer(IoFunction.Write, 9 * WORDS_PER_BLOCK, third).getIoStatus());
+
+        var result = new long[11 * WORDS_PER_BLOCK];
+        assertEquals(IoStatus.Successful, transfer(IoFunction.Read, 0, result).getIoStatus());
+        for (int wx = 0; wx < result.length; wx++) {
+            var expected = wx < 8 * WORDS_PER_BLOCK ? first[wx]
+                : wx < 9 * WORDS_PER_BLOCK ? second[wx - 8 * WORDS_PER_BLOCK]
+                : third[wx - 9 * WORDS_PER_BLOCK];
+            assertEquals(expected, result[wx], "word " + wx);
+        }
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.hardwarelib.devices;
+
+import com.bearsnake.komodo.hardwarelib.IoFunction;
+import com.bearsnake.komodo.hardwarelib.IoStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestFileSystemTapeDevice {
+
+    private Path _directory;
+    private Path _tapePath;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        _directory = Files.createTempDirectory("tape");
+        _tapePath = _directory.resolve("volume.tape");
+    }
+
+    @AfterEach
+    public void teardown() throws IOException {
+        Files.deleteIfExists(_tapePath);
+        Files.deleteIfExists(_directory);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Content of a block is a function of the file and block numbers, so that it can be checked when read back
+     */
+    private static byte[] blockContent(
+        final int fileNumber,
+        final int blockNumber,
+        final int blockSize
+    ) {
+        var bytes = new byte[blockSize];
+        for (int bx = 0; bx < blockSize; bx++) {
+            bytes[bx] = (byte)(fileNumber * 31 + blockNumber * 7 + bx);
+        }
+        return bytes;
+    }
+
+    /**
+     * Writes a native-format tape image directly (rather than through the device) with the given number of files,
+     * each of which has the given number of blocks and ends with a tape mark.
+     */
+    private void createImage(
+        final int fileCount,
+        final int blocksPerFile,
+        final int blockSize
+    ) throws IOException {
+        try (var out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(_tapePath.toFile()), 1024 * 1024))) {
+            for (int fx = 0; fx < fileCount; fx++) {
+                for (int bx = 0; bx < blocksPerFile; bx++) {
+                    out.writeInt(blockSize);
+                    out.write(blockContent(fx, bx, blockSize));
+                    out.writeInt(blockSize);
+                }
+                out.writeInt(-1);
+            }
+        }
+    }
+
+    private FileSystemTapeDevice mount(final boolean writeProtected) {
+        var device = new FileSystemTapeDevice("TAPE0");
+        var packet = new TapeIoPacket();
+        packet.setMountInfo(new MountInfo(_tapePath.toString(), writeProtected)).setFunction(IoFunction.Mount);
+        device.performIo(packet);
+        assertEquals(IoStatus.Successful, packet.getStatus());
+        return device;
+    }
+
+    private static TapeIoPacket io(
+        final FileSystemTapeDevice device,
+        final IoFunction function
+    ) {
+        var packet = new TapeIoPacket();
+        packet.setFunction(function);
+        device.performIo(packet);
+        return packet;
+    }
+
+    private static TapeIoPacket spaceFiles(
+        final FileSystemTapeDevice device,
+        final IoFunction function,
+        final int fileCount
+    ) {
+        var packet = new TapeIoPacket().setFileCount(fileCount);
+        packet.setFunction(function);
+        device.performIo(packet);
+        return packet;
+    }
+
+    private static TapeIoPacket write(
+        final FileSystemTapeDevice device,
+        final byte[] data
+    ) {
+        var packet = new TapeIoPacket().setBuffer(ByteBuffer.wrap(data));
+        packet.setFunction(IoFunction.Write);
+        device.performIo(packet);
+        return packet;
+    }
+
+    private static void assertBlock(
+        final TapeIoPacket packet,
+        final int fileNumber,
+        final int blockNumber,
+        final int blockSize
+    ) {
+        assertEquals(IoStatus.Successful, packet.getStatus());
+        assertEquals(blockSize, packet.getBytesTransferred());
+        assertArrayEquals(blockContent(fileNumber, blockNumber, blockSize), packet.getBuffer().array());
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    @Test
+    public void getInfo_doesNotFallThrough() throws IOException {
+        createImage(1, 1, 16);
+        var device = mount(true);
+
+        var packet = io(device, IoFunction.GetInfo);
+        assertEquals(IoStatus.Successful, packet.getStatus());
+        assertTrue(packet.getDeviceInfo().isMounted());
+        assertTrue(device.isMounted());
+        assertTrue(device.isReady());
+
+        assertBlock(io(device, IoFunction.Read), 0, 0, 16);
+        device.close();
+    }
+
+    @Test
+    public void mount_alreadyMounted() throws IOException {
+        createImage(1, 1, 16);
+        var device = mount(true);
+        var packet = new TapeIoPacket();
+        packet.setMountInfo(new MountInfo(_tapePath.toString(), true)).setFunction(IoFunction.Mount);
+        device.performIo(packet);
+        assertEquals(IoStatus.MediaAlreadyMounted, packet.getStatus());
+        device.close();
+    }
+
+    @Test
+    public void writeAndReadBack() {
+        var device = mount(false);
+        for (int fx = 0; fx < 2; fx++) {
+            for (int bx = 0; bx < 3; bx++) {
+                assertEquals(IoStatus.Successful, write(device, blockContent(fx, bx, 100 + bx)).getStatus());
+            }
+            assertEquals(IoStatus.Successful, io(device, IoFunction.WriteEndOfFile).getStatus());
+        }
+
+        // no reading after writing, until we rewind
+        assertEquals(IoStatus.ReadNotAllowed, io(device, IoFunction.Read).getStatus());
+        assertEquals(IoStatus.Successful, io(device, IoFunction.Rewind).getStatus());
+
+        for (int fx = 0; fx < 2; fx++) {
+            for (int bx = 0; bx < 3; bx++) {
+                assertBlock(io(device, IoFunction.Read), fx, bx, 100 + bx);
+            }
+            assertEquals(IoStatus.EndOfFile, io(device, IoFunction.Read).getStatus());
+        }
+        assertEquals(IoStatus.EndOfTape, io(device, IoFunction.Read).getStatus());
+        device.close();
+    }
+
+    @Test
+    public void writeProtected() throws IOException {
+        createImage(1, 1, 16);
+        var device = mount(true);
+        assertEquals(IoStatus.WriteProtected, write(device, new byte[16]).getStatus());
+        assertEquals(IoStatus.WriteProtected, io(device, IoFunction.WriteEndOfFile).getStatus());
+        device.close();
+    }
+
+    @Test
+    public void write_truncatesTheRestOfTheTape() throws IOException {
+        createImage(3, 4, 64);
+        var device = mount(false);
+
+        assertEquals(IoStatus.Successful, spaceFiles(device, IoFunction.MoveForward, 1).getStatus());
+        assertEquals(IoStatus.Successful, io(device, IoFunction.MoveForward).getStatus());
+        assertEquals(IoStatus.Successful, write(device, blockContent(9, 9, 32)).getStatus());
+        assertEquals(IoStatus.Successful, io(device, IoFunction.WriteEndOfFile).getStatus());
+
+        assertEquals((4 * 72 + 4) + 72 + 40 + 4, Files.size(_tapePath));
+
+        io(device, IoFunction.Rewind);
+        assertEquals(IoStatus.Successful, spaceFiles(device, IoFunction.MoveForward, 1).getStatus());
+        assertBlock(io(device, IoFunction.Read), 1, 0, 64);
+        assertBlock(io(device, IoFunction.Read), 9, 9, 32);
+        assertEquals(IoStatus.EndOfFile, io(device, IoFunction.Read).getStatus());
+        assertEquals(IoStatus.EndOfTape, io(device, IoFunction.Read).getStatus());
+        device.close();
+    }
+
+    @Test
+    public void moveForwardAndBackward_blocks() throws IOException {
+        createImage(2, 2, 32);
+        var device = mount(true);
+
+        assertEquals(IoStatus.Successful, io(device, IoFunction.MoveForward).getStatus());
+        assertEquals(IoStatus.Successful, io(device, IoFunction.MoveForward).getStatus());
+        assertEquals(IoStatus.EndOfFile, io(device, IoFunction.MoveForward).getStatus());
+        assertBlock(io(device, IoFunction.Read), 1, 0, 32);
+
+        assertEquals(IoStatus.Successful, io(device, IoFunction.MoveBackward).getStatus());
+        assertEquals(IoStatus.EndOfFile, io(device, IoFunction.MoveBackward).getStatus());
+        assertEquals(IoStatus.Successful, io(device, IoFunction.MoveBackward).getStatus());
+        assertBlock(io(device, IoFunction.Read), 0, 1, 32);
+
+        io(device, IoFunction.Rewind);
+        assertEquals(IoStatus.EndOfTape, io(device, IoFunction.MoveBackward).getStatus());
+        device.close();
+    }
+
+    @Test
+    public void readBackward() throws IOException {
+        createImage(2, 3, 48);
+        var device = mount(true);
+        assertEquals(IoStatus.EndOfTape, spaceFiles(device, IoFunction.MoveForward, 3).getStatus());
+
+        for (int fx = 1; fx >= 0; fx--) {
+            assertEquals(IoStatus.EndOfFile, io(device, IoFunction.ReadBackward).getStatus());
+            for (int bx = 2; bx >= 0; bx--) {
+                assertBlock(io(device, IoFunction.ReadBackward), fx, bx, 48);
+            }
+        }
+        assertEquals(IoStatus.EndOfTape, io(device, IoFunction.ReadBackward).getStatus());
+        device.close();
+    }
+
+    @Test
+    public void spaceFiles() throws IOException {
+        createImage(10, 5, 40);
+        var device = mount(true);
+
+        // search file 6
+        assertEquals(IoStatus.Successful, spaceFiles(device, IoFunction.MoveForward, 6).getStatus());
+        assertBlock(io(device, IoFunction.Read), 6, 0, 40);
+
+        // space forward from the middle of file 6 to the start of file 8
+        assertEquals(IoStatus.Successful, spaceFiles(device, IoFunction.MoveForward, 2).getStatus());
+        assertBlock(io(device, IoFunction.Read), 8, 0, 40);
+
+        // back over the tape mark ending file 7, then forward over it
+        assertEquals(IoStatus.Successful, spaceFiles(device, IoFunction.MoveBackward, 1).getStatus());
+        assertEquals(IoStatus.EndOfFile, io(device, IoFunction.Read).getStatus());
+        assertBlock(io(device, IoFunction.Read), 8, 0, 40);
+
+        // back over three tape marks puts us in front of the one ending file 5
+        assertEquals(IoStatus.Successful, spaceFiles(device, IoFunction.MoveBackward, 3).getStatus());
+        assertBlock(io(device, IoFunction.ReadBackward), 5, 4, 40);
+
+        // too far in either direction
+        assertEquals(IoStatus.EndOfTape, spaceFiles(device, IoFunction.MoveBackward, 20).getStatus());
+        assertBlock(io(device, IoFunction.Read), 0, 0, 40);
+        assertEquals(IoStatus.EndOfTape, spaceFiles(device, IoFunction.MoveForward, 20).getStatus());
+        assertEquals(IoStatus.EndOfTape, io(device, IoFunction.Read).getStatus());
+        device.close();
+    }
+
+    @Test
+    public void dataException() throws IOException {
+        createImage(1, 2, 16);
+        try (var raf = new RandomAccessFile(_tapePath.toFile(), "rw")) {
+            raf.seek(4 + 16);
+            raf.writeInt(15); // footer of the first block
+        }
+
+        var device = mount(true);
+        assertEquals(IoStatus.DataException, io(device, IoFunction.Read).getStatus());
+        assertEquals(IoStatus.DataException, io(device, IoFunction.MoveForward).getStatus());
+        device.close();
+    }
+
+    @Test
+    public void translator_smallReadAheadWindow() throws Exception {
+        // blocks bigger than the window are read directly, and the rest straddle window boundaries
+        createImage(3, 7, 300);
+        try (var channel = FileChannel.open(_tapePath, READ)) {
+            var translator = new FSNativeTapeTranslator(channel, 256);
+            for (int fx = 0; fx < 3; fx++) {
+                for (int bx = 0; bx < 7; bx++) {
+                    var bb = translator.read();
+                    assertArrayEquals(blockContent(fx, bx, 300), bb.array());
+                }
+                assertThrows(FSTapeTranslator.TapeMarkException.class, translator::read);
+            }
+
+            assertEquals(24, translator.getIndex().getBlockCount());
+            assertEquals(3, translator.getIndex().getTapeMarkCount());
+            assertThrows(FSTapeTranslator.EndOfTapeException.class, () -> translator.moveBackwardFiles(4));
+            translator.moveForwardFiles(2);
+            assertArrayEquals(blockContent(2, 0, 300), translator.read().array());
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reads a large multi-file tape image from end to end through the device, then searches for files near the end
+     * of the image, from a fresh mount (which builds the index) and then repeatedly from load point.
+     * Timings are in TapeDeviceBenchmark.
+     */
+    @Test
+    public void multiFileReadAndSearch() throws IOException {
+        var fileCount = 16;
+        var blocksPerFile = 500;
+        var blockSize = 1024;
+        createImage(fileCount, blocksPerFile, blockSize);
+
+        var device = mount(true);
+        for (int fx = 0; fx < fileCount; fx++) {
+            for (int bx = 0; bx < blocksPerFile; bx++) {
+                assertBlock(io(device, IoFunction.Read), fx, bx, blockSize);
+            }
+            assertEquals(IoStatus.EndOfFile, io(device, IoFunction.Read).getStatus());
+        }
+        assertEquals(IoStatus.EndOfTape, io(device, IoFunction.Read).getStatus());
+        device.close();
+
+        device = mount(true);
+        assertEquals(IoStatus.Successful, spaceFiles(device, IoFunction.MoveForward, fileCount - 1).getStatus());
+        assertBlock(io(device, IoFunction.Read), fileCount - 1, 0, blockSize);
+
+        for (int sx = 0; sx < 100; sx++) {
+            var fileNumber = 1 + sx % (fileCount - 1);
+            io(device, IoFunction.Rewind);
+            assertEquals(IoStatus.Successful, spaceFiles(device, IoFunction.MoveForward, fileNumber).getStatus());
+            assertEquals(IoStatus.Successful, spaceFiles(device, IoFunction.MoveBackward, 1).getStatus());
+            assertEquals(IoStatus.Successful, spaceFiles(device, IoFunction.MoveForward, 1).getStatus());
+            assertBlock(io(device, IoFunction.Read), fileNumber, 0, blockSize);
+        }
+        device.close();
+    }
+}
@@ -282,6 +282,16 @@ public class Configuration {
                                    "Maximum number of seconds to allow I/O timeout recovery per retry (0-63)."); // TODO maybe not supported
         */
 
+        putRestrictedConfigParameter(IOROUTE, STRING, new StringValue("LOR"), true, false,
+                                     """
+                                 Policy for choosing among the channel paths to a device.
+                                 LOR: The path with the least outstanding IO.
+                                 WRR: Weighted round-robin, according to the WEIGHT argument of each channel.""",
+                                     new EnumeratedRestriction(
+                                         new Value[]{
+                                             new StringValue("LOR"),
+                                             new StringValue("WRR")}));
+
         // IOTASGMNE is n/a
         // IOTFLXTRAN is n/a
         // IOTINTRES is n/a
@@ -81,6 +81,7 @@ public enum Tag {
     INHBTRANSM,
     IODBUG,
     IOMAXRTIME,
+    IOROUTE("io_route_policy"),
     IOTASGMNE,
     IOTFLXTRAN,
     IOTINTRES,
@@ -0,0 +1,15 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.kexec.exceptions;
+
+/**
+ * Thrown when the content of the MFD on disk is inconsistent - e.g., during directory recovery
+ */
+public class DirectoryErrorException extends KExecException {
+
+    public DirectoryErrorException(final String message) {
+        super(message);
+    }
+}
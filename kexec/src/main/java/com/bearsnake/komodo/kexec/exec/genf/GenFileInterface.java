@@ -22,9 +22,15 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.PrintStream;
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
 import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 /**
@@ -34,6 +40,11 @@ import java.util.stream.Collectors;
  * Information is stored on sector boundaries.
  * Sector types identify the type of sector, and are stored in Word+0, S1 of each sector.
  * See the various Item subclasses for the serialized sector format for the various sector types.
+ * ---
+ * Besides the inventory, we keep a stack of free items, an index of the output queue items by file,
+ * and the set of sector addresses which have been updated since GENF$ was last written, so that none of
+ * enqueueing, allocating, or persisting needs to scan the whole inventory.
+ * Dirty sectors are written a track (or the dirty part of a track) at a time.
  */
 
 public class GenFileInterface {
@@ -43,6 +54,9 @@ public class GenFileInterface {
     private static final String QUALIFIER = "SYS$";
     private static final String FILE_NAME = "GENF$";
     private static final FileSpecification FILE_SPECIFICATION = new FileSpecification(QUALIFIER, FILE_NAME);
+    private static final int SECTORS_PER_TRACK = 64;
+    private static final int WORDS_PER_SECTOR = 28;
+    private static final int RECOVERY_TRACKS_PER_READ = 16;
 
     private boolean _isReady = false;
     private int _recoveryCycle;
@@ -50,6 +64,15 @@ public class GenFileInterface {
     // Item inventory - keyed by sector id
     private final TreeMap<Integer, Item> _inventory = new TreeMap<>();
 
+    // Free items, available to be replaced by queue items - the one with the lowest sector address is on top
+    private final ArrayDeque<FreeItem> _freeItems = new ArrayDeque<>();
+
+    // Initial output queue item for each queued qualifier*filename(cycle) - see getFileKey()
+    private final HashMap<String, OutputQueueItem> _outputFileIndex = new HashMap<>();
+
+    // Sector addresses of items which have been updated but not yet written to GENF$
+    private final TreeSet<Integer> _dirtySectors = new TreeSet<>();
+
     // Reader, Print, and Punch queues - each is keyed by queue name
     private final TreeMap<String, ReaderQueue> _readerQueues = new TreeMap<>();
     private final TreeMap<String, PrintQueue> _printQueues = new TreeMap<>();
@@ -116,17 +139,9 @@ public class GenFileInterface {
         LOGGER.trace("{} enqueueing {} on {}", run.getActualRunId(), fileSpecification, queue.getQueueName());
 
         // Is there already an entry for this qual*file(cycle) ?
-        OutputQueueItem existingInitialItem = null;
-        for (var qi : _inventory.values()) {
-            if (qi instanceof OutputQueueItem oqi) {
-                if (oqi.getQualifier().equals(fileSpecification.getQualifier())
-                    && oqi.getFilename().equals(fileSpecification.getFilename())
-                    && (oqi.getAbsoluteCycle() == fileSpecification.getFileCycleSpecification().getCycle())) {
-                    existingInitialItem = oqi;
-                    break;
-                }
-            }
-        }
+        var existingInitialItem = _outputFileIndex.get(getFileKey(fileSpecification.getQualifier(),
+                                                                  fileSpecification.getFilename(),
+                                                                  fileSpecification.getFileCycleSpecification().getCycle()));
 
         // Create a new output queue item
         var newItem = new OutputQueueItem(allocateFreeQueueItem().getSectorAddress(), _recoveryCycle);
@@ -156,6 +171,7 @@ public class GenFileInterface {
                 exec.stop(StopCode.DirectoryErrors);
                 throw new ExecStoppedException();
             }
+            _outputFileIndex.put(getFileKey(newItem), newItem);
         }
 
         // Create GENF entry(ies) for tape file part-names
@@ -173,6 +189,8 @@ public class GenFileInterface {
                 pnx++;
                 pny++;
             }
+            markDirty(partNameItem);
+            _inventory.put(partNameItem.getSectorAddress(), partNameItem);
 
             if (prevIsQueueItem) {
                 newItem.setPartNameSectorAddress(partNameItem.getSectorAddress());
@@ -186,7 +204,7 @@ public class GenFileInterface {
         }
 
         queue.enqueue(newItem);
-        newItem.setIsDirty(true);
+        markDirty(newItem);
         _inventory.put(newItem.getSectorAddress(), newItem);
         writeDirtyItems();
     }
@@ -279,13 +297,18 @@ public class GenFileInterface {
         fm.establishUseItem(exec, FILE_NAME, FILE_SPECIFICATION, false);
 
         // Create one track worth of items - one system item and 63 free items
-        var systemItem = new SystemItem(0, 0, 64);
-        systemItem.setIsDirty(true);
+        _inventory.clear();
+        _freeItems.clear();
+        _outputFileIndex.clear();
+        _dirtySectors.clear();
+        var systemItem = new SystemItem(0, 0, SECTORS_PER_TRACK);
+        markDirty(systemItem);
         _inventory.put(systemItem.getSectorAddress(), systemItem);
-        for (int addr = 1; addr < 64; addr++) {
+        for (int addr = SECTORS_PER_TRACK - 1; addr > 0; addr--) {
             var fi = new FreeItem(addr);
-            fi.setIsDirty(true);
+            markDirty(fi);
             _inventory.put(fi.getSectorAddress(), fi);
+            _freeItems.push(fi);
         }
 
         writeDirtyItems();
@@ -308,6 +331,9 @@ public class GenFileInterface {
         var fm = exec.getFacilitiesManager();
 
         _inventory.clear();
+        _freeItems.clear();
+        _outputFileIndex.clear();
+        _dirtySectors.clear();
         _readerQueues.clear();
         _printQueues.clear();
         _punchQueues.clear();
@@ -323,39 +349,38 @@ public class GenFileInterface {
 
         fm.establishUseItem(exec, FILE_NAME, FILE_SPECIFICATION, false);
 
-        var buffer = new ArraySlice(new long[28]);
-        var addr = 0;
         var ioResult = new IOResult();
-        fm.ioReadFromDiskFile(exec, FILE_NAME, addr, buffer, false, ioResult);
-        if (ioResult.getStatus() != ERIO$Status.Success) {
-            exec.stop(StopCode.InternalExecIOFailed);
-            throw new ExecStoppedException();
-        }
+        var items = readItems((sectorAddress, buffer) -> {
+            ioResult.clear();
+            fm.ioReadFromDiskFile(exec, FILE_NAME, sectorAddress, buffer, false, ioResult);
+            if (ioResult.getStatus() != ERIO$Status.Success) {
+                exec.stop(StopCode.InternalExecIOFailed);
+                throw new ExecStoppedException();
+            }
+        });
 
-        var item = deserializeItem(0, buffer);
-        if (!(item instanceof SystemItem si)) {
+        if (!(items[0] instanceof SystemItem si)) {
             LOGGER.fatal("GENF$ sector 0 is not a system item");
             exec.stop(StopCode.UndefinedGENFType);
             throw new ExecStoppedException();
         }
 
-        var systemItem = getSystemItem();
-        _recoveryCycle = systemItem.getRecoveryCycle() + 1;
-        systemItem.setRecoveryCycle(_recoveryCycle);
-        systemItem.setIsDirty(true);
+        _inventory.put(si.getSectorAddress(), si);
+        _recoveryCycle = si.getRecoveryCycle() + 1;
+        si.setRecoveryCycle(_recoveryCycle);
+        markDirty(si);
 
         var msg = String.format("GENF$ recovery cycle = %d", si.getRecoveryCycle());
         exec.sendExecReadOnlyMessage(msg);
 
-        for (addr = 1; addr < si.getSectorCount(); addr++) {
-            ioResult.clear();
-            fm.ioReadFromDiskFile(exec, FILE_NAME, addr, buffer, false, ioResult);
-            if (ioResult.getStatus() != ERIO$Status.Success) {
-                exec.stop(StopCode.InternalExecIOFailed);
+        for (int addr = 1; addr < items.length; addr++) {
+            var item = items[addr];
+            if (item == null) {
+                LOGGER.fatal("GENF$ sector {} has an undefined item type", addr);
+                exec.stop(StopCode.UndefinedGENFType);
                 throw new ExecStoppedException();
             }
 
-            item = deserializeItem(addr, buffer);
             _inventory.put(item.getSectorAddress(), item);
             if (item instanceof InputQueueItem iqi) {
                 var queue = _readerQueues.get(iqi.getSourceSymbiontName());
@@ -374,20 +399,13 @@ public class GenFileInterface {
                     throw new ExecStoppedException();
                 }
                 queue.enqueue(oqi);
+                _outputFileIndex.putIfAbsent(getFileKey(oqi), oqi);
 
-                // chase part name sectors (if any) ... we can't do part names until the queue item is done,
-                // which is what we're doing here.
-                var partNameAddr = oqi.getPartNameSectorAddress();
-                while (partNameAddr != 0) {
-                    ioResult.clear();
-                    fm.ioReadFromDiskFile(exec, FILE_NAME, addr, buffer, false, ioResult);
-                    if (ioResult.getStatus() != ERIO$Status.Success) {
-                        exec.stop(StopCode.InternalExecIOFailed);
-                        throw new ExecStoppedException();
-                    }
-
-                    var pnItem = (PartNameItem) deserializeItem(addr, buffer);
-                    partNameAddr = pnItem.getNextSectorAddress();
+                // chase part name sectors (if any) - they have all been read already, so this is done in memory.
+                if (!hasValidPartNameChain(oqi, items)) {
+                    LOGGER.fatal("GENF$ sector {} has an invalid part name chain", addr);
+                    exec.stop(StopCode.UndefinedGENFType);
+                    throw new ExecStoppedException();
                 }
             } else if (item instanceof FreeItem || item instanceof PartNameItem) {
                 // nothing to do for FreeItems, and we have to do PartNameItems as part of OutputQueueItems.
@@ -398,31 +416,120 @@ public class GenFileInterface {
             }
         }
 
+        // Stack the free items so that the lowest sector address is allocated first
+        for (var recovered : _inventory.descendingMap().values()) {
+            if (recovered instanceof FreeItem fi) {
+                _freeItems.push(fi);
+            }
+        }
+
+        writeDirtyItems();
+
         // TODO what else to do here?
 
         _isReady = true;
     }
 
     /**
-     * Finds the first available free queue item to be eventually replaced by an input or output queue item.
-     * If there isn't one, a new track of items is created, and the first of these is then selected.
+     * Reads consecutive sectors of GENF$, beginning at the given sector address, into the given buffer
+     * (whose size is a multiple of the sector size).
+     */
+    @FunctionalInterface
+    interface SectorReader {
+        void read(int sectorAddress, ArraySlice buffer) throws ExecStoppedException;
+    }
+
+    /**
+     * Reads all the items in GENF$.
+     * The first track is read by itself, since that is the only part of the file we can be sure exists before we
+     * have seen the sector count in the system item. The remainder of the file is read RECOVERY_TRACKS_PER_READ
+     * tracks at a time, and the items are deserialized directly out of the IO buffer.
+     * @param reader reads GENF$ sectors
+     * @return items, indexed by sector address - null for any sector which has an undefined item type.
+     * If sector 0 does not contain a system item, only the first track is returned.
+     * @throws ExecStoppedException if the reader stops the exec
+     */
+    static Item[] readItems(final SectorReader reader) throws ExecStoppedException {
+        var buffer = new ArraySlice(new long[RECOVERY_TRACKS_PER_READ * SECTORS_PER_TRACK * WORDS_PER_SECTOR]);
+        var trackBuffer = new ArraySlice(buffer, 0, SECTORS_PER_TRACK * WORDS_PER_SECTOR);
+        reader.read(0, trackBuffer);
+
+        var sectorCount = SECTORS_PER_TRACK;
+        if (deserializeItem(0, new ArraySlice(trackBuffer, 0, WORDS_PER_SECTOR)) instanceof SystemItem si) {
+            sectorCount = Math.max(si.getSectorCount(), SECTORS_PER_TRACK);
+        }
+
+        var items = new Item[sectorCount];
+        deserializeItems(trackBuffer, 0, items);
+        for (var addr = SECTORS_PER_TRACK; addr < sectorCount; ) {
+            var count = Math.min(sectorCount - addr, RECOVERY_TRACKS_PER_READ * SECTORS_PER_TRACK);
+            var slice = new ArraySlice(buffer, 0, count * WORDS_PER_SECTOR);
+            reader.read(addr, slice);
+            deserializeItems(slice, addr, items);
+            addr += count;
+        }
+
+        return items;
+    }
+
+    /**
+     * Deserializes the sectors in the given buffer into the items array
+     * @param buffer buffer containing whole sectors
+     * @param firstSectorAddress sector address of the first sector in the buffer
+     * @param items array of items indexed by sector address
      */
-    private synchronized Item allocateFreeQueueItem() throws ExecStoppedException {
-        for (var item : _inventory.values()) {
-            if (item.getItemType() == ItemType.FreeItem) {
-                return item;
+    private static void deserializeItems(
+        final ArraySlice buffer,
+        final int firstSectorAddress,
+        final Item[] items
+    ) {
+        var sectorCount = buffer.getSize() / WORDS_PER_SECTOR;
+        for (int sx = 0; sx < sectorCount; sx++) {
+            var sector = new ArraySlice(buffer, sx * WORDS_PER_SECTOR, WORDS_PER_SECTOR);
+            items[firstSectorAddress + sx] = deserializeItem(firstSectorAddress + sx, sector);
+        }
+    }
+
+    /**
+     * Checks that the part name sectors (if any) for the given output queue item all exist, and are part name items.
+     * @param item output queue item
+     * @param items all the items in GENF$, indexed by sector address
+     */
+    static boolean hasValidPartNameChain(
+        final OutputQueueItem item,
+        final Item[] items
+    ) {
+        var partNameAddr = item.getPartNameSectorAddress();
+        var limit = items.length; // a longer chain must contain a loop
+        while (partNameAddr != 0) {
+            if ((partNameAddr >= items.length) || !(items[partNameAddr] instanceof PartNameItem pnItem) || (limit-- == 0)) {
+                return false;
             }
+            partNameAddr = pnItem.getNextSectorAddress();
         }
+        return true;
+    }
 
-        var newSectorAddress = _inventory.size();
-        for (int addr = newSectorAddress; addr < newSectorAddress + 64; addr++) {
-            var fi = new FreeItem(addr);
-            fi.setIsDirty(true);
-            _inventory.put(fi.getSectorAddress(), fi);
+    /**
+     * Takes the free item with the lowest sector address, to be replaced by an input or output queue item.
+     * If there isn't one, a new track of items is created, and the first of these is then selected.
+     * The caller is responsible for replacing the item in the inventory and for eventually writing dirty items.
+     */
+    private synchronized FreeItem allocateFreeQueueItem() {
+        if (_freeItems.isEmpty()) {
+            var systemItem = getSystemItem();
+            var newSectorAddress = systemItem.getSectorCount();
+            systemItem.setSectorCount(newSectorAddress + SECTORS_PER_TRACK);
+            markDirty(systemItem);
+            for (int addr = newSectorAddress + SECTORS_PER_TRACK - 1; addr >= newSectorAddress; addr--) {
+                var fi = new FreeItem(addr);
+                markDirty(fi);
+                _inventory.put(fi.getSectorAddress(), fi);
+                _freeItems.push(fi);
+            }
         }
-        writeDirtyItems();
 
-        return _inventory.get(newSectorAddress);
+        return _freeItems.pop();
     }
 
     /**
@@ -462,13 +569,18 @@ public class GenFileInterface {
      * Deserializes the on-disk sector representation of a queue item into an actual Item of the appropriate type.
      * @param sectorAddress Sector address of the queue item on disk (as GENF$)
      * @param source Slice of an IO buffer containing exactly the sector containing the serialized queue item
-     * @return allocated subclass of Item, representing the queue item.
+     * @return allocated subclass of Item, representing the queue item - null if the item type is undefined.
      */
     private static Item deserializeItem(
         final int sectorAddress,
         final ArraySlice source
     ) {
-        return switch (ItemType.getItemType((int)source.getS1(0))) {
+        var itemType = ItemType.getItemType((int)source.getS1(0));
+        if (itemType == null) {
+            return null;
+        }
+
+        return switch (itemType) {
             case FreeItem -> FreeItem.deserialize(sectorAddress);
             case InputQueueItem -> InputQueueItem.deserialize(sectorAddress, source);
             case OutputQueueItem -> OutputQueueItem.deserialize(sectorAddress, source);
@@ -477,6 +589,21 @@ public class GenFileInterface {
         };
     }
 
+    /**
+     * Key for _outputFileIndex
+     */
+    private static String getFileKey(
+        final String qualifier,
+        final String filename,
+        final int absoluteCycle
+    ) {
+        return String.format("%s*%s(%d)", qualifier, filename, absoluteCycle);
+    }
+
+    private static String getFileKey(final OutputQueueItem item) {
+        return getFileKey(item.getQualifier(), item.getFilename(), item.getAbsoluteCycle());
+    }
+
     /**
      * Purely for convenience - system item is always at sector address 0
      */
@@ -485,24 +612,105 @@ public class GenFileInterface {
     }
 
     /**
-     * Iterates over the inventory, serializing the various updated (and not yet persisted) objects to disk
+     * Notes that an item has been updated, so that it is written on the next writeDirtyItems()
+     */
+    private void markDirty(final Item item) {
+        item.setIsDirty(true);
+        _dirtySectors.add(item.getSectorAddress());
+    }
+
+    /**
+     * Moves the content of one output queue to another, rewriting the GENF$ sectors of the moved items
+     * to reflect their new queue.
+     * @param source queue from which items are moved
+     * @param destination queue to which items are moved
+     * @throws ExecStoppedException If the exec died in the process
+     */
+    public synchronized void moveQueue(
+        final OutputQueue source,
+        final OutputQueue destination
+    ) throws ExecStoppedException {
+        var items = source.getItems();
+        source.moveTo(destination);
+        items.forEach(this::markDirty);
+        writeDirtyItems();
+    }
+
+    /**
+     * Describes a group of consecutive sectors, all within one track, which can be written with one IO
+     */
+    record WriteExtent(int firstSector, int sectorCount) {}
+
+    /**
+     * Groups the given dirty sectors into extents to be written.
+     * Each extent begins and ends with a dirty sector, never crosses a track boundary, and includes any clean
+     * sectors lying between dirty ones (they are rewritten with their unchanged content) provided all of
+     * those sectors are in the inventory.
+     * @param dirtySectors sector addresses of dirty items
+     * @param inventory item inventory, keyed by sector address
+     * @return extents in ascending sector address order
+     */
+    static List<WriteExtent> getWriteExtents(
+        final NavigableSet<Integer> dirtySectors,
+        final Map<Integer, ? extends Item> inventory
+    ) {
+        var result = new LinkedList<WriteExtent>();
+        var first = -1;
+        var last = -1;
+        for (var sector : dirtySectors) {
+            var extend = (first >= 0) && (sector / SECTORS_PER_TRACK == first / SECTORS_PER_TRACK);
+            for (var sx = last + 1; extend && sx < sector; sx++) {
+                extend = inventory.containsKey(sx);
+            }
+
+            if (extend) {
+                last = sector;
+            } else {
+                if (first >= 0) {
+                    result.add(new WriteExtent(first, last - first + 1));
+                }
+                first = sector;
+                last = sector;
+            }
+        }
+
+        if (first >= 0) {
+            result.add(new WriteExtent(first, last - first + 1));
+        }
+        return result;
+    }
+
+    /**
+     * Serializes the updated (and not yet persisted) items to disk, one IO per extent of dirty sectors.
      */
     private synchronized void writeDirtyItems() throws ExecStoppedException {
+        if (_dirtySectors.isEmpty()) {
+            return;
+        }
+
         var exec = Exec.getInstance();
         var fm = exec.getFacilitiesManager();
-        var buffer = new ArraySlice(new long[28]);
         var ioResult = new IOResult();
 
-        for (var item : _inventory.values()) {
-            if (item.isDirty()) {
-                item.serialize(buffer);
-                fm.ioWriteToDiskFile(exec, FILE_NAME, item.getSectorAddress(), buffer, false, ioResult);
-                if (ioResult.getStatus() != ERIO$Status.Success) {
-                    exec.stop(StopCode.InternalExecIOFailed);
-                    throw new ExecStoppedException();
-                }
-                item.setIsDirty(false);
+        for (var extent : getWriteExtents(_dirtySectors, _inventory)) {
+            var buffer = new ArraySlice(new long[extent.sectorCount() * WORDS_PER_SECTOR]);
+            for (int sx = 0; sx < extent.sectorCount(); sx++) {
+                var item = _inventory.get(extent.firstSector() + sx);
+                item.serialize(new ArraySlice(buffer, sx * WORDS_PER_SECTOR, WORDS_PER_SECTOR));
+            }
+
+            ioResult.clear();
+            fm.ioWriteToDiskFile(exec, FILE_NAME, extent.firstSector(), buffer, false, ioResult);
+            if (ioResult.getStatus() != ERIO$Status.Success) {
+                exec.stop(StopCode.InternalExecIOFailed);
+                throw new ExecStoppedException();
+            }
+
+            for (int sx = 0; sx < extent.sectorCount(); sx++) {
+                _inventory.get(extent.firstSector() + sx).setIsDirty(false);
             }
         }
+
+        _dirtySectors.clear();
     }
 }
@@ -4,8 +4,6 @@
 
 package com.bearsnake.komodo.kexec.exec.genf;
 
-import java.util.Arrays;
-
 public enum ItemType {
 
     FreeItem(0),
@@ -16,6 +14,15 @@ public enum ItemType {
 
     private final int _code;
 
+    // item types indexed by code - the code is an S1 field, so there are at most 64
+    private static final ItemType[] BY_CODE = new ItemType[64];
+
+    static {
+        for (var itemType : values()) {
+            BY_CODE[itemType._code] = itemType;
+        }
+    }
+
     ItemType(
         final int code
     ) {
@@ -27,9 +34,6 @@ public enum ItemType {
     public static ItemType getItemType(
         final int code
     ) {
-        return Arrays.stream(ItemType.values())
-                     .filter(itemType -> itemType._code == code)
-                     .findFirst()
-                     .orElse(null);
+        return ((code >= 0) && (code < BY_CODE.length)) ? BY_CODE[code] : null;
     }
 }
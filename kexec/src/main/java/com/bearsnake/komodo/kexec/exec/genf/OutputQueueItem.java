@@ -76,17 +76,17 @@ public class OutputQueueItem extends Item {
 
     private int _priorityIndex;                   // See above
     private final int _genfRecoveryCycle;         // GENF recovery cycle at the time this entry was created
-    private String _qualifier;
-    private String _filename;
+    private String _qualifier = "";
+    private String _filename = "";
     private int _absoluteCycle;
-    private String _runId;                        // run-id of the run which enqueued the item
-    private String _accountId;                    // account-id of the run which enqueued the item
-    private String _projectId;                    // project-id of run which enqueued the item
-    private String _userId;                       // user-id of run which enqueued the item
-    private String _queueId;                      // Name of the output queue which contains this queue item
-    private String _outputId;                     // If output is in progress, this is the device-id, or the run-id of the run doing the output.
-    private String _useName;                      // If a run has assigned the file, this is the @use-name attached to the file.
-    private String _banner;                       // Banner to be used on the banner page (1 to 12 characters)
+    private String _runId = "";                   // run-id of the run which enqueued the item
+    private String _accountId = "";               // account-id of the run which enqueued the item
+    private String _projectId = "";               // project-id of run which enqueued the item
+    private String _userId = "";                  // user-id of run which enqueued the item
+    private String _queueId = "";                 // Name of the output queue which contains this queue item
+    private String _outputId = "";                // If output is in progress, this is the device-id, or the run-id of the run doing the output.
+    private String _useName = "";                 // If a run has assigned the file, this is the @use-name attached to the file.
+    private String _banner = "";                  // Banner to be used on the banner page (1 to 12 characters)
     private Instant _symTimestamp;                // date/time this entry was enqueued
     private long _facilityStatusBits;             // Fac status bits associated with most recent action on this entry
     private final int[] _facilityMessageCodes;    // Two fac status codes associated with most recent action on this entry
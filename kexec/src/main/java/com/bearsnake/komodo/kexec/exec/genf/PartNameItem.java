@@ -32,7 +32,7 @@ public class PartNameItem extends Item {
     public PartNameItem(
         final int sectorAddress
     ) {
-        super(ItemType.FreeItem, sectorAddress);
+        super(ItemType.PartNameItem, sectorAddress);
     }
 
     public static PartNameItem deserialize(
@@ -73,9 +73,8 @@ public class PartNameItem extends Item {
 
         destination.setH1(01, _previousSectorAddress);
         destination.setH2(01, _nextSectorAddress);
-        for (int nx = 0, wx = 2; wx < 28; wx += 2, nx++) {
-            destination.set(wx, Word36.stringToWordFieldata(_partNames.get(nx).substring(0, 6)));
-            destination.set(wx, Word36.stringToWordFieldata(_partNames.get(nx).substring(7)));
+        for (int nx = 0, wx = 2; (nx < _partNames.size()) && (wx < 28); wx += 2, nx++) {
+            Word36.stringToWordsFieldata(_partNames.get(nx), destination, wx, 2);
         }
     }
 
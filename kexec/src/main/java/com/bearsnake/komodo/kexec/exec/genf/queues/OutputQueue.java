@@ -7,19 +7,25 @@ package com.bearsnake.komodo.kexec.exec.genf.queues;
 import com.bearsnake.komodo.kexec.configuration.Node;
 import com.bearsnake.komodo.kexec.exec.genf.OutputQueueItem;
 
-import java.util.Collection;
-import java.util.HashMap;
+import java.util.ArrayDeque;
 import java.util.LinkedList;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.List;
 
 /**
- * An in-memory struct describing the content of an output queue
+ * An in-memory struct describing the content of an output queue.
+ * Items are kept in one FIFO per priority index (lower index is higher priority - see OutputQueueItem),
+ * with a bit mask of the non-empty FIFOs, so that enqueue and take-next are both constant time
+ * regardless of how many files are queued.
+ * Symbionts waiting for work block in take() - they are notified whenever an item is enqueued or moved here.
  */
 public abstract class OutputQueue extends Queue {
 
-    // keyed by priority index, then each list is in order of submission
-    private static final Map<Integer, LinkedList<OutputQueueItem>> _content = new HashMap<>();
+    // priority index is an S2 field in the queue item, so there are at most 64 of them
+    private static final int PRIORITY_INDEX_LIMIT = 64;
+
+    private ArrayDeque<OutputQueueItem>[] _content = newContent();
+    private long _nonEmptyMask = 0; // bit n is set if _content[n] is not empty
+    private int _size = 0;
 
     public OutputQueue(
         final String queueName
@@ -35,22 +41,148 @@ public abstract class OutputQueue extends Queue {
     }
 
     public synchronized void enqueue(final OutputQueueItem item) {
-        if (!_content.containsKey(item.getPriorityIndex())) {
-            _content.put(item.getPriorityIndex(), new LinkedList<>());
+        var px = item.getPriorityIndex() & (PRIORITY_INDEX_LIMIT - 1);
+        if (_content[px] == null) {
+            _content[px] = new ArrayDeque<>();
+        }
+        _content[px].addLast(item);
+        _nonEmptyMask |= 1L << px;
+        _size++;
+        notifyAll();
+    }
+
+    /**
+     * Retrieves a snapshot of the queued items, in the order in which they would be taken
+     */
+    public synchronized List<OutputQueueItem> getItems() {
+        var result = new LinkedList<OutputQueueItem>();
+        var mask = _nonEmptyMask;
+        while (mask != 0) {
+            var px = Long.numberOfTrailingZeros(mask);
+            result.addAll(_content[px]);
+            mask &= mask - 1;
         }
-        _content.get(item.getPriorityIndex()).add(item);
+        return result;
     }
 
+    public synchronized boolean isEmpty() { return _size == 0; }
+    public synchronized int size() { return _size; }
+
+    /**
+     * Moves all the items in this queue to the end of the same-priority items in the destination queue,
+     * retaining their order. Each moved item is updated with the name of its new queue, and marked dirty
+     * so that its GENF$ sector is rewritten.
+     */
     public void moveTo(final OutputQueue destination) {
-        Collection<OutputQueueItem> list;
+        ArrayDeque<OutputQueueItem>[] moved;
+        long movedMask;
+        int movedSize;
         synchronized (this) {
-            list = _content.values()
-                           .stream()
-                           .flatMap(Collection::stream)
-                           .collect(Collectors.toCollection(LinkedList::new));
-            _content.clear();
+            moved = _content;
+            movedMask = _nonEmptyMask;
+            movedSize = _size;
+            _content = newContent();
+            _nonEmptyMask = 0;
+            _size = 0;
+        }
+
+        if (movedSize == 0) {
+            return;
+        }
+
+        var queueId = destination.getQueueName();
+        synchronized (destination) {
+            var mask = movedMask;
+            while (mask != 0) {
+                var px = Long.numberOfTrailingZeros(mask);
+                for (var item : moved[px]) {
+                    item.setQueueId(queueId);
+                    item.setIsDirty(true);
+                }
+                if (destination._content[px] == null) {
+                    destination._content[px] = moved[px];
+                } else {
+                    destination._content[px].addAll(moved[px]);
+                }
+                mask &= mask - 1;
+            }
+            destination._nonEmptyMask |= movedMask;
+            destination._size += movedSize;
+            destination.notifyAll();
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static ArrayDeque<OutputQueueItem>[] newContent() {
+        return new ArrayDeque[PRIORITY_INDEX_LIMIT];
+    }
+
+    /**
+     * Retrieves, without removing, the highest-priority item
+     * @return the item, or null if the queue is empty
+     */
+    public synchronized OutputQueueItem peek() {
+        return _nonEmptyMask == 0 ? null : _content[Long.numberOfTrailingZeros(_nonEmptyMask)].peekFirst();
+    }
+
+    /**
+     * Removes and returns the highest-priority item - among items of equal priority, the one queued first
+     * @return the item, or null if the queue is empty
+     */
+    public synchronized OutputQueueItem poll() {
+        if (_nonEmptyMask == 0) {
+            return null;
+        }
+
+        var px = Long.numberOfTrailingZeros(_nonEmptyMask);
+        var fifo = _content[px];
+        var item = fifo.pollFirst();
+        if (fifo.isEmpty()) {
+            _nonEmptyMask &= ~(1L << px);
+        }
+        _size--;
+        return item;
+    }
+
+    /**
+     * As poll(), but waits up to the given time for an item to be queued
+     * @return the item, or null if none arrived in time
+     */
+    public synchronized OutputQueueItem poll(final long timeoutMillis) throws InterruptedException {
+        var deadline = System.currentTimeMillis() + timeoutMillis;
+        var remaining = timeoutMillis;
+        while ((_size == 0) && (remaining > 0)) {
+            wait(remaining);
+            remaining = deadline - System.currentTimeMillis();
+        }
+        return poll();
+    }
+
+    /**
+     * Removes a particular item, wherever it is in the queue
+     * @return true if the item was queued here
+     */
+    public synchronized boolean remove(final OutputQueueItem item) {
+        var px = item.getPriorityIndex() & (PRIORITY_INDEX_LIMIT - 1);
+        var fifo = _content[px];
+        if ((fifo == null) || !fifo.remove(item)) {
+            return false;
         }
 
-        list.forEach(this::enqueue);
+        if (fifo.isEmpty()) {
+            _nonEmptyMask &= ~(1L << px);
+        }
+        _size--;
+        return true;
+    }
+
+    /**
+     * As poll(), but waits for as long as it takes for an item to be queued
+     */
+    public synchronized OutputQueueItem take() throws InterruptedException {
+        while (_size == 0) {
+            wait();
+        }
+        return poll();
     }
 }
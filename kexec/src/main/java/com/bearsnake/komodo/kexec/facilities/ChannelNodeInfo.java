@@ -11,7 +11,15 @@ import com.bearsnake.komodo.hardwarelib.Node;
  */
 public class ChannelNodeInfo extends NodeInfo {
 
+    private final PathStatistics _statistics = new PathStatistics();
+    private int _weight = 1; // relative share of IOs under the weighted round-robin routing policy
+
     public ChannelNodeInfo(final Node node) {
         super(node);
     }
+
+    public PathStatistics getStatistics() { return _statistics; }
+    public int getWeight() { return _weight; }
+
+    public ChannelNodeInfo setWeight(final int value) { _weight = value; return this; }
 }
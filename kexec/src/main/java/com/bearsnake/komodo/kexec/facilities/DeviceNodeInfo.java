@@ -7,6 +7,7 @@ package com.bearsnake.komodo.kexec.facilities;
 import com.bearsnake.komodo.hardwarelib.Node;
 import com.bearsnake.komodo.hardwarelib.channels.Channel;
 
+import java.util.HashMap;
 import java.util.LinkedList;
 
 /**
@@ -17,9 +18,16 @@ public class DeviceNodeInfo extends NodeInfo {
     MediaInfo  _mediaInfo;
     final LinkedList<Channel> _routes = new LinkedList<>();
 
+    // running weights for the weighted round-robin routing policy, keyed by channel node identifier.
+    // guarded by synchronizing on this object.
+    final HashMap<Integer, Integer> _currentWeights = new HashMap<>();
+
+    private final PathStatistics _statistics = new PathStatistics();
+
     public DeviceNodeInfo(final Node node) {
         super(node);
     }
 
     public void addChannel(final Channel channel) { _routes.add(channel); }
+    public PathStatistics getStatistics() { return _statistics; }
 }
@@ -16,6 +16,7 @@ import com.bearsnake.komodo.kexec.Granularity;
 import com.bearsnake.komodo.kexec.Manager;
 import com.bearsnake.komodo.kexec.configuration.Configuration;
 import com.bearsnake.komodo.kexec.configuration.MnemonicType;
+import com.bearsnake.komodo.kexec.configuration.Node;
 import com.bearsnake.komodo.kexec.configuration.parameters.Tag;
 import com.bearsnake.komodo.kexec.consoles.ConsoleId;
 import com.bearsnake.komodo.kexec.consoles.ConsoleType;
@@ -36,6 +37,9 @@ import java.io.PrintStream;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import static com.bearsnake.komodo.baselib.Word36.*;
@@ -44,11 +48,24 @@ public class FacilitiesManager implements Manager {
 
     private static final Logger LOGGER = LogManager.getLogger(FacilitiesManager.class);
 
+    // Number of disks whose labels are read at the same time during boot
+    private static final int LABEL_READ_THREADS = 8;
+
     private final static String[] ABGM_RESPONSES = new String[]{ "A", "B", "G", "M" };
     private final static String ABGM_RESPONSE_STR = "ABGM";
     private final static String[] AGM_RESPONSES = new String[]{ "A", "G", "M" };
     private final static String AGM_RESPONSE_STR = "AGM";
 
+    // IO statuses which indicate a problem with the path rather than with the device.
+    // Of these, the not-accessible and not-attached statuses mean the IO never reached the device,
+    // so routeIo() can try any IO again on the other paths to the device.
+    // An internal error might have happened after the transfer started, so routeIo() tries the other paths
+    // only for IOs which can be repeated without effect - see canFailOver().
+    private static final EnumSet<IoStatus> PATH_ERROR_STATUSES =
+        EnumSet.of(IoStatus.DeviceIsNotAccessible, IoStatus.DeviceIsNotAttached, IoStatus.InternalError);
+    private static final EnumSet<IoStatus> NOT_STARTED_PATH_ERROR_STATUSES =
+        EnumSet.of(IoStatus.DeviceIsNotAccessible, IoStatus.DeviceIsNotAttached);
+
     static final HashMap<IoStatus, ERIO$Status> _ioStatusTranslateTable = new HashMap<>();
     static {
         /* NotStarted does not have a corresponding ERIO status */
@@ -101,6 +118,9 @@ public class FacilitiesManager implements Manager {
     // It is loaded at initialization(), and will remain unchanged during the application existence.
     final HashMap<Integer, NodeInfo> _nodeGraph = new HashMap<>();
 
+    // How we choose among the channel paths to a device - from the IOROUTE configuration parameter at boot time
+    private volatile RoutingPolicy _routingPolicy = RoutingPolicy.LeastOutstanding;
+
     public FacilitiesManager() {
         Exec.getInstance().managerRegister(this);
     }
@@ -133,6 +153,9 @@ public class FacilitiesManager implements Manager {
             ni.getNode().setLogIos(cfg.getBooleanValue(Tag.IODBUG));
         }
 
+        var policy = RoutingPolicy.getFromToken(cfg.getStringValue(Tag.IOROUTE));
+        _routingPolicy = (policy == null) ? RoutingPolicy.LeastOutstanding : policy;
+
         // clear cached disk labels
         for (var ni : _nodeGraph.values()) {
             ni.setMediaInfo(null);
@@ -1256,6 +1279,13 @@ public class FacilitiesManager implements Manager {
         LOGGER.traceExit(run.getActualRunId());
     }
 
+    /**
+     * Returns the policy by which we choose among the paths to a device
+     */
+    public RoutingPolicy getRoutingPolicy() {
+        return _routingPolicy;
+    }
+
     /**
      * Returns the facilities NodeInfo for the given node.
      * @param nodeName name of the node - we'd prefer it to be uppercase, but whatever...
@@ -1316,6 +1346,20 @@ public class FacilitiesManager implements Manager {
                          .collect(Collectors.toCollection(LinkedList::new));
     }
 
+    /**
+     * Returns a collection of the ChannelNodeInfo objects for the channels
+     * through which the device indicated by deviceInfo is accessible.
+     * @param deviceInfo indicates the device of interest
+     * @return list of ChannelNodeInfo objects
+     */
+    public Collection<ChannelNodeInfo> getNodeInfosForDevice(
+        final DeviceNodeInfo deviceInfo
+    ) {
+        return deviceInfo._routes.stream()
+                                 .map(chan -> (ChannelNodeInfo) _nodeGraph.get(chan.getNodeIdentifier()))
+                                 .collect(Collectors.toCollection(LinkedList::new));
+    }
+
     /**
      * Produces a string suitable for display node status upon the console
      * @param nodeIdentifier nodeIdentifier of the node we are interested in
@@ -1499,6 +1543,7 @@ public class FacilitiesManager implements Manager {
                     throw new IOException();
                 }
 
+                fileRelWordAddress += subWordCount;
                 wordsRead += subWordCount;
                 wordsRemaining -= subWordCount;
             }
@@ -1622,6 +1667,7 @@ public class FacilitiesManager implements Manager {
                     throw new IOException();
                 }
 
+                fileRelWordAddress += subWordCount;
                 wordsWritten += subWordCount;
                 wordsRemaining -= subWordCount;
             }
@@ -1849,8 +1895,11 @@ public class FacilitiesManager implements Manager {
     /**
      * Routes an IO described by a channel packet
      * For the case where some portion of the Exec needs to do device-specific IO.
+     * The path is chosen according to the routing policy, and if it fails with a path error,
+     * the IO is retried on the remaining paths to the device - provided that doing so cannot repeat
+     * a transfer which the failed path may already have started (see canFailOver()).
      * @param channelPacket describes the IO
-     * @return selected Channel
+     * @return selected Channel (the last one tried, if all the paths failed)
      * @throws ExecStoppedException if the exec stops during this function
      * @throws NoRouteForIOException if the destination device has no available path
      */
@@ -1872,9 +1921,88 @@ public class FacilitiesManager implements Manager {
             throw new ExecStoppedException();
         }
 
-        var channel = selectRoute((Device) node);
-        channel.routeIo(channelPacket);
-        return channel;
+        // Channel-level errors are retried on each of the other paths to the device in turn,
+        // before the status goes back to the caller (who may involve the operator).
+        var device = (Device) node;
+        var deviceInfo = (DeviceNodeInfo) nodeInfo;
+        var attempted = new LinkedList<Channel>();
+        while (true) {
+            Channel channel;
+            try {
+                channel = selectRoute(device, attempted);
+            } catch (NoRouteForIOException ex) {
+                if (attempted.isEmpty()) {
+                    throw ex;
+                }
+                return attempted.getLast();
+            }
+
+            if (!attempted.isEmpty()) {
+                var failedChannel = attempted.getLast();
+                LOGGER.warn("{} {} on {} - retrying on {}",
+                            device.getNodeName(), channelPacket.getIoStatus(), failedChannel.getNodeName(), channel.getNodeName());
+                ((ChannelNodeInfo) _nodeGraph.get(failedChannel.getNodeIdentifier())).getStatistics().failedOver();
+                deviceInfo.getStatistics().failedOver();
+            }
+
+            var channelInfo = (ChannelNodeInfo) _nodeGraph.get(channel.getNodeIdentifier());
+            routeIoOnPath(channel, channelInfo, deviceInfo, channelPacket);
+            if (!canFailOver(device, channelPacket)) {
+                return channel;
+            }
+            attempted.add(channel);
+        }
+    }
+
+    /**
+     * Indicates whether an IO which has just completed may be tried again on another path to the device.
+     * Only path errors are retried. A path which reports that the device is not attached or not accessible
+     * never started the IO, so any IO may be retried. After an internal error we cannot tell whether
+     * the device started the transfer, so we retry only IOs which do no harm if they are done twice:
+     * info requests, and disk reads (a tape or symbiont read moves the medium, and any write might
+     * already have been done).
+     */
+    private static boolean canFailOver(
+        final Device device,
+        final ChannelIoPacket channelPacket
+    ) {
+        var status = channelPacket.getIoStatus();
+        if (NOT_STARTED_PATH_ERROR_STATUSES.contains(status)) {
+            return true;
+        } else if (status != IoStatus.InternalError) {
+            return false;
+        }
+
+        return switch (channelPacket.getIoFunction()) {
+            case GetInfo -> true;
+            case Read -> device.getDeviceType() == DeviceType.DiskDevice;
+            default -> false;
+        };
+    }
+
+    /**
+     * Sends an IO down a particular path, keeping the in-flight and latency counters for the channel and the device.
+     */
+    private static void routeIoOnPath(
+        final Channel channel,
+        final ChannelNodeInfo channelInfo,
+        final DeviceNodeInfo deviceInfo,
+        final ChannelIoPacket channelPacket
+    ) {
+        var channelStats = channelInfo.getStatistics();
+        var deviceStats = deviceInfo.getStatistics();
+        channelStats.ioStarted();
+        deviceStats.ioStarted();
+        var startNanos = System.nanoTime();
+        try {
+            channel.routeIo(channelPacket);
+        } finally {
+            var elapsedNanos = System.nanoTime() - startNanos;
+            var status = channelPacket.getIoStatus();
+            var isError = PATH_ERROR_STATUSES.contains(status) || (status == IoStatus.SystemError);
+            channelStats.ioFinished(elapsedNanos, isError);
+            deviceStats.ioFinished(elapsedNanos, isError);
+        }
     }
 
     /**
@@ -2537,8 +2665,12 @@ public class FacilitiesManager implements Manager {
                 // TODO - finish these cases
                 case DataException -> {throw new RuntimeException("Unimplemented");}
                 case DeviceIsDown -> {throw new RuntimeException("Unimplemented");}
-                case DeviceIsNotAccessible -> {throw new RuntimeException("Unimplemented");}
-                case DeviceIsNotAttached -> {throw new RuntimeException("Unimplemented");}
+                case DeviceIsNotAccessible, DeviceIsNotAttached -> {
+                    // routeIo() has already tried every other path
+                    errorStr = "NOPATH";
+                    responses = AGM_RESPONSES;
+                    responseStr = AGM_RESPONSE_STR;
+                }
                 case DeviceIsNotReady -> {throw new RuntimeException("Unimplemented");}
                 case InternalError -> {throw new RuntimeException("Unimplemented");}
                 case MediaNotMounted -> {throw new RuntimeException("Unimplemented");}
@@ -2925,6 +3057,32 @@ public class FacilitiesManager implements Manager {
         return pi;
     }
 
+    /**
+     * Retrieves the routing weight for a channel from the optional WEIGHT argument on its NODE statement.
+     * @param configNode configuration node for the channel
+     * @return the weight, or zero if the argument is not a positive integer
+     */
+    private static int getChannelWeight(
+        final Node configNode
+    ) {
+        var str = configNode.getArgument("WEIGHT");
+        if (str == null) {
+            return 1;
+        }
+
+        try {
+            var weight = Integer.parseInt(str);
+            if (weight >= 1) {
+                return weight;
+            }
+        } catch (NumberFormatException ex) {
+            // fall through
+        }
+
+        LOGGER.fatal("Node {} has an invalid WEIGHT argument {}", configNode.getName(), str);
+        return 0;
+    }
+
     /**
      * Loads the node graph from the configuration.
      * You *did* load the configuration already, right?
@@ -2938,15 +3096,30 @@ public class FacilitiesManager implements Manager {
             switch (configNode.getEquipType()) {
                 case CHANNEL_MODULE_DISK -> {
                     var node = new DiskChannel(nodeName);
-                    _nodeGraph.put(node.getNodeIdentifier(), new ChannelNodeInfo(node));
+                    var weight = getChannelWeight(configNode);
+                    if (weight < 1) {
+                        error = true;
+                        break;
+                    }
+                    _nodeGraph.put(node.getNodeIdentifier(), new ChannelNodeInfo(node).setWeight(weight));
                 }
                 case CHANNEL_MODULE_SYMBIONT -> {
                     var node = new SymbiontChannel(nodeName);
-                    _nodeGraph.put(node.getNodeIdentifier(), new ChannelNodeInfo(node));
+                    var weight = getChannelWeight(configNode);
+                    if (weight < 1) {
+                        error = true;
+                        break;
+                    }
+                    _nodeGraph.put(node.getNodeIdentifier(), new ChannelNodeInfo(node).setWeight(weight));
                 }
                 case CHANNEL_MODULE_TAPE -> {
                     var node = new TapeChannel(nodeName);
-                    _nodeGraph.put(node.getNodeIdentifier(), new ChannelNodeInfo(node));
+                    var weight = getChannelWeight(configNode);
+                    if (weight < 1) {
+                        error = true;
+                        break;
+                    }
+                    _nodeGraph.put(node.getNodeIdentifier(), new ChannelNodeInfo(node).setWeight(weight));
                 }
                 case FILE_SYSTEM_PRINTER -> {
                     var path = configNode.getArgument("PATH");
@@ -3132,23 +3305,66 @@ public class FacilitiesManager implements Manager {
 
     /**
      * Reads the labels and directory tracks for all UP and SU disks.
-     * Used early in booting.
+     * Used early in booting. The disks are read in parallel (each disk is read by only one thread,
+     * so the route selection for a disk is never contended), and the media info is set for all the disks
+     * once all the reads are done, in node order.
      * @throws ExecStoppedException if something goes wrong while we're doing this
      */
     private void readDiskLabels() throws ExecStoppedException {
+        var disks = new LinkedList<DeviceNodeInfo>();
         for (var ni : _nodeGraph.values()) {
             if ((ni.getNodeStatus() == NodeStatus.Up) || (ni.getNodeStatus() == NodeStatus.Suspended)) {
-                if ((ni instanceof DeviceNodeInfo dni) && (ni.getNode() instanceof DiskDevice dd)) {
+                if ((ni instanceof DeviceNodeInfo dni) && (ni.getNode() instanceof DiskDevice)) {
+                    disks.add(dni);
+                }
+            }
+        }
+
+        if (disks.isEmpty()) {
+            return;
+        }
+
+        var executor = Executors.newFixedThreadPool(Math.min(LABEL_READ_THREADS, disks.size()), runnable -> {
+            var thread = new Thread(runnable, "DiskLabelReader");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            var futures = new LinkedList<Future<PackInfo>>();
+            for (var dni : disks) {
+                futures.add(executor.submit(() -> {
                     try {
-                        var info = loadDiskPackInfo(dni);
-                        if (info != null) {
-                            ni.setMediaInfo(info);
-                        }
+                        return loadDiskPackInfo(dni);
                     } catch (NoRouteForIOException ex) {
-                        LOGGER.info("No route to device {}", dd.getNodeName());
+                        LOGGER.info("No route to device {}", dni.getNode().getNodeName());
+                        return null;
                     }
+                }));
+            }
+
+            var dx = disks.iterator();
+            for (var future : futures) {
+                var dni = dx.next();
+                var info = future.get();
+                if (info != null) {
+                    dni.setMediaInfo(info);
                 }
             }
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof ExecStoppedException esx) {
+                throw esx;
+            }
+            LOGGER.catching(ex.getCause());
+            Exec.getInstance().stop(StopCode.ExecActivityTakenToEMode);
+            throw new ExecStoppedException();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            LOGGER.fatal("readDiskLabels interrupted");
+            Exec.getInstance().stop(StopCode.ExecActivityTakenToEMode);
+            throw new ExecStoppedException();
+        } finally {
+            executor.shutdownNow();
         }
     }
 
@@ -3157,13 +3373,12 @@ public class FacilitiesManager implements Manager {
         final ArraySlice diskLabel
     ) throws NoRouteForIOException, ExecStoppedException {
         var dirAddr = diskLabel.get(3);
-        var channel = selectRoute(disk);
         var ioPkt = new ChannelIoPacket().setNodeIdentifier(disk.getNodeIdentifier())
                                          .setIoFunction(IoFunction.Read)
                                          .setFormat(TransferFormat.Packed)
                                          .setDeviceWordAddress(dirAddr)
                                          .setBuffer(new ArraySlice(new long[1792]));
-        channel.routeIo(ioPkt);
+        routeIo(ioPkt);
         if (ioPkt.getIoStatus() != IoStatus.Successful) {
             LOGGER.error("readPackLabel ioStatus={}", ioPkt.getIoStatus());
             var msg = String.format("%s Cannot read directory track %s", disk.getNodeName(), ioPkt.getIoStatus());
@@ -3182,8 +3397,7 @@ public class FacilitiesManager implements Manager {
                                          .setFormat(TransferFormat.Packed)
                                          .setDeviceWordAddress(0L)
                                          .setBuffer(new ArraySlice(new long[28]));
-        var channel = selectRoute(disk);
-        channel.routeIo(ioPkt);
+        routeIo(ioPkt);
         if (ioPkt.getIoStatus() != IoStatus.Successful) {
             LOGGER.error("readPackLabel ioStatus={}", ioPkt.getIoStatus());
             var msg = String.format("%s Cannot read pack label %s", disk.getNodeName(), ioPkt.getIoStatus());
@@ -3194,7 +3408,19 @@ public class FacilitiesManager implements Manager {
         return ioPkt.getBuffer();
     }
 
-    Channel selectRoute(final Device device) throws ExecStoppedException, NoRouteForIOException {
+    /**
+     * Chooses a channel path for an IO to the given device according to the routing policy,
+     * from among the paths whose channels are up.
+     * @param device device of interest
+     * @param excluded channels which are not to be considered - usually those which have already failed the IO
+     * @return selected channel
+     * @throws ExecStoppedException if the node graph is inconsistent
+     * @throws NoRouteForIOException if there are no usable paths to the device
+     */
+    Channel selectRoute(
+        final Device device,
+        final Collection<Channel> excluded
+    ) throws ExecStoppedException, NoRouteForIOException {
         var ni = _nodeGraph.get(device.getNodeIdentifier());
         if (ni == null) {
             LOGGER.fatal("Cannot find NodeInfo for {}", device.getNodeName());
@@ -3203,9 +3429,12 @@ public class FacilitiesManager implements Manager {
         }
 
         if (ni instanceof DeviceNodeInfo dni) {
-            for (int cx = 0; cx < dni._routes.size(); cx++) {
-                var chan = dni._routes.pop();
-                dni._routes.push(chan);
+            var candidates = new ArrayList<ChannelNodeInfo>(dni._routes.size());
+            for (var chan : dni._routes) {
+                if (excluded.contains(chan)) {
+                    continue;
+                }
+
                 var chi = _nodeGraph.get(chan.getNodeIdentifier());
                 if (chi == null) {
                     LOGGER.fatal("Cannot find NodeInfo for {}", chan.getNodeName());
@@ -3214,10 +3443,14 @@ public class FacilitiesManager implements Manager {
                 }
 
                 if (chi.getNodeStatus() == NodeStatus.Up) {
-                    return (Channel) chi.getNode();
+                    candidates.add((ChannelNodeInfo) chi);
                 }
             }
 
+            if (!candidates.isEmpty()) {
+                return (Channel) _routingPolicy.select(dni, candidates).getNode();
+            }
+
             // if we get here, there aren't any routes
             throw new NoRouteForIOException(ni.getNode().getNodeIdentifier());
         } else {
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.kexec.facilities;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * IO counters for a channel or a device, updated by the facilities manager as it routes IOs.
+ * Routing policies use the in-flight count to pick among the paths to a device,
+ * and the PATHS keyin displays the rest.
+ */
+public class PathStatistics {
+
+    private final AtomicInteger _inFlight = new AtomicInteger();
+    private final AtomicLong _ioCount = new AtomicLong();
+    private final AtomicLong _errorCount = new AtomicLong();
+    private final AtomicLong _failoverCount = new AtomicLong();
+    private final AtomicLong _totalNanos = new AtomicLong();
+    private final AtomicLong _maxNanos = new AtomicLong();
+
+    public int getInFlight() { return _inFlight.get(); }
+    public long getIoCount() { return _ioCount.get(); }
+    public long getErrorCount() { return _errorCount.get(); }
+    public long getFailoverCount() { return _failoverCount.get(); }
+    public long getMaxMicros() { return _maxNanos.get() / 1000; }
+
+    /**
+     * Average latency of the completed IOs, in microseconds
+     */
+    public long getAverageMicros() {
+        var count = _ioCount.get();
+        return count == 0 ? 0 : _totalNanos.get() / count / 1000;
+    }
+
+    void ioStarted() {
+        _inFlight.incrementAndGet();
+    }
+
+    void ioFinished(
+        final long elapsedNanos,
+        final boolean isError
+    ) {
+        _inFlight.decrementAndGet();
+        _ioCount.incrementAndGet();
+        _totalNanos.addAndGet(elapsedNanos);
+        _maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+        if (isError) {
+            _errorCount.incrementAndGet();
+        }
+    }
+
+    void failedOver() {
+        _failoverCount.incrementAndGet();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("IOS=%d ACT=%d AVG=%dUS MAX=%dUS ERR=%d FOV=%d",
+                             getIoCount(),
+                             getInFlight(),
+                             getAverageMicros(),
+                             getMaxMicros(),
+                             getErrorCount(),
+                             getFailoverCount());
+    }
+}
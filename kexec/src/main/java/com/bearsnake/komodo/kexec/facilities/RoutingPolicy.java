@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.kexec.facilities;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Policies for choosing one of the available channel paths to a device.
+ * Selected by the IOROUTE configuration parameter.
+ */
+public enum RoutingPolicy {
+
+    // Picks the channel with the fewest IOs in flight, breaking ties in favor of the channel which has done the fewest IOs.
+    LeastOutstanding("LOR"),
+
+    // Spreads IOs across the channels in proportion to their configured weights (smooth weighted round-robin).
+    WeightedRoundRobin("WRR");
+
+    private final String _token;
+
+    RoutingPolicy(final String token) {
+        _token = token;
+    }
+
+    public String getToken() { return _token; }
+
+    public static RoutingPolicy getFromToken(final String token) {
+        return Arrays.stream(RoutingPolicy.values())
+                     .filter(rp -> rp._token.equalsIgnoreCase(token))
+                     .findFirst()
+                     .orElse(null);
+    }
+
+    /**
+     * Chooses a channel from among the given candidates for an IO to the given device.
+     * @param deviceInfo describes the device - holds the running weights for weighted round-robin
+     * @param candidates channel paths to the device which are up and not otherwise excluded - must not be empty
+     * @return the chosen channel
+     */
+    ChannelNodeInfo select(
+        final DeviceNodeInfo deviceInfo,
+        final List<ChannelNodeInfo> candidates
+    ) {
+        return switch (this) {
+            case LeastOutstanding -> selectLeastOutstanding(candidates);
+            case WeightedRoundRobin -> selectWeightedRoundRobin(deviceInfo, candidates);
+        };
+    }
+
+    private static ChannelNodeInfo selectLeastOutstanding(
+        final List<ChannelNodeInfo> candidates
+    ) {
+        ChannelNodeInfo selected = null;
+        int selectedInFlight = 0;
+        long selectedCount = 0;
+        for (var cni : candidates) {
+            var stats = cni.getStatistics();
+            var inFlight = stats.getInFlight();
+            var count = stats.getIoCount();
+            if ((selected == null)
+                || (inFlight < selectedInFlight)
+                || ((inFlight == selectedInFlight) && (count < selectedCount))) {
+                selected = cni;
+                selectedInFlight = inFlight;
+                selectedCount = count;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Each candidate's running weight goes up by its configured weight, the heaviest is chosen,
+     * and its running weight is brought down by the total - this interleaves the channels
+     * rather than sending a burst of IOs down the heaviest one.
+     */
+    private static ChannelNodeInfo selectWeightedRoundRobin(
+        final DeviceNodeInfo deviceInfo,
+        final List<ChannelNodeInfo> candidates
+    ) {
+        synchronized (deviceInfo) {
+            ChannelNodeInfo selected = null;
+            int selectedWeight = 0;
+            int totalWeight = 0;
+            for (var cni : candidates) {
+                var chanId = cni.getNode().getNodeIdentifier();
+                var weight = deviceInfo._currentWeights.getOrDefault(chanId, 0) + cni.getWeight();
+                deviceInfo._currentWeights.put(chanId, weight);
+                totalWeight += cni.getWeight();
+                if ((selected == null) || (weight > selectedWeight)) {
+                    selected = cni;
+                    selectedWeight = weight;
+                }
+            }
+
+            var selectedId = selected.getNode().getNodeIdentifier();
+            deviceInfo._currentWeights.put(selectedId, selectedWeight - totalWeight);
+            return selected;
+        }
+    }
+}
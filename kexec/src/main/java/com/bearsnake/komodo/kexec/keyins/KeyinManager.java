@@ -71,7 +71,7 @@ public class KeyinManager implements Manager {
         // MR
         // MS
         // MU
-        // PATHS
+        _handlerClasses.put(PATHSKeyinHandler.COMMAND.toUpperCase(), PATHSKeyinHandler.class);
         // PM
         // PR
         _handlerClasses.put(PREPKeyinHandler.COMMAND.toUpperCase(), PREPKeyinHandler.class);
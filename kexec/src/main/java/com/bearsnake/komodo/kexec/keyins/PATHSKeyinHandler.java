@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.kexec.keyins;
+
+import com.bearsnake.komodo.hardwarelib.NodeCategory;
+import com.bearsnake.komodo.kexec.consoles.ConsoleId;
+import com.bearsnake.komodo.kexec.exec.Exec;
+import com.bearsnake.komodo.kexec.facilities.ChannelNodeInfo;
+import com.bearsnake.komodo.kexec.facilities.DeviceNodeInfo;
+
+import java.util.Comparator;
+
+class PATHSKeyinHandler extends FacHandler implements Runnable {
+
+    private static final String[] HELP_TEXT = {
+        "PATHS",
+        "PATHS node_name",
+        "Displays the IO routing policy and IO statistics for all channels,",
+        "or for the given device and each of the channel paths to it.",
+        "ACT is the number of IOs in flight, AVG and MAX are latencies,",
+        "and FOV is the number of IOs which failed over to another path.",
+    };
+
+    private static final String[] SYNTAX_TEXT = {
+        "PATHS",
+        "PATHS node_name",
+    };
+
+    public static final String COMMAND = "PATHS";
+
+    public PATHSKeyinHandler(final ConsoleId source,
+                             final String options,
+                             final String arguments) {
+        super(source, options, arguments);
+    }
+
+    @Override
+    boolean checkSyntax() {
+        return _options == null && (_arguments == null || !_arguments.contains(","));
+    }
+
+    @Override String getCommand() { return COMMAND; }
+    @Override String[] getHelp() { return HELP_TEXT; }
+    @Override String[] getSyntax() { return SYNTAX_TEXT; }
+
+    @Override
+    boolean isAllowed() {
+        return true;
+    }
+
+    @Override
+    void process() {
+        var exec = Exec.getInstance();
+        var msg = String.format("IO ROUTING POLICY %s", _facMgr.getRoutingPolicy().getToken());
+        exec.sendExecReadOnlyMessage(msg, _source);
+
+        if (_arguments == null) {
+            _facMgr.getNodeInfos(NodeCategory.Channel)
+                   .stream()
+                   .sorted(Comparator.comparing(ni -> ni.getNode().getNodeName()))
+                   .forEach(ni -> displayChannel((ChannelNodeInfo) ni, ""));
+            return;
+        }
+
+        var nodeName = _arguments.toUpperCase();
+        var ni = _facMgr.getNodeInfo(nodeName);
+        if (ni == null) {
+            msg = String.format("%s is not a configured node", nodeName);
+            exec.sendExecReadOnlyMessage(msg, _source);
+        } else if (ni instanceof ChannelNodeInfo cni) {
+            displayChannel(cni, "");
+        } else if (ni instanceof DeviceNodeInfo dni) {
+            displayDevice(dni);
+            for (var cni : _facMgr.getNodeInfosForDevice(dni)) {
+                displayChannel(cni, "  ");
+            }
+        }
+    }
+
+    private void displayChannel(
+        final ChannelNodeInfo channelInfo,
+        final String indent
+    ) {
+        var msg = String.format("%s%-6s %s WT=%d %s",
+                                indent,
+                                channelInfo.getNode().getNodeName(),
+                                channelInfo.getNodeStatus().getDisplayString(),
+                                channelInfo.getWeight(),
+                                channelInfo.getStatistics());
+        Exec.getInstance().sendExecReadOnlyMessage(msg, _source);
+    }
+
+    private void displayDevice(
+        final DeviceNodeInfo deviceInfo
+    ) {
+        var msg = String.format("%-6s %s %s",
+                                deviceInfo.getNode().getNodeName(),
+                                deviceInfo.getNodeStatus().getDisplayString(),
+                                deviceInfo.getStatistics());
+        Exec.getInstance().sendExecReadOnlyMessage(msg, _source);
+    }
+}
@@ -5,6 +5,7 @@
 package com.bearsnake.komodo.kexec.keyins;
 
 import com.bearsnake.komodo.kexec.consoles.ConsoleId;
+import com.bearsnake.komodo.kexec.exceptions.ExecStoppedException;
 import com.bearsnake.komodo.kexec.exec.Exec;
 import com.bearsnake.komodo.kexec.exec.genf.queues.InputQueue;
 import com.bearsnake.komodo.kexec.exec.genf.queues.OutputQueue;
@@ -243,7 +244,11 @@ The nth ID in the list passed to the SQ keyin handler is invalid or missing.
             return;
         }
 
-        ((OutputQueue) queue1).moveTo((OutputQueue) queue2);
+        try {
+            gfi.moveQueue((OutputQueue) queue1, (OutputQueue) queue2);
+        } catch (ExecStoppedException ex) {
+            // nothing to do here
+        }
         // TODO what message(s) is/are sent as files are moved?
     }
 }
@@ -0,0 +1,628 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.kexec.mfd;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.baselib.Parser;
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.kexec.HardwareTrackId;
+import com.bearsnake.komodo.kexec.exceptions.DirectoryErrorException;
+import com.bearsnake.komodo.kexec.exceptions.ExecStoppedException;
+import com.bearsnake.komodo.kexec.facilities.PackInfo;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Rebuilds the in-memory MFD from the directory tracks of the fixed packs, for a recovery boot.
+ * Work which depends only upon one pack is done in parallel, one task per pack:
+ *      reading MFD track 0 of the pack (which is located by the pack label)
+ *      reading the rest of the pack's MFD tracks, as located by the MFDF$$ DAD tables -
+ *          physically contiguous tracks are read with one IO
+ *      deriving the free directory sectors from the DAS tables, loading the lead items found in the pack's
+ *          directory tracks, and marking the space described by the DAD tables of fixed files as allocated.
+ * The MFDF$$ DAD chain is walked serially between the first two steps, since a DAD sector may be in a track
+ * which is only described by an earlier DAD. The per-pack results are merged at the end.
+ * Nothing is written to disk, and no MFDManager tables are touched - the caller installs the results.
+ */
+public class DirectoryRecovery {
+
+    private static final Logger LOGGER = LogManager.getLogger(DirectoryRecovery.class);
+
+    public static final String MFD_FILENAME = "MFDF$$";
+
+    private static final int WORDS_PER_SECTOR = 28;
+    private static final int SECTORS_PER_TRACK = 64;
+    private static final int WORDS_PER_TRACK = 1792;
+    private static final int MAX_TRACKS_PER_READ = 64;
+
+    /**
+     * Reads one or more consecutive tracks from a pack
+     */
+    @FunctionalInterface
+    public interface TrackReader {
+
+        /**
+         * @param deviceTrackId device-relative track id of the first track to be read
+         * @param buffer buffer for the track content - its size is a multiple of the track size
+         * @return true if the tracks were read successfully
+         */
+        boolean read(long deviceTrackId, ArraySlice buffer) throws ExecStoppedException;
+    }
+
+    private record Pack(PackInfo packInfo, TrackReader reader) {}
+
+    // What we found in the directory tracks of one pack
+    private static class PackResult {
+
+        private final LinkedList<FileSetInfo> _leadItems = new LinkedList<>();
+        private final LinkedList<MFDRelativeAddress> _rejectedLeadItems = new LinkedList<>();
+        private final LinkedList<MFDRelativeAddress> _freeSectors = new LinkedList<>();
+    }
+
+    private final String _mfdQualifier;
+    private final int _threadCount;
+    private final TreeMap<Integer, Pack> _packs = new TreeMap<>(); // keyed by LDAT index
+
+    private final ConcurrentHashMap<MFDRelativeAddress, ArraySlice> _cachedMFDTracks = new ConcurrentHashMap<>();
+    private final HashMap<String, FileSetInfo> _leadItems = new HashMap<>();
+    private final TreeSet<MFDRelativeAddress> _freeMFDSectors = new TreeSet<>();
+    private FileAllocationSet _mfdFileAllocationSet;
+    private MFDRelativeAddress _mfdFileAddress;
+
+    /**
+     * @param mfdQualifier qualifier of the MFDF$$ file
+     * @param threadCount maximum number of packs to be worked on at the same time
+     */
+    public DirectoryRecovery(
+        final String mfdQualifier,
+        final int threadCount
+    ) {
+        _mfdQualifier = mfdQualifier;
+        _threadCount = threadCount;
+    }
+
+    /**
+     * Cached MFD tracks, keyed by the MFD-relative address of sector 0 of each track
+     */
+    public Map<MFDRelativeAddress, ArraySlice> getCachedMFDTracks() { return _cachedMFDTracks; }
+
+    /**
+     * Free MFD sectors, as indicated by the DAS tables
+     */
+    public TreeSet<MFDRelativeAddress> getFreeMFDSectors() { return _freeMFDSectors; }
+
+    /**
+     * Lead items, keyed by qualifier*filename
+     */
+    public Map<String, FileSetInfo> getLeadItems() { return _leadItems; }
+
+    /**
+     * Main item sector 0 address of the MFDF$$ file
+     */
+    public MFDRelativeAddress getMFDFileAddress() { return _mfdFileAddress; }
+
+    /**
+     * File allocation set of the MFDF$$ file - this locates every directory track
+     */
+    public FileAllocationSet getMFDFileAllocationSet() { return _mfdFileAllocationSet; }
+
+    /**
+     * Adds a fixed pack to the set of packs to be recovered.
+     * The pack's free space set is updated during recovery - the caller should reset it beforehand,
+     * and mark the label track as allocated.
+     * @param packInfo describes the pack
+     * @param reader reads tracks from the pack
+     * @throws DirectoryErrorException if the pack has no LDAT index, or its LDAT index is already in use
+     */
+    public void addPack(
+        final PackInfo packInfo,
+        final TrackReader reader
+    ) throws DirectoryErrorException {
+        var ldat = packInfo.getLDATIndex();
+        if (ldat == 0) {
+            throw new DirectoryErrorException(String.format("Pack %s has no LDAT index", packInfo.getPackName()));
+        }
+
+        if (_packs.containsKey(ldat)) {
+            var msg = String.format("Pack %s has the same LDAT index as pack %s",
+                                    packInfo.getPackName(),
+                                    _packs.get(ldat).packInfo.getPackName());
+            throw new DirectoryErrorException(msg);
+        }
+
+        _packs.put(ldat, new Pack(packInfo, reader));
+    }
+
+    /**
+     * Reads the directory from the packs, and rebuilds the MFD tables
+     * @throws DirectoryErrorException if a directory track cannot be read, or the directory is inconsistent
+     * @throws ExecStoppedException if the exec stopped while we were reading
+     */
+    public void recover() throws DirectoryErrorException, ExecStoppedException {
+        LOGGER.traceEntry("recover() packs={} threads={}", _packs.size(), _threadCount);
+        if (_packs.isEmpty()) {
+            throw new DirectoryErrorException("No fixed packs to recover");
+        }
+
+        var threadCount = Math.max(1, Math.min(_threadCount, _packs.size()));
+        var executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+            var thread = new Thread(runnable, "DirectoryRecovery");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            var readTrack0Tasks = new LinkedList<Callable<Void>>();
+            for (var pack : _packs.values()) {
+                readTrack0Tasks.add(() -> { readInitialDirectoryTrack(pack); return null; });
+            }
+            invokeAll(executor, readTrack0Tasks);
+
+            loadMFDFileAllocationSet();
+
+            var readTasks = new LinkedList<Callable<Void>>();
+            for (var pack : _packs.values()) {
+                readTasks.add(() -> { readDirectoryTracks(pack); return null; });
+            }
+            invokeAll(executor, readTasks);
+
+            var analyzeTasks = new LinkedList<Callable<PackResult>>();
+            for (var pack : _packs.values()) {
+                analyzeTasks.add(() -> analyzePack(pack));
+            }
+            mergeResults(invokeAll(executor, analyzeTasks));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        LOGGER.trace("recover() tracks={} leadItems={} freeSectors={}",
+                     _cachedMFDTracks.size(), _leadItems.size(), _freeMFDSectors.size());
+        LOGGER.traceExit();
+    }
+
+    // -------------------------------------------------------------------------
+    // Per-pack work
+    // -------------------------------------------------------------------------
+
+    /**
+     * Reads MFD track 0 of the given pack, from where the pack label says it is
+     */
+    private void readInitialDirectoryTrack(
+        final Pack pack
+    ) throws DirectoryErrorException, ExecStoppedException {
+        var ldat = pack.packInfo.getLDATIndex();
+        var track = new ArraySlice(new long[WORDS_PER_TRACK]);
+        readTracks(pack, pack.packInfo.getDirectoryTrackAddress() / WORDS_PER_TRACK, track);
+
+        // DAS word 0 H1 is the LDAT index of the pack
+        if (track.getH1(0) != ldat) {
+            var msg = String.format("Directory track of pack %s is for LDAT %04o, expected %04o",
+                                    pack.packInfo.getPackName(), track.getH1(0), ldat);
+            throw new DirectoryErrorException(msg);
+        }
+
+        _cachedMFDTracks.put(new MFDRelativeAddress(ldat, 0, 0), track);
+    }
+
+    /**
+     * Reads all the MFD tracks of the given pack which are not yet cached, as described by the MFDF$$
+     * file allocation set. Each allocation is physically contiguous, so we read up to MAX_TRACKS_PER_READ
+     * tracks of it at a time.
+     */
+    private void readDirectoryTracks(
+        final Pack pack
+    ) throws DirectoryErrorException, ExecStoppedException {
+        var ldat = pack.packInfo.getLDATIndex();
+        var lowestTrackId = new MFDRelativeAddress(ldat, 0, 0).getValue() >> 6;
+        var highestTrackId = lowestTrackId | 07777;
+
+        var mfdTrackCount = 0;
+        for (var fa : _mfdFileAllocationSet.getFileAllocations()) {
+            var region = fa.getFileRegion();
+            if ((region.getHighestTrack() < lowestTrackId) || (region.getTrackId() > highestTrackId)) {
+                continue;
+            }
+
+            var hwTid = fa.getHardwareTrackId();
+            if ((hwTid.getLDATIndex() != ldat) || (region.getHighestTrack() > highestTrackId)) {
+                var msg = String.format("MFDF$$ allocation %s for LDAT %04o is not on that pack", fa, ldat);
+                throw new DirectoryErrorException(msg);
+            }
+
+            var tx = 0L;
+            while (tx < region.getTrackCount()) {
+                var mfdTrackId = region.getTrackId() + tx - lowestTrackId;
+                if (isTrackCached(ldat, mfdTrackId)) {
+                    tx++;
+                    continue;
+                }
+
+                var trackCount = 1;
+                while ((tx + trackCount < region.getTrackCount())
+                       && (trackCount < MAX_TRACKS_PER_READ)
+                       && !isTrackCached(ldat, mfdTrackId + trackCount)) {
+                    trackCount++;
+                }
+
+                var buffer = new long[trackCount * WORDS_PER_TRACK];
+                readTracks(pack, hwTid.getTrackId() + tx, new ArraySlice(buffer));
+                for (int ty = 0; ty < trackCount; ty++) {
+                    var track = new ArraySlice(buffer, ty * WORDS_PER_TRACK, WORDS_PER_TRACK);
+                    _cachedMFDTracks.put(new MFDRelativeAddress(ldat, mfdTrackId + ty, 0), track);
+                }
+                tx += trackCount;
+            }
+
+            mfdTrackCount = Math.max(mfdTrackCount, (int)(region.getHighestTrack() - lowestTrackId + 1));
+        }
+
+        // The DAS tables assume there are no holes in the MFD tracks for a pack
+        for (int trackId = 0; trackId < mfdTrackCount; trackId++) {
+            if (!isTrackCached(ldat, trackId)) {
+                var msg = String.format("MFD track %04o on LDAT %04o is not allocated to MFDF$$", trackId, ldat);
+                throw new DirectoryErrorException(msg);
+            }
+        }
+
+        pack.packInfo.setMFDTrackCount(mfdTrackCount);
+    }
+
+    /**
+     * Finds the free sectors and the lead items in the directory tracks of a pack.
+     * For each lead item, loads the absolute cycles from the main items, and for fixed files,
+     * marks the tracks described by the DAD tables as allocated on their packs.
+     */
+    private PackResult analyzePack(
+        final Pack pack
+    ) throws DirectoryErrorException {
+        var result = new PackResult();
+        var ldat = pack.packInfo.getLDATIndex();
+        var mfdTrackCount = pack.packInfo.getMFDTrackCount();
+
+        // Each DAS describes the track which contains it, and the following eight tracks.
+        // For track offset n, DAS word 3n+1 has a bit for each of sectors 0-31, and word 3n+2 for sectors 32-63.
+        var candidates = new LinkedList<MFDRelativeAddress>();
+        for (int dasTrackId = 0; dasTrackId < mfdTrackCount; dasTrackId += 9) {
+            var das = getSector(new MFDRelativeAddress(ldat, dasTrackId, 0));
+            for (int tx = 0; (tx < 9) && (dasTrackId + tx < mfdTrackCount); tx++) {
+                var trackId = dasTrackId + tx;
+                for (int sx = (tx == 0) ? 1 : 0; sx < SECTORS_PER_TRACK; sx++) {
+                    var addr = new MFDRelativeAddress(ldat, trackId, sx);
+                    var mask = 0_400000_000000L >> (sx & 037);
+                    if ((das.get((tx * 3) + 1 + (sx >> 5)) & mask) == 0) {
+                        result._freeSectors.add(addr);
+                    } else if (isLeadItem0(getSector(addr))) {
+                        candidates.add(addr);
+                    }
+                }
+            }
+        }
+
+        for (var addr : candidates) {
+            var fsInfo = loadLeadItem(addr);
+            if (fsInfo == null) {
+                result._rejectedLeadItems.add(addr);
+                continue;
+            }
+
+            for (var fsci : fsInfo.getCycleInfo()) {
+                var mainItem0 = getSector(fsci.getMainItem0Address());
+                fsci.setAbsoluteCycle((int) mainItem0.getT3(021));
+                if (fsInfo.getFileType() == FileType.Fixed) {
+                    markFileSpaceAllocated(fsInfo, fsci);
+                }
+            }
+            result._leadItems.add(fsInfo);
+        }
+
+        return result;
+    }
+
+    /**
+     * Marks the space described by the DAD tables for a fixed file cycle as allocated
+     */
+    private void markFileSpaceAllocated(
+        final FileSetInfo fsInfo,
+        final FileSetCycleInfo fsci
+    ) throws DirectoryErrorException {
+        var dadChain = getDADChain(fsci.getMainItem0Address());
+        for (var fa : FileAllocationSet.createFromDADChain(dadChain).getFileAllocations()) {
+            var hwTid = fa.getHardwareTrackId();
+            var pack = _packs.get(hwTid.getLDATIndex());
+            var trackCount = fa.getFileRegion().getTrackCount();
+            if ((pack == null) || !pack.packInfo.getFreeSpace().markAllocated(hwTid.getTrackId(), trackCount)) {
+                var msg = String.format("%s*%s(%d) has space %s which is not available",
+                                        fsInfo.getQualifier(),
+                                        fsInfo.getFilename(),
+                                        fsci.getAbsoluteCycle(),
+                                        hwTid);
+                throw new DirectoryErrorException(msg);
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Serial work
+    // -------------------------------------------------------------------------
+
+    /**
+     * Finds the MFDF$$ lead item in MFD track 0 of one of the packs, and walks its DAD chain to build the
+     * file allocation set which locates the remaining directory tracks. DAD sectors in tracks which are
+     * not yet cached are read as we go, located by the DAD sectors we have already walked.
+     */
+    private void loadMFDFileAllocationSet() throws DirectoryErrorException, ExecStoppedException {
+        // Track 0 of each pack is where the pack label says it is, whatever the DAD tables say.
+        var initialTracks = new FileAllocationSet();
+        for (var pack : _packs.values()) {
+            var ldat = pack.packInfo.getLDATIndex();
+            var region = new LogicalTrackExtent(new MFDRelativeAddress(ldat, 0, 0).getValue() >> 6, 1);
+            var hwTid = new HardwareTrackId(ldat, pack.packInfo.getDirectoryTrackAddress() / WORDS_PER_TRACK);
+            initialTracks.mergeIntoFileAllocationSet(new FileAllocation(region, hwTid));
+        }
+
+        FileSetInfo mfdFileSet = null;
+        for (var ldat : _packs.keySet()) {
+            for (int sx = 1; (mfdFileSet == null) && (sx < SECTORS_PER_TRACK); sx++) {
+                var addr = new MFDRelativeAddress(ldat, 0, sx);
+                if (isSectorInUse(addr) && isLeadItem0(getSector(addr))) {
+                    var fsInfo = loadLeadItem(addr);
+                    if ((fsInfo != null)
+                        && fsInfo.getQualifier().equals(_mfdQualifier)
+                        && fsInfo.getFilename().equals(MFD_FILENAME)) {
+                        mfdFileSet = fsInfo;
+                    }
+                }
+            }
+        }
+
+        if ((mfdFileSet == null) || mfdFileSet.getCycleInfo().isEmpty()) {
+            throw new DirectoryErrorException(String.format("Cannot find %s*%s", _mfdQualifier, MFD_FILENAME));
+        }
+
+        _mfdFileAddress = mfdFileSet.getCycleInfo().getFirst().getMainItem0Address();
+        _mfdFileAllocationSet = new FileAllocationSet();
+        var visited = new HashSet<MFDRelativeAddress>();
+        var link = getSector(_mfdFileAddress, initialTracks).get(0) & 0_007777_777777L;
+        while (link != 0) {
+            var dadAddr = new MFDRelativeAddress(link);
+            if (!visited.add(dadAddr)) {
+                throw new DirectoryErrorException(String.format("MFDF$$ DAD chain loops at %s", dadAddr));
+            }
+
+            var dad = getSector(dadAddr, initialTracks);
+            var dadChain = new LinkedList<MFDSector>();
+            dadChain.add(new MFDSector(dadAddr, dad));
+            FileAllocationSet.createFromDADChain(dadChain)
+                             .getFileAllocations()
+                             .forEach(_mfdFileAllocationSet::mergeIntoFileAllocationSet);
+            link = dad.get(0) & 0_007777_777777L;
+        }
+
+        for (var fa : initialTracks.getFileAllocations()) {
+            var trackId = fa.getFileRegion().getTrackId();
+            if (!fa.getHardwareTrackId().equals(_mfdFileAllocationSet.resolveFileRelativeTrackId(trackId))) {
+                var msg = String.format("MFDF$$ does not describe directory track %s", fa.getHardwareTrackId());
+                throw new DirectoryErrorException(msg);
+            }
+        }
+    }
+
+    /**
+     * Merges the per-pack results, checking that no file set appears more than once
+     */
+    private void mergeResults(
+        final List<PackResult> results
+    ) throws DirectoryErrorException {
+        var leadItem1Addresses = new HashSet<MFDRelativeAddress>();
+        for (var result : results) {
+            for (var fsInfo : result._leadItems) {
+                var key = MFDManager.composeLookupKey(fsInfo.getQualifier(), fsInfo.getFilename());
+                var existing = _leadItems.putIfAbsent(key, fsInfo);
+                if (existing != null) {
+                    var msg = String.format("Lead items for %s at %s and %s",
+                                            key, existing._leadItem0Address, fsInfo._leadItem0Address);
+                    throw new DirectoryErrorException(msg);
+                }
+
+                var link = getSector(fsInfo._leadItem0Address).get(0);
+                if ((link & 0_400000_000000L) == 0) {
+                    leadItem1Addresses.add(new MFDRelativeAddress(link & 0_007777_777777L));
+                }
+            }
+            _freeMFDSectors.addAll(result._freeSectors);
+        }
+
+        // Lead item sector 1 can look like sector 0 if its first cycle is to-be-dropped, so we only complain
+        // about rejected lead items which are not sector 1 of a good one.
+        for (var result : results) {
+            for (var addr : result._rejectedLeadItems) {
+                if (!leadItem1Addresses.contains(addr)) {
+                    LOGGER.warn("Ignoring malformed lead item at {}", addr);
+                }
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Helpers
+    // -------------------------------------------------------------------------
+
+    /**
+     * Retrieves the chain of DAD sectors for a disk file cycle
+     */
+    private LinkedList<MFDSector> getDADChain(
+        final MFDRelativeAddress mainItem0Address
+    ) throws DirectoryErrorException {
+        var dadChain = new LinkedList<MFDSector>();
+        var visited = new HashSet<MFDRelativeAddress>();
+        var link = getSector(mainItem0Address).get(0) & 0_007777_777777L;
+        while (link != 0) {
+            var dadAddr = new MFDRelativeAddress(link);
+            if (!visited.add(dadAddr)) {
+                throw new DirectoryErrorException(String.format("DAD chain loops at %s", dadAddr));
+            }
+
+            var dad = getSector(dadAddr);
+            dadChain.add(new MFDSector(dadAddr, dad));
+            link = dad.get(0) & 0_007777_777777L;
+        }
+
+        return dadChain;
+    }
+
+    /**
+     * Retrieves a sector from a cached MFD track
+     */
+    private ArraySlice getSector(
+        final MFDRelativeAddress address
+    ) throws DirectoryErrorException {
+        var track = _cachedMFDTracks.get(new MFDRelativeAddress(address.getLDATIndex(), address.getTrackId(), 0));
+        if (track == null) {
+            throw new DirectoryErrorException(String.format("MFD sector %s is not in a known directory track", address));
+        }
+
+        return new ArraySlice(track, (int)(address.getSectorId() * WORDS_PER_SECTOR), WORDS_PER_SECTOR);
+    }
+
+    /**
+     * Retrieves a sector, reading the containing MFD track if it is not yet cached.
+     * The track is located by the MFDF$$ allocations we know so far, else by the given initial allocations.
+     */
+    private ArraySlice getSector(
+        final MFDRelativeAddress address,
+        final FileAllocationSet initialTracks
+    ) throws DirectoryErrorException, ExecStoppedException {
+        var ldat = (int) address.getLDATIndex();
+        var trackId = address.getTrackId();
+        if (!isTrackCached(ldat, trackId)) {
+            var fileTrackId = address.getValue() >> 6;
+            var hwTid = _mfdFileAllocationSet.resolveFileRelativeTrackId(fileTrackId);
+            if (hwTid == null) {
+                hwTid = initialTracks.resolveFileRelativeTrackId(fileTrackId);
+            }
+
+            var pack = (hwTid == null) ? null : _packs.get(hwTid.getLDATIndex());
+            if (pack == null) {
+                throw new DirectoryErrorException(String.format("MFD sector %s is not in a known directory track", address));
+            }
+
+            var track = new ArraySlice(new long[WORDS_PER_TRACK]);
+            readTracks(pack, hwTid.getTrackId(), track);
+            _cachedMFDTracks.put(new MFDRelativeAddress(ldat, trackId, 0), track);
+        }
+
+        return getSector(address);
+    }
+
+    /**
+     * Lead item sector 0 is the only directory sector with bit 2 set and bit 1 clear in word 0
+     * (main items have bit 1 set, and DAD links and DAS words have neither).
+     */
+    private static boolean isLeadItem0(
+        final ArraySlice sector
+    ) {
+        return (sector.get(0) & 0_300000_000000L) == 0_100000_000000L;
+    }
+
+    /**
+     * Checks the DAS bit for a sector in a cached track
+     */
+    private boolean isSectorInUse(
+        final MFDRelativeAddress address
+    ) throws DirectoryErrorException {
+        var trackId = (int) address.getTrackId();
+        var sectorId = (int) address.getSectorId();
+        var das = getSector(new MFDRelativeAddress(address.getLDATIndex(), trackId - (trackId % 9), 0));
+        var mask = 0_400000_000000L >> (sectorId & 037);
+        return (das.get(((trackId % 9) * 3) + 1 + (sectorId >> 5)) & mask) != 0;
+    }
+
+    private boolean isTrackCached(
+        final long ldat,
+        final long trackId
+    ) {
+        return _cachedMFDTracks.containsKey(new MFDRelativeAddress(ldat, trackId, 0));
+    }
+
+    /**
+     * Loads a file set from what looks like lead item sector 0
+     * @return FileSetInfo object, or null if the sector does not contain a valid lead item
+     */
+    private FileSetInfo loadLeadItem(
+        final MFDRelativeAddress leadItem0Address
+    ) throws DirectoryErrorException {
+        var sector0 = getSector(leadItem0Address);
+        var qualifier = (Word36.toStringFromFieldata(sector0.get(1)) + Word36.toStringFromFieldata(sector0.get(2))).trim();
+        var filename = (Word36.toStringFromFieldata(sector0.get(3)) + Word36.toStringFromFieldata(sector0.get(4))).trim();
+        if (!Parser.isValidQualifier(qualifier) || !Parser.isValidFilename(filename)) {
+            return null;
+        }
+
+        var chain = new LinkedList<MFDSector>();
+        chain.add(new MFDSector(leadItem0Address, sector0));
+        if ((sector0.get(0) & 0_400000_000000L) == 0) {
+            var leadItem1Address = new MFDRelativeAddress(sector0.get(0) & 0_007777_777777L);
+            chain.add(new MFDSector(leadItem1Address, getSector(leadItem1Address)));
+        }
+
+        return new FileSetInfo().loadFromLeadItemSectors(chain);
+    }
+
+    /**
+     * Runs the given tasks on the executor, waiting for all of them to finish
+     * @return results of the tasks, in task order
+     */
+    private static <T> List<T> invokeAll(
+        final ExecutorService executor,
+        final List<Callable<T>> tasks
+    ) throws DirectoryErrorException, ExecStoppedException {
+        try {
+            var results = new LinkedList<T>();
+            for (var future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DirectoryErrorException("Directory recovery was interrupted");
+        } catch (ExecutionException ex) {
+            var cause = ex.getCause();
+            if (cause instanceof DirectoryErrorException dex) {
+                throw dex;
+            } else if (cause instanceof ExecStoppedException esx) {
+                throw esx;
+            } else if (cause instanceof RuntimeException rex) {
+                throw rex;
+            } else {
+                throw new RuntimeException(cause);
+            }
+        }
+    }
+
+    private static void readTracks(
+        final Pack pack,
+        final long deviceTrackId,
+        final ArraySlice buffer
+    ) throws DirectoryErrorException, ExecStoppedException {
+        if (!pack.reader.read(deviceTrackId, buffer)) {
+            var msg = String.format("Cannot read directory track %012o on pack %s",
+                                    deviceTrackId, pack.packInfo.getPackName());
+            throw new DirectoryErrorException(msg);
+        }
+    }
+}
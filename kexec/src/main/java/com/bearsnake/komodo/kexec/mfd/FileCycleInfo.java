@@ -136,7 +136,7 @@ public abstract class FileCycleInfo {
         //  Word 6 is the link to the previous main item sector
         // Note also that words 1-2 contain the qualifier in fieldata LJSF, while 3-4 contain the filename
         // (also fieldata LJSF) for all main item sectors *except* removable disk sector 1.
-        mfdSectors.forEach(ms -> IntStream.range(0, 28).forEach(x -> ms.getSector()._array[x] = 0));
+        mfdSectors.forEach(ms -> IntStream.range(0, 28).forEach(x -> ms.getSector().set(x, 0)));
 
         var iter = mfdSectors.iterator();
         var msFirst = iter.next();
@@ -105,6 +105,70 @@ public class FileSetInfo {
         }
     }
 
+    /**
+     * Loads this object from the given lead item sector(s) - the inverse of populateLeadItemSectors().
+     * The cycle info entries have main item addresses and status, but not absolute cycles -
+     * those are in the main items, so the caller must fill them in.
+     * @param mfdSectors either 1 or 2 MFDSectors representing lead item 0 and optionally, lead item 1.
+     * @return this object, or null if the file type is not one we recognize
+     */
+    public FileSetInfo loadFromLeadItemSectors(
+        final LinkedList<MFDSector> mfdSectors
+    ) {
+        var sector0 = mfdSectors.getFirst().getSector();
+        _leadItem0Address = mfdSectors.getFirst().getAddress();
+
+        _qualifier = (Word36.toStringFromFieldata(sector0.get(1)) + Word36.toStringFromFieldata(sector0.get(2))).trim();
+        _filename = (Word36.toStringFromFieldata(sector0.get(3)) + Word36.toStringFromFieldata(sector0.get(4))).trim();
+        _projectId = (Word36.toStringFromFieldata(sector0.get(5)) + Word36.toStringFromFieldata(sector0.get(6))).trim();
+        _readKey = sector0.get(7) == 0 ? "" : Word36.toStringFromFieldata(sector0.get(7)).trim();
+        _writeKey = sector0.get(8) == 0 ? "" : Word36.toStringFromFieldata(sector0.get(8)).trim();
+
+        _fileType = switch ((int) sector0.getS1(9)) {
+            case 0 -> FileType.Fixed;
+            case 1 -> FileType.Tape;
+            case 040 -> FileType.Removable;
+            default -> null;
+        };
+        if (_fileType == null) {
+            return null;
+        }
+
+        _cycleCount = (int) sector0.getS2(9);
+        _maxCycleRange = (int) sector0.getS3(9);
+        _currentCycleRange = (int) sector0.getS4(9);
+        _highestAbsoluteCycle = (int) sector0.getT3(9);
+
+        var statusBits = sector0.getT1(10);
+        _isGuarded = (statusBits & 0_4000) != 0;
+        _plusOneExists = (statusBits & 0_2000) != 0;
+        _numberOfSecurityWords = (int) sector0.getS4(10);
+        _accessType = (int) sector0.getT3(10);
+
+        // cycle words run to the end of sector 0 and on into sector 1, ending with the first zero word
+        _cycleInfo = new LinkedList<>();
+        var sx = 0;
+        var wx = 11 + _numberOfSecurityWords;
+        while (sx < mfdSectors.size()) {
+            var w = mfdSectors.get(sx).getSector().get(wx);
+            if (w == 0) {
+                break;
+            }
+
+            var fsci = new FileSetCycleInfo().setMainItem0Address(new MFDRelativeAddress(w & 0_007777_777777L))
+                                             .setToBeCataloged((w & 0_200000_000000L) != 0)
+                                             .setToBeDropped((w & 0_100000_000000L) != 0);
+            _cycleInfo.add(fsci);
+            wx++;
+            if (wx == 28) {
+                wx = 0;
+                sx++;
+            }
+        }
+
+        return this;
+    }
+
     /**
      * Populates the given lead item sector(s).
      * @param mfdSectors either 1 or 2 MFDSectors representing lead item 0 and optionally, lead item 1.
@@ -117,11 +181,17 @@ public class FileSetInfo {
             throw new ExecStoppedException();
         }
 
-        mfdSectors.forEach(ms -> IntStream.range(0, 28).forEach(x -> ms.getSector()._array[x] = 0));
+        mfdSectors.forEach(ms -> IntStream.range(0, 28).forEach(x -> ms.getSector().set(x, 0)));
         var sector0 = mfdSectors.getFirst().getSector();
         var sector1 = mfdSectors.size() > 1 ? mfdSectors.get(1).getSector() : null;
 
-        sector0.set(0, 0_500000_000000L);
+        // Word 0 bit 2 identifies a lead item sector 0. Bit 0 set means there is no sector 1,
+        // otherwise bits 6-35 link to sector 1.
+        if (sector1 != null) {
+            sector0.set(0, 0_100000_000000L | mfdSectors.get(1).getAddress().getValue());
+        } else {
+            sector0.set(0, 0_500000_000000L);
+        }
 
         String paddedQualifier = String.format("%-12s", _qualifier);
         sector0.set(1, Word36.stringToWordFieldata(paddedQualifier.substring(0, 6)));
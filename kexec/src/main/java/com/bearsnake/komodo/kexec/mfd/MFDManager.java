@@ -8,6 +8,7 @@ import com.bearsnake.komodo.baselib.ArraySlice;
 import com.bearsnake.komodo.baselib.FileSpecification;
 import com.bearsnake.komodo.baselib.Word36;
 import com.bearsnake.komodo.hardwarelib.IoFunction;
+import com.bearsnake.komodo.hardwarelib.IoStatus;
 import com.bearsnake.komodo.hardwarelib.channels.ChannelIoPacket;
 import com.bearsnake.komodo.hardwarelib.channels.TransferFormat;
 import com.bearsnake.komodo.kexec.Granularity;
@@ -19,6 +20,7 @@ import com.bearsnake.komodo.kexec.exceptions.*;
 import com.bearsnake.komodo.kexec.exec.Exec;
 import com.bearsnake.komodo.kexec.exec.StopCode;
 import com.bearsnake.komodo.kexec.facilities.FacStatusResult;
+import com.bearsnake.komodo.kexec.facilities.FacilitiesManager;
 import com.bearsnake.komodo.kexec.facilities.NodeInfo;
 import com.bearsnake.komodo.kexec.facilities.PackInfo;
 import org.apache.logging.log4j.LogManager;
@@ -39,6 +41,9 @@ public class MFDManager implements Manager {
     private static final Logger LOGGER = LogManager.getLogger(MFDManager.class);
     public static final long INVALID_LINK = 0_400000_000000L;
 
+    // Number of packs whose directory tracks are read and analyzed at the same time during a recovery boot
+    private static final int RECOVERY_THREADS = 8;
+
     // Used for finding the DAS entry for a particular directory sector.
     private static class DASLocation {
 
@@ -790,13 +795,14 @@ public class MFDManager implements Manager {
                 // populate directory track sector 1
                 // Leave +0 and +1 alone (We aren't doing HMBT/SMBT)
                 // Set +2 and +3 to available tracks, +4 to pack-id
-                // +5,H1 Bit35 needs to be set to indicate fixed pack
+                // +5,H1 Bit35 needs to be set to indicate fixed pack, and the low 12 bits are the LDAT index
+                //   (a recovery boot gets the LDAT index from here - see PackInfo.loadFromLabel())
                 var sector1 = new ArraySlice(dirTrack, 28, 28);
                 sector1.set(2, packInfo.getTrackCount());
                 sector1.set(3, packInfo.getTrackCount() - 2);
                 String packId = String.format("%-6s", packInfo.getPackName());
                 sector1.set(4, Word36.stringToWordFieldata(packId));
-                sector1.set(5, INVALID_LINK);
+                sector1.set(5, Word36.setH1(0, 0_400000 | ldatIndex));
 
                 // +010,T1 is blocks per track
                 // +010,S3 is version (1)
@@ -824,7 +830,7 @@ public class MFDManager implements Manager {
             writeDirtyCacheTracks();
 
             // I think we're all done here.
-            var elapsed = Duration.between(start, Instant.now()).getNano() / 1000000;
+            var elapsed = Duration.between(start, Instant.now()).toMillis();
             msg = String.format("Mass Storage Initialized %d MS.", elapsed);
             e.sendExecReadOnlyMessage(msg, ConsoleType.System);
         } catch (ExecStoppedException ex) {
@@ -885,9 +891,55 @@ public class MFDManager implements Manager {
             }
         }
 
-        // TODO recover mass storage
+        try {
+            _cachedMFDTracks.clear();
+            _dirtyCacheTracks.clear();
+            _leadItemLookupTable.clear();
+            _acceleratedFileCycles.clear();
+            _freeMFDSectors.clear();
+            _logicalDATable.clear();
+            _fixedPackCount = 0;
+
+            var fm = e.getFacilitiesManager();
+            var recovery = new DirectoryRecovery(e.getDefaultQualifier(), RECOVERY_THREADS);
+            for (var ni : fixedDiskInfo) {
+                var packInfo = (PackInfo) ni.getMediaInfo();
+                if (!packInfo.isFixed()) {
+                    throw new DirectoryErrorException(String.format("Pack %s is not fixed", packInfo.getPackName()));
+                }
 
-        var elapsed = Duration.between(start, Instant.now()).getNano() / 1000 / 1000;
+                // Space is marked allocated as the DAD tables are read - start with just the label track.
+                var fs = packInfo.getFreeSpace();
+                if (fs == null) {
+                    packInfo.setTrackCount(packInfo.getTrackCount());
+                    fs = packInfo.getFreeSpace();
+                }
+                fs.reset();
+                fs.markAllocated(0, 1);
+
+                var nodeIdentifier = ni.getNode().getNodeIdentifier();
+                recovery.addPack(packInfo, (trackId, buffer) -> readTracks(fm, nodeIdentifier, trackId, buffer));
+                _logicalDATable.put(packInfo.getLDATIndex(), ni);
+                _fixedPackCount++;
+            }
+
+            recovery.recover();
+
+            synchronized (this) {
+                _cachedMFDTracks.putAll(recovery.getCachedMFDTracks());
+                _leadItemLookupTable.putAll(recovery.getLeadItems());
+                _freeMFDSectors.addAll(recovery.getFreeMFDSectors());
+                _mfdFileAddress = recovery.getMFDFileAddress();
+            }
+
+            assignMFDFile(e.getDefaultQualifier());
+        } catch (DirectoryErrorException ex) {
+            LOGGER.fatal("recoverMassStorage:{}", ex.getMessage());
+            e.stop(StopCode.DirectoryErrors);
+            throw new ExecStoppedException();
+        }
+
+        var elapsed = Duration.between(start, Instant.now()).toMillis();
         var msg = String.format("Mass Storage Recovered %d MS.", elapsed);
         e.sendExecReadOnlyMessage(msg);
         LOGGER.traceExit();
@@ -922,7 +974,7 @@ public class MFDManager implements Manager {
         var dasLoc = new DASLocation(addr);
         var dasAddr = dasLoc.getDASTrackAddress();
         var das = getMFDSector(dasAddr);
-        var wx = (dasLoc._trackOffset * 3) + 1;
+        var wx = (dasLoc._trackOffset * 3) + 1 + dasLoc._wordMod;
         var mask = 0_400000_000000L >> dasLoc._bit;
         das.set(wx, das.get(wx) | mask);
         markDirectorySectorDirty(dasAddr);
@@ -992,13 +1044,30 @@ public class MFDManager implements Manager {
      * All code which creates or uses look-up keys must invoke this, so that we can change it
      * if we think of a better algorithm.
      */
-    private static String composeLookupKey(
+    static String composeLookupKey(
         final String qualifier,
         final String filename
     ) {
         return qualifier + "*" + filename;
     }
 
+    /**
+     * Assigns MFDF$$ to the exec, which accelerates it so that we can write directory tracks
+     * @param mfdQualifier qualifier of the MFDF$$ file
+     */
+    private void assignMFDFile(
+        final String mfdQualifier
+    ) throws ExecStoppedException {
+        var exec = Exec.getInstance();
+        var fs = new FileSpecification(mfdQualifier, DirectoryRecovery.MFD_FILENAME, null, null, null);
+        var fr = new FacStatusResult();
+        var result = exec.getFacilitiesManager().assignCatalogedDiskFileToExec(fs, true, fr);
+        if (!result) {
+            exec.stop(StopCode.FileAssignErrorOccurredDuringSystemInitialization);
+            throw new ExecStoppedException();
+        }
+    }
+
     /**
      * Part of an initial boot - this code creates the artifacts which comprise the MFDF$$ file.
      * @param mfdAllocationSet FileAllocationSet describing the layout of the master file directory file's content.
@@ -1010,7 +1079,7 @@ public class MFDManager implements Manager {
         var cfg = exec.getConfiguration();
         try {
             var mfdQualifier = exec.getDefaultQualifier();
-            var mfdFilename = "MFDF$$";
+            var mfdFilename = DirectoryRecovery.MFD_FILENAME;
             var mfdProjectId = exec.getProjectId();
             var mfdAccountId = exec.getAccountId();
             var mfdEquip = cfg.getStringValue(Tag.MDFALT);
@@ -1049,14 +1118,7 @@ public class MFDManager implements Manager {
             // Create DAD tables for the MFD$$ file
             persistDADTables(_mfdFileAddress, mfdAllocationSet);
 
-            // Assign MFDF$$ to the exec
-            var fs = new FileSpecification(mfdQualifier, mfdFilename, null, null, null);
-            var fr = new FacStatusResult();
-            var result = exec.getFacilitiesManager().assignCatalogedDiskFileToExec(fs, true, fr);
-            if (!result) {
-                exec.stop(StopCode.FileAssignErrorOccurredDuringSystemInitialization);
-                throw new ExecStoppedException();
-            }
+            assignMFDFile(mfdQualifier);
 
             var msg = String.format("Created %s*%s", mfdQualifier, mfdFilename);
             exec.sendExecReadOnlyMessage(msg);
@@ -1204,20 +1266,24 @@ public class MFDManager implements Manager {
 
         // Record-keeping stuff - if we get this far, there is at least one track
         // so we don't need to check devTrackId for null.
+        // The MFD$$ file-relative track id is the LDAT index and the MFD track id, as it is for the initial
+        // directory tracks (see initializeMassStorage()).
         var mfdTrackId = chosenPackInfo.getMFDTrackCount();
         var devTrackId = chosenPackInfo.getFreeSpace().allocateTrack();
-        var fa = new FileAllocation(new LogicalTrackExtent(mfdTrackId, 1),
+        var dirTrackAddr = new MFDRelativeAddress(chosenPackInfo.getLDATIndex(), mfdTrackId, 0);
+        var fa = new FileAllocation(new LogicalTrackExtent(dirTrackAddr.getValue() >> 6, 1),
                                     new HardwareTrackId(chosenPackInfo.getLDATIndex(), devTrackId));
 
         // update file allocation set for the MFD$$ file
         var mfdACI = _acceleratedFileCycles.get(_mfdFileAddress);
         mfdACI.getFileAllocationSet().mergeIntoFileAllocationSet(fa);
 
-        var dirTrackAddr = new MFDRelativeAddress(chosenPackInfo.getLDATIndex(), mfdTrackId, 0);
         var dirTrack = new ArraySlice(new long[1792]);
         _cachedMFDTracks.put(dirTrackAddr, dirTrack);
 
-        for (int sectorId = 0; sectorId <= 077; ++sectorId) {
+        // sector 0 of every ninth track is a DAS, so it is never free
+        var firstFreeSectorId = (mfdTrackId % 9 == 0) ? 1 : 0;
+        for (int sectorId = firstFreeSectorId; sectorId <= 077; ++sectorId) {
             var sectorAddr = new MFDRelativeAddress(chosenPackInfo.getLDATIndex(), mfdTrackId, sectorId);
             _freeMFDSectors.add(sectorAddr);
             markDirectorySectorDirty(sectorAddr);
@@ -1263,6 +1329,9 @@ public class MFDManager implements Manager {
             markDirectorySectorDirty(prevDasAddr);
         }
 
+        // Persist the new allocation, so that the track can be found on a recovery boot
+        persistDADTables(_mfdFileAddress, mfdACI.getFileAllocationSet());
+
         LOGGER.trace(String.format("expandDirectory added MFD address %s at ldat:%06o devTrack:%012o",
                             dirTrackAddr, chosenPackInfo.getLDATIndex(), devTrackId));
     }
@@ -1327,7 +1396,7 @@ public class MFDManager implements Manager {
 
         var mainItem0 = getMFDSector(mainItem0Address);
         result.add(new MFDSector(mainItem0Address, mainItem0));
-        var link = mainItem0.get(013) & 0_007777_777777L;
+        var link = mainItem0.get(015) & 0_007777_777777L;
         while (link != 0) {
             var addr = new MFDRelativeAddress(link & 0_007777_777777L);
             var mainItem = getMFDSector(addr);
@@ -1463,7 +1532,7 @@ public class MFDManager implements Manager {
                     var newDADSector = allocateDirectorySector();
                     var newDADAddr = newDADSector.getAddress();
                     var newDAD = newDADSector.getSector();
-                    IntStream.range(0, 28).forEach(x -> newDAD._array[x] = 0);
+                    IntStream.range(0, 28).forEach(x -> newDAD.set(x, 0));
                     dadChain.add(new MFDSector(newDADAddr, newDAD));
 
                     // link this address to the previous DAD entry (but only if this is not the first).
@@ -1609,7 +1678,7 @@ public class MFDManager implements Manager {
                     var newReelTableSector = allocateDirectorySector();
                     var newReelTableAddr = newReelTableSector.getAddress();
                     var newReelTable = newReelTableSector.getSector();
-                    IntStream.range(0, 28).forEach(x -> newReelTable._array[x] = 0);
+                    IntStream.range(0, 28).forEach(x -> newReelTable.set(x, 0));
                     reelTableChain.add(new MFDSector(newReelTableAddr, newReelTable));
 
                     // link this address to the previous entry (but only if this is not the first).
@@ -1654,13 +1723,47 @@ public class MFDManager implements Manager {
         var dasLoc = new DASLocation(address);
         var dasAddr = dasLoc.getDASTrackAddress();
         var das = getMFDSector(dasAddr);
-        var wx = (dasLoc._trackOffset * 3) + 1;
+        var wx = (dasLoc._trackOffset * 3) + 1 + dasLoc._wordMod;
         var mask = 0_400000_000000L >> dasLoc._bit;
         das.set(wx, ~((~das.get(wx)) | mask));
         markDirectorySectorDirty(dasAddr);
         _freeMFDSectors.add(address);
     }
 
+    /**
+     * Reads one or more consecutive tracks from a fixed pack, for directory recovery
+     * @param fm facilities manager
+     * @param nodeIdentifier node identifier of the disk device
+     * @param trackId device-relative track id of the first track
+     * @param buffer buffer to be filled - its size determines the number of tracks
+     * @return true if the read was successful
+     * @throws ExecStoppedException if the exec stops during the IO
+     */
+    private static boolean readTracks(
+        final FacilitiesManager fm,
+        final int nodeIdentifier,
+        final long trackId,
+        final ArraySlice buffer
+    ) throws ExecStoppedException {
+        var channelPacket = new ChannelIoPacket().setNodeIdentifier(nodeIdentifier)
+                                                 .setIoFunction(IoFunction.Read)
+                                                 .setFormat(TransferFormat.Packed)
+                                                 .setDeviceWordAddress(trackId * 1792)
+                                                 .setBuffer(buffer);
+        try {
+            fm.routeIo(channelPacket);
+        } catch (NoRouteForIOException ex) {
+            LOGGER.error("readTracks no route to node {}", nodeIdentifier);
+            return false;
+        }
+
+        if (channelPacket.getIoStatus() != IoStatus.Successful) {
+            LOGGER.error("readTracks node {} track {} ioStatus={}", nodeIdentifier, trackId, channelPacket.getIoStatus());
+            return false;
+        }
+        return true;
+    }
+
     /**
      * Writes all dirty cache tracks to underlying disk storage
      * @throws ExecStoppedException if something goes wrong
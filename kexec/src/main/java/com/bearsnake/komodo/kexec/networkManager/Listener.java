@@ -7,13 +7,11 @@ package com.bearsnake.komodo.kexec.networkManager;
 import com.bearsnake.komodo.kexec.exceptions.SystemException;
 
 import java.net.InetAddress;
-import java.net.ServerSocket;
 
 abstract class Listener {
 
     protected final InetAddress _address;
     protected final int _port;
-    protected ServerSocket _serverSocket;
 
     protected Listener(final InetAddress address,
                        final int port) {
@@ -56,7 +56,7 @@ public class NetworkManager implements Manager {
     @Override
     public void dump(PrintStream out, String indent, boolean verbose) {
         out.printf("%sNetworkManager ********************************\n", indent);
-        _listeners.forEach(server -> out.printf("%s  %s", indent, server.toString()));
+        _listeners.forEach(server -> out.printf("%s  %s\n", indent, server.toString()));
     }
 
     @Override
@@ -82,6 +82,13 @@ public class NetworkManager implements Manager {
     @Override
     public void stop() {
         LOGGER.traceEntry("stop()");
+        for (Listener listener : _listeners) {
+            try {
+                listener.shutdown();
+            } catch (SystemException ex) {
+                LOGGER.error("Cannot shut down {}:{}", listener, ex.getMessage());
+            }
+        }
         LOGGER.traceExit("stop()");
     }
 
@@ -4,23 +4,48 @@
 
 package com.bearsnake.komodo.kexec.networkManager;
 
+import com.bearsnake.komodo.kexec.exceptions.KExecException;
 import com.bearsnake.komodo.kexec.exceptions.SystemException;
-import org.apache.logging.log4j.Level;
+import com.bearsnake.komodo.kexec.exec.Exec;
+import com.bearsnake.komodo.kexec.symbionts.RemoteTelnetSymbiont;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
 import java.net.InetAddress;
-import java.net.ServerSocket;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
- * Server for DEMAND mode clients using TELNET protocol
+ * Server for DEMAND mode clients using TELNET protocol.
+ * A single thread services the listening socket and every session accepted from it, via a Selector,
+ * so an idle session costs us a SelectionKey and a TelnetSession object rather than a thread.
+ * Each accepted session is handed to a session listener (normally a RemoteTelnetSymbiont)
+ * which receives assembled input lines and writes output back through the session.
  */
 public class TelnetListener extends Listener implements Runnable {
 
     private static final Logger LOGGER = LogManager.getLogger(TelnetListener.class);
 
-    private boolean _terminate = false;
+    private static final int ACCEPT_BACKLOG = 16;
+    private static final int INPUT_BUFFER_SIZE = 4096;
+
+    // Sessions which have output queued (or which wish to close) - drained by the selector thread.
+    private final ConcurrentLinkedQueue<TelnetSession> _flushRequests = new ConcurrentLinkedQueue<>();
+
+    // Shared by all sessions - we process input completely before reading from the next socket.
+    private final ByteBuffer _inputBuffer = ByteBuffer.allocateDirect(INPUT_BUFFER_SIZE);
+
+    private Selector _selector;
+    private ServerSocketChannel _serverChannel;
+    private volatile boolean _terminate = false;
     private Thread _thread;
 
     public TelnetListener(final InetAddress address,
@@ -28,12 +53,39 @@ public class TelnetListener extends Listener implements Runnable {
         super(address, port);
     }
 
+    /**
+     * Returns the port on which we are actually listening - this differs from the configured port
+     * only if the configured port was zero.
+     */
+    int getLocalPort() {
+        return _serverChannel == null ? _port : _serverChannel.socket().getLocalPort();
+    }
+
     @Override
     void shutdown() throws SystemException {
         _terminate = true;
+        if (_selector != null) {
+            _selector.wakeup();
+        }
+
+        if (_thread != null) {
+            try {
+                _thread.join();
+            } catch (InterruptedException ex) {
+                LOGGER.warn("{} interrupted waiting for selector thread", this);
+            }
+            _thread = null;
+        }
+
         try {
-            _serverSocket.close();
-            _serverSocket = null;
+            if (_serverChannel != null) {
+                _serverChannel.close();
+                _serverChannel = null;
+            }
+            if (_selector != null) {
+                _selector.close();
+                _selector = null;
+            }
         } catch (IOException ex) {
             throw new SystemException("Cannot close socket:" + ex, ex);
         }
@@ -43,11 +95,16 @@ public class TelnetListener extends Listener implements Runnable {
     void startup() throws SystemException {
         _terminate = false;
         try {
-            _serverSocket = new ServerSocket(_port, 4, _address);
+            _selector = Selector.open();
+            _serverChannel = ServerSocketChannel.open();
+            _serverChannel.configureBlocking(false);
+            _serverChannel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+            _serverChannel.bind(new InetSocketAddress(_address, _port), ACCEPT_BACKLOG);
+            _serverChannel.register(_selector, SelectionKey.OP_ACCEPT);
         } catch (IOException ex) {
             throw new SystemException("Cannot get server socket:" + ex, ex);
         }
-        _thread = new Thread(this);
+        _thread = new Thread(this, toString());
         _thread.start();
     }
 
@@ -56,16 +113,159 @@ public class TelnetListener extends Listener implements Runnable {
         return String.format("TelnetListener:Addr=%s Port=%d", _address, _port);
     }
 
+    /**
+     * Creates the entity which is to own a newly-accepted session.
+     * The default is to create a DEMAND symbiont for the session, and a DEMAND run which reads its control images.
+     * @param session newly-accepted session
+     * @return session listener
+     * @throws KExecException if the session cannot be accepted (e.g., too many sessions)
+     */
+    protected TelnetSessionListener createSessionListener(
+        final TelnetSession session
+    ) throws KExecException {
+        var symbiont = new RemoteTelnetSymbiont(session);
+        var exec = Exec.getInstance();
+        exec.getSymbiontManager().registerRemoteSymbiont(symbiont);
+        exec.getScheduleManager().createDemandRun(symbiont.getSymbiontName(), symbiont);
+        return symbiont;
+    }
+
+    /**
+     * Invoked (from any thread) by a session which has output queued or which wishes to close.
+     */
+    void requestFlush(final TelnetSession session) {
+        _flushRequests.add(session);
+        if (Thread.currentThread() != _thread) {
+            var selector = _selector;
+            if (selector != null) {
+                selector.wakeup();
+            }
+        }
+    }
+
     @Override
     public void run() {
+        LOGGER.info("{} started", this);
         while (!_terminate) {
             try {
-                var socket = _serverSocket.accept();
-                // TODO create a new telnet session
+                processFlushRequests();
+                _selector.select();
+                var iter = _selector.selectedKeys().iterator();
+                while (iter.hasNext()) {
+                    var key = iter.next();
+                    iter.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+
+                    if (key.isAcceptable()) {
+                        acceptSession();
+                    } else {
+                        var session = (TelnetSession) key.attachment();
+                        if (key.isValid() && key.isWritable()) {
+                            flushSession(session);
+                        }
+                        if (key.isValid() && key.isReadable()) {
+                            readSession(session);
+                        }
+                    }
+                }
+            } catch (ClosedSelectorException ex) {
+                _terminate = true;
             } catch (IOException ex) {
-                LOGGER.log(_terminate ? Level.INFO : Level.ERROR, "Cannot accept socket:{}", ex.getMessage());
+                LOGGER.error("{} selector failed:{}", this, ex.getMessage());
                 _terminate = true;
             }
         }
+
+        if (_selector != null && _selector.isOpen()) {
+            for (var key : _selector.keys()) {
+                if (key.attachment() instanceof TelnetSession session) {
+                    session.terminate();
+                }
+            }
+        }
+        LOGGER.info("{} stopped", this);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    private void acceptSession() {
+        SocketChannel channel;
+        try {
+            channel = _serverChannel.accept();
+            if (channel == null) {
+                return;
+            }
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            channel.setOption(StandardSocketOptions.SO_KEEPALIVE, true);
+        } catch (IOException ex) {
+            LOGGER.error("{} cannot accept socket:{}", this, ex.getMessage());
+            return;
+        }
+
+        var session = new TelnetSession(this, channel);
+        try {
+            session.setSelectionKey(channel.register(_selector, SelectionKey.OP_READ, session));
+        } catch (IOException ex) {
+            LOGGER.error("{} cannot register socket:{}", this, ex.getMessage());
+            session.terminate();
+            return;
+        }
+
+        LOGGER.info("{} accepted {}", this, session);
+        try {
+            session.setListener(createSessionListener(session));
+            session.start();
+        } catch (KExecException ex) {
+            LOGGER.warn("{} rejected {}:{}", this, session, ex.getMessage());
+            session.writeLine("*NO DEMAND SESSIONS AVAILABLE*");
+            session.close();
+        }
+    }
+
+    private void flushSession(final TelnetSession session) {
+        try {
+            var key = session.getChannel().keyFor(_selector);
+            if (session.flush()) {
+                if (session.isCloseRequested()) {
+                    session.terminate();
+                } else if (key != null && key.isValid()) {
+                    key.interestOps(SelectionKey.OP_READ);
+                }
+            } else if (key != null && key.isValid()) {
+                key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+            }
+        } catch (IOException ex) {
+            LOGGER.info("{} write failed:{}", session, ex.getMessage());
+            session.terminate();
+        }
+    }
+
+    private void processFlushRequests() {
+        TelnetSession session;
+        while ((session = _flushRequests.poll()) != null) {
+            if (!session.isClosed()) {
+                flushSession(session);
+            }
+        }
+    }
+
+    private void readSession(final TelnetSession session) {
+        try {
+            _inputBuffer.clear();
+            var bytesRead = session.getChannel().read(_inputBuffer);
+            if (bytesRead < 0) {
+                LOGGER.info("{} closed by remote", session);
+                session.terminate();
+            } else if (bytesRead > 0) {
+                _inputBuffer.flip();
+                session.processInput(_inputBuffer);
+            }
+        } catch (IOException ex) {
+            LOGGER.info("{} read failed:{}", session, ex.getMessage());
+            session.terminate();
+        }
     }
 }
@@ -0,0 +1,513 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.kexec.networkManager;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+
+/**
+ * One TELNET connection accepted by a TelnetListener.
+ * We handle option negotiation (ECHO, SUPPRESS-GO-AHEAD, and NAWS), strip TELNET commands out of the input stream,
+ * and assemble the remaining data into lines which are passed to our TelnetSessionListener.
+ * The session owns no thread - all input processing is driven by the listener's selector thread,
+ * and output from any thread is queued here and drained by the selector thread as the socket permits.
+ */
+public class TelnetSession {
+
+    private static final Logger LOGGER = LogManager.getLogger(TelnetSession.class);
+
+    // TELNET commands (RFC 854)
+    static final byte SE = (byte) 240;
+    static final byte EC = (byte) 247;
+    static final byte EL = (byte) 248;
+    static final byte SB = (byte) 250;
+    static final byte WILL = (byte) 251;
+    static final byte WONT = (byte) 252;
+    static final byte DO = (byte) 253;
+    static final byte DONT = (byte) 254;
+    static final byte IAC = (byte) 255;
+
+    // TELNET options which we understand
+    static final int OPT_ECHO = 1;     // RFC 857
+    static final int OPT_SGA = 3;      // RFC 858
+    static final int OPT_NAWS = 31;    // RFC 1073
+
+    static final int MAX_LINE_LENGTH = 1024;
+    private static final int MAX_SUBNEGOTIATION_LENGTH = 64;
+
+    private static final byte[] CRLF = { '\r', '\n' };
+    private static final byte[] ERASE_SEQUENCE = { '\b', ' ', '\b' };
+
+    private enum InputState {
+        Data,           // ordinary data
+        CarriageReturn, // we have just seen CR - swallow a following LF or NUL
+        Command,        // we have just seen IAC
+        Will,           // IAC WILL - waiting for option
+        Wont,           // IAC WONT - waiting for option
+        Do,             // IAC DO - waiting for option
+        Dont,           // IAC DONT - waiting for option
+        SubOption,      // IAC SB - waiting for option
+        SubData,        // IAC SB opt - collecting parameters
+        SubCommand,     // IAC within sub-negotiation
+    }
+
+    private final TelnetListener _owner;
+    private final SocketChannel _channel;
+    private SelectionKey _selectionKey;
+    private TelnetSessionListener _listener;
+
+    // Option state - local refers to options performed by us, remote to options performed by the client.
+    // A pending flag indicates that we have sent a request and are waiting for the answer,
+    // which is how we avoid answering an answer (RFC 1143, loosely).
+    private final boolean[] _localEnabled = new boolean[256];
+    private final boolean[] _localPending = new boolean[256];
+    private final boolean[] _remoteEnabled = new boolean[256];
+    private final boolean[] _remotePending = new boolean[256];
+
+    private InputState _inputState = InputState.Data;
+    private final StringBuilder _lineBuffer = new StringBuilder();
+    private int _subOption;
+    private final byte[] _subBuffer = new byte[MAX_SUBNEGOTIATION_LENGTH];
+    private int _subLength;
+    private int _windowColumns = 80;
+    private int _windowRows = 24;
+
+    private final ArrayDeque<ByteBuffer> _outputQueue = new ArrayDeque<>();
+    private boolean _closeRequested = false;
+    private boolean _isClosed = false;
+    private boolean _negotiationComplete = false;
+
+    TelnetSession(final TelnetListener owner,
+                  final SocketChannel channel) {
+        _owner = owner;
+        _channel = channel;
+    }
+
+    public int getWindowColumns() { return _windowColumns; }
+    public int getWindowRows() { return _windowRows; }
+    public synchronized boolean isClosed() { return _isClosed; }
+    public boolean isEchoing() { return _localEnabled[OPT_ECHO]; }
+    public String getRemoteAddress() {
+        try {
+            return String.valueOf(_channel.getRemoteAddress());
+        } catch (IOException ex) {
+            return "<unknown>";
+        }
+    }
+
+    void setListener(final TelnetSessionListener listener) { _listener = listener; }
+    void setSelectionKey(final SelectionKey key) { _selectionKey = key; }
+    SocketChannel getChannel() { return _channel; }
+
+    /**
+     * Requests that the session be closed once any queued output has been sent.
+     * May be invoked from any thread.
+     */
+    public void close() {
+        synchronized (this) {
+            if (_isClosed || _closeRequested) {
+                return;
+            }
+            _closeRequested = true;
+        }
+        _owner.requestFlush(this);
+    }
+
+    /**
+     * Queues the given text, followed by CR/LF, for output.
+     * May be invoked from any thread.
+     */
+    public void writeLine(final String text) {
+        var data = text.getBytes(StandardCharsets.US_ASCII);
+        var buffer = ByteBuffer.allocate(data.length + CRLF.length + countIAC(data));
+        putEscaped(buffer, data);
+        buffer.put(CRLF);
+        queueOutput(buffer.flip());
+    }
+
+    /**
+     * Queues the given text for output without a line terminator - for prompts and the like.
+     * May be invoked from any thread.
+     */
+    public void writeText(final String text) {
+        var data = text.getBytes(StandardCharsets.US_ASCII);
+        var buffer = ByteBuffer.allocate(data.length + countIAC(data));
+        putEscaped(buffer, data);
+        queueOutput(buffer.flip());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TelnetSession:%s", getRemoteAddress());
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    // Invoked by the TelnetListener selector thread
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Sends our opening option requests - we want to do our own echoing, we want to suppress go-ahead,
+     * and we would like to be told the client's window size.
+     */
+    void start() {
+        var buffer = ByteBuffer.allocate(9);
+        requestLocal(buffer, OPT_ECHO);
+        requestLocal(buffer, OPT_SGA);
+        requestRemote(buffer, OPT_NAWS);
+        queueOutput(buffer.flip());
+    }
+
+    /**
+     * Processes raw input from the socket.
+     * Any responses to option negotiation, and any echoed characters, are queued for output.
+     * Completed lines are delivered to the session listener.
+     * @param input buffer positioned at the first byte to be processed
+     */
+    void processInput(final ByteBuffer input) {
+        var response = new ByteArrayOutputStream();
+        while (input.hasRemaining()) {
+            var b = input.get();
+            switch (_inputState) {
+                case Data -> processData(b, response);
+                case CarriageReturn -> {
+                    _inputState = InputState.Data;
+                    if ((b != '\n') && (b != 0)) {
+                        processData(b, response);
+                    }
+                }
+                case Command -> processCommand(b, response);
+                case Will -> {
+                    processWill(b & 0xFF, response);
+                    _inputState = InputState.Data;
+                }
+                case Wont -> {
+                    processWont(b & 0xFF, response);
+                    _inputState = InputState.Data;
+                }
+                case Do -> {
+                    processDo(b & 0xFF, response);
+                    _inputState = InputState.Data;
+                }
+                case Dont -> {
+                    processDont(b & 0xFF, response);
+                    _inputState = InputState.Data;
+                }
+                case SubOption -> {
+                    _subOption = b & 0xFF;
+                    _subLength = 0;
+                    _inputState = InputState.SubData;
+                }
+                case SubData -> {
+                    if (b == IAC) {
+                        _inputState = InputState.SubCommand;
+                    } else if (_subLength < _subBuffer.length) {
+                        _subBuffer[_subLength++] = b;
+                    }
+                }
+                case SubCommand -> {
+                    if (b == SE) {
+                        processSubNegotiation();
+                        _inputState = InputState.Data;
+                    } else {
+                        // IAC IAC within sub-negotiation is an escaped 255
+                        if (_subLength < _subBuffer.length) {
+                            _subBuffer[_subLength++] = b;
+                        }
+                        _inputState = InputState.SubData;
+                    }
+                }
+            }
+        }
+
+        queueResponse(response);
+        if (!_negotiationComplete && !isNegotiationPending()) {
+            completeNegotiation();
+        }
+    }
+
+    /**
+     * Writes as much queued output as the socket will take.
+     * @return true if the queue has been drained, false if the socket is backed up
+     */
+    boolean flush() throws IOException {
+        synchronized (this) {
+            while (!_outputQueue.isEmpty()) {
+                var buffer = _outputQueue.peekFirst();
+                _channel.write(buffer);
+                if (buffer.hasRemaining()) {
+                    return false;
+                }
+                _outputQueue.pollFirst();
+            }
+            return true;
+        }
+    }
+
+    synchronized boolean isCloseRequested() {
+        return _closeRequested;
+    }
+
+    /**
+     * Closes the underlying channel immediately, and notifies the listener.
+     * Idempotent.
+     */
+    void terminate() {
+        synchronized (this) {
+            if (_isClosed) {
+                return;
+            }
+            _isClosed = true;
+            _outputQueue.clear();
+        }
+
+        if (_selectionKey != null) {
+            _selectionKey.cancel();
+        }
+
+        try {
+            _channel.close();
+        } catch (IOException ex) {
+            LOGGER.warn("{} error closing channel:{}", this, ex.getMessage());
+        }
+
+        if (_listener != null) {
+            _listener.sessionClosed(this);
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    // Private methods
+    // -----------------------------------------------------------------------------------------------------------------
+
+    private void queueOutput(final ByteBuffer buffer) {
+        synchronized (this) {
+            if (_isClosed) {
+                return;
+            }
+            _outputQueue.addLast(buffer);
+        }
+        _owner.requestFlush(this);
+    }
+
+    private void queueResponse(final ByteArrayOutputStream response) {
+        if (response.size() > 0) {
+            queueOutput(ByteBuffer.wrap(response.toByteArray()));
+            response.reset();
+        }
+    }
+
+    private void processData(final byte b,
+                             final ByteArrayOutputStream response) {
+        switch (b) {
+            case IAC -> _inputState = InputState.Command;
+            case '\r' -> {
+                completeLine(response);
+                _inputState = InputState.CarriageReturn;
+            }
+            case '\n' -> completeLine(response);
+            case '\b', 0x7F -> eraseCharacter(response);
+            default -> {
+                if ((b >= 0x20) && (b < 0x7F) && (_lineBuffer.length() < MAX_LINE_LENGTH)) {
+                    _lineBuffer.append((char) b);
+                    if (isEchoing()) {
+                        response.write(b);
+                    }
+                }
+            }
+        }
+    }
+
+    private void processCommand(final byte b,
+                                final ByteArrayOutputStream response) {
+        _inputState = InputState.Data;
+        switch (b) {
+            case IAC -> {} // escaped 255 is not a printable character - drop it
+            case WILL -> _inputState = InputState.Will;
+            case WONT -> _inputState = InputState.Wont;
+            case DO -> _inputState = InputState.Do;
+            case DONT -> _inputState = InputState.Dont;
+            case SB -> _inputState = InputState.SubOption;
+            case EC -> eraseCharacter(response);
+            case EL -> _lineBuffer.setLength(0);
+            default -> {} // NOP, GA, AYT, and the like are ignored
+        }
+    }
+
+    private void completeLine(final ByteArrayOutputStream response) {
+        if (isEchoing()) {
+            response.writeBytes(CRLF);
+        }
+        // make sure the echo goes out ahead of anything the listener writes in reply to the line
+        queueResponse(response);
+        if (!_negotiationComplete) {
+            // client is sending data without answering all our requests - it is not going to answer them
+            completeNegotiation();
+        }
+        var line = _lineBuffer.toString();
+        _lineBuffer.setLength(0);
+        if (_listener != null) {
+            _listener.lineReceived(this, line);
+        }
+    }
+
+    /**
+     * Tells the listener that the opening negotiation is finished, so that it may start writing to the terminal.
+     */
+    private void completeNegotiation() {
+        _negotiationComplete = true;
+        if (_listener != null) {
+            _listener.negotiationComplete(this);
+        }
+    }
+
+    private void eraseCharacter(final ByteArrayOutputStream response) {
+        if (!_lineBuffer.isEmpty()) {
+            _lineBuffer.setLength(_lineBuffer.length() - 1);
+            if (isEchoing()) {
+                response.writeBytes(ERASE_SEQUENCE);
+            }
+        }
+    }
+
+    private boolean isNegotiationPending() {
+        return _localPending[OPT_ECHO] || _localPending[OPT_SGA] || _remotePending[OPT_NAWS];
+    }
+
+    private static boolean isLocalOptionSupported(final int option) {
+        return (option == OPT_ECHO) || (option == OPT_SGA);
+    }
+
+    private static boolean isRemoteOptionSupported(final int option) {
+        return (option == OPT_SGA) || (option == OPT_NAWS);
+    }
+
+    private void requestLocal(final ByteBuffer buffer,
+                              final int option) {
+        _localPending[option] = true;
+        buffer.put(IAC).put(WILL).put((byte) option);
+    }
+
+    private void requestRemote(final ByteBuffer buffer,
+                               final int option) {
+        _remotePending[option] = true;
+        buffer.put(IAC).put(DO).put((byte) option);
+    }
+
+    private static void respond(final ByteArrayOutputStream response,
+                                final byte verb,
+                                final int option) {
+        response.write(IAC);
+        response.write(verb);
+        response.write(option);
+    }
+
+    /**
+     * Client offers (or agrees) to perform an option
+     */
+    private void processWill(final int option,
+                             final ByteArrayOutputStream response) {
+        if (_remotePending[option]) {
+            _remotePending[option] = false;
+            _remoteEnabled[option] = isRemoteOptionSupported(option);
+            if (!_remoteEnabled[option]) {
+                respond(response, DONT, option);
+            }
+        } else if (!_remoteEnabled[option]) {
+            if (isRemoteOptionSupported(option)) {
+                _remoteEnabled[option] = true;
+                respond(response, DO, option);
+            } else {
+                respond(response, DONT, option);
+            }
+        }
+    }
+
+    /**
+     * Client refuses (or stops) performing an option
+     */
+    private void processWont(final int option,
+                             final ByteArrayOutputStream response) {
+        if (_remotePending[option]) {
+            _remotePending[option] = false;
+            _remoteEnabled[option] = false;
+        } else if (_remoteEnabled[option]) {
+            _remoteEnabled[option] = false;
+            respond(response, DONT, option);
+        }
+    }
+
+    /**
+     * Client asks us (or agrees that we should) perform an option
+     */
+    private void processDo(final int option,
+                           final ByteArrayOutputStream response) {
+        if (_localPending[option]) {
+            _localPending[option] = false;
+            _localEnabled[option] = isLocalOptionSupported(option);
+            if (!_localEnabled[option]) {
+                respond(response, WONT, option);
+            }
+        } else if (!_localEnabled[option]) {
+            if (isLocalOptionSupported(option)) {
+                _localEnabled[option] = true;
+                respond(response, WILL, option);
+            } else {
+                respond(response, WONT, option);
+            }
+        }
+    }
+
+    /**
+     * Client asks us (or agrees that we should) not perform an option
+     */
+    private void processDont(final int option,
+                             final ByteArrayOutputStream response) {
+        if (_localPending[option]) {
+            _localPending[option] = false;
+            _localEnabled[option] = false;
+        } else if (_localEnabled[option]) {
+            _localEnabled[option] = false;
+            respond(response, WONT, option);
+        }
+    }
+
+    private void processSubNegotiation() {
+        if ((_subOption == OPT_NAWS) && (_subLength == 4)) {
+            _windowColumns = ((_subBuffer[0] & 0xFF) << 8) | (_subBuffer[1] & 0xFF);
+            _windowRows = ((_subBuffer[2] & 0xFF) << 8) | (_subBuffer[3] & 0xFF);
+            if (_listener != null) {
+                _listener.windowSizeChanged(this, _windowColumns, _windowRows);
+            }
+        }
+    }
+
+    private static int countIAC(final byte[] data) {
+        int count = 0;
+        for (var b : data) {
+            if (b == IAC) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static void putEscaped(final ByteBuffer buffer,
+                                   final byte[] data) {
+        for (var b : data) {
+            buffer.put(b);
+            if (b == IAC) {
+                buffer.put(IAC);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.kexec.networkManager;
+
+/**
+ * Receives events from a TelnetSession.
+ * All notifications are made on the selector thread of the owning TelnetListener,
+ * so implementors must not block - anything lengthy should be handed off to some other thread.
+ */
+public interface TelnetSessionListener {
+
+    /**
+     * A complete line of input has been assembled.
+     * @param session session which produced the line
+     * @param line input line, without the line terminator
+     */
+    void lineReceived(final TelnetSession session,
+                      final String line);
+
+    /**
+     * The client has answered our opening option requests (or has started sending data without answering them),
+     * so output written from here on will be rendered with the agreed-upon options in effect.
+     * Listener is not obligated to implement this method.
+     * @param session session which completed negotiation
+     */
+    default void negotiationComplete(final TelnetSession session) {}
+
+    /**
+     * The session has been closed, either by the remote end or locally.
+     * @param session session which was closed
+     */
+    void sessionClosed(final TelnetSession session);
+
+    /**
+     * The client has reported its window size via NAWS.
+     * Listener is not obligated to implement this method.
+     * @param session session which reported the size
+     * @param columns number of columns
+     * @param rows number of rows
+     */
+    default void windowSizeChanged(final TelnetSession session,
+                                   final int columns,
+                                   final int rows) {}
+}
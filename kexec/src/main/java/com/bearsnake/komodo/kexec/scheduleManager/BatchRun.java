@@ -69,6 +69,9 @@ public class BatchRun extends ControlStatementRun implements Runnable {
                 // TODO loop on reading images
             }
 
+            if (_currentReadSymbiont != null) {
+                _currentReadSymbiont.close();
+            }
             // TODO handle run termination task, if any
             // TODO release and disposition PUNCH$ (if any)
             // TODO release all assigned facilities EXCEPT for PRINT$
@@ -76,6 +79,7 @@ public class BatchRun extends ControlStatementRun implements Runnable {
             // TODO post job and summary accounting report (maybe) - see ECL doc appdx. E
             // TODO release and disposition PRINT$
             _isFinished = true;
+            Exec.getInstance().getScheduleManager().batchRunTerminated(this);
             // TODO scheduler.unRegisterRun()
         } catch (ExecStoppedException ex) {
             // Nothing to be done here
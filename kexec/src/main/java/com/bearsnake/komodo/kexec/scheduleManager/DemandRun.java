@@ -4,8 +4,14 @@
 
 package com.bearsnake.komodo.kexec.scheduleManager;
 
+import com.bearsnake.komodo.kexec.csi.Interpreter;
 import com.bearsnake.komodo.kexec.csi.RunCardInfo;
+import com.bearsnake.komodo.kexec.csi.StatementSource;
+import com.bearsnake.komodo.kexec.exceptions.EndOfFileException;
+import com.bearsnake.komodo.kexec.exceptions.ExecIOException;
+import com.bearsnake.komodo.kexec.exceptions.ExecStoppedException;
 import com.bearsnake.komodo.kexec.exec.Exec;
+import com.bearsnake.komodo.kexec.symbionts.SymbiontReader;
 
 /**
  * Handles a DEMAND run.
@@ -13,11 +19,22 @@ import com.bearsnake.komodo.kexec.exec.Exec;
  */
 public class DemandRun extends ControlStatementRun implements Runnable {
 
+    private static final Interpreter INTERPRETER = new Interpreter();
+
+    private boolean _finReceived = false;
+
+    /**
+     * Creates a DEMAND run
+     * @param actualRunId actual run-id of the run
+     * @param runCardInfo information from the @RUN image
+     * @param terminal the DEMAND symbiont for the terminal, from which the run reads its control images
+     */
     public DemandRun(final String actualRunId,
-                     final RunCardInfo runCardInfo
+                     final RunCardInfo runCardInfo,
+                     final SymbiontReader terminal
     ) {
         super(RunType.Demand, actualRunId, runCardInfo);
-        var exec = Exec.getInstance();
+        _currentReadSymbiont = terminal;
     }
 
     /**
@@ -27,6 +44,16 @@ public class DemandRun extends ControlStatementRun implements Runnable {
     public void run() {
         // TODO handle other sign-on things? Or is that already done by RSI?
         postStartMessageToConsole();
+        try {
+            while (!_finReceived) {
+                processControlImage(_currentReadSymbiont.readImage());
+            }
+        } catch (EndOfFileException ex) {
+            // terminal has gone away - the run is finished
+        } catch (ExecStoppedException | ExecIOException ex) {
+            // nothing more can be done for this run
+        }
+        _currentReadSymbiont.close();
         // TODO handle run termination task, if any
         // TODO release and delete READ$
         // TODO release all assigned facilities
@@ -35,6 +62,26 @@ public class DemandRun extends ControlStatementRun implements Runnable {
         // TODO release and disposition PRINT$
         // TODO release and disposition PUNCH$ (if any)
         _isFinished = true;
+        Exec.getInstance().getScheduleManager().unregisterRun(_actualRunId);
+    }
+
+    /**
+     * Handles one control image entered at the terminal.
+     * @FIN ends the run; anything else goes to the control statement interpreter.
+     * Syntax errors have already been posted to the statement's status by the parser.
+     * @param image the image
+     */
+    protected void processControlImage(final String image) throws ExecStoppedException {
+        var statement = Interpreter.parseControlStatement(this, image);
+        if (statement._mnemonic == null) {
+            return;
+        }
+
+        if (statement._mnemonic.equals("FIN")) {
+            _finReceived = true;
+        } else {
+            INTERPRETER.handleControlStatement(this, StatementSource.ECL, statement);
+        }
     }
 
     public void startRun() {
@@ -13,19 +13,28 @@ import com.bearsnake.komodo.kexec.exceptions.KExecException;
 import com.bearsnake.komodo.kexec.exceptions.ScheduleManagerException;
 import com.bearsnake.komodo.kexec.exec.Exec;
 import com.bearsnake.komodo.kexec.exec.StopCode;
+import com.bearsnake.komodo.kexec.symbionts.SymbiontReader;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.PrintStream;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.LinkedList;
-import java.util.stream.Collectors;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.bearsnake.komodo.baselib.Parser.*;
 
 /**
  * A rough analog to the Coarse Scheduler.
+ * Batch runs which have not been opened are held in backlog - those which are eligible to be opened in a set ordered
+ * by scheduling priority ('A' is highest) and submission time, and those which are held for some reason in a separate set.
+ * The scheduler thread waits on this object's monitor, and is notified whenever something happens which might allow
+ * a run to be opened - a run is submitted or released from hold, the general hold is released, the maximum number of
+ * open batch runs is raised, or an open batch run terminates.
+ * The run-id index is a concurrent map, so that looking up a run does not contend with the scheduler.
  */
 public class ScheduleManager implements Manager, Runnable {
 
@@ -36,16 +45,22 @@ public class ScheduleManager implements Manager, Runnable {
     private static final String DEFAULT_PROJECT_ID = "Q$Q$Q$";
     private static final String LOG_SOURCE = "ScheduleMgr";
 
-    private int _maxBatchJobs = 0;
+    static final Comparator<BatchRun> BACKLOG_ORDER = Comparator.comparing(BatchRun::getSchedulingPriority)
+                                                               .thenComparing(BatchRun::getSubmissionTime)
+                                                               .thenComparing(BatchRun::getActualRunId);
+
+    private volatile int _maxBatchJobs = 0;
     private int _openBatchJobCount = 0;
-    private final HashMap<String, Run> _runEntries = new HashMap<>(); // keyed by RunId
+    private final ConcurrentHashMap<String, Run> _runEntries = new ConcurrentHashMap<>(); // keyed by RunId
+    private final TreeSet<BatchRun> _backlog = new TreeSet<>(BACKLOG_ORDER); // eligible to be opened
+    private final HashSet<BatchRun> _heldBacklog = new HashSet<>(); // not eligible until all hold conditions clear
 
-    private boolean _demandSchedulingHold = false;
-    private boolean _generalHold = true; // starts out true, then maintains its current value over reboots (exception JK4/9)
-                                         // this hold prevents batch jobs from coming out of backlog.
-    private boolean _terminalHold = false;
+    private volatile boolean _demandSchedulingHold = false;
+    private volatile boolean _generalHold = true; // starts out true, then maintains its current value over reboots (exception JK4/9)
+                                                  // this hold prevents batch jobs from coming out of backlog.
+    private volatile boolean _terminalHold = false;
 
-    private boolean _isTerminated = false;
+    private Thread _thread = null;
     private boolean _terminate = false;
 
     public ScheduleManager() {
@@ -57,20 +72,25 @@ public class ScheduleManager implements Manager, Runnable {
         LOGGER.traceEntry("boot({})", recoveryBoot);
 
         var exec = Exec.getInstance();
-        _runEntries.clear();
-        _runEntries.put(exec.getActualRunId(), exec);
-        _maxBatchJobs = (int)(long)(exec.getConfiguration().getIntegerValue(Tag.MAXOPN));
-
-        _generalHold = !recoveryBoot;
+        synchronized (this) {
+            _runEntries.clear();
+            _runEntries.put(exec.getActualRunId(), exec);
+            _backlog.clear();
+            _heldBacklog.clear();
+            _openBatchJobCount = 0;
+            _maxBatchJobs = (int)(long)(exec.getConfiguration().getIntegerValue(Tag.MAXOPN));
+
+            _generalHold = !recoveryBoot;
+
+            if (exec.isJumpKeySet(4) || exec.isJumpKeySet(9)) {
+                _generalHold = true;
+            }
 
-        if (exec.isJumpKeySet(4) || exec.isJumpKeySet(9)) {
-            _generalHold = true;
+            _terminate = false;
         }
 
-        _isTerminated = false;
-        _terminate = false;
-        Thread thread = new Thread(this);
-        thread.start();
+        _thread = new Thread(this);
+        _thread.start();
 
         LOGGER.traceExit("boot({})", recoveryBoot);
     }
@@ -84,6 +104,10 @@ public class ScheduleManager implements Manager, Runnable {
     @Override
     public void dump(PrintStream out, String indent, boolean verbose) {
         out.printf("%sScheduleManager ********************************\n", indent);
+        synchronized (this) {
+            out.printf("%s  Open batch runs: %d of %d  Backlog: %d eligible, %d held\n",
+                       indent, _openBatchJobCount, _maxBatchJobs, _backlog.size(), _heldBacklog.size());
+        }
         out.printf("%s  Run control entries:\n", indent);
         _runEntries.values().forEach(rce -> rce.dump(out, indent + "  ", verbose));
     }
@@ -97,38 +121,82 @@ public class ScheduleManager implements Manager, Runnable {
     @Override
     public void stop() {
         LOGGER.traceEntry("stop()");
-        _terminate = true;
-        while (!_isTerminated) {
-            Exec.sleep(10);
+        synchronized (this) {
+            _terminate = true;
+            notifyAll();
+        }
+
+        if (_thread != null) {
+            try {
+                _thread.join();
+            } catch (InterruptedException ex) {
+                // nothing to do
+            }
+            _thread = null;
         }
         LOGGER.traceExit("stop()");
     }
 
+    /**
+     * Scheduler thread - opens backlogged batch runs, highest priority first, as long as the general hold is
+     * clear and fewer than the maximum number of batch runs are open. Otherwise, waits to be notified.
+     * The monitor is released while waiting and while a run is being opened.
+     */
     @Override
-    public synchronized void run() {
+    public void run() {
         LOGGER.traceEntry("run()");
-        while (!_terminate) {
-            // Look for a batch job to bring out of backlog
-            var started = false;
-            if ((!_generalHold) && (_openBatchJobCount < _maxBatchJobs)) {
-                for (Run run : _runEntries.values()) {
-                    // we check hold and run count every time through the loop, in case they change during the loop.
-                    if (run instanceof BatchRun batchRun) {
-                        if (!batchRun.isStarted() && !batchRun.isHeld()) {
-                            openBatchRun(batchRun);
-                            started = true;
-                        }
+        while (true) {
+            BatchRun batchRun;
+            synchronized (this) {
+                batchRun = takeNextBacklogRun();
+                while (!_terminate && (batchRun == null)) {
+                    try {
+                        wait();
+                    } catch (InterruptedException ex) {
+                        // check again
                     }
+                    batchRun = takeNextBacklogRun();
+                }
+
+                if (_terminate) {
+                    if (batchRun != null) {
+                        _openBatchJobCount--;
+                        _backlog.add(batchRun);
+                    }
+                    break;
                 }
             }
 
-            if (!started) Exec.sleep(250);
+            openBatchRun(batchRun);
         }
 
-        _isTerminated = true;
         LOGGER.traceExit("run()");
     }
 
+    /**
+     * Removes the highest-priority eligible run from backlog, if a batch run may be opened now,
+     * and counts it as open. Runs which have acquired a hold condition since they were queued are moved aside.
+     * Must be invoked with the monitor held.
+     * @return the run to be opened, or null if none may be opened
+     */
+    private BatchRun takeNextBacklogRun() {
+        if (_generalHold) {
+            return null;
+        }
+
+        while ((_openBatchJobCount < _maxBatchJobs) && !_backlog.isEmpty()) {
+            var batchRun = _backlog.pollFirst();
+            if (batchRun.isHeld()) {
+                _heldBacklog.add(batchRun);
+            } else {
+                _openBatchJobCount++;
+                return batchRun;
+            }
+        }
+
+        return null;
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
 
     /**
@@ -170,16 +238,96 @@ public class ScheduleManager implements Manager, Runnable {
 
         var run = new BatchRun(actualRunId, runCardInfo);
         _runEntries.put(actualRunId, run);
+        if (run.isHeld()) {
+            _heldBacklog.add(run);
+        } else {
+            _backlog.add(run);
+            notifyAll();
+        }
+        return run;
+    }
+
+    /**
+     * Creates a DEMAND run for a newly-opened terminal session, stores it in the runEntries table, and starts it.
+     * DEMAND runs do not go through backlog. The run-id is taken from the terminal's symbiont name, and is made unique
+     * in the same way as for batch runs.
+     * @param runId proposed run-id
+     * @param terminal the DEMAND symbiont for the terminal, from which the run reads its control images
+     */
+    public synchronized DemandRun createDemandRun(
+        final String runId,
+        final SymbiontReader terminal
+    ) throws ExecStoppedException {
+        var runCardInfo = new RunCardInfo("").setRunId(runId)
+                                             .setAccountId(DEFAULT_ACCOUNT_ID)
+                                             .setProjectId(DEFAULT_PROJECT_ID);
+        var actualRunId = createUniqueRunid(runId);
+        var run = new DemandRun(actualRunId, runCardInfo, terminal);
+        _runEntries.put(actualRunId, run);
+        run.startRun();
         return run;
     }
 
+    /**
+     * Clears a hold condition on a backlogged run, notifying the scheduler if the run is now eligible to be opened.
+     * Hold conditions on backlogged runs should be cleared here rather than directly on the run,
+     * so that the run is opened without delay.
+     */
+    public synchronized void clearHoldCondition(
+        final BatchRun batchRun,
+        final ControlStatementRun.HoldCondition condition
+    ) {
+        batchRun.clearHoldCondition(condition);
+        if (!batchRun.isHeld() && _heldBacklog.remove(batchRun)) {
+            _backlog.add(batchRun);
+            notifyAll();
+        }
+    }
+
+    /**
+     * Sets a hold condition on a backlogged run, so that it will not be opened until the condition is cleared.
+     */
+    public synchronized void setHoldCondition(
+        final BatchRun batchRun,
+        final ControlStatementRun.HoldCondition condition
+    ) {
+        batchRun.setHoldCondition(condition);
+        if (_backlog.remove(batchRun)) {
+            _heldBacklog.add(batchRun);
+        }
+    }
+
+    /**
+     * Retrieves the backlogged batch runs - eligible and held - in scheduling order
+     */
     public synchronized Collection<BatchRun> getBacklogRuns() {
-        return _runEntries.values()
-                          .stream()
-                          .filter(run -> run instanceof BatchRun)
-                          .map(run -> (BatchRun) run)
-                          .filter(br -> !br.isStarted())
-                          .collect(Collectors.toCollection(LinkedList::new));
+        var held = new TreeSet<>(BACKLOG_ORDER);
+        held.addAll(_heldBacklog);
+        var result = new LinkedList<BatchRun>();
+        var iter = held.iterator();
+        var next = iter.hasNext() ? iter.next() : null;
+        for (var batchRun : _backlog) {
+            while ((next != null) && (BACKLOG_ORDER.compare(next, batchRun) < 0)) {
+                result.add(next);
+                next = iter.hasNext() ? iter.next() : null;
+            }
+            result.add(batchRun);
+        }
+        while (next != null) {
+            result.add(next);
+            next = iter.hasNext() ? iter.next() : null;
+        }
+        return result;
+    }
+
+    public synchronized int getOpenBatchJobCount() { return _openBatchJobCount; }
+
+    /**
+     * Retrieves a run by its actual run-id, without contending for the scheduler
+     * @return the run, or null if there is no such run
+     */
+    public Run getRun(final String runid) {
+        return _runEntries.get(runid.toUpperCase());
     }
 
     public int getMaxBatchJobs() { return _maxBatchJobs; }
@@ -187,17 +335,43 @@ public class ScheduleManager implements Manager, Runnable {
     public boolean isGeneralHoldSet() { return _generalHold; }
     public boolean isTerminalHoldSet() { return _terminalHold; }
     public ScheduleManager setDemandSchedulingHold(boolean hold) { _demandSchedulingHold = hold; return this; }
-    public ScheduleManager setGeneralHold(boolean generalHold) { _generalHold = generalHold; return this; }
-    public ScheduleManager setMaxBatchJobs(final int maxBatchJobs) { _maxBatchJobs = maxBatchJobs; return this; }
     public ScheduleManager setTerminalHold(boolean hold) { _terminalHold = hold; return this; }
 
+    public synchronized ScheduleManager setGeneralHold(boolean generalHold) {
+        _generalHold = generalHold;
+        notifyAll();
+        return this;
+    }
+
+    public synchronized ScheduleManager setMaxBatchJobs(final int maxBatchJobs) {
+        _maxBatchJobs = maxBatchJobs;
+        notifyAll();
+        return this;
+    }
+
+    /**
+     * Notes that an open batch run has terminated, so that another may be opened in its place
+     */
+    public synchronized void batchRunTerminated(final BatchRun batchRun) {
+        if (_openBatchJobCount > 0) {
+            _openBatchJobCount--;
+        }
+        notifyAll();
+    }
+
     /**
      * Unregisters a run - should be done only when there are no artifacts in the input or output queues
      * for the run (and the run itself is no longer active).
      * @param runid generated run-id of the run
      */
     public void unregisterRun(final String runid) {
-        _runEntries.remove(runid.toUpperCase());
+        var run = _runEntries.remove(runid.toUpperCase());
+        if (run instanceof BatchRun batchRun) {
+            synchronized (this) {
+                _backlog.remove(batchRun);
+                _heldBacklog.remove(batchRun);
+            }
+        }
     }
 
     // -----------------------------------------------------------------------------------------------------------------
@@ -228,6 +402,7 @@ public class ScheduleManager implements Manager, Runnable {
      * we generate a new unique runid so that we never have duplicated runids.
      * Because we force uppercase, the caller should *always* use the result of this algorithm for the actual runid of a run.
      * This needs to be invoked under synchronization during the process of adding a RunEntry, thus it is internal to the class.
+     * (The run-id index is a concurrent map - but the check and the subsequent put must still be atomic.)
      * The result should be as follows:
      *   The original run-id, if less than six characters, will have an 'A' appended to it.
      *   Subsequent iterations will increment that appended character through 'Z', then through '0' to '9'.
@@ -246,7 +421,7 @@ public class ScheduleManager implements Manager, Runnable {
     ) throws ExecStoppedException {
         var exec = Exec.getInstance();
         var original = runid.toUpperCase();
-        synchronized (_runEntries) {
+        synchronized (this) {
             if (!_runEntries.containsKey(original)) {
                 return original;
             }
@@ -264,15 +439,13 @@ public class ScheduleManager implements Manager, Runnable {
     }
 
     /**
-     * Opens a batch run which is currently not open (thus, is in backlog)
-     * @param batchRun
+     * Opens a batch run which has just been taken from backlog (and already counted as open).
+     * Invoked on the scheduler thread, without the monitor held.
+     * @param batchRun the run to be opened
      */
-    private void openBatchRun(
+    protected void openBatchRun(
         final BatchRun batchRun
     ) {
-        // TODO make sure the thing isn't open yet
-
-        _openBatchJobCount++;
-
+        batchRun.startRun();
     }
 }
@@ -10,7 +10,9 @@ import com.bearsnake.komodo.baselib.Parser;
 import com.bearsnake.komodo.baselib.Word36;
 import com.bearsnake.komodo.baselib.exceptions.SyntaxErrorParserException;
 import com.bearsnake.komodo.hardwarelib.IoFunction;
+import com.bearsnake.komodo.hardwarelib.IoStatus;
 import com.bearsnake.komodo.hardwarelib.channels.ChannelIoPacket;
+import com.bearsnake.komodo.hardwarelib.channels.SymbiontChannel;
 import com.bearsnake.komodo.hardwarelib.channels.TransferFormat;
 import com.bearsnake.komodo.kexec.Granularity;
 import com.bearsnake.komodo.kexec.SDFFileType;
@@ -28,6 +30,7 @@ import com.bearsnake.komodo.kexec.facilities.NodeInfo;
 import com.bearsnake.komodo.kexec.scheduleManager.BatchRun;
 
 import java.time.Instant;
+import java.util.LinkedList;
 
 /**
  * Handles input symbionts' state machine - one instance per device.
@@ -36,7 +39,12 @@ import java.time.Instant;
  */
 class OnSiteReaderSymbiont extends OnSiteSymbiont {
 
+    // Number of images we ask the reader for in each IO
+    private static final int READ_BATCH_IMAGES = 64;
+
     private final ChannelIoPacket _channelPacket;
+    private final LinkedList<String> _pendingImages = new LinkedList<>(); // read, but not yet handled
+    private boolean _pendingEndOfFile = false;  // the last batch read ended the deck
     private SymbiontFileWriter _fileWriter = null;
     private int _imageCount = 0;
     private BatchRun _run = null;
@@ -49,9 +57,9 @@ class OnSiteReaderSymbiont extends OnSiteSymbiont {
     ) {
         super(nodeInfo);
         _channelPacket = new ChannelIoPacket();
-        _channelPacket.setBuffer(new ArraySlice(new long[33]))
+        _channelPacket.setBuffer(new ArraySlice(new long[READ_BATCH_IMAGES * (1 + SymbiontChannel.MAX_IMAGE_WORDS)]))
                       .setFormat(TransferFormat.QuarterWord)
-                      .setIoFunction(IoFunction.Read)
+                      .setIoFunction(IoFunction.ReadBatch)
                       .setNodeIdentifier(nodeInfo.getNode().getNodeIdentifier());
     }
 
@@ -267,65 +275,103 @@ class OnSiteReaderSymbiont extends OnSiteSymbiont {
     }
 
     /**
-     * Reads an image from the associated reader device and dispatches it appropriately.
+     * Reads a batch of images from the associated reader device and dispatches them appropriately.
      * Handles all possible situations for the caller, including any necessary changes to state/status.
      */
     private void doRead() throws ExecStoppedException {
+        if (readBatch()) {
+            while (!_pendingImages.isEmpty()) {
+                _imageCount++;
+                handleImage(_pendingImages.poll());
+            }
+
+            if (_pendingEndOfFile) {
+                _pendingEndOfFile = false;
+                handleEndOfFile();
+            }
+        }
+    }
+
+    /**
+     * Reads as many images as the device will give us in one IO, into the pending image list.
+     * An image which was too long for the channel is kept, truncated, and reported to the console.
+     * @return true if the read succeeded (or reached the end of the input), false if it failed and was not retried
+     */
+    private boolean readBatch() throws ExecStoppedException {
         var exec = Exec.getInstance();
         var fm = exec.getFacilitiesManager();
-        var sch = exec.getScheduleManager();
 
-        var retry = true;
-        while (retry) {
-            var failed = false;
+        while (true) {
             var failMessage = "";
             try {
                 fm.routeIo(_channelPacket);
                 switch (_channelPacket.getIoStatus()) {
-                    case EndOfFile -> {
-                        if (_run != null) {
-                            try {
-                                _fileWriter.close();
-                                _run.clearHoldCondition(BatchRun.HoldCondition.FinStatementHold);
-                                _fileWriter = null;
-                                _run = null;
-                            } catch (ExecIOException e) {
-                                sch.unregisterRun(_run.getActualRunId());
-                                _run = null;
-                                _fileWriter = null;
-                                resetNode();
+                    case EndOfFile, ReadOverrun, Successful -> {
+                        var buffer = _channelPacket.getBuffer();
+                        var wx = 0;
+                        while (wx < _channelPacket.getActualWordCount()) {
+                            var controlWord = buffer.get(wx);
+                            var wordCount = SymbiontChannel.getImageWordCount(controlWord);
+                            var image = Word36.toStringFromASCII(new ArraySlice(buffer, wx + 1, wordCount));
+                            if (SymbiontChannel.isImageTruncated(controlWord)) {
+                                var cardNumber = _imageCount + _pendingImages.size() + 1;
+                                var msg = _node.getNodeName() + " Card " + cardNumber + " truncated";
+                                exec.sendExecReadOnlyMessage(msg, ConsoleType.InputOutput);
                             }
+                            _pendingImages.add(image.substring(0, SymbiontChannel.getImageCharCount(controlWord)));
+                            wx += 1 + wordCount;
                         }
-
-                        _status = _pendingLocked ? SymbiontStatus.Locked : SymbiontStatus.Inactive;
-                        _state = SymbiontState.Stopped;
-                        exec.sendExecReadOnlyMessage(getStateString(), ConsoleType.InputOutput);
-                    }
-
-                    case Successful -> {
-                        _imageCount++;
-                        var image = Word36.toStringFromASCII(new ArraySlice(_channelPacket.getBuffer(),
-                                                                            0,
-                                                                            _channelPacket.getActualWordCount()));
-                        handleImage(image);
+                        _pendingEndOfFile = _channelPacket.getIoStatus() == IoStatus.EndOfFile;
+                        return true;
                     }
 
-                    default -> {
-                        failed = true;
-                        failMessage = _channelPacket.getIoStatus().toString();
-                    }
+                    default -> failMessage = _channelPacket.getIoStatus().toString();
                 }
             } catch (NoRouteForIOException ex) {
-                failed = true;
                 failMessage = NO_ROUTE_FOR_IO_MSG;
             }
 
-            if (failed) {
-                retry = notifyConsoleIOError(failMessage, true);
-            } else {
-                break;
+            if (!notifyConsoleIOError(failMessage, true)) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * We have come to the end of the card deck - release the run we were building (if any), and stop.
+     */
+    private void handleEndOfFile() throws ExecStoppedException {
+        var exec = Exec.getInstance();
+        var sch = exec.getScheduleManager();
+
+        if (_run != null) {
+            try {
+                _fileWriter.close();
+                sch.clearHoldCondition(_run, BatchRun.HoldCondition.FinStatementHold);
+                _fileWriter = null;
+                _run = null;
+            } catch (ExecIOException e) {
+                sch.unregisterRun(_run.getActualRunId());
+                _run = null;
+                _fileWriter = null;
+                resetNode();
             }
         }
+
+        _status = _pendingLocked ? SymbiontStatus.Locked : SymbiontStatus.Inactive;
+        _state = SymbiontState.Stopped;
+        exec.sendExecReadOnlyMessage(getStateString(), ConsoleType.InputOutput);
+    }
+
+    /**
+     * Resetting the device discards the rest of the deck, so we also discard whatever we have read of it
+     * which has not yet been handled.
+     */
+    @Override
+    protected boolean resetNode() throws ExecStoppedException {
+        _pendingImages.clear();
+        _pendingEndOfFile = false;
+        return super.resetNode();
     }
 
     /**
@@ -381,7 +427,7 @@ class OnSiteReaderSymbiont extends OnSiteSymbiont {
                     // and skip to next @RUN statement in the device input (if there is one).
                     _fileWriter.close();
                     _fileWriter = null;
-                    _run.clearHoldCondition(BatchRun.HoldCondition.FinStatementHold);
+                    exec.getScheduleManager().clearHoldCondition(_run, BatchRun.HoldCondition.FinStatementHold);
                     _skipToRunCard = true;
                 }
             } catch (ExecIOException ex) {
@@ -26,8 +26,8 @@ public abstract class RemoteDemandSymbiont extends RemoteSymbiont {
 
     private static String generateUniqueName() throws ResourceException {
         synchronized (INSTANCE_NAMES) {
-            var gccmin = Exec.getInstance().getConfiguration().getIntegerValue(Tag.GCCMIN);
-            if (INSTANCE_NAMES.size() >= gccmin) {
+            var rsicnt = Exec.getInstance().getConfiguration().getIntegerValue(Tag.RSICNT);
+            if (INSTANCE_NAMES.size() >= rsicnt) {
                 throw new ResourceException("Too many RSI sessions");
             }
 
@@ -42,6 +42,30 @@ public abstract class RemoteDemandSymbiont extends RemoteSymbiont {
         throw new ResourceException("Too many RSI sessions");
     }
 
+    /**
+     * Makes our symbiont name available for a subsequent session
+     */
+    private static void releaseUniqueName(final String name) {
+        synchronized (INSTANCE_NAMES) {
+            INSTANCE_NAMES.remove(name);
+        }
+    }
+
+    /**
+     * Subclass drops the connection with the remote terminal
+     */
+    abstract void disconnect();
+
+    /**
+     * To be invoked by the subclass once the connection has gone away, for whatever reason.
+     * We unregister ourselves and give up our name.
+     */
+    protected final void sessionTerminated() {
+        terminate();
+        Exec.getInstance().getSymbiontManager().unregisterRemoteSymbiont(this);
+        releaseUniqueName(getSymbiontName());
+    }
+
     @Override
     abstract boolean poll() throws ExecStoppedException;
 
@@ -90,7 +114,7 @@ public abstract class RemoteDemandSymbiont extends RemoteSymbiont {
 
     @Override
     public final void terminateDevice() {
-        // TODO
+        disconnect();
     }
 
     @Override
@@ -4,29 +4,149 @@
 
 package com.bearsnake.komodo.kexec.symbionts;
 
+import com.bearsnake.komodo.kexec.exceptions.EndOfFileException;
 import com.bearsnake.komodo.kexec.exceptions.ExecStoppedException;
 import com.bearsnake.komodo.kexec.exceptions.ResourceException;
+import com.bearsnake.komodo.kexec.exec.Exec;
+import com.bearsnake.komodo.kexec.networkManager.TelnetSession;
+import com.bearsnake.komodo.kexec.networkManager.TelnetSessionListener;
 
-import java.net.Socket;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 /**
  * handles DEMAND sessions using the TELNET protocol.
- * We expect to be handed a socket which has just been opened in stream mode.
- * We handle all TELNET negotiation.
+ * We are handed a TelnetSession which has just been accepted by the network manager;
+ * the session handles all TELNET negotiation and line assembly, and hands us complete input lines.
+ * We do not run on our own thread - the symbiont manager polls us on a shared thread whenever input arrives.
+ * Control images are made available to the DEMAND run, which reads them from us as its READ$ symbiont.
  */
-public final class RemoteTelnetSymbiont extends RemoteDemandSymbiont {
+public final class RemoteTelnetSymbiont
+    extends RemoteDemandSymbiont
+    implements SymbiontReader, TelnetSessionListener {
 
-    private final Socket _socket;
+    // how often a blocked reader wakes up to check for exec stop
+    private static final long READ_CHECK_MILLIS = 100;
+
+    private final TelnetSession _session;
+    private final ConcurrentLinkedQueue<String> _inputLines = new ConcurrentLinkedQueue<>();
+    private final LinkedBlockingQueue<String> _controlImages = new LinkedBlockingQueue<>();
 
     public RemoteTelnetSymbiont(
-        final Socket socket
+        final TelnetSession session
     ) throws ResourceException {
         super();
-        _socket = socket;
+        _session = session;
+    }
+
+    @Override
+    public String getStateString() {
+        return String.format("%s %s %dx%d",
+                             getSymbiontName(),
+                             _session.getRemoteAddress(),
+                             _session.getWindowColumns(),
+                             _session.getWindowRows());
+    }
+
+    /**
+     * Retrieves the next control-mode image entered by the user, for the DEMAND run.
+     * Blocks until an image is entered, the session goes away, or the exec stops.
+     * @return image
+     * @throws EndOfFileException if the session has been closed and there are no more images
+     * @throws ExecStoppedException if the exec stops while we are waiting
+     */
+    @Override
+    public String readImage() throws ExecStoppedException, EndOfFileException {
+        var exec = Exec.getInstance();
+        try {
+            while (true) {
+                var image = _controlImages.poll(READ_CHECK_MILLIS, TimeUnit.MILLISECONDS);
+                if (image != null) {
+                    return image;
+                } else if (exec.isStopped()) {
+                    throw new ExecStoppedException();
+                } else if (isExhausted()) {
+                    throw new EndOfFileException();
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ExecStoppedException();
+        }
+    }
+
+    /**
+     * Indicates that the session is gone and every line it delivered has been read.
+     * Synchronized with poll(), so that we do not catch a line in transit between the two queues.
+     */
+    private synchronized boolean isExhausted() {
+        return _session.isClosed() && _inputLines.isEmpty() && _controlImages.isEmpty();
+    }
+
+    /**
+     * Sends output to the terminal on behalf of the DEMAND run.
+     */
+    public void writeLine(final String text) {
+        _session.writeLine(text);
+    }
+
+    /**
+     * Invoked by the DEMAND run when it finishes - the session goes away with the run.
+     */
+    @Override
+    public void close() {
+        disconnect();
+    }
+
+    @Override
+    void disconnect() {
+        _session.close();
+    }
+
+    /**
+     * Processes one input line from the terminal.
+     * Transparent (@@) statements are handled here; anything else is queued for the DEMAND run.
+     * Synchronized, as a poll may be scheduled while a previous poll is still running.
+     * @return true if we did something, false if there was nothing to do
+     */
+    @Override
+    synchronized boolean poll() throws ExecStoppedException {
+        var line = _inputLines.poll();
+        if (line == null) {
+            return false;
+        }
+
+        var image = line.trim();
+        if (image.toUpperCase().startsWith("@@TERM")) {
+            _session.writeLine("*TERMINAL INACTIVE*");
+            disconnect();
+        } else if (image.toUpperCase().startsWith("@@X")) {
+            _controlImages.clear();
+        } else if (!image.isEmpty()) {
+            _controlImages.add(image);
+        }
+        return true;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    // TelnetSessionListener
+    // -----------------------------------------------------------------------------------------------------------------
+
+    @Override
+    public void negotiationComplete(final TelnetSession session) {
+        _session.writeLine(String.format("*KEXEC %s DEMAND %s*", Exec.VERSION_STRING, getSymbiontName()));
+    }
+
+    @Override
+    public void lineReceived(final TelnetSession session,
+                             final String line) {
+        _inputLines.add(line);
+        Exec.getInstance().getSymbiontManager().schedulePoll(this);
     }
 
     @Override
-    boolean poll() throws ExecStoppedException {
-        return false;// TODO
+    public void sessionClosed(final TelnetSession session) {
+        sessionTerminated();
     }
 }
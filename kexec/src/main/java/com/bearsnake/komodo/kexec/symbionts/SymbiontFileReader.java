@@ -14,20 +14,59 @@ import com.bearsnake.komodo.kexec.exceptions.ExecIOException;
 import com.bearsnake.komodo.kexec.exceptions.ExecStoppedException;
 import com.bearsnake.komodo.kexec.exec.ERIO$Status;
 import com.bearsnake.komodo.kexec.exec.Exec;
+import com.bearsnake.komodo.kexec.exec.StopCode;
 import com.bearsnake.komodo.kexec.facilities.IOResult;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Assists the exec in handling READ$ IO specifically from an SDF file or element for a run.
  * (Generally not for an element, but it could happen I guess)
+ * Blocks following the one being consumed are read ahead on a background thread, into a ring of buffers,
+ * so that the consumer does not wait on the disk at each buffer boundary.
+ * A read error is not reported until the consumer reaches the block which could not be read.
+ * From then on every read reports the same error, as the rest of the file cannot be delivered in order.
+ * Reads still in flight when an error is reported, or when the reader is closed, are canceled.
  */
 public class SymbiontFileReader implements SymbiontReader {
 
-    private final String _internalFileName;
-    private final ArraySlice _buffer;
-    private long _sectorsRemaining;       // number of sectors not yet read
-    private long _nextAddress;            // file-relative sector address of the next sector to be read
+    private static final Logger LOGGER = LogManager.getLogger(SymbiontFileReader.class);
+
+    /**
+     * Reads a block of the file into the given buffer - normally through facilities,
+     * but a different implementation can be provided for testing.
+     */
+    public interface BlockReader {
+        void read(long sectorAddress, ArraySlice buffer) throws ExecStoppedException, ExecIOException;
+    }
+
+    // Number of blocks we keep in flight ahead of the one being consumed
+    public static final int DEFAULT_READ_AHEAD_BLOCKS = 2;
+
+    private static final ExecutorService READ_AHEAD_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        var thread = new Thread(runnable, "SymbiontReadAhead");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private record Block(ArraySlice buffer, int wordCount) {}
+    private record PendingBlock(ArraySlice buffer, Future<Block> future) {}
+
+    private final BlockReader _blockReader;
+    private final int _readAheadBlocks;
+    private final ArrayDeque<ArraySlice> _freeBuffers = new ArrayDeque<>();
+    private final ArrayDeque<PendingBlock> _pendingBlocks = new ArrayDeque<>();
+    private ArraySlice _buffer = null;    // buffer currently being consumed
+    private ExecIOException _readError = null; // the failed block read, once the consumer has reached it
+    private long _sectorsRemaining;       // number of sectors not yet requested
+    private long _nextAddress;            // file-relative sector address of the next sector to be requested
     private int _bufferIndex = 0;         // word index of the next word to be taken from the buffer
     private int _bufferRemaining = 0;     // number of words yet to be taken from the buffer
     private boolean _characterSetValid = false;
@@ -49,10 +88,36 @@ public class SymbiontFileReader implements SymbiontReader {
         final long sectorCount,
         final int bufferSize
     ) {
-        _internalFileName = internalFileName;
+        this((sectorAddress, buffer) -> readFromFacilities(internalFileName, sectorAddress, buffer),
+             initialSectorAddress,
+             sectorCount,
+             bufferSize,
+             DEFAULT_READ_AHEAD_BLOCKS);
+    }
+
+    /**
+     * For reading through some other block reader, with a particular amount of read-ahead
+     * @param blockReader reads blocks of the file
+     * @param initialSectorAddress sector address where the text begins
+     * @param sectorCount length of the text in sectors
+     * @param bufferSize symbiont IO buffer size
+     * @param readAheadBlocks number of blocks to be read ahead of the one being consumed -
+     *                        zero means each block is read when the previous one is exhausted
+     */
+    public SymbiontFileReader(
+        final BlockReader blockReader,
+        final long initialSectorAddress,
+        final long sectorCount,
+        final int bufferSize,
+        final int readAheadBlocks
+    ) {
+        _blockReader = blockReader;
+        _readAheadBlocks = readAheadBlocks;
         _sectorsRemaining = sectorCount;
-        _buffer = new ArraySlice(new long[bufferSize]);
         _nextAddress = initialSectorAddress;
+        for (int bx = 0; bx <= readAheadBlocks; bx++) {
+            _freeBuffers.push(new ArraySlice(new long[bufferSize]));
+        }
     }
 
     /**
@@ -69,6 +134,29 @@ public class SymbiontFileReader implements SymbiontReader {
         this(internalFileName, 0, sectorCount, bufferSize);
     }
 
+    /**
+     * Cancels any blocks still being read ahead, and abandons the rest of the file.
+     * Any subsequent readImage() throws EndOfFileException.
+     */
+    @Override
+    public void close() {
+        cancelReadAhead();
+        _bufferRemaining = 0;
+        _readError = null;
+    }
+
+    /**
+     * Cancels any blocks still being read ahead, and requests no more.
+     * The buffers of canceled reads are not returned to the ring, as a read might still be writing into one.
+     */
+    private void cancelReadAhead() {
+        for (var pending : _pendingBlocks) {
+            pending.future().cancel(true);
+        }
+        _pendingBlocks.clear();
+        _sectorsRemaining = 0;
+    }
+
     /**
      * Reads the next image from the symbiont file.
      * @return image if found, null if we've reached the end of the file
@@ -184,6 +272,7 @@ public class SymbiontFileReader implements SymbiontReader {
 
     /**
      * Checks to see if the next image in the file is a continuation image
+     * An IO error on the following block is not reported here - the next read reports it.
      * @return true if the next word in the file is a control word of type 051 (continuation record)
      * @throws ExecStoppedException in case of an IO error
      */
@@ -197,32 +286,135 @@ public class SymbiontFileReader implements SymbiontReader {
     }
 
     /**
-     * Loads the buffer from the file beginning with the first un-read sector.
+     * Makes the next block of the file the current buffer, waiting for it if it was read ahead
+     * and is not yet complete, or reading it now if it was not. Then starts reads for the blocks following it.
+     * A failed read is reported to the console here, where the consumer reaches the block,
+     * rather than when the read fails, as the consumer might never get that far.
+     * The buffer of the failed read goes back to the ring, the reads following it are canceled,
+     * and the error is kept so that it is reported again by any later read.
      * @throws ExecStoppedException in case of an IO error
      * @throws EndOfFileException if we have exhausted the sector count
+     * @throws ExecIOException if this block or an earlier one could not be read
      */
     private void loadBuffer() throws ExecStoppedException, EndOfFileException, ExecIOException {
-        // Read the next buffer
-        if (_sectorsRemaining == 0) {
-            throw new EndOfFileException();
+        if (_buffer != null) {
+            _freeBuffers.push(_buffer);
+            _buffer = null;
+        }
+
+        if (_readError != null) {
+            throw _readError;
         }
 
+        Block block;
+        ArraySlice buffer = null;
+        try {
+            if (!_pendingBlocks.isEmpty()) {
+                var pending = _pendingBlocks.poll();
+                buffer = pending.buffer();
+                block = awaitBlock(pending.future());
+            } else if (_sectorsRemaining > 0) {
+                buffer = _freeBuffers.pop();
+                block = readNextBlock(buffer);
+            } else {
+                throw new EndOfFileException();
+            }
+        } catch (ExecIOException ex) {
+            _freeBuffers.push(buffer);
+            cancelReadAhead();
+            _readError = ex;
+            Exec.getInstance().sendExecReadOnlyMessage("Image input canceled", ConsoleType.System);
+            throw ex;
+        }
+
+        _buffer = block.buffer();
+        _bufferIndex = 0;
+        _bufferRemaining = block.wordCount();
+        startReadAhead();
+    }
+
+    /**
+     * Waits for a block which was read in the background, and surfaces any exception which the read produced.
+     */
+    private Block awaitBlock(
+        final Future<Block> future
+    ) throws ExecStoppedException, ExecIOException {
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof ExecIOException eio) {
+                throw eio;
+            } else if (ex.getCause() instanceof ExecStoppedException ese) {
+                throw ese;
+            }
+
+            LOGGER.catching(ex.getCause());
+            Exec.getInstance().stop(StopCode.InternalExecIOFailed);
+            throw new ExecStoppedException();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ExecStoppedException();
+        }
+    }
+
+    /**
+     * Reserves the next block of the file, and reads it into the given buffer on the current thread.
+     */
+    private Block readNextBlock(
+        final ArraySlice buffer
+    ) throws ExecStoppedException, ExecIOException {
+        var sectorAddress = _nextAddress;
+        var wordCount = reserveNextBlock(buffer);
+        _blockReader.read(sectorAddress, new ArraySlice(buffer, 0, wordCount));
+        return new Block(buffer, wordCount);
+    }
+
+    /**
+     * Advances the next-address and sectors-remaining counters past the next block of the file
+     * @return number of words in the block
+     */
+    private int reserveNextBlock(
+        final ArraySlice buffer
+    ) {
+        var wordCount = (int)Math.min(buffer.getSize(), _sectorsRemaining * 28);
+        var sectorCount = wordCount / 28;
+        _sectorsRemaining -= sectorCount;
+        _nextAddress += sectorCount;
+        return wordCount;
+    }
+
+    /**
+     * Starts background reads of the following blocks of the file into whichever buffers are free,
+     * up to the read-ahead limit.
+     */
+    private void startReadAhead() {
+        while ((_pendingBlocks.size() < _readAheadBlocks) && (_sectorsRemaining > 0) && !_freeBuffers.isEmpty()) {
+            var buffer = _freeBuffers.pop();
+            var sectorAddress = _nextAddress;
+            var wordCount = reserveNextBlock(buffer);
+            var future = READ_AHEAD_EXECUTOR.submit(() -> {
+                _blockReader.read(sectorAddress, new ArraySlice(buffer, 0, wordCount));
+                return new Block(buffer, wordCount);
+            });
+            _pendingBlocks.add(new PendingBlock(buffer, future));
+        }
+    }
+
+    /**
+     * Reads a block of the file through facilities on behalf of the exec
+     */
+    private static void readFromFacilities(
+        final String internalFileName,
+        final long sectorAddress,
+        final ArraySlice buffer
+    ) throws ExecStoppedException, ExecIOException {
         var exec = Exec.getInstance();
         var fm = exec.getFacilitiesManager();
-        var transferCount = (int)Math.min(_buffer.getSize(), _sectorsRemaining * 28);
         var ioResult = new IOResult();
-        var subBuffer = new ArraySlice(_buffer, 0, transferCount);
-        fm.ioReadFromDiskFile(exec, _internalFileName, _nextAddress, subBuffer, false, ioResult);
+        fm.ioReadFromDiskFile(exec, internalFileName, sectorAddress, buffer, false, ioResult);
         if (ioResult.getStatus() != ERIO$Status.Success) {
-            exec.sendExecReadOnlyMessage("Image input canceled", ConsoleType.System);
             throw new ExecIOException(ioResult.getStatus());
         }
-
-        var sectorsTransferred = transferCount / 28;
-        _sectorsRemaining -= sectorsTransferred;
-        _nextAddress += sectorsTransferred;
-        _bufferIndex = 0;
-        _bufferRemaining = transferCount;
     }
 
     /**
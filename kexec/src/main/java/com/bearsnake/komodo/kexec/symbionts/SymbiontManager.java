@@ -9,14 +9,19 @@ import com.bearsnake.komodo.hardwarelib.devices.SymbiontPrinterDevice;
 import com.bearsnake.komodo.hardwarelib.devices.SymbiontPunchDevice;
 import com.bearsnake.komodo.hardwarelib.devices.SymbiontReaderDevice;
 import com.bearsnake.komodo.kexec.Manager;
+import com.bearsnake.komodo.kexec.exceptions.ExecStoppedException;
 import com.bearsnake.komodo.kexec.exceptions.KExecException;
 import com.bearsnake.komodo.kexec.exec.Exec;
+import com.bearsnake.komodo.kexec.exec.StopCode;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.PrintStream;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class SymbiontManager implements Manager {
 
@@ -32,7 +37,16 @@ public class SymbiontManager implements Manager {
     //(Exec) This message is displayed in response to a UR symbiont or a SM symbiont S keyin.
     // The specified remote device has been suspended.
 
-    private final Map<String, Symbiont> _symbiontInfos = new HashMap<>();
+    // Remote symbionts do not have their own threads - they are polled on one of these when they have work to do.
+    private static final int REMOTE_POLL_THREADS = 4;
+
+    private final Map<String, Symbiont> _symbiontInfos = new ConcurrentHashMap<>();
+    private final Set<Symbiont> _pollsScheduled = ConcurrentHashMap.newKeySet();
+    private final ExecutorService _remotePoller = Executors.newFixedThreadPool(REMOTE_POLL_THREADS, runnable -> {
+        var thread = new Thread(runnable, "RemoteSymbiontPoller");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     public SymbiontManager() {
         Exec.getInstance().managerRegister(this);
@@ -44,7 +58,7 @@ public class SymbiontManager implements Manager {
     @Override
     public void boot(boolean recoveryBoot) throws KExecException {
         LOGGER.traceEntry("boot({})", recoveryBoot);
-        _symbiontInfos.values().forEach(Symbiont::start);
+        _symbiontInfos.values().stream().filter(Symbiont::isOnSiteSymbiont).forEach(Symbiont::start);
         LOGGER.traceExit("boot({})", recoveryBoot);
     }
 
@@ -54,6 +68,7 @@ public class SymbiontManager implements Manager {
     @Override
     public void close() {
         LOGGER.traceEntry("close()");
+        _remotePoller.shutdownNow();
         LOGGER.traceExit("close()");
     }
 
@@ -73,6 +88,43 @@ public class SymbiontManager implements Manager {
         return _symbiontInfos.get(symbiontName);
     }
 
+    /**
+     * Registers a remote symbiont which has been created in response to an incoming connection.
+     * Remote symbionts are not started on their own threads - see schedulePoll().
+     */
+    public void registerRemoteSymbiont(final RemoteDemandSymbiont symbiont) {
+        _symbiontInfos.put(symbiont.getSymbiontName(), symbiont);
+    }
+
+    /**
+     * Unregisters a remote symbiont whose connection has gone away.
+     */
+    public void unregisterRemoteSymbiont(final RemoteDemandSymbiont symbiont) {
+        _symbiontInfos.remove(symbiont.getSymbiontName(), symbiont);
+    }
+
+    /**
+     * Arranges for the given symbiont to be polled on a shared thread until it runs out of work.
+     * Invoked by remote symbionts when input arrives. If a poll is already scheduled, this does nothing.
+     */
+    void schedulePoll(final Symbiont symbiont) {
+        if (_pollsScheduled.add(symbiont)) {
+            _remotePoller.execute(() -> {
+                _pollsScheduled.remove(symbiont);
+                try {
+                    while (symbiont.poll()) {
+                        // keep going until there is nothing left to do
+                    }
+                } catch (ExecStoppedException ex) {
+                    LOGGER.info("{} Exec Stopped", symbiont.getSymbiontName());
+                } catch (Throwable t) {
+                    LOGGER.error("{} caught unexpected exception", symbiont.getSymbiontName(), t);
+                    Exec.getInstance().stop(StopCode.ExecActivityTakenToEMode);
+                }
+            });
+        }
+    }
+
     /**
      * Invoked for all managers when the exec is instantiated (presumably when the application starts).
      * We expect fac mgr to already be initialized.
@@ -105,6 +157,16 @@ public class SymbiontManager implements Manager {
     public void stop() {
         LOGGER.traceEntry("stop()");
         _symbiontInfos.values().forEach(Symbiont::terminate);
+        _symbiontInfos.values()
+                      .stream()
+                      .filter(Symbiont::isRemoteSymbiont)
+                      .forEach(symbiont -> {
+                          try {
+                              symbiont.terminateDevice();
+                          } catch (ExecStoppedException ex) {
+                              // nothing to do - we are already stopping
+                          }
+                      });
         LOGGER.traceExit("stop()");
     }
 }
@@ -14,4 +14,9 @@ import com.bearsnake.komodo.kexec.exceptions.ExecStoppedException;
 public interface SymbiontReader {
 
     public abstract String readImage() throws ExecStoppedException, EndOfFileException, ExecIOException;
+
+    /**
+     * Invoked when the run is done reading from the symbiont, so that anything still in progress can be abandoned
+     */
+    public default void close() {}
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.kexec.exec.genf;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.baselib.FileCycleSpecification;
+import com.bearsnake.komodo.baselib.FileSpecification;
+import com.bearsnake.komodo.kexec.exceptions.ExecStoppedException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestGenFileInterface {
+
+    private static TreeMap<Integer, Item> newInventory(final int sectorCount) {
+        var inventory = new TreeMap<Integer, Item>();
+        for (int addr = 0; addr < sectorCount; addr++) {
+            inventory.put(addr, new FreeItem(addr));
+        }
+        return inventory;
+    }
+
+    @Test
+    public void testNoDirtySectors() {
+        var extents = GenFileInterface.getWriteExtents(new TreeSet<>(), newInventory(64));
+        assertTrue(extents.isEmpty());
+    }
+
+    @Test
+    public void testOneTrack() {
+        var dirty = new TreeSet<>(List.of(3, 7, 40));
+        var extents = GenFileInterface.getWriteExtents(dirty, newInventory(64));
+        assertEquals(List.of(new GenFileInterface.WriteExtent(3, 38)), extents);
+    }
+
+    @Test
+    public void testWholeTrack() {
+        var dirty = new TreeSet<Integer>();
+        for (int addr = 64; addr < 128; addr++) {
+            dirty.add(addr);
+        }
+        var extents = GenFileInterface.getWriteExtents(dirty, newInventory(192));
+        assertEquals(List.of(new GenFileInterface.WriteExtent(64, 64)), extents);
+    }
+
+    @Test
+    public void testTrackBoundary() {
+        var dirty = new TreeSet<>(List.of(60, 63, 64, 65, 200));
+        var extents = GenFileInterface.getWriteExtents(dirty, newInventory(256));
+        assertEquals(List.of(new GenFileInterface.WriteExtent(60, 4),
+                             new GenFileInterface.WriteExtent(64, 2),
+                             new GenFileInterface.WriteExtent(200, 1)),
+                     extents);
+    }
+
+    @Test
+    public void testGapInInventory() {
+        var inventory = newInventory(64);
+        inventory.remove(10);
+        var dirty = new TreeSet<>(List.of(5, 9, 11, 12));
+        var extents = GenFileInterface.getWriteExtents(dirty, inventory);
+        assertEquals(List.of(new GenFileInterface.WriteExtent(5, 5),
+                             new GenFileInterface.WriteExtent(11, 2)),
+                     extents);
+    }
+
+    @Test
+    public void testManySpoolFiles() {
+        // 40,000 sectors dirtied one at a time - e.g., recovery cycle update plus a queue move - takes one IO per track
+        var sectorCount = 40000;
+        var dirty = new TreeSet<Integer>();
+        for (int addr = 0; addr < sectorCount; addr += 3) {
+            dirty.add(addr);
+        }
+        var extents = GenFileInterface.getWriteExtents(dirty, newInventory(sectorCount));
+        assertEquals((sectorCount + 63) / 64, extents.size());
+        for (var extent : extents) {
+            assertEquals(extent.firstSector() / 64, (extent.firstSector() + extent.sectorCount() - 1) / 64);
+        }
+    }
+
+    /**
+     * Builds a GENF$ image with the given number of sectors - every third sector is an output queue item
+     * with one part name sector following it, and the rest are free.
+     */
+    private static long[] newImage(final int sectorCount) throws ExecStoppedException {
+        var image = new long[sectorCount * 28];
+        new SystemItem(0, 5, sectorCount).serialize(new ArraySlice(image, 0, 28));
+        for (int addr = 1; addr < sectorCount; addr++) {
+            var sector = new ArraySlice(image, addr * 28, 28);
+            if ((addr % 3 == 1) && (addr + 1 < sectorCount)) {
+                var fileSpec = new FileSpecification("SYS$",
+                                                     String.format("F%06d", addr),
+                                                     FileCycleSpecification.newAbsoluteSpecification(1),
+                                                     null,
+                                                     null);
+                new OutputQueueItem(addr, 5).setFileSpecificationInfo(fileSpec, 0)
+                                            .setQueueId("PR1")
+                                            .setPartNameSectorAddress(addr + 1)
+                                            .setInitialEntrySectorAddress(addr)
+                                            .serialize(sector);
+            } else if (addr % 3 == 2) {
+                new PartNameItem(addr).setPreviousSectorAddress(addr - 1)
+                                      .addPartName("PART1")
+                                      .addPartName("PARTNUMBER2")
+                                      .serialize(sector);
+            } else {
+                new FreeItem(addr).serialize(sector);
+            }
+        }
+        return image;
+    }
+
+    private static class ImageReader implements GenFileInterface.SectorReader {
+
+        private final long[] _image;
+        private int _readCount = 0;
+
+        ImageReader(final long[] image) { _image = image; }
+
+        @Override
+        public void read(final int sectorAddress, final ArraySlice buffer) {
+            System.arraycopy(_image, sectorAddress * 28, buffer._array, buffer._offset, buffer.getSize());
+            _readCount++;
+        }
+    }
+
+    @Test
+    public void testReadItemsOneTrack() throws ExecStoppedException {
+        var reader = new ImageReader(newImage(64));
+        var items = GenFileInterface.readItems(reader);
+        assertEquals(1, reader._readCount);
+        assertEquals(64, items.length);
+        assertTrue(items[0] instanceof SystemItem si && si.getRecoveryCycle() == 5);
+    }
+
+    @Test
+    public void testReadItemsLargeInventory() throws ExecStoppedException {
+        // 50,000 sectors - about a third of them spool files - one IO for track 0 then one per 16 tracks
+        var sectorCount = 64 * 782;
+        var reader = new ImageReader(newImage(sectorCount));
+
+        var start = System.nanoTime();
+        var items = GenFileInterface.readItems(reader);
+        var elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(1 + (781 + 15) / 16, reader._readCount);
+        assertEquals(sectorCount, items.length);
+        assertTrue(elapsedMillis < 10_000, "recovery took " + elapsedMillis + " ms");
+
+        for (int addr = 1; addr < sectorCount; addr++) {
+            var item = items[addr];
+            assertNotNull(item);
+            assertEquals(addr, item.getSectorAddress());
+            if (item instanceof OutputQueueItem oqi) {
+                assertEquals(String.format("F%06d", addr), oqi.getFilename());
+                assertEquals("PR1", oqi.getQueueId());
+                assertTrue(GenFileInterface.hasValidPartNameChain(oqi, items));
+                var pni = (PartNameItem) items[oqi.getPartNameSectorAddress()];
+                assertEquals(List.of("PART1", "PARTNUMBER2"), pni.getPartNames());
+                assertEquals(addr, pni.getPreviousSectorAddress());
+            }
+        }
+    }
+
+    @Test
+    public void testReadItemsUndefinedType() throws ExecStoppedException {
+        var image = newImage(64 * 3);
+        new ArraySlice(image, 100 * 28, 28).setS1(0, 055);
+        var items = GenFileInterface.readItems(new ImageReader(image));
+        assertNull(items[100]);
+        assertNotNull(items[101]);
+    }
+
+    @Test
+    public void testInvalidPartNameChain() {
+        var items = new Item[4];
+        var oqi = new OutputQueueItem(1, 1).setPartNameSectorAddress(2);
+        items[1] = oqi;
+        items[2] = new FreeItem(2);
+        assertFalse(GenFileInterface.hasValidPartNameChain(oqi, items));
+
+        items[2] = new PartNameItem(2).setNextSectorAddress(3);
+        items[3] = new PartNameItem(3).setNextSectorAddress(2);
+        assertFalse(GenFileInterface.hasValidPartNameChain(oqi, items));
+
+        ((PartNameItem) items[3]).setNextSectorAddress(0);
+        assertTrue(GenFileInterface.hasValidPartNameChain(oqi, items));
+    }
+}
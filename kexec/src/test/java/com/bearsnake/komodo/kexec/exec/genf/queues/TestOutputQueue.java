@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.kexec.exec.genf.queues;
+
+import com.bearsnake.komodo.kexec.exec.genf.OutputQueueItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestOutputQueue {
+
+    private static int _nextSectorAddress = 1;
+
+    private static OutputQueueItem newItem(final int priorityIndex) {
+        return new OutputQueueItem(_nextSectorAddress++, 0).setPriorityIndex(priorityIndex);
+    }
+
+    @Test
+    public void testEmpty() {
+        var queue = new PrintQueue("PR1");
+        assertTrue(queue.isEmpty());
+        assertNull(queue.peek());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void testPriorityOrder() {
+        var queue = new PrintQueue("PR1");
+        var low = newItem(11);
+        var high1 = newItem(3);
+        var high2 = newItem(3);
+        var highest = newItem(1);
+        queue.enqueue(low);
+        queue.enqueue(high1);
+        queue.enqueue(high2);
+        queue.enqueue(highest);
+
+        assertEquals(4, queue.size());
+        assertSame(highest, queue.peek());
+        assertEquals(List.of(highest, high1, high2, low), queue.getItems());
+        assertSame(highest, queue.poll());
+        assertSame(high1, queue.poll());
+        assertSame(high2, queue.poll());
+        assertSame(low, queue.poll());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void testQueuesAreSeparate() {
+        var print = new PrintQueue("PR1");
+        var punch = new PunchQueue("CP1");
+        print.enqueue(newItem(3));
+
+        assertEquals(1, print.size());
+        assertTrue(punch.isEmpty());
+    }
+
+    @Test
+    public void testRemove() {
+        var queue = new PrintQueue("PR1");
+        var item1 = newItem(5);
+        var item2 = newItem(5);
+        queue.enqueue(item1);
+        queue.enqueue(item2);
+
+        assertTrue(queue.remove(item1));
+        assertFalse(queue.remove(item1));
+        assertSame(item2, queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testMoveTo() {
+        var source = new PrintQueue("PR1");
+        var destination = new PrintQueue("PR2");
+        var dest3 = newItem(3);
+        var dest7 = newItem(7);
+        destination.enqueue(dest3);
+        destination.enqueue(dest7);
+
+        var src3 = newItem(3);
+        var src5 = newItem(5);
+        source.enqueue(src3);
+        source.enqueue(src5);
+        source.moveTo(destination);
+
+        assertTrue(source.isEmpty());
+        assertEquals(List.of(dest3, src3, src5, dest7), destination.getItems());
+        assertEquals("PR2", src3.getQueueId());
+        assertTrue(src5.isDirty());
+
+        // the source queue is still usable
+        var later = newItem(1);
+        source.enqueue(later);
+        assertSame(later, source.poll());
+    }
+
+    @Test
+    public void testTakeBlocks() throws InterruptedException {
+        var queue = new PunchQueue("CP1");
+        var taken = new AtomicReference<OutputQueueItem>();
+        var thread = new Thread(() -> {
+            try {
+                taken.set(queue.take());
+            } catch (InterruptedException ex) {
+                // test will fail
+            }
+        });
+        thread.start();
+        Thread.sleep(20);
+        assertNull(taken.get());
+
+        var item = newItem(4);
+        queue.enqueue(item);
+        thread.join(5000);
+        assertSame(item, taken.get());
+    }
+
+    @Test
+    public void testPollTimeout() throws InterruptedException {
+        var queue = new PunchQueue("CP1");
+        assertNull(queue.poll(10));
+
+        var source = new PunchQueue("CP2");
+        var item = newItem(4);
+        source.enqueue(item);
+        var thread = new Thread(() -> {
+            source.moveTo(queue);
+        });
+        thread.start();
+        assertSame(item, queue.poll(5000));
+        thread.join();
+    }
+
+    @Test
+    public void testManyItems() {
+        var queue = new PrintQueue("PR1");
+        var random = new Random(2200);
+        var count = 20000;
+        for (int ix = 0; ix < count; ix++) {
+            queue.enqueue(newItem(1 + random.nextInt(11)));
+        }
+        var other = new PrintQueue("PR2");
+        queue.moveTo(other);
+        assertEquals(count, other.size());
+
+        var taken = new ArrayList<OutputQueueItem>();
+        OutputQueueItem item;
+        while ((item = other.poll()) != null) {
+            taken.add(item);
+        }
+
+        assertEquals(count, taken.size());
+        for (int ix = 1; ix < count; ix++) {
+            var prev = taken.get(ix - 1);
+            var next = taken.get(ix);
+            assertTrue((prev.getPriorityIndex() < next.getPriorityIndex())
+                       || ((prev.getPriorityIndex() == next.getPriorityIndex())
+                           && (prev.getSectorAddress() < next.getSectorAddress())));
+        }
+    }
+}
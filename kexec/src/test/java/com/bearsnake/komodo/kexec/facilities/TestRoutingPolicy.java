@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.kexec.facilities;
+
+import com.bearsnake.komodo.hardwarelib.channels.DiskChannel;
+import com.bearsnake.komodo.hardwarelib.devices.FileSystemTapeDevice;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestRoutingPolicy {
+
+    private static ChannelNodeInfo newChannel(final String name, final int weight) {
+        return new ChannelNodeInfo(new DiskChannel(name)).setWeight(weight);
+    }
+
+    @Test
+    public void testTokens() {
+        assertEquals(RoutingPolicy.LeastOutstanding, RoutingPolicy.getFromToken("lor"));
+        assertEquals(RoutingPolicy.WeightedRoundRobin, RoutingPolicy.getFromToken("WRR"));
+        assertNull(RoutingPolicy.getFromToken("RR"));
+    }
+
+    @Test
+    public void testLeastOutstanding() {
+        var device = new DeviceNodeInfo(new FileSystemTapeDevice("TAPE0"));
+        var chan0 = newChannel("CHAN0", 1);
+        var chan1 = newChannel("CHAN1", 1);
+        var candidates = List.of(chan0, chan1);
+
+        // busy channel is avoided
+        chan0.getStatistics().ioStarted();
+        chan0.getStatistics().ioStarted();
+        chan1.getStatistics().ioStarted();
+        assertSame(chan1, RoutingPolicy.LeastOutstanding.select(device, candidates));
+
+        // equally busy - the channel which has done fewer IOs wins
+        chan0.getStatistics().ioFinished(1000, false);
+        assertSame(chan1, RoutingPolicy.LeastOutstanding.select(device, candidates));
+        chan0.getStatistics().ioFinished(1000, false);
+        chan1.getStatistics().ioFinished(1000, false);
+        assertSame(chan1, RoutingPolicy.LeastOutstanding.select(device, candidates));
+        for (int x = 0; x < 2; x++) {
+            chan1.getStatistics().ioStarted();
+            chan1.getStatistics().ioFinished(1000, false);
+        }
+        assertSame(chan0, RoutingPolicy.LeastOutstanding.select(device, candidates));
+    }
+
+    @Test
+    public void testWeightedRoundRobin() {
+        var device = new DeviceNodeInfo(new FileSystemTapeDevice("TAPE1"));
+        var chan0 = newChannel("CHAN2", 2);
+        var chan1 = newChannel("CHAN3", 1);
+        var candidates = List.of(chan0, chan1);
+
+        // weights 2:1, interleaved rather than bunched
+        var expected = List.of(chan0, chan1, chan0, chan0, chan1, chan0);
+        for (var exp : expected) {
+            assertSame(exp, RoutingPolicy.WeightedRoundRobin.select(device, candidates));
+        }
+    }
+
+    @Test
+    public void testStatistics() {
+        var stats = new PathStatistics();
+        stats.ioStarted();
+        stats.ioStarted();
+        assertEquals(2, stats.getInFlight());
+        stats.ioFinished(2_000, false);
+        stats.ioFinished(6_000, true);
+        assertEquals(0, stats.getInFlight());
+        assertEquals(2, stats.getIoCount());
+        assertEquals(1, stats.getErrorCount());
+        assertEquals(4, stats.getAverageMicros());
+        assertEquals(6, stats.getMaxMicros());
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.kexec.mfd;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.kexec.exceptions.DirectoryErrorException;
+import com.bearsnake.komodo.kexec.exceptions.ExecStoppedException;
+import com.bearsnake.komodo.kexec.facilities.PackInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestDirectoryRecovery {
+
+    private static final String MFD_QUALIFIER = "SYS$";
+    private static final long PACK_TRACKS = 10000;
+
+    /**
+     * An in-memory fixed pack with an MFD laid out as MFDManager lays it out -
+     * directory track n is device track n + 1, and file space follows the directory tracks.
+     */
+    private static class SyntheticPack {
+
+        private final PackInfo _packInfo;
+        private final int _ldat;
+        private final int _mfdTrackCount;
+        private final HashMap<Long, long[]> _deviceTracks = new HashMap<>();
+        private final AtomicInteger _readCount = new AtomicInteger();
+        private int _nextTrackId = 0;
+        private int _nextSectorId = 0;
+        private long _nextDataTrackId;
+        private long _dataTrackCount = 0;
+
+        SyntheticPack(final int ldat, final int mfdTrackCount) {
+            _ldat = ldat;
+            _mfdTrackCount = mfdTrackCount;
+            _nextDataTrackId = mfdTrackCount + 1;
+            _packInfo = new PackInfo().setPackName(String.format("FIX%03d", ldat))
+                                      .setLDATIndex(ldat)
+                                      .setIsFixed(true)
+                                      .setIsPrepped(true)
+                                      .setPrepFactor(1792)
+                                      .setDirectoryTrackAddress(1792)
+                                      .setTrackCount(PACK_TRACKS);
+            _packInfo.getFreeSpace().markAllocated(0, 1);
+
+            for (int trackId = 0; trackId < mfdTrackCount; trackId++) {
+                _deviceTracks.put((long) trackId + 1, new long[1792]);
+            }
+
+            for (int dasTrackId = 0; dasTrackId < mfdTrackCount; dasTrackId += 9) {
+                var das = sector(new MFDRelativeAddress(ldat, dasTrackId, 0));
+                das.set(0, Word36.setH1(0, ldat));
+                das.set(1, 0_400000_000000L);
+                for (int tx = 1; tx < 9; tx++) {
+                    var trackId = dasTrackId + tx;
+                    das.set(tx * 3, trackId < mfdTrackCount ? new MFDRelativeAddress(ldat, trackId, 0).getValue() : MFDManager.INVALID_LINK);
+                }
+                var nextDas = dasTrackId + 9;
+                das.set(033, nextDas < mfdTrackCount ? new MFDRelativeAddress(ldat, nextDas, 0).getValue() : MFDManager.INVALID_LINK);
+            }
+
+            // sector 1 of track 0 has the pack information
+            markInUse(new MFDRelativeAddress(ldat, 0, 1));
+        }
+
+        ArraySlice sector(final MFDRelativeAddress address) {
+            return new ArraySlice(_deviceTracks.get(address.getTrackId() + 1), (int) address.getSectorId() * 28, 28);
+        }
+
+        private void markInUse(final MFDRelativeAddress address) {
+            var trackId = (int) address.getTrackId();
+            var sectorId = (int) address.getSectorId();
+            var das = sector(new MFDRelativeAddress(_ldat, trackId - (trackId % 9), 0));
+            var wx = ((trackId % 9) * 3) + 1 + (sectorId >> 5);
+            das.set(wx, das.get(wx) | (0_400000_000000L >> (sectorId & 037)));
+        }
+
+        private boolean isInUse(final MFDRelativeAddress address) {
+            var trackId = (int) address.getTrackId();
+            var sectorId = (int) address.getSectorId();
+            var das = sector(new MFDRelativeAddress(_ldat, trackId - (trackId % 9), 0));
+            var wx = ((trackId % 9) * 3) + 1 + (sectorId >> 5);
+            return (das.get(wx) & (0_400000_000000L >> (sectorId & 037))) != 0;
+        }
+
+        MFDSector allocateSector() {
+            while (_nextTrackId < _mfdTrackCount) {
+                var addr = new MFDRelativeAddress(_ldat, _nextTrackId, _nextSectorId);
+                if (++_nextSectorId == 64) {
+                    _nextSectorId = 0;
+                    _nextTrackId++;
+                }
+                if (!isInUse(addr)) {
+                    markInUse(addr);
+                    return new MFDSector(addr, sector(addr));
+                }
+            }
+            throw new IllegalStateException("synthetic MFD is full");
+        }
+
+        long allocateDataTracks(final long trackCount) {
+            var trackId = _nextDataTrackId;
+            _nextDataTrackId += trackCount;
+            _dataTrackCount += trackCount;
+            return trackId;
+        }
+
+        int getUsedSectorCount() {
+            var count = 0;
+            for (int trackId = 0; trackId < _mfdTrackCount; trackId++) {
+                for (int sectorId = 0; sectorId < 64; sectorId++) {
+                    if (isInUse(new MFDRelativeAddress(_ldat, trackId, sectorId))) {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+
+        boolean read(final long deviceTrackId, final ArraySlice buffer) {
+            _readCount.incrementAndGet();
+            for (int tx = 0; tx < buffer.getSize() / 1792; tx++) {
+                var track = _deviceTracks.get(deviceTrackId + tx);
+                if (track != null) {
+                    System.arraycopy(track, 0, buffer._array, buffer._offset + tx * 1792, 1792);
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Writes a DAD sector with a single entry
+     */
+    private static void populateDAD(
+        final ArraySlice dad,
+        final MFDRelativeAddress previous,
+        final long fileTrackId,
+        final int ldat,
+        final long deviceTrackId,
+        final long trackCount
+    ) {
+        dad.set(1, previous.getValue());
+        dad.set(2, fileTrackId * 1792);
+        dad.set(3, (fileTrackId + trackCount) * 1792);
+        dad.set(4, deviceTrackId * 1792);
+        dad.set(5, trackCount * 1792);
+        dad.setH1(6, 04);
+        dad.setH2(6, ldat);
+    }
+
+    /**
+     * Catalogs a fixed file set on the given pack with the given cycles (highest first), each of which has
+     * one DAD describing the given number of tracks, allocated on the data pack.
+     */
+    private static FileSetInfo catalogFile(
+        final SyntheticPack pack,
+        final SyntheticPack dataPack,
+        final String qualifier,
+        final String filename,
+        final int[] cycles,
+        final long trackCount
+    ) throws ExecStoppedException {
+        var fsInfo = new FileSetInfo().setQualifier(qualifier)
+                                      .setFilename(filename)
+                                      .setProjectId("PROJ")
+                                      .setFileType(FileType.Fixed)
+                                      .setCycleCount(cycles.length)
+                                      .setMaxCycleRange(32)
+                                      .setCurrentCycleRange(cycles[0] - cycles[cycles.length - 1] + 1)
+                                      .setHighestAbsoluteCycle(cycles[0]);
+        var leadChain = new LinkedList<MFDSector>();
+        leadChain.add(pack.allocateSector());
+        if (fsInfo.isSector1Required()) {
+            leadChain.add(pack.allocateSector());
+        }
+        fsInfo._leadItem0Address = leadChain.getFirst().getAddress();
+
+        for (var cycle : cycles) {
+            var mainItem0 = pack.allocateSector();
+            var dad = pack.allocateSector();
+            var deviceTrackId = dataPack.allocateDataTracks(trackCount);
+            populateDAD(dad.getSector(), mainItem0.getAddress(), 0, dataPack._ldat, deviceTrackId, trackCount);
+
+            var mi = mainItem0.getSector();
+            mi.set(0, 0_200000_000000L | dad.getAddress().getValue());
+            mi.set(013, fsInfo._leadItem0Address.getValue());
+            mi.setT3(021, cycle);
+            fsInfo.addCycleInfo(new FileSetCycleInfo().setAbsoluteCycle(cycle)
+                                                      .setMainItem0Address(mainItem0.getAddress()));
+        }
+
+        fsInfo.populateLeadItemSectors(leadChain);
+        return fsInfo;
+    }
+
+    /**
+     * Catalogs MFDF$$ in track 0 of the first pack, with one DAD per pack describing its directory tracks
+     */
+    private static void catalogMFDFile(
+        final List<SyntheticPack> packs
+    ) throws ExecStoppedException {
+        var first = packs.getFirst();
+        var fsInfo = new FileSetInfo().setQualifier(MFD_QUALIFIER)
+                                      .setFilename(DirectoryRecovery.MFD_FILENAME)
+                                      .setFileType(FileType.Fixed)
+                                      .setIsGuarded(true)
+                                      .setCycleCount(1)
+                                      .setCurrentCycleRange(1)
+                                      .setHighestAbsoluteCycle(1);
+        var leadChain = new LinkedList<MFDSector>();
+        leadChain.add(first.allocateSector());
+        fsInfo._leadItem0Address = leadChain.getFirst().getAddress();
+
+        var mainItem0 = first.allocateSector();
+        mainItem0.getSector().set(013, fsInfo._leadItem0Address.getValue());
+        mainItem0.getSector().setT3(021, 1);
+        fsInfo.addCycleInfo(new FileSetCycleInfo().setAbsoluteCycle(1).setMainItem0Address(mainItem0.getAddress()));
+        fsInfo.populateLeadItemSectors(leadChain);
+
+        MFDSector previous = mainItem0;
+        for (var pack : packs) {
+            var dad = first.allocateSector();
+            var fileTrackId = new MFDRelativeAddress(pack._ldat, 0, 0).getValue() >> 6;
+            populateDAD(dad.getSector(), previous.getAddress(), fileTrackId, pack._ldat, 1, pack._mfdTrackCount);
+            if (previous == mainItem0) {
+                mainItem0.getSector().set(0, 0_200000_000000L | dad.getAddress().getValue());
+            } else {
+                previous.getSector().set(0, dad.getAddress().getValue());
+            }
+            previous = dad;
+        }
+    }
+
+    private static List<SyntheticPack> createPacks(
+        final int packCount,
+        final int mfdTrackCount
+    ) {
+        var packs = new LinkedList<SyntheticPack>();
+        for (int ldat = 1; ldat <= packCount; ldat++) {
+            packs.add(new SyntheticPack(ldat, mfdTrackCount));
+        }
+        return packs;
+    }
+
+    private static DirectoryRecovery newRecovery(
+        final List<SyntheticPack> packs,
+        final int threadCount
+    ) throws DirectoryErrorException {
+        var recovery = new DirectoryRecovery(MFD_QUALIFIER, threadCount);
+        for (var pack : packs) {
+            recovery.addPack(pack._packInfo, pack::read);
+        }
+        return recovery;
+    }
+
+    @Test
+    public void testSinglePack() throws Exception {
+        var packs = createPacks(1, 3);
+        var pack = packs.getFirst();
+        catalogMFDFile(packs);
+        for (int fx = 0; fx < 20; fx++) {
+            catalogFile(pack, pack, "QUAL", String.format("FILE%02d", fx), new int[]{ 1 }, 10);
+        }
+
+        var recovery = newRecovery(packs, 4);
+        recovery.recover();
+
+        // track 0, then tracks 1 and 2 in one read
+        assertEquals(2, pack._readCount.get());
+        assertEquals(3, pack._packInfo.getMFDTrackCount());
+        assertEquals(3, recovery.getCachedMFDTracks().size());
+        assertEquals(21, recovery.getLeadItems().size());
+        assertEquals(3 * 64 - pack.getUsedSectorCount(), recovery.getFreeMFDSectors().size());
+        assertEquals(PACK_TRACKS - 1 - 3 - 200, pack._packInfo.getFreeSpace().getAvailableTrackCount());
+
+        var mfdFile = recovery.getLeadItems().get(MFD_QUALIFIER + "*" + DirectoryRecovery.MFD_FILENAME);
+        assertNotNull(mfdFile);
+        assertEquals(mfdFile.getCycleInfo().getFirst().getMainItem0Address(), recovery.getMFDFileAddress());
+        assertEquals(1, recovery.getMFDFileAllocationSet().getFileAllocations().size());
+
+        var fsInfo = recovery.getLeadItems().get("QUAL*FILE07");
+        assertEquals("PROJ", fsInfo.getProjectId());
+        assertEquals(FileType.Fixed, fsInfo.getFileType());
+        assertEquals(1, fsInfo.getCycleInfo().getFirst().getAbsoluteCycle());
+    }
+
+    @Test
+    public void testManyPacks() throws Exception {
+        // 12 directory tracks per pack, so there are two DAS sectors per pack
+        var packs = createPacks(8, 12);
+        catalogMFDFile(packs);
+        for (var pack : packs) {
+            for (int fx = 0; fx < 100; fx++) {
+                var dataPack = packs.get((pack._ldat + fx) % packs.size());
+                var filename = String.format("F%02d%04d", pack._ldat, fx);
+                catalogFile(pack, dataPack, "QUAL", filename, new int[]{ 3, 2 }, 5);
+            }
+        }
+
+        var recovery = newRecovery(packs, 4);
+        recovery.recover();
+
+        assertEquals(8 * 100 + 1, recovery.getLeadItems().size());
+        assertEquals(8 * 12, recovery.getCachedMFDTracks().size());
+        var usedSectors = packs.stream().mapToInt(SyntheticPack::getUsedSectorCount).sum();
+        assertEquals(8 * 12 * 64 - usedSectors, recovery.getFreeMFDSectors().size());
+        for (var pack : packs) {
+            assertEquals(2, pack._readCount.get());
+            assertEquals(12, pack._packInfo.getMFDTrackCount());
+            assertEquals(PACK_TRACKS - 1 - 12 - pack._dataTrackCount, pack._packInfo.getFreeSpace().getAvailableTrackCount());
+        }
+
+        var fsInfo = recovery.getLeadItems().get("QUAL*F050023");
+        assertEquals(2, fsInfo.getCycleInfo().size());
+        assertEquals(3, fsInfo.getCycleInfo().get(0).getAbsoluteCycle());
+        assertEquals(2, fsInfo.getCycleInfo().get(1).getAbsoluteCycle());
+    }
+
+    @Test
+    public void testLeadItemSector1() throws Exception {
+        var packs = createPacks(1, 2);
+        var pack = packs.getFirst();
+        catalogMFDFile(packs);
+
+        var cycles = new int[20];
+        for (int cx = 0; cx < cycles.length; cx++) {
+            cycles[cx] = 30 - cx;
+        }
+        var cataloged = catalogFile(pack, pack, "QUAL", "MANYCYCLES", cycles, 1);
+        assertTrue(cataloged.isSector1Required());
+
+        var recovery = newRecovery(packs, 1);
+        recovery.recover();
+
+        assertEquals(2, recovery.getLeadItems().size());
+        var fsInfo = recovery.getLeadItems().get("QUAL*MANYCYCLES");
+        assertEquals(20, fsInfo.getCycleInfo().size());
+        assertEquals(20, fsInfo.getCycleCount());
+        assertEquals(30, fsInfo.getHighestAbsoluteCycle());
+        for (int cx = 0; cx < cycles.length; cx++) {
+            assertEquals(cycles[cx], fsInfo.getCycleInfo().get(cx).getAbsoluteCycle());
+        }
+    }
+
+    @Test
+    public void testDuplicateLeadItems() throws Exception {
+        var packs = createPacks(2, 2);
+        catalogMFDFile(packs);
+        catalogFile(packs.get(0), packs.get(0), "QUAL", "FILE", new int[]{ 1 }, 1);
+        catalogFile(packs.get(1), packs.get(1), "QUAL", "FILE", new int[]{ 1 }, 1);
+
+        var recovery = newRecovery(packs, 2);
+        assertThrows(DirectoryErrorException.class, recovery::recover);
+    }
+
+    @Test
+    public void testSpaceAllocatedTwice() throws Exception {
+        var packs = createPacks(1, 2);
+        var pack = packs.getFirst();
+        catalogMFDFile(packs);
+        catalogFile(pack, pack, "QUAL", "FILE1", new int[]{ 1 }, 10);
+        pack._nextDataTrackId -= 5;
+        catalogFile(pack, pack, "QUAL", "FILE2", new int[]{ 1 }, 10);
+
+        var recovery = newRecovery(packs, 1);
+        assertThrows(DirectoryErrorException.class, recovery::recover);
+    }
+
+    @Test
+    public void testNoMFDFile() throws Exception {
+        var packs = createPacks(1, 2);
+        catalogFile(packs.getFirst(), packs.getFirst(), "QUAL", "FILE", new int[]{ 1 }, 1);
+
+        var recovery = newRecovery(packs, 1);
+        assertThrows(DirectoryErrorException.class, recovery::recover);
+    }
+
+    @Test
+    public void testDuplicateLDAT() {
+        var recovery = new DirectoryRecovery(MFD_QUALIFIER, 1);
+        assertThrows(DirectoryErrorException.class, () -> {
+            recovery.addPack(new SyntheticPack(1, 1)._packInfo, (trackId, buffer) -> true);
+            recovery.addPack(new SyntheticPack(1, 1)._packInfo, (trackId, buffer) -> true);
+        });
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.kexec.networkManager;
+
+import com.bearsnake.komodo.kexec.csi.RunCardInfo;
+import com.bearsnake.komodo.kexec.exceptions.KExecException;
+import com.bearsnake.komodo.kexec.exec.TestExec;
+import com.bearsnake.komodo.kexec.scheduleManager.DemandRun;
+import com.bearsnake.komodo.kexec.scheduleManager.Run;
+import com.bearsnake.komodo.kexec.symbionts.RemoteTelnetSymbiont;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestTelnetListener {
+
+    private static final int IAC = 255;
+    private static final int WILL = 251;
+    private static final int WONT = 252;
+    private static final int DO = 253;
+    private static final int DONT = 254;
+    private static final int SB = 250;
+    private static final int SE = 240;
+    private static final int ECHO = 1;
+    private static final int SGA = 3;
+    private static final int TTYPE = 24;
+    private static final int NAWS = 31;
+
+    private static final byte[] OPENING_NEGOTIATION = bytes(IAC, WILL, ECHO, IAC, WILL, SGA, IAC, DO, NAWS);
+
+    /**
+     * Listener which records session events instead of creating DEMAND symbionts
+     */
+    private static class RecordingListener extends TelnetListener implements TelnetSessionListener {
+
+        final LinkedBlockingQueue<String> _lines = new LinkedBlockingQueue<>();
+        final LinkedBlockingQueue<String> _windowSizes = new LinkedBlockingQueue<>();
+        final LinkedBlockingQueue<TelnetSession> _closed = new LinkedBlockingQueue<>();
+
+        RecordingListener() {
+            super(InetAddress.getLoopbackAddress(), 0);
+        }
+
+        @Override
+        protected TelnetSessionListener createSessionListener(final TelnetSession session) {
+            return this;
+        }
+
+        @Override
+        public void lineReceived(final TelnetSession session, final String line) {
+            _lines.add(line);
+            session.writeLine("GOT " + line);
+        }
+
+        @Override
+        public void sessionClosed(final TelnetSession session) {
+            _closed.add(session);
+        }
+
+        @Override
+        public void windowSizeChanged(final TelnetSession session, final int columns, final int rows) {
+            _windowSizes.add(columns + "x" + rows);
+        }
+    }
+
+    private static byte[] bytes(final int... values) {
+        var result = new byte[values.length];
+        for (int vx = 0; vx < values.length; vx++) {
+            result[vx] = (byte) values[vx];
+        }
+        return result;
+    }
+
+    private static byte[] readExactly(final InputStream input,
+                                      final int count) throws IOException {
+        var result = input.readNBytes(count);
+        assertEquals(count, result.length);
+        return result;
+    }
+
+    private static Socket connect(final TelnetListener listener) throws IOException {
+        var socket = new Socket(InetAddress.getLoopbackAddress(), listener.getLocalPort());
+        socket.setSoTimeout(5000);
+        return socket;
+    }
+
+    private static String readUntilClosed(final InputStream input) throws IOException {
+        var stream = new ByteArrayOutputStream();
+        input.transferTo(stream);
+        return stream.toString(StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    public void testScriptedSession() throws Exception {
+        var listener = new RecordingListener();
+        listener.startup();
+        try (var socket = connect(listener)) {
+            var input = socket.getInputStream();
+            var output = socket.getOutputStream();
+            assertArrayEquals(OPENING_NEGOTIATION, readExactly(input, OPENING_NEGOTIATION.length));
+
+            // Agree to everything, report our window size, then type a line with a typo and a backspace
+            output.write(bytes(IAC, DO, ECHO, IAC, DO, SGA, IAC, WILL, NAWS, IAC, SB, NAWS, 0, 132, 0, 40, IAC, SE));
+            output.write("@RUM".getBytes(StandardCharsets.US_ASCII));
+            output.write(bytes(0x7F));
+            output.write("N X,/Y\r\n".getBytes(StandardCharsets.US_ASCII));
+            output.flush();
+
+            assertEquals("@RUN X,/Y", listener._lines.poll(5, TimeUnit.SECONDS));
+            assertEquals("132x40", listener._windowSizes.poll(5, TimeUnit.SECONDS));
+
+            var expected = "@RUM\b \bN X,/Y\r\nGOT @RUN X,/Y\r\n";
+            assertEquals(expected, new String(readExactly(input, expected.length()), StandardCharsets.US_ASCII));
+        } finally {
+            listener.shutdown();
+        }
+    }
+
+    @Test
+    public void testNoEchoUntilAgreed() throws Exception {
+        var listener = new RecordingListener();
+        listener.startup();
+        try (var socket = connect(listener)) {
+            var input = socket.getInputStream();
+            var output = socket.getOutputStream();
+            readExactly(input, OPENING_NEGOTIATION.length);
+
+            // Refuse echo - the line should come back only as the listener's reply. CR NUL is a valid line end.
+            output.write(bytes(IAC, DONT, ECHO));
+            output.write(bytes('H', 'I', '\r', 0));
+            output.flush();
+
+            assertEquals("HI", listener._lines.poll(5, TimeUnit.SECONDS));
+            var expected = "GOT HI\r\n";
+            assertEquals(expected, new String(readExactly(input, expected.length()), StandardCharsets.US_ASCII));
+        } finally {
+            listener.shutdown();
+        }
+    }
+
+    @Test
+    public void testUnsupportedOptionsRefused() throws Exception {
+        var listener = new RecordingListener();
+        listener.startup();
+        try (var socket = connect(listener)) {
+            var input = socket.getInputStream();
+            var output = socket.getOutputStream();
+            readExactly(input, OPENING_NEGOTIATION.length);
+
+            output.write(bytes(IAC, DO, TTYPE, IAC, WILL, TTYPE));
+            output.flush();
+            assertArrayEquals(bytes(IAC, WONT, TTYPE, IAC, DONT, TTYPE), readExactly(input, 6));
+        } finally {
+            listener.shutdown();
+        }
+    }
+
+    @Test
+    public void testRemoteClose() throws Exception {
+        var listener = new RecordingListener();
+        listener.startup();
+        try {
+            var socket = connect(listener);
+            readExactly(socket.getInputStream(), OPENING_NEGOTIATION.length);
+            socket.close();
+            assertNotNull(listener._closed.poll(5, TimeUnit.SECONDS));
+        } finally {
+            listener.shutdown();
+        }
+    }
+
+    @Test
+    public void testManyConcurrentSessions() throws Exception {
+        final int sessionCount = 200;
+        var listener = new RecordingListener();
+        listener.startup();
+        var sockets = new LinkedList<Socket>();
+        try {
+            var threadsBefore = Thread.activeCount();
+            for (int sx = 0; sx < sessionCount; sx++) {
+                var socket = connect(listener);
+                sockets.add(socket);
+                readExactly(socket.getInputStream(), OPENING_NEGOTIATION.length);
+            }
+
+            // all of those idle sessions are serviced by the one selector thread
+            assertTrue(Thread.activeCount() <= threadsBefore + 1);
+
+            int sx = 0;
+            for (var socket : sockets) {
+                socket.getOutputStream().write(String.format("LINE%d\r\n", sx++).getBytes(StandardCharsets.US_ASCII));
+            }
+
+            var received = new HashSet<String>();
+            for (sx = 0; sx < sessionCount; sx++) {
+                var line = listener._lines.poll(5, TimeUnit.SECONDS);
+                assertNotNull(line);
+                received.add(line);
+            }
+            assertEquals(sessionCount, received.size());
+        } finally {
+            for (var socket : sockets) {
+                socket.close();
+            }
+            listener.shutdown();
+        }
+    }
+
+    @Test
+    public void testDemandSymbiontSession() throws Exception {
+        new TestExec();
+        var listener = new TelnetListener(InetAddress.getLoopbackAddress(), 0);
+        listener.startup();
+        try (var socket = connect(listener)) {
+            var input = socket.getInputStream();
+            var output = socket.getOutputStream();
+            output.write(bytes(IAC, DONT, ECHO));
+            output.write("@@TERM\r\n".getBytes(StandardCharsets.US_ASCII));
+            output.flush();
+
+            var text = readUntilClosed(input);
+            assertTrue(text.contains("*KEXEC "));
+            assertTrue(text.contains(" DEMAND RSI001*"));
+            assertTrue(text.endsWith("*TERMINAL INACTIVE*\r\n"));
+        } finally {
+            listener.shutdown();
+        }
+    }
+
+    @Test
+    public void testBannerFollowsNegotiation() throws Exception {
+        new TestExec();
+        var listener = new TelnetListener(InetAddress.getLoopbackAddress(), 0);
+        listener.startup();
+        try (var socket = connect(listener)) {
+            var input = socket.getInputStream();
+            var output = socket.getOutputStream();
+            assertArrayEquals(OPENING_NEGOTIATION, readExactly(input, OPENING_NEGOTIATION.length));
+
+            // nothing more until we answer
+            socket.setSoTimeout(250);
+            assertThrows(SocketTimeoutException.class, input::read);
+            socket.setSoTimeout(5000);
+
+            output.write(bytes(IAC, DO, ECHO, IAC, DO, SGA, IAC, WONT, NAWS));
+            output.flush();
+            var banner = new StringBuilder();
+            while (!banner.toString().endsWith("\r\n")) {
+                banner.append((char) input.read());
+            }
+            assertTrue(banner.toString().startsWith("*KEXEC "));
+            assertTrue(banner.toString().contains(" DEMAND RSI"));
+        } finally {
+            listener.shutdown();
+        }
+    }
+
+    @Test
+    public void testDemandRunReadsImages() throws Exception {
+        new TestExec();
+        var images = new LinkedBlockingQueue<String>();
+        var tailSheet = new LinkedBlockingQueue<String>();
+        var listener = new TelnetListener(InetAddress.getLoopbackAddress(), 0) {
+            @Override
+            protected TelnetSessionListener createSessionListener(final TelnetSession session) throws KExecException {
+                var terminal = new RemoteTelnetSymbiont(session);
+                var run = new DemandRun("DEMRUN", new RunCardInfo("@RUN DEMRUN").setRunId("DEMRUN"), terminal) {
+                    @Override
+                    protected void processControlImage(final String image) {
+                        images.add(image);
+                    }
+
+                    @Override
+                    public void postToTailSheet(final String message) {
+                        tailSheet.add(message);
+                    }
+                };
+                run.startRun();
+                return terminal;
+            }
+        };
+
+        listener.startup();
+        try (var socket = connect(listener)) {
+            var output = socket.getOutputStream();
+            output.write(bytes(IAC, DONT, ECHO));
+            output.write("@ASG,T X.\r\n   @FREE X.   \r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+            output.flush();
+            assertEquals("@ASG,T X.", images.poll(5, TimeUnit.SECONDS));
+            assertEquals("@FREE X.", images.poll(5, TimeUnit.SECONDS));
+
+            // transparent statements are handled by the symbiont, and the run sees end-of-file when the terminal goes away
+            output.write("@@TERM\r\n".getBytes(StandardCharsets.US_ASCII));
+            output.flush();
+            assertTrue(readUntilClosed(socket.getInputStream()).endsWith("*TERMINAL INACTIVE*\r\n"));
+            assertTrue(tailSheet.poll(5, TimeUnit.SECONDS).endsWith("START"));
+            assertTrue(tailSheet.poll(5, TimeUnit.SECONDS).endsWith("FIN"));
+            assertTrue(images.isEmpty());
+        } finally {
+            listener.shutdown();
+        }
+    }
+
+    @Test
+    public void testSessionStartsDemandRun() throws Exception {
+        var exec = new TestExec();
+        var listener = new TelnetListener(InetAddress.getLoopbackAddress(), 0);
+        listener.startup();
+        try (var socket = connect(listener)) {
+            var input = socket.getInputStream();
+            var output = socket.getOutputStream();
+            assertArrayEquals(OPENING_NEGOTIATION, readExactly(input, OPENING_NEGOTIATION.length));
+
+            // the run is named for the terminal, and @FIN ends both the run and the session
+            Run run = null;
+            for (int i = 1; (run == null) && (i < 999); i++) {
+                run = exec.getScheduleManager().getRun(String.format("RSI%03d", i));
+            }
+            assertInstanceOf(DemandRun.class, run);
+
+            output.write(bytes(IAC, DONT, ECHO, IAC, DONT, SGA, IAC, WONT, NAWS));
+            output.write("@FIN\r\n".getBytes(StandardCharsets.US_ASCII));
+            output.flush();
+            readUntilClosed(input);
+            var runId = run.getActualRunId();
+            for (int i = 0; (i < 50) && (exec.getScheduleManager().getRun(runId) != null); i++) {
+                Thread.sleep(100);
+            }
+            assertNull(exec.getScheduleManager().getRun(runId));
+            assertTrue(run.isFinished());
+        } finally {
+            listener.shutdown();
+        }
+    }
+}
@@ -15,6 +15,12 @@ import com.bearsnake.komodo.kexec.exec.StopCode;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class TestScheduleManager extends ScheduleManager {
@@ -47,6 +53,29 @@ public class TestScheduleManager extends ScheduleManager {
         new TestExec();
     }
 
+    // Runs opened by the scheduler thread, in the order it opened them
+    private final LinkedBlockingQueue<BatchRun> _opened = new LinkedBlockingQueue<>();
+
+    @Override
+    protected void openBatchRun(final BatchRun batchRun) {
+        batchRun.setIsStarted(true);
+        _opened.add(batchRun);
+    }
+
+    private BatchRun submit(final String runid, final char priority) throws ExecStoppedException, ScheduleManagerException {
+        return createBatchRun(new RunCardInfo("@RUN " + runid).setRunId(runid)
+                                                              .setUserId("USER")
+                                                              .setSchedulingPriority(priority));
+    }
+
+    private BatchRun awaitOpened() throws InterruptedException {
+        return _opened.poll(5, TimeUnit.SECONDS);
+    }
+
+    private BatchRun pollOpened() throws InterruptedException {
+        return _opened.poll(50, TimeUnit.MILLISECONDS);
+    }
+
     // rotateString ------------------------------------------------------------
 
     @Test
@@ -167,4 +196,114 @@ public class TestScheduleManager extends ScheduleManager {
             createUniqueRunid("999999");
         });
     }
+
+    // backlog scheduling ------------------------------------------------------
+
+    @Test
+    public void testBacklogOrder() throws ExecStoppedException, ScheduleManagerException {
+        submit("RUNC", 'C');
+        submit("RUNA", 'A');
+        submit("RUNB", 'B');
+        submit("RUNAA", 'A');
+        setHoldCondition(submit("RUNAB", 'A'), ControlStatementRun.HoldCondition.IndividualHold);
+
+        var backlog = getBacklogRuns().stream().map(Run::getActualRunId).toList();
+        assertEquals(List.of("RUNA", "RUNAA", "RUNAB", "RUNB", "RUNC"), backlog);
+    }
+
+    @Test
+    public void testOpenOnSubmit() throws Exception {
+        boot(true);
+        try {
+            var run = submit("NOW", 'M');
+            assertSame(run, awaitOpened());
+            assertEquals(1, getOpenBatchJobCount());
+            assertTrue(getBacklogRuns().isEmpty());
+            assertSame(run, getRun("now"));
+        } finally {
+            stop();
+        }
+    }
+
+    @Test
+    public void testGeneralHold() throws Exception {
+        boot(false);
+        try {
+            var run = submit("HELD", 'A');
+            assertNull(pollOpened());
+            setGeneralHold(false);
+            assertSame(run, awaitOpened());
+        } finally {
+            stop();
+        }
+    }
+
+    @Test
+    public void testHoldCondition() throws Exception {
+        boot(false);
+        try {
+            var held = submit("HELD", 'A');
+            setHoldCondition(held, ControlStatementRun.HoldCondition.FinStatementHold);
+            var other = submit("OTHER", 'Z');
+            setGeneralHold(false);
+
+            assertSame(other, awaitOpened());
+            assertNull(pollOpened());
+            clearHoldCondition(held, ControlStatementRun.HoldCondition.FinStatementHold);
+            assertSame(held, awaitOpened());
+        } finally {
+            stop();
+        }
+    }
+
+    @Test
+    public void testMaxBatchJobs() throws Exception {
+        boot(true);
+        try {
+            setMaxBatchJobs(1);
+            var first = submit("FIRST", 'A');
+            var second = submit("SECOND", 'A');
+            assertSame(first, awaitOpened());
+            assertNull(pollOpened());
+
+            setMaxBatchJobs(2);
+            assertSame(second, awaitOpened());
+            assertEquals(2, getOpenBatchJobCount());
+        } finally {
+            stop();
+        }
+    }
+
+    @Test
+    public void testLargeBacklog() throws Exception {
+        boot(false);
+        try {
+            var random = new Random(2200);
+            var count = 5000;
+            for (int rx = 0; rx < count; rx++) {
+                submit(String.format("R%05d", rx), (char) ('A' + random.nextInt(26)));
+            }
+            assertEquals(count, getBacklogRuns().size());
+
+            setMaxBatchJobs(4);
+            setGeneralHold(false);
+
+            // open runs as others terminate, and make sure they come out in scheduling order
+            var opened = new ArrayList<BatchRun>();
+            while (opened.size() < count) {
+                var run = awaitOpened();
+                assertNotNull(run);
+                assertTrue(getOpenBatchJobCount() <= 4);
+                opened.add(run);
+                batchRunTerminated(run);
+            }
+
+            for (int rx = 1; rx < count; rx++) {
+                assertTrue(BACKLOG_ORDER.compare(opened.get(rx - 1), opened.get(rx)) < 0);
+            }
+            assertTrue(getBacklogRuns().isEmpty());
+        } finally {
+            stop();
+        }
+    }
 }
@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2018-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.kexec.symbionts;
+
+import com.bearsnake.komodo.baselib.ArraySlice;
+import com.bearsnake.komodo.baselib.Word36;
+import com.bearsnake.komodo.hardwarelib.IoFunction;
+import com.bearsnake.komodo.hardwarelib.IoStatus;
+import com.bearsnake.komodo.hardwarelib.devices.FileSystemPrinterDevice;
+import com.bearsnake.komodo.hardwarelib.devices.SymbiontIoPacket;
+import com.bearsnake.komodo.kexec.exceptions.EndOfFileException;
+import com.bearsnake.komodo.kexec.exceptions.ExecIOException;
+import com.bearsnake.komodo.kexec.exceptions.ExecStoppedException;
+import com.bearsnake.komodo.kexec.exec.ERIO$Status;
+import com.bearsnake.komodo.kexec.exec.Exec;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestSymbiontFileReader {
+
+    private static final int BUFFER_SIZE = 224;
+
+    @BeforeAll
+    public static void setup() {
+        new Exec(new boolean[36]);
+    }
+
+    private static String imageText(final int index) {
+        return String.format("LINE %06d %s", index, "*".repeat(index % 97)).trim();
+    }
+
+    /**
+     * Builds an ASCII SDF file of the given number of data images, padded out to a whole number of sectors
+     */
+    private static long[] newSDFFile(final int imageCount) {
+        var words = new LinkedList<Long>();
+        words.add(0_500116_000001L);
+        words.add(Word36.stringToWordFieldata("*SDFF*"));
+        for (int ix = 0; ix < imageCount; ix++) {
+            var data = ArraySlice.stringToWord36ASCII(imageText(ix))._array;
+            words.add(((long) data.length << 24) | (1L << 12) | 01);
+            for (var w : data) {
+                words.add(w);
+            }
+        }
+        words.add(0_770000_000000L);
+
+        var sectorCount = (words.size() + 27) / 28;
+        var image = new long[sectorCount * 28];
+        int wx = 0;
+        for (var w : words) {
+            image[wx++] = w;
+        }
+        return image;
+    }
+
+    private static class FileBlockReader implements SymbiontFileReader.BlockReader {
+
+        private final long[] _file;
+        private final long _latencyNanos;
+        private final long _failingSector;
+        private int _readCount = 0;
+
+        FileBlockReader(final long[] file, final long latencyNanos, final long failingSector) {
+            _file = file;
+            _latencyNanos = latencyNanos;
+            _failingSector = failingSector;
+        }
+
+        @Override
+        public void read(final long sectorAddress, final ArraySlice buffer) throws ExecIOException {
+            if (_latencyNanos > 0) {
+                LockSupport.parkNanos(_latencyNanos);
+            }
+            var sectorCount = buffer.getSize() / 28;
+            if ((_failingSector >= sectorAddress) && (_failingSector < sectorAddress + sectorCount)) {
+                throw new ExecIOException(ERIO$Status.SystemError);
+            }
+            System.arraycopy(_file, (int)(sectorAddress * 28), buffer._array, buffer._offset, buffer.getSize());
+            synchronized (this) {
+                _readCount++;
+            }
+        }
+    }
+
+    private static SymbiontFileReader newReader(final FileBlockReader blockReader, final int readAheadBlocks) {
+        return new SymbiontFileReader(blockReader, 0, blockReader._file.length / 28, BUFFER_SIZE, readAheadBlocks);
+    }
+
+    private static List<String> readAll(final SymbiontFileReader reader) throws ExecStoppedException, ExecIOException {
+        var images = new LinkedList<String>();
+        try {
+            while (true) {
+                images.add(reader.readImage().trim());
+            }
+        } catch (EndOfFileException ex) {
+            return images;
+        }
+    }
+
+    private void checkImages(final int readAheadBlocks) throws ExecStoppedException, ExecIOException {
+        var file = newSDFFile(1000);
+        var blockReader = new FileBlockReader(file, 0, -1);
+        var images = readAll(newReader(blockReader, readAheadBlocks));
+
+        assertEquals(1000, images.size());
+        for (int ix = 0; ix < images.size(); ix++) {
+            assertEquals(imageText(ix), images.get(ix));
+        }
+
+        var sectorCount = file.length / 28;
+        var sectorsPerBlock = BUFFER_SIZE / 28;
+        assertEquals((sectorCount + sectorsPerBlock - 1) / sectorsPerBlock, blockReader._readCount);
+    }
+
+    @Test
+    public void testNoReadAhead() throws ExecStoppedException, ExecIOException {
+        checkImages(0);
+    }
+
+    @Test
+    public void testReadAhead() throws ExecStoppedException, ExecIOException {
+        checkImages(SymbiontFileReader.DEFAULT_READ_AHEAD_BLOCKS);
+    }
+
+    @Test
+    public void testDeepReadAhead() throws ExecStoppedException, ExecIOException {
+        checkImages(8);
+    }
+
+    @Test
+    public void testEmptyFile() throws ExecStoppedException, ExecIOException {
+        var reader = new SymbiontFileReader(new FileBlockReader(new long[0], 0, -1), 0, 0, BUFFER_SIZE, 2);
+        assertThrows(EndOfFileException.class, reader::readImage);
+    }
+
+    private void checkReadError(final int readAheadBlocks) throws ExecStoppedException, EndOfFileException {
+        // the error is reported when the consumer reaches the failing block, not when it is read ahead
+        var file = newSDFFile(1000);
+        var failingSector = 40L;
+        var reader = newReader(new FileBlockReader(file, 0, failingSector), readAheadBlocks);
+
+        var imageCount = 0;
+        try {
+            while (true) {
+                assertEquals(imageText(imageCount), reader.readImage().trim());
+                imageCount++;
+            }
+        } catch (ExecIOException ex) {
+            assertEquals(ERIO$Status.SystemError, ex.getIoStatus());
+        }
+
+        var sectorsPerBlock = BUFFER_SIZE / 28;
+        var failingBlockStart = (failingSector / sectorsPerBlock) * sectorsPerBlock * 28;
+        var expected = 0;
+        var wx = 2;
+        while (wx < failingBlockStart) {
+            wx += 1 + Word36.getT1(file[wx]);
+            if (wx <= failingBlockStart) {
+                expected++;
+            }
+        }
+        assertEquals(expected, imageCount);
+
+        // the failing block is not skipped - reading again reports the same error
+        for (int rx = 0; rx < 3; rx++) {
+            var ex = assertThrows(ExecIOException.class, reader::readImage);
+            assertEquals(ERIO$Status.SystemError, ex.getIoStatus());
+        }
+    }
+
+    @Test
+    public void testReadError() throws ExecStoppedException, EndOfFileException {
+        checkReadError(0);
+    }
+
+    @Test
+    public void testReadAheadError() throws ExecStoppedException, EndOfFileException {
+        checkReadError(4);
+    }
+
+    @Test
+    public void testCloseAfterError() throws ExecStoppedException, EndOfFileException {
+        var file = newSDFFile(1000);
+        var reader = newReader(new FileBlockReader(file, 0, 0), 2);
+        assertThrows(ExecIOException.class, reader::readImage);
+
+        reader.close();
+        assertThrows(EndOfFileException.class, reader::readImage);
+    }
+
+    @Test
+    public void testCloseCancelsReadAhead() throws ExecStoppedException, ExecIOException, EndOfFileException,
+                                                   InterruptedException {
+        // reads after the first block wait until they are interrupted, so they are still in flight when we close
+        var file = newSDFFile(1000);
+        var readAheadBlocks = 2;
+        var started = new CountDownLatch(readAheadBlocks);
+        var interrupted = new CountDownLatch(readAheadBlocks);
+        SymbiontFileReader.BlockReader blockReader = (sectorAddress, buffer) -> {
+            if (sectorAddress > 0) {
+                started.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException ex) {
+                    interrupted.countDown();
+                    throw new ExecStoppedException();
+                }
+            }
+            System.arraycopy(file, (int)(sectorAddress * 28), buffer._array, buffer._offset, buffer.getSize());
+        };
+
+        var reader = new SymbiontFileReader(blockReader, 0, file.length / 28, BUFFER_SIZE, readAheadBlocks);
+        assertEquals(imageText(0), reader.readImage().trim());
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        reader.close();
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+        assertThrows(EndOfFileException.class, reader::readImage);
+    }
+
+    /**
+     * Prints the whole file to a file system printer
+     */
+    private static void printFile(
+        final long[] file,
+        final Path directory,
+        final int readAheadBlocks
+    ) throws ExecStoppedException, ExecIOException {
+        var printer = new FileSystemPrinterDevice("PRTTST", directory.toString());
+        printer.setIsReady(true);
+        var packet = new SymbiontIoPacket().setMediaIdentifier("RA" + readAheadBlocks);
+        packet.setFunction(IoFunction.StartFile);
+        printer.performIo(packet);
+        assertEquals(IoStatus.Successful, packet.getStatus());
+
+        var reader = newReader(new FileBlockReader(file, 0, -1), readAheadBlocks);
+        try {
+            while (true) {
+                var image = reader.readImage();
+                packet.setBuffer(ByteBuffer.wrap(image.getBytes())).setSpacing(1);
+                packet.setFunction(IoFunction.Write);
+                printer.performIo(packet);
+                assertEquals(IoStatus.Successful, packet.getStatus());
+            }
+        } catch (EndOfFileException ex) {
+            // done
+        }
+
+        packet.setFunction(IoFunction.WriteEndOfFile);
+        printer.performIo(packet);
+    }
+
+    @Test
+    public void testPrint() throws ExecStoppedException, ExecIOException, IOException {
+        // 50,000 print lines, about 4,000 blocks, with and without read-ahead - timings are in SymbiontReadBenchmark
+        var imageCount = 50000;
+        var file = newSDFFile(imageCount);
+        var directory = Files.createTempDirectory("kexec-print");
+        try {
+            printFile(file, directory, 0);
+            printFile(file, directory, SymbiontFileReader.DEFAULT_READ_AHEAD_BLOCKS);
+
+            try (var files = Files.list(directory)) {
+                var paths = files.toList();
+                assertEquals(2, paths.size());
+                for (var path : paths) {
+                    var lines = Files.readAllLines(path);
+                    assertEquals(imageCount, lines.size());
+                    assertEquals(imageText(imageCount - 1), lines.getLast().trim());
+                }
+            }
+        } finally {
+            try (var files = Files.list(directory)) {
+                for (var path : files.toList()) {
+                    Files.delete(path);
+                }
+            }
+            Files.delete(directory);
+        }
+    }
+}
@@ -20,6 +20,7 @@ import javafx.scene.control.MenuItem;
 import javafx.scene.Scene;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.VBox;
+import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 
 /**
@@ -170,13 +171,24 @@ public class Kute extends Application {
         var startItem = new MenuItem("Start");
         startItem.setOnAction(e -> _terminalStack.getActiveTerminal().startNetworkTrace());
 
+        var startFileItem = new MenuItem("Start to File...");
+        startFileItem.setOnAction(e -> {
+            var chooser = new FileChooser();
+            chooser.setTitle("Network Trace File");
+            chooser.setInitialFileName("kute.trace");
+            var file = chooser.showSaveDialog(_scene.getWindow());
+            if (file != null) {
+                _terminalStack.getActiveTerminal().startNetworkTrace(file.toPath());
+            }
+        });
+
         var stopItem = new MenuItem("Stop");
         stopItem.setOnAction(e -> _terminalStack.getActiveTerminal().stopNetworkTrace());
 
         var pauseItem = new MenuItem("Pause");
         pauseItem.setOnAction(e -> _terminalStack.getActiveTerminal().pauseNetworkTrace());
 
-        menu.getItems().addAll(startItem, stopItem, pauseItem);
+        menu.getItems().addAll(startItem, startFileItem, stopItem, pauseItem);
         menu.setOnShowing(e -> {
             var term = _terminalStack.getActiveTerminal();
             var canStart = false;
@@ -188,6 +200,7 @@ public class Kute extends Application {
                 canStop = term.isTraceActive() || term.isTracePaused();
             }
             startItem.setDisable(!canStart);
+            startFileItem.setDisable(!canStart || term.isTracePaused());
             stopItem.setDisable(!canStop);
             pauseItem.setDisable(!canPause);
         });
@@ -4,16 +4,14 @@
 
 package com.bearsnake.komodo.kutelib;
 
-import com.bearsnake.komodo.kutelib.exceptions.InvalidCharacterException;
 import com.bearsnake.komodo.kutelib.panes.*;
 import com.bearsnake.komodo.netlib.SocketTrace;
 import com.bearsnake.komodo.utslib.*;
 import com.bearsnake.komodo.utslib.exceptions.*;
 import com.bearsnake.komodo.utslib.fields.ExplicitField;
+import com.bearsnake.komodo.utslib.fields.FieldAttributes;
 import com.bearsnake.komodo.utslib.messages.*;
 import com.bearsnake.komodo.utslib.primitives.*;
-import com.bearsnake.komodo.utslib.primitives.PutCharacterDecimalPrimitive;
-import com.bearsnake.komodo.utslib.primitives.PutCharacterHexPrimitive;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonType;
 import javafx.scene.input.KeyCode;
@@ -24,6 +22,7 @@ import java.awt.*;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
 
 import static com.bearsnake.komodo.baselib.Constants.*;
 import static com.bearsnake.komodo.utslib.Constants.ASCII_SOE;
@@ -51,6 +50,12 @@ public class Terminal extends Pane implements UTSSocketListener {
     private EmphasisAction _emphasisAction;
     private boolean _sendColorFccs; // only true if color is supported in settings, and it is not disabled by host
 
+    // Inbound stream processing - these are reused for every message
+    private final PrimitiveParser _primitiveParser = new PrimitiveParser();
+    private final Ingester _ingester = new Ingester();
+    private final UTSByteReader _textReader = new UTSByteReader();
+    private boolean _ingestDone; // set when the host asks for something which ends processing of the current message
+
     public Terminal(final String name,
                     final TerminalSettings terminalSettings,
                     final FontInfo initialFontInfo) {
@@ -418,13 +423,23 @@ public class Terminal extends Pane implements UTSSocketListener {
     }
 
     /**
-     * Starts a new network trace.
+     * Starts a new network trace, held only in memory.
      * @return true if we started a trace, false otherwise
      */
     public boolean startNetworkTrace() {
+        return startNetworkTrace(null);
+    }
+
+    /**
+     * Starts a new network trace (or resumes a paused trace).
+     * @param file if not null, all traffic is also appended to this file in the binary trace format,
+     *             so that a long trace is not limited to what the in-memory trace can hold
+     * @return true if we started a trace, false otherwise
+     */
+    public boolean startNetworkTrace(final Path file) {
         if (_socketHandler != null) {
             if (!_socketHandler.isTraceActive() || _socketHandler.isTracePaused()) {
-                return _socketHandler.traceStart();
+                return _socketHandler.traceStart(file);
             }
         }
 
@@ -1015,153 +1030,174 @@ public class Terminal extends Pane implements UTSSocketListener {
      * Ingests a message from a UTS stream.
      * Calling code strips leading SOH - STX and ending ETX before calling us.
      * There will be no NUL or SYN characters.
+     * The parser decodes primitives in place and hands them to _ingester, so nothing is allocated per primitive.
      */
-    private void ingestMessage(final UTSByteBuffer input)
-        throws UTSException, InvalidCharacterException {
+    private void ingestMessage(final UTSByteReader input) throws UTSException {
         _emphasis.clear();
         _emphasisAction = EmphasisAction.NONE;
+        _ingestDone = false;
         _displayPane.setDeferred(true);
 
-        var forceDone = false;
-        while (!input.atEnd()) {
-            // look for ETX here - we don't expect one, but just in case...
-            if (input.peekNext() == ASCII_ETX) {
-                break;
-            }
+        try {
+            while (!input.atEnd()) {
+                // look for ETX here - we don't expect one, but just in case...
+                if (input.peekNext() == ASCII_ETX) {
+                    break;
+                }
 
-            if (forceDone) {
-                // do not accept any more input
-                _statusPane.setErrorIndicator(true);
-                break;
+                if (_ingestDone) {
+                    // do not accept any more input
+                    _statusPane.setErrorIndicator(true);
+                    break;
+                }
+
+                _primitiveParser.parseNext(input, _ingester, _settings.isEmphasisSupported(), _sendColorFccs);
             }
+        } finally {
+            _activeDisplayPane.setDeferred(false);
+        }
+    }
 
-            // Look for a UTS primitive
-            var prim = Primitive.deserializePrimitive(input, _settings.isEmphasisSupported(), _sendColorFccs);
-            if (prim != null) {
-                switch (prim.getType()) {
-                    case ADD_EMPHASIS -> {
-                        if (_settings.isEmphasisSupported()) {
-                            // TODO
-                        }
-                    }
-                    case BACKWARD_TAB -> _activeDisplayPane.tabBackward();
-                    case CLEAR_CHANGED_BITS -> _activeDisplayPane.clearChangedBits();
-                    case CLEAR_FCC -> _activeDisplayPane.fccClear();
-                    case CONTROL_PAGE_ACCESS -> toggleControlPage();
-                    case CREATE_REPLACE_EMPHASIS -> {
-                        if (_settings.isEmphasisSupported()) {
-                            var ePrim = (CreateEmphasisPrimitive) prim;
-                            if (ePrim.allFlagsClear() && (_emphasisAction != EmphasisAction.NONE)) {
-                                _emphasis = null;
-                                _emphasisAction = EmphasisAction.NONE;
-                            } else {
-                                _emphasis = new Emphasis(ePrim.getColumnSeparator(), ePrim.getStrikeThrough(), ePrim.getUnderscore());
-                                _emphasisAction = EmphasisAction.SET;
-                            }
-                        }
-                    }
-                    case CURSOR_POSITION -> {
-                        var cpPrim = (CursorPositionPrimitive) prim;
-                        _activeDisplayPane.setCursorPosition(new Coordinates(cpPrim.getRow(), cpPrim.getColumn()));
-                    }
-                    case CURSOR_TO_HOME -> _activeDisplayPane.cursorToHome();
-                    case DELETE_EMPHASIS -> {
-                        if (_settings.isEmphasisSupported()) {
-                            // TODO
-                        }
-                    }
-                    case DELETE_IN_DISPLAY -> _activeDisplayPane.deleteInDisplay();
-                    case DELETE_IN_LINE -> _activeDisplayPane.deleteInLine();
-                    case DELETE_LINE -> _activeDisplayPane.deleteLine();
-                    case ERASE_DISPLAY -> _activeDisplayPane.eraseDisplay();
-                    case ERASE_TO_END_OF_FIELD -> _activeDisplayPane.eraseToEndOfField(false);
-                    case ERASE_TO_END_OF_LINE -> _activeDisplayPane.eraseToEndOfLine(false);
-                    case ERASE_UNPROTECTED_DATA -> _activeDisplayPane.eraseUnprotectedData();
-                    case FCC_SEQUENCE -> {
-                        var fPrim = (FCCSequencePrimitive) prim;
-                        var coord = new Coordinates(fPrim.getRow(), fPrim.getColumn());
-                        _activeDisplayPane.setCursorPosition(coord);
-                        _activeDisplayPane.putFCC(fPrim.getAttributes());
-                    }
-                    case IMMEDIATE_FCC_SEQUENCE -> {
-                        var fPrim = (ImmediateFCCSequencePrimitive) prim;
-                        _activeDisplayPane.putFCC(fPrim.getAttributes());
-                    }
-                    case INSERT_IN_DISPLAY -> _activeDisplayPane.insertInDisplay();
-                    case INSERT_IN_LINE -> _activeDisplayPane.insertInLine();
-                    case INSERT_LINE -> _activeDisplayPane.insertLine();
-                    case LINE_DUPLICATION -> _activeDisplayPane.duplicateLine();
-                    case LOCK_KEYBOARD -> _statusPane.setKeyboardLocked(true);
-                    case PRINT_ALL -> printAll();
-                    case PRINT_FORM -> printForm();
-                    case PRINT_TRANSPARENT -> printTransparent();
-                    case PUT_DECIMAL -> {
-                        var pPrim = (PutCharacterDecimalPrimitive) prim;
-                        _activeDisplayPane.putCharacter(pPrim.getValue(), _emphasisAction, _emphasis);
+    /**
+     * Applies the primitives and characters of an inbound stream to the terminal, as they are parsed.
+     */
+    private class Ingester implements PrimitiveVisitor {
+
+        private final Coordinates _coordinates = new Coordinates(1, 1);
+
+        @Override
+        public void visitPrimitive(final PrimitiveType type) {
+            switch (type) {
+                case ADD_EMPHASIS -> {
+                    if (_settings.isEmphasisSupported()) {
+                        // TODO
                     }
-                    case PUT_ESCAPE -> _activeDisplayPane.putCharacter(ASCII_ESC, _emphasisAction, _emphasis);
-                    case PUT_HEXADECIMAL -> {
-                        var pPrim = (PutCharacterHexPrimitive) prim;
-                        _activeDisplayPane.putCharacter(pPrim.getValue(), _emphasisAction, _emphasis);
+                }
+                case BACKWARD_TAB -> _activeDisplayPane.tabBackward();
+                case CLEAR_CHANGED_BITS -> _activeDisplayPane.clearChangedBits();
+                case CLEAR_FCC -> _activeDisplayPane.fccClear();
+                case CONTROL_PAGE_ACCESS -> toggleControlPage();
+                case CURSOR_TO_HOME -> _activeDisplayPane.cursorToHome();
+                case DELETE_EMPHASIS -> {
+                    if (_settings.isEmphasisSupported()) {
+                        // TODO
                     }
-                    case REPORT_COLOR_FCC_DISABLE -> {
-                        if (_settings.isColorSupported()) {
-                            _sendColorFccs = false;
-                        }
+                }
+                case DELETE_IN_DISPLAY -> _activeDisplayPane.deleteInDisplay();
+                case DELETE_IN_LINE -> _activeDisplayPane.deleteInLine();
+                case DELETE_LINE -> _activeDisplayPane.deleteLine();
+                case ERASE_DISPLAY -> _activeDisplayPane.eraseDisplay();
+                case ERASE_TO_END_OF_FIELD -> _activeDisplayPane.eraseToEndOfField(false);
+                case ERASE_TO_END_OF_LINE -> _activeDisplayPane.eraseToEndOfLine(false);
+                case ERASE_UNPROTECTED_DATA -> _activeDisplayPane.eraseUnprotectedData();
+                case INSERT_IN_DISPLAY -> _activeDisplayPane.insertInDisplay();
+                case INSERT_IN_LINE -> _activeDisplayPane.insertInLine();
+                case INSERT_LINE -> _activeDisplayPane.insertLine();
+                case LINE_DUPLICATION -> _activeDisplayPane.duplicateLine();
+                case LOCK_KEYBOARD -> _statusPane.setKeyboardLocked(true);
+                case PRINT_ALL -> printAll();
+                case PRINT_FORM -> printForm();
+                case PRINT_TRANSPARENT -> printTransparent();
+                case PUT_ESCAPE -> _activeDisplayPane.putCharacter(ASCII_ESC, _emphasisAction, _emphasis);
+                case REPORT_COLOR_FCC_DISABLE -> {
+                    if (_settings.isColorSupported()) {
+                        _sendColorFccs = false;
                     }
-                    case REPORT_COLOR_FCC_ENABLE -> {
-                        if (_settings.isColorSupported()) {
-                            _sendColorFccs = true;
-                        }
+                }
+                case REPORT_COLOR_FCC_ENABLE -> {
+                    if (_settings.isColorSupported()) {
+                        _sendColorFccs = true;
                     }
-                    case SCAN_DOWN -> _activeDisplayPane.scanDown();
-                    case SCAN_LEFT -> _activeDisplayPane.scanLeft();
-                    case SCAN_RIGHT -> _activeDisplayPane.scanRight();
-                    case SCAN_UP -> _activeDisplayPane.scanUp();
-                    case SEND_CURSOR_ADDRESS -> {
-                        try {
-                            if (!controlPageIsActive()) {
-                                var msg = new CursorPositionMessage(_activeDisplayPane.getCursorPosition());
-                                _socketHandler.write(msg);
-                                _statusPane.setKeyboardLocked(true);
-                                forceDone = true;
-                            }
-                        } catch (IOException ex) {
-                            disconnect(false);
-                            IO.println("Cannot send cursor position: " + ex.getMessage());
+                }
+                case SCAN_DOWN -> _activeDisplayPane.scanDown();
+                case SCAN_LEFT -> _activeDisplayPane.scanLeft();
+                case SCAN_RIGHT -> _activeDisplayPane.scanRight();
+                case SCAN_UP -> _activeDisplayPane.scanUp();
+                case SEND_CURSOR_ADDRESS -> {
+                    try {
+                        if (!controlPageIsActive()) {
+                            var msg = new CursorPositionMessage(_activeDisplayPane.getCursorPosition());
+                            _socketHandler.write(msg);
+                            _statusPane.setKeyboardLocked(true);
+                            _ingestDone = true;
                         }
+                    } catch (IOException ex) {
+                        disconnect(false);
+                        IO.println("Cannot send cursor position: " + ex.getMessage());
                     }
-                    case TAB_SET -> _activeDisplayPane.putCharacter(ASCII_HT, _emphasisAction, _emphasis);
-                    case TRANSFER_CHANGED_FIELDS -> {}//TODO
-                    case TRANSFER_ALL_FIELDS -> {}//TODO
-                    case TRANSFER_VARIABLE_FIELDS -> {}//TODO
-                    case TRANSMIT_ALL_FIELDS -> transmit(TransmitMode.ALL);
-                    case TRANSMIT_CHANGED_FIELDS -> transmit(TransmitMode.CHANGED);
-                    case TRANSMIT_VARIABLE_FIELDS -> transmit(TransmitMode.VARIABLE);
-                    case UNLOCK_KEYBOARD -> _statusPane.setKeyboardLocked(false);
                 }
-            } else {
-                // Not a primitive - it's probably some basic printable (or translatable) character
-                var ch = input.getNext();
-                switch (ch) {
-                    case ASCII_HT -> _activeDisplayPane.tabForward();
-                    case ASCII_CR -> _activeDisplayPane.cursorReturn();
-                    case ASCII_SUB -> _activeDisplayPane.putCharacter(ASCII_SUB, _emphasisAction, _emphasis);
-                    case ASCII_FS -> _activeDisplayPane.putCharacter(ASCII_FS, _emphasisAction, _emphasis);
-                    case ASCII_GS -> _activeDisplayPane.putCharacter(ASCII_GS, _emphasisAction, _emphasis);
-                    case ASCII_SOE -> _activeDisplayPane.putCharacter(ASCII_SOE, _emphasisAction, _emphasis);
-                    default -> {
-                        if (ch >= ASCII_SP) {
-                            _activeDisplayPane.putCharacter(ch, _emphasisAction, _emphasis);
-                        } else {
-                            throw new InvalidCharacterException(ch);
-                        }
+                case TAB_SET -> _activeDisplayPane.putCharacter(ASCII_HT, _emphasisAction, _emphasis);
+                case TRANSFER_CHANGED_FIELDS -> {}//TODO
+                case TRANSFER_ALL_FIELDS -> {}//TODO
+                case TRANSFER_VARIABLE_FIELDS -> {}//TODO
+                case TRANSMIT_ALL_FIELDS -> transmit(TransmitMode.ALL);
+                case TRANSMIT_CHANGED_FIELDS -> transmit(TransmitMode.CHANGED);
+                case TRANSMIT_VARIABLE_FIELDS -> transmit(TransmitMode.VARIABLE);
+                case UNLOCK_KEYBOARD -> _statusPane.setKeyboardLocked(false);
+                default -> {} // the remaining types carry values, and arrive via the other visit methods
+            }
+        }
+
+        /**
+         * Not a primitive - it's probably some basic printable (or translatable) character
+         */
+        @Override
+        public void visitCharacter(final byte ch) throws UTSInvalidCharacterException {
+            switch (ch) {
+                case ASCII_HT -> _activeDisplayPane.tabForward();
+                case ASCII_CR -> _activeDisplayPane.cursorReturn();
+                case ASCII_SUB -> _activeDisplayPane.putCharacter(ASCII_SUB, _emphasisAction, _emphasis);
+                case ASCII_FS -> _activeDisplayPane.putCharacter(ASCII_FS, _emphasisAction, _emphasis);
+                case ASCII_GS -> _activeDisplayPane.putCharacter(ASCII_GS, _emphasisAction, _emphasis);
+                case ASCII_SOE -> _activeDisplayPane.putCharacter(ASCII_SOE, _emphasisAction, _emphasis);
+                default -> {
+                    if (ch >= ASCII_SP) {
+                        _activeDisplayPane.putCharacter(ch, _emphasisAction, _emphasis);
+                    } else {
+                        throw new UTSInvalidCharacterException(ch);
                     }
                 }
             }
         }
 
-        _activeDisplayPane.setDeferred(false);
+        @Override
+        public void visitCreateEmphasis(final byte code) {
+            if (_settings.isEmphasisSupported()) {
+                _emphasis.setCode(code);
+                if (_emphasis.allFlagsClear() && (_emphasisAction != EmphasisAction.NONE)) {
+                    _emphasisAction = EmphasisAction.NONE;
+                } else {
+                    _emphasisAction = EmphasisAction.SET;
+                }
+            }
+        }
+
+        @Override
+        public void visitCursorPosition(final int row,
+                                        final int column) {
+            _coordinates.setRow(row);
+            _coordinates.setColumn(column);
+            _activeDisplayPane.setCursorPosition(_coordinates);
+        }
+
+        @Override
+        public void visitFCCSequence(final int row,
+                                     final int column,
+                                     final FieldAttributes attributes) {
+            visitCursorPosition(row, column);
+            _activeDisplayPane.putFCC(attributes.copy());
+        }
+
+        @Override
+        public void visitImmediateFCCSequence(final FieldAttributes attributes) {
+            _activeDisplayPane.putFCC(attributes.copy());
+        }
+
+        @Override
+        public void visitPutCharacter(final PrimitiveType type,
+                                      final byte value) {
+            _activeDisplayPane.putCharacter(value, _emphasisAction, _emphasis);
+        }
     }
 
     // TODO obsolete after we incorporate it above
@@ -1200,12 +1236,8 @@ public class Terminal extends Pane implements UTSSocketListener {
                 // ignore this
             }
             case TextMessage tm -> {
-                try {
-                    ingestMessage(tm.unwrap());
-                } catch (InvalidCharacterException | UTSException ex) {
-                    System.out.println("Error in input stream:" + ex.getMessage());
-                    _statusPane.setErrorIndicator(true);
-                }
+                var stream = tm.getStream();
+                socketTextReceived(handler, _textReader.load(stream, 2, stream.length - 3));
             }
             case null, default -> {
                 // Anything else is an error. Handle it.
@@ -1215,6 +1247,21 @@ public class Terminal extends Pane implements UTSSocketListener {
         }
     }
 
+    /**
+     * Handles UTS text directly from the socket handler's buffer, without it first being wrapped in a TextMessage.
+     */
+    @Override
+    public synchronized boolean socketTextReceived(final UTSSocketHandler handler,
+                                                   final UTSByteReader text) {
+        try {
+            ingestMessage(text);
+        } catch (UTSException ex) {
+            System.out.println("Error in input stream:" + ex.getMessage());
+            _statusPane.setErrorIndicator(true);
+        }
+        return true;
+    }
+
     @Override
     public void socketTrafficTraced(final UTSSocketHandler source) {
         _statusPane.notifyTrace();
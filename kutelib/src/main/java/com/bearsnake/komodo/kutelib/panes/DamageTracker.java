@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.kutelib.panes;
+
+import java.util.Arrays;
+
+/*
+ * Remembers what was last painted into each character cell of a DisplayPane, so that a redraw
+ * only touches the cells whose appearance has actually changed.
+ *
+ * The appearance of a cell is reduced to a single long (see packState()) containing the displayed character,
+ * the effective text and background colors, the shading applied to them, and the emphasis lines.
+ * On each redraw the pane computes the current state of every cell (which is cheap) and hands the whole set to us;
+ * we compare against what was painted and report runs of changed, horizontally adjacent cells which share
+ * the same attributes, so that each run can be painted with one fillRect() and one fillText().
+ * Because we compare outcomes rather than tracking individual updates, it does not matter how a cell came to
+ * change - character, emphasis, field attributes, default colors, cursor movement, or blinking.
+ *
+ * Not thread-safe - the owning pane serializes access.
+ */
+class DamageTracker {
+
+    /*
+     * Receives one run of changed cells to be painted
+     */
+    interface RunPainter {
+        void paintRun(final int firstIndex,
+                      final int count);
+    }
+
+    // State layout:
+    //   bits 0-15   displayed character
+    //   bits 16-18  text color (UTSColor ordinal)
+    //   bits 19-21  background color (UTSColor ordinal)
+    //   bits 22-23  shade (number of times both colors are darkened)
+    //   bit  24     column separator
+    //   bit  25     strike-through
+    //   bit  26     underscore
+    private static final int ATTRIBUTE_SHIFT = 16;
+    private static final long CHARACTER_MASK = 0xFFFFL;
+    private static final long UNPAINTED = -1L;
+
+    private long[] _painted;
+    private int _columns;
+
+    // statistics
+    private long _redrawCount;
+    private long _cellsPainted;
+    private long _runsPainted;
+
+    DamageTracker(final DisplayGeometry geometry) {
+        reset(geometry);
+    }
+
+    static long packState(final char ch,
+                          final int textColor,
+                          final int backgroundColor,
+                          final int shade,
+                          final boolean columnSeparator,
+                          final boolean strikeThrough,
+                          final boolean underscore) {
+        return (ch & CHARACTER_MASK)
+            | ((long) textColor << 16)
+            | ((long) backgroundColor << 19)
+            | ((long) shade << 22)
+            | (columnSeparator ? 1L << 24 : 0)
+            | (strikeThrough ? 1L << 25 : 0)
+            | (underscore ? 1L << 26 : 0);
+    }
+
+    static char getCharacter(final long state) { return (char) (state & CHARACTER_MASK); }
+    static int getTextColor(final long state) { return (int) (state >>> 16) & 07; }
+    static int getBackgroundColor(final long state) { return (int) (state >>> 19) & 07; }
+    static int getShade(final long state) { return (int) (state >>> 22) & 03; }
+    static boolean isColumnSeparator(final long state) { return (state & (1L << 24)) != 0; }
+    static boolean isStrikeThrough(final long state) { return (state & (1L << 25)) != 0; }
+    static boolean isUnderscore(final long state) { return (state & (1L << 26)) != 0; }
+
+    long getCellsPainted() { return _cellsPainted; }
+    long getRedrawCount() { return _redrawCount; }
+    long getRunsPainted() { return _runsPainted; }
+
+    /*
+     * Forces the next redraw to paint every cell
+     */
+    void invalidate() {
+        Arrays.fill(_painted, UNPAINTED);
+    }
+
+    /*
+     * Discards all painted state - for when the geometry changes
+     */
+    void reset(final DisplayGeometry geometry) {
+        _columns = geometry.getColumns();
+        _painted = new long[geometry.getCellCount()];
+        invalidate();
+    }
+
+    /*
+     * Compares the given states against what was last painted, invoking the painter for each run of changed cells,
+     * then records the new states as painted.
+     * A run never crosses a row boundary, and all cells in a run share the same attribute bits.
+     * @param states current state for each cell, in display order
+     * @param painter receives the runs
+     * @return number of cells painted
+     */
+    int paint(final long[] states,
+              final RunPainter painter) {
+        _redrawCount++;
+        int painted = 0;
+        for (int rowStart = 0; rowStart < states.length; rowStart += _columns) {
+            var rowEnd = rowStart + _columns;
+            var cx = rowStart;
+            while (cx < rowEnd) {
+                if (states[cx] == _painted[cx]) {
+                    cx++;
+                    continue;
+                }
+
+                var first = cx;
+                var attributes = states[first] >>> ATTRIBUTE_SHIFT;
+                _painted[cx] = states[cx];
+                cx++;
+                while ((cx < rowEnd) && (states[cx] != _painted[cx]) && ((states[cx] >>> ATTRIBUTE_SHIFT) == attributes)) {
+                    _painted[cx] = states[cx];
+                    cx++;
+                }
+
+                painter.paintRun(first, cx - first);
+                painted += cx - first;
+                _runsPainted++;
+            }
+        }
+
+        _cellsPainted += painted;
+        return painted;
+    }
+}
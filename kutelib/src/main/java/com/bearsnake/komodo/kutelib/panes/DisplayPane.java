@@ -14,6 +14,7 @@ import javafx.scene.paint.Color;
 
 import java.io.ByteArrayOutputStream;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.IntStream;
 
 import static com.bearsnake.komodo.baselib.Constants.*;
@@ -39,6 +40,12 @@ public class DisplayPane extends Canvas {
     protected final TreeMap<Coordinates, Field> _fields = new TreeMap<>();
 
     protected boolean _drawDisplayDeferred;
+    private final AtomicBoolean _drawDisplayScheduled = new AtomicBoolean(false);
+
+    // damage tracking - see DamageTracker
+    protected DamageTracker _damageTracker;
+    protected long[] _cellStates;
+    private char[] _runCharacters;
 
     // flashing assistance
     private Timer _blinkTimer;
@@ -132,6 +139,17 @@ public class DisplayPane extends Canvas {
         return ((row - 1) * _geometry.getColumns()) + (column - 1);
     }
 
+    // JavaFX colors for each UTSColor (by ordinal), at each shade level (normal, low intensity, dimmed)
+    private static final Color[][] SHADED_COLORS = new Color[3][UTSColor.values().length];
+    static {
+        for (var color : UTSColor.values()) {
+            var jfxColor = getJavaFXColor(color);
+            SHADED_COLORS[0][color.ordinal()] = jfxColor;
+            SHADED_COLORS[1][color.ordinal()] = jfxColor.darker();
+            SHADED_COLORS[2][color.ordinal()] = jfxColor.darker().darker();
+        }
+    }
+
     public static Color getJavaFXColor(final UTSColor color) {
         return switch (color) {
             case BLACK -> Color.rgb(0, 0, 0);
@@ -166,8 +184,13 @@ public class DisplayPane extends Canvas {
         }
     }
 
+    /*
+     * Arranges for the display to be redrawn on the JavaFX thread.
+     * Requests made while a redraw is already pending are absorbed by that redraw,
+     * so a burst of host output results in one redraw rather than one per update.
+     */
     public void scheduleDrawDisplay() {
-        if (!isDrawDisplayDeferred()) {
+        if (!isDrawDisplayDeferred() && _drawDisplayScheduled.compareAndSet(false, true)) {
             Platform.runLater(this::drawDisplay);
         }
     }
@@ -259,98 +282,65 @@ public class DisplayPane extends Canvas {
     }
 
     /*
-     * Draws the character display.
+     * Determines how the given cell is to appear, and reduces that to a DamageTracker state.
+     */
+    private long computeCellState(final CharacterCell cell,
+                                  final boolean atCursor) {
+        var field = cell.getField();
+        var utsBgColor = field.getBackgroundColor() == null ? _bgColor : field.getBackgroundColor();
+        var utsTextColor = field.getTextColor() == null ? _textColor : field.getTextColor();
+
+        var byteChar = cell.getCharacter();
+        var ch = convertByteToCharacter(byteChar, atCursor);
+        var effectiveBlink = field.isBlinking() || (byteChar == ASCII_FS) || (byteChar == ASCII_GS);
+        if (effectiveBlink && _blinkCharacterFlag) {
+            utsTextColor = utsBgColor;
+        }
+
+        var shade = _dimDisplay ? 2 : (field.getIntensity() == Intensity.LOW ? 1 : 0);
+        if (field.isReverseVideo()) {
+            var temp = utsTextColor;
+            utsTextColor = utsBgColor;
+            utsBgColor = temp;
+        }
+
+        var emphasis = cell.getEmphasis();
+        return DamageTracker.packState(ch,
+                                       utsTextColor.ordinal(),
+                                       utsBgColor.ordinal(),
+                                       shade,
+                                       emphasis.isColumnSeparator(),
+                                       emphasis.isStrikeThrough(),
+                                       emphasis.isUnderscore());
+    }
+
+    /*
+     * Populates _cellStates with the current appearance of every cell on the display.
+     */
+    protected void computeCellStates() {
+        var cursorIndex = getIndex(_cursorPosition);
+        for (int cx = 0; cx < _characterCells.length; cx++) {
+            _cellStates[cx] = computeCellState(_characterCells[cx], cx == cursorIndex);
+        }
+    }
+
+    /*
+     * Draws the character display - or at least, those parts of it which have changed since the last time.
      * Do not invoke this directly - use scheduleDrawDisplay) instead.
      */
     protected synchronized void drawDisplay() {
+        _drawDisplayScheduled.set(false);
         var gcDisplay = getGraphicsContext2D();
         gcDisplay.setFont(_fontInfo.getFont());
 
-        var coord = Coordinates.HOME_POSITION.copy();
-        var cx = 0;
         try {
-            do {
-                var cell = _characterCells[cx];
-                var field = cell.getField();
-                var utsBgColor = field.getBackgroundColor() == null ? _bgColor : field.getBackgroundColor();
-                var utsTextColor = field.getTextColor() == null ? _textColor : field.getTextColor();
-                var intensity = field.getIntensity();
-                var blink = field.isBlinking();
-                var reverse = field.isReverseVideo();
-
-                var byteChar = cell.getCharacter();
-                var atCursor = (coord.getRow() == _cursorPosition.getRow()) && (coord.getColumn() == _cursorPosition.getColumn());
-                var ch = convertByteToCharacter(byteChar, atCursor);
-                var effectiveBlink = blink || (byteChar == ASCII_FS) || (byteChar == ASCII_GS);
-
-                var jfxBgColor = getJavaFXColor(utsBgColor);
-                var jfxTextColor = getJavaFXColor(utsTextColor);
-                if (effectiveBlink && _blinkCharacterFlag) {
-                    jfxTextColor = jfxBgColor;
-                }
-
-                if (_dimDisplay) {
-                    jfxBgColor = jfxBgColor.darker()
-                                           .darker();
-                    jfxTextColor = jfxTextColor.darker()
-                                               .darker();
-                } else if (intensity == Intensity.LOW) {
-                    jfxBgColor = jfxBgColor.darker();
-                    jfxTextColor = jfxTextColor.darker();
-                }
-
-                if (reverse) {
-                    var temp = jfxTextColor;
-                    jfxTextColor = jfxBgColor;
-                    jfxBgColor = temp;
-                }
-
-                // draw background first
-                var x = (coord.getColumn() - 1) * _fontInfo.getCharacterWidth();
-                var yRect = ((coord.getRow() - 1) * _fontInfo.getCharacterHeight());
-                gcDisplay.setFill(jfxBgColor);
-                gcDisplay.fillRect(x, yRect, _fontInfo.getCharacterWidth() + 1, _fontInfo.getCharacterHeight() + 1);
-
-                // now draw text
-                var yText = yRect + _fontInfo.getCharacterHeight() - 4;
-                gcDisplay.setFill(jfxTextColor);// text color
-                gcDisplay.fillText(String.valueOf(ch), x, yText);
-
-                // now draw emphasis (if any)
-                if (cell.getEmphasis()
-                        .isColumnSeparator()) {
-                    gcDisplay.setStroke(jfxTextColor);// text color
-                    gcDisplay.setLineWidth(1.0);
-                    var y = yRect + _fontInfo.getCharacterHeight() - 1;
-                    gcDisplay.strokeLine(x, y, x, yRect);
-                }
-                if (cell.getEmphasis()
-                        .isStrikeThrough()) {
-                    gcDisplay.setStroke(jfxTextColor);// text color
-                    gcDisplay.setLineWidth(1.0);
-                    var y = yRect + (_fontInfo.getCharacterHeight() / 2);
-                    gcDisplay.strokeLine(x, y, x + _fontInfo.getCharacterWidth() - 1, y);
-                }
-                if (cell.getEmphasis()
-                        .isUnderscore()) {
-                    gcDisplay.setStroke(jfxTextColor);// text color
-                    gcDisplay.setLineWidth(1.0);
-                    var y = yRect + _fontInfo.getCharacterHeight() - 1;
-                    gcDisplay.strokeLine(x, y, x + _fontInfo.getCharacterWidth() - 1, y);
-                }
-
-                advanceCoordinates(coord);
-                cx++;
-            } while (!coord.atHome());
+            computeCellStates();
         } catch (Exception ex) {
-            var cxr = cx / _geometry.getColumns() + 1;
-            var cxc = cx % _geometry.getColumns() + 1;
             System.out.println(ex.getMessage());
-            System.out.printf("cx = %d (row %d col %d) coord:%s\n", cx, cxr, cxc, coord);
             var dx = 0;
-            for (var dr = 1; dr < _geometry.getRows(); dr++) {
+            for (var dr = 1; dr <= _geometry.getRows(); dr++) {
                 System.out.printf("%02d:", dr);
-                for (var dc = 1; dc < _geometry.getColumns(); dc++) {
+                for (var dc = 1; dc <= _geometry.getColumns(); dc++) {
                     System.out.printf("%c", _characterCells[dx++].getCharacter());
                 }
                 System.out.println();
@@ -358,14 +348,82 @@ public class DisplayPane extends Canvas {
             for (var f : _fields.values()) {
                 System.out.printf("Fld %s\n", f.toString());
             }
+            return;
         }
+
+        _damageTracker.paint(_cellStates, this::paintRun);
     }
 
+    /*
+     * Paints a run of adjacent cells on one row, all of which share the same colors and emphasis.
+     * Invoked by the damage tracker from within drawDisplay().
+     */
+    private void paintRun(final int firstIndex,
+                          final int count) {
+        var gcDisplay = getGraphicsContext2D();
+        var state = _cellStates[firstIndex];
+        var shade = DamageTracker.getShade(state);
+        var jfxTextColor = SHADED_COLORS[shade][DamageTracker.getTextColor(state)];
+        var jfxBgColor = SHADED_COLORS[shade][DamageTracker.getBackgroundColor(state)];
+
+        var charWidth = _fontInfo.getCharacterWidth();
+        var charHeight = _fontInfo.getCharacterHeight();
+        var x = (firstIndex % _geometry.getColumns()) * charWidth;
+        var yRect = (firstIndex / _geometry.getColumns()) * charHeight;
+
+        // draw background first
+        gcDisplay.setFill(jfxBgColor);
+        gcDisplay.fillRect(x, yRect, count * charWidth, charHeight);
+
+        // now draw text - the font is monospaced, so the whole run goes out in one call
+        for (int cx = 0; cx < count; cx++) {
+            _runCharacters[cx] = DamageTracker.getCharacter(_cellStates[firstIndex + cx]);
+        }
+        var yText = yRect + charHeight - 4;
+        gcDisplay.setFill(jfxTextColor);
+        gcDisplay.fillText(new String(_runCharacters, 0, count), x, yText);
+
+        // now draw emphasis (if any)
+        if (DamageTracker.isColumnSeparator(state)) {
+            gcDisplay.setStroke(jfxTextColor);
+            gcDisplay.setLineWidth(1.0);
+            var y = yRect + charHeight - 1;
+            for (int cx = 0; cx < count; cx++) {
+                var xSep = x + (cx * charWidth);
+                gcDisplay.strokeLine(xSep, y, xSep, yRect);
+            }
+        }
+        if (DamageTracker.isStrikeThrough(state)) {
+            gcDisplay.setStroke(jfxTextColor);
+            gcDisplay.setLineWidth(1.0);
+            var y = yRect + (charHeight / 2);
+            gcDisplay.strokeLine(x, y, x + (count * charWidth) - 1, y);
+        }
+        if (DamageTracker.isUnderscore(state)) {
+            gcDisplay.setStroke(jfxTextColor);
+            gcDisplay.setLineWidth(1.0);
+            var y = yRect + charHeight - 1;
+            gcDisplay.strokeLine(x, y, x + (count * charWidth) - 1, y);
+        }
+    }
+
+    /*
+     * Statistics for the redraw logic - the number of redraws, and the total number of cells painted by them.
+     */
+    public synchronized long getRedrawCount() { return _damageTracker.getRedrawCount(); }
+    public synchronized long getCellsPainted() { return _damageTracker.getCellsPainted(); }
 
     public final synchronized void reconfigure(final DisplayGeometry geometry) {
         _fccEnabledProperty.set(true);
         _geometry = geometry;
         _characterCells = new CharacterCell[_geometry.getCellCount()];
+        _cellStates = new long[_geometry.getCellCount()];
+        _runCharacters = new char[_geometry.getColumns()];
+        if (_damageTracker == null) {
+            _damageTracker = new DamageTracker(_geometry);
+        } else {
+            _damageTracker.reset(_geometry);
+        }
         setHeight(_geometry.getRows() * _fontInfo.getCharacterHeight());
         setWidth(_geometry.getColumns() * _fontInfo.getCharacterWidth());
         reset();
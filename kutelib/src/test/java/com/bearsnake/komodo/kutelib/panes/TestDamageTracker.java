@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2025-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.kutelib.panes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * Headless tests for the redraw logic of DisplayPane - we drive the DamageTracker with cell states
+ * of the sort DisplayPane computes, and count what would have been painted.
+ */
+public class TestDamageTracker {
+
+    private static final int ROWS = 24;
+    private static final int COLUMNS = 80;
+    private static final int GREEN = 2;
+    private static final int BLACK = 0;
+
+    private static long plain(final char ch) {
+        return DamageTracker.packState(ch, GREEN, BLACK, 0, false, false, false);
+    }
+
+    private static long[] blankScreen() {
+        var states = new long[ROWS * COLUMNS];
+        Arrays.fill(states, plain(' '));
+        return states;
+    }
+
+    private static void putText(final long[] states,
+                                final int row,
+                                final int column,
+                                final String text) {
+        var cx = (row - 1) * COLUMNS + (column - 1);
+        for (var ch : text.toCharArray()) {
+            states[cx++] = plain(ch);
+        }
+    }
+
+    private static class RunRecorder implements DamageTracker.RunPainter {
+
+        final LinkedList<int[]> _runs = new LinkedList<>();
+
+        @Override
+        public void paintRun(final int firstIndex, final int count) {
+            _runs.add(new int[]{ firstIndex, count });
+        }
+    }
+
+    @Test
+    public void testPackState() {
+        var state = DamageTracker.packState('█', 7, 4, 2, true, false, true);
+        assertEquals('█', DamageTracker.getCharacter(state));
+        assertEquals(7, DamageTracker.getTextColor(state));
+        assertEquals(4, DamageTracker.getBackgroundColor(state));
+        assertEquals(2, DamageTracker.getShade(state));
+        assertTrue(DamageTracker.isColumnSeparator(state));
+        assertFalse(DamageTracker.isStrikeThrough(state));
+        assertTrue(DamageTracker.isUnderscore(state));
+    }
+
+    @Test
+    public void testInitialPaintIsOneRunPerRow() {
+        var tracker = new DamageTracker(new DisplayGeometry(ROWS, COLUMNS));
+        var recorder = new RunRecorder();
+        assertEquals(ROWS * COLUMNS, tracker.paint(blankScreen(), recorder));
+        assertEquals(ROWS, recorder._runs.size());
+        for (var run : recorder._runs) {
+            assertEquals(0, run[0] % COLUMNS);
+            assertEquals(COLUMNS, run[1]);
+        }
+    }
+
+    @Test
+    public void testNothingChanged() {
+        var tracker = new DamageTracker(new DisplayGeometry(ROWS, COLUMNS));
+        var states = blankScreen();
+        tracker.paint(states, (first, count) -> {});
+        var recorder = new RunRecorder();
+        assertEquals(0, tracker.paint(states, recorder));
+        assertTrue(recorder._runs.isEmpty());
+    }
+
+    @Test
+    public void testChangedTextIsOneRun() {
+        var tracker = new DamageTracker(new DisplayGeometry(ROWS, COLUMNS));
+        var states = blankScreen();
+        tracker.paint(states, (first, count) -> {});
+
+        putText(states, 5, 10, "HELLO WORLD");
+        var recorder = new RunRecorder();
+        // the space in the middle did not change, so we get two runs
+        assertEquals(10, tracker.paint(states, recorder));
+        assertEquals(2, recorder._runs.size());
+        assertArrayEquals(new int[]{ 4 * COLUMNS + 9, 5 }, recorder._runs.get(0));
+        assertArrayEquals(new int[]{ 4 * COLUMNS + 15, 5 }, recorder._runs.get(1));
+    }
+
+    @Test
+    public void testRunsSplitOnAttributes() {
+        var tracker = new DamageTracker(new DisplayGeometry(ROWS, COLUMNS));
+        var states = blankScreen();
+        tracker.paint(states, (first, count) -> {});
+
+        putText(states, 1, 1, "ABCDEF");
+        states[2] = DamageTracker.packState('C', GREEN, BLACK, 1, false, false, false);
+        states[3] = DamageTracker.packState('D', GREEN, BLACK, 0, false, false, true);
+        var recorder = new RunRecorder();
+        assertEquals(6, tracker.paint(states, recorder));
+        assertEquals(4, recorder._runs.size());
+    }
+
+    @Test
+    public void testRunsDoNotWrapRows() {
+        var tracker = new DamageTracker(new DisplayGeometry(ROWS, COLUMNS));
+        var states = blankScreen();
+        tracker.paint(states, (first, count) -> {});
+
+        putText(states, 1, 76, "0123456789");
+        var recorder = new RunRecorder();
+        assertEquals(10, tracker.paint(states, recorder));
+        assertEquals(2, recorder._runs.size());
+    }
+
+    @Test
+    public void testBlinkRepaintsOnlyBlinkingCells() {
+        var tracker = new DamageTracker(new DisplayGeometry(ROWS, COLUMNS));
+        var states = blankScreen();
+        putText(states, 10, 1, "BLINKING");
+        tracker.paint(states, (first, count) -> {});
+
+        // blink-off state hides the text by drawing it in the background color
+        var cx = 9 * COLUMNS;
+        for (int i = 0; i < 8; i++) {
+            var ch = DamageTracker.getCharacter(states[cx + i]);
+            states[cx + i] = DamageTracker.packState(ch, BLACK, BLACK, 0, false, false, false);
+        }
+        var recorder = new RunRecorder();
+        assertEquals(8, tracker.paint(states, recorder));
+        assertEquals(1, recorder._runs.size());
+    }
+
+    @Test
+    public void testInvalidate() {
+        var tracker = new DamageTracker(new DisplayGeometry(ROWS, COLUMNS));
+        var states = blankScreen();
+        tracker.paint(states, (first, count) -> {});
+        tracker.invalidate();
+        assertEquals(ROWS * COLUMNS, tracker.paint(states, (first, count) -> {}));
+    }
+
+    /*
+     * Simulates a host scrolling output onto the screen one line per message, with the cursor following along,
+     * and checks that each message costs about one row of cells (and a handful of fillText() calls)
+     * rather than a full repaint.
+     */
+    @Test
+    public void testCellsRedrawnPerHostMessage() {
+        final int messages = 10000;
+        var tracker = new DamageTracker(new DisplayGeometry(ROWS, COLUMNS));
+        var states = blankScreen();
+        tracker.paint(states, (first, count) -> {});
+        var initialCells = tracker.getCellsPainted();
+        var initialRuns = tracker.getRunsPainted();
+
+        var cursor = DamageTracker.packState('█', GREEN, BLACK, 0, false, false, false);
+        var cursorIndex = 0;
+        for (int mx = 0; mx < messages; mx++) {
+            var row = (mx % ROWS) + 1;
+            states[cursorIndex] = plain(' ');
+            putText(states, row, 1, String.format("%-72s%08d", "LINE OF HOST OUTPUT " + mx, mx));
+            cursorIndex = (row % ROWS) * COLUMNS;
+            states[cursorIndex] = cursor;
+            tracker.paint(states, (first, count) -> {});
+        }
+
+        var cells = tracker.getCellsPainted() - initialCells;
+        var runs = tracker.getRunsPainted() - initialRuns;
+        double cellsPerMessage = (double) cells / messages;
+        double runsPerMessage = (double) runs / messages;
+        assertTrue(cellsPerMessage >= 2);
+        assertTrue(cellsPerMessage <= COLUMNS + 2);
+        assertTrue(runsPerMessage <= 8);
+    }
+}
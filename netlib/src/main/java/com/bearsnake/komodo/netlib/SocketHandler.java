@@ -5,6 +5,7 @@ package com.bearsnake.komodo.netlib;/*
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
 
 /**
  * Wraps a SocketChannel for simplifying the processing of handling UTS-like network communication.
@@ -24,6 +25,7 @@ public class SocketHandler extends Thread {
     private boolean _terminate = false;
 
     private SocketTrace _currentTrace = null;
+    private SocketTraceWriter _currentTraceWriter = null;
     private boolean _isTracePaused = false;
 
     /**
@@ -95,6 +97,17 @@ public class SocketHandler extends Thread {
      * @return true if we started or resumed a trace, false otherwise
      */
     public synchronized boolean traceStart() {
+        return traceStart(null);
+    }
+
+    /**
+     * Starts a new trace, or resumes a paused trace.
+     * If a new trace is started and a file is specified, all traffic is also appended to that file
+     * in the binary format described by SocketTraceFile, so that the trace is not limited to what can be held in memory.
+     * @param file trace file, or null to trace only to memory
+     * @return true if we started or resumed a trace, false otherwise
+     */
+    public synchronized boolean traceStart(final Path file) {
         if (_currentTrace != null) {
             if (_isTracePaused) {
                 _isTracePaused = false;
@@ -107,6 +120,16 @@ public class SocketHandler extends Thread {
             }
         } else {
             _currentTrace = new SocketTrace();
+            if (file != null) {
+                try {
+                    _currentTraceWriter = new SocketTraceWriter(file);
+                    _currentTrace.setWriter(_currentTraceWriter);
+                } catch (IOException ex) {
+                    IO.println("Cannot open trace file " + file + ":" + ex.getMessage());
+                    _currentTrace = null;
+                    return false;
+                }
+            }
             _isTracePaused = false;
             if (_listener != null) {
                 _listener.socketTraceStateChanged(this);
@@ -126,6 +149,15 @@ public class SocketHandler extends Thread {
             var trace = _currentTrace;
             _currentTrace = null;
             _isTracePaused = false;
+            if (_currentTraceWriter != null) {
+                trace.setWriter(null);
+                try {
+                    _currentTraceWriter.close();
+                } catch (IOException ex) {
+                    IO.println("Error writing trace file " + _currentTraceWriter.getPath() + ":" + ex.getMessage());
+                }
+                _currentTraceWriter = null;
+            }
             if (_listener != null) {
                 _listener.socketTraceStateChanged(this);
             }
@@ -144,10 +176,7 @@ public class SocketHandler extends Thread {
         boolean traced = false;
         synchronized (this) {
             if (_currentTrace != null && !_isTracePaused) {
-                byte[] data = new byte[buffer.remaining()];
-                buffer.get(data);
-                _currentTrace.addEntry(SocketTrace.Source.LOCAL, data);
-                buffer.position(0);
+                _currentTrace.addEntry(SocketTrace.Source.LOCAL, buffer);
                 traced = true;
             }
         }
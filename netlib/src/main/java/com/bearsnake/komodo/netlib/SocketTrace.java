@@ -14,19 +14,19 @@ import tools.jackson.databind.annotation.JsonSerialize;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.LinkedList;
 
 public class SocketTrace {
 
+    private static final HexFormat HEX_FORMAT = HexFormat.of().withUpperCase();
+
     public static class HexSerializer extends ValueSerializer<byte[]> {
         @Override
         public void serialize(byte[] value, JsonGenerator gen, SerializationContext ctxt) throws JacksonException {
-            StringBuilder sb = new StringBuilder();
-            for (byte b : value) {
-                sb.append(String.format("%02X", b));
-            }
-            gen.writeString(sb.toString());
+            gen.writeString(HEX_FORMAT.formatHex(value));
         }
     }
 
@@ -37,11 +37,7 @@ public class SocketTrace {
             if (s == null || s.isEmpty()) {
                 return new byte[0];
             }
-            byte[] bytes = new byte[s.length() / 2];
-            for (int i = 0; i < bytes.length; i++) {
-                bytes[i] = (byte) Integer.parseInt(s.substring(i * 2, i * 2 + 2), 16);
-            }
-            return bytes;
+            return HEX_FORMAT.parseHex(s);
         }
     }
 
@@ -65,12 +61,6 @@ public class SocketTrace {
             _timestamp = timestamp;
         }
 
-        private Entry(final Source source, final byte[] data) {
-            _timestamp = System.currentTimeMillis();
-            _source = source;
-            _data = data;
-        }
-
         @JsonProperty("timestamp")
         public long getTimestamp() { return _timestamp; }
 
@@ -82,23 +72,38 @@ public class SocketTrace {
         public byte[] getData() { return _data; }
     }
 
-    private final LinkedList<Entry> _entries = new LinkedList<>();
-    private int _maxEntries = DEFAULT_MAX_ENTRIES;
+    // Entries are kept in a ring of parallel arrays, oldest first starting at _first.
+    // Slot data arrays are retained and reused as the ring wraps, so that a long-running trace
+    // does not allocate for every packet which goes by - they are only replaced when too small.
+    private long[] _timestamps;
+    private Source[] _sources;
+    private byte[][] _data;
+    private int[] _lengths;
+    private int _first = 0;
+    private int _count = 0;
+    private int _maxEntries;
+    private SocketTraceWriter _writer = null;
 
     @JsonCreator
     public SocketTrace(@JsonProperty("maxEntries") int maxEntries,
                        @JsonProperty("entries") LinkedList<Entry> entries) {
+        var size = (entries == null) ? 0 : entries.size();
         _maxEntries = maxEntries;
+        allocate(Math.max(Math.max(maxEntries, size), 1));
         if (entries != null) {
-            _entries.addAll(entries);
+            for (var entry : entries) {
+                store(entry.getTimestamp(), entry.getSource(), entry.getData(), 0, entry.getData().length);
+            }
         }
     }
 
     public SocketTrace() {
+        _maxEntries = DEFAULT_MAX_ENTRIES;
+        allocate(_maxEntries);
     }
 
     @JsonProperty("maxEntries")
-    public int getMaxEntries() {
+    public synchronized int getMaxEntries() {
         return _maxEntries;
     }
 
@@ -111,50 +116,133 @@ public class SocketTrace {
     public static final int MIN_MAX_ENTRIES = 100;
     public static final int MAX_MAX_ENTRIES = 10000;
 
+    private void allocate(final int capacity) {
+        _timestamps = new long[capacity];
+        _sources = new Source[capacity];
+        _data = new byte[capacity][];
+        _lengths = new int[capacity];
+        _first = 0;
+        _count = 0;
+    }
+
+    /**
+     * Places an entry in the ring, overwriting the oldest entry if the ring is full.
+     */
+    private void store(final long timestamp,
+                       final Source source,
+                       final byte[] data,
+                       final int offset,
+                       final int length) {
+        var capacity = _timestamps.length;
+        int slot;
+        if (_count < capacity) {
+            slot = (_first + _count) % capacity;
+            _count++;
+        } else {
+            slot = _first;
+            _first = (_first + 1) % capacity;
+        }
+
+        if ((_data[slot] == null) || (_data[slot].length < length)) {
+            _data[slot] = new byte[length];
+        }
+        System.arraycopy(data, offset, _data[slot], 0, length);
+        _timestamps[slot] = timestamp;
+        _sources[slot] = source;
+        _lengths[slot] = length;
+    }
+
     public void addEntry(final Source source,
                          final byte[] data) {
-        synchronized (_entries) {
-            _entries.add(new Entry(source, data.clone()));
-            while (_entries.size() > _maxEntries) {
-                _entries.removeFirst();
-            }
+        addEntry(source, data, 0, data.length);
+    }
+
+    public synchronized void addEntry(final Source source,
+                                      final byte[] data,
+                                      final int offset,
+                                      final int length) {
+        var timestamp = System.currentTimeMillis();
+        store(timestamp, source, data, offset, length);
+        if (_writer != null) {
+            _writer.append(timestamp, source, data, offset, length);
         }
     }
 
+    /**
+     * Adds an entry containing the remaining content of the buffer, without disturbing the buffer's position.
+     */
     public void addEntry(final Source source,
-                         final byte[] data,
-                         final int offset,
-                         final int length) {
-        synchronized (_entries) {
-            _entries.add(new Entry(source, Arrays.copyOfRange(data, offset, length)));
-            while (_entries.size() > _maxEntries) {
-                _entries.removeFirst();
-            }
+                         final ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            addEntry(source, buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        } else {
+            var data = new byte[buffer.remaining()];
+            buffer.get(buffer.position(), data);
+            addEntry(source, data);
         }
     }
 
-    public void setMaxEntries(int maxEntries) {
+    /**
+     * Sets the number of entries retained in memory, discarding the oldest entries if necessary.
+     */
+    public synchronized void setMaxEntries(int maxEntries) {
         if (maxEntries < MIN_MAX_ENTRIES) {
             maxEntries = MIN_MAX_ENTRIES;
         } else if (maxEntries > MAX_MAX_ENTRIES) {
             maxEntries = MAX_MAX_ENTRIES;
         }
 
-        synchronized (_entries) {
-            _maxEntries = maxEntries;
-            while (_entries.size() > _maxEntries) {
-                _entries.removeFirst();
+        if (maxEntries != _timestamps.length) {
+            var timestamps = _timestamps;
+            var sources = _sources;
+            var data = _data;
+            var lengths = _lengths;
+            var oldFirst = _first;
+            var oldCount = _count;
+            var skip = Math.max(0, oldCount - maxEntries);
+
+            allocate(maxEntries);
+            for (int ex = skip; ex < oldCount; ex++) {
+                var slot = (oldFirst + ex) % timestamps.length;
+                _timestamps[_count] = timestamps[slot];
+                _sources[_count] = sources[slot];
+                _data[_count] = data[slot];
+                _lengths[_count] = lengths[slot];
+                _count++;
             }
         }
+        _maxEntries = maxEntries;
     }
 
-    public LinkedList<Entry> getEntries() {
-        synchronized (_entries) {
-            return new LinkedList<>(_entries);
+    /**
+     * Attaches a writer to which all subsequent entries are also appended, or detaches the current writer
+     * if the argument is null. The caller remains responsible for closing the writer.
+     */
+    public synchronized void setWriter(final SocketTraceWriter writer) {
+        _writer = writer;
+    }
+
+    /**
+     * Returns a copy of the entries currently retained in memory, oldest first
+     */
+    public synchronized LinkedList<Entry> getEntries() {
+        var result = new LinkedList<Entry>();
+        var capacity = _timestamps.length;
+        for (int ex = 0; ex < _count; ex++) {
+            var slot = (_first + ex) % capacity;
+            result.add(new Entry(_sources[slot], Arrays.copyOf(_data[slot], _lengths[slot]), _timestamps[slot]));
         }
+        return result;
     }
 
+    /**
+     * Loads a trace from either a JSON file as written by saveToFile(), or a binary trace file
+     * as written by SocketTraceWriter.
+     */
     public static SocketTrace loadFromFile(File file) throws IOException {
+        if (SocketTraceFile.isTraceFile(file.toPath())) {
+            return SocketTraceFile.read(file.toPath());
+        }
         ObjectMapper mapper = new ObjectMapper();
         return mapper.readValue(file, SocketTrace.class);
     }
@@ -0,0 +1,114 @@
+package com.bearsnake.komodo.netlib;/*
+ * Copyright (c) 2025-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedList;
+
+/**
+ * Describes, and reads, the binary trace file format written by SocketTraceWriter.
+ * The file is append-only, so that a trace can be left running for as long as a session lasts.
+ * It consists of a header followed by any number of records. All values are big-endian.
+ *  header: 'K' 'T' 'R' 'C' (4 bytes), format version (2 bytes), reserved (2 bytes)
+ *  record: timestamp in msec since the epoch (8 bytes), source ordinal (1 byte), data length (4 bytes), data
+ * A record is 13 bytes plus its payload, as opposed to well over twice the payload for JSON.
+ * A final record which was cut short (e.g., by a crash) is ignored when reading.
+ */
+public class SocketTraceFile {
+
+    static final byte[] MAGIC = { 'K', 'T', 'R', 'C' };
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 8;
+    static final int RECORD_HEADER_SIZE = 13;
+
+    private SocketTraceFile() {}
+
+    /**
+     * Indicates whether the given file begins with a binary trace header
+     */
+    public static boolean isTraceFile(final Path path) throws IOException {
+        try (var stream = Files.newInputStream(path)) {
+            var header = stream.readNBytes(MAGIC.length);
+            return java.util.Arrays.equals(header, MAGIC);
+        }
+    }
+
+    /**
+     * Reads all the entries from a binary trace file into a SocketTrace
+     * @param path file to be read
+     * @return SocketTrace large enough to hold every entry in the file
+     * @throws IOException if the file cannot be read, or is not a binary trace file
+     */
+    public static SocketTrace read(final Path path) throws IOException {
+        var entries = new LinkedList<SocketTrace.Entry>();
+        try (var stream = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            readHeader(stream, path);
+            var sources = SocketTrace.Source.values();
+            try {
+                while (true) {
+                    var timestamp = stream.readLong();
+                    var source = stream.readUnsignedByte();
+                    var length = stream.readInt();
+                    if ((source >= sources.length) || (length < 0)) {
+                        throw new IOException(String.format("%s: corrupt record at entry %d", path, entries.size()));
+                    }
+                    var data = new byte[length];
+                    stream.readFully(data);
+                    entries.add(new SocketTrace.Entry(sources[source], data, timestamp));
+                }
+            } catch (EOFException ex) {
+                // normal end of file, or a truncated last record
+            }
+        }
+
+        return new SocketTrace(entries.size(), entries);
+    }
+
+    private static void readHeader(final InputStream stream,
+                                   final Path path) throws IOException {
+        var header = stream.readNBytes(HEADER_SIZE);
+        if ((header.length < HEADER_SIZE) || !java.util.Arrays.equals(header, 0, MAGIC.length, MAGIC, 0, MAGIC.length)) {
+            throw new IOException(path + " is not a socket trace file");
+        }
+        var version = ((header[4] & 0xFF) << 8) | (header[5] & 0xFF);
+        if (version != VERSION) {
+            throw new IOException(String.format("%s: unsupported trace file version %d", path, version));
+        }
+    }
+
+    /**
+     * Converts a binary trace file to the JSON form understood by SocketTrace.loadFromFile() and TraceViewer
+     * @param binaryFile binary trace file to be read
+     * @param jsonFile JSON file to be written
+     * @throws IOException if either file cannot be processed
+     */
+    public static void convertToJson(final Path binaryFile,
+                                     final File jsonFile) throws IOException {
+        read(binaryFile).saveToFile(jsonFile);
+    }
+
+    /**
+     * Command-line converter:
+     *  SocketTraceFile {binary_trace_file} {json_file}
+     */
+    public static void main(final String[] args) {
+        if (args.length != 2) {
+            IO.println("usage: SocketTraceFile binary_trace_file json_file");
+            System.exit(1);
+        }
+
+        try {
+            convertToJson(Path.of(args[0]), new File(args[1]));
+        } catch (IOException ex) {
+            IO.println("Conversion failed:" + ex.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.bearsnake.komodo.netlib;/*
+ * Copyright (c) 2025-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends socket trace entries to a binary trace file (see SocketTraceFile) without making the caller wait on disk I/O.
+ * Entries are packed into one of two buffers by the caller; a dedicated thread swaps the buffers
+ * and writes the full one to the file while the caller continues to fill the other.
+ * If the writer falls so far behind that an entry does not fit in the fill buffer, the entry is dropped
+ * (and counted) rather than blocking the network thread - a trace must never slow down the session it is tracing.
+ */
+public class SocketTraceWriter implements Closeable, Runnable {
+
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    private final Path _path;
+    private final FileChannel _channel;
+    private final Thread _thread;
+
+    private ByteBuffer _fillBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private ByteBuffer _drainBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private long _droppedEntries = 0;
+    private IOException _failure = null;
+    private boolean _closed = false;
+    private boolean _terminate = false;
+
+    /**
+     * Opens (or creates) the given file for appending, writes the header if the file is new,
+     * and starts the writer thread.
+     * @param path trace file
+     * @throws IOException if the file cannot be opened, or exists but is not a trace file
+     */
+    public SocketTraceWriter(final Path path) throws IOException {
+        _path = path;
+        _channel = FileChannel.open(path,
+                                    StandardOpenOption.CREATE,
+                                    StandardOpenOption.WRITE,
+                                    StandardOpenOption.APPEND);
+        if (_channel.size() == 0) {
+            var header = ByteBuffer.allocate(SocketTraceFile.HEADER_SIZE);
+            header.put(SocketTraceFile.MAGIC).putShort(SocketTraceFile.VERSION).putShort((short) 0).flip();
+            while (header.hasRemaining()) {
+                _channel.write(header);
+            }
+        } else if (!SocketTraceFile.isTraceFile(path)) {
+            _channel.close();
+            throw new IOException(path + " exists and is not a socket trace file");
+        }
+
+        _thread = new Thread(this, "SocketTraceWriter:" + path.getFileName());
+        _thread.setDaemon(true);
+        _thread.start();
+    }
+
+    /**
+     * Number of entries which were discarded because the writer could not keep up
+     */
+    public synchronized long getDroppedEntries() {
+        return _droppedEntries;
+    }
+
+    public Path getPath() {
+        return _path;
+    }
+
+    /**
+     * Queues an entry for writing. Never blocks on I/O.
+     * @param timestamp entry timestamp in msec since the epoch
+     * @param source which end of the socket produced the data
+     * @param data array containing the data
+     * @param offset offset of the data within the array
+     * @param length number of bytes of data
+     */
+    public synchronized void append(final long timestamp,
+                                    final SocketTrace.Source source,
+                                    final byte[] data,
+                                    final int offset,
+                                    final int length) {
+        if (_terminate || (_fillBuffer.remaining() < SocketTraceFile.RECORD_HEADER_SIZE + length)) {
+            _droppedEntries++;
+            return;
+        }
+
+        _fillBuffer.putLong(timestamp)
+                   .put((byte) source.ordinal())
+                   .putInt(length)
+                   .put(data, offset, length);
+        notify();
+    }
+
+    /**
+     * Writes everything which has been queued so far, then stops the writer thread and closes the file.
+     * @throws IOException if any write to the file failed
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (_closed) {
+                return;
+            }
+            _closed = true;
+            _terminate = true;
+            notify();
+        }
+
+        try {
+            _thread.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        _channel.close();
+        if (_failure != null) {
+            throw _failure;
+        }
+    }
+
+    @Override
+    public void run() {
+        var done = false;
+        while (!done) {
+            synchronized (this) {
+                while (!_terminate && (_fillBuffer.position() == 0)) {
+                    try {
+                        wait();
+                    } catch (InterruptedException ex) {
+                        _terminate = true;
+                    }
+                }
+
+                var buffer = _fillBuffer;
+                _fillBuffer = _drainBuffer;
+                _drainBuffer = buffer;
+                done = _terminate;
+            }
+
+            _drainBuffer.flip();
+            try {
+                while (_drainBuffer.hasRemaining()) {
+                    _channel.write(_drainBuffer);
+                }
+            } catch (IOException ex) {
+                synchronized (this) {
+                    _failure = ex;
+                    _terminate = true;
+                }
+                done = true;
+            }
+            _drainBuffer.clear();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2025-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.netlib;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestSocketTrace {
+
+    private static byte[] payload(final int seed,
+                                  final int length) {
+        var data = new byte[length];
+        for (int dx = 0; dx < length; dx++) {
+            data[dx] = (byte) (seed + dx);
+        }
+        return data;
+    }
+
+    @Test
+    public void testRingKeepsNewestEntries() {
+        var trace = new SocketTrace();
+        trace.setMaxEntries(SocketTrace.MIN_MAX_ENTRIES);
+        for (int ex = 0; ex < 250; ex++) {
+            trace.addEntry((ex & 1) == 0 ? SocketTrace.Source.LOCAL : SocketTrace.Source.REMOTE,
+                           payload(ex, 1 + (ex % 17)));
+        }
+
+        var entries = trace.getEntries();
+        assertEquals(SocketTrace.MIN_MAX_ENTRIES, entries.size());
+        var ex = 150;
+        for (var entry : entries) {
+            assertArrayEquals(payload(ex, 1 + (ex % 17)), entry.getData());
+            assertEquals((ex & 1) == 0 ? SocketTrace.Source.LOCAL : SocketTrace.Source.REMOTE, entry.getSource());
+            ex++;
+        }
+
+        trace.setMaxEntries(SocketTrace.MAX_MAX_ENTRIES);
+        trace.addEntry(SocketTrace.Source.LOCAL, payload(250, 3));
+        entries = trace.getEntries();
+        assertEquals(SocketTrace.MIN_MAX_ENTRIES + 1, entries.size());
+        assertArrayEquals(payload(150, 1 + (150 % 17)), entries.getFirst().getData());
+        assertArrayEquals(payload(250, 3), entries.getLast().getData());
+    }
+
+    @Test
+    public void testOffsetAndBufferEntries() {
+        var trace = new SocketTrace();
+        var data = payload(0, 64);
+        trace.addEntry(SocketTrace.Source.REMOTE, data, 10, 20);
+
+        var buffer = ByteBuffer.wrap(data);
+        buffer.position(5);
+        trace.addEntry(SocketTrace.Source.LOCAL, buffer);
+        assertEquals(5, buffer.position());
+
+        var direct = ByteBuffer.allocateDirect(8).put(payload(100, 8)).flip();
+        trace.addEntry(SocketTrace.Source.LOCAL, direct);
+        assertEquals(0, direct.position());
+
+        var entries = trace.getEntries();
+        assertArrayEquals(Arrays.copyOfRange(data, 10, 30), entries.get(0).getData());
+        assertArrayEquals(Arrays.copyOfRange(data, 5, 64), entries.get(1).getData());
+        assertArrayEquals(payload(100, 8), entries.get(2).getData());
+    }
+
+    @Test
+    public void testBinaryFileRoundTrip() throws IOException {
+        var path = Files.createTempFile("socketTrace", ".ktrc");
+        try {
+            Files.delete(path);
+            var trace = new SocketTrace();
+            try (var writer = new SocketTraceWriter(path)) {
+                trace.setWriter(writer);
+                for (int ex = 0; ex < 2000; ex++) {
+                    trace.addEntry(SocketTrace.Source.values()[ex % 2], payload(ex, ex % 100));
+                }
+                trace.setWriter(null);
+                assertEquals(0, writer.getDroppedEntries());
+            }
+
+            // The file holds every entry, even though the in-memory trace only holds the newest
+            assertTrue(SocketTraceFile.isTraceFile(path));
+            var loaded = SocketTraceFile.read(path).getEntries();
+            assertEquals(2000, loaded.size());
+            var original = trace.getEntries();
+            var skip = 2000 - original.size();
+            for (int ex = 0; ex < loaded.size(); ex++) {
+                var entry = loaded.get(ex);
+                assertEquals(SocketTrace.Source.values()[ex % 2], entry.getSource());
+                assertArrayEquals(payload(ex, ex % 100), entry.getData());
+                if (ex >= skip) {
+                    assertEquals(original.get(ex - skip).getTimestamp(), entry.getTimestamp());
+                }
+            }
+
+            // Appending to an existing file keeps what is already there, and a truncated tail is ignored
+            try (var writer = new SocketTraceWriter(path)) {
+                writer.append(12345L, SocketTrace.Source.REMOTE, payload(7, 10), 0, 10);
+            }
+            var size = Files.size(path);
+            try (var channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(size - 4);
+            }
+            assertEquals(2000, SocketTraceFile.read(path).getEntries().size());
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testRejectsForeignFile() throws IOException {
+        var path = Files.createTempFile("socketTrace", ".json");
+        try {
+            Files.writeString(path, "{\"maxEntries\":1000,\"entries\":[]}");
+            assertFalse(SocketTraceFile.isTraceFile(path));
+            assertThrows(IOException.class, () -> SocketTraceFile.read(path));
+            assertThrows(IOException.class, () -> new SocketTraceWriter(path));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testJsonCreatorKeepsAllEntries() {
+        // A converted binary trace may hold far more entries than maxEntries - none may be lost on the way in
+        var entries = new LinkedList<SocketTrace.Entry>();
+        for (int ex = 0; ex < 250; ex++) {
+            entries.add(new SocketTrace.Entry(SocketTrace.Source.REMOTE, payload(ex, 4), ex));
+        }
+
+        var trace = new SocketTrace(SocketTrace.MIN_MAX_ENTRIES, entries);
+        var loaded = trace.getEntries();
+        assertEquals(250, loaded.size());
+        assertEquals(249L, loaded.getLast().getTimestamp());
+        assertArrayEquals(payload(249, 4), loaded.getLast().getData());
+    }
+}
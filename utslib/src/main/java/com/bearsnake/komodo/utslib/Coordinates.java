@@ -46,7 +46,7 @@ public class Coordinates implements Comparable<Coordinates> {
         } else {
             var slop = coordinate - 81;
             strm.write((slop >> 4) + 0x75);
-            strm.write((byte) (slop & 0x0F));
+            strm.write(0x70 | (slop & 0x0F));
         }
     }
 
@@ -71,6 +71,15 @@ public class Emphasis {
         _underscore = emphasis._underscore;
     }
 
+    /**
+     * Sets the flags according to a UTS emphasis code - the counterpart to getCode()
+     */
+    public void setCode(final byte utsCode) {
+        _columnSeparator = (utsCode & 0x01) == 0x01;
+        _strikeThrough = (utsCode & 0x08) == 0x08;
+        _underscore = (utsCode & 0x04) == 0x04;
+    }
+
     public void setColumnSeparator(final boolean flag) { _columnSeparator = flag; }
     public void setStrikeThrough(final boolean flag) { _strikeThrough = flag; }
     public void setUnderscore(final boolean flag) { _underscore = flag; }
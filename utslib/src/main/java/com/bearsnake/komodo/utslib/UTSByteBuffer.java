@@ -144,8 +144,8 @@ public class UTSByteBuffer {
         if ((ch >= 0x20) && (ch <= 0x6f)) {
             return (ch - 0x20 + 1);
         } else if (ch >= 0x75) {
-            var ch2 = (byte) getNext();
-            if (ch2 >= 70) {
+            var ch2 = getNext();
+            if (ch2 >= 0x70) {
                 return 81 + ((ch - 0x75) << 4) + (ch2 & 0x0F);
             }
         }
@@ -172,9 +172,10 @@ public class UTSByteBuffer {
 
     /**
      * Retrieves the next byte in the buffer, advancing the index.
-     * @return the next byte in the buffer, or null if at the end of the buffer
+     * @return the next byte in the buffer
+     * @throws UTSBufferOverflowException if at the end of the buffer
      */
-    public Byte getNext() throws UTSBufferOverflowException {
+    public byte getNext() throws UTSBufferOverflowException {
         checkAtEnd();
         return _buffer[_index++];
     }
@@ -196,9 +197,10 @@ public class UTSByteBuffer {
 
     /**
      * Retrieves the byte that would be returned from the next get operation.
-     * @return the byte that would be returned from the next get operation, or null if at the end of the buffer
+     * @return the byte that would be returned from the next get operation
+     * @throws UTSBufferOverflowException if at the end of the buffer
      */
-    public Byte peekNext() throws UTSBufferOverflowException {
+    public byte peekNext() throws UTSBufferOverflowException {
         checkAtEnd();
         return _buffer[_index];
     }
@@ -300,7 +302,7 @@ public class UTSByteBuffer {
         } else {
             var slop = coordinate - 81;
             put((byte) ((slop >> 4) + 0x75));
-            put((byte) (slop & 0x0F));
+            put((byte) (0x70 | (slop & 0x0F)));
         }
         return this;
     }
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2025-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.utslib;
+
+import com.bearsnake.komodo.utslib.exceptions.UTSBufferOverflowException;
+import com.bearsnake.komodo.utslib.exceptions.UTSCoordinateException;
+
+import java.nio.ByteBuffer;
+
+import static com.bearsnake.komodo.baselib.Constants.*;
+
+/**
+ * A read-only cursor over a window of a ByteBuffer, for parsing UTS streams in place.
+ * Unlike UTSByteBuffer, nothing here is boxed and nothing is copied unless the caller asks for it -
+ * a reader is meant to be created once and re-pointed at each incoming message, via wrap() or load().
+ * The underlying buffer may be heap or direct; we only ever use absolute gets, so the buffer's own
+ * position and limit are left alone.
+ * As with UTSByteBuffer, the readable content is presumed not to contain NUL nor SYN characters.
+ * Indices are relative to the start of the window.
+ * Not thread-safe.
+ */
+public class UTSByteReader {
+
+    private ByteBuffer _buffer;     // currently being read - either _ownBuffer or something given to wrap()
+    private ByteBuffer _ownBuffer;  // filled by load()
+    private final boolean _direct;
+    private int _offset;
+    private int _limit;
+    private int _index;
+
+    /**
+     * Creates a reader with an initially-empty heap buffer, to be pointed at content via wrap() or load().
+     */
+    public UTSByteReader() {
+        this(0, false);
+    }
+
+    /**
+     * Creates a reader which owns a buffer of the given initial capacity, to be filled by load().
+     * @param capacity initial capacity in bytes
+     * @param direct true to allocate a direct buffer
+     */
+    public UTSByteReader(final int capacity,
+                         final boolean direct) {
+        _direct = direct;
+        _ownBuffer = direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        _buffer = _ownBuffer;
+        _offset = 0;
+        _limit = 0;
+        _index = 0;
+    }
+
+    /**
+     * Indicates whether the index has reached the limit.
+     */
+    public boolean atEnd() {
+        return _index >= _limit;
+    }
+
+    public int getIndex() {
+        return _index;
+    }
+
+    /**
+     * Retrieves the size of the readable window
+     */
+    public int getLimit() {
+        return _limit;
+    }
+
+    public int getRemaining() {
+        return _limit - _index;
+    }
+
+    /**
+     * Retrieves the byte at the given (window-relative) index without disturbing the cursor.
+     * @param index index of the byte to be retrieved
+     * @return the byte, or -1 if the index is out of bounds (legitimate UTS bytes are never negative)
+     */
+    public int get(final int index) {
+        if ((index < 0) || (index >= _limit)) {
+            return -1;
+        }
+        return _buffer.get(_offset + index);
+    }
+
+    /**
+     * Reads the next one or two bytes expecting them to represent a coordinate in UTS format.
+     * A coordinate from 1 to 80 is a single byte 0x20 to 0x6F; anything larger is a byte 0x75 or greater
+     * containing the most-significant bits, followed by a byte 0x70 to 0x7F containing the least.
+     * @return screen coordinate ranging from 1 to 256
+     * @throws UTSCoordinateException If the coordinate is invalid
+     * @throws UTSBufferOverflowException If we run out of bytes to read
+     */
+    public int getCoordinate() throws UTSBufferOverflowException, UTSCoordinateException {
+        var ch1 = getNext();
+        if ((ch1 >= 0x20) && (ch1 < 0x70)) {
+            return ch1 - 31;
+        } else if (ch1 >= 0x75) {
+            var ch2 = getNext();
+            if (ch2 < 0x70) {
+                throw new UTSCoordinateException("Invalid double-byte coordinate");
+            }
+            return (ch1 - 0x75) * 16 + (ch2 & 0x0F) + 81;
+        }
+        throw new UTSCoordinateException("Invalid single-byte coordinate");
+    }
+
+    /**
+     * Retrieves the next byte in the window, advancing the index.
+     * @return the next byte
+     * @throws UTSBufferOverflowException if we are at the end of the window
+     */
+    public byte getNext() throws UTSBufferOverflowException {
+        if (_index >= _limit) {
+            throw new UTSBufferOverflowException();
+        }
+        return _buffer.get(_offset + _index++);
+    }
+
+    /**
+     * Retrieves the byte which would be returned by the next getNext(), without advancing the index.
+     * @return the next byte
+     * @throws UTSBufferOverflowException if we are at the end of the window
+     */
+    public byte peekNext() throws UTSBufferOverflowException {
+        if (_index >= _limit) {
+            throw new UTSBufferOverflowException();
+        }
+        return _buffer.get(_offset + _index);
+    }
+
+    /**
+     * Copies the given bytes into our own buffer (growing it if necessary), dropping NUL and SYN bytes,
+     * and resets the cursor to the start of the copied content.
+     * @param source source array
+     * @param offset offset of the first byte to be copied
+     * @param length number of bytes to be copied
+     * @return this reader
+     */
+    public UTSByteReader load(final byte[] source,
+                              final int offset,
+                              final int length) {
+        if (_ownBuffer.capacity() < length) {
+            var capacity = Math.max(length, _ownBuffer.capacity() * 2);
+            _ownBuffer = _direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        }
+
+        var target = 0;
+        for (int sx = offset; sx < offset + length; sx++) {
+            var ch = source[sx];
+            if ((ch != ASCII_NUL) && (ch != ASCII_SYN)) {
+                _ownBuffer.put(target++, ch);
+            }
+        }
+
+        _buffer = _ownBuffer;
+        _offset = 0;
+        _limit = target;
+        _index = 0;
+        return this;
+    }
+
+    /**
+     * Sets the index to the given index, constrained by the limit.
+     * @param index a value from zero to the limit
+     * @return this reader
+     */
+    public UTSByteReader setIndex(final int index) {
+        if ((index >= 0) && (index <= _limit)) {
+            _index = index;
+        }
+        return this;
+    }
+
+    /**
+     * Skips one byte if we are not at the limit
+     */
+    public void skipNext() {
+        if (_index < _limit) {
+            _index++;
+        }
+    }
+
+    /**
+     * Copies the unread portion of the window to a new array - for diagnostics and for those consumers
+     * which really do need to keep the content.
+     */
+    public byte[] toArray() {
+        var result = new byte[_limit - _index];
+        _buffer.get(_offset + _index, result);
+        return result;
+    }
+
+    /**
+     * Points this reader at a window of the given buffer, without copying anything.
+     * The caller must not modify that part of the buffer while the reader is in use,
+     * and must have already removed any NUL or SYN bytes.
+     * @param buffer buffer to be read
+     * @param offset offset of the first readable byte
+     * @param length number of readable bytes
+     * @return this reader
+     */
+    public UTSByteReader wrap(final ByteBuffer buffer,
+                              final int offset,
+                              final int length) {
+        _buffer = buffer;
+        _offset = offset;
+        _limit = length;
+        _index = 0;
+        return this;
+    }
+}
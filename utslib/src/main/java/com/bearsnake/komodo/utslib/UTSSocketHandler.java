@@ -19,7 +19,10 @@ import java.util.Timer;
 import java.util.TimerTask;
 
 import static com.bearsnake.komodo.baselib.Constants.ASCII_ETX;
+import static com.bearsnake.komodo.baselib.Constants.ASCII_NUL;
 import static com.bearsnake.komodo.baselib.Constants.ASCII_SOH;
+import static com.bearsnake.komodo.baselib.Constants.ASCII_STX;
+import static com.bearsnake.komodo.baselib.Constants.ASCII_SYN;
 
 /**
  * Wraps a SocketChannel for simplifying the processing of handling UTS-like network communication.
@@ -33,8 +36,13 @@ public class UTSSocketHandler extends SocketHandler implements SocketListener {
     // Milliseconds between heartbeat polls
     private static final int POLL_TIMER_PERIODICITY_MSEC = 1000;
 
+    // The only non-text message which begins with SOH STX is a cursor position message, and that is never longer
+    // than SOH STX ESC VT row(2) column(2) SI ETX. Anything longer which begins with SOH STX is a text message.
+    private static final int MAX_CURSOR_POSITION_MESSAGE_SIZE = 10;
+
     private final byte[] _inputBuffer = new byte[INPUT_BUFFER_SIZE];
     private final ByteBuffer _byteBuffer = ByteBuffer.wrap(_inputBuffer);
+    private final UTSByteReader _textReader = new UTSByteReader();
     private Timer _timer;
     private final UTSSocketListener _utsListener;
 
@@ -89,8 +97,8 @@ public class UTSSocketHandler extends SocketHandler implements SocketListener {
             var ch = data[dx++];
             dc++;
 
-            // Ignore NUL bytes
-            if (ch == 0) {
+            // Ignore NUL and SYN bytes
+            if ((ch == ASCII_NUL) || (ch == ASCII_SYN)) {
                 continue;
             }
 
@@ -107,6 +115,15 @@ public class UTSSocketHandler extends SocketHandler implements SocketListener {
                 // If we have processed an ETX, we have completed a message.
                 _byteBuffer.put(ch);
                 if (ch == ASCII_ETX) {
+                    // Offer text to the listener in place, so that it need not be copied into a message.
+                    var messageLength = _byteBuffer.position();
+                    if ((messageLength > MAX_CURSOR_POSITION_MESSAGE_SIZE)
+                        && (_inputBuffer[1] == ASCII_STX)
+                        && _utsListener.socketTextReceived(this, _textReader.wrap(_byteBuffer, 2, messageLength - 3))) {
+                        _byteBuffer.clear();
+                        continue;
+                    }
+
                     var message = UTSMessage.create(Arrays.copyOfRange(_inputBuffer, 0, _byteBuffer.position()));
                     if (message instanceof StatusPollMessage) {
                         // Send a StatusMessage in response
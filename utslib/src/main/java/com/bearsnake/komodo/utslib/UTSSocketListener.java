@@ -24,6 +24,21 @@ public interface UTSSocketListener {
     void socketTrafficReceived(final UTSSocketHandler source,
                                final UTSMessage message);
 
+    /**
+     * Offers the text of an inbound text message (everything between the SOH STX and the ETX) to the listener
+     * in place, before any UTSMessage is created for it. The reader refers directly to the socket handler's
+     * input buffer, and is valid only for the duration of this call.
+     * A listener which can parse the text on the spot (see PrimitiveParser) should do so and return true;
+     * the default returns false, in which case the text is delivered as a TextMessage via socketTrafficReceived().
+     * @param source SocketChannelHandler that received the text
+     * @param text reader positioned at the start of the text
+     * @return true if the listener has consumed the text
+     */
+    default boolean socketTextReceived(final UTSSocketHandler source,
+                                       final UTSByteReader text) {
+        return false;
+    }
+
     /**
      * Indicates that socket traffic was captured by the trace facility.
      * @param source SocketChannelHandler that sent the notification
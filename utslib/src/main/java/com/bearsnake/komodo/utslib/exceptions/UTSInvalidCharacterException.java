@@ -0,0 +1,12 @@
+/*
+ * Copyright (c) 2025-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.utslib.exceptions;
+
+public class UTSInvalidCharacterException extends UTSException {
+
+    public UTSInvalidCharacterException(final byte ch) {
+        super(String.format("Invalid character [0x%02X]", ch));
+    }
+}
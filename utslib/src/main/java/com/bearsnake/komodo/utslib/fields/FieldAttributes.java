@@ -5,9 +5,12 @@
 package com.bearsnake.komodo.utslib.fields;
 
 import com.bearsnake.komodo.utslib.UTSByteBuffer;
+import com.bearsnake.komodo.utslib.UTSByteReader;
 import com.bearsnake.komodo.utslib.exceptions.UTSBufferOverflowException;
 import com.bearsnake.komodo.utslib.exceptions.UTSInvalidFCCSequenceException;
 
+import java.nio.ByteBuffer;
+
 public class FieldAttributes {
 
     private Intensity _intensity;
@@ -83,41 +86,77 @@ public class FieldAttributes {
                                               final boolean emphasisSupported,
                                               final boolean colorSupported)
         throws UTSInvalidFCCSequenceException, UTSBufferOverflowException {
-        var fa = new FieldAttributes();
+        var reader = new UTSByteReader().wrap(ByteBuffer.wrap(source.getBackingBuffer()),
+                                              source.getIndex(),
+                                              source.getLimit() - source.getIndex());
+        var fa = new FieldAttributes().deserializeFrom(reader, emphasisSupported, colorSupported);
+        source.setIndex(source.getIndex() + reader.getIndex());
+        return fa;
+    }
+
+    /**
+     * Deserialize FCC field settings (M and N bytes, or O, M, and N bytes) from the source at its current index,
+     * overwriting the content of this object. This allows a parser to use one FieldAttributes object
+     * for every FCC in a stream; anything which needs to keep the result must copy() it.
+     * @param source reader positioned at the FCC settings
+     * @param emphasisSupported whether emphasis is supported
+     * @param colorSupported whether color is supported
+     * @return this object
+     */
+    public FieldAttributes deserializeFrom(final UTSByteReader source,
+                                           final boolean emphasisSupported,
+                                           final boolean colorSupported)
+        throws UTSInvalidFCCSequenceException, UTSBufferOverflowException {
+        clear();
         var check = source.peekNext() & 0xF0;
         if (colorSupported && check == 0x20) {
             // we're doing color and expanded
             byte o = source.getNext();
-            fa.deserializeMNExpanded(source, emphasisSupported);
+            var m = source.getNext();
+            applyMNExpanded(m, source.getNext(), emphasisSupported);
             switch (o) {
                 case 0x20 -> {
                     var c1 = source.getNext();
-                    fa._textColor = UTSColor.fromByte((byte)(c1 & 0x07));
-                    fa._backgroundColor = UTSColor.fromByte((byte)((c1 >> 3) & 0x07));
+                    _textColor = UTSColor.fromByte((byte)(c1 & 0x07));
+                    _backgroundColor = UTSColor.fromByte((byte)((c1 >> 3) & 0x07));
                 }
-                case 0x21 -> fa._textColor = UTSColor.fromByte(source.getNext());
-                case 0x22 -> fa._backgroundColor = UTSColor.fromByte(source.getNext());
+                case 0x21 -> _textColor = UTSColor.fromByte((byte)(source.getNext() & 0x07));
+                case 0x22 -> _backgroundColor = UTSColor.fromByte((byte)(source.getNext() & 0x07));
                 case 0x23 -> {
-                    fa._textColor = UTSColor.fromByte(source.getNext());
-                    fa._backgroundColor = UTSColor.fromByte(source.getNext());
+                    _textColor = UTSColor.fromByte((byte)(source.getNext() & 0x07));
+                    _backgroundColor = UTSColor.fromByte((byte)(source.getNext() & 0x07));
                 }
                 default -> throw new UTSInvalidFCCSequenceException();
             }
         } else if (check == 0x30) {
             // we're doing basic only
-            fa.deserializeMNBasic(source);
+            var m = source.getNext();
+            applyMNBasic(m, source.getNext());
         } else if (check == 0x40) {
             // we're doing expanded only
-            fa.deserializeMNExpanded(source, emphasisSupported);
+            var m = source.getNext();
+            applyMNExpanded(m, source.getNext(), emphasisSupported);
         } else {
             throw new UTSInvalidFCCSequenceException();
         }
 
-        return fa;
+        return this;
     }
 
     public void deserializeMNBasic(final UTSByteBuffer source) throws UTSBufferOverflowException {
         var m = source.getNext();
+        applyMNBasic(m, source.getNext());
+    }
+
+    public void deserializeMNExpanded(final UTSByteBuffer source,
+                                      final boolean emphasisSupported)
+        throws UTSBufferOverflowException {
+        var m = source.getNext();
+        applyMNExpanded(m, source.getNext(), emphasisSupported);
+    }
+
+    private void applyMNBasic(final byte m,
+                              final byte n) {
         switch (m & 0x03) {
             case 0x00 -> _intensity = Intensity.NORMAL;
             case 0x01 -> _intensity = Intensity.NONE;
@@ -127,17 +166,15 @@ public class FieldAttributes {
         _changed = ((m & 0x04) == 0x04);
         _tabStop = ((m & 0x08) != 0x08);
 
-        var n = source.getNext();
         _alphabeticOnly = ((n & 0x03) == 0x01);
         _numericOnly = ((n & 0x03) == 0x02);
         _protected = ((n & 0x03) == 0x03);
         _rightJustified = ((n & 0x04) == 0x04);
     }
 
-    public void deserializeMNExpanded(final UTSByteBuffer source,
-                                      final boolean emphasisSupported)
-        throws UTSBufferOverflowException {
-        var m = source.getNext();
+    private void applyMNExpanded(final byte m,
+                                 final byte n,
+                                 final boolean emphasisSupported) {
         switch (m & 0x03) {
             case 0x00 -> _intensity = Intensity.NORMAL;
             case 0x01, 0x03 -> _intensity = Intensity.NONE;
@@ -147,7 +184,6 @@ public class FieldAttributes {
         _tabStop = ((m & 0x08) != 0x08);
         _protectedEmphasis = emphasisSupported && ((m & 0x20) == 0x20);
 
-        var n = source.getNext();
         _alphabeticOnly = ((n & 0x03) == 0x01);
         _numericOnly = ((n & 0x03) == 0x02);
         _protected = ((n & 0x03) == 0x03);
@@ -156,6 +192,24 @@ public class FieldAttributes {
         _reverseVideo = ((n & 0x10) == 0x10);
     }
 
+    /**
+     * Returns all settings to their defaults
+     */
+    private void clear() {
+        _intensity = Intensity.NORMAL;
+        _blinking = false;
+        _reverseVideo = false;
+        _protected = false;
+        _protectedEmphasis = false;
+        _tabStop = false;
+        _alphabeticOnly = false;
+        _numericOnly = false;
+        _rightJustified = false;
+        _changed = false;
+        _backgroundColor = null;
+        _textColor = null;
+    }
+
     /**
      * Writes M and N bytes to the given buffer
      * @param buffer buffer to write to
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2025-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.utslib.primitives;
+
+import com.bearsnake.komodo.utslib.UTSByteReader;
+import com.bearsnake.komodo.utslib.exceptions.*;
+import com.bearsnake.komodo.utslib.fields.FieldAttributes;
+
+import static com.bearsnake.komodo.baselib.Constants.*;
+
+/**
+ * Decodes UTS primitives in place from a UTSByteReader, reporting each to a PrimitiveVisitor.
+ * This is the allocation-free counterpart of Primitive.deserializePrimitive(), intended for the
+ * inbound path of a terminal where a full-screen update may contain thousands of primitives.
+ * Rather than trying each primitive class in turn, we switch once on the leading byte
+ * (and once more on the byte following ESC).
+ * A parser keeps a single FieldAttributes object which it reuses for every FCC it decodes,
+ * so a parser instance must not be shared between threads.
+ */
+public class PrimitiveParser {
+
+    private final FieldAttributes _attributes = new FieldAttributes();
+
+    /**
+     * Parses the entire remaining content of the source.
+     * @param source reader positioned at the content to be parsed
+     * @param visitor receives each primitive and character
+     * @param emphasisSupported Whether emphasis is supported by the terminal.
+     * @param colorSupported Whether color is supported by the terminal.
+     * @throws UTSException if the stream contains an invalid or incomplete primitive,
+     * or if the visitor throws
+     */
+    public void parse(final UTSByteReader source,
+                      final PrimitiveVisitor visitor,
+                      final boolean emphasisSupported,
+                      final boolean colorSupported) throws UTSException {
+        while (parseNext(source, visitor, emphasisSupported, colorSupported)) {
+            // nothing else to do
+        }
+    }
+
+    /**
+     * Parses one primitive, or one character which is not part of a primitive, from the current position
+     * of the source, and hands it to the visitor.
+     * Note on support - generally, either color or emphasis is supported, but not both.
+     * @param source reader positioned at the content to be parsed
+     * @param visitor receives the primitive or character
+     * @param emphasisSupported Whether emphasis is supported by the terminal.
+     * @param colorSupported Whether color is supported by the terminal.
+     * @return false if the source was already at its end, else true
+     * @throws UTSException if the stream contains an invalid or incomplete primitive,
+     * or if the visitor throws
+     */
+    public boolean parseNext(final UTSByteReader source,
+                             final PrimitiveVisitor visitor,
+                             final boolean emphasisSupported,
+                             final boolean colorSupported) throws UTSException {
+        if (source.atEnd()) {
+            return false;
+        }
+
+        var ch = source.getNext();
+        switch (ch) {
+            case ASCII_DC1 -> visitor.visitPrimitive(PrimitiveType.TRANSMIT_VARIABLE_FIELDS);
+            case ASCII_DC2 -> visitor.visitPrimitive(PrimitiveType.PRINT_ALL);
+            case ASCII_DC4 -> visitor.visitPrimitive(PrimitiveType.LOCK_KEYBOARD);
+            case ASCII_EM -> parseImmediateFCCSequence(source, visitor, emphasisSupported, colorSupported);
+            case ASCII_ESC -> parseEscape(source, visitor, emphasisSupported, colorSupported);
+            case ASCII_US -> parseFCCSequence(source, visitor, emphasisSupported, colorSupported);
+            default -> visitor.visitCharacter(ch);
+        }
+        return true;
+    }
+
+    /**
+     * Parses whatever follows an ESC
+     */
+    private void parseEscape(final UTSByteReader source,
+                             final PrimitiveVisitor visitor,
+                             final boolean emphasisSupported,
+                             final boolean colorSupported) throws UTSException {
+        try {
+            var ch = source.getNext();
+            var type = switch (ch) {
+                case ASCII_HT -> PrimitiveType.TAB_SET;
+                case ASCII_DC1 -> PrimitiveType.TRANSMIT_ALL_FIELDS;
+                case ASCII_DC2 -> PrimitiveType.PRINT_TRANSPARENT;
+                case ASCII_DC4 -> PrimitiveType.LOCK_KEYBOARD;
+                case 'C' -> PrimitiveType.DELETE_IN_DISPLAY;
+                case 'D' -> PrimitiveType.INSERT_IN_DISPLAY;
+                case 'E' -> PrimitiveType.TRANSFER_CHANGED_FIELDS;
+                case 'F' -> PrimitiveType.TRANSFER_VARIABLE_FIELDS;
+                case 'G' -> PrimitiveType.TRANSFER_ALL_FIELDS;
+                case 'H' -> PrimitiveType.PRINT_FORM;
+                case 'K' -> PrimitiveType.ERASE_TO_END_OF_FIELD;
+                case 'L' -> PrimitiveType.UNLOCK_KEYBOARD;
+                case 'M' -> PrimitiveType.ERASE_DISPLAY;
+                case 'T' -> PrimitiveType.SEND_CURSOR_ADDRESS;
+                case '[' -> PrimitiveType.PUT_ESCAPE;
+                case 'a' -> PrimitiveType.ERASE_UNPROTECTED_DATA;
+                case 'b' -> PrimitiveType.ERASE_TO_END_OF_LINE;
+                case 'c' -> PrimitiveType.DELETE_IN_LINE;
+                case 'd' -> PrimitiveType.INSERT_IN_LINE;
+                case 'e' -> PrimitiveType.CURSOR_TO_HOME;
+                case 'f' -> PrimitiveType.SCAN_UP;
+                case 'g' -> PrimitiveType.SCAN_LEFT;
+                case 'h' -> PrimitiveType.SCAN_RIGHT;
+                case 'i' -> PrimitiveType.SCAN_DOWN;
+                case 'j' -> PrimitiveType.INSERT_LINE;
+                case 'k' -> PrimitiveType.DELETE_LINE;
+                case 'o' -> PrimitiveType.CONTROL_PAGE_ACCESS;
+                case 't' -> PrimitiveType.TRANSMIT_CHANGED_FIELDS;
+                case 'u' -> PrimitiveType.CLEAR_CHANGED_BITS;
+                case 'w' -> PrimitiveType.CLEAR_FCC;
+                case 'y' -> PrimitiveType.LINE_DUPLICATION;
+                case 'z' -> PrimitiveType.BACKWARD_TAB;
+                case 'Y' -> emphasisSupported ? PrimitiveType.ADD_EMPHASIS : null;
+                case 'Z' -> parseEscapeZ(source, emphasisSupported, colorSupported);
+                default -> null;
+            };
+
+            if (type != null) {
+                visitor.visitPrimitive(type);
+            } else if (ch == ASCII_VT) {
+                var row = source.getCoordinate();
+                var column = source.getCoordinate();
+                if (source.getNext() != ASCII_SI) {
+                    throw new UTSInvalidEscapeSequenceException();
+                }
+                visitor.visitCursorPosition(row, column);
+            } else if (ch == 'X') {
+                visitor.visitPutCharacter(PrimitiveType.PUT_HEXADECIMAL, parseHexValue(source));
+            } else if (ch == '{') {
+                visitor.visitPutCharacter(PrimitiveType.PUT_DECIMAL, parseDecimalValue(source));
+            } else if (emphasisSupported && (ch >= 0x20) && (ch <= 0x2F)) {
+                visitor.visitCreateEmphasis(ch);
+            } else {
+                throw new UTSInvalidEscapeSequenceException(ch);
+            }
+        } catch (UTSBufferOverflowException ex) {
+            throw new UTSIncompleteEscapeSequenceException();
+        }
+    }
+
+    /**
+     * ESC Z is either report-color-FCC enable/disable (followed by d or e), or delete emphasis.
+     * Check color first, then emphasis. This supports the unlikely situation where both are supported.
+     * @return primitive type, or null if ESC Z is not acceptable in the current configuration
+     */
+    private static PrimitiveType parseEscapeZ(final UTSByteReader source,
+                                              final boolean emphasisSupported,
+                                              final boolean colorSupported) throws UTSBufferOverflowException {
+        if (colorSupported && !source.atEnd()) {
+            var ch = source.peekNext();
+            if (ch == 'd') {
+                source.skipNext();
+                return PrimitiveType.REPORT_COLOR_FCC_ENABLE;
+            } else if (ch == 'e') {
+                source.skipNext();
+                return PrimitiveType.REPORT_COLOR_FCC_DISABLE;
+            }
+        }
+        return emphasisSupported ? PrimitiveType.DELETE_EMPHASIS : null;
+    }
+
+    /**
+     * ESC { nnn } where nnn is a one to three-byte decimal value no greater than 127
+     */
+    private static byte parseDecimalValue(final UTSByteReader source)
+        throws UTSBufferOverflowException, UTSInvalidEscapeSequenceException {
+        int digits = 0;
+        int value = 0;
+        byte ch;
+        while ((ch = source.getNext()) != '}') {
+            if ((ch < '0') || (ch > '9') || (++digits > 3)) {
+                throw new UTSInvalidEscapeSequenceException("Invalid ESC { value");
+            }
+            value = (value * 10) + (ch - '0');
+        }
+
+        if ((digits < 1) || (value > 127)) {
+            throw new UTSInvalidEscapeSequenceException("Invalid ESC { value");
+        }
+        return (byte) value;
+    }
+
+    /**
+     * ESC X xx where xx is a two-byte hexadecimal value
+     */
+    private static byte parseHexValue(final UTSByteReader source)
+        throws UTSBufferOverflowException, UTSInvalidEscapeSequenceException {
+        var hi = Character.digit(source.getNext(), 16);
+        var lo = Character.digit(source.getNext(), 16);
+        if ((hi < 0) || (lo < 0)) {
+            throw new UTSInvalidEscapeSequenceException("Invalid ESC X value");
+        }
+        return (byte) (((hi << 4) | lo) & 0x7F);
+    }
+
+    /**
+     * US row column [O] M N [C...] - we have already consumed the US
+     */
+    private void parseFCCSequence(final UTSByteReader source,
+                                  final PrimitiveVisitor visitor,
+                                  final boolean emphasisSupported,
+                                  final boolean colorSupported) throws UTSException {
+        try {
+            var row = source.getCoordinate();
+            var column = source.getCoordinate();
+            _attributes.deserializeFrom(source, emphasisSupported, colorSupported);
+            visitor.visitFCCSequence(row, column, _attributes);
+        } catch (UTSBufferOverflowException ex) {
+            throw new UTSIncompleteFCCSequenceException();
+        }
+    }
+
+    /**
+     * EM [O] M N [C...] - we have already consumed the EM
+     */
+    private void parseImmediateFCCSequence(final UTSByteReader source,
+                                           final PrimitiveVisitor visitor,
+                                           final boolean emphasisSupported,
+                                           final boolean colorSupported) throws UTSException {
+        try {
+            _attributes.deserializeFrom(source, emphasisSupported, colorSupported);
+            visitor.visitImmediateFCCSequence(_attributes);
+        } catch (UTSBufferOverflowException ex) {
+            throw new UTSIncompleteFCCSequenceException();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025-2026 by Kurt Duncan - All Rights Reserved
+ */
+
+package com.bearsnake.komodo.utslib.primitives;
+
+import com.bearsnake.komodo.utslib.exceptions.UTSException;
+import com.bearsnake.komodo.utslib.fields.FieldAttributes;
+
+/**
+ * Receives the content of a UTS stream from a PrimitiveParser, one primitive (or plain character) at a time.
+ * Nothing is allocated on the way here - the values are decoded in place and handed over as arguments.
+ * Any FieldAttributes object passed to a visitor belongs to the parser and is reused for the next FCC;
+ * a visitor which needs to keep it must copy() it.
+ */
+public interface PrimitiveVisitor {
+
+    /**
+     * A primitive consisting entirely of a fixed byte pattern -
+     * i.e., any PrimitiveType with a non-null pattern.
+     */
+    void visitPrimitive(final PrimitiveType type) throws UTSException;
+
+    /**
+     * Any byte which does not begin a primitive - mostly, displayable characters.
+     * Control characters which are not primitives (CR, HT, etc.) also arrive here,
+     * and it is up to the visitor to decide whether they are acceptable.
+     */
+    void visitCharacter(final byte ch) throws UTSException;
+
+    /**
+     * Create/replace emphasis - ESC followed by an emphasis code in the range 0x20 to 0x2F
+     * @param code emphasis code, as accepted by Emphasis.setCode()
+     */
+    void visitCreateEmphasis(final byte code) throws UTSException;
+
+    /**
+     * Cursor position - ESC VT row column SI
+     */
+    void visitCursorPosition(final int row,
+                             final int column) throws UTSException;
+
+    /**
+     * FCC sequence - US row column [O] M N [C...]
+     */
+    void visitFCCSequence(final int row,
+                          final int column,
+                          final FieldAttributes attributes) throws UTSException;
+
+    /**
+     * Immediate FCC sequence - EM [O] M N [C...]
+     */
+    void visitImmediateFCCSequence(final FieldAttributes attributes) throws UTSException;
+
+    /**
+     * Put-character primitives which carry a value - ESC X xx or ESC { nnn }
+     * @param type PUT_HEXADECIMAL or PUT_DECIMAL
+     * @param value character to be placed
+     */
+    void visitPutCharacter(final PrimitiveType type,
+                           final byte value) throws UTSException;
+}
@@ -12,7 +12,7 @@ public class PutCharacterDecimalPrimitive extends Primitive {
     private final byte _value;
 
     public PutCharacterDecimalPrimitive(final byte value) {
-        super(PrimitiveType.CURSOR_POSITION);
+        super(PrimitiveType.PUT_DECIMAL);
         _value = (byte)(value & 0x7F);
     }
 
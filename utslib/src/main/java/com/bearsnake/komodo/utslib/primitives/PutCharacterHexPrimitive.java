@@ -12,7 +12,7 @@ public class PutCharacterHexPrimitive extends Primitive {
     private final byte _value;
 
     public PutCharacterHexPrimitive(final byte value) {
-        super(PrimitiveType.CURSOR_POSITION);
+        super(PrimitiveType.PUT_HEXADECIMAL);
         _value = (byte)(value & 0x7F);
     }
 
@@ -0,0 +1,72 @@
+package com.bearsnake.komodo.utslib;
+
+import com.bearsnake.komodo.utslib.exceptions.UTSBufferOverflowException;
+import com.bearsnake.komodo.utslib.exceptions.UTSCoordinateException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static com.bearsnake.komodo.baselib.Constants.ASCII_NUL;
+import static com.bearsnake.komodo.baselib.Constants.ASCII_SYN;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UTSByteReaderTest {
+
+    @Test
+    public void testLoadRemovesNulAndSyn() throws UTSBufferOverflowException {
+        byte[] source = {0x7F, 0x41, ASCII_NUL, 0x42, ASCII_SYN, ASCII_SYN, 0x43, 0x7F};
+        var reader = new UTSByteReader().load(source, 1, 6);
+        assertEquals(3, reader.getLimit());
+        assertEquals(0x41, reader.getNext());
+        assertEquals(0x42, reader.peekNext());
+        assertEquals(0x42, reader.getNext());
+        assertEquals(0x43, reader.getNext());
+        assertTrue(reader.atEnd());
+        assertThrows(UTSBufferOverflowException.class, reader::getNext);
+        assertThrows(UTSBufferOverflowException.class, reader::peekNext);
+    }
+
+    @Test
+    public void testLoadGrowsBuffer() throws UTSBufferOverflowException {
+        var reader = new UTSByteReader(4, true);
+        var source = new byte[100];
+        for (int bx = 0; bx < source.length; bx++) {
+            source[bx] = (byte) (0x20 + bx % 0x50);
+        }
+        reader.load(source, 0, source.length);
+        assertEquals(100, reader.getRemaining());
+        assertArrayEquals(source, reader.toArray());
+    }
+
+    @Test
+    public void testWrapDoesNotCopy() throws UTSBufferOverflowException {
+        var array = new byte[]{0x30, 0x31, 0x32, 0x33, 0x34};
+        var reader = new UTSByteReader().wrap(ByteBuffer.wrap(array), 1, 3);
+        assertEquals(0x31, reader.getNext());
+        array[2] = 0x39;
+        assertEquals(0x39, reader.getNext());
+        assertEquals(0x33, reader.get(2));
+        assertEquals(-1, reader.get(3));
+        reader.setIndex(0);
+        assertEquals(0x31, reader.peekNext());
+    }
+
+    @Test
+    public void testCoordinates() throws UTSBufferOverflowException, UTSCoordinateException {
+        var buffer = new UTSByteBuffer(16);
+        buffer.putCoordinate(1).putCoordinate(80).putCoordinate(81).putCoordinate(132).putCoordinate(256);
+        buffer.setIndex(0);
+        var bytes = buffer.getBuffer();
+
+        var reader = new UTSByteReader().load(bytes, 0, bytes.length);
+        assertEquals(1, reader.getCoordinate());
+        assertEquals(80, reader.getCoordinate());
+        assertEquals(81, reader.getCoordinate());
+        assertEquals(132, reader.getCoordinate());
+        assertEquals(256, reader.getCoordinate());
+        assertTrue(reader.atEnd());
+
+        var bad = new UTSByteReader().load(new byte[]{0x10}, 0, 1);
+        assertThrows(UTSCoordinateException.class, bad::getCoordinate);
+    }
+}
@@ -0,0 +1,322 @@
+package com.bearsnake.komodo.utslib.primitives;
+
+import com.bearsnake.komodo.utslib.Emphasis;
+import com.bearsnake.komodo.utslib.UTSByteBuffer;
+import com.bearsnake.komodo.utslib.UTSByteReader;
+import com.bearsnake.komodo.utslib.exceptions.*;
+import com.bearsnake.komodo.utslib.fields.FieldAttributes;
+import com.bearsnake.komodo.utslib.fields.Intensity;
+import com.bearsnake.komodo.utslib.fields.UTSColor;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedList;
+import java.util.List;
+
+import static com.bearsnake.komodo.baselib.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrimitiveParserTest {
+
+    /**
+     * Records what it is given, in the same form as Primitive.toString(), so that we can compare
+     * the parser against Primitive.deserializePrimitive().
+     */
+    private static class RecordingVisitor implements PrimitiveVisitor {
+
+        final List<String> _tokens = new LinkedList<>();
+
+        @Override
+        public void visitPrimitive(final PrimitiveType type) {
+            _tokens.add(type.getToken());
+        }
+
+        @Override
+        public void visitCharacter(final byte ch) {
+            _tokens.add("'" + (char) ch + "'");
+        }
+
+        @Override
+        public void visitCreateEmphasis(final byte code) {
+            _tokens.add(PrimitiveType.CREATE_REPLACE_EMPHASIS.getToken() + new Emphasis(code));
+        }
+
+        @Override
+        public void visitCursorPosition(final int row, final int column) {
+            _tokens.add(PrimitiveType.CURSOR_POSITION.getToken() + "{" + row + "," + column + "}");
+        }
+
+        @Override
+        public void visitFCCSequence(final int row, final int column, final FieldAttributes attributes) {
+            _tokens.add(String.format("%s{%d,%d:%s}", PrimitiveType.FCC_SEQUENCE.getToken(), row, column, attributes));
+        }
+
+        @Override
+        public void visitImmediateFCCSequence(final FieldAttributes attributes) {
+            _tokens.add(String.format("%s{%s}", PrimitiveType.IMMEDIATE_FCC_SEQUENCE.getToken(), attributes));
+        }
+
+        @Override
+        public void visitPutCharacter(final PrimitiveType type, final byte value) {
+            _tokens.add(String.format("[%02X]", value));
+        }
+    }
+
+    /**
+     * Counts without allocating
+     */
+    private static class CountingVisitor implements PrimitiveVisitor {
+
+        long _primitives;
+        long _characters;
+
+        @Override public void visitPrimitive(final PrimitiveType type) { _primitives++; }
+        @Override public void visitCharacter(final byte ch) { _characters++; }
+        @Override public void visitCreateEmphasis(final byte code) { _primitives++; }
+        @Override public void visitCursorPosition(final int row, final int column) { _primitives++; }
+        @Override public void visitFCCSequence(final int row, final int column, final FieldAttributes attributes) { _primitives++; }
+        @Override public void visitImmediateFCCSequence(final FieldAttributes attributes) { _primitives++; }
+        @Override public void visitPutCharacter(final PrimitiveType type, final byte value) { _primitives++; }
+    }
+
+    private static List<String> parseLegacy(final byte[] stream,
+                                            final boolean emphasisSupported,
+                                            final boolean colorSupported) throws UTSException {
+        var result = new LinkedList<String>();
+        var buffer = new UTSByteBuffer(stream);
+        while (!buffer.atEnd()) {
+            var prim = Primitive.deserializePrimitive(buffer, emphasisSupported, colorSupported);
+            result.add(prim == null ? "'" + (char) buffer.getNext() + "'" : prim.toString());
+        }
+        return result;
+    }
+
+    private static List<String> parse(final byte[] stream,
+                                      final boolean emphasisSupported,
+                                      final boolean colorSupported) throws UTSException {
+        var visitor = new RecordingVisitor();
+        var reader = new UTSByteReader().load(stream, 0, stream.length);
+        new PrimitiveParser().parse(reader, visitor, emphasisSupported, colorSupported);
+        return visitor._tokens;
+    }
+
+    /**
+     * Produces what a host sends to paint a complete form - a protected label and an unprotected
+     * data field on every row, with the data fields filled in, followed by cursor positioning.
+     */
+    private static byte[] fullScreenStream(final int rows,
+                                           final int columns,
+                                           final boolean withColor) throws UTSCoordinateException {
+        var buffer = new UTSByteBuffer(rows * columns * 2);
+        buffer.put(new Primitive(PrimitiveType.CURSOR_TO_HOME));
+        buffer.put(new Primitive(PrimitiveType.ERASE_DISPLAY));
+        for (int row = 1; row <= rows; row++) {
+            var label = new FieldAttributes().setProtected(true).setIntensity(Intensity.LOW);
+            var data = new FieldAttributes().setTabStop(true).setChanged(row % 3 == 0);
+            if (withColor) {
+                label.setTextColor(UTSColor.CYAN).setBackgroundColor(UTSColor.BLUE);
+                data.setTextColor(UTSColor.YELLOW);
+            }
+
+            buffer.put(new FCCSequencePrimitive(row, 1, label));
+            buffer.putString(String.format("FIELD %03d:", row));
+            buffer.put(new FCCSequencePrimitive(row, 12, data));
+            var text = new StringBuilder();
+            for (int cx = 13; cx < columns; cx++) {
+                text.append((char) ('A' + ((row + cx) % 26)));
+            }
+            buffer.putString(text.toString());
+        }
+        buffer.put(new CursorPositionPrimitive(1, 13));
+        buffer.put(new Primitive(PrimitiveType.UNLOCK_KEYBOARD));
+        buffer.setIndex(0);
+        return buffer.getBuffer();
+    }
+
+    @Test
+    public void testSimplePrimitives() throws UTSException {
+        var stream = new byte[]{
+            ASCII_ESC, 'e', ASCII_ESC, 'M', 'H', 'I', ASCII_CR, ASCII_DC1, ASCII_DC2, ASCII_DC4,
+            ASCII_ESC, ASCII_DC1, ASCII_ESC, '[', ASCII_ESC, 'z', ASCII_ESC, 'L'
+        };
+        assertEquals(List.of("CrsHome", "ErsDsp", "'H'", "'I'", "'\r'", "XmitVar", "PrtAll", "LockKb",
+                             "XmitAll", "PutEsc", "BkTab", "UnlkKb"),
+                     parse(stream, false, false));
+    }
+
+    @Test
+    public void testEscapesWithoutLegacySupport() throws UTSException {
+        var stream = new byte[]{ ASCII_ESC, 'C', ASCII_ESC, 'o', ASCII_ESC, 't', ASCII_ESC, 'w' };
+        assertEquals(List.of("DelInDsp", "CtlPg", "XmitChan", "ClrFcc"), parse(stream, false, false));
+    }
+
+    @Test
+    public void testCursorPosition() throws UTSException {
+        var buffer = new UTSByteBuffer(32);
+        buffer.put(new CursorPositionPrimitive(24, 80));
+        buffer.put(new CursorPositionPrimitive(1, 132));
+        buffer.put(new CursorPositionPrimitive(100, 256));
+        buffer.setIndex(0);
+        assertEquals(List.of("CurPos{24,80}", "CurPos{1,132}", "CurPos{100,256}"),
+                     parse(buffer.getBuffer(), false, false));
+    }
+
+    @Test
+    public void testFCCSequences() throws UTSException {
+        var attributes = new FieldAttributes().setProtected(true)
+                                              .setBlinking(true)
+                                              .setTextColor(UTSColor.RED)
+                                              .setBackgroundColor(UTSColor.WHITE);
+        var buffer = new UTSByteBuffer(32);
+        buffer.put(new FCCSequencePrimitive(5, 10, attributes));
+        buffer.put(new ImmediateFCCSequencePrimitive(attributes));
+        buffer.setIndex(0);
+
+        var visitor = new RecordingVisitor() {
+            final List<FieldAttributes> _attributes = new LinkedList<>();
+
+            @Override
+            public void visitFCCSequence(final int row, final int column, final FieldAttributes attr) {
+                assertEquals(5, row);
+                assertEquals(10, column);
+                _attributes.add(attr.copy());
+            }
+
+            @Override
+            public void visitImmediateFCCSequence(final FieldAttributes attr) {
+                _attributes.add(attr.copy());
+            }
+        };
+
+        var bytes = buffer.getBuffer();
+        new PrimitiveParser().parse(new UTSByteReader().load(bytes, 0, bytes.length), visitor, false, true);
+        assertEquals(2, visitor._attributes.size());
+        for (var attr : visitor._attributes) {
+            assertTrue(attr.isProtected());
+            assertTrue(attr.isBlinking());
+            assertEquals(UTSColor.RED, attr.getTextColor());
+            assertEquals(UTSColor.WHITE, attr.getBackgroundColor());
+        }
+    }
+
+    @Test
+    public void testReusedAttributesAreReset() throws UTSException {
+        var buffer = new UTSByteBuffer(32);
+        buffer.put(new ImmediateFCCSequencePrimitive(new FieldAttributes().setProtected(true).setTextColor(UTSColor.RED)));
+        buffer.put(new ImmediateFCCSequencePrimitive(new FieldAttributes()));
+        buffer.setIndex(0);
+        var tokens = parse(buffer.getBuffer(), false, true);
+        assertEquals(List.of("ImmFcc{NORMAL:PROT:FG-RED}", "ImmFcc{NORMAL}"), tokens);
+    }
+
+    @Test
+    public void testPutCharacter() throws UTSException {
+        var stream = new byte[]{ ASCII_ESC, 'X', '4', '1', ASCII_ESC, 'X', '7', 'e', ASCII_ESC, '{', '6', '6', '}' };
+        assertEquals(List.of("[41]", "[7E]", "[42]"), parse(stream, false, false));
+
+        assertThrows(UTSInvalidEscapeSequenceException.class,
+                     () -> parse(new byte[]{ ASCII_ESC, 'X', 'G', '1' }, false, false));
+        assertThrows(UTSInvalidEscapeSequenceException.class,
+                     () -> parse(new byte[]{ ASCII_ESC, '{', '1', '2', '8', '}' }, false, false));
+        assertThrows(UTSInvalidEscapeSequenceException.class,
+                     () -> parse(new byte[]{ ASCII_ESC, '{', '0', '0', '0', '1', '}' }, false, false));
+    }
+
+    @Test
+    public void testEmphasisAndColorSupport() throws UTSException {
+        var stream = new byte[]{ ASCII_ESC, 0x25, ASCII_ESC, 'Y', ASCII_ESC, 'Z', ASCII_ESC, 'Z', 'd' };
+        assertEquals(List.of("CreEmp{Col+:Stk-:Und+}", "AddEmp", "DelEmp", "DelEmp", "'d'"),
+                     parse(stream, true, false));
+
+        assertEquals(List.of("+RptColor", "-RptColor"),
+                     parse(new byte[]{ ASCII_ESC, 'Z', 'd', ASCII_ESC, 'Z', 'e' }, false, true));
+
+        assertThrows(UTSInvalidEscapeSequenceException.class,
+                     () -> parse(new byte[]{ ASCII_ESC, 0x25 }, false, false));
+        assertThrows(UTSInvalidEscapeSequenceException.class,
+                     () -> parse(new byte[]{ ASCII_ESC, 'Y' }, false, true));
+    }
+
+    @Test
+    public void testIncompleteSequences() {
+        assertThrows(UTSIncompleteEscapeSequenceException.class,
+                     () -> parse(new byte[]{ 'A', ASCII_ESC }, false, false));
+        assertThrows(UTSIncompleteEscapeSequenceException.class,
+                     () -> parse(new byte[]{ ASCII_ESC, ASCII_VT, 0x20 }, false, false));
+        assertThrows(UTSIncompleteFCCSequenceException.class,
+                     () -> parse(new byte[]{ ASCII_US, 0x20, 0x20, 0x40 }, false, false));
+        assertThrows(UTSInvalidFCCSequenceException.class,
+                     () -> parse(new byte[]{ ASCII_US, 0x20, 0x20, 0x50, 0x40 }, false, false));
+    }
+
+    @Test
+    public void testParseNextStopsAtEnd() throws UTSException {
+        var parser = new PrimitiveParser();
+        var visitor = new RecordingVisitor();
+        var reader = new UTSByteReader().load(new byte[]{ 'A', ASCII_ESC, 'e' }, 0, 3);
+        assertTrue(parser.parseNext(reader, visitor, false, false));
+        assertEquals(1, reader.getIndex());
+        assertTrue(parser.parseNext(reader, visitor, false, false));
+        assertFalse(parser.parseNext(reader, visitor, false, false));
+        assertEquals(List.of("'A'", "CrsHome"), visitor._tokens);
+    }
+
+    @Test
+    public void testMatchesLegacyDeserializer() throws UTSException {
+        for (var color : new boolean[]{ false, true }) {
+            var stream = fullScreenStream(24, 80, color);
+            assertEquals(parseLegacy(stream, false, color), parse(stream, false, color));
+        }
+
+        var stream = fullScreenStream(48, 132, false);
+        assertEquals(parseLegacy(stream, true, false), parse(stream, true, false));
+    }
+
+    @Test
+    public void testDirectBuffer() throws UTSException {
+        var stream = fullScreenStream(24, 80, true);
+        var direct = ByteBuffer.allocateDirect(stream.length + 10);
+        direct.position(10);
+        direct.put(stream);
+
+        var visitor = new RecordingVisitor();
+        new PrimitiveParser().parse(new UTSByteReader().wrap(direct, 10, stream.length), visitor, false, true);
+        assertEquals(parse(stream, false, true), visitor._tokens);
+    }
+
+    /**
+     * One reader and one visitor, reused across many full-screen streams, must see exactly what
+     * Primitive.deserializePrimitive() sees - nothing left over from one stream to the next.
+     */
+    @Test
+    public void testReusedReaderFullScreenStreams() throws UTSException {
+        var streams = new byte[][]{
+            fullScreenStream(24, 80, false),
+            fullScreenStream(24, 80, true),
+            fullScreenStream(48, 132, true),
+        };
+
+        long expectedPrimitives = 0;
+        long expectedCharacters = 0;
+        var reader = new UTSByteReader(8192, false);
+        var parser = new PrimitiveParser();
+        var visitor = new CountingVisitor();
+        for (int ix = 0; ix < 300; ix++) {
+            var stream = streams[ix % streams.length];
+            parser.parse(reader.load(stream, 0, stream.length), visitor, false, true);
+
+            var buffer = new UTSByteBuffer(stream);
+            while (!buffer.atEnd()) {
+                if (Primitive.deserializePrimitive(buffer, false, true) == null) {
+                    buffer.getNext();
+                    expectedCharacters++;
+                } else {
+                    expectedPrimitives++;
+                }
+            }
+        }
+
+        assertEquals(expectedPrimitives, visitor._primitives);
+        assertEquals(expectedCharacters, visitor._characters);
+    }
+}